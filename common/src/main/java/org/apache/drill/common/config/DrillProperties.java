@@ -72,6 +72,9 @@ public final class DrillProperties extends Properties {
 
   public static final String QUOTING_IDENTIFIERS = "quoting_identifiers";
 
+  // compression of the query results sent to the client, "deflate" or "none" (the default)
+  public static final String RESULT_COMPRESSION = "result_compression";
+
   // Although all properties from the application are sent to the server (from the client), the following
   // sets of properties are used by the client and server respectively. These are reserved words.
 
@@ -80,7 +83,8 @@ public final class DrillProperties extends Properties {
           ZOOKEEPER_CONNECTION, DRILLBIT_CONNECTION, TRIES,
           SCHEMA,
           USER, PASSWORD, IMPERSONATION_TARGET, AUTH_MECHANISM,
-          SERVICE_PRINCIPAL, SERVICE_NAME, SERVICE_HOST, REALM, KEYTAB, KERBEROS_FROM_SUBJECT
+          SERVICE_PRINCIPAL, SERVICE_NAME, SERVICE_HOST, REALM, KEYTAB, KERBEROS_FROM_SUBJECT,
+          RESULT_COMPRESSION
       );
 
   public static final ImmutableSet<String> ACCEPTED_BY_SERVER = ImmutableSet.of(
@@ -30,6 +30,7 @@ import org.apache.drill.exec.planner.physical.FilterPrel;
 import org.apache.drill.exec.planner.physical.PrelUtil;
 import org.apache.drill.exec.planner.physical.ProjectPrel;
 import org.apache.drill.exec.planner.physical.ScanPrel;
+import org.apache.drill.exec.planner.sql.QueryParameters;
 import org.apache.drill.exec.store.StoragePluginOptimizerRule;
 import org.apache.drill.exec.store.hbase.HBaseScanSpec;
 import org.apache.drill.exec.store.mapr.db.binary.BinaryTableGroupScan;
@@ -123,6 +124,11 @@ public abstract class MapRDBPushFilterIntoScan extends StoragePluginOptimizerRul
       return;
     }
 
+    if (QueryParameters.hasParameters(condition)) {
+      // the pushed down condition would keep the placeholders of the parameters instead of their values
+      return;
+    }
+
     LogicalExpression conditionExp = null;
     try {
       conditionExp = DrillOptiq.toDrill(new DrillParseContext(PrelUtil.getPlannerSettings(call.getPlanner())), scan, condition);
@@ -174,6 +180,11 @@ public abstract class MapRDBPushFilterIntoScan extends StoragePluginOptimizerRul
       return;
     }
 
+    if (QueryParameters.hasParameters(condition)) {
+      // the pushed down condition would keep the placeholders of the parameters instead of their values
+      return;
+    }
+
     final LogicalExpression conditionExp = DrillOptiq.toDrill(new DrillParseContext(PrelUtil.getPlannerSettings(call.getPlanner())), scan, condition);
     final MapRDBFilterBuilder maprdbFilterBuilder = new MapRDBFilterBuilder(groupScan, conditionExp);
     final HBaseScanSpec newScanSpec = maprdbFilterBuilder.parseTree();
@@ -0,0 +1,106 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.expr.fn.impl.gis;
+
+import java.nio.ByteBuffer;
+
+import com.esri.core.geometry.Envelope;
+import com.esri.core.geometry.ogc.OGCGeometry;
+
+import io.netty.buffer.DrillBuf;
+
+/**
+ * Keeps the geometry last parsed from the (ESRI shape) binary values of a function argument, so that
+ * a value that is seen again in a row, such as a constant geometry, is parsed only once. Values are
+ * compared through a view of the argument buffer, and only copied when they change. If few lookups
+ * hit after the first {@value #SAMPLE_LOOKUPS} ones, the values do not repeat and the cache stops
+ * caching.
+ * <p>
+ * The envelope of each geometry is computed once as well, for the quick rejection tests of the
+ * spatial predicates. Spatial joins do not go through this cache: the nested loop join parses the
+ * geometries of each batch once and indexes them (see {@link GeometryPredicate}).
+ */
+public class GeometryCache {
+
+  private static final int SAMPLE_LOOKUPS = 1024;
+  // minimum fraction of hits, as 1 / MIN_HIT_RATIO, for the cache to keep caching
+  private static final int MIN_HIT_RATIO = 10;
+
+  /**
+   * A parsed geometry and its envelope.
+   */
+  public static class CachedGeometry {
+    private final ByteBuffer key;
+    private final OGCGeometry geometry;
+    private final Envelope envelope;
+
+    private CachedGeometry(ByteBuffer key, OGCGeometry geometry) {
+      this.key = key;
+      this.geometry = geometry;
+      this.envelope = new Envelope();
+      geometry.getEsriGeometry().queryEnvelope(envelope);
+    }
+
+    public OGCGeometry getGeometry() {
+      return geometry;
+    }
+
+    public Envelope getEnvelope() {
+      return envelope;
+    }
+  }
+
+  private CachedGeometry last;
+  private boolean enabled = true;
+  private long lookups;
+  private long hits;
+
+  public CachedGeometry get(DrillBuf buffer, int start, int end) {
+    // a view of the value, not a copy; byte buffers are compared on their content
+    final ByteBuffer value = buffer.nioBuffer(start, end - start);
+    if (!enabled) {
+      return new CachedGeometry(null, OGCGeometry.fromBinary(value));
+    }
+
+    lookups++;
+    if (last != null && value.equals(last.key)) {
+      hits++;
+      return last;
+    }
+    if (lookups >= SAMPLE_LOOKUPS && hits * MIN_HIT_RATIO < lookups) {
+      enabled = false;
+      last = null;
+      return new CachedGeometry(null, OGCGeometry.fromBinary(value));
+    }
+    final byte[] bytes = new byte[end - start];
+    buffer.getBytes(start, bytes);
+    // parse from a buffer of its own, as parsing moves the position of the buffer
+    last = new CachedGeometry(ByteBuffer.wrap(bytes), OGCGeometry.fromBinary(ByteBuffer.wrap(bytes)));
+    return last;
+  }
+
+  /**
+   * Returns the planar distance between two envelopes, 0 if they intersect. It is a lower bound of
+   * the distance between the geometries.
+   */
+  public static double distance(Envelope envelope1, Envelope envelope2) {
+    final double dx = Math.max(0, Math.max(envelope1.getXMin() - envelope2.getXMax(), envelope2.getXMin() - envelope1.getXMax()));
+    final double dy = Math.max(0, Math.max(envelope1.getYMin() - envelope2.getYMax(), envelope2.getYMin() - envelope1.getYMax()));
+    return Math.sqrt(dx * dx + dy * dy);
+  }
+}
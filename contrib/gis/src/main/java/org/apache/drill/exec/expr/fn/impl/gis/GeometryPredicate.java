@@ -0,0 +1,83 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.expr.fn.impl.gis;
+
+import org.apache.drill.exec.physical.impl.join.SpatialPredicate;
+
+import com.esri.core.geometry.Envelope;
+import com.esri.core.geometry.ogc.OGCGeometry;
+
+import io.netty.buffer.DrillBuf;
+
+/**
+ * Base of the spatial predicates on the ESRI geometries that the nested loop join can index the
+ * geometries of its right input for.
+ */
+public abstract class GeometryPredicate implements SpatialPredicate<OGCGeometry> {
+
+  @Override
+  public OGCGeometry parse(DrillBuf buffer, int start, int end) {
+    return OGCGeometry.fromBinary(buffer.nioBuffer(start, end - start));
+  }
+
+  @Override
+  public boolean getEnvelope(OGCGeometry geometry, double[] envelope) {
+    final Envelope geometryEnvelope = new Envelope();
+    geometry.getEsriGeometry().queryEnvelope(geometryEnvelope);
+    if (geometryEnvelope.isEmpty()) {
+      return false;
+    }
+    envelope[0] = geometryEnvelope.getXMin();
+    envelope[1] = geometryEnvelope.getYMin();
+    envelope[2] = geometryEnvelope.getXMax();
+    envelope[3] = geometryEnvelope.getYMax();
+    return true;
+  }
+
+  /**
+   * ST_Within: the first geometry is within the second one.
+   */
+  public static class Within extends GeometryPredicate {
+
+    @Override
+    public String getName() {
+      return "st_within";
+    }
+
+    @Override
+    public boolean evaluate(OGCGeometry geometry1, OGCGeometry geometry2, double distance) {
+      return geometry1.within(geometry2);
+    }
+  }
+
+  /**
+   * ST_DWithin: the geometries are at most the given distance apart.
+   */
+  public static class DWithin extends GeometryPredicate {
+
+    @Override
+    public String getName() {
+      return "st_dwithin";
+    }
+
+    @Override
+    public boolean evaluate(OGCGeometry geometry1, OGCGeometry geometry2, double distance) {
+      return geometry1.distance(geometry2) <= distance;
+    }
+  }
+}
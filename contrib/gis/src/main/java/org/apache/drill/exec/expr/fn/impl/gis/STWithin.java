@@ -23,6 +23,7 @@ import org.apache.drill.exec.expr.DrillSimpleFunc;
 import org.apache.drill.exec.expr.annotations.FunctionTemplate;
 import org.apache.drill.exec.expr.annotations.Output;
 import org.apache.drill.exec.expr.annotations.Param;
+import org.apache.drill.exec.expr.annotations.Workspace;
 import org.apache.drill.exec.expr.holders.BitHolder;
 import org.apache.drill.exec.expr.holders.VarBinaryHolder;
 
@@ -43,19 +44,32 @@ public class STWithin implements DrillSimpleFunc {
   @Inject
   DrillBuf buffer;
 
+  @Workspace
+  org.apache.drill.exec.expr.fn.impl.gis.GeometryCache geom1Cache;
+
+  @Workspace
+  org.apache.drill.exec.expr.fn.impl.gis.GeometryCache geom2Cache;
+
   public void setup() {
+    geom1Cache = new org.apache.drill.exec.expr.fn.impl.gis.GeometryCache();
+    geom2Cache = new org.apache.drill.exec.expr.fn.impl.gis.GeometryCache();
   }
 
   public void eval() {
-    com.esri.core.geometry.ogc.OGCGeometry geom1;
-    com.esri.core.geometry.ogc.OGCGeometry geom2;
+    org.apache.drill.exec.expr.fn.impl.gis.GeometryCache.CachedGeometry geom1;
+    org.apache.drill.exec.expr.fn.impl.gis.GeometryCache.CachedGeometry geom2;
 
-    geom1 = com.esri.core.geometry.ogc.OGCGeometry
-        .fromBinary(geom1Param.buffer.nioBuffer(geom1Param.start, geom1Param.end - geom1Param.start));
-    geom2 = com.esri.core.geometry.ogc.OGCGeometry
-        .fromBinary(geom2Param.buffer.nioBuffer(geom2Param.start, geom2Param.end - geom2Param.start));
+    geom1 = geom1Cache.get(geom1Param.buffer, geom1Param.start, geom1Param.end);
+    geom2 = geom2Cache.get(geom2Param.buffer, geom2Param.start, geom2Param.end);
 
-    int isWithin = geom1.within(geom2) ? 1 : 0;
+    // a geometry can only be within another one if its envelope is within the other's envelope
+    int isWithin;
+    if (!geom1.getEnvelope().isEmpty() && !geom2.getEnvelope().isEmpty()
+        && !geom2.getEnvelope().contains(geom1.getEnvelope())) {
+      isWithin = 0;
+    } else {
+      isWithin = geom1.getGeometry().within(geom2.getGeometry()) ? 1 : 0;
+    }
 
     out.value = isWithin;
   }
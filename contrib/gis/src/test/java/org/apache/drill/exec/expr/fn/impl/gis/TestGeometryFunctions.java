@@ -17,7 +17,24 @@
  */
 package org.apache.drill.exec.expr.fn.impl.gis;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
 import org.apache.drill.BaseTestQuery;
+import org.apache.drill.exec.ExecConstants;
+import org.apache.drill.exec.physical.impl.join.NestedLoopJoinBatch;
+import org.apache.drill.exec.planner.physical.PlannerSettings;
+import org.apache.drill.exec.proto.UserBitShared.CoreOperatorType;
+import org.apache.drill.exec.proto.UserBitShared.MajorFragmentProfile;
+import org.apache.drill.exec.proto.UserBitShared.MetricValue;
+import org.apache.drill.exec.proto.UserBitShared.MinorFragmentProfile;
+import org.apache.drill.exec.proto.UserBitShared.OperatorProfile;
+import org.apache.drill.exec.proto.UserBitShared.QueryProfile;
+import org.apache.drill.exec.proto.UserBitShared.QueryType;
+import org.apache.drill.exec.proto.helper.QueryIdHelper;
+import org.apache.drill.exec.rpc.user.QueryDataBatch;
 import org.junit.Test;
 
 public class TestGeometryFunctions extends BaseTestQuery {
@@ -72,4 +89,132 @@ public class TestGeometryFunctions extends BaseTestQuery {
     .build()
     .run();
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testSTDWithinQuery() throws Exception {
+
+    // the constant point is parsed once and most cities are rejected on their envelope
+    testBuilder()
+      .sqlQuery("select count(*) as cnt from cp.`/sample-data/CA-cities.csv` "
+          + "where ST_DWithin(ST_Point(columns[4], columns[3]), ST_Point(-121.895, 37.339), 0.1)")
+      .unOrdered().baselineColumns("cnt")
+      .baselineValues(19L)
+      .build()
+      .run();
+  }
+
+  @Test
+  public void testSTDWithinJoin() throws Exception {
+    // 56 cities named San ... joined with the 5727 cities
+    final String query = "select count(*) as cnt from "
+        + "(select columns[3] as lat, columns[4] as lon from cp.`/sample-data/CA-cities.csv` "
+        + "where columns[2] like 'San %') a "
+        + "join cp.`/sample-data/CA-cities.csv` b "
+        + "on ST_DWithin(ST_Point(a.lon, a.lat), ST_Point(b.columns[4], b.columns[3]), 0.1)";
+
+    test("alter session set `%s` = false", PlannerSettings.NLJOIN_FOR_SCALAR.getOptionName());
+    try {
+      // the predicate is evaluated for every pair without the spatial index
+      test("alter session set `%s` = false", ExecConstants.NESTED_LOOP_JOIN_SPATIAL_INDEX_KEY);
+      testBuilder()
+        .sqlQuery(query)
+        .unOrdered().baselineColumns("cnt")
+        .baselineValues(869L)
+        .go();
+      test("alter session reset `%s`", ExecConstants.NESTED_LOOP_JOIN_SPATIAL_INDEX_KEY);
+
+      testBuilder()
+        .sqlQuery(query)
+        .unOrdered().baselineColumns("cnt")
+        .baselineValues(869L)
+        .go();
+
+      // the envelopes of the points are the points, so the index only lets the matching pairs through
+      final QueryProfile profile = getProfile(query);
+      final long geometries = getNestedLoopJoinMetric(profile, NestedLoopJoinBatch.Metric.SPATIAL_INDEX_GEOMETRIES);
+      assertTrue(geometries == 56 || geometries == 5727);
+      assertEquals(869, getNestedLoopJoinMetric(profile, NestedLoopJoinBatch.Metric.SPATIAL_INDEX_CANDIDATE_PAIRS));
+      assertEquals(869, getNestedLoopJoinMetric(profile, NestedLoopJoinBatch.Metric.SPATIAL_INDEX_MATCHING_PAIRS));
+    } finally {
+      test("alter session reset `%s`", ExecConstants.NESTED_LOOP_JOIN_SPATIAL_INDEX_KEY);
+      test("alter session reset `%s`", PlannerSettings.NLJOIN_FOR_SCALAR.getOptionName());
+    }
+  }
+
+  @Test
+  public void testSTWithinJoin() throws Exception {
+    // the 8 cities of the San Jose area, and the cities within a 0.1 wide square around each of them: only the
+    // cities less than 0.05 apart on each axis pass the envelope test
+    final String query = "select count(*) as cnt from "
+        + "(select columns[3] as lat, columns[4] as lon from cp.`/sample-data/CA-cities.csv` "
+        + "where ST_Within(ST_Point(columns[4], columns[3]), "
+        + "ST_GeomFromText('POLYGON((-121.95 37.28, -121.95 37.35, -121.84 37.35, -121.84 37.28, -121.95 37.28))'))) a "
+        + "join cp.`/sample-data/CA-cities.csv` b "
+        + "on ST_Within(ST_Point(b.columns[4], b.columns[3]), ST_GeomFromText(concat('POLYGON((', "
+        + "cast(cast(a.lon as double) - 0.05 as varchar), ' ', cast(cast(a.lat as double) - 0.05 as varchar), ', ', "
+        + "cast(cast(a.lon as double) + 0.05 as varchar), ' ', cast(cast(a.lat as double) - 0.05 as varchar), ', ', "
+        + "cast(cast(a.lon as double) + 0.05 as varchar), ' ', cast(cast(a.lat as double) + 0.05 as varchar), ', ', "
+        + "cast(cast(a.lon as double) - 0.05 as varchar), ' ', cast(cast(a.lat as double) + 0.05 as varchar), ', ', "
+        + "cast(cast(a.lon as double) - 0.05 as varchar), ' ', cast(cast(a.lat as double) - 0.05 as varchar), '))')))";
+
+    test("alter session set `%s` = false", PlannerSettings.NLJOIN_FOR_SCALAR.getOptionName());
+    try {
+      test("alter session set `%s` = false", ExecConstants.NESTED_LOOP_JOIN_SPATIAL_INDEX_KEY);
+      testBuilder()
+        .sqlQuery(query)
+        .unOrdered().baselineColumns("cnt")
+        .baselineValues(67L)
+        .go();
+      test("alter session reset `%s`", ExecConstants.NESTED_LOOP_JOIN_SPATIAL_INDEX_KEY);
+
+      testBuilder()
+        .sqlQuery(query)
+        .unOrdered().baselineColumns("cnt")
+        .baselineValues(67L)
+        .go();
+
+      // 8 squares, each tested against fewer cities than a single scan of the cities
+      final QueryProfile profile = getProfile(query);
+      final long candidates = getNestedLoopJoinMetric(profile, NestedLoopJoinBatch.Metric.SPATIAL_INDEX_CANDIDATE_PAIRS);
+      assertEquals(67, getNestedLoopJoinMetric(profile, NestedLoopJoinBatch.Metric.SPATIAL_INDEX_MATCHING_PAIRS));
+      assertTrue(candidates >= 67);
+      assertTrue(candidates < 5727);
+    } finally {
+      test("alter session reset `%s`", ExecConstants.NESTED_LOOP_JOIN_SPATIAL_INDEX_KEY);
+      test("alter session reset `%s`", PlannerSettings.NLJOIN_FOR_SCALAR.getOptionName());
+    }
+  }
+
+  private static QueryProfile getProfile(String query) throws Exception {
+    test("alter session set `%s` = true", ExecConstants.QUERY_PROFILE_DEBUG_OPTION);
+    try {
+      final List<QueryDataBatch> results = testRunAndReturn(QueryType.SQL, query);
+      final String queryId = QueryIdHelper.getQueryId(results.get(0).getHeader().getQueryId());
+      for (QueryDataBatch result : results) {
+        result.release();
+      }
+      return getDrillbitContext().getProfileStoreContext().getCompletedProfileStore().get(queryId);
+    } finally {
+      test("alter session reset `%s`", ExecConstants.QUERY_PROFILE_DEBUG_OPTION);
+    }
+  }
+
+  private static long getNestedLoopJoinMetric(QueryProfile profile, NestedLoopJoinBatch.Metric metric) {
+    long value = 0;
+    for (MajorFragmentProfile major : profile.getFragmentProfileList()) {
+      for (MinorFragmentProfile minor : major.getMinorFragmentProfileList()) {
+        for (OperatorProfile operator : minor.getOperatorProfileList()) {
+          if (operator.getOperatorType() != CoreOperatorType.NESTED_LOOP_JOIN_VALUE) {
+            continue;
+          }
+          for (MetricValue metricValue : operator.getMetricList()) {
+            if (metricValue.getMetricId() == metric.metricId()) {
+              value += metricValue.getLongValue();
+            }
+          }
+        }
+      }
+    }
+    return value;
+  }
+}
@@ -34,6 +34,9 @@ const ::google::protobuf::internal::GeneratedMessageReflection*
 const ::google::protobuf::Descriptor* InitializeFragments_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   InitializeFragments_reflection_ = NULL;
+const ::google::protobuf::Descriptor* MajorFragmentPlan_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  MajorFragmentPlan_reflection_ = NULL;
 const ::google::protobuf::Descriptor* CustomMessage_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   CustomMessage_reflection_ = NULL;
@@ -64,11 +67,12 @@ void protobuf_AssignDesc_BitControl_2eproto() {
       "BitControl.proto");
   GOOGLE_CHECK(file != NULL);
   BitControlHandshake_descriptor_ = file->message_type(0);
-  static const int BitControlHandshake_offsets_[4] = {
+  static const int BitControlHandshake_offsets_[5] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BitControlHandshake, rpc_version_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BitControlHandshake, channel_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BitControlHandshake, endpoint_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BitControlHandshake, authenticationmechanisms_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BitControlHandshake, supported_methods_),
   };
   BitControlHandshake_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -113,8 +117,9 @@ void protobuf_AssignDesc_BitControl_2eproto() {
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(FragmentStatus));
   InitializeFragments_descriptor_ = file->message_type(3);
-  static const int InitializeFragments_offsets_[1] = {
+  static const int InitializeFragments_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InitializeFragments, fragment_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(InitializeFragments, shared_plan_),
   };
   InitializeFragments_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -127,7 +132,23 @@ void protobuf_AssignDesc_BitControl_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(InitializeFragments));
-  CustomMessage_descriptor_ = file->message_type(4);
+  MajorFragmentPlan_descriptor_ = file->message_type(4);
+  static const int MajorFragmentPlan_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MajorFragmentPlan, major_fragment_id_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MajorFragmentPlan, fragment_plan_),
+  };
+  MajorFragmentPlan_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      MajorFragmentPlan_descriptor_,
+      MajorFragmentPlan::default_instance_,
+      MajorFragmentPlan_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MajorFragmentPlan, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MajorFragmentPlan, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(MajorFragmentPlan));
+  CustomMessage_descriptor_ = file->message_type(5);
   static const int CustomMessage_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CustomMessage, type_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CustomMessage, message_),
@@ -143,8 +164,8 @@ void protobuf_AssignDesc_BitControl_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(CustomMessage));
-  PlanFragment_descriptor_ = file->message_type(5);
-  static const int PlanFragment_offsets_[15] = {
+  PlanFragment_descriptor_ = file->message_type(6);
+  static const int PlanFragment_offsets_[17] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PlanFragment, handle_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PlanFragment, network_cost_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PlanFragment, cpu_cost_),
@@ -160,6 +181,8 @@ void protobuf_AssignDesc_BitControl_2eproto() {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PlanFragment, options_json_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PlanFragment, context_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PlanFragment, collector_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PlanFragment, fragment_plan_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PlanFragment, fragment_plan_delta_),
   };
   PlanFragment_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -172,7 +195,7 @@ void protobuf_AssignDesc_BitControl_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(PlanFragment));
-  Collector_descriptor_ = file->message_type(6);
+  Collector_descriptor_ = file->message_type(7);
   static const int Collector_offsets_[4] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Collector, opposite_major_fragment_id_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Collector, incoming_minor_fragment_),
@@ -190,7 +213,7 @@ void protobuf_AssignDesc_BitControl_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(Collector));
-  QueryContextInformation_descriptor_ = file->message_type(7);
+  QueryContextInformation_descriptor_ = file->message_type(8);
   static const int QueryContextInformation_offsets_[4] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryContextInformation, query_start_time_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryContextInformation, time_zone_),
@@ -208,7 +231,7 @@ void protobuf_AssignDesc_BitControl_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(QueryContextInformation));
-  WorkQueueStatus_descriptor_ = file->message_type(8);
+  WorkQueueStatus_descriptor_ = file->message_type(9);
   static const int WorkQueueStatus_offsets_[3] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(WorkQueueStatus, endpoint_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(WorkQueueStatus, queue_length_),
@@ -225,7 +248,7 @@ void protobuf_AssignDesc_BitControl_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(WorkQueueStatus));
-  FinishedReceiver_descriptor_ = file->message_type(9);
+  FinishedReceiver_descriptor_ = file->message_type(10);
   static const int FinishedReceiver_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FinishedReceiver, receiver_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(FinishedReceiver, sender_),
@@ -262,6 +285,8 @@ void protobuf_RegisterTypes(const ::std::string&) {
     FragmentStatus_descriptor_, &FragmentStatus::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     InitializeFragments_descriptor_, &InitializeFragments::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    MajorFragmentPlan_descriptor_, &MajorFragmentPlan::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     CustomMessage_descriptor_, &CustomMessage::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
@@ -287,6 +312,8 @@ void protobuf_ShutdownFile_BitControl_2eproto() {
   delete FragmentStatus_reflection_;
   delete InitializeFragments::default_instance_;
   delete InitializeFragments_reflection_;
+  delete MajorFragmentPlan::default_instance_;
+  delete MajorFragmentPlan_reflection_;
   delete CustomMessage::default_instance_;
   delete CustomMessage_reflection_;
   delete PlanFragment::default_instance_;
@@ -313,60 +340,69 @@ void protobuf_AddDesc_BitControl_2eproto() {
   ::google::protobuf::DescriptorPool::InternalAddGeneratedFile(
     "\n\020BitControl.proto\022\020exec.bit.control\032\025Ex"
     "ecutionProtos.proto\032\022Coordination.proto\032"
-    "\023UserBitShared.proto\"\255\001\n\023BitControlHands"
+    "\023UserBitShared.proto\"\343\001\n\023BitControlHands"
     "hake\022\023\n\013rpc_version\030\001 \001(\005\0225\n\007channel\030\002 \001"
     "(\0162\027.exec.shared.RpcChannel:\013BIT_CONTROL"
     "\022(\n\010endpoint\030\003 \001(\0132\026.exec.DrillbitEndpoi"
-    "nt\022 \n\030authenticationMechanisms\030\004 \003(\t\"F\n\t"
-    "BitStatus\0229\n\017fragment_status\030\001 \003(\0132 .exe"
-    "c.bit.control.FragmentStatus\"n\n\016Fragment"
-    "Status\0222\n\007profile\030\001 \001(\0132!.exec.shared.Mi"
-    "norFragmentProfile\022(\n\006handle\030\002 \001(\0132\030.exe"
-    "c.bit.FragmentHandle\"G\n\023InitializeFragme"
-    "nts\0220\n\010fragment\030\001 \003(\0132\036.exec.bit.control"
-    ".PlanFragment\".\n\rCustomMessage\022\014\n\004type\030\001"
-    " \001(\005\022\017\n\007message\030\002 \001(\014\"\374\003\n\014PlanFragment\022("
-    "\n\006handle\030\001 \001(\0132\030.exec.bit.FragmentHandle"
-    "\022\024\n\014network_cost\030\004 \001(\002\022\020\n\010cpu_cost\030\005 \001(\002"
-    "\022\021\n\tdisk_cost\030\006 \001(\002\022\023\n\013memory_cost\030\007 \001(\002"
-    "\022\025\n\rfragment_json\030\010 \001(\t\022\025\n\rleaf_fragment"
-    "\030\t \001(\010\022*\n\nassignment\030\n \001(\0132\026.exec.Drillb"
-    "itEndpoint\022\'\n\007foreman\030\013 \001(\0132\026.exec.Drill"
-    "bitEndpoint\022\035\n\013mem_initial\030\014 \001(\003:\010200000"
-    "00\022\033\n\007mem_max\030\r \001(\003:\n2000000000\0221\n\013crede"
-    "ntials\030\016 \001(\0132\034.exec.shared.UserCredentia"
-    "ls\022\024\n\014options_json\030\017 \001(\t\022:\n\007context\030\020 \001("
-    "\0132).exec.bit.control.QueryContextInforma"
-    "tion\022.\n\tcollector\030\021 \003(\0132\033.exec.bit.contr"
-    "ol.Collector\"\210\001\n\tCollector\022\"\n\032opposite_m"
-    "ajor_fragment_id\030\001 \001(\005\022#\n\027incoming_minor"
-    "_fragment\030\002 \003(\005B\002\020\001\022\035\n\025supports_out_of_o"
-    "rder\030\003 \001(\010\022\023\n\013is_spooling\030\004 \001(\010\"w\n\027Query"
-    "ContextInformation\022\030\n\020query_start_time\030\001"
-    " \001(\003\022\021\n\ttime_zone\030\002 \001(\005\022\033\n\023default_schem"
-    "a_name\030\003 \001(\t\022\022\n\nsession_id\030\004 \001(\t\"f\n\017Work"
-    "QueueStatus\022(\n\010endpoint\030\001 \001(\0132\026.exec.Dri"
-    "llbitEndpoint\022\024\n\014queue_length\030\002 \001(\005\022\023\n\013r"
-    "eport_time\030\003 \001(\003\"h\n\020FinishedReceiver\022*\n\010"
-    "receiver\030\001 \001(\0132\030.exec.bit.FragmentHandle"
-    "\022(\n\006sender\030\002 \001(\0132\030.exec.bit.FragmentHand"
-    "le*\206\003\n\007RpcType\022\r\n\tHANDSHAKE\020\000\022\007\n\003ACK\020\001\022\013"
-    "\n\007GOODBYE\020\002\022\034\n\030REQ_INITIALIZE_FRAGMENTS\020"
-    "\003\022\027\n\023REQ_CANCEL_FRAGMENT\020\006\022\031\n\025REQ_RECEIV"
-    "ER_FINISHED\020\007\022\027\n\023REQ_FRAGMENT_STATUS\020\010\022\022"
-    "\n\016REQ_BIT_STATUS\020\t\022\024\n\020REQ_QUERY_STATUS\020\n"
-    "\022\024\n\020REQ_QUERY_CANCEL\020\017\022\030\n\024REQ_UNPAUSE_FR"
-    "AGMENT\020\020\022\016\n\nREQ_CUSTOM\020\021\022\030\n\024RESP_FRAGMEN"
-    "T_HANDLE\020\013\022\030\n\024RESP_FRAGMENT_STATUS\020\014\022\023\n\017"
-    "RESP_BIT_STATUS\020\r\022\025\n\021RESP_QUERY_STATUS\020\016"
-    "\022\017\n\013RESP_CUSTOM\020\022\022\020\n\014SASL_MESSAGE\020\023B+\n\033o"
-    "rg.apache.drill.exec.protoB\nBitControlH\001", 2000);
+    "nt\022 \n\030authenticationMechanisms\030\004 \003(\t\0224\n\021"
+    "supported_methods\030\005 \003(\0162\031.exec.bit.contr"
+    "ol.RpcType\"F\n\tBitStatus\0229\n\017fragment_stat"
+    "us\030\001 \003(\0132 .exec.bit.control.FragmentStat"
+    "us\"n\n\016FragmentStatus\0222\n\007profile\030\001 \001(\0132!."
+    "exec.shared.MinorFragmentProfile\022(\n\006hand"
+    "le\030\002 \001(\0132\030.exec.bit.FragmentHandle\"\201\001\n\023I"
+    "nitializeFragments\0220\n\010fragment\030\001 \003(\0132\036.e"
+    "xec.bit.control.PlanFragment\0228\n\013shared_p"
+    "lan\030\002 \003(\0132#.exec.bit.control.MajorFragme"
+    "ntPlan\"E\n\021MajorFragmentPlan\022\031\n\021major_fra"
+    "gment_id\030\001 \001(\005\022\025\n\rfragment_plan\030\002 \001(\014\".\n"
+    "\rCustomMessage\022\014\n\004type\030\001 \001(\005\022\017\n\007message\030"
+    "\002 \001(\014\"\260\004\n\014PlanFragment\022(\n\006handle\030\001 \001(\0132\030"
+    ".exec.bit.FragmentHandle\022\024\n\014network_cost"
+    "\030\004 \001(\002\022\020\n\010cpu_cost\030\005 \001(\002\022\021\n\tdisk_cost\030\006 "
+    "\001(\002\022\023\n\013memory_cost\030\007 \001(\002\022\025\n\rfragment_jso"
+    "n\030\010 \001(\t\022\025\n\rleaf_fragment\030\t \001(\010\022*\n\nassign"
+    "ment\030\n \001(\0132\026.exec.DrillbitEndpoint\022\'\n\007fo"
+    "reman\030\013 \001(\0132\026.exec.DrillbitEndpoint\022\035\n\013m"
+    "em_initial\030\014 \001(\003:\01020000000\022\033\n\007mem_max\030\r "
+    "\001(\003:\n2000000000\0221\n\013credentials\030\016 \001(\0132\034.e"
+    "xec.shared.UserCredentials\022\024\n\014options_js"
+    "on\030\017 \001(\t\022:\n\007context\030\020 \001(\0132).exec.bit.con"
+    "trol.QueryContextInformation\022.\n\tcollecto"
+    "r\030\021 \003(\0132\033.exec.bit.control.Collector\022\025\n\r"
+    "fragment_plan\030\022 \001(\014\022\033\n\023fragment_plan_del"
+    "ta\030\023 \001(\014\"\210\001\n\tCollector\022\"\n\032opposite_major"
+    "_fragment_id\030\001 \001(\005\022#\n\027incoming_minor_fra"
+    "gment\030\002 \003(\005B\002\020\001\022\035\n\025supports_out_of_order"
+    "\030\003 \001(\010\022\023\n\013is_spooling\030\004 \001(\010\"w\n\027QueryCont"
+    "extInformation\022\030\n\020query_start_time\030\001 \001(\003"
+    "\022\021\n\ttime_zone\030\002 \001(\005\022\033\n\023default_schema_na"
+    "me\030\003 \001(\t\022\022\n\nsession_id\030\004 \001(\t\"f\n\017WorkQueu"
+    "eStatus\022(\n\010endpoint\030\001 \001(\0132\026.exec.Drillbi"
+    "tEndpoint\022\024\n\014queue_length\030\002 \001(\005\022\023\n\013repor"
+    "t_time\030\003 \001(\003\"h\n\020FinishedReceiver\022*\n\010rece"
+    "iver\030\001 \001(\0132\030.exec.bit.FragmentHandle\022(\n\006"
+    "sender\030\002 \001(\0132\030.exec.bit.FragmentHandle*\312"
+    "\003\n\007RpcType\022\r\n\tHANDSHAKE\020\000\022\007\n\003ACK\020\001\022\013\n\007GO"
+    "ODBYE\020\002\022\034\n\030REQ_INITIALIZE_FRAGMENTS\020\003\022\027\n"
+    "\023REQ_CANCEL_FRAGMENT\020\006\022\031\n\025REQ_RECEIVER_F"
+    "INISHED\020\007\022\027\n\023REQ_FRAGMENT_STATUS\020\010\022\022\n\016RE"
+    "Q_BIT_STATUS\020\t\022\024\n\020REQ_QUERY_STATUS\020\n\022\024\n\020"
+    "REQ_QUERY_CANCEL\020\017\022\030\n\024REQ_UNPAUSE_FRAGME"
+    "NT\020\020\022\016\n\nREQ_CUSTOM\020\021\022\035\n\031REQ_FRAGMENT_STA"
+    "TUS_BATCH\020\024\022#\n\037REQ_INITIALIZE_SHARED_FRA"
+    "GMENTS\020\025\022\030\n\024RESP_FRAGMENT_HANDLE\020\013\022\030\n\024RE"
+    "SP_FRAGMENT_STATUS\020\014\022\023\n\017RESP_BIT_STATUS\020"
+    "\r\022\025\n\021RESP_QUERY_STATUS\020\016\022\017\n\013RESP_CUSTOM\020"
+    "\022\022\020\n\014SASL_MESSAGE\020\023B+\n\033org.apache.drill."
+    "exec.protoB\nBitControlH\001", 2304);
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
     "BitControl.proto", &protobuf_RegisterTypes);
   BitControlHandshake::default_instance_ = new BitControlHandshake();
   BitStatus::default_instance_ = new BitStatus();
   FragmentStatus::default_instance_ = new FragmentStatus();
   InitializeFragments::default_instance_ = new InitializeFragments();
+  MajorFragmentPlan::default_instance_ = new MajorFragmentPlan();
   CustomMessage::default_instance_ = new CustomMessage();
   PlanFragment::default_instance_ = new PlanFragment();
   Collector::default_instance_ = new Collector();
@@ -377,6 +413,7 @@ void protobuf_AddDesc_BitControl_2eproto() {
   BitStatus::default_instance_->InitAsDefaultInstance();
   FragmentStatus::default_instance_->InitAsDefaultInstance();
   InitializeFragments::default_instance_->InitAsDefaultInstance();
+  MajorFragmentPlan::default_instance_->InitAsDefaultInstance();
   CustomMessage::default_instance_->InitAsDefaultInstance();
   PlanFragment::default_instance_->InitAsDefaultInstance();
   Collector::default_instance_->InitAsDefaultInstance();
@@ -416,6 +453,8 @@ bool RpcType_IsValid(int value) {
     case 17:
     case 18:
     case 19:
+    case 20:
+    case 21:
       return true;
     default:
       return false;
@@ -430,6 +469,7 @@ const int BitControlHandshake::kRpcVersionFieldNumber;
 const int BitControlHandshake::kChannelFieldNumber;
 const int BitControlHandshake::kEndpointFieldNumber;
 const int BitControlHandshake::kAuthenticationMechanismsFieldNumber;
+const int BitControlHandshake::kSupportedMethodsFieldNumber;
 #endif  // !_MSC_VER
 
 BitControlHandshake::BitControlHandshake()
@@ -495,6 +535,7 @@ void BitControlHandshake::Clear() {
     }
   }
   authenticationmechanisms_.Clear();
+  supported_methods_.Clear();
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
@@ -570,6 +611,35 @@ bool BitControlHandshake::MergePartialFromCodedStream(
           goto handle_uninterpreted;
         }
         if (input->ExpectTag(34)) goto parse_authenticationMechanisms;
+        if (input->ExpectTag(40)) goto parse_supported_methods;
+        break;
+      }
+
+      // repeated .exec.bit.control.RpcType supported_methods = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_supported_methods:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::exec::bit::control::RpcType_IsValid(value)) {
+            add_supported_methods(static_cast< ::exec::bit::control::RpcType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(5, value);
+          }
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedEnumNoInline(
+                 input,
+                 &::exec::bit::control::RpcType_IsValid,
+                 this->mutable_supported_methods())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(40)) goto parse_supported_methods;
         if (input->ExpectAtEnd()) return true;
         break;
       }
@@ -618,6 +688,12 @@ void BitControlHandshake::SerializeWithCachedSizes(
       4, this->authenticationmechanisms(i), output);
   }
 
+  // repeated .exec.bit.control.RpcType supported_methods = 5;
+  for (int i = 0; i < this->supported_methods_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      5, this->supported_methods(i), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -653,6 +729,12 @@ void BitControlHandshake::SerializeWithCachedSizes(
       WriteStringToArray(4, this->authenticationmechanisms(i), target);
   }
 
+  // repeated .exec.bit.control.RpcType supported_methods = 5;
+  for (int i = 0; i < this->supported_methods_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      5, this->supported_methods(i), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -692,6 +774,16 @@ int BitControlHandshake::ByteSize() const {
       this->authenticationmechanisms(i));
   }
 
+  // repeated .exec.bit.control.RpcType supported_methods = 5;
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->supported_methods_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::EnumSize(
+        this->supported_methods(i));
+    }
+    total_size += 1 * this->supported_methods_size() + data_size;
+  }
+
   if (!unknown_fields().empty()) {
     total_size +=
       ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
@@ -718,6 +810,7 @@ void BitControlHandshake::MergeFrom(const ::google::protobuf::Message& from) {
 void BitControlHandshake::MergeFrom(const BitControlHandshake& from) {
   GOOGLE_CHECK_NE(&from, this);
   authenticationmechanisms_.MergeFrom(from.authenticationmechanisms_);
+  supported_methods_.MergeFrom(from.supported_methods_);
   if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
     if (from.has_rpc_version()) {
       set_rpc_version(from.rpc_version());
@@ -755,6 +848,7 @@ void BitControlHandshake::Swap(BitControlHandshake* other) {
     std::swap(channel_, other->channel_);
     std::swap(endpoint_, other->endpoint_);
     authenticationmechanisms_.Swap(&other->authenticationmechanisms_);
+    supported_methods_.Swap(&other->supported_methods_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
@@ -1235,6 +1329,7 @@ void FragmentStatus::Swap(FragmentStatus* other) {
 
 #ifndef _MSC_VER
 const int InitializeFragments::kFragmentFieldNumber;
+const int InitializeFragments::kSharedPlanFieldNumber;
 #endif  // !_MSC_VER
 
 InitializeFragments::InitializeFragments()
@@ -1288,6 +1383,7 @@ InitializeFragments* InitializeFragments::New() const {
 
 void InitializeFragments::Clear() {
   fragment_.Clear();
+  shared_plan_.Clear();
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
@@ -1309,6 +1405,21 @@ bool InitializeFragments::MergePartialFromCodedStream(
           goto handle_uninterpreted;
         }
         if (input->ExpectTag(10)) goto parse_fragment;
+        if (input->ExpectTag(18)) goto parse_shared_plan;
+        break;
+      }
+
+      // repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_shared_plan:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_shared_plan()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_shared_plan;
         if (input->ExpectAtEnd()) return true;
         break;
       }
@@ -1337,6 +1448,12 @@ void InitializeFragments::SerializeWithCachedSizes(
       1, this->fragment(i), output);
   }
 
+  // repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;
+  for (int i = 0; i < this->shared_plan_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->shared_plan(i), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -1352,6 +1469,13 @@ void InitializeFragments::SerializeWithCachedSizes(
         1, this->fragment(i), target);
   }
 
+  // repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;
+  for (int i = 0; i < this->shared_plan_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->shared_plan(i), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -1370,6 +1494,14 @@ int InitializeFragments::ByteSize() const {
         this->fragment(i));
   }
 
+  // repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;
+  total_size += 1 * this->shared_plan_size();
+  for (int i = 0; i < this->shared_plan_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->shared_plan(i));
+  }
+
   if (!unknown_fields().empty()) {
     total_size +=
       ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
@@ -1396,6 +1528,7 @@ void InitializeFragments::MergeFrom(const ::google::protobuf::Message& from) {
 void InitializeFragments::MergeFrom(const InitializeFragments& from) {
   GOOGLE_CHECK_NE(&from, this);
   fragment_.MergeFrom(from.fragment_);
+  shared_plan_.MergeFrom(from.shared_plan_);
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
@@ -1419,6 +1552,7 @@ bool InitializeFragments::IsInitialized() const {
 void InitializeFragments::Swap(InitializeFragments* other) {
   if (other != this) {
     fragment_.Swap(&other->fragment_);
+    shared_plan_.Swap(&other->shared_plan_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
@@ -1434,6 +1568,262 @@ void InitializeFragments::Swap(InitializeFragments* other) {
 }
 
 
+// ===================================================================
+
+#ifndef _MSC_VER
+const int MajorFragmentPlan::kMajorFragmentIdFieldNumber;
+const int MajorFragmentPlan::kFragmentPlanFieldNumber;
+#endif  // !_MSC_VER
+
+MajorFragmentPlan::MajorFragmentPlan()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void MajorFragmentPlan::InitAsDefaultInstance() {
+}
+
+MajorFragmentPlan::MajorFragmentPlan(const MajorFragmentPlan& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void MajorFragmentPlan::SharedCtor() {
+  _cached_size_ = 0;
+  major_fragment_id_ = 0;
+  fragment_plan_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+MajorFragmentPlan::~MajorFragmentPlan() {
+  SharedDtor();
+}
+
+void MajorFragmentPlan::SharedDtor() {
+  if (fragment_plan_ != &::google::protobuf::internal::kEmptyString) {
+    delete fragment_plan_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void MajorFragmentPlan::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* MajorFragmentPlan::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return MajorFragmentPlan_descriptor_;
+}
+
+const MajorFragmentPlan& MajorFragmentPlan::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_BitControl_2eproto();
+  return *default_instance_;
+}
+
+MajorFragmentPlan* MajorFragmentPlan::default_instance_ = NULL;
+
+MajorFragmentPlan* MajorFragmentPlan::New() const {
+  return new MajorFragmentPlan;
+}
+
+void MajorFragmentPlan::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    major_fragment_id_ = 0;
+    if (has_fragment_plan()) {
+      if (fragment_plan_ != &::google::protobuf::internal::kEmptyString) {
+        fragment_plan_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool MajorFragmentPlan::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // optional int32 major_fragment_id = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::int32, ::google::protobuf::internal::WireFormatLite::TYPE_INT32>(
+                 input, &major_fragment_id_)));
+          set_has_major_fragment_id();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_fragment_plan;
+        break;
+      }
+
+      // optional bytes fragment_plan = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_fragment_plan:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_fragment_plan()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void MajorFragmentPlan::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // optional int32 major_fragment_id = 1;
+  if (has_major_fragment_id()) {
+    ::google::protobuf::internal::WireFormatLite::WriteInt32(1, this->major_fragment_id(), output);
+  }
+
+  // optional bytes fragment_plan = 2;
+  if (has_fragment_plan()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      2, this->fragment_plan(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* MajorFragmentPlan::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // optional int32 major_fragment_id = 1;
+  if (has_major_fragment_id()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteInt32ToArray(1, this->major_fragment_id(), target);
+  }
+
+  // optional bytes fragment_plan = 2;
+  if (has_fragment_plan()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        2, this->fragment_plan(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int MajorFragmentPlan::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // optional int32 major_fragment_id = 1;
+    if (has_major_fragment_id()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::Int32Size(
+          this->major_fragment_id());
+    }
+
+    // optional bytes fragment_plan = 2;
+    if (has_fragment_plan()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->fragment_plan());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void MajorFragmentPlan::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const MajorFragmentPlan* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const MajorFragmentPlan*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void MajorFragmentPlan::MergeFrom(const MajorFragmentPlan& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_major_fragment_id()) {
+      set_major_fragment_id(from.major_fragment_id());
+    }
+    if (from.has_fragment_plan()) {
+      set_fragment_plan(from.fragment_plan());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void MajorFragmentPlan::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void MajorFragmentPlan::CopyFrom(const MajorFragmentPlan& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool MajorFragmentPlan::IsInitialized() const {
+
+  return true;
+}
+
+void MajorFragmentPlan::Swap(MajorFragmentPlan* other) {
+  if (other != this) {
+    std::swap(major_fragment_id_, other->major_fragment_id_);
+    std::swap(fragment_plan_, other->fragment_plan_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata MajorFragmentPlan::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = MajorFragmentPlan_descriptor_;
+  metadata.reflection = MajorFragmentPlan_reflection_;
+  return metadata;
+}
+
+
 // ===================================================================
 
 #ifndef _MSC_VER
@@ -1708,6 +2098,8 @@ const int PlanFragment::kCredentialsFieldNumber;
 const int PlanFragment::kOptionsJsonFieldNumber;
 const int PlanFragment::kContextFieldNumber;
 const int PlanFragment::kCollectorFieldNumber;
+const int PlanFragment::kFragmentPlanFieldNumber;
+const int PlanFragment::kFragmentPlanDeltaFieldNumber;
 #endif  // !_MSC_VER
 
 PlanFragment::PlanFragment()
@@ -1745,6 +2137,8 @@ void PlanFragment::SharedCtor() {
   credentials_ = NULL;
   options_json_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   context_ = NULL;
+  fragment_plan_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  fragment_plan_delta_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
@@ -1759,6 +2153,12 @@ void PlanFragment::SharedDtor() {
   if (options_json_ != &::google::protobuf::internal::kEmptyString) {
     delete options_json_;
   }
+  if (fragment_plan_ != &::google::protobuf::internal::kEmptyString) {
+    delete fragment_plan_;
+  }
+  if (fragment_plan_delta_ != &::google::protobuf::internal::kEmptyString) {
+    delete fragment_plan_delta_;
+  }
   if (this != default_instance_) {
     delete handle_;
     delete assignment_;
@@ -1825,6 +2225,18 @@ void PlanFragment::Clear() {
     if (has_context()) {
       if (context_ != NULL) context_->::exec::bit::control::QueryContextInformation::Clear();
     }
+    if (has_fragment_plan()) {
+      if (fragment_plan_ != &::google::protobuf::internal::kEmptyString) {
+        fragment_plan_->clear();
+      }
+    }
+  }
+  if (_has_bits_[16 / 32] & (0xffu << (16 % 32))) {
+    if (has_fragment_plan_delta()) {
+      if (fragment_plan_delta_ != &::google::protobuf::internal::kEmptyString) {
+        fragment_plan_delta_->clear();
+      }
+    }
   }
   collector_.Clear();
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
@@ -2063,6 +2475,34 @@ bool PlanFragment::MergePartialFromCodedStream(
           goto handle_uninterpreted;
         }
         if (input->ExpectTag(138)) goto parse_collector;
+        if (input->ExpectTag(146)) goto parse_fragment_plan;
+        break;
+      }
+
+      // optional bytes fragment_plan = 18;
+      case 18: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_fragment_plan:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_fragment_plan()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(154)) goto parse_fragment_plan_delta;
+        break;
+      }
+
+      // optional bytes fragment_plan_delta = 19;
+      case 19: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_fragment_plan_delta:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_fragment_plan_delta()));
+        } else {
+          goto handle_uninterpreted;
+        }
         if (input->ExpectAtEnd()) return true;
         break;
       }
@@ -2174,6 +2614,18 @@ void PlanFragment::SerializeWithCachedSizes(
       17, this->collector(i), output);
   }
 
+  // optional bytes fragment_plan = 18;
+  if (has_fragment_plan()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      18, this->fragment_plan(), output);
+  }
+
+  // optional bytes fragment_plan_delta = 19;
+  if (has_fragment_plan_delta()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytes(
+      19, this->fragment_plan_delta(), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -2279,6 +2731,20 @@ void PlanFragment::SerializeWithCachedSizes(
         17, this->collector(i), target);
   }
 
+  // optional bytes fragment_plan = 18;
+  if (has_fragment_plan()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        18, this->fragment_plan(), target);
+  }
+
+  // optional bytes fragment_plan_delta = 19;
+  if (has_fragment_plan_delta()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        19, this->fragment_plan_delta(), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -2380,6 +2846,22 @@ int PlanFragment::ByteSize() const {
           this->context());
     }
 
+    // optional bytes fragment_plan = 18;
+    if (has_fragment_plan()) {
+      total_size += 2 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->fragment_plan());
+    }
+
+  }
+  if (_has_bits_[16 / 32] & (0xffu << (16 % 32))) {
+    // optional bytes fragment_plan_delta = 19;
+    if (has_fragment_plan_delta()) {
+      total_size += 2 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->fragment_plan_delta());
+    }
+
   }
   // repeated .exec.bit.control.Collector collector = 17;
   total_size += 2 * this->collector_size();
@@ -2460,6 +2942,14 @@ void PlanFragment::MergeFrom(const PlanFragment& from) {
     if (from.has_context()) {
       mutable_context()->::exec::bit::control::QueryContextInformation::MergeFrom(from.context());
     }
+    if (from.has_fragment_plan()) {
+      set_fragment_plan(from.fragment_plan());
+    }
+  }
+  if (from._has_bits_[16 / 32] & (0xffu << (16 % 32))) {
+    if (from.has_fragment_plan_delta()) {
+      set_fragment_plan_delta(from.fragment_plan_delta());
+    }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
@@ -2498,6 +2988,8 @@ void PlanFragment::Swap(PlanFragment* other) {
     std::swap(options_json_, other->options_json_);
     std::swap(context_, other->context_);
     collector_.Swap(&other->collector_);
+    std::swap(fragment_plan_, other->fragment_plan_);
+    std::swap(fragment_plan_delta_, other->fragment_plan_delta_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
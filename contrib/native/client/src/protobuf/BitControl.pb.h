@@ -43,6 +43,7 @@ class BitControlHandshake;
 class BitStatus;
 class FragmentStatus;
 class InitializeFragments;
+class MajorFragmentPlan;
 class CustomMessage;
 class PlanFragment;
 class Collector;
@@ -63,6 +64,8 @@ enum RpcType {
   REQ_QUERY_CANCEL = 15,
   REQ_UNPAUSE_FRAGMENT = 16,
   REQ_CUSTOM = 17,
+  REQ_FRAGMENT_STATUS_BATCH = 20,
+  REQ_INITIALIZE_SHARED_FRAGMENTS = 21,
   RESP_FRAGMENT_HANDLE = 11,
   RESP_FRAGMENT_STATUS = 12,
   RESP_BIT_STATUS = 13,
@@ -72,7 +75,7 @@ enum RpcType {
 };
 bool RpcType_IsValid(int value);
 const RpcType RpcType_MIN = HANDSHAKE;
-const RpcType RpcType_MAX = SASL_MESSAGE;
+const RpcType RpcType_MAX = REQ_INITIALIZE_SHARED_FRAGMENTS;
 const int RpcType_ARRAYSIZE = RpcType_MAX + 1;
 
 const ::google::protobuf::EnumDescriptor* RpcType_descriptor();
@@ -180,6 +183,16 @@ class BitControlHandshake : public ::google::protobuf::Message {
   inline const ::google::protobuf::RepeatedPtrField< ::std::string>& authenticationmechanisms() const;
   inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_authenticationmechanisms();
 
+  // repeated .exec.bit.control.RpcType supported_methods = 5;
+  inline int supported_methods_size() const;
+  inline void clear_supported_methods();
+  static const int kSupportedMethodsFieldNumber = 5;
+  inline ::exec::bit::control::RpcType supported_methods(int index) const;
+  inline void set_supported_methods(int index, ::exec::bit::control::RpcType value);
+  inline void add_supported_methods(::exec::bit::control::RpcType value);
+  inline const ::google::protobuf::RepeatedField<int>& supported_methods() const;
+  inline ::google::protobuf::RepeatedField<int>* mutable_supported_methods();
+
   // @@protoc_insertion_point(class_scope:exec.bit.control.BitControlHandshake)
  private:
   inline void set_has_rpc_version();
@@ -195,9 +208,10 @@ class BitControlHandshake : public ::google::protobuf::Message {
   int channel_;
   ::exec::DrillbitEndpoint* endpoint_;
   ::google::protobuf::RepeatedPtrField< ::std::string> authenticationmechanisms_;
+  ::google::protobuf::RepeatedField<int> supported_methods_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(5 + 31) / 32];
 
   friend void  protobuf_AddDesc_BitControl_2eproto();
   friend void protobuf_AssignDesc_BitControl_2eproto();
@@ -455,15 +469,28 @@ class InitializeFragments : public ::google::protobuf::Message {
   inline ::google::protobuf::RepeatedPtrField< ::exec::bit::control::PlanFragment >*
       mutable_fragment();
 
+  // repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;
+  inline int shared_plan_size() const;
+  inline void clear_shared_plan();
+  static const int kSharedPlanFieldNumber = 2;
+  inline const ::exec::bit::control::MajorFragmentPlan& shared_plan(int index) const;
+  inline ::exec::bit::control::MajorFragmentPlan* mutable_shared_plan(int index);
+  inline ::exec::bit::control::MajorFragmentPlan* add_shared_plan();
+  inline const ::google::protobuf::RepeatedPtrField< ::exec::bit::control::MajorFragmentPlan >&
+      shared_plan() const;
+  inline ::google::protobuf::RepeatedPtrField< ::exec::bit::control::MajorFragmentPlan >*
+      mutable_shared_plan();
+
   // @@protoc_insertion_point(class_scope:exec.bit.control.InitializeFragments)
  private:
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
   ::google::protobuf::RepeatedPtrField< ::exec::bit::control::PlanFragment > fragment_;
+  ::google::protobuf::RepeatedPtrField< ::exec::bit::control::MajorFragmentPlan > shared_plan_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
 
   friend void  protobuf_AddDesc_BitControl_2eproto();
   friend void protobuf_AssignDesc_BitControl_2eproto();
@@ -474,6 +501,103 @@ class InitializeFragments : public ::google::protobuf::Message {
 };
 // -------------------------------------------------------------------
 
+class MajorFragmentPlan : public ::google::protobuf::Message {
+ public:
+  MajorFragmentPlan();
+  virtual ~MajorFragmentPlan();
+
+  MajorFragmentPlan(const MajorFragmentPlan& from);
+
+  inline MajorFragmentPlan& operator=(const MajorFragmentPlan& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const MajorFragmentPlan& default_instance();
+
+  void Swap(MajorFragmentPlan* other);
+
+  // implements Message ----------------------------------------------
+
+  MajorFragmentPlan* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const MajorFragmentPlan& from);
+  void MergeFrom(const MajorFragmentPlan& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // optional int32 major_fragment_id = 1;
+  inline bool has_major_fragment_id() const;
+  inline void clear_major_fragment_id();
+  static const int kMajorFragmentIdFieldNumber = 1;
+  inline ::google::protobuf::int32 major_fragment_id() const;
+  inline void set_major_fragment_id(::google::protobuf::int32 value);
+
+  // optional bytes fragment_plan = 2;
+  inline bool has_fragment_plan() const;
+  inline void clear_fragment_plan();
+  static const int kFragmentPlanFieldNumber = 2;
+  inline const ::std::string& fragment_plan() const;
+  inline void set_fragment_plan(const ::std::string& value);
+  inline void set_fragment_plan(const char* value);
+  inline void set_fragment_plan(const void* value, size_t size);
+  inline ::std::string* mutable_fragment_plan();
+  inline ::std::string* release_fragment_plan();
+  inline void set_allocated_fragment_plan(::std::string* fragment_plan);
+
+  // @@protoc_insertion_point(class_scope:exec.bit.control.MajorFragmentPlan)
+ private:
+  inline void set_has_major_fragment_id();
+  inline void clear_has_major_fragment_id();
+  inline void set_has_fragment_plan();
+  inline void clear_has_fragment_plan();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* fragment_plan_;
+  ::google::protobuf::int32 major_fragment_id_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_BitControl_2eproto();
+  friend void protobuf_AssignDesc_BitControl_2eproto();
+  friend void protobuf_ShutdownFile_BitControl_2eproto();
+
+  void InitAsDefaultInstance();
+  static MajorFragmentPlan* default_instance_;
+};
+// -------------------------------------------------------------------
+
 class CustomMessage : public ::google::protobuf::Message {
  public:
   CustomMessage();
@@ -755,6 +879,30 @@ class PlanFragment : public ::google::protobuf::Message {
   inline ::google::protobuf::RepeatedPtrField< ::exec::bit::control::Collector >*
       mutable_collector();
 
+  // optional bytes fragment_plan = 18;
+  inline bool has_fragment_plan() const;
+  inline void clear_fragment_plan();
+  static const int kFragmentPlanFieldNumber = 18;
+  inline const ::std::string& fragment_plan() const;
+  inline void set_fragment_plan(const ::std::string& value);
+  inline void set_fragment_plan(const char* value);
+  inline void set_fragment_plan(const void* value, size_t size);
+  inline ::std::string* mutable_fragment_plan();
+  inline ::std::string* release_fragment_plan();
+  inline void set_allocated_fragment_plan(::std::string* fragment_plan);
+
+  // optional bytes fragment_plan_delta = 19;
+  inline bool has_fragment_plan_delta() const;
+  inline void clear_fragment_plan_delta();
+  static const int kFragmentPlanDeltaFieldNumber = 19;
+  inline const ::std::string& fragment_plan_delta() const;
+  inline void set_fragment_plan_delta(const ::std::string& value);
+  inline void set_fragment_plan_delta(const char* value);
+  inline void set_fragment_plan_delta(const void* value, size_t size);
+  inline ::std::string* mutable_fragment_plan_delta();
+  inline ::std::string* release_fragment_plan_delta();
+  inline void set_allocated_fragment_plan_delta(::std::string* fragment_plan_delta);
+
   // @@protoc_insertion_point(class_scope:exec.bit.control.PlanFragment)
  private:
   inline void set_has_handle();
@@ -785,6 +933,10 @@ class PlanFragment : public ::google::protobuf::Message {
   inline void clear_has_options_json();
   inline void set_has_context();
   inline void clear_has_context();
+  inline void set_has_fragment_plan();
+  inline void clear_has_fragment_plan();
+  inline void set_has_fragment_plan_delta();
+  inline void clear_has_fragment_plan_delta();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
@@ -802,10 +954,12 @@ class PlanFragment : public ::google::protobuf::Message {
   ::std::string* options_json_;
   ::exec::bit::control::QueryContextInformation* context_;
   ::google::protobuf::RepeatedPtrField< ::exec::bit::control::Collector > collector_;
+  ::std::string* fragment_plan_;
+  ::std::string* fragment_plan_delta_;
   bool leaf_fragment_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(15 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(17 + 31) / 32];
 
   friend void  protobuf_AddDesc_BitControl_2eproto();
   friend void protobuf_AssignDesc_BitControl_2eproto();
@@ -1386,6 +1540,33 @@ BitControlHandshake::mutable_authenticationmechanisms() {
   return &authenticationmechanisms_;
 }
 
+// repeated .exec.bit.control.RpcType supported_methods = 5;
+inline int BitControlHandshake::supported_methods_size() const {
+  return supported_methods_.size();
+}
+inline void BitControlHandshake::clear_supported_methods() {
+  supported_methods_.Clear();
+}
+inline ::exec::bit::control::RpcType BitControlHandshake::supported_methods(int index) const {
+  return static_cast< ::exec::bit::control::RpcType >(supported_methods_.Get(index));
+}
+inline void BitControlHandshake::set_supported_methods(int index, ::exec::bit::control::RpcType value) {
+  assert(::exec::bit::control::RpcType_IsValid(value));
+  supported_methods_.Set(index, value);
+}
+inline void BitControlHandshake::add_supported_methods(::exec::bit::control::RpcType value) {
+  assert(::exec::bit::control::RpcType_IsValid(value));
+  supported_methods_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField<int>&
+BitControlHandshake::supported_methods() const {
+  return supported_methods_;
+}
+inline ::google::protobuf::RepeatedField<int>*
+BitControlHandshake::mutable_supported_methods() {
+  return &supported_methods_;
+}
+
 // -------------------------------------------------------------------
 
 // BitStatus
@@ -1524,6 +1705,127 @@ InitializeFragments::mutable_fragment() {
   return &fragment_;
 }
 
+// repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;
+inline int InitializeFragments::shared_plan_size() const {
+  return shared_plan_.size();
+}
+inline void InitializeFragments::clear_shared_plan() {
+  shared_plan_.Clear();
+}
+inline const ::exec::bit::control::MajorFragmentPlan& InitializeFragments::shared_plan(int index) const {
+  return shared_plan_.Get(index);
+}
+inline ::exec::bit::control::MajorFragmentPlan* InitializeFragments::mutable_shared_plan(int index) {
+  return shared_plan_.Mutable(index);
+}
+inline ::exec::bit::control::MajorFragmentPlan* InitializeFragments::add_shared_plan() {
+  return shared_plan_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::exec::bit::control::MajorFragmentPlan >&
+InitializeFragments::shared_plan() const {
+  return shared_plan_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::exec::bit::control::MajorFragmentPlan >*
+InitializeFragments::mutable_shared_plan() {
+  return &shared_plan_;
+}
+
+// -------------------------------------------------------------------
+
+// MajorFragmentPlan
+
+// optional int32 major_fragment_id = 1;
+inline bool MajorFragmentPlan::has_major_fragment_id() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void MajorFragmentPlan::set_has_major_fragment_id() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void MajorFragmentPlan::clear_has_major_fragment_id() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void MajorFragmentPlan::clear_major_fragment_id() {
+  major_fragment_id_ = 0;
+  clear_has_major_fragment_id();
+}
+inline ::google::protobuf::int32 MajorFragmentPlan::major_fragment_id() const {
+  return major_fragment_id_;
+}
+inline void MajorFragmentPlan::set_major_fragment_id(::google::protobuf::int32 value) {
+  set_has_major_fragment_id();
+  major_fragment_id_ = value;
+}
+
+// optional bytes fragment_plan = 2;
+inline bool MajorFragmentPlan::has_fragment_plan() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void MajorFragmentPlan::set_has_fragment_plan() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void MajorFragmentPlan::clear_has_fragment_plan() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void MajorFragmentPlan::clear_fragment_plan() {
+  if (fragment_plan_ != &::google::protobuf::internal::kEmptyString) {
+    fragment_plan_->clear();
+  }
+  clear_has_fragment_plan();
+}
+inline const ::std::string& MajorFragmentPlan::fragment_plan() const {
+  return *fragment_plan_;
+}
+inline void MajorFragmentPlan::set_fragment_plan(const ::std::string& value) {
+  set_has_fragment_plan();
+  if (fragment_plan_ == &::google::protobuf::internal::kEmptyString) {
+    fragment_plan_ = new ::std::string;
+  }
+  fragment_plan_->assign(value);
+}
+inline void MajorFragmentPlan::set_fragment_plan(const char* value) {
+  set_has_fragment_plan();
+  if (fragment_plan_ == &::google::protobuf::internal::kEmptyString) {
+    fragment_plan_ = new ::std::string;
+  }
+  fragment_plan_->assign(value);
+}
+inline void MajorFragmentPlan::set_fragment_plan(const void* value, size_t size) {
+  set_has_fragment_plan();
+  if (fragment_plan_ == &::google::protobuf::internal::kEmptyString) {
+    fragment_plan_ = new ::std::string;
+  }
+  fragment_plan_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* MajorFragmentPlan::mutable_fragment_plan() {
+  set_has_fragment_plan();
+  if (fragment_plan_ == &::google::protobuf::internal::kEmptyString) {
+    fragment_plan_ = new ::std::string;
+  }
+  return fragment_plan_;
+}
+inline ::std::string* MajorFragmentPlan::release_fragment_plan() {
+  clear_has_fragment_plan();
+  if (fragment_plan_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = fragment_plan_;
+    fragment_plan_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void MajorFragmentPlan::set_allocated_fragment_plan(::std::string* fragment_plan) {
+  if (fragment_plan_ != &::google::protobuf::internal::kEmptyString) {
+    delete fragment_plan_;
+  }
+  if (fragment_plan) {
+    set_has_fragment_plan();
+    fragment_plan_ = fragment_plan;
+  } else {
+    clear_has_fragment_plan();
+    fragment_plan_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
 // -------------------------------------------------------------------
 
 // CustomMessage
@@ -2133,6 +2435,146 @@ PlanFragment::mutable_collector() {
   return &collector_;
 }
 
+// optional bytes fragment_plan = 18;
+inline bool PlanFragment::has_fragment_plan() const {
+  return (_has_bits_[0] & 0x00008000u) != 0;
+}
+inline void PlanFragment::set_has_fragment_plan() {
+  _has_bits_[0] |= 0x00008000u;
+}
+inline void PlanFragment::clear_has_fragment_plan() {
+  _has_bits_[0] &= ~0x00008000u;
+}
+inline void PlanFragment::clear_fragment_plan() {
+  if (fragment_plan_ != &::google::protobuf::internal::kEmptyString) {
+    fragment_plan_->clear();
+  }
+  clear_has_fragment_plan();
+}
+inline const ::std::string& PlanFragment::fragment_plan() const {
+  return *fragment_plan_;
+}
+inline void PlanFragment::set_fragment_plan(const ::std::string& value) {
+  set_has_fragment_plan();
+  if (fragment_plan_ == &::google::protobuf::internal::kEmptyString) {
+    fragment_plan_ = new ::std::string;
+  }
+  fragment_plan_->assign(value);
+}
+inline void PlanFragment::set_fragment_plan(const char* value) {
+  set_has_fragment_plan();
+  if (fragment_plan_ == &::google::protobuf::internal::kEmptyString) {
+    fragment_plan_ = new ::std::string;
+  }
+  fragment_plan_->assign(value);
+}
+inline void PlanFragment::set_fragment_plan(const void* value, size_t size) {
+  set_has_fragment_plan();
+  if (fragment_plan_ == &::google::protobuf::internal::kEmptyString) {
+    fragment_plan_ = new ::std::string;
+  }
+  fragment_plan_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* PlanFragment::mutable_fragment_plan() {
+  set_has_fragment_plan();
+  if (fragment_plan_ == &::google::protobuf::internal::kEmptyString) {
+    fragment_plan_ = new ::std::string;
+  }
+  return fragment_plan_;
+}
+inline ::std::string* PlanFragment::release_fragment_plan() {
+  clear_has_fragment_plan();
+  if (fragment_plan_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = fragment_plan_;
+    fragment_plan_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void PlanFragment::set_allocated_fragment_plan(::std::string* fragment_plan) {
+  if (fragment_plan_ != &::google::protobuf::internal::kEmptyString) {
+    delete fragment_plan_;
+  }
+  if (fragment_plan) {
+    set_has_fragment_plan();
+    fragment_plan_ = fragment_plan;
+  } else {
+    clear_has_fragment_plan();
+    fragment_plan_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional bytes fragment_plan_delta = 19;
+inline bool PlanFragment::has_fragment_plan_delta() const {
+  return (_has_bits_[0] & 0x00010000u) != 0;
+}
+inline void PlanFragment::set_has_fragment_plan_delta() {
+  _has_bits_[0] |= 0x00010000u;
+}
+inline void PlanFragment::clear_has_fragment_plan_delta() {
+  _has_bits_[0] &= ~0x00010000u;
+}
+inline void PlanFragment::clear_fragment_plan_delta() {
+  if (fragment_plan_delta_ != &::google::protobuf::internal::kEmptyString) {
+    fragment_plan_delta_->clear();
+  }
+  clear_has_fragment_plan_delta();
+}
+inline const ::std::string& PlanFragment::fragment_plan_delta() const {
+  return *fragment_plan_delta_;
+}
+inline void PlanFragment::set_fragment_plan_delta(const ::std::string& value) {
+  set_has_fragment_plan_delta();
+  if (fragment_plan_delta_ == &::google::protobuf::internal::kEmptyString) {
+    fragment_plan_delta_ = new ::std::string;
+  }
+  fragment_plan_delta_->assign(value);
+}
+inline void PlanFragment::set_fragment_plan_delta(const char* value) {
+  set_has_fragment_plan_delta();
+  if (fragment_plan_delta_ == &::google::protobuf::internal::kEmptyString) {
+    fragment_plan_delta_ = new ::std::string;
+  }
+  fragment_plan_delta_->assign(value);
+}
+inline void PlanFragment::set_fragment_plan_delta(const void* value, size_t size) {
+  set_has_fragment_plan_delta();
+  if (fragment_plan_delta_ == &::google::protobuf::internal::kEmptyString) {
+    fragment_plan_delta_ = new ::std::string;
+  }
+  fragment_plan_delta_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* PlanFragment::mutable_fragment_plan_delta() {
+  set_has_fragment_plan_delta();
+  if (fragment_plan_delta_ == &::google::protobuf::internal::kEmptyString) {
+    fragment_plan_delta_ = new ::std::string;
+  }
+  return fragment_plan_delta_;
+}
+inline ::std::string* PlanFragment::release_fragment_plan_delta() {
+  clear_has_fragment_plan_delta();
+  if (fragment_plan_delta_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = fragment_plan_delta_;
+    fragment_plan_delta_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void PlanFragment::set_allocated_fragment_plan_delta(::std::string* fragment_plan_delta) {
+  if (fragment_plan_delta_ != &::google::protobuf::internal::kEmptyString) {
+    delete fragment_plan_delta_;
+  }
+  if (fragment_plan_delta) {
+    set_has_fragment_plan_delta();
+    fragment_plan_delta_ = fragment_plan_delta;
+  } else {
+    clear_has_fragment_plan_delta();
+    fragment_plan_delta_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
 // -------------------------------------------------------------------
 
 // Collector
@@ -96,6 +96,9 @@ const ::google::protobuf::internal::GeneratedMessageReflection*
 const ::google::protobuf::Descriptor* PreparedStatement_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   PreparedStatement_reflection_ = NULL;
+const ::google::protobuf::Descriptor* PreparedStatementParameter_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  PreparedStatementParameter_reflection_ = NULL;
 const ::google::protobuf::Descriptor* CreatePreparedStatementResp_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   CreatePreparedStatementResp_reflection_ = NULL;
@@ -195,7 +198,7 @@ void protobuf_AssignDesc_User_2eproto() {
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(RpcEndpointInfos));
   UserToBitHandshake_descriptor_ = file->message_type(3);
-  static const int UserToBitHandshake_offsets_[9] = {
+  static const int UserToBitHandshake_offsets_[10] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UserToBitHandshake, channel_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UserToBitHandshake, support_listening_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UserToBitHandshake, rpc_version_),
@@ -205,6 +208,7 @@ void protobuf_AssignDesc_User_2eproto() {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UserToBitHandshake, support_timeout_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UserToBitHandshake, client_infos_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UserToBitHandshake, sasl_support_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(UserToBitHandshake, result_compression_),
   };
   UserToBitHandshake_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -269,7 +273,7 @@ void protobuf_AssignDesc_User_2eproto() {
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(QueryPlanFragments));
   BitToUserHandshake_descriptor_ = file->message_type(7);
-  static const int BitToUserHandshake_offsets_[9] = {
+  static const int BitToUserHandshake_offsets_[10] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BitToUserHandshake, rpc_version_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BitToUserHandshake, status_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BitToUserHandshake, errorid_),
@@ -279,6 +283,7 @@ void protobuf_AssignDesc_User_2eproto() {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BitToUserHandshake, supported_methods_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BitToUserHandshake, encrypted_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BitToUserHandshake, maxwrappedsize_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BitToUserHandshake, result_compression_),
   };
   BitToUserHandshake_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -591,9 +596,10 @@ void protobuf_AssignDesc_User_2eproto() {
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(PreparedStatementHandle));
   PreparedStatement_descriptor_ = file->message_type(24);
-  static const int PreparedStatement_offsets_[2] = {
+  static const int PreparedStatement_offsets_[3] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PreparedStatement, columns_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PreparedStatement, server_handle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PreparedStatement, parameter_count_),
   };
   PreparedStatement_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -606,7 +612,25 @@ void protobuf_AssignDesc_User_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(PreparedStatement));
-  CreatePreparedStatementResp_descriptor_ = file->message_type(25);
+  PreparedStatementParameter_descriptor_ = file->message_type(25);
+  static const int PreparedStatementParameter_offsets_[4] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PreparedStatementParameter, bool_value_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PreparedStatementParameter, long_value_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PreparedStatementParameter, double_value_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PreparedStatementParameter, string_value_),
+  };
+  PreparedStatementParameter_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      PreparedStatementParameter_descriptor_,
+      PreparedStatementParameter::default_instance_,
+      PreparedStatementParameter_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PreparedStatementParameter, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PreparedStatementParameter, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(PreparedStatementParameter));
+  CreatePreparedStatementResp_descriptor_ = file->message_type(26);
   static const int CreatePreparedStatementResp_offsets_[3] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreatePreparedStatementResp, status_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(CreatePreparedStatementResp, prepared_statement_),
@@ -623,7 +647,7 @@ void protobuf_AssignDesc_User_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(CreatePreparedStatementResp));
-  GetServerMetaReq_descriptor_ = file->message_type(26);
+  GetServerMetaReq_descriptor_ = file->message_type(27);
   static const int GetServerMetaReq_offsets_[1] = {
   };
   GetServerMetaReq_reflection_ =
@@ -637,7 +661,7 @@ void protobuf_AssignDesc_User_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(GetServerMetaReq));
-  ConvertSupport_descriptor_ = file->message_type(27);
+  ConvertSupport_descriptor_ = file->message_type(28);
   static const int ConvertSupport_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ConvertSupport, from_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ConvertSupport, to_),
@@ -653,7 +677,7 @@ void protobuf_AssignDesc_User_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(ConvertSupport));
-  GetServerMetaResp_descriptor_ = file->message_type(28);
+  GetServerMetaResp_descriptor_ = file->message_type(29);
   static const int GetServerMetaResp_offsets_[3] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetServerMetaResp, status_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(GetServerMetaResp, server_meta_),
@@ -670,7 +694,7 @@ void protobuf_AssignDesc_User_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(GetServerMetaResp));
-  ServerMeta_descriptor_ = file->message_type(29);
+  ServerMeta_descriptor_ = file->message_type(30);
   static const int ServerMeta_offsets_[49] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ServerMeta, all_tables_selectable_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ServerMeta, blob_included_in_max_row_size_),
@@ -733,13 +757,14 @@ void protobuf_AssignDesc_User_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(ServerMeta));
-  RunQuery_descriptor_ = file->message_type(30);
-  static const int RunQuery_offsets_[5] = {
+  RunQuery_descriptor_ = file->message_type(31);
+  static const int RunQuery_offsets_[6] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RunQuery, results_mode_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RunQuery, type_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RunQuery, plan_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RunQuery, fragments_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RunQuery, prepared_statement_handle_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RunQuery, parameters_),
   };
   RunQuery_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -831,6 +856,8 @@ void protobuf_RegisterTypes(const ::std::string&) {
     PreparedStatementHandle_descriptor_, &PreparedStatementHandle::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     PreparedStatement_descriptor_, &PreparedStatement::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    PreparedStatementParameter_descriptor_, &PreparedStatementParameter::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     CreatePreparedStatementResp_descriptor_, &CreatePreparedStatementResp::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
@@ -898,6 +925,8 @@ void protobuf_ShutdownFile_User_2eproto() {
   delete PreparedStatementHandle_reflection_;
   delete PreparedStatement::default_instance_;
   delete PreparedStatement_reflection_;
+  delete PreparedStatementParameter::default_instance_;
+  delete PreparedStatementParameter_reflection_;
   delete CreatePreparedStatementResp::default_instance_;
   delete CreatePreparedStatementResp_reflection_;
   delete GetServerMetaReq::default_instance_;
@@ -935,7 +964,7 @@ void protobuf_AddDesc_User_2eproto() {
     "\t\022\024\n\014majorVersion\030\003 \001(\r\022\024\n\014minorVersion\030"
     "\004 \001(\r\022\024\n\014patchVersion\030\005 \001(\r\022\023\n\013applicati"
     "on\030\006 \001(\t\022\023\n\013buildNumber\030\007 \001(\r\022\030\n\020version"
-    "Qualifier\030\010 \001(\t\"\375\002\n\022UserToBitHandshake\022."
+    "Qualifier\030\010 \001(\t\"\270\003\n\022UserToBitHandshake\022."
     "\n\007channel\030\001 \001(\0162\027.exec.shared.RpcChannel"
     ":\004USER\022\031\n\021support_listening\030\002 \001(\010\022\023\n\013rpc"
     "_version\030\003 \001(\005\0221\n\013credentials\030\004 \001(\0132\034.ex"
@@ -944,210 +973,217 @@ void protobuf_AddDesc_User_2eproto() {
     "ort_complex_types\030\006 \001(\010:\005false\022\036\n\017suppor"
     "t_timeout\030\007 \001(\010:\005false\0221\n\014client_infos\030\010"
     " \001(\0132\033.exec.user.RpcEndpointInfos\022,\n\014sas"
-    "l_support\030\t \001(\0162\026.exec.user.SaslSupport\""
-    "S\n\016RequestResults\022&\n\010query_id\030\001 \001(\0132\024.ex"
-    "ec.shared.QueryId\022\031\n\021maximum_responses\030\002"
-    " \001(\005\"g\n\025GetQueryPlanFragments\022\r\n\005query\030\001"
-    " \002(\t\022$\n\004type\030\002 \001(\0162\026.exec.shared.QueryTy"
-    "pe\022\031\n\nsplit_plan\030\003 \001(\010:\005false\"\316\001\n\022QueryP"
-    "lanFragments\0223\n\006status\030\001 \002(\0162#.exec.shar"
-    "ed.QueryResult.QueryState\022&\n\010query_id\030\002 "
-    "\001(\0132\024.exec.shared.QueryId\0221\n\tfragments\030\003"
-    " \003(\0132\036.exec.bit.control.PlanFragment\022(\n\005"
-    "error\030\004 \001(\0132\031.exec.shared.DrillPBError\"\253"
-    "\002\n\022BitToUserHandshake\022\023\n\013rpc_version\030\002 \001"
-    "(\005\022*\n\006status\030\003 \001(\0162\032.exec.user.Handshake"
-    "Status\022\017\n\007errorId\030\004 \001(\t\022\024\n\014errorMessage\030"
-    "\005 \001(\t\0221\n\014server_infos\030\006 \001(\0132\033.exec.user."
-    "RpcEndpointInfos\022 \n\030authenticationMechan"
-    "isms\030\007 \003(\t\022-\n\021supported_methods\030\010 \003(\0162\022."
-    "exec.user.RpcType\022\021\n\tencrypted\030\t \001(\010\022\026\n\016"
-    "maxWrappedSize\030\n \001(\005\"-\n\nLikeFilter\022\017\n\007pa"
-    "ttern\030\001 \001(\t\022\016\n\006escape\030\002 \001(\t\"D\n\016GetCatalo"
-    "gsReq\0222\n\023catalog_name_filter\030\001 \001(\0132\025.exe"
-    "c.user.LikeFilter\"M\n\017CatalogMetadata\022\024\n\014"
-    "catalog_name\030\001 \001(\t\022\023\n\013description\030\002 \001(\t\022"
-    "\017\n\007connect\030\003 \001(\t\"\223\001\n\017GetCatalogsResp\022(\n\006"
-    "status\030\001 \001(\0162\030.exec.user.RequestStatus\022,"
-    "\n\010catalogs\030\002 \003(\0132\032.exec.user.CatalogMeta"
-    "data\022(\n\005error\030\003 \001(\0132\031.exec.shared.DrillP"
-    "BError\"v\n\rGetSchemasReq\0222\n\023catalog_name_"
-    "filter\030\001 \001(\0132\025.exec.user.LikeFilter\0221\n\022s"
-    "chema_name_filter\030\002 \001(\0132\025.exec.user.Like"
-    "Filter\"i\n\016SchemaMetadata\022\024\n\014catalog_name"
-    "\030\001 \001(\t\022\023\n\013schema_name\030\002 \001(\t\022\r\n\005owner\030\003 \001"
-    "(\t\022\014\n\004type\030\004 \001(\t\022\017\n\007mutable\030\005 \001(\t\"\220\001\n\016Ge"
-    "tSchemasResp\022(\n\006status\030\001 \001(\0162\030.exec.user"
-    ".RequestStatus\022*\n\007schemas\030\002 \003(\0132\031.exec.u"
-    "ser.SchemaMetadata\022(\n\005error\030\003 \001(\0132\031.exec"
-    ".shared.DrillPBError\"\302\001\n\014GetTablesReq\0222\n"
-    "\023catalog_name_filter\030\001 \001(\0132\025.exec.user.L"
-    "ikeFilter\0221\n\022schema_name_filter\030\002 \001(\0132\025."
-    "exec.user.LikeFilter\0220\n\021table_name_filte"
-    "r\030\003 \001(\0132\025.exec.user.LikeFilter\022\031\n\021table_"
-    "type_filter\030\004 \003(\t\"\\\n\rTableMetadata\022\024\n\014ca"
-    "talog_name\030\001 \001(\t\022\023\n\013schema_name\030\002 \001(\t\022\022\n"
-    "\ntable_name\030\003 \001(\t\022\014\n\004type\030\004 \001(\t\"\215\001\n\rGetT"
-    "ablesResp\022(\n\006status\030\001 \001(\0162\030.exec.user.Re"
-    "questStatus\022(\n\006tables\030\002 \003(\0132\030.exec.user."
-    "TableMetadata\022(\n\005error\030\003 \001(\0132\031.exec.shar"
-    "ed.DrillPBError\"\333\001\n\rGetColumnsReq\0222\n\023cat"
-    "alog_name_filter\030\001 \001(\0132\025.exec.user.LikeF"
-    "ilter\0221\n\022schema_name_filter\030\002 \001(\0132\025.exec"
-    ".user.LikeFilter\0220\n\021table_name_filter\030\003 "
-    "\001(\0132\025.exec.user.LikeFilter\0221\n\022column_nam"
-    "e_filter\030\004 \001(\0132\025.exec.user.LikeFilter\"\251\003"
-    "\n\016ColumnMetadata\022\024\n\014catalog_name\030\001 \001(\t\022\023"
-    "\n\013schema_name\030\002 \001(\t\022\022\n\ntable_name\030\003 \001(\t\022"
-    "\023\n\013column_name\030\004 \001(\t\022\030\n\020ordinal_position"
-    "\030\005 \001(\005\022\025\n\rdefault_value\030\006 \001(\t\022\023\n\013is_null"
-    "able\030\007 \001(\010\022\021\n\tdata_type\030\010 \001(\t\022\027\n\017char_ma"
-    "x_length\030\t \001(\005\022\031\n\021char_octet_length\030\n \001("
-    "\005\022\031\n\021numeric_precision\030\013 \001(\005\022\037\n\027numeric_"
-    "precision_radix\030\014 \001(\005\022\025\n\rnumeric_scale\030\r"
-    " \001(\005\022\033\n\023date_time_precision\030\016 \001(\005\022\025\n\rint"
-    "erval_type\030\017 \001(\t\022\032\n\022interval_precision\030\020"
-    " \001(\005\022\023\n\013column_size\030\021 \001(\005\"\220\001\n\016GetColumns"
-    "Resp\022(\n\006status\030\001 \001(\0162\030.exec.user.Request"
-    "Status\022*\n\007columns\030\002 \003(\0132\031.exec.user.Colu"
-    "mnMetadata\022(\n\005error\030\003 \001(\0132\031.exec.shared."
-    "DrillPBError\"/\n\032CreatePreparedStatementR"
-    "eq\022\021\n\tsql_query\030\001 \001(\t\"\326\003\n\024ResultColumnMe"
-    "tadata\022\024\n\014catalog_name\030\001 \001(\t\022\023\n\013schema_n"
-    "ame\030\002 \001(\t\022\022\n\ntable_name\030\003 \001(\t\022\023\n\013column_"
-    "name\030\004 \001(\t\022\r\n\005label\030\005 \001(\t\022\021\n\tdata_type\030\006"
-    " \001(\t\022\023\n\013is_nullable\030\007 \001(\010\022\021\n\tprecision\030\010"
-    " \001(\005\022\r\n\005scale\030\t \001(\005\022\016\n\006signed\030\n \001(\010\022\024\n\014d"
-    "isplay_size\030\013 \001(\005\022\022\n\nis_aliased\030\014 \001(\010\0225\n"
-    "\rsearchability\030\r \001(\0162\036.exec.user.ColumnS"
-    "earchability\0223\n\014updatability\030\016 \001(\0162\035.exe"
-    "c.user.ColumnUpdatability\022\026\n\016auto_increm"
-    "ent\030\017 \001(\010\022\030\n\020case_sensitivity\030\020 \001(\010\022\020\n\010s"
-    "ortable\030\021 \001(\010\022\022\n\nclass_name\030\022 \001(\t\022\023\n\013is_"
-    "currency\030\024 \001(\010\".\n\027PreparedStatementHandl"
-    "e\022\023\n\013server_info\030\001 \001(\014\"\200\001\n\021PreparedState"
-    "ment\0220\n\007columns\030\001 \003(\0132\037.exec.user.Result"
-    "ColumnMetadata\0229\n\rserver_handle\030\002 \001(\0132\"."
-    "exec.user.PreparedStatementHandle\"\253\001\n\033Cr"
-    "eatePreparedStatementResp\022(\n\006status\030\001 \001("
-    "\0162\030.exec.user.RequestStatus\0228\n\022prepared_"
-    "statement\030\002 \001(\0132\034.exec.user.PreparedStat"
-    "ement\022(\n\005error\030\003 \001(\0132\031.exec.shared.Drill"
-    "PBError\"\022\n\020GetServerMetaReq\"P\n\016ConvertSu"
-    "pport\022\037\n\004from\030\001 \002(\0162\021.common.MinorType\022\035"
-    "\n\002to\030\002 \002(\0162\021.common.MinorType\"\223\001\n\021GetSer"
-    "verMetaResp\022(\n\006status\030\001 \001(\0162\030.exec.user."
-    "RequestStatus\022*\n\013server_meta\030\002 \001(\0132\025.exe"
-    "c.user.ServerMeta\022(\n\005error\030\003 \001(\0132\031.exec."
-    "shared.DrillPBError\"\377\r\n\nServerMeta\022\035\n\025al"
-    "l_tables_selectable\030\001 \001(\010\022%\n\035blob_includ"
-    "ed_in_max_row_size\030\002 \001(\010\022\030\n\020catalog_at_s"
-    "tart\030\003 \001(\010\022\031\n\021catalog_separator\030\004 \001(\t\022\024\n"
-    "\014catalog_term\030\005 \001(\t\0222\n\017collate_support\030\006"
-    " \003(\0162\031.exec.user.CollateSupport\022!\n\031colum"
-    "n_aliasing_supported\030\007 \001(\010\0222\n\017convert_su"
-    "pport\030\010 \003(\0132\031.exec.user.ConvertSupport\022E"
-    "\n\031correlation_names_support\030\t \001(\0162\".exec"
-    ".user.CorrelationNamesSupport\022\033\n\023date_ti"
-    "me_functions\030\n \003(\t\022F\n\032date_time_literals"
-    "_support\030\013 \003(\0162\".exec.user.DateTimeLiter"
-    "alsSupport\0223\n\020group_by_support\030\014 \001(\0162\031.e"
-    "xec.user.GroupBySupport\0226\n\021identifier_ca"
-    "sing\030\r \001(\0162\033.exec.user.IdentifierCasing\022"
-    "\037\n\027identifier_quote_string\030\016 \001(\t\022$\n\034like"
-    "_escape_clause_supported\030\017 \001(\010\022!\n\031max_bi"
-    "nary_literal_length\030\020 \001(\r\022\037\n\027max_catalog"
-    "_name_length\030\021 \001(\r\022\037\n\027max_char_literal_l"
-    "ength\030\022 \001(\r\022\036\n\026max_column_name_length\030\023 "
-    "\001(\r\022\037\n\027max_columns_in_group_by\030\024 \001(\r\022\037\n\027"
-    "max_columns_in_order_by\030\025 \001(\r\022\035\n\025max_col"
-    "umns_in_select\030\026 \001(\r\022\036\n\026max_cursor_name_"
-    "length\030\027 \001(\r\022\034\n\024max_logical_lob_size\030\030 \001"
-    "(\r\022\024\n\014max_row_size\030\031 \001(\r\022\036\n\026max_schema_n"
-    "ame_length\030\032 \001(\r\022\034\n\024max_statement_length"
-    "\030\033 \001(\r\022\026\n\016max_statements\030\034 \001(\r\022\035\n\025max_ta"
-    "ble_name_length\030\035 \001(\r\022\034\n\024max_tables_in_s"
-    "elect\030\036 \001(\r\022\034\n\024max_user_name_length\030\037 \001("
-    "\r\0220\n\016null_collation\030  \001(\0162\030.exec.user.Nu"
-    "llCollation\022&\n\036null_plus_non_null_equals"
-    "_null\030! \001(\010\022\031\n\021numeric_functions\030\" \003(\t\0223"
-    "\n\020order_by_support\030# \003(\0162\031.exec.user.Ord"
-    "erBySupport\0227\n\022outer_join_support\030$ \003(\0162"
-    "\033.exec.user.OuterJoinSupport\022=\n\030quoted_i"
-    "dentifier_casing\030% \001(\0162\033.exec.user.Ident"
-    "ifierCasing\022\021\n\tread_only\030& \001(\010\022\023\n\013schema"
-    "_term\030\' \001(\t\022\034\n\024search_escape_string\030( \001("
-    "\t\022#\n\033select_for_update_supported\030) \001(\010\022\032"
-    "\n\022special_characters\030* \001(\t\022\024\n\014sql_keywor"
-    "ds\030+ \003(\t\022\030\n\020string_functions\030, \003(\t\0224\n\020su"
-    "bquery_support\030- \003(\0162\032.exec.user.SubQuer"
-    "ySupport\022\030\n\020system_functions\030. \003(\t\022\022\n\nta"
-    "ble_term\030/ \001(\t\022\035\n\025transaction_supported\030"
-    "0 \001(\010\022.\n\runion_support\0301 \003(\0162\027.exec.user"
-    ".UnionSupport\"\353\001\n\010RunQuery\0221\n\014results_mo"
-    "de\030\001 \001(\0162\033.exec.user.QueryResultsMode\022$\n"
-    "\004type\030\002 \001(\0162\026.exec.shared.QueryType\022\014\n\004p"
-    "lan\030\003 \001(\t\0221\n\tfragments\030\004 \003(\0132\036.exec.bit."
-    "control.PlanFragment\022E\n\031prepared_stateme"
-    "nt_handle\030\005 \001(\0132\".exec.user.PreparedStat"
-    "ementHandle*\320\003\n\007RpcType\022\r\n\tHANDSHAKE\020\000\022\007"
-    "\n\003ACK\020\001\022\013\n\007GOODBYE\020\002\022\r\n\tRUN_QUERY\020\003\022\020\n\014C"
-    "ANCEL_QUERY\020\004\022\023\n\017REQUEST_RESULTS\020\005\022\027\n\023RE"
-    "SUME_PAUSED_QUERY\020\013\022\034\n\030GET_QUERY_PLAN_FR"
-    "AGMENTS\020\014\022\020\n\014GET_CATALOGS\020\016\022\017\n\013GET_SCHEM"
-    "AS\020\017\022\016\n\nGET_TABLES\020\020\022\017\n\013GET_COLUMNS\020\021\022\035\n"
-    "\031CREATE_PREPARED_STATEMENT\020\026\022\023\n\017GET_SERV"
-    "ER_META\020\010\022\016\n\nQUERY_DATA\020\006\022\020\n\014QUERY_HANDL"
-    "E\020\007\022\030\n\024QUERY_PLAN_FRAGMENTS\020\r\022\014\n\010CATALOG"
-    "S\020\022\022\013\n\007SCHEMAS\020\023\022\n\n\006TABLES\020\024\022\013\n\007COLUMNS\020"
-    "\025\022\026\n\022PREPARED_STATEMENT\020\027\022\017\n\013SERVER_META"
-    "\020\t\022\020\n\014QUERY_RESULT\020\n\022\020\n\014SASL_MESSAGE\020\030*H"
-    "\n\013SaslSupport\022\030\n\024UNKNOWN_SASL_SUPPORT\020\000\022"
-    "\r\n\tSASL_AUTH\020\001\022\020\n\014SASL_PRIVACY\020\002*#\n\020Quer"
-    "yResultsMode\022\017\n\013STREAM_FULL\020\001*q\n\017Handsha"
-    "keStatus\022\013\n\007SUCCESS\020\001\022\030\n\024RPC_VERSION_MIS"
-    "MATCH\020\002\022\017\n\013AUTH_FAILED\020\003\022\023\n\017UNKNOWN_FAIL"
-    "URE\020\004\022\021\n\rAUTH_REQUIRED\020\005*D\n\rRequestStatu"
-    "s\022\022\n\016UNKNOWN_STATUS\020\000\022\006\n\002OK\020\001\022\n\n\006FAILED\020"
-    "\002\022\013\n\007TIMEOUT\020\003*Y\n\023ColumnSearchability\022\031\n"
-    "\025UNKNOWN_SEARCHABILITY\020\000\022\010\n\004NONE\020\001\022\010\n\004CH"
-    "AR\020\002\022\n\n\006NUMBER\020\003\022\007\n\003ALL\020\004*K\n\022ColumnUpdat"
-    "ability\022\030\n\024UNKNOWN_UPDATABILITY\020\000\022\r\n\tREA"
-    "D_ONLY\020\001\022\014\n\010WRITABLE\020\002*1\n\016CollateSupport"
-    "\022\016\n\nCS_UNKNOWN\020\000\022\017\n\013CS_GROUP_BY\020\001*J\n\027Cor"
-    "relationNamesSupport\022\013\n\007CN_NONE\020\001\022\026\n\022CN_"
-    "DIFFERENT_NAMES\020\002\022\n\n\006CN_ANY\020\003*\271\003\n\027DateTi"
-    "meLiteralsSupport\022\016\n\nDL_UNKNOWN\020\000\022\013\n\007DL_"
-    "DATE\020\001\022\013\n\007DL_TIME\020\002\022\020\n\014DL_TIMESTAMP\020\003\022\024\n"
-    "\020DL_INTERVAL_YEAR\020\004\022\025\n\021DL_INTERVAL_MONTH"
-    "\020\005\022\023\n\017DL_INTERVAL_DAY\020\006\022\024\n\020DL_INTERVAL_H"
-    "OUR\020\007\022\026\n\022DL_INTERVAL_MINUTE\020\010\022\026\n\022DL_INTE"
-    "RVAL_SECOND\020\t\022\035\n\031DL_INTERVAL_YEAR_TO_MON"
-    "TH\020\n\022\033\n\027DL_INTERVAL_DAY_TO_HOUR\020\013\022\035\n\031DL_"
-    "INTERVAL_DAY_TO_MINUTE\020\014\022\035\n\031DL_INTERVAL_"
-    "DAY_TO_SECOND\020\r\022\036\n\032DL_INTERVAL_HOUR_TO_M"
-    "INUTE\020\016\022\036\n\032DL_INTERVAL_HOUR_TO_SECOND\020\017\022"
-    " \n\034DL_INTERVAL_MINUTE_TO_SECOND\020\020*Y\n\016Gro"
-    "upBySupport\022\013\n\007GB_NONE\020\001\022\022\n\016GB_SELECT_ON"
-    "LY\020\002\022\024\n\020GB_BEYOND_SELECT\020\003\022\020\n\014GB_UNRELAT"
-    "ED\020\004*x\n\020IdentifierCasing\022\016\n\nIC_UNKNOWN\020\000"
-    "\022\023\n\017IC_STORES_LOWER\020\001\022\023\n\017IC_STORES_MIXED"
-    "\020\002\022\023\n\017IC_STORES_UPPER\020\003\022\025\n\021IC_SUPPORTS_M"
-    "IXED\020\004*X\n\rNullCollation\022\016\n\nNC_UNKNOWN\020\000\022"
-    "\017\n\013NC_AT_START\020\001\022\r\n\tNC_AT_END\020\002\022\013\n\007NC_HI"
-    "GH\020\003\022\n\n\006NC_LOW\020\004*E\n\016OrderBySupport\022\016\n\nOB"
-    "_UNKNOWN\020\000\022\020\n\014OB_UNRELATED\020\001\022\021\n\rOB_EXPRE"
-    "SSION\020\002*\226\001\n\020OuterJoinSupport\022\016\n\nOJ_UNKNO"
-    "WN\020\000\022\013\n\007OJ_LEFT\020\001\022\014\n\010OJ_RIGHT\020\002\022\013\n\007OJ_FU"
-    "LL\020\003\022\r\n\tOJ_NESTED\020\004\022\022\n\016OJ_NOT_ORDERED\020\005\022"
-    "\014\n\010OJ_INNER\020\006\022\031\n\025OJ_ALL_COMPARISON_OPS\020\007"
-    "*\204\001\n\017SubQuerySupport\022\016\n\nSQ_UNKNOWN\020\000\022\021\n\r"
-    "SQ_CORRELATED\020\001\022\024\n\020SQ_IN_COMPARISON\020\002\022\020\n"
-    "\014SQ_IN_EXISTS\020\003\022\020\n\014SQ_IN_INSERT\020\004\022\024\n\020SQ_"
-    "IN_QUANTIFIED\020\005*;\n\014UnionSupport\022\r\n\tU_UNK"
-    "NOWN\020\000\022\013\n\007U_UNION\020\001\022\017\n\013U_UNION_ALL\020\002B+\n\033"
-    "org.apache.drill.exec.protoB\nUserProtosH"
-    "\001", 8881);
+    "l_support\030\t \001(\0162\026.exec.user.SaslSupport\022"
+    "9\n\022result_compression\030\n \001(\0162\035.exec.share"
+    "d.CompressionCodec\"S\n\016RequestResults\022&\n\010"
+    "query_id\030\001 \001(\0132\024.exec.shared.QueryId\022\031\n\021"
+    "maximum_responses\030\002 \001(\005\"g\n\025GetQueryPlanF"
+    "ragments\022\r\n\005query\030\001 \002(\t\022$\n\004type\030\002 \001(\0162\026."
+    "exec.shared.QueryType\022\031\n\nsplit_plan\030\003 \001("
+    "\010:\005false\"\316\001\n\022QueryPlanFragments\0223\n\006statu"
+    "s\030\001 \002(\0162#.exec.shared.QueryResult.QueryS"
+    "tate\022&\n\010query_id\030\002 \001(\0132\024.exec.shared.Que"
+    "ryId\0221\n\tfragments\030\003 \003(\0132\036.exec.bit.contr"
+    "ol.PlanFragment\022(\n\005error\030\004 \001(\0132\031.exec.sh"
+    "ared.DrillPBError\"\346\002\n\022BitToUserHandshake"
+    "\022\023\n\013rpc_version\030\002 \001(\005\022*\n\006status\030\003 \001(\0162\032."
+    "exec.user.HandshakeStatus\022\017\n\007errorId\030\004 \001"
+    "(\t\022\024\n\014errorMessage\030\005 \001(\t\0221\n\014server_infos"
+    "\030\006 \001(\0132\033.exec.user.RpcEndpointInfos\022 \n\030a"
+    "uthenticationMechanisms\030\007 \003(\t\022-\n\021support"
+    "ed_methods\030\010 \003(\0162\022.exec.user.RpcType\022\021\n\t"
+    "encrypted\030\t \001(\010\022\026\n\016maxWrappedSize\030\n \001(\005\022"
+    "9\n\022result_compression\030\013 \001(\0162\035.exec.share"
+    "d.CompressionCodec\"-\n\nLikeFilter\022\017\n\007patt"
+    "ern\030\001 \001(\t\022\016\n\006escape\030\002 \001(\t\"D\n\016GetCatalogs"
+    "Req\0222\n\023catalog_name_filter\030\001 \001(\0132\025.exec."
+    "user.LikeFilter\"M\n\017CatalogMetadata\022\024\n\014ca"
+    "talog_name\030\001 \001(\t\022\023\n\013description\030\002 \001(\t\022\017\n"
+    "\007connect\030\003 \001(\t\"\223\001\n\017GetCatalogsResp\022(\n\006st"
+    "atus\030\001 \001(\0162\030.exec.user.RequestStatus\022,\n\010"
+    "catalogs\030\002 \003(\0132\032.exec.user.CatalogMetada"
+    "ta\022(\n\005error\030\003 \001(\0132\031.exec.shared.DrillPBE"
+    "rror\"v\n\rGetSchemasReq\0222\n\023catalog_name_fi"
+    "lter\030\001 \001(\0132\025.exec.user.LikeFilter\0221\n\022sch"
+    "ema_name_filter\030\002 \001(\0132\025.exec.user.LikeFi"
+    "lter\"i\n\016SchemaMetadata\022\024\n\014catalog_name\030\001"
+    " \001(\t\022\023\n\013schema_name\030\002 \001(\t\022\r\n\005owner\030\003 \001(\t"
+    "\022\014\n\004type\030\004 \001(\t\022\017\n\007mutable\030\005 \001(\t\"\220\001\n\016GetS"
+    "chemasResp\022(\n\006status\030\001 \001(\0162\030.exec.user.R"
+    "equestStatus\022*\n\007schemas\030\002 \003(\0132\031.exec.use"
+    "r.SchemaMetadata\022(\n\005error\030\003 \001(\0132\031.exec.s"
+    "hared.DrillPBError\"\302\001\n\014GetTablesReq\0222\n\023c"
+    "atalog_name_filter\030\001 \001(\0132\025.exec.user.Lik"
+    "eFilter\0221\n\022schema_name_filter\030\002 \001(\0132\025.ex"
+    "ec.user.LikeFilter\0220\n\021table_name_filter\030"
+    "\003 \001(\0132\025.exec.user.LikeFilter\022\031\n\021table_ty"
+    "pe_filter\030\004 \003(\t\"\\\n\rTableMetadata\022\024\n\014cata"
+    "log_name\030\001 \001(\t\022\023\n\013schema_name\030\002 \001(\t\022\022\n\nt"
+    "able_name\030\003 \001(\t\022\014\n\004type\030\004 \001(\t\"\215\001\n\rGetTab"
+    "lesResp\022(\n\006status\030\001 \001(\0162\030.exec.user.Requ"
+    "estStatus\022(\n\006tables\030\002 \003(\0132\030.exec.user.Ta"
+    "bleMetadata\022(\n\005error\030\003 \001(\0132\031.exec.shared"
+    ".DrillPBError\"\333\001\n\rGetColumnsReq\0222\n\023catal"
+    "og_name_filter\030\001 \001(\0132\025.exec.user.LikeFil"
+    "ter\0221\n\022schema_name_filter\030\002 \001(\0132\025.exec.u"
+    "ser.LikeFilter\0220\n\021table_name_filter\030\003 \001("
+    "\0132\025.exec.user.LikeFilter\0221\n\022column_name_"
+    "filter\030\004 \001(\0132\025.exec.user.LikeFilter\"\251\003\n\016"
+    "ColumnMetadata\022\024\n\014catalog_name\030\001 \001(\t\022\023\n\013"
+    "schema_name\030\002 \001(\t\022\022\n\ntable_name\030\003 \001(\t\022\023\n"
+    "\013column_name\030\004 \001(\t\022\030\n\020ordinal_position\030\005"
+    " \001(\005\022\025\n\rdefault_value\030\006 \001(\t\022\023\n\013is_nullab"
+    "le\030\007 \001(\010\022\021\n\tdata_type\030\010 \001(\t\022\027\n\017char_max_"
+    "length\030\t \001(\005\022\031\n\021char_octet_length\030\n \001(\005\022"
+    "\031\n\021numeric_precision\030\013 \001(\005\022\037\n\027numeric_pr"
+    "ecision_radix\030\014 \001(\005\022\025\n\rnumeric_scale\030\r \001"
+    "(\005\022\033\n\023date_time_precision\030\016 \001(\005\022\025\n\rinter"
+    "val_type\030\017 \001(\t\022\032\n\022interval_precision\030\020 \001"
+    "(\005\022\023\n\013column_size\030\021 \001(\005\"\220\001\n\016GetColumnsRe"
+    "sp\022(\n\006status\030\001 \001(\0162\030.exec.user.RequestSt"
+    "atus\022*\n\007columns\030\002 \003(\0132\031.exec.user.Column"
+    "Metadata\022(\n\005error\030\003 \001(\0132\031.exec.shared.Dr"
+    "illPBError\"/\n\032CreatePreparedStatementReq"
+    "\022\021\n\tsql_query\030\001 \001(\t\"\326\003\n\024ResultColumnMeta"
+    "data\022\024\n\014catalog_name\030\001 \001(\t\022\023\n\013schema_nam"
+    "e\030\002 \001(\t\022\022\n\ntable_name\030\003 \001(\t\022\023\n\013column_na"
+    "me\030\004 \001(\t\022\r\n\005label\030\005 \001(\t\022\021\n\tdata_type\030\006 \001"
+    "(\t\022\023\n\013is_nullable\030\007 \001(\010\022\021\n\tprecision\030\010 \001"
+    "(\005\022\r\n\005scale\030\t \001(\005\022\016\n\006signed\030\n \001(\010\022\024\n\014dis"
+    "play_size\030\013 \001(\005\022\022\n\nis_aliased\030\014 \001(\010\0225\n\rs"
+    "earchability\030\r \001(\0162\036.exec.user.ColumnSea"
+    "rchability\0223\n\014updatability\030\016 \001(\0162\035.exec."
+    "user.ColumnUpdatability\022\026\n\016auto_incremen"
+    "t\030\017 \001(\010\022\030\n\020case_sensitivity\030\020 \001(\010\022\020\n\010sor"
+    "table\030\021 \001(\010\022\022\n\nclass_name\030\022 \001(\t\022\023\n\013is_cu"
+    "rrency\030\024 \001(\010\".\n\027PreparedStatementHandle\022"
+    "\023\n\013server_info\030\001 \001(\014\"\231\001\n\021PreparedStateme"
+    "nt\0220\n\007columns\030\001 \003(\0132\037.exec.user.ResultCo"
+    "lumnMetadata\0229\n\rserver_handle\030\002 \001(\0132\".ex"
+    "ec.user.PreparedStatementHandle\022\027\n\017param"
+    "eter_count\030\003 \001(\005\"p\n\032PreparedStatementPar"
+    "ameter\022\022\n\nbool_value\030\001 \001(\010\022\022\n\nlong_value"
+    "\030\002 \001(\022\022\024\n\014double_value\030\003 \001(\001\022\024\n\014string_v"
+    "alue\030\004 \001(\t\"\253\001\n\033CreatePreparedStatementRe"
+    "sp\022(\n\006status\030\001 \001(\0162\030.exec.user.RequestSt"
+    "atus\0228\n\022prepared_statement\030\002 \001(\0132\034.exec."
+    "user.PreparedStatement\022(\n\005error\030\003 \001(\0132\031."
+    "exec.shared.DrillPBError\"\022\n\020GetServerMet"
+    "aReq\"P\n\016ConvertSupport\022\037\n\004from\030\001 \002(\0162\021.c"
+    "ommon.MinorType\022\035\n\002to\030\002 \002(\0162\021.common.Min"
+    "orType\"\223\001\n\021GetServerMetaResp\022(\n\006status\030\001"
+    " \001(\0162\030.exec.user.RequestStatus\022*\n\013server"
+    "_meta\030\002 \001(\0132\025.exec.user.ServerMeta\022(\n\005er"
+    "ror\030\003 \001(\0132\031.exec.shared.DrillPBError\"\377\r\n"
+    "\nServerMeta\022\035\n\025all_tables_selectable\030\001 \001"
+    "(\010\022%\n\035blob_included_in_max_row_size\030\002 \001("
+    "\010\022\030\n\020catalog_at_start\030\003 \001(\010\022\031\n\021catalog_s"
+    "eparator\030\004 \001(\t\022\024\n\014catalog_term\030\005 \001(\t\0222\n\017"
+    "collate_support\030\006 \003(\0162\031.exec.user.Collat"
+    "eSupport\022!\n\031column_aliasing_supported\030\007 "
+    "\001(\010\0222\n\017convert_support\030\010 \003(\0132\031.exec.user"
+    ".ConvertSupport\022E\n\031correlation_names_sup"
+    "port\030\t \001(\0162\".exec.user.CorrelationNamesS"
+    "upport\022\033\n\023date_time_functions\030\n \003(\t\022F\n\032d"
+    "ate_time_literals_support\030\013 \003(\0162\".exec.u"
+    "ser.DateTimeLiteralsSupport\0223\n\020group_by_"
+    "support\030\014 \001(\0162\031.exec.user.GroupBySupport"
+    "\0226\n\021identifier_casing\030\r \001(\0162\033.exec.user."
+    "IdentifierCasing\022\037\n\027identifier_quote_str"
+    "ing\030\016 \001(\t\022$\n\034like_escape_clause_supporte"
+    "d\030\017 \001(\010\022!\n\031max_binary_literal_length\030\020 \001"
+    "(\r\022\037\n\027max_catalog_name_length\030\021 \001(\r\022\037\n\027m"
+    "ax_char_literal_length\030\022 \001(\r\022\036\n\026max_colu"
+    "mn_name_length\030\023 \001(\r\022\037\n\027max_columns_in_g"
+    "roup_by\030\024 \001(\r\022\037\n\027max_columns_in_order_by"
+    "\030\025 \001(\r\022\035\n\025max_columns_in_select\030\026 \001(\r\022\036\n"
+    "\026max_cursor_name_length\030\027 \001(\r\022\034\n\024max_log"
+    "ical_lob_size\030\030 \001(\r\022\024\n\014max_row_size\030\031 \001("
+    "\r\022\036\n\026max_schema_name_length\030\032 \001(\r\022\034\n\024max"
+    "_statement_length\030\033 \001(\r\022\026\n\016max_statement"
+    "s\030\034 \001(\r\022\035\n\025max_table_name_length\030\035 \001(\r\022\034"
+    "\n\024max_tables_in_select\030\036 \001(\r\022\034\n\024max_user"
+    "_name_length\030\037 \001(\r\0220\n\016null_collation\030  \001"
+    "(\0162\030.exec.user.NullCollation\022&\n\036null_plu"
+    "s_non_null_equals_null\030! \001(\010\022\031\n\021numeric_"
+    "functions\030\" \003(\t\0223\n\020order_by_support\030# \003("
+    "\0162\031.exec.user.OrderBySupport\0227\n\022outer_jo"
+    "in_support\030$ \003(\0162\033.exec.user.OuterJoinSu"
+    "pport\022=\n\030quoted_identifier_casing\030% \001(\0162"
+    "\033.exec.user.IdentifierCasing\022\021\n\tread_onl"
+    "y\030& \001(\010\022\023\n\013schema_term\030\' \001(\t\022\034\n\024search_e"
+    "scape_string\030( \001(\t\022#\n\033select_for_update_"
+    "supported\030) \001(\010\022\032\n\022special_characters\030* "
+    "\001(\t\022\024\n\014sql_keywords\030+ \003(\t\022\030\n\020string_func"
+    "tions\030, \003(\t\0224\n\020subquery_support\030- \003(\0162\032."
+    "exec.user.SubQuerySupport\022\030\n\020system_func"
+    "tions\030. \003(\t\022\022\n\ntable_term\030/ \001(\t\022\035\n\025trans"
+    "action_supported\0300 \001(\010\022.\n\runion_support\030"
+    "1 \003(\0162\027.exec.user.UnionSupport\"\246\002\n\010RunQu"
+    "ery\0221\n\014results_mode\030\001 \001(\0162\033.exec.user.Qu"
+    "eryResultsMode\022$\n\004type\030\002 \001(\0162\026.exec.shar"
+    "ed.QueryType\022\014\n\004plan\030\003 \001(\t\0221\n\tfragments\030"
+    "\004 \003(\0132\036.exec.bit.control.PlanFragment\022E\n"
+    "\031prepared_statement_handle\030\005 \001(\0132\".exec."
+    "user.PreparedStatementHandle\0229\n\nparamete"
+    "rs\030\006 \003(\0132%.exec.user.PreparedStatementPa"
+    "rameter*\320\003\n\007RpcType\022\r\n\tHANDSHAKE\020\000\022\007\n\003AC"
+    "K\020\001\022\013\n\007GOODBYE\020\002\022\r\n\tRUN_QUERY\020\003\022\020\n\014CANCE"
+    "L_QUERY\020\004\022\023\n\017REQUEST_RESULTS\020\005\022\027\n\023RESUME"
+    "_PAUSED_QUERY\020\013\022\034\n\030GET_QUERY_PLAN_FRAGME"
+    "NTS\020\014\022\020\n\014GET_CATALOGS\020\016\022\017\n\013GET_SCHEMAS\020\017"
+    "\022\016\n\nGET_TABLES\020\020\022\017\n\013GET_COLUMNS\020\021\022\035\n\031CRE"
+    "ATE_PREPARED_STATEMENT\020\026\022\023\n\017GET_SERVER_M"
+    "ETA\020\010\022\016\n\nQUERY_DATA\020\006\022\020\n\014QUERY_HANDLE\020\007\022"
+    "\030\n\024QUERY_PLAN_FRAGMENTS\020\r\022\014\n\010CATALOGS\020\022\022"
+    "\013\n\007SCHEMAS\020\023\022\n\n\006TABLES\020\024\022\013\n\007COLUMNS\020\025\022\026\n"
+    "\022PREPARED_STATEMENT\020\027\022\017\n\013SERVER_META\020\t\022\020"
+    "\n\014QUERY_RESULT\020\n\022\020\n\014SASL_MESSAGE\020\030*H\n\013Sa"
+    "slSupport\022\030\n\024UNKNOWN_SASL_SUPPORT\020\000\022\r\n\tS"
+    "ASL_AUTH\020\001\022\020\n\014SASL_PRIVACY\020\002*#\n\020QueryRes"
+    "ultsMode\022\017\n\013STREAM_FULL\020\001*q\n\017HandshakeSt"
+    "atus\022\013\n\007SUCCESS\020\001\022\030\n\024RPC_VERSION_MISMATC"
+    "H\020\002\022\017\n\013AUTH_FAILED\020\003\022\023\n\017UNKNOWN_FAILURE\020"
+    "\004\022\021\n\rAUTH_REQUIRED\020\005*D\n\rRequestStatus\022\022\n"
+    "\016UNKNOWN_STATUS\020\000\022\006\n\002OK\020\001\022\n\n\006FAILED\020\002\022\013\n"
+    "\007TIMEOUT\020\003*Y\n\023ColumnSearchability\022\031\n\025UNK"
+    "NOWN_SEARCHABILITY\020\000\022\010\n\004NONE\020\001\022\010\n\004CHAR\020\002"
+    "\022\n\n\006NUMBER\020\003\022\007\n\003ALL\020\004*K\n\022ColumnUpdatabil"
+    "ity\022\030\n\024UNKNOWN_UPDATABILITY\020\000\022\r\n\tREAD_ON"
+    "LY\020\001\022\014\n\010WRITABLE\020\002*1\n\016CollateSupport\022\016\n\n"
+    "CS_UNKNOWN\020\000\022\017\n\013CS_GROUP_BY\020\001*J\n\027Correla"
+    "tionNamesSupport\022\013\n\007CN_NONE\020\001\022\026\n\022CN_DIFF"
+    "ERENT_NAMES\020\002\022\n\n\006CN_ANY\020\003*\271\003\n\027DateTimeLi"
+    "teralsSupport\022\016\n\nDL_UNKNOWN\020\000\022\013\n\007DL_DATE"
+    "\020\001\022\013\n\007DL_TIME\020\002\022\020\n\014DL_TIMESTAMP\020\003\022\024\n\020DL_"
+    "INTERVAL_YEAR\020\004\022\025\n\021DL_INTERVAL_MONTH\020\005\022\023"
+    "\n\017DL_INTERVAL_DAY\020\006\022\024\n\020DL_INTERVAL_HOUR\020"
+    "\007\022\026\n\022DL_INTERVAL_MINUTE\020\010\022\026\n\022DL_INTERVAL"
+    "_SECOND\020\t\022\035\n\031DL_INTERVAL_YEAR_TO_MONTH\020\n"
+    "\022\033\n\027DL_INTERVAL_DAY_TO_HOUR\020\013\022\035\n\031DL_INTE"
+    "RVAL_DAY_TO_MINUTE\020\014\022\035\n\031DL_INTERVAL_DAY_"
+    "TO_SECOND\020\r\022\036\n\032DL_INTERVAL_HOUR_TO_MINUT"
+    "E\020\016\022\036\n\032DL_INTERVAL_HOUR_TO_SECOND\020\017\022 \n\034D"
+    "L_INTERVAL_MINUTE_TO_SECOND\020\020*Y\n\016GroupBy"
+    "Support\022\013\n\007GB_NONE\020\001\022\022\n\016GB_SELECT_ONLY\020\002"
+    "\022\024\n\020GB_BEYOND_SELECT\020\003\022\020\n\014GB_UNRELATED\020\004"
+    "*x\n\020IdentifierCasing\022\016\n\nIC_UNKNOWN\020\000\022\023\n\017"
+    "IC_STORES_LOWER\020\001\022\023\n\017IC_STORES_MIXED\020\002\022\023"
+    "\n\017IC_STORES_UPPER\020\003\022\025\n\021IC_SUPPORTS_MIXED"
+    "\020\004*X\n\rNullCollation\022\016\n\nNC_UNKNOWN\020\000\022\017\n\013N"
+    "C_AT_START\020\001\022\r\n\tNC_AT_END\020\002\022\013\n\007NC_HIGH\020\003"
+    "\022\n\n\006NC_LOW\020\004*E\n\016OrderBySupport\022\016\n\nOB_UNK"
+    "NOWN\020\000\022\020\n\014OB_UNRELATED\020\001\022\021\n\rOB_EXPRESSIO"
+    "N\020\002*\226\001\n\020OuterJoinSupport\022\016\n\nOJ_UNKNOWN\020\000"
+    "\022\013\n\007OJ_LEFT\020\001\022\014\n\010OJ_RIGHT\020\002\022\013\n\007OJ_FULL\020\003"
+    "\022\r\n\tOJ_NESTED\020\004\022\022\n\016OJ_NOT_ORDERED\020\005\022\014\n\010O"
+    "J_INNER\020\006\022\031\n\025OJ_ALL_COMPARISON_OPS\020\007*\204\001\n"
+    "\017SubQuerySupport\022\016\n\nSQ_UNKNOWN\020\000\022\021\n\rSQ_C"
+    "ORRELATED\020\001\022\024\n\020SQ_IN_COMPARISON\020\002\022\020\n\014SQ_"
+    "IN_EXISTS\020\003\022\020\n\014SQ_IN_INSERT\020\004\022\024\n\020SQ_IN_Q"
+    "UANTIFIED\020\005*;\n\014UnionSupport\022\r\n\tU_UNKNOWN"
+    "\020\000\022\013\n\007U_UNION\020\001\022\017\n\013U_UNION_ALL\020\002B+\n\033org."
+    "apache.drill.exec.protoB\nUserProtosH\001", 9197);
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
     "User.proto", &protobuf_RegisterTypes);
   Property::default_instance_ = new Property();
@@ -1175,6 +1211,7 @@ void protobuf_AddDesc_User_2eproto() {
   ResultColumnMetadata::default_instance_ = new ResultColumnMetadata();
   PreparedStatementHandle::default_instance_ = new PreparedStatementHandle();
   PreparedStatement::default_instance_ = new PreparedStatement();
+  PreparedStatementParameter::default_instance_ = new PreparedStatementParameter();
   CreatePreparedStatementResp::default_instance_ = new CreatePreparedStatementResp();
   GetServerMetaReq::default_instance_ = new GetServerMetaReq();
   ConvertSupport::default_instance_ = new ConvertSupport();
@@ -1206,6 +1243,7 @@ void protobuf_AddDesc_User_2eproto() {
   ResultColumnMetadata::default_instance_->InitAsDefaultInstance();
   PreparedStatementHandle::default_instance_->InitAsDefaultInstance();
   PreparedStatement::default_instance_->InitAsDefaultInstance();
+  PreparedStatementParameter::default_instance_->InitAsDefaultInstance();
   CreatePreparedStatementResp::default_instance_->InitAsDefaultInstance();
   GetServerMetaReq::default_instance_->InitAsDefaultInstance();
   ConvertSupport::default_instance_->InitAsDefaultInstance();
@@ -2585,6 +2623,7 @@ const int UserToBitHandshake::kSupportComplexTypesFieldNumber;
 const int UserToBitHandshake::kSupportTimeoutFieldNumber;
 const int UserToBitHandshake::kClientInfosFieldNumber;
 const int UserToBitHandshake::kSaslSupportFieldNumber;
+const int UserToBitHandshake::kResultCompressionFieldNumber;
 #endif  // !_MSC_VER
 
 UserToBitHandshake::UserToBitHandshake()
@@ -2615,6 +2654,7 @@ void UserToBitHandshake::SharedCtor() {
   support_timeout_ = false;
   client_infos_ = NULL;
   sasl_support_ = 0;
+  result_compression_ = 0;
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
@@ -2670,6 +2710,7 @@ void UserToBitHandshake::Clear() {
   }
   if (_has_bits_[8 / 32] & (0xffu << (8 % 32))) {
     sasl_support_ = 0;
+    result_compression_ = 0;
   }
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
@@ -2824,6 +2865,27 @@ bool UserToBitHandshake::MergePartialFromCodedStream(
         } else {
           goto handle_uninterpreted;
         }
+        if (input->ExpectTag(80)) goto parse_result_compression;
+        break;
+      }
+
+      // optional .exec.shared.CompressionCodec result_compression = 10;
+      case 10: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_result_compression:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::exec::shared::CompressionCodec_IsValid(value)) {
+            set_result_compression(static_cast< ::exec::shared::CompressionCodec >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(10, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
         if (input->ExpectAtEnd()) return true;
         break;
       }
@@ -2896,6 +2958,12 @@ void UserToBitHandshake::SerializeWithCachedSizes(
       9, this->sasl_support(), output);
   }
 
+  // optional .exec.shared.CompressionCodec result_compression = 10;
+  if (has_result_compression()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      10, this->result_compression(), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -2957,6 +3025,12 @@ void UserToBitHandshake::SerializeWithCachedSizes(
       9, this->sasl_support(), target);
   }
 
+  // optional .exec.shared.CompressionCodec result_compression = 10;
+  if (has_result_compression()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      10, this->result_compression(), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -3025,6 +3099,12 @@ int UserToBitHandshake::ByteSize() const {
         ::google::protobuf::internal::WireFormatLite::EnumSize(this->sasl_support());
     }
 
+    // optional .exec.shared.CompressionCodec result_compression = 10;
+    if (has_result_compression()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->result_compression());
+    }
+
   }
   if (!unknown_fields().empty()) {
     total_size +=
@@ -3081,6 +3161,9 @@ void UserToBitHandshake::MergeFrom(const UserToBitHandshake& from) {
     if (from.has_sasl_support()) {
       set_sasl_support(from.sasl_support());
     }
+    if (from.has_result_compression()) {
+      set_result_compression(from.result_compression());
+    }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
@@ -3116,6 +3199,7 @@ void UserToBitHandshake::Swap(UserToBitHandshake* other) {
     std::swap(support_timeout_, other->support_timeout_);
     std::swap(client_infos_, other->client_infos_);
     std::swap(sasl_support_, other->sasl_support_);
+    std::swap(result_compression_, other->result_compression_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
@@ -4051,6 +4135,7 @@ const int BitToUserHandshake::kAuthenticationMechanismsFieldNumber;
 const int BitToUserHandshake::kSupportedMethodsFieldNumber;
 const int BitToUserHandshake::kEncryptedFieldNumber;
 const int BitToUserHandshake::kMaxWrappedSizeFieldNumber;
+const int BitToUserHandshake::kResultCompressionFieldNumber;
 #endif  // !_MSC_VER
 
 BitToUserHandshake::BitToUserHandshake()
@@ -4077,6 +4162,7 @@ void BitToUserHandshake::SharedCtor() {
   server_infos_ = NULL;
   encrypted_ = false;
   maxwrappedsize_ = 0;
+  result_compression_ = 0;
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
@@ -4138,6 +4224,7 @@ void BitToUserHandshake::Clear() {
   }
   if (_has_bits_[8 / 32] & (0xffu << (8 % 32))) {
     maxwrappedsize_ = 0;
+    result_compression_ = 0;
   }
   authenticationmechanisms_.Clear();
   supported_methods_.Clear();
@@ -4311,6 +4398,27 @@ bool BitToUserHandshake::MergePartialFromCodedStream(
         } else {
           goto handle_uninterpreted;
         }
+        if (input->ExpectTag(88)) goto parse_result_compression;
+        break;
+      }
+
+      // optional .exec.shared.CompressionCodec result_compression = 11;
+      case 11: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_result_compression:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::exec::shared::CompressionCodec_IsValid(value)) {
+            set_result_compression(static_cast< ::exec::shared::CompressionCodec >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(11, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
         if (input->ExpectAtEnd()) return true;
         break;
       }
@@ -4393,6 +4501,12 @@ void BitToUserHandshake::SerializeWithCachedSizes(
     ::google::protobuf::internal::WireFormatLite::WriteInt32(10, this->maxwrappedsize(), output);
   }
 
+  // optional .exec.shared.CompressionCodec result_compression = 11;
+  if (has_result_compression()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      11, this->result_compression(), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -4464,6 +4578,12 @@ void BitToUserHandshake::SerializeWithCachedSizes(
     target = ::google::protobuf::internal::WireFormatLite::WriteInt32ToArray(10, this->maxwrappedsize(), target);
   }
 
+  // optional .exec.shared.CompressionCodec result_compression = 11;
+  if (has_result_compression()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      11, this->result_compression(), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -4523,6 +4643,12 @@ int BitToUserHandshake::ByteSize() const {
           this->maxwrappedsize());
     }
 
+    // optional .exec.shared.CompressionCodec result_compression = 11;
+    if (has_result_compression()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->result_compression());
+    }
+
   }
   // repeated string authenticationMechanisms = 7;
   total_size += 1 * this->authenticationmechanisms_size();
@@ -4592,6 +4718,9 @@ void BitToUserHandshake::MergeFrom(const BitToUserHandshake& from) {
     if (from.has_maxwrappedsize()) {
       set_maxwrappedsize(from.maxwrappedsize());
     }
+    if (from.has_result_compression()) {
+      set_result_compression(from.result_compression());
+    }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
@@ -4624,6 +4753,7 @@ void BitToUserHandshake::Swap(BitToUserHandshake* other) {
     supported_methods_.Swap(&other->supported_methods_);
     std::swap(encrypted_, other->encrypted_);
     std::swap(maxwrappedsize_, other->maxwrappedsize_);
+    std::swap(result_compression_, other->result_compression_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
@@ -10955,6 +11085,7 @@ void PreparedStatementHandle::Swap(PreparedStatementHandle* other) {
 #ifndef _MSC_VER
 const int PreparedStatement::kColumnsFieldNumber;
 const int PreparedStatement::kServerHandleFieldNumber;
+const int PreparedStatement::kParameterCountFieldNumber;
 #endif  // !_MSC_VER
 
 PreparedStatement::PreparedStatement()
@@ -10975,6 +11106,7 @@ PreparedStatement::PreparedStatement(const PreparedStatement& from)
 void PreparedStatement::SharedCtor() {
   _cached_size_ = 0;
   server_handle_ = NULL;
+  parameter_count_ = 0;
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
@@ -11014,6 +11146,7 @@ void PreparedStatement::Clear() {
     if (has_server_handle()) {
       if (server_handle_ != NULL) server_handle_->::exec::user::PreparedStatementHandle::Clear();
     }
+    parameter_count_ = 0;
   }
   columns_.Clear();
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
@@ -11051,6 +11184,22 @@ bool PreparedStatement::MergePartialFromCodedStream(
         } else {
           goto handle_uninterpreted;
         }
+        if (input->ExpectTag(24)) goto parse_parameter_count;
+        break;
+      }
+
+      // optional int32 parameter_count = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_parameter_count:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::int32, ::google::protobuf::internal::WireFormatLite::TYPE_INT32>(
+                 input, &parameter_count_)));
+          set_has_parameter_count();
+        } else {
+          goto handle_uninterpreted;
+        }
         if (input->ExpectAtEnd()) return true;
         break;
       }
@@ -11085,6 +11234,11 @@ void PreparedStatement::SerializeWithCachedSizes(
       2, this->server_handle(), output);
   }
 
+  // optional int32 parameter_count = 3;
+  if (has_parameter_count()) {
+    ::google::protobuf::internal::WireFormatLite::WriteInt32(3, this->parameter_count(), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -11107,6 +11261,11 @@ void PreparedStatement::SerializeWithCachedSizes(
         2, this->server_handle(), target);
   }
 
+  // optional int32 parameter_count = 3;
+  if (has_parameter_count()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteInt32ToArray(3, this->parameter_count(), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -11125,6 +11284,13 @@ int PreparedStatement::ByteSize() const {
           this->server_handle());
     }
 
+    // optional int32 parameter_count = 3;
+    if (has_parameter_count()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::Int32Size(
+          this->parameter_count());
+    }
+
   }
   // repeated .exec.user.ResultColumnMetadata columns = 1;
   total_size += 1 * this->columns_size();
@@ -11164,6 +11330,9 @@ void PreparedStatement::MergeFrom(const PreparedStatement& from) {
     if (from.has_server_handle()) {
       mutable_server_handle()->::exec::user::PreparedStatementHandle::MergeFrom(from.server_handle());
     }
+    if (from.has_parameter_count()) {
+      set_parameter_count(from.parameter_count());
+    }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
@@ -11189,6 +11358,7 @@ void PreparedStatement::Swap(PreparedStatement* other) {
   if (other != this) {
     columns_.Swap(&other->columns_);
     std::swap(server_handle_, other->server_handle_);
+    std::swap(parameter_count_, other->parameter_count_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
@@ -11204,6 +11374,347 @@ void PreparedStatement::Swap(PreparedStatement* other) {
 }
 
 
+// ===================================================================
+
+#ifndef _MSC_VER
+const int PreparedStatementParameter::kBoolValueFieldNumber;
+const int PreparedStatementParameter::kLongValueFieldNumber;
+const int PreparedStatementParameter::kDoubleValueFieldNumber;
+const int PreparedStatementParameter::kStringValueFieldNumber;
+#endif  // !_MSC_VER
+
+PreparedStatementParameter::PreparedStatementParameter()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void PreparedStatementParameter::InitAsDefaultInstance() {
+}
+
+PreparedStatementParameter::PreparedStatementParameter(const PreparedStatementParameter& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void PreparedStatementParameter::SharedCtor() {
+  _cached_size_ = 0;
+  bool_value_ = false;
+  long_value_ = GOOGLE_LONGLONG(0);
+  double_value_ = 0;
+  string_value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+PreparedStatementParameter::~PreparedStatementParameter() {
+  SharedDtor();
+}
+
+void PreparedStatementParameter::SharedDtor() {
+  if (string_value_ != &::google::protobuf::internal::kEmptyString) {
+    delete string_value_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void PreparedStatementParameter::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* PreparedStatementParameter::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return PreparedStatementParameter_descriptor_;
+}
+
+const PreparedStatementParameter& PreparedStatementParameter::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_User_2eproto();
+  return *default_instance_;
+}
+
+PreparedStatementParameter* PreparedStatementParameter::default_instance_ = NULL;
+
+PreparedStatementParameter* PreparedStatementParameter::New() const {
+  return new PreparedStatementParameter;
+}
+
+void PreparedStatementParameter::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    bool_value_ = false;
+    long_value_ = GOOGLE_LONGLONG(0);
+    double_value_ = 0;
+    if (has_string_value()) {
+      if (string_value_ != &::google::protobuf::internal::kEmptyString) {
+        string_value_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool PreparedStatementParameter::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // optional bool bool_value = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &bool_value_)));
+          set_has_bool_value();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_long_value;
+        break;
+      }
+
+      // optional sint64 long_value = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_long_value:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::int64, ::google::protobuf::internal::WireFormatLite::TYPE_SINT64>(
+                 input, &long_value_)));
+          set_has_long_value();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(25)) goto parse_double_value;
+        break;
+      }
+
+      // optional double double_value = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED64) {
+         parse_double_value:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   double, ::google::protobuf::internal::WireFormatLite::TYPE_DOUBLE>(
+                 input, &double_value_)));
+          set_has_double_value();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_string_value;
+        break;
+      }
+
+      // optional string string_value = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_string_value:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_string_value()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->string_value().data(), this->string_value().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void PreparedStatementParameter::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // optional bool bool_value = 1;
+  if (has_bool_value()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(1, this->bool_value(), output);
+  }
+
+  // optional sint64 long_value = 2;
+  if (has_long_value()) {
+    ::google::protobuf::internal::WireFormatLite::WriteSInt64(2, this->long_value(), output);
+  }
+
+  // optional double double_value = 3;
+  if (has_double_value()) {
+    ::google::protobuf::internal::WireFormatLite::WriteDouble(3, this->double_value(), output);
+  }
+
+  // optional string string_value = 4;
+  if (has_string_value()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->string_value().data(), this->string_value().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      4, this->string_value(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* PreparedStatementParameter::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // optional bool bool_value = 1;
+  if (has_bool_value()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(1, this->bool_value(), target);
+  }
+
+  // optional sint64 long_value = 2;
+  if (has_long_value()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteSInt64ToArray(2, this->long_value(), target);
+  }
+
+  // optional double double_value = 3;
+  if (has_double_value()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteDoubleToArray(3, this->double_value(), target);
+  }
+
+  // optional string string_value = 4;
+  if (has_string_value()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->string_value().data(), this->string_value().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        4, this->string_value(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int PreparedStatementParameter::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // optional bool bool_value = 1;
+    if (has_bool_value()) {
+      total_size += 1 + 1;
+    }
+
+    // optional sint64 long_value = 2;
+    if (has_long_value()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::SInt64Size(
+          this->long_value());
+    }
+
+    // optional double double_value = 3;
+    if (has_double_value()) {
+      total_size += 1 + 8;
+    }
+
+    // optional string string_value = 4;
+    if (has_string_value()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->string_value());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void PreparedStatementParameter::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const PreparedStatementParameter* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const PreparedStatementParameter*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void PreparedStatementParameter::MergeFrom(const PreparedStatementParameter& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_bool_value()) {
+      set_bool_value(from.bool_value());
+    }
+    if (from.has_long_value()) {
+      set_long_value(from.long_value());
+    }
+    if (from.has_double_value()) {
+      set_double_value(from.double_value());
+    }
+    if (from.has_string_value()) {
+      set_string_value(from.string_value());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void PreparedStatementParameter::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void PreparedStatementParameter::CopyFrom(const PreparedStatementParameter& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool PreparedStatementParameter::IsInitialized() const {
+
+  return true;
+}
+
+void PreparedStatementParameter::Swap(PreparedStatementParameter* other) {
+  if (other != this) {
+    std::swap(bool_value_, other->bool_value_);
+    std::swap(long_value_, other->long_value_);
+    std::swap(double_value_, other->double_value_);
+    std::swap(string_value_, other->string_value_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata PreparedStatementParameter::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = PreparedStatementParameter_descriptor_;
+  metadata.reflection = PreparedStatementParameter_reflection_;
+  return metadata;
+}
+
+
 // ===================================================================
 
 #ifndef _MSC_VER
@@ -14663,6 +15174,7 @@ const int RunQuery::kTypeFieldNumber;
 const int RunQuery::kPlanFieldNumber;
 const int RunQuery::kFragmentsFieldNumber;
 const int RunQuery::kPreparedStatementHandleFieldNumber;
+const int RunQuery::kParametersFieldNumber;
 #endif  // !_MSC_VER
 
 RunQuery::RunQuery()
@@ -14737,6 +15249,7 @@ void RunQuery::Clear() {
     }
   }
   fragments_.Clear();
+  parameters_.Clear();
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
@@ -14830,6 +15343,21 @@ bool RunQuery::MergePartialFromCodedStream(
         } else {
           goto handle_uninterpreted;
         }
+        if (input->ExpectTag(50)) goto parse_parameters;
+        break;
+      }
+
+      // repeated .exec.user.PreparedStatementParameter parameters = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_parameters:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_parameters()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(50)) goto parse_parameters;
         if (input->ExpectAtEnd()) return true;
         break;
       }
@@ -14885,6 +15413,12 @@ void RunQuery::SerializeWithCachedSizes(
       5, this->prepared_statement_handle(), output);
   }
 
+  // repeated .exec.user.PreparedStatementParameter parameters = 6;
+  for (int i = 0; i < this->parameters_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      6, this->parameters(i), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -14929,6 +15463,13 @@ void RunQuery::SerializeWithCachedSizes(
         5, this->prepared_statement_handle(), target);
   }
 
+  // repeated .exec.user.PreparedStatementParameter parameters = 6;
+  for (int i = 0; i < this->parameters_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        6, this->parameters(i), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -14975,6 +15516,14 @@ int RunQuery::ByteSize() const {
         this->fragments(i));
   }
 
+  // repeated .exec.user.PreparedStatementParameter parameters = 6;
+  total_size += 1 * this->parameters_size();
+  for (int i = 0; i < this->parameters_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->parameters(i));
+  }
+
   if (!unknown_fields().empty()) {
     total_size +=
       ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
@@ -15001,6 +15550,7 @@ void RunQuery::MergeFrom(const ::google::protobuf::Message& from) {
 void RunQuery::MergeFrom(const RunQuery& from) {
   GOOGLE_CHECK_NE(&from, this);
   fragments_.MergeFrom(from.fragments_);
+  parameters_.MergeFrom(from.parameters_);
   if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
     if (from.has_results_mode()) {
       set_results_mode(from.results_mode());
@@ -15042,6 +15592,7 @@ void RunQuery::Swap(RunQuery* other) {
     std::swap(plan_, other->plan_);
     fragments_.Swap(&other->fragments_);
     std::swap(prepared_statement_handle_, other->prepared_statement_handle_);
+    parameters_.Swap(&other->parameters_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
@@ -66,6 +66,7 @@ class CreatePreparedStatementReq;
 class ResultColumnMetadata;
 class PreparedStatementHandle;
 class PreparedStatement;
+class PreparedStatementParameter;
 class CreatePreparedStatementResp;
 class GetServerMetaReq;
 class ConvertSupport;
@@ -948,6 +949,13 @@ class UserToBitHandshake : public ::google::protobuf::Message {
   inline ::exec::user::SaslSupport sasl_support() const;
   inline void set_sasl_support(::exec::user::SaslSupport value);
 
+  // optional .exec.shared.CompressionCodec result_compression = 10;
+  inline bool has_result_compression() const;
+  inline void clear_result_compression();
+  static const int kResultCompressionFieldNumber = 10;
+  inline ::exec::shared::CompressionCodec result_compression() const;
+  inline void set_result_compression(::exec::shared::CompressionCodec value);
+
   // @@protoc_insertion_point(class_scope:exec.user.UserToBitHandshake)
  private:
   inline void set_has_channel();
@@ -968,6 +976,8 @@ class UserToBitHandshake : public ::google::protobuf::Message {
   inline void clear_has_client_infos();
   inline void set_has_sasl_support();
   inline void clear_has_sasl_support();
+  inline void set_has_result_compression();
+  inline void clear_has_result_compression();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
@@ -980,9 +990,10 @@ class UserToBitHandshake : public ::google::protobuf::Message {
   bool support_timeout_;
   int sasl_support_;
   ::exec::user::RpcEndpointInfos* client_infos_;
+  int result_compression_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(9 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(10 + 31) / 32];
 
   friend void  protobuf_AddDesc_User_2eproto();
   friend void protobuf_AssignDesc_User_2eproto();
@@ -1454,6 +1465,13 @@ class BitToUserHandshake : public ::google::protobuf::Message {
   inline ::google::protobuf::int32 maxwrappedsize() const;
   inline void set_maxwrappedsize(::google::protobuf::int32 value);
 
+  // optional .exec.shared.CompressionCodec result_compression = 11;
+  inline bool has_result_compression() const;
+  inline void clear_result_compression();
+  static const int kResultCompressionFieldNumber = 11;
+  inline ::exec::shared::CompressionCodec result_compression() const;
+  inline void set_result_compression(::exec::shared::CompressionCodec value);
+
   // @@protoc_insertion_point(class_scope:exec.user.BitToUserHandshake)
  private:
   inline void set_has_rpc_version();
@@ -1470,6 +1488,8 @@ class BitToUserHandshake : public ::google::protobuf::Message {
   inline void clear_has_encrypted();
   inline void set_has_maxwrappedsize();
   inline void clear_has_maxwrappedsize();
+  inline void set_has_result_compression();
+  inline void clear_has_result_compression();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
@@ -1482,9 +1502,10 @@ class BitToUserHandshake : public ::google::protobuf::Message {
   ::google::protobuf::RepeatedField<int> supported_methods_;
   bool encrypted_;
   ::google::protobuf::int32 maxwrappedsize_;
+  int result_compression_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(9 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(10 + 31) / 32];
 
   friend void  protobuf_AddDesc_User_2eproto();
   friend void protobuf_AssignDesc_User_2eproto();
@@ -3669,18 +3690,28 @@ class PreparedStatement : public ::google::protobuf::Message {
   inline ::exec::user::PreparedStatementHandle* release_server_handle();
   inline void set_allocated_server_handle(::exec::user::PreparedStatementHandle* server_handle);
 
+  // optional int32 parameter_count = 3;
+  inline bool has_parameter_count() const;
+  inline void clear_parameter_count();
+  static const int kParameterCountFieldNumber = 3;
+  inline ::google::protobuf::int32 parameter_count() const;
+  inline void set_parameter_count(::google::protobuf::int32 value);
+
   // @@protoc_insertion_point(class_scope:exec.user.PreparedStatement)
  private:
   inline void set_has_server_handle();
   inline void clear_has_server_handle();
+  inline void set_has_parameter_count();
+  inline void clear_has_parameter_count();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
   ::google::protobuf::RepeatedPtrField< ::exec::user::ResultColumnMetadata > columns_;
   ::exec::user::PreparedStatementHandle* server_handle_;
+  ::google::protobuf::int32 parameter_count_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
 
   friend void  protobuf_AddDesc_User_2eproto();
   friend void protobuf_AssignDesc_User_2eproto();
@@ -3691,6 +3722,123 @@ class PreparedStatement : public ::google::protobuf::Message {
 };
 // -------------------------------------------------------------------
 
+class PreparedStatementParameter : public ::google::protobuf::Message {
+ public:
+  PreparedStatementParameter();
+  virtual ~PreparedStatementParameter();
+
+  PreparedStatementParameter(const PreparedStatementParameter& from);
+
+  inline PreparedStatementParameter& operator=(const PreparedStatementParameter& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const PreparedStatementParameter& default_instance();
+
+  void Swap(PreparedStatementParameter* other);
+
+  // implements Message ----------------------------------------------
+
+  PreparedStatementParameter* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const PreparedStatementParameter& from);
+  void MergeFrom(const PreparedStatementParameter& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // optional bool bool_value = 1;
+  inline bool has_bool_value() const;
+  inline void clear_bool_value();
+  static const int kBoolValueFieldNumber = 1;
+  inline bool bool_value() const;
+  inline void set_bool_value(bool value);
+
+  // optional sint64 long_value = 2;
+  inline bool has_long_value() const;
+  inline void clear_long_value();
+  static const int kLongValueFieldNumber = 2;
+  inline ::google::protobuf::int64 long_value() const;
+  inline void set_long_value(::google::protobuf::int64 value);
+
+  // optional double double_value = 3;
+  inline bool has_double_value() const;
+  inline void clear_double_value();
+  static const int kDoubleValueFieldNumber = 3;
+  inline double double_value() const;
+  inline void set_double_value(double value);
+
+  // optional string string_value = 4;
+  inline bool has_string_value() const;
+  inline void clear_string_value();
+  static const int kStringValueFieldNumber = 4;
+  inline const ::std::string& string_value() const;
+  inline void set_string_value(const ::std::string& value);
+  inline void set_string_value(const char* value);
+  inline void set_string_value(const char* value, size_t size);
+  inline ::std::string* mutable_string_value();
+  inline ::std::string* release_string_value();
+  inline void set_allocated_string_value(::std::string* string_value);
+
+  // @@protoc_insertion_point(class_scope:exec.user.PreparedStatementParameter)
+ private:
+  inline void set_has_bool_value();
+  inline void clear_has_bool_value();
+  inline void set_has_long_value();
+  inline void clear_has_long_value();
+  inline void set_has_double_value();
+  inline void clear_has_double_value();
+  inline void set_has_string_value();
+  inline void clear_has_string_value();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::int64 long_value_;
+  double double_value_;
+  ::std::string* string_value_;
+  bool bool_value_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+
+  friend void  protobuf_AddDesc_User_2eproto();
+  friend void protobuf_AssignDesc_User_2eproto();
+  friend void protobuf_ShutdownFile_User_2eproto();
+
+  void InitAsDefaultInstance();
+  static PreparedStatementParameter* default_instance_;
+};
+// -------------------------------------------------------------------
+
 class CreatePreparedStatementResp : public ::google::protobuf::Message {
  public:
   CreatePreparedStatementResp();
@@ -4809,6 +4957,18 @@ class RunQuery : public ::google::protobuf::Message {
   inline ::exec::user::PreparedStatementHandle* release_prepared_statement_handle();
   inline void set_allocated_prepared_statement_handle(::exec::user::PreparedStatementHandle* prepared_statement_handle);
 
+  // repeated .exec.user.PreparedStatementParameter parameters = 6;
+  inline int parameters_size() const;
+  inline void clear_parameters();
+  static const int kParametersFieldNumber = 6;
+  inline const ::exec::user::PreparedStatementParameter& parameters(int index) const;
+  inline ::exec::user::PreparedStatementParameter* mutable_parameters(int index);
+  inline ::exec::user::PreparedStatementParameter* add_parameters();
+  inline const ::google::protobuf::RepeatedPtrField< ::exec::user::PreparedStatementParameter >&
+      parameters() const;
+  inline ::google::protobuf::RepeatedPtrField< ::exec::user::PreparedStatementParameter >*
+      mutable_parameters();
+
   // @@protoc_insertion_point(class_scope:exec.user.RunQuery)
  private:
   inline void set_has_results_mode();
@@ -4827,9 +4987,10 @@ class RunQuery : public ::google::protobuf::Message {
   ::std::string* plan_;
   ::google::protobuf::RepeatedPtrField< ::exec::bit::control::PlanFragment > fragments_;
   ::exec::user::PreparedStatementHandle* prepared_statement_handle_;
+  ::google::protobuf::RepeatedPtrField< ::exec::user::PreparedStatementParameter > parameters_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(5 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(6 + 31) / 32];
 
   friend void  protobuf_AddDesc_User_2eproto();
   friend void protobuf_AssignDesc_User_2eproto();
@@ -5638,6 +5799,29 @@ inline void UserToBitHandshake::set_sasl_support(::exec::user::SaslSupport value
   sasl_support_ = value;
 }
 
+// optional .exec.shared.CompressionCodec result_compression = 10;
+inline bool UserToBitHandshake::has_result_compression() const {
+  return (_has_bits_[0] & 0x00000200u) != 0;
+}
+inline void UserToBitHandshake::set_has_result_compression() {
+  _has_bits_[0] |= 0x00000200u;
+}
+inline void UserToBitHandshake::clear_has_result_compression() {
+  _has_bits_[0] &= ~0x00000200u;
+}
+inline void UserToBitHandshake::clear_result_compression() {
+  result_compression_ = 0;
+  clear_has_result_compression();
+}
+inline ::exec::shared::CompressionCodec UserToBitHandshake::result_compression() const {
+  return static_cast< ::exec::shared::CompressionCodec >(result_compression_);
+}
+inline void UserToBitHandshake::set_result_compression(::exec::shared::CompressionCodec value) {
+  assert(::exec::shared::CompressionCodec_IsValid(value));
+  set_has_result_compression();
+  result_compression_ = value;
+}
+
 // -------------------------------------------------------------------
 
 // RequestResults
@@ -6291,6 +6475,29 @@ inline void BitToUserHandshake::set_maxwrappedsize(::google::protobuf::int32 val
   maxwrappedsize_ = value;
 }
 
+// optional .exec.shared.CompressionCodec result_compression = 11;
+inline bool BitToUserHandshake::has_result_compression() const {
+  return (_has_bits_[0] & 0x00000200u) != 0;
+}
+inline void BitToUserHandshake::set_has_result_compression() {
+  _has_bits_[0] |= 0x00000200u;
+}
+inline void BitToUserHandshake::clear_has_result_compression() {
+  _has_bits_[0] &= ~0x00000200u;
+}
+inline void BitToUserHandshake::clear_result_compression() {
+  result_compression_ = 0;
+  clear_has_result_compression();
+}
+inline ::exec::shared::CompressionCodec BitToUserHandshake::result_compression() const {
+  return static_cast< ::exec::shared::CompressionCodec >(result_compression_);
+}
+inline void BitToUserHandshake::set_result_compression(::exec::shared::CompressionCodec value) {
+  assert(::exec::shared::CompressionCodec_IsValid(value));
+  set_has_result_compression();
+  result_compression_ = value;
+}
+
 // -------------------------------------------------------------------
 
 // LikeFilter
@@ -9776,6 +9983,168 @@ inline void PreparedStatement::set_allocated_server_handle(::exec::user::Prepare
   }
 }
 
+// optional int32 parameter_count = 3;
+inline bool PreparedStatement::has_parameter_count() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void PreparedStatement::set_has_parameter_count() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void PreparedStatement::clear_has_parameter_count() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void PreparedStatement::clear_parameter_count() {
+  parameter_count_ = 0;
+  clear_has_parameter_count();
+}
+inline ::google::protobuf::int32 PreparedStatement::parameter_count() const {
+  return parameter_count_;
+}
+inline void PreparedStatement::set_parameter_count(::google::protobuf::int32 value) {
+  set_has_parameter_count();
+  parameter_count_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// PreparedStatementParameter
+
+// optional bool bool_value = 1;
+inline bool PreparedStatementParameter::has_bool_value() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void PreparedStatementParameter::set_has_bool_value() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void PreparedStatementParameter::clear_has_bool_value() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void PreparedStatementParameter::clear_bool_value() {
+  bool_value_ = false;
+  clear_has_bool_value();
+}
+inline bool PreparedStatementParameter::bool_value() const {
+  return bool_value_;
+}
+inline void PreparedStatementParameter::set_bool_value(bool value) {
+  set_has_bool_value();
+  bool_value_ = value;
+}
+
+// optional sint64 long_value = 2;
+inline bool PreparedStatementParameter::has_long_value() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void PreparedStatementParameter::set_has_long_value() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void PreparedStatementParameter::clear_has_long_value() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void PreparedStatementParameter::clear_long_value() {
+  long_value_ = GOOGLE_LONGLONG(0);
+  clear_has_long_value();
+}
+inline ::google::protobuf::int64 PreparedStatementParameter::long_value() const {
+  return long_value_;
+}
+inline void PreparedStatementParameter::set_long_value(::google::protobuf::int64 value) {
+  set_has_long_value();
+  long_value_ = value;
+}
+
+// optional double double_value = 3;
+inline bool PreparedStatementParameter::has_double_value() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void PreparedStatementParameter::set_has_double_value() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void PreparedStatementParameter::clear_has_double_value() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void PreparedStatementParameter::clear_double_value() {
+  double_value_ = 0;
+  clear_has_double_value();
+}
+inline double PreparedStatementParameter::double_value() const {
+  return double_value_;
+}
+inline void PreparedStatementParameter::set_double_value(double value) {
+  set_has_double_value();
+  double_value_ = value;
+}
+
+// optional string string_value = 4;
+inline bool PreparedStatementParameter::has_string_value() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void PreparedStatementParameter::set_has_string_value() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void PreparedStatementParameter::clear_has_string_value() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void PreparedStatementParameter::clear_string_value() {
+  if (string_value_ != &::google::protobuf::internal::kEmptyString) {
+    string_value_->clear();
+  }
+  clear_has_string_value();
+}
+inline const ::std::string& PreparedStatementParameter::string_value() const {
+  return *string_value_;
+}
+inline void PreparedStatementParameter::set_string_value(const ::std::string& value) {
+  set_has_string_value();
+  if (string_value_ == &::google::protobuf::internal::kEmptyString) {
+    string_value_ = new ::std::string;
+  }
+  string_value_->assign(value);
+}
+inline void PreparedStatementParameter::set_string_value(const char* value) {
+  set_has_string_value();
+  if (string_value_ == &::google::protobuf::internal::kEmptyString) {
+    string_value_ = new ::std::string;
+  }
+  string_value_->assign(value);
+}
+inline void PreparedStatementParameter::set_string_value(const char* value, size_t size) {
+  set_has_string_value();
+  if (string_value_ == &::google::protobuf::internal::kEmptyString) {
+    string_value_ = new ::std::string;
+  }
+  string_value_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* PreparedStatementParameter::mutable_string_value() {
+  set_has_string_value();
+  if (string_value_ == &::google::protobuf::internal::kEmptyString) {
+    string_value_ = new ::std::string;
+  }
+  return string_value_;
+}
+inline ::std::string* PreparedStatementParameter::release_string_value() {
+  clear_has_string_value();
+  if (string_value_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = string_value_;
+    string_value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void PreparedStatementParameter::set_allocated_string_value(::std::string* string_value) {
+  if (string_value_ != &::google::protobuf::internal::kEmptyString) {
+    delete string_value_;
+  }
+  if (string_value) {
+    set_has_string_value();
+    string_value_ = string_value;
+  } else {
+    clear_has_string_value();
+    string_value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
 // -------------------------------------------------------------------
 
 // CreatePreparedStatementResp
@@ -11785,6 +12154,31 @@ inline void RunQuery::set_allocated_prepared_statement_handle(::exec::user::Prep
   }
 }
 
+// repeated .exec.user.PreparedStatementParameter parameters = 6;
+inline int RunQuery::parameters_size() const {
+  return parameters_.size();
+}
+inline void RunQuery::clear_parameters() {
+  parameters_.Clear();
+}
+inline const ::exec::user::PreparedStatementParameter& RunQuery::parameters(int index) const {
+  return parameters_.Get(index);
+}
+inline ::exec::user::PreparedStatementParameter* RunQuery::mutable_parameters(int index) {
+  return parameters_.Mutable(index);
+}
+inline ::exec::user::PreparedStatementParameter* RunQuery::add_parameters() {
+  return parameters_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::exec::user::PreparedStatementParameter >&
+RunQuery::parameters() const {
+  return parameters_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::exec::user::PreparedStatementParameter >*
+RunQuery::mutable_parameters() {
+  return &parameters_;
+}
+
 
 // @@protoc_insertion_point(namespace_scope)
 
@@ -66,6 +66,9 @@ const ::google::protobuf::internal::GeneratedMessageReflection*
 const ::google::protobuf::Descriptor* QueryProfile_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   QueryProfile_reflection_ = NULL;
+const ::google::protobuf::Descriptor* PlanningPhaseProfile_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  PlanningPhaseProfile_reflection_ = NULL;
 const ::google::protobuf::Descriptor* MajorFragmentProfile_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   MajorFragmentProfile_reflection_ = NULL;
@@ -92,6 +95,7 @@ const ::google::protobuf::internal::GeneratedMessageReflection*
   SaslMessage_reflection_ = NULL;
 const ::google::protobuf::EnumDescriptor* RpcChannel_descriptor_ = NULL;
 const ::google::protobuf::EnumDescriptor* QueryType_descriptor_ = NULL;
+const ::google::protobuf::EnumDescriptor* CompressionCodec_descriptor_ = NULL;
 const ::google::protobuf::EnumDescriptor* FragmentState_descriptor_ = NULL;
 const ::google::protobuf::EnumDescriptor* CoreOperatorType_descriptor_ = NULL;
 const ::google::protobuf::EnumDescriptor* SaslStatus_descriptor_ = NULL;
@@ -302,10 +306,11 @@ void protobuf_AssignDesc_UserBitShared_2eproto() {
       sizeof(QueryResult));
   QueryResult_QueryState_descriptor_ = QueryResult_descriptor_->enum_type(0);
   QueryData_descriptor_ = file->message_type(11);
-  static const int QueryData_offsets_[3] = {
+  static const int QueryData_offsets_[4] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryData, query_id_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryData, row_count_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryData, def_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryData, compression_),
   };
   QueryData_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -339,7 +344,7 @@ void protobuf_AssignDesc_UserBitShared_2eproto() {
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(QueryInfo));
   QueryProfile_descriptor_ = file->message_type(13);
-  static const int QueryProfile_offsets_[19] = {
+  static const int QueryProfile_offsets_[20] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryProfile, id_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryProfile, type_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryProfile, start_),
@@ -359,6 +364,7 @@ void protobuf_AssignDesc_UserBitShared_2eproto() {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryProfile, options_json_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryProfile, planend_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryProfile, queuewaitend_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(QueryProfile, planning_phase_profile_),
   };
   QueryProfile_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -371,7 +377,24 @@ void protobuf_AssignDesc_UserBitShared_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(QueryProfile));
-  MajorFragmentProfile_descriptor_ = file->message_type(14);
+  PlanningPhaseProfile_descriptor_ = file->message_type(14);
+  static const int PlanningPhaseProfile_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PlanningPhaseProfile, name_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PlanningPhaseProfile, count_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PlanningPhaseProfile, time_nanos_),
+  };
+  PlanningPhaseProfile_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      PlanningPhaseProfile_descriptor_,
+      PlanningPhaseProfile::default_instance_,
+      PlanningPhaseProfile_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PlanningPhaseProfile, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PlanningPhaseProfile, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(PlanningPhaseProfile));
+  MajorFragmentProfile_descriptor_ = file->message_type(15);
   static const int MajorFragmentProfile_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MajorFragmentProfile, major_fragment_id_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MajorFragmentProfile, minor_fragment_profile_),
@@ -387,7 +410,7 @@ void protobuf_AssignDesc_UserBitShared_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(MajorFragmentProfile));
-  MinorFragmentProfile_descriptor_ = file->message_type(15);
+  MinorFragmentProfile_descriptor_ = file->message_type(16);
   static const int MinorFragmentProfile_offsets_[11] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MinorFragmentProfile, state_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MinorFragmentProfile, error_),
@@ -412,7 +435,7 @@ void protobuf_AssignDesc_UserBitShared_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(MinorFragmentProfile));
-  OperatorProfile_descriptor_ = file->message_type(16);
+  OperatorProfile_descriptor_ = file->message_type(17);
   static const int OperatorProfile_offsets_[8] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(OperatorProfile, input_profile_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(OperatorProfile, operator_id_),
@@ -434,7 +457,7 @@ void protobuf_AssignDesc_UserBitShared_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(OperatorProfile));
-  StreamProfile_descriptor_ = file->message_type(17);
+  StreamProfile_descriptor_ = file->message_type(18);
   static const int StreamProfile_offsets_[3] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(StreamProfile, records_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(StreamProfile, batches_),
@@ -451,7 +474,7 @@ void protobuf_AssignDesc_UserBitShared_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(StreamProfile));
-  MetricValue_descriptor_ = file->message_type(18);
+  MetricValue_descriptor_ = file->message_type(19);
   static const int MetricValue_offsets_[3] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MetricValue, metric_id_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MetricValue, long_value_),
@@ -468,7 +491,7 @@ void protobuf_AssignDesc_UserBitShared_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(MetricValue));
-  Registry_descriptor_ = file->message_type(19);
+  Registry_descriptor_ = file->message_type(20);
   static const int Registry_offsets_[1] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Registry, jar_),
   };
@@ -483,7 +506,7 @@ void protobuf_AssignDesc_UserBitShared_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(Registry));
-  Jar_descriptor_ = file->message_type(20);
+  Jar_descriptor_ = file->message_type(21);
   static const int Jar_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Jar, name_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Jar, function_signature_),
@@ -499,7 +522,7 @@ void protobuf_AssignDesc_UserBitShared_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(Jar));
-  SaslMessage_descriptor_ = file->message_type(21);
+  SaslMessage_descriptor_ = file->message_type(22);
   static const int SaslMessage_offsets_[3] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SaslMessage, mechanism_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SaslMessage, data_),
@@ -518,9 +541,10 @@ void protobuf_AssignDesc_UserBitShared_2eproto() {
       sizeof(SaslMessage));
   RpcChannel_descriptor_ = file->enum_type(0);
   QueryType_descriptor_ = file->enum_type(1);
-  FragmentState_descriptor_ = file->enum_type(2);
-  CoreOperatorType_descriptor_ = file->enum_type(3);
-  SaslStatus_descriptor_ = file->enum_type(4);
+  CompressionCodec_descriptor_ = file->enum_type(2);
+  FragmentState_descriptor_ = file->enum_type(3);
+  CoreOperatorType_descriptor_ = file->enum_type(4);
+  SaslStatus_descriptor_ = file->enum_type(5);
 }
 
 namespace {
@@ -561,6 +585,8 @@ void protobuf_RegisterTypes(const ::std::string&) {
     QueryInfo_descriptor_, &QueryInfo::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     QueryProfile_descriptor_, &QueryProfile::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    PlanningPhaseProfile_descriptor_, &PlanningPhaseProfile::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     MajorFragmentProfile_descriptor_, &MajorFragmentProfile::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
@@ -612,6 +638,8 @@ void protobuf_ShutdownFile_UserBitShared_2eproto() {
   delete QueryProfile::default_instance_;
   delete QueryProfile_reflection_;
   delete QueryProfile::_default_user_;
+  delete PlanningPhaseProfile::default_instance_;
+  delete PlanningPhaseProfile_reflection_;
   delete MajorFragmentProfile::default_instance_;
   delete MajorFragmentProfile_reflection_;
   delete MinorFragmentProfile::default_instance_;
@@ -685,82 +713,89 @@ void protobuf_AddDesc_UserBitShared_2eproto() {
     "BError\"z\n\nQueryState\022\014\n\010STARTING\020\000\022\013\n\007RU"
     "NNING\020\001\022\r\n\tCOMPLETED\020\002\022\014\n\010CANCELED\020\003\022\n\n\006"
     "FAILED\020\004\022\032\n\026CANCELLATION_REQUESTED\020\005\022\014\n\010"
-    "ENQUEUED\020\006\"p\n\tQueryData\022&\n\010query_id\030\001 \001("
-    "\0132\024.exec.shared.QueryId\022\021\n\trow_count\030\002 \001"
-    "(\005\022(\n\003def\030\003 \001(\0132\033.exec.shared.RecordBatc"
-    "hDef\"\255\001\n\tQueryInfo\022\r\n\005query\030\001 \001(\t\022\r\n\005sta"
-    "rt\030\002 \001(\003\0222\n\005state\030\003 \001(\0162#.exec.shared.Qu"
-    "eryResult.QueryState\022\017\n\004user\030\004 \001(\t:\001-\022\'\n"
-    "\007foreman\030\005 \001(\0132\026.exec.DrillbitEndpoint\022\024"
-    "\n\014options_json\030\006 \001(\t\"\367\003\n\014QueryProfile\022 \n"
-    "\002id\030\001 \001(\0132\024.exec.shared.QueryId\022$\n\004type\030"
-    "\002 \001(\0162\026.exec.shared.QueryType\022\r\n\005start\030\003"
-    " \001(\003\022\013\n\003end\030\004 \001(\003\022\r\n\005query\030\005 \001(\t\022\014\n\004plan"
-    "\030\006 \001(\t\022\'\n\007foreman\030\007 \001(\0132\026.exec.DrillbitE"
-    "ndpoint\0222\n\005state\030\010 \001(\0162#.exec.shared.Que"
-    "ryResult.QueryState\022\027\n\017total_fragments\030\t"
-    " \001(\005\022\032\n\022finished_fragments\030\n \001(\005\022;\n\020frag"
-    "ment_profile\030\013 \003(\0132!.exec.shared.MajorFr"
-    "agmentProfile\022\017\n\004user\030\014 \001(\t:\001-\022\r\n\005error\030"
-    "\r \001(\t\022\024\n\014verboseError\030\016 \001(\t\022\020\n\010error_id\030"
-    "\017 \001(\t\022\022\n\nerror_node\030\020 \001(\t\022\024\n\014options_jso"
-    "n\030\021 \001(\t\022\017\n\007planEnd\030\022 \001(\003\022\024\n\014queueWaitEnd"
-    "\030\023 \001(\003\"t\n\024MajorFragmentProfile\022\031\n\021major_"
-    "fragment_id\030\001 \001(\005\022A\n\026minor_fragment_prof"
-    "ile\030\002 \003(\0132!.exec.shared.MinorFragmentPro"
-    "file\"\350\002\n\024MinorFragmentProfile\022)\n\005state\030\001"
-    " \001(\0162\032.exec.shared.FragmentState\022(\n\005erro"
-    "r\030\002 \001(\0132\031.exec.shared.DrillPBError\022\031\n\021mi"
-    "nor_fragment_id\030\003 \001(\005\0226\n\020operator_profil"
-    "e\030\004 \003(\0132\034.exec.shared.OperatorProfile\022\022\n"
-    "\nstart_time\030\005 \001(\003\022\020\n\010end_time\030\006 \001(\003\022\023\n\013m"
-    "emory_used\030\007 \001(\003\022\027\n\017max_memory_used\030\010 \001("
-    "\003\022(\n\010endpoint\030\t \001(\0132\026.exec.DrillbitEndpo"
-    "int\022\023\n\013last_update\030\n \001(\003\022\025\n\rlast_progres"
-    "s\030\013 \001(\003\"\377\001\n\017OperatorProfile\0221\n\rinput_pro"
-    "file\030\001 \003(\0132\032.exec.shared.StreamProfile\022\023"
-    "\n\013operator_id\030\003 \001(\005\022\025\n\roperator_type\030\004 \001"
-    "(\005\022\023\n\013setup_nanos\030\005 \001(\003\022\025\n\rprocess_nanos"
-    "\030\006 \001(\003\022#\n\033peak_local_memory_allocated\030\007 "
-    "\001(\003\022(\n\006metric\030\010 \003(\0132\030.exec.shared.Metric"
-    "Value\022\022\n\nwait_nanos\030\t \001(\003\"B\n\rStreamProfi"
-    "le\022\017\n\007records\030\001 \001(\003\022\017\n\007batches\030\002 \001(\003\022\017\n\007"
-    "schemas\030\003 \001(\003\"J\n\013MetricValue\022\021\n\tmetric_i"
-    "d\030\001 \001(\005\022\022\n\nlong_value\030\002 \001(\003\022\024\n\014double_va"
-    "lue\030\003 \001(\001\")\n\010Registry\022\035\n\003jar\030\001 \003(\0132\020.exe"
-    "c.shared.Jar\"/\n\003Jar\022\014\n\004name\030\001 \001(\t\022\032\n\022fun"
-    "ction_signature\030\002 \003(\t\"W\n\013SaslMessage\022\021\n\t"
-    "mechanism\030\001 \001(\t\022\014\n\004data\030\002 \001(\014\022\'\n\006status\030"
-    "\003 \001(\0162\027.exec.shared.SaslStatus*5\n\nRpcCha"
-    "nnel\022\017\n\013BIT_CONTROL\020\000\022\014\n\010BIT_DATA\020\001\022\010\n\004U"
-    "SER\020\002*V\n\tQueryType\022\007\n\003SQL\020\001\022\013\n\007LOGICAL\020\002"
-    "\022\014\n\010PHYSICAL\020\003\022\r\n\tEXECUTION\020\004\022\026\n\022PREPARE"
-    "D_STATEMENT\020\005*\207\001\n\rFragmentState\022\013\n\007SENDI"
-    "NG\020\000\022\027\n\023AWAITING_ALLOCATION\020\001\022\013\n\007RUNNING"
-    "\020\002\022\014\n\010FINISHED\020\003\022\r\n\tCANCELLED\020\004\022\n\n\006FAILE"
-    "D\020\005\022\032\n\026CANCELLATION_REQUESTED\020\006*\335\005\n\020Core"
-    "OperatorType\022\021\n\rSINGLE_SENDER\020\000\022\024\n\020BROAD"
-    "CAST_SENDER\020\001\022\n\n\006FILTER\020\002\022\022\n\016HASH_AGGREG"
-    "ATE\020\003\022\r\n\tHASH_JOIN\020\004\022\016\n\nMERGE_JOIN\020\005\022\031\n\025"
-    "HASH_PARTITION_SENDER\020\006\022\t\n\005LIMIT\020\007\022\024\n\020ME"
-    "RGING_RECEIVER\020\010\022\034\n\030ORDERED_PARTITION_SE"
-    "NDER\020\t\022\013\n\007PROJECT\020\n\022\026\n\022UNORDERED_RECEIVE"
-    "R\020\013\022\020\n\014RANGE_SENDER\020\014\022\n\n\006SCREEN\020\r\022\034\n\030SEL"
-    "ECTION_VECTOR_REMOVER\020\016\022\027\n\023STREAMING_AGG"
-    "REGATE\020\017\022\016\n\nTOP_N_SORT\020\020\022\021\n\rEXTERNAL_SOR"
-    "T\020\021\022\t\n\005TRACE\020\022\022\t\n\005UNION\020\023\022\014\n\010OLD_SORT\020\024\022"
-    "\032\n\026PARQUET_ROW_GROUP_SCAN\020\025\022\021\n\rHIVE_SUB_"
-    "SCAN\020\026\022\025\n\021SYSTEM_TABLE_SCAN\020\027\022\021\n\rMOCK_SU"
-    "B_SCAN\020\030\022\022\n\016PARQUET_WRITER\020\031\022\023\n\017DIRECT_S"
-    "UB_SCAN\020\032\022\017\n\013TEXT_WRITER\020\033\022\021\n\rTEXT_SUB_S"
-    "CAN\020\034\022\021\n\rJSON_SUB_SCAN\020\035\022\030\n\024INFO_SCHEMA_"
-    "SUB_SCAN\020\036\022\023\n\017COMPLEX_TO_JSON\020\037\022\025\n\021PRODU"
-    "CER_CONSUMER\020 \022\022\n\016HBASE_SUB_SCAN\020!\022\n\n\006WI"
-    "NDOW\020\"\022\024\n\020NESTED_LOOP_JOIN\020#\022\021\n\rAVRO_SUB"
-    "_SCAN\020$*g\n\nSaslStatus\022\020\n\014SASL_UNKNOWN\020\000\022"
-    "\016\n\nSASL_START\020\001\022\024\n\020SASL_IN_PROGRESS\020\002\022\020\n"
-    "\014SASL_SUCCESS\020\003\022\017\n\013SASL_FAILED\020\004B.\n\033org."
-    "apache.drill.exec.protoB\rUserBitSharedH\001", 4840);
+    "ENQUEUED\020\006\"\244\001\n\tQueryData\022&\n\010query_id\030\001 \001"
+    "(\0132\024.exec.shared.QueryId\022\021\n\trow_count\030\002 "
+    "\001(\005\022(\n\003def\030\003 \001(\0132\033.exec.shared.RecordBat"
+    "chDef\0222\n\013compression\030\004 \001(\0162\035.exec.shared"
+    ".CompressionCodec\"\255\001\n\tQueryInfo\022\r\n\005query"
+    "\030\001 \001(\t\022\r\n\005start\030\002 \001(\003\0222\n\005state\030\003 \001(\0162#.e"
+    "xec.shared.QueryResult.QueryState\022\017\n\004use"
+    "r\030\004 \001(\t:\001-\022\'\n\007foreman\030\005 \001(\0132\026.exec.Drill"
+    "bitEndpoint\022\024\n\014options_json\030\006 \001(\t\"\272\004\n\014Qu"
+    "eryProfile\022 \n\002id\030\001 \001(\0132\024.exec.shared.Que"
+    "ryId\022$\n\004type\030\002 \001(\0162\026.exec.shared.QueryTy"
+    "pe\022\r\n\005start\030\003 \001(\003\022\013\n\003end\030\004 \001(\003\022\r\n\005query\030"
+    "\005 \001(\t\022\014\n\004plan\030\006 \001(\t\022\'\n\007foreman\030\007 \001(\0132\026.e"
+    "xec.DrillbitEndpoint\0222\n\005state\030\010 \001(\0162#.ex"
+    "ec.shared.QueryResult.QueryState\022\027\n\017tota"
+    "l_fragments\030\t \001(\005\022\032\n\022finished_fragments\030"
+    "\n \001(\005\022;\n\020fragment_profile\030\013 \003(\0132!.exec.s"
+    "hared.MajorFragmentProfile\022\017\n\004user\030\014 \001(\t"
+    ":\001-\022\r\n\005error\030\r \001(\t\022\024\n\014verboseError\030\016 \001(\t"
+    "\022\020\n\010error_id\030\017 \001(\t\022\022\n\nerror_node\030\020 \001(\t\022\024"
+    "\n\014options_json\030\021 \001(\t\022\017\n\007planEnd\030\022 \001(\003\022\024\n"
+    "\014queueWaitEnd\030\023 \001(\003\022A\n\026planning_phase_pr"
+    "ofile\030\024 \003(\0132!.exec.shared.PlanningPhaseP"
+    "rofile\"G\n\024PlanningPhaseProfile\022\014\n\004name\030\001"
+    " \001(\t\022\r\n\005count\030\002 \001(\005\022\022\n\ntime_nanos\030\003 \001(\003\""
+    "t\n\024MajorFragmentProfile\022\031\n\021major_fragmen"
+    "t_id\030\001 \001(\005\022A\n\026minor_fragment_profile\030\002 \003"
+    "(\0132!.exec.shared.MinorFragmentProfile\"\350\002"
+    "\n\024MinorFragmentProfile\022)\n\005state\030\001 \001(\0162\032."
+    "exec.shared.FragmentState\022(\n\005error\030\002 \001(\013"
+    "2\031.exec.shared.DrillPBError\022\031\n\021minor_fra"
+    "gment_id\030\003 \001(\005\0226\n\020operator_profile\030\004 \003(\013"
+    "2\034.exec.shared.OperatorProfile\022\022\n\nstart_"
+    "time\030\005 \001(\003\022\020\n\010end_time\030\006 \001(\003\022\023\n\013memory_u"
+    "sed\030\007 \001(\003\022\027\n\017max_memory_used\030\010 \001(\003\022(\n\010en"
+    "dpoint\030\t \001(\0132\026.exec.DrillbitEndpoint\022\023\n\013"
+    "last_update\030\n \001(\003\022\025\n\rlast_progress\030\013 \001(\003"
+    "\"\377\001\n\017OperatorProfile\0221\n\rinput_profile\030\001 "
+    "\003(\0132\032.exec.shared.StreamProfile\022\023\n\013opera"
+    "tor_id\030\003 \001(\005\022\025\n\roperator_type\030\004 \001(\005\022\023\n\013s"
+    "etup_nanos\030\005 \001(\003\022\025\n\rprocess_nanos\030\006 \001(\003\022"
+    "#\n\033peak_local_memory_allocated\030\007 \001(\003\022(\n\006"
+    "metric\030\010 \003(\0132\030.exec.shared.MetricValue\022\022"
+    "\n\nwait_nanos\030\t \001(\003\"B\n\rStreamProfile\022\017\n\007r"
+    "ecords\030\001 \001(\003\022\017\n\007batches\030\002 \001(\003\022\017\n\007schemas"
+    "\030\003 \001(\003\"J\n\013MetricValue\022\021\n\tmetric_id\030\001 \001(\005"
+    "\022\022\n\nlong_value\030\002 \001(\003\022\024\n\014double_value\030\003 \001"
+    "(\001\")\n\010Registry\022\035\n\003jar\030\001 \003(\0132\020.exec.share"
+    "d.Jar\"/\n\003Jar\022\014\n\004name\030\001 \001(\t\022\032\n\022function_s"
+    "ignature\030\002 \003(\t\"W\n\013SaslMessage\022\021\n\tmechani"
+    "sm\030\001 \001(\t\022\014\n\004data\030\002 \001(\014\022\'\n\006status\030\003 \001(\0162\027"
+    ".exec.shared.SaslStatus*5\n\nRpcChannel\022\017\n"
+    "\013BIT_CONTROL\020\000\022\014\n\010BIT_DATA\020\001\022\010\n\004USER\020\002*V"
+    "\n\tQueryType\022\007\n\003SQL\020\001\022\013\n\007LOGICAL\020\002\022\014\n\010PHY"
+    "SICAL\020\003\022\r\n\tEXECUTION\020\004\022\026\n\022PREPARED_STATE"
+    "MENT\020\005*1\n\020CompressionCodec\022\020\n\014UNCOMPRESS"
+    "ED\020\000\022\013\n\007DEFLATE\020\001*\207\001\n\rFragmentState\022\013\n\007S"
+    "ENDING\020\000\022\027\n\023AWAITING_ALLOCATION\020\001\022\013\n\007RUN"
+    "NING\020\002\022\014\n\010FINISHED\020\003\022\r\n\tCANCELLED\020\004\022\n\n\006F"
+    "AILED\020\005\022\032\n\026CANCELLATION_REQUESTED\020\006*\375\005\n\020"
+    "CoreOperatorType\022\021\n\rSINGLE_SENDER\020\000\022\024\n\020B"
+    "ROADCAST_SENDER\020\001\022\n\n\006FILTER\020\002\022\022\n\016HASH_AG"
+    "GREGATE\020\003\022\r\n\tHASH_JOIN\020\004\022\016\n\nMERGE_JOIN\020\005"
+    "\022\031\n\025HASH_PARTITION_SENDER\020\006\022\t\n\005LIMIT\020\007\022\024"
+    "\n\020MERGING_RECEIVER\020\010\022\034\n\030ORDERED_PARTITIO"
+    "N_SENDER\020\t\022\013\n\007PROJECT\020\n\022\026\n\022UNORDERED_REC"
+    "EIVER\020\013\022\020\n\014RANGE_SENDER\020\014\022\n\n\006SCREEN\020\r\022\034\n"
+    "\030SELECTION_VECTOR_REMOVER\020\016\022\027\n\023STREAMING"
+    "_AGGREGATE\020\017\022\016\n\nTOP_N_SORT\020\020\022\021\n\rEXTERNAL"
+    "_SORT\020\021\022\t\n\005TRACE\020\022\022\t\n\005UNION\020\023\022\014\n\010OLD_SOR"
+    "T\020\024\022\032\n\026PARQUET_ROW_GROUP_SCAN\020\025\022\021\n\rHIVE_"
+    "SUB_SCAN\020\026\022\025\n\021SYSTEM_TABLE_SCAN\020\027\022\021\n\rMOC"
+    "K_SUB_SCAN\020\030\022\022\n\016PARQUET_WRITER\020\031\022\023\n\017DIRE"
+    "CT_SUB_SCAN\020\032\022\017\n\013TEXT_WRITER\020\033\022\021\n\rTEXT_S"
+    "UB_SCAN\020\034\022\021\n\rJSON_SUB_SCAN\020\035\022\030\n\024INFO_SCH"
+    "EMA_SUB_SCAN\020\036\022\023\n\017COMPLEX_TO_JSON\020\037\022\025\n\021P"
+    "RODUCER_CONSUMER\020 \022\022\n\016HBASE_SUB_SCAN\020!\022\n"
+    "\n\006WINDOW\020\"\022\024\n\020NESTED_LOOP_JOIN\020#\022\021\n\rAVRO"
+    "_SUB_SCAN\020$\022\021\n\rPCAP_SUB_SCAN\020%\022\013\n\007FLATTE"
+    "N\020&*g\n\nSaslStatus\022\020\n\014SASL_UNKNOWN\020\000\022\016\n\nS"
+    "ASL_START\020\001\022\024\n\020SASL_IN_PROGRESS\020\002\022\020\n\014SAS"
+    "L_SUCCESS\020\003\022\017\n\013SASL_FAILED\020\004B.\n\033org.apac"
+    "he.drill.exec.protoB\rUserBitSharedH\001", 5116);
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
     "UserBitShared.proto", &protobuf_RegisterTypes);
   UserCredentials::default_instance_ = new UserCredentials();
@@ -781,6 +816,7 @@ void protobuf_AddDesc_UserBitShared_2eproto() {
   QueryProfile::_default_user_ =
       new ::std::string("-", 1);
   QueryProfile::default_instance_ = new QueryProfile();
+  PlanningPhaseProfile::default_instance_ = new PlanningPhaseProfile();
   MajorFragmentProfile::default_instance_ = new MajorFragmentProfile();
   MinorFragmentProfile::default_instance_ = new MinorFragmentProfile();
   OperatorProfile::default_instance_ = new OperatorProfile();
@@ -803,6 +839,7 @@ void protobuf_AddDesc_UserBitShared_2eproto() {
   QueryData::default_instance_->InitAsDefaultInstance();
   QueryInfo::default_instance_->InitAsDefaultInstance();
   QueryProfile::default_instance_->InitAsDefaultInstance();
+  PlanningPhaseProfile::default_instance_->InitAsDefaultInstance();
   MajorFragmentProfile::default_instance_->InitAsDefaultInstance();
   MinorFragmentProfile::default_instance_->InitAsDefaultInstance();
   OperatorProfile::default_instance_->InitAsDefaultInstance();
@@ -852,6 +889,20 @@ bool QueryType_IsValid(int value) {
   }
 }
 
+const ::google::protobuf::EnumDescriptor* CompressionCodec_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return CompressionCodec_descriptor_;
+}
+bool CompressionCodec_IsValid(int value) {
+  switch(value) {
+    case 0:
+    case 1:
+      return true;
+    default:
+      return false;
+  }
+}
+
 const ::google::protobuf::EnumDescriptor* FragmentState_descriptor() {
   protobuf_AssignDescriptorsOnce();
   return FragmentState_descriptor_;
@@ -914,6 +965,8 @@ bool CoreOperatorType_IsValid(int value) {
     case 34:
     case 35:
     case 36:
+    case 37:
+    case 38:
       return true;
     default:
       return false;
@@ -4641,6 +4694,7 @@ void QueryResult::Swap(QueryResult* other) {
 const int QueryData::kQueryIdFieldNumber;
 const int QueryData::kRowCountFieldNumber;
 const int QueryData::kDefFieldNumber;
+const int QueryData::kCompressionFieldNumber;
 #endif  // !_MSC_VER
 
 QueryData::QueryData()
@@ -4664,6 +4718,7 @@ void QueryData::SharedCtor() {
   query_id_ = NULL;
   row_count_ = 0;
   def_ = NULL;
+  compression_ = 0;
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
@@ -4708,6 +4763,7 @@ void QueryData::Clear() {
     if (has_def()) {
       if (def_ != NULL) def_->::exec::shared::RecordBatchDef::Clear();
     }
+    compression_ = 0;
   }
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
@@ -4758,6 +4814,27 @@ bool QueryData::MergePartialFromCodedStream(
         } else {
           goto handle_uninterpreted;
         }
+        if (input->ExpectTag(32)) goto parse_compression;
+        break;
+      }
+
+      // optional .exec.shared.CompressionCodec compression = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_compression:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::exec::shared::CompressionCodec_IsValid(value)) {
+            set_compression(static_cast< ::exec::shared::CompressionCodec >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(4, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
         if (input->ExpectAtEnd()) return true;
         break;
       }
@@ -4797,6 +4874,12 @@ void QueryData::SerializeWithCachedSizes(
       3, this->def(), output);
   }
 
+  // optional .exec.shared.CompressionCodec compression = 4;
+  if (has_compression()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      4, this->compression(), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -4824,6 +4907,12 @@ void QueryData::SerializeWithCachedSizes(
         3, this->def(), target);
   }
 
+  // optional .exec.shared.CompressionCodec compression = 4;
+  if (has_compression()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      4, this->compression(), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -4856,6 +4945,12 @@ int QueryData::ByteSize() const {
           this->def());
     }
 
+    // optional .exec.shared.CompressionCodec compression = 4;
+    if (has_compression()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->compression());
+    }
+
   }
   if (!unknown_fields().empty()) {
     total_size +=
@@ -4892,6 +4987,9 @@ void QueryData::MergeFrom(const QueryData& from) {
     if (from.has_def()) {
       mutable_def()->::exec::shared::RecordBatchDef::MergeFrom(from.def());
     }
+    if (from.has_compression()) {
+      set_compression(from.compression());
+    }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
@@ -4918,6 +5016,7 @@ void QueryData::Swap(QueryData* other) {
     std::swap(query_id_, other->query_id_);
     std::swap(row_count_, other->row_count_);
     std::swap(def_, other->def_);
+    std::swap(compression_, other->compression_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
@@ -5427,6 +5526,7 @@ const int QueryProfile::kErrorNodeFieldNumber;
 const int QueryProfile::kOptionsJsonFieldNumber;
 const int QueryProfile::kPlanEndFieldNumber;
 const int QueryProfile::kQueueWaitEndFieldNumber;
+const int QueryProfile::kPlanningPhaseProfileFieldNumber;
 #endif  // !_MSC_VER
 
 QueryProfile::QueryProfile()
@@ -5586,6 +5686,7 @@ void QueryProfile::Clear() {
     queuewaitend_ = GOOGLE_LONGLONG(0);
   }
   fragment_profile_.Clear();
+  planning_phase_profile_.Clear();
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
@@ -5908,6 +6009,21 @@ bool QueryProfile::MergePartialFromCodedStream(
         } else {
           goto handle_uninterpreted;
         }
+        if (input->ExpectTag(162)) goto parse_planning_phase_profile;
+        break;
+      }
+
+      // repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;
+      case 20: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_planning_phase_profile:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_planning_phase_profile()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(162)) goto parse_planning_phase_profile;
         if (input->ExpectAtEnd()) return true;
         break;
       }
@@ -6062,6 +6178,12 @@ void QueryProfile::SerializeWithCachedSizes(
     ::google::protobuf::internal::WireFormatLite::WriteInt64(19, this->queuewaitend(), output);
   }
 
+  // repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;
+  for (int i = 0; i < this->planning_phase_profile_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      20, this->planning_phase_profile(i), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -6213,6 +6335,13 @@ void QueryProfile::SerializeWithCachedSizes(
     target = ::google::protobuf::internal::WireFormatLite::WriteInt64ToArray(19, this->queuewaitend(), target);
   }
 
+  // repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;
+  for (int i = 0; i < this->planning_phase_profile_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        20, this->planning_phase_profile(i), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -6361,6 +6490,14 @@ int QueryProfile::ByteSize() const {
         this->fragment_profile(i));
   }
 
+  // repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;
+  total_size += 2 * this->planning_phase_profile_size();
+  for (int i = 0; i < this->planning_phase_profile_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->planning_phase_profile(i));
+  }
+
   if (!unknown_fields().empty()) {
     total_size +=
       ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
@@ -6387,6 +6524,7 @@ void QueryProfile::MergeFrom(const ::google::protobuf::Message& from) {
 void QueryProfile::MergeFrom(const QueryProfile& from) {
   GOOGLE_CHECK_NE(&from, this);
   fragment_profile_.MergeFrom(from.fragment_profile_);
+  planning_phase_profile_.MergeFrom(from.planning_phase_profile_);
   if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
     if (from.has_id()) {
       mutable_id()->::exec::shared::QueryId::MergeFrom(from.id());
@@ -6488,6 +6626,7 @@ void QueryProfile::Swap(QueryProfile* other) {
     std::swap(options_json_, other->options_json_);
     std::swap(planend_, other->planend_);
     std::swap(queuewaitend_, other->queuewaitend_);
+    planning_phase_profile_.Swap(&other->planning_phase_profile_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
@@ -6503,6 +6642,311 @@ void QueryProfile::Swap(QueryProfile* other) {
 }
 
 
+// ===================================================================
+
+#ifndef _MSC_VER
+const int PlanningPhaseProfile::kNameFieldNumber;
+const int PlanningPhaseProfile::kCountFieldNumber;
+const int PlanningPhaseProfile::kTimeNanosFieldNumber;
+#endif  // !_MSC_VER
+
+PlanningPhaseProfile::PlanningPhaseProfile()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void PlanningPhaseProfile::InitAsDefaultInstance() {
+}
+
+PlanningPhaseProfile::PlanningPhaseProfile(const PlanningPhaseProfile& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void PlanningPhaseProfile::SharedCtor() {
+  _cached_size_ = 0;
+  name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  count_ = 0;
+  time_nanos_ = GOOGLE_LONGLONG(0);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+PlanningPhaseProfile::~PlanningPhaseProfile() {
+  SharedDtor();
+}
+
+void PlanningPhaseProfile::SharedDtor() {
+  if (name_ != &::google::protobuf::internal::kEmptyString) {
+    delete name_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void PlanningPhaseProfile::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* PlanningPhaseProfile::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return PlanningPhaseProfile_descriptor_;
+}
+
+const PlanningPhaseProfile& PlanningPhaseProfile::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_UserBitShared_2eproto();
+  return *default_instance_;
+}
+
+PlanningPhaseProfile* PlanningPhaseProfile::default_instance_ = NULL;
+
+PlanningPhaseProfile* PlanningPhaseProfile::New() const {
+  return new PlanningPhaseProfile;
+}
+
+void PlanningPhaseProfile::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_name()) {
+      if (name_ != &::google::protobuf::internal::kEmptyString) {
+        name_->clear();
+      }
+    }
+    count_ = 0;
+    time_nanos_ = GOOGLE_LONGLONG(0);
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool PlanningPhaseProfile::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // optional string name = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_name()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->name().data(), this->name().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_count;
+        break;
+      }
+
+      // optional int32 count = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_count:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::int32, ::google::protobuf::internal::WireFormatLite::TYPE_INT32>(
+                 input, &count_)));
+          set_has_count();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_time_nanos;
+        break;
+      }
+
+      // optional int64 time_nanos = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_time_nanos:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::int64, ::google::protobuf::internal::WireFormatLite::TYPE_INT64>(
+                 input, &time_nanos_)));
+          set_has_time_nanos();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void PlanningPhaseProfile::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // optional string name = 1;
+  if (has_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->name().data(), this->name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->name(), output);
+  }
+
+  // optional int32 count = 2;
+  if (has_count()) {
+    ::google::protobuf::internal::WireFormatLite::WriteInt32(2, this->count(), output);
+  }
+
+  // optional int64 time_nanos = 3;
+  if (has_time_nanos()) {
+    ::google::protobuf::internal::WireFormatLite::WriteInt64(3, this->time_nanos(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* PlanningPhaseProfile::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // optional string name = 1;
+  if (has_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->name().data(), this->name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->name(), target);
+  }
+
+  // optional int32 count = 2;
+  if (has_count()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteInt32ToArray(2, this->count(), target);
+  }
+
+  // optional int64 time_nanos = 3;
+  if (has_time_nanos()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteInt64ToArray(3, this->time_nanos(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int PlanningPhaseProfile::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // optional string name = 1;
+    if (has_name()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->name());
+    }
+
+    // optional int32 count = 2;
+    if (has_count()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::Int32Size(
+          this->count());
+    }
+
+    // optional int64 time_nanos = 3;
+    if (has_time_nanos()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::Int64Size(
+          this->time_nanos());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void PlanningPhaseProfile::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const PlanningPhaseProfile* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const PlanningPhaseProfile*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void PlanningPhaseProfile::MergeFrom(const PlanningPhaseProfile& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_name()) {
+      set_name(from.name());
+    }
+    if (from.has_count()) {
+      set_count(from.count());
+    }
+    if (from.has_time_nanos()) {
+      set_time_nanos(from.time_nanos());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void PlanningPhaseProfile::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void PlanningPhaseProfile::CopyFrom(const PlanningPhaseProfile& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool PlanningPhaseProfile::IsInitialized() const {
+
+  return true;
+}
+
+void PlanningPhaseProfile::Swap(PlanningPhaseProfile* other) {
+  if (other != this) {
+    std::swap(name_, other->name_);
+    std::swap(count_, other->count_);
+    std::swap(time_nanos_, other->time_nanos_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata PlanningPhaseProfile::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = PlanningPhaseProfile_descriptor_;
+  metadata.reflection = PlanningPhaseProfile_reflection_;
+  return metadata;
+}
+
+
 // ===================================================================
 
 #ifndef _MSC_VER
@@ -52,6 +52,7 @@ class QueryResult;
 class QueryData;
 class QueryInfo;
 class QueryProfile;
+class PlanningPhaseProfile;
 class MajorFragmentProfile;
 class MinorFragmentProfile;
 class OperatorProfile;
@@ -174,6 +175,25 @@ inline bool QueryType_Parse(
   return ::google::protobuf::internal::ParseNamedEnum<QueryType>(
     QueryType_descriptor(), name, value);
 }
+enum CompressionCodec {
+  UNCOMPRESSED = 0,
+  DEFLATE = 1
+};
+bool CompressionCodec_IsValid(int value);
+const CompressionCodec CompressionCodec_MIN = UNCOMPRESSED;
+const CompressionCodec CompressionCodec_MAX = DEFLATE;
+const int CompressionCodec_ARRAYSIZE = CompressionCodec_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* CompressionCodec_descriptor();
+inline const ::std::string& CompressionCodec_Name(CompressionCodec value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    CompressionCodec_descriptor(), value);
+}
+inline bool CompressionCodec_Parse(
+    const ::std::string& name, CompressionCodec* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<CompressionCodec>(
+    CompressionCodec_descriptor(), name, value);
+}
 enum FragmentState {
   SENDING = 0,
   AWAITING_ALLOCATION = 1,
@@ -235,11 +255,13 @@ enum CoreOperatorType {
   HBASE_SUB_SCAN = 33,
   WINDOW = 34,
   NESTED_LOOP_JOIN = 35,
-  AVRO_SUB_SCAN = 36
+  AVRO_SUB_SCAN = 36,
+  PCAP_SUB_SCAN = 37,
+  FLATTEN = 38
 };
 bool CoreOperatorType_IsValid(int value);
 const CoreOperatorType CoreOperatorType_MIN = SINGLE_SENDER;
-const CoreOperatorType CoreOperatorType_MAX = AVRO_SUB_SCAN;
+const CoreOperatorType CoreOperatorType_MAX = FLATTEN;
 const int CoreOperatorType_ARRAYSIZE = CoreOperatorType_MAX + 1;
 
 const ::google::protobuf::EnumDescriptor* CoreOperatorType_descriptor();
@@ -1697,6 +1719,13 @@ class QueryData : public ::google::protobuf::Message {
   inline ::exec::shared::RecordBatchDef* release_def();
   inline void set_allocated_def(::exec::shared::RecordBatchDef* def);
 
+  // optional .exec.shared.CompressionCodec compression = 4;
+  inline bool has_compression() const;
+  inline void clear_compression();
+  static const int kCompressionFieldNumber = 4;
+  inline ::exec::shared::CompressionCodec compression() const;
+  inline void set_compression(::exec::shared::CompressionCodec value);
+
   // @@protoc_insertion_point(class_scope:exec.shared.QueryData)
  private:
   inline void set_has_query_id();
@@ -1705,15 +1734,18 @@ class QueryData : public ::google::protobuf::Message {
   inline void clear_has_row_count();
   inline void set_has_def();
   inline void clear_has_def();
+  inline void set_has_compression();
+  inline void clear_has_compression();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
   ::exec::shared::QueryId* query_id_;
   ::exec::shared::RecordBatchDef* def_;
   ::google::protobuf::int32 row_count_;
+  int compression_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
 
   friend void  protobuf_AddDesc_UserBitShared_2eproto();
   friend void protobuf_AssignDesc_UserBitShared_2eproto();
@@ -2110,6 +2142,18 @@ class QueryProfile : public ::google::protobuf::Message {
   inline ::google::protobuf::int64 queuewaitend() const;
   inline void set_queuewaitend(::google::protobuf::int64 value);
 
+  // repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;
+  inline int planning_phase_profile_size() const;
+  inline void clear_planning_phase_profile();
+  static const int kPlanningPhaseProfileFieldNumber = 20;
+  inline const ::exec::shared::PlanningPhaseProfile& planning_phase_profile(int index) const;
+  inline ::exec::shared::PlanningPhaseProfile* mutable_planning_phase_profile(int index);
+  inline ::exec::shared::PlanningPhaseProfile* add_planning_phase_profile();
+  inline const ::google::protobuf::RepeatedPtrField< ::exec::shared::PlanningPhaseProfile >&
+      planning_phase_profile() const;
+  inline ::google::protobuf::RepeatedPtrField< ::exec::shared::PlanningPhaseProfile >*
+      mutable_planning_phase_profile();
+
   // @@protoc_insertion_point(class_scope:exec.shared.QueryProfile)
  private:
   inline void set_has_id();
@@ -2171,9 +2215,10 @@ class QueryProfile : public ::google::protobuf::Message {
   ::std::string* options_json_;
   ::google::protobuf::int64 planend_;
   ::google::protobuf::int64 queuewaitend_;
+  ::google::protobuf::RepeatedPtrField< ::exec::shared::PlanningPhaseProfile > planning_phase_profile_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(19 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(20 + 31) / 32];
 
   friend void  protobuf_AddDesc_UserBitShared_2eproto();
   friend void protobuf_AssignDesc_UserBitShared_2eproto();
@@ -2184,6 +2229,113 @@ class QueryProfile : public ::google::protobuf::Message {
 };
 // -------------------------------------------------------------------
 
+class PlanningPhaseProfile : public ::google::protobuf::Message {
+ public:
+  PlanningPhaseProfile();
+  virtual ~PlanningPhaseProfile();
+
+  PlanningPhaseProfile(const PlanningPhaseProfile& from);
+
+  inline PlanningPhaseProfile& operator=(const PlanningPhaseProfile& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const PlanningPhaseProfile& default_instance();
+
+  void Swap(PlanningPhaseProfile* other);
+
+  // implements Message ----------------------------------------------
+
+  PlanningPhaseProfile* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const PlanningPhaseProfile& from);
+  void MergeFrom(const PlanningPhaseProfile& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // optional string name = 1;
+  inline bool has_name() const;
+  inline void clear_name();
+  static const int kNameFieldNumber = 1;
+  inline const ::std::string& name() const;
+  inline void set_name(const ::std::string& value);
+  inline void set_name(const char* value);
+  inline void set_name(const char* value, size_t size);
+  inline ::std::string* mutable_name();
+  inline ::std::string* release_name();
+  inline void set_allocated_name(::std::string* name);
+
+  // optional int32 count = 2;
+  inline bool has_count() const;
+  inline void clear_count();
+  static const int kCountFieldNumber = 2;
+  inline ::google::protobuf::int32 count() const;
+  inline void set_count(::google::protobuf::int32 value);
+
+  // optional int64 time_nanos = 3;
+  inline bool has_time_nanos() const;
+  inline void clear_time_nanos();
+  static const int kTimeNanosFieldNumber = 3;
+  inline ::google::protobuf::int64 time_nanos() const;
+  inline void set_time_nanos(::google::protobuf::int64 value);
+
+  // @@protoc_insertion_point(class_scope:exec.shared.PlanningPhaseProfile)
+ private:
+  inline void set_has_name();
+  inline void clear_has_name();
+  inline void set_has_count();
+  inline void clear_has_count();
+  inline void set_has_time_nanos();
+  inline void clear_has_time_nanos();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* name_;
+  ::google::protobuf::int64 time_nanos_;
+  ::google::protobuf::int32 count_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_UserBitShared_2eproto();
+  friend void protobuf_AssignDesc_UserBitShared_2eproto();
+  friend void protobuf_ShutdownFile_UserBitShared_2eproto();
+
+  void InitAsDefaultInstance();
+  static PlanningPhaseProfile* default_instance_;
+};
+// -------------------------------------------------------------------
+
 class MajorFragmentProfile : public ::google::protobuf::Message {
  public:
   MajorFragmentProfile();
@@ -4698,6 +4850,29 @@ inline void QueryData::set_allocated_def(::exec::shared::RecordBatchDef* def) {
   }
 }
 
+// optional .exec.shared.CompressionCodec compression = 4;
+inline bool QueryData::has_compression() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void QueryData::set_has_compression() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void QueryData::clear_has_compression() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void QueryData::clear_compression() {
+  compression_ = 0;
+  clear_has_compression();
+}
+inline ::exec::shared::CompressionCodec QueryData::compression() const {
+  return static_cast< ::exec::shared::CompressionCodec >(compression_);
+}
+inline void QueryData::set_compression(::exec::shared::CompressionCodec value) {
+  assert(::exec::shared::CompressionCodec_IsValid(value));
+  set_has_compression();
+  compression_ = value;
+}
+
 // -------------------------------------------------------------------
 
 // QueryInfo
@@ -5838,6 +6013,149 @@ inline void QueryProfile::set_queuewaitend(::google::protobuf::int64 value) {
   queuewaitend_ = value;
 }
 
+// repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;
+inline int QueryProfile::planning_phase_profile_size() const {
+  return planning_phase_profile_.size();
+}
+inline void QueryProfile::clear_planning_phase_profile() {
+  planning_phase_profile_.Clear();
+}
+inline const ::exec::shared::PlanningPhaseProfile& QueryProfile::planning_phase_profile(int index) const {
+  return planning_phase_profile_.Get(index);
+}
+inline ::exec::shared::PlanningPhaseProfile* QueryProfile::mutable_planning_phase_profile(int index) {
+  return planning_phase_profile_.Mutable(index);
+}
+inline ::exec::shared::PlanningPhaseProfile* QueryProfile::add_planning_phase_profile() {
+  return planning_phase_profile_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::exec::shared::PlanningPhaseProfile >&
+QueryProfile::planning_phase_profile() const {
+  return planning_phase_profile_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::exec::shared::PlanningPhaseProfile >*
+QueryProfile::mutable_planning_phase_profile() {
+  return &planning_phase_profile_;
+}
+
+// -------------------------------------------------------------------
+
+// PlanningPhaseProfile
+
+// optional string name = 1;
+inline bool PlanningPhaseProfile::has_name() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void PlanningPhaseProfile::set_has_name() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void PlanningPhaseProfile::clear_has_name() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void PlanningPhaseProfile::clear_name() {
+  if (name_ != &::google::protobuf::internal::kEmptyString) {
+    name_->clear();
+  }
+  clear_has_name();
+}
+inline const ::std::string& PlanningPhaseProfile::name() const {
+  return *name_;
+}
+inline void PlanningPhaseProfile::set_name(const ::std::string& value) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(value);
+}
+inline void PlanningPhaseProfile::set_name(const char* value) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(value);
+}
+inline void PlanningPhaseProfile::set_name(const char* value, size_t size) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* PlanningPhaseProfile::mutable_name() {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  return name_;
+}
+inline ::std::string* PlanningPhaseProfile::release_name() {
+  clear_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = name_;
+    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void PlanningPhaseProfile::set_allocated_name(::std::string* name) {
+  if (name_ != &::google::protobuf::internal::kEmptyString) {
+    delete name_;
+  }
+  if (name) {
+    set_has_name();
+    name_ = name;
+  } else {
+    clear_has_name();
+    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional int32 count = 2;
+inline bool PlanningPhaseProfile::has_count() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void PlanningPhaseProfile::set_has_count() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void PlanningPhaseProfile::clear_has_count() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void PlanningPhaseProfile::clear_count() {
+  count_ = 0;
+  clear_has_count();
+}
+inline ::google::protobuf::int32 PlanningPhaseProfile::count() const {
+  return count_;
+}
+inline void PlanningPhaseProfile::set_count(::google::protobuf::int32 value) {
+  set_has_count();
+  count_ = value;
+}
+
+// optional int64 time_nanos = 3;
+inline bool PlanningPhaseProfile::has_time_nanos() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void PlanningPhaseProfile::set_has_time_nanos() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void PlanningPhaseProfile::clear_has_time_nanos() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void PlanningPhaseProfile::clear_time_nanos() {
+  time_nanos_ = GOOGLE_LONGLONG(0);
+  clear_has_time_nanos();
+}
+inline ::google::protobuf::int64 PlanningPhaseProfile::time_nanos() const {
+  return time_nanos_;
+}
+inline void PlanningPhaseProfile::set_time_nanos(::google::protobuf::int64 value) {
+  set_has_time_nanos();
+  time_nanos_ = value;
+}
+
 // -------------------------------------------------------------------
 
 // MajorFragmentProfile
@@ -6842,6 +7160,10 @@ inline const EnumDescriptor* GetEnumDescriptor< ::exec::shared::QueryType>() {
   return ::exec::shared::QueryType_descriptor();
 }
 template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::exec::shared::CompressionCodec>() {
+  return ::exec::shared::CompressionCodec_descriptor();
+}
+template <>
 inline const EnumDescriptor* GetEnumDescriptor< ::exec::shared::FragmentState>() {
   return ::exec::shared::FragmentState_descriptor();
 }
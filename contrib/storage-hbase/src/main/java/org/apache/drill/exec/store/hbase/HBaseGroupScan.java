@@ -33,6 +33,7 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.drill.common.config.DrillConfig;
 import org.apache.drill.common.exceptions.DrillRuntimeException;
 import org.apache.drill.common.exceptions.ExecutionSetupException;
 import org.apache.drill.common.expression.SchemaPath;
@@ -55,6 +56,7 @@ import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.client.Admin;
 import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.util.Bytes;
 
 import com.fasterxml.jackson.annotation.JacksonInject;
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -81,6 +83,14 @@ public class HBaseGroupScan extends AbstractGroupScan implements DrillHBaseConst
 
   private static final Comparator<List<HBaseSubScanSpec>> LIST_SIZE_COMPARATOR_REV = Collections.reverseOrder(LIST_SIZE_COMPARATOR);
 
+  /**
+   * Regions larger than this size (in bytes) are scanned as several row key ranges, by different
+   * minor fragments. Only applies when region sizes are known (see 'size.calculator.enabled').
+   */
+  private static final String DRILL_EXEC_HBASE_SCAN_SPLIT_SIZE = "drill.exec.hbase.scan.split.size";
+
+  private static final long DEFAULT_SCAN_SPLIT_SIZE = 1024L * 1024L * 1024L;
+
   private HBaseStoragePluginConfig storagePluginConfig;
 
   private List<SchemaPath> columns;
@@ -159,6 +169,8 @@ public class HBaseGroupScan extends AbstractGroupScan implements DrillHBaseConst
       List<HRegionLocation> regionLocations = locator.getAllRegionLocations();
       statsCalculator = new TableStatsCalculator(conn, hbaseScanSpec, storagePlugin.getContext().getConfig(), storagePluginConfig);
 
+      final long splitSize = getScanSplitSize();
+
       boolean foundStartRegion = false;
       regionsToScan = new TreeMap<HRegionInfo, ServerName>();
       for (HRegionLocation regionLocation : regionLocations) {
@@ -167,8 +179,15 @@ public class HBaseGroupScan extends AbstractGroupScan implements DrillHBaseConst
           continue;
         }
         foundStartRegion = true;
-        regionsToScan.put(regionInfo, regionLocation.getServerName());
-        scanSizeInBytes += statsCalculator.getRegionSizeInBytes(regionInfo.getRegionName());
+        final long regionSize = statsCalculator.getRegionSizeInBytes(regionInfo.getRegionName());
+        if (statsCalculator.hasRegionSizes() && splitSize > 0 && regionSize > splitSize) {
+          for (HRegionInfo range : splitRegion(regionInfo, (int) Math.min(Integer.MAX_VALUE, (regionSize + splitSize - 1) / splitSize))) {
+            regionsToScan.put(range, regionLocation.getServerName());
+          }
+        } else {
+          regionsToScan.put(regionInfo, regionLocation.getServerName());
+        }
+        scanSizeInBytes += regionSize;
         if (hbaseScanSpec.getStopRow() != null && hbaseScanSpec.getStopRow().length != 0 && regionInfo.containsRow(hbaseScanSpec.getStopRow())) {
           break;
         }
@@ -179,6 +198,66 @@ public class HBaseGroupScan extends AbstractGroupScan implements DrillHBaseConst
     verifyColumns();
   }
 
+  private long getScanSplitSize() {
+    final DrillConfig config = storagePlugin.getContext().getConfig();
+    return config.hasPath(DRILL_EXEC_HBASE_SCAN_SPLIT_SIZE)
+        ? config.getBytes(DRILL_EXEC_HBASE_SCAN_SPLIT_SIZE) : DEFAULT_SCAN_SPLIT_SIZE;
+  }
+
+  /**
+   * Splits the part of the region covered by the scan into row key ranges, which are assigned
+   * to minor fragments like regions. Regions without an end key (the last region of the table)
+   * can only be split when the scan has a stop row.
+   */
+  private List<HRegionInfo> splitRegion(HRegionInfo regionInfo, int numSplits) {
+    final byte[] startRow = isNullOrEmpty(hbaseScanSpec.getStartRow()) || !regionInfo.containsRow(hbaseScanSpec.getStartRow())
+        ? regionInfo.getStartKey() : hbaseScanSpec.getStartRow();
+    final byte[] stopRow = isNullOrEmpty(hbaseScanSpec.getStopRow()) || !regionInfo.containsRow(hbaseScanSpec.getStopRow())
+        ? regionInfo.getEndKey() : hbaseScanSpec.getStopRow();
+
+    final List<HRegionInfo> ranges = Lists.newArrayList();
+    final List<byte[]> boundaries = splitKeyRange(startRow, stopRow, numSplits);
+    for (int i = 0; i < boundaries.size() - 1; i++) {
+      ranges.add(new HRegionInfo(regionInfo.getTable(), boundaries.get(i), boundaries.get(i + 1), false,
+          regionInfo.getRegionId()));
+    }
+    logger.debug("Split region {} into {} ranges", regionInfo.getRegionNameAsString(), ranges.size());
+    return ranges;
+  }
+
+  /**
+   * Divides the row key range [startRow, stopRow) into (at most) <code>numSplits</code> ranges of
+   * about the same key space, assuming the keys are evenly distributed in the range.
+   *
+   * @return the boundaries of the ranges, starting with <code>startRow</code> and ending with
+   *         <code>stopRow</code>; just these two when the range cannot be split
+   */
+  @VisibleForTesting
+  public static List<byte[]> splitKeyRange(byte[] startRow, byte[] stopRow, int numSplits) {
+    final List<byte[]> boundaries = Lists.newArrayList();
+    boundaries.add(startRow);
+    if (numSplits > 1 && stopRow.length > 0 && Bytes.compareTo(startRow, stopRow) < 0) {
+      byte[][] splitKeys = null;
+      try {
+        splitKeys = Bytes.split(startRow, stopRow, numSplits - 1);
+      } catch (IllegalArgumentException e) {
+        logger.debug("Unable to split row key range [{}, {})", Bytes.toStringBinary(startRow),
+            Bytes.toStringBinary(stopRow), e);
+      }
+      if (splitKeys != null) {
+        // the first and last keys are the (padded) ends of the range
+        for (int i = 1; i < splitKeys.length - 1; i++) {
+          final byte[] last = boundaries.get(boundaries.size() - 1);
+          if (Bytes.compareTo(splitKeys[i], last) > 0 && Bytes.compareTo(splitKeys[i], stopRow) < 0) {
+            boundaries.add(splitKeys[i]);
+          }
+        }
+      }
+    }
+    boundaries.add(stopRow);
+    return boundaries;
+  }
+
   private void verifyColumns() {
     if (AbstractRecordReader.isStarQuery(columns)) {
       return;
@@ -338,7 +417,49 @@ public class HBaseGroupScan extends AbstractGroupScan implements DrillHBaseConst
         .setRegionServer(regionsToScan.get(ri).getHostname())
         .setStartRow((!isNullOrEmpty(spec.getStartRow()) && ri.containsRow(spec.getStartRow())) ? spec.getStartRow() : ri.getStartKey())
         .setStopRow((!isNullOrEmpty(spec.getStopRow()) && ri.containsRow(spec.getStopRow())) ? spec.getStopRow() : ri.getEndKey())
-        .setSerializedFilter(spec.getSerializedFilter());
+        .setSerializedFilter(spec.getSerializedFilter())
+        .setEstimatedRowSize(getEstimatedRowSize());
+  }
+
+  /**
+   * Returns the fraction of the data of the table read for the projected columns: the row key
+   * alone is read as one cell, a column family as its share of the families of the table and a
+   * column as its share of the cells of a row (as sampled by {@link TableStatsCalculator}.)
+   */
+  private double getProjectedFraction() {
+    if (AbstractRecordReader.isStarQuery(columns) || statsCalculator == null || hTableDesc == null) {
+      return 1;
+    }
+    final int colsPerRow = Math.max(1, statsCalculator.getColsPerRow());
+    final Set<String> families = Sets.newHashSet();
+    int qualifiers = 0;
+    for (SchemaPath column : columns) {
+      if (column.equals(ROW_KEY_PATH)) {
+        continue;
+      }
+      if (column.getRootSegment().getChild() != null && column.getRootSegment().getChild().isNamed()) {
+        qualifiers++;
+      } else {
+        families.add(column.getRootSegment().getPath());
+      }
+    }
+    if (families.isEmpty() && qualifiers == 0) {
+      // row key only, HBase returns the first cell of each row
+      return 1.0 / colsPerRow;
+    }
+    final double fraction = (double) families.size() / Math.max(1, hTableDesc.getFamilies().size())
+        + (double) qualifiers / colsPerRow;
+    return Math.min(1, fraction);
+  }
+
+  /**
+   * @return the estimated size in bytes of the projected part of a row, 0 if unknown
+   */
+  private int getEstimatedRowSize() {
+    if (statsCalculator == null) {
+      return 0;
+    }
+    return (int) Math.max(1, statsCalculator.getAvgRowSizeInBytes() * getProjectedFraction());
   }
 
   private boolean isNullOrEmpty(byte[] key) {
@@ -362,8 +483,8 @@ public class HBaseGroupScan extends AbstractGroupScan implements DrillHBaseConst
   @Override
   public ScanStats getScanStats() {
     long rowCount = (long) ((scanSizeInBytes / statsCalculator.getAvgRowSizeInBytes()) * (hbaseScanSpec.getFilter() != null ? 0.5 : 1));
-    // the following calculation is not precise since 'columns' could specify CFs while getColsPerRow() returns the number of qualifier.
-    float diskCost = scanSizeInBytes * ((columns == null || columns.isEmpty()) ? 1 : columns.size()/statsCalculator.getColsPerRow());
+    // only the projected column families and columns are read from disk
+    float diskCost = (float) (scanSizeInBytes * getProjectedFraction());
     return new ScanStats(GroupScanProperty.NO_EXACT_ROW_COUNT, rowCount, 1, diskCost);
   }
 
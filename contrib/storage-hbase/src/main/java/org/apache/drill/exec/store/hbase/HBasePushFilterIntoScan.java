@@ -31,6 +31,7 @@ import org.apache.drill.exec.planner.physical.FilterPrel;
 import org.apache.drill.exec.planner.physical.PrelUtil;
 import org.apache.drill.exec.planner.physical.ProjectPrel;
 import org.apache.drill.exec.planner.physical.ScanPrel;
+import org.apache.drill.exec.planner.sql.QueryParameters;
 import org.apache.drill.exec.store.StoragePluginOptimizerRule;
 
 import com.google.common.collect.ImmutableList;
@@ -111,6 +112,10 @@ public abstract class HBasePushFilterIntoScan extends StoragePluginOptimizerRule
 
 
   protected void doPushFilterToScan(final RelOptRuleCall call, final FilterPrel filter, final ProjectPrel project, final ScanPrel scan, final HBaseGroupScan groupScan, final RexNode condition) {
+    if (QueryParameters.hasParameters(condition)) {
+      // the pushed down condition would keep the placeholders of the parameters instead of their values
+      return;
+    }
 
     final LogicalExpression conditionExp = DrillOptiq.toDrill(new DrillParseContext(PrelUtil.getPlannerSettings(call.getPlanner())), scan, condition);
     final HBaseFilterBuilder hbaseFilterBuilder = new HBaseFilterBuilder(groupScan, conditionExp);
@@ -0,0 +1,127 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.hbase;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptRuleOperand;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.drill.exec.planner.logical.RelOptHelper;
+import org.apache.drill.exec.planner.physical.LimitPrel;
+import org.apache.drill.exec.planner.physical.ProjectPrel;
+import org.apache.drill.exec.planner.physical.ScanPrel;
+import org.apache.drill.exec.store.StoragePluginOptimizerRule;
+import org.apache.hadoop.hbase.filter.Filter;
+import org.apache.hadoop.hbase.filter.FilterList;
+import org.apache.hadoop.hbase.filter.PageFilter;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Pushes a limit on top of an HBase scan (or of a project over the scan) into the scan as a {@link PageFilter}, added as the
+ * last filter of the scan. The page filter limits the rows returned by each region, so the Limit
+ * operator stays in the plan to apply it to the rows of all the regions.
+ */
+public abstract class HBasePushLimitIntoScan extends StoragePluginOptimizerRule {
+
+  private HBasePushLimitIntoScan(RelOptRuleOperand operand, String description) {
+    super(operand, description);
+  }
+
+  public static final StoragePluginOptimizerRule LIMIT_ON_SCAN = new HBasePushLimitIntoScan(RelOptHelper.some(LimitPrel.class, RelOptHelper.any(ScanPrel.class)), "HBasePushLimitIntoScan:Limit_On_Scan") {
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+      final LimitPrel limit = (LimitPrel) call.rel(0);
+      final ScanPrel scan = (ScanPrel) call.rel(1);
+      doPushLimitToScan(call, limit, null, scan);
+    }
+
+    @Override
+    public boolean matches(RelOptRuleCall call) {
+      final ScanPrel scan = (ScanPrel) call.rel(1);
+      if (scan.getGroupScan() instanceof HBaseGroupScan) {
+        return super.matches(call);
+      }
+      return false;
+    }
+  };
+
+  public static final StoragePluginOptimizerRule LIMIT_ON_PROJECT = new HBasePushLimitIntoScan(RelOptHelper.some(LimitPrel.class, RelOptHelper.some(ProjectPrel.class, RelOptHelper.any(ScanPrel.class))), "HBasePushLimitIntoScan:Limit_On_Project") {
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+      final LimitPrel limit = (LimitPrel) call.rel(0);
+      final ProjectPrel project = (ProjectPrel) call.rel(1);
+      final ScanPrel scan = (ScanPrel) call.rel(2);
+      doPushLimitToScan(call, limit, project, scan);
+    }
+
+    @Override
+    public boolean matches(RelOptRuleCall call) {
+      final ScanPrel scan = (ScanPrel) call.rel(2);
+      if (scan.getGroupScan() instanceof HBaseGroupScan) {
+        return super.matches(call);
+      }
+      return false;
+    }
+  };
+
+  protected void doPushLimitToScan(final RelOptRuleCall call, final LimitPrel limit, final ProjectPrel project, final ScanPrel scan) {
+    if (limit.getFetch() == null) {
+      return;
+    }
+
+    final long rows = (limit.getOffset() == null ? 0L : RexLiteral.intValue(limit.getOffset()))
+        + RexLiteral.intValue(limit.getFetch());
+
+    final HBaseGroupScan groupScan = (HBaseGroupScan) scan.getGroupScan();
+    final HBaseScanSpec scanSpec = groupScan.getHBaseScanSpec();
+    if (hasPageFilter(scanSpec.getFilter())) {
+      return;
+    }
+
+    final HBaseScanSpec newScanSpec = new HBaseScanSpec(scanSpec.getTableName(), scanSpec.getStartRow(),
+        scanSpec.getStopRow(), HBaseUtils.andFilterAtIndex(scanSpec.getFilter(), HBaseUtils.LAST_FILTER, new PageFilter(rows)));
+    final HBaseGroupScan newGroupScan = new HBaseGroupScan(groupScan.getUserName(), groupScan.getStoragePlugin(),
+        newScanSpec, groupScan.getColumns());
+    if (groupScan.isFilterPushedDown()) {
+      newGroupScan.setFilterPushedDown(true);
+    }
+    final ScanPrel newScanPrel = ScanPrel.create(scan, scan.getTraitSet(), newGroupScan, scan.getRowType());
+
+    // Depending on whether is a project in the middle, assign either scan or copy of project to childRel.
+    final RelNode childRel = project == null ? newScanPrel : project.copy(project.getTraitSet(), ImmutableList.of((RelNode) newScanPrel));
+    call.transformTo(limit.copy(limit.getTraitSet(), ImmutableList.of(childRel)));
+  }
+
+  private static boolean hasPageFilter(Filter filter) {
+    if (filter instanceof PageFilter) {
+      return true;
+    }
+    if (filter instanceof FilterList) {
+      for (Filter f : ((FilterList) filter).getFilters()) {
+        if (hasPageFilter(f)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+}
@@ -65,6 +65,9 @@ public class HBaseRecordReader extends AbstractRecordReader implements DrillHBas
   // batch size should not exceed max allowed record count
   private static final int TARGET_RECORD_COUNT = 4000;
 
+  // upper bound of the size of the rows returned by one scanner RPC
+  private static final long MAX_RESULT_SIZE_PER_RPC = 8 * 1024 * 1024; // 8 mb in bytes
+
   private OutputMutator outputMutator;
 
   private Map<String, MapVector> familyVectorMap;
@@ -89,11 +92,25 @@ public class HBaseRecordReader extends AbstractRecordReader implements DrillHBas
     hbaseScan = new Scan(subScanSpec.getStartRow(), subScanSpec.getStopRow());
     hbaseScan
         .setFilter(subScanSpec.getScanFilter())
-        .setCaching(TARGET_RECORD_COUNT);
+        .setCaching(getCaching(subScanSpec.getEstimatedRowSize()))
+        .setMaxResultSize(MAX_RESULT_SIZE_PER_RPC);
 
     setColumns(projectedColumns);
   }
 
+  /**
+   * Returns the number of rows to fetch per scanner RPC: a full batch for narrow rows, less for
+   * wide rows, so that a single RPC does not have to buffer far more than {@link #MAX_RESULT_SIZE_PER_RPC}.
+   *
+   * @param estimatedRowSize estimated size of the projected part of a row, 0 if unknown
+   */
+  private static int getCaching(int estimatedRowSize) {
+    if (estimatedRowSize <= 0) {
+      return TARGET_RECORD_COUNT;
+    }
+    return (int) Math.max(1, Math.min(TARGET_RECORD_COUNT, MAX_RESULT_SIZE_PER_RPC / estimatedRowSize));
+  }
+
   @Override
   protected Collection<SchemaPath> transformColumns(Collection<SchemaPath> columns) {
     Set<SchemaPath> transformed = Sets.newLinkedHashSet();
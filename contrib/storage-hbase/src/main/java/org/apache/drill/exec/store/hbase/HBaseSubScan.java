@@ -121,6 +121,7 @@ public class HBaseSubScan extends AbstractBase implements SubScan {
     protected byte[] startRow;
     protected byte[] stopRow;
     protected byte[] serializedFilter;
+    protected int estimatedRowSize;
 
     @JsonCreator
     public HBaseSubScanSpec(@JsonProperty("tableName") String tableName,
@@ -128,7 +129,8 @@ public class HBaseSubScan extends AbstractBase implements SubScan {
                             @JsonProperty("startRow") byte[] startRow,
                             @JsonProperty("stopRow") byte[] stopRow,
                             @JsonProperty("serializedFilter") byte[] serializedFilter,
-                            @JsonProperty("filterString") String filterString) {
+                            @JsonProperty("filterString") String filterString,
+                            @JsonProperty("estimatedRowSize") int estimatedRowSize) {
       if (serializedFilter != null && filterString != null) {
         throw new IllegalArgumentException("The parameters 'serializedFilter' or 'filterString' cannot be specified at the same time.");
       }
@@ -136,6 +138,7 @@ public class HBaseSubScan extends AbstractBase implements SubScan {
       this.regionServer = regionServer;
       this.startRow = startRow;
       this.stopRow = stopRow;
+      this.estimatedRowSize = estimatedRowSize;
       if (serializedFilter != null) {
         this.serializedFilter = serializedFilter;
       } else {
@@ -143,6 +146,12 @@ public class HBaseSubScan extends AbstractBase implements SubScan {
       }
     }
 
+    public HBaseSubScanSpec(String tableName, String regionServer, byte[] startRow, byte[] stopRow,
+                            byte[] serializedFilter, String filterString) {
+      // without an estimate of the row size, the reader fetches a full batch per scanner RPC
+      this(tableName, regionServer, startRow, stopRow, serializedFilter, filterString, 0);
+    }
+
     /* package */ HBaseSubScanSpec() {
       // empty constructor, to be used with builder pattern;
     }
@@ -202,6 +211,18 @@ public class HBaseSubScan extends AbstractBase implements SubScan {
       return this;
     }
 
+    /**
+     * @return the estimated size in bytes of the projected part of a row, 0 if unknown
+     */
+    public int getEstimatedRowSize() {
+      return estimatedRowSize;
+    }
+
+    public HBaseSubScanSpec setEstimatedRowSize(int estimatedRowSize) {
+      this.estimatedRowSize = estimatedRowSize;
+      return this;
+    }
+
     @Override
     public String toString() {
       return "HBaseScanSpec [tableName=" + tableName
@@ -181,6 +181,13 @@ public class TableStatsCalculator {
     }
   }
 
+  /**
+   * Returns true if the sizes of the regions were computed, false if they are estimated.
+   */
+  public boolean hasRegionSizes() {
+    return sizeMap != null;
+  }
+
   public int getAvgRowSizeInBytes() {
     return avgRowSizeInBytes;
   }
@@ -31,6 +31,7 @@ import org.apache.drill.exec.store.hbase.HBaseScanSpec;
 import org.apache.hadoop.hbase.HRegionInfo;
 import org.apache.hadoop.hbase.ServerName;
 import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -297,6 +298,23 @@ public class TestHBaseRegionScanAssignments extends BaseHBaseTest {
     testParallelizationWidth(scan, i);
   }
 
+  @Test
+  public void testSplitKeyRange() throws Exception {
+    List<byte[]> boundaries = HBaseGroupScan.splitKeyRange(splits[1], splits[2], 4);
+    assertEquals(5, boundaries.size());
+    assertTrue(Bytes.equals(splits[1], boundaries.get(0)));
+    assertTrue(Bytes.equals(splits[2], boundaries.get(4)));
+    for (int i = 1; i < boundaries.size(); i++) {
+      assertTrue(Bytes.compareTo(boundaries.get(i - 1), boundaries.get(i)) < 0);
+    }
+
+    // a range without an end can not be split
+    boundaries = HBaseGroupScan.splitKeyRange(splits[18], splits[0], 4);
+    assertEquals(2, boundaries.size());
+    assertTrue(Bytes.equals(splits[18], boundaries.get(0)));
+    assertTrue(Bytes.equals(splits[0], boundaries.get(1)));
+  }
+
   private void testParallelizationWidth(HBaseGroupScan scan, int i) {
     try {
       scan.getSpecificScan(i);
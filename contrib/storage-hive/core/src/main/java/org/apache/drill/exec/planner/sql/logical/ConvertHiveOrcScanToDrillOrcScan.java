@@ -0,0 +1,139 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.planner.sql.logical;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.drill.common.expression.SchemaPath;
+import org.apache.drill.exec.physical.base.GroupScan;
+import org.apache.drill.exec.store.hive.HiveDrillNativeOrcScan;
+import org.apache.drill.exec.store.hive.HiveScan;
+import org.apache.drill.exec.store.hive.HiveTableWithColumnCache;
+import org.apache.drill.exec.store.hive.HiveTableWrapper.HivePartitionWrapper;
+import org.apache.hadoop.hive.metastore.api.FieldSchema;
+import org.apache.hadoop.hive.metastore.api.hive_metastoreConstants;
+import org.apache.hadoop.hive.ql.io.orc.OrcInputFormat;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector.Category;
+import org.apache.hadoop.hive.serde2.typeinfo.PrimitiveTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoUtils;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Convert Hive scan of an ORC table to use {@link org.apache.drill.exec.store.hive.HiveOrcRecordReader} instead of
+ * Hive's ORC SerDe.
+ */
+public class ConvertHiveOrcScanToDrillOrcScan extends AbstractConvertHiveScanToDrillNativeScan {
+  private static final org.slf4j.Logger logger =
+      org.slf4j.LoggerFactory.getLogger(ConvertHiveOrcScanToDrillOrcScan.class);
+
+  public static final ConvertHiveOrcScanToDrillOrcScan INSTANCE = new ConvertHiveOrcScanToDrillOrcScan();
+
+  private ConvertHiveOrcScanToDrillOrcScan() {
+    super("ConvertHiveScanToHiveDrillNativeScan:Orc");
+  }
+
+  /**
+   * Rule is matched when all of the following match:
+   * 1) GroupScan in given DrillScalRel is an {@link HiveScan}
+   * 2) {@link HiveScan} is not already rewritten using Drill's native readers
+   * 3) InputFormat in Hive table metadata and all partitions metadata contains the same value
+   *    {@link OrcInputFormat}
+   * 4) All the table columns are of primitive types other than DECIMAL and CHAR, which the native reader
+   *    doesn't support
+   * 5) Neither the table nor any of its partitions is transactional (ACID). The files of transactional tables
+   *    nest each row in a struct with the row's transaction ids, and the base and delta directories have to be
+   *    merged to get the current rows, neither of which the native reader does.
+   * 6) No error occurred while checking for the above conditions. An error is logged as warning.
+   *
+   * @param call
+   * @return True if the rule can be applied. False otherwise
+   */
+  @Override
+  public boolean matches(RelOptRuleCall call) {
+    final HiveScan hiveScan = getHiveScan(call);
+    if (hiveScan == null || !hasInputFormat(hiveScan, OrcInputFormat.class)) {
+      return false;
+    }
+
+    final HiveTableWithColumnCache hiveTable = hiveScan.hiveReadEntry.getTable();
+    if (isTransactional(hiveTable.getParameters())) {
+      logger.debug("Table '{}.{}' is transactional, which the native ORC reader doesn't support",
+          hiveTable.getDbName(), hiveTable.getTableName());
+      return false;
+    }
+
+    for (FieldSchema column : hiveTable.getSd().getCols()) {
+      if (!isSupportedType(TypeInfoUtils.getTypeInfoFromTypeString(column.getType()))) {
+        logger.debug("Column '{}' of type '{}' is not supported by the native ORC reader", column.getName(),
+            column.getType());
+        return false;
+      }
+    }
+
+    final List<HivePartitionWrapper> partitions = hiveScan.hiveReadEntry.getHivePartitionWrappers();
+    if (partitions != null) {
+      for (HivePartitionWrapper partition : partitions) {
+        if (isTransactional(partition.getPartition().getParameters())) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean isTransactional(final Map<String, String> parameters) {
+    return parameters != null
+        && Boolean.parseBoolean(parameters.get(hive_metastoreConstants.TABLE_IS_TRANSACTIONAL));
+  }
+
+  private static boolean isSupportedType(final TypeInfo typeInfo) {
+    if (typeInfo.getCategory() != Category.PRIMITIVE) {
+      return false;
+    }
+    switch (((PrimitiveTypeInfo) typeInfo).getPrimitiveCategory()) {
+      case BOOLEAN:
+      case BYTE:
+      case SHORT:
+      case INT:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+      case STRING:
+      case VARCHAR:
+      case BINARY:
+      case DATE:
+      case TIMESTAMP:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  @Override
+  protected GroupScan createNativeScan(final HiveScan hiveScan, final List<SchemaPath> columns) throws Exception {
+    return new HiveDrillNativeOrcScan(
+        hiveScan.getUserName(),
+        hiveScan.hiveReadEntry,
+        hiveScan.storagePlugin,
+        columns,
+        null);
+  }
+}
@@ -0,0 +1,122 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.planner.sql.logical;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptRuleOperand;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rex.RexNode;
+import org.apache.drill.common.expression.LogicalExpression;
+import org.apache.drill.exec.planner.logical.DrillOptiq;
+import org.apache.drill.exec.planner.logical.DrillParseContext;
+import org.apache.drill.exec.planner.logical.RelOptHelper;
+import org.apache.drill.exec.planner.physical.FilterPrel;
+import org.apache.drill.exec.planner.physical.PrelUtil;
+import org.apache.drill.exec.planner.physical.ProjectPrel;
+import org.apache.drill.exec.planner.physical.ScanPrel;
+import org.apache.drill.exec.planner.sql.QueryParameters;
+import org.apache.drill.exec.store.StoragePluginOptimizerRule;
+import org.apache.drill.exec.store.hive.HiveDrillNativeOrcScan;
+import org.apache.drill.exec.store.hive.HiveOrcFilterBuilder;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Pushes the filter on top of a {@link HiveDrillNativeOrcScan} into the scan as an ORC search argument, which
+ * lets the readers skip stripes and row groups. The filter itself is kept, as ORC does not filter rows.
+ */
+public abstract class HiveOrcPushFilterIntoScan extends StoragePluginOptimizerRule {
+
+  private HiveOrcPushFilterIntoScan(RelOptRuleOperand operand, String description) {
+    super(operand, description);
+  }
+
+  public static final StoragePluginOptimizerRule FILTER_ON_SCAN = new HiveOrcPushFilterIntoScan(RelOptHelper.some(FilterPrel.class, RelOptHelper.any(ScanPrel.class)), "HiveOrcPushFilterIntoScan:Filter_On_Scan") {
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+      final ScanPrel scan = (ScanPrel) call.rel(1);
+      final FilterPrel filter = (FilterPrel) call.rel(0);
+
+      doPushFilterToScan(call, filter, null, scan, filter.getCondition());
+    }
+
+    @Override
+    public boolean matches(RelOptRuleCall call) {
+      final ScanPrel scan = (ScanPrel) call.rel(1);
+      if (isUnfilteredOrcScan(scan)) {
+        return super.matches(call);
+      }
+      return false;
+    }
+  };
+
+  public static final StoragePluginOptimizerRule FILTER_ON_PROJECT = new HiveOrcPushFilterIntoScan(RelOptHelper.some(FilterPrel.class, RelOptHelper.some(ProjectPrel.class, RelOptHelper.any(ScanPrel.class))), "HiveOrcPushFilterIntoScan:Filter_On_Project") {
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+      final ScanPrel scan = (ScanPrel) call.rel(2);
+      final ProjectPrel project = (ProjectPrel) call.rel(1);
+      final FilterPrel filter = (FilterPrel) call.rel(0);
+
+      // convert the filter to one that references the child of the project
+      final RexNode condition = RelOptUtil.pushPastProject(filter.getCondition(), project);
+
+      doPushFilterToScan(call, filter, project, scan, condition);
+    }
+
+    @Override
+    public boolean matches(RelOptRuleCall call) {
+      final ScanPrel scan = (ScanPrel) call.rel(2);
+      if (isUnfilteredOrcScan(scan)) {
+        return super.matches(call);
+      }
+      return false;
+    }
+  };
+
+  private static boolean isUnfilteredOrcScan(ScanPrel scan) {
+    return scan.getGroupScan() instanceof HiveDrillNativeOrcScan
+        && ((HiveDrillNativeOrcScan) scan.getGroupScan()).getSearchArgument() == null;
+  }
+
+  protected void doPushFilterToScan(final RelOptRuleCall call, final FilterPrel filter, final ProjectPrel project, final ScanPrel scan, final RexNode condition) {
+    if (QueryParameters.hasParameters(condition)) {
+      // the pushed down condition would keep the placeholders of the parameters instead of their values
+      return;
+    }
+    final HiveDrillNativeOrcScan groupScan = (HiveDrillNativeOrcScan) scan.getGroupScan();
+
+    final LogicalExpression conditionExp = DrillOptiq.toDrill(new DrillParseContext(PrelUtil.getPlannerSettings(call.getPlanner())), scan, condition);
+    final HiveOrcFilterBuilder orcFilterBuilder =
+        new HiveOrcFilterBuilder(groupScan.hiveReadEntry.getTable().getSd().getCols(), conditionExp);
+    final String searchArgument = orcFilterBuilder.parseTree();
+    if (searchArgument == null) {
+      return; //no filter pushdown ==> No transformation.
+    }
+
+    final ScanPrel newScanPrel = ScanPrel.create(scan, filter.getTraitSet(), groupScan.withSearchArgument(searchArgument), scan.getRowType());
+
+    // Depending on whether is a project in the middle, assign either scan or copy of project to childRel.
+    final RelNode childRel = project == null ? newScanPrel : project.copy(project.getTraitSet(), ImmutableList.of((RelNode) newScanPrel));
+
+    call.transformTo(filter.copy(filter.getTraitSet(), ImmutableList.of(childRel)));
+  }
+
+}
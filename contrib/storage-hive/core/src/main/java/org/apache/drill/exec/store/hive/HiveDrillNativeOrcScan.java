@@ -0,0 +1,142 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.hive;
+
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import org.apache.drill.common.exceptions.ExecutionSetupException;
+import org.apache.drill.common.expression.SchemaPath;
+import org.apache.drill.exec.physical.base.GroupScan;
+import org.apache.drill.exec.physical.base.PhysicalOperator;
+import org.apache.drill.exec.physical.base.ScanStats;
+import org.apache.drill.exec.physical.base.SubScan;
+import org.apache.drill.exec.store.StoragePluginRegistry;
+import org.apache.drill.exec.store.hive.HiveTableWrapper.HivePartitionWrapper;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Extension of {@link HiveScan} which support reading ORC Hive tables using {@link HiveOrcRecordReader}.
+ * An optional search argument (serialized with kryo) lets ORC skip stripes and row groups.
+ */
+@JsonTypeName("hive-drill-native-orc-scan")
+public class HiveDrillNativeOrcScan extends HiveScan {
+
+  private String searchArgument;
+
+  @JsonCreator
+  public HiveDrillNativeOrcScan(@JsonProperty("userName") String userName,
+                                @JsonProperty("hive-table") HiveReadEntry hiveReadEntry,
+                                @JsonProperty("storage-plugin") String storagePluginName,
+                                @JsonProperty("columns") List<SchemaPath> columns,
+                                @JsonProperty("searchArgument") String searchArgument,
+                                @JacksonInject StoragePluginRegistry pluginRegistry) throws ExecutionSetupException {
+    super(userName, hiveReadEntry, storagePluginName, columns, pluginRegistry);
+    this.searchArgument = searchArgument;
+  }
+
+  public HiveDrillNativeOrcScan(String userName, HiveReadEntry hiveReadEntry, HiveStoragePlugin storagePlugin,
+      List<SchemaPath> columns, HiveMetadataProvider metadataProvider) throws ExecutionSetupException {
+    super(userName, hiveReadEntry, storagePlugin, columns, metadataProvider);
+  }
+
+  public HiveDrillNativeOrcScan(final HiveDrillNativeOrcScan that) {
+    super(that);
+    this.searchArgument = that.searchArgument;
+  }
+
+  public HiveDrillNativeOrcScan(final HiveScan hiveScan) {
+    super(hiveScan);
+  }
+
+  @JsonProperty
+  public String getSearchArgument() {
+    return searchArgument;
+  }
+
+  /**
+   * Returns a copy of this scan which passes the given search argument to the ORC readers.
+   */
+  public HiveDrillNativeOrcScan withSearchArgument(String searchArgument) {
+    final HiveDrillNativeOrcScan scan = new HiveDrillNativeOrcScan(this);
+    scan.searchArgument = searchArgument;
+    return scan;
+  }
+
+  @Override
+  public ScanStats getScanStats() {
+    final ScanStats nativeHiveScanStats = super.getScanStats();
+
+    // As the vectorized ORC reader is faster and memory efficient. Divide the CPU cost
+    // by a factor to let the planner choose HiveDrillNativeOrcScan over HiveScan with SerDes.
+    return new ScanStats(
+        nativeHiveScanStats.getGroupScanProperty(),
+        nativeHiveScanStats.getRecordCount(),
+        nativeHiveScanStats.getCpuCost()/getSerDeOverheadFactor(),
+        nativeHiveScanStats.getDiskCost());
+  }
+
+  @Override
+  public SubScan getSpecificScan(int minorFragmentId) throws ExecutionSetupException {
+    try {
+      return new HiveDrillNativeOrcSubScan((HiveSubScan)super.getSpecificScan(minorFragmentId), searchArgument);
+    } catch (IOException | ReflectiveOperationException e) {
+      throw new ExecutionSetupException(e);
+    }
+  }
+
+  @Override
+  public boolean isNativeReader() {
+    return true;
+  }
+
+  @Override
+  public PhysicalOperator getNewWithChildren(List<PhysicalOperator> children) throws ExecutionSetupException {
+    return new HiveDrillNativeOrcScan(this);
+  }
+
+  @Override
+  public HiveScan clone(HiveReadEntry hiveReadEntry) throws ExecutionSetupException {
+    final HiveDrillNativeOrcScan scan =
+        new HiveDrillNativeOrcScan(getUserName(), hiveReadEntry, storagePlugin, columns, metadataProvider);
+    scan.searchArgument = searchArgument;
+    return scan;
+  }
+
+  @Override
+  public GroupScan clone(List<SchemaPath> columns) {
+    final HiveDrillNativeOrcScan scan = new HiveDrillNativeOrcScan(this);
+    scan.columns = columns;
+    return scan;
+  }
+
+  @Override
+  public String toString() {
+    final List<HivePartitionWrapper> partitions = hiveReadEntry.getHivePartitionWrappers();
+    int numPartitions = partitions == null ? 0 : partitions.size();
+    return "HiveDrillNativeOrcScan [table=" + hiveReadEntry.getHiveTableWrapper()
+        + ", columns=" + columns
+        + ", numPartitions=" + numPartitions
+        + ", partitions= " + partitions
+        + ", searchArgument=" + (searchArgument != null)
+        + ", inputDirectories=" + metadataProvider.getInputDirectories(hiveReadEntry) + "]";
+  }
+}
@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.hive;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.drill.common.exceptions.ExecutionSetupException;
+import org.apache.drill.common.expression.SchemaPath;
+import org.apache.drill.exec.ExecConstants;
+import org.apache.drill.exec.ops.FragmentContext;
+import org.apache.drill.exec.physical.impl.BatchCreator;
+import org.apache.drill.exec.physical.impl.ScanBatch;
+import org.apache.drill.exec.record.RecordBatch;
+import org.apache.drill.exec.store.AbstractRecordReader;
+import org.apache.drill.exec.store.RecordReader;
+import org.apache.drill.exec.util.ImpersonationUtil;
+import org.apache.hadoop.hive.conf.HiveConf;
+import org.apache.hadoop.mapred.FileSplit;
+import org.apache.hadoop.mapred.InputSplit;
+import org.apache.hadoop.security.UserGroupInformation;
+
+import com.google.common.base.Functions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+@SuppressWarnings("unused")
+public class HiveDrillNativeOrcScanBatchCreator implements BatchCreator<HiveDrillNativeOrcSubScan> {
+
+  @Override
+  public ScanBatch getBatch(FragmentContext context, HiveDrillNativeOrcSubScan config, List<RecordBatch> children)
+      throws ExecutionSetupException {
+    final HiveTableWithColumnCache table = config.getTable();
+    final List<InputSplit> splits = config.getInputSplits();
+    final List<HivePartition> partitions = config.getPartitions();
+    final List<SchemaPath> columns = config.getColumns();
+    final String partitionDesignator = context.getOptions()
+        .getOption(ExecConstants.FILESYSTEM_PARTITION_COLUMN_LABEL).string_val;
+    List<Map<String, String>> implicitColumns = Lists.newLinkedList();
+    boolean selectAllQuery = AbstractRecordReader.isStarQuery(columns);
+
+    final boolean hasPartitions = (partitions != null && partitions.size() > 0);
+
+    final List<Integer> selectedPartitionColumns = Lists.newArrayList();
+    List<SchemaPath> newColumns = columns;
+    if (!selectAllQuery) {
+      // Separate out the partition and non-partition columns. Non-partition columns are passed directly to the
+      // HiveOrcRecordReader. Partition columns are passed to ScanBatch.
+      newColumns = Lists.newArrayList();
+      Pattern pattern = Pattern.compile(String.format("%s[0-9]+", partitionDesignator));
+      for (SchemaPath column : columns) {
+        Matcher m = pattern.matcher(column.getAsUnescapedPath());
+        if (m.matches()) {
+          selectedPartitionColumns.add(
+              Integer.parseInt(column.getAsUnescapedPath().substring(partitionDesignator.length())));
+        } else {
+          newColumns.add(column);
+        }
+      }
+    }
+
+    final HiveConf conf = config.getHiveConf();
+    final UserGroupInformation proxyUgi =
+        ImpersonationUtil.createProxyUgi(config.getUserName(), context.getQueryUserName());
+
+    int currentPartitionIndex = 0;
+    final List<RecordReader> readers = Lists.newArrayList();
+    Map<String, String> mapWithMaxColumns = Maps.newLinkedHashMap();
+    for (InputSplit split : splits) {
+      readers.add(new HiveOrcRecordReader(table, (FileSplit) split, config.getSearchArgument(), newColumns,
+          context, conf, proxyUgi));
+
+      Map<String, String> implicitValues = Maps.newLinkedHashMap();
+      if (hasPartitions) {
+        List<String> values = partitions.get(currentPartitionIndex).getValues();
+        for (int i = 0; i < values.size(); i++) {
+          if (selectAllQuery || selectedPartitionColumns.contains(i)) {
+            implicitValues.put(partitionDesignator + i, values.get(i));
+          }
+        }
+      }
+      implicitColumns.add(implicitValues);
+      if (implicitValues.size() > mapWithMaxColumns.size()) {
+        mapWithMaxColumns = implicitValues;
+      }
+      currentPartitionIndex++;
+    }
+
+    // all readers should have the same number of implicit columns, add missing ones with value null
+    mapWithMaxColumns = Maps.transformValues(mapWithMaxColumns, Functions.constant((String) null));
+    for (Map<String, String> map : implicitColumns) {
+      map.putAll(Maps.difference(map, mapWithMaxColumns).entriesOnlyOnRight());
+    }
+
+    // If there are no readers created (which is possible when the table is empty), create an empty RecordReader
+    // to output the schema
+    if (readers.size() == 0) {
+      readers.add(new HiveDefaultReader(table, null, null, columns, context, conf, proxyUgi));
+    }
+
+    return new ScanBatch(config, context, context.newOperatorContext(config), readers.iterator(), implicitColumns);
+  }
+}
@@ -0,0 +1,145 @@
+/*
+* Licensed to the Apache Software Foundation (ASF) under one or more
+* contributor license agreements.  See the NOTICE file distributed with
+* this work for additional information regarding copyright ownership.
+* The ASF licenses this file to you under the Apache License, Version 2.0
+* (the "License"); you may not use this file except in compliance with
+* the License.  You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.apache.drill.exec.store.hive;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.hadoop.hive.conf.HiveConf;
+import org.apache.hadoop.mapred.InputSplit;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The class represents a cache of the input splits computed for table and partition locations,
+ * shared by the queries planned against one Hive storage plugin.
+ * Entries are keyed on the location together with its last modification time, which is checked
+ * with a single file status call per location, so adding or removing files directly in the
+ * location invalidates them. Changes in sub-directories of the location, or files rewritten in
+ * place, don't change that time; they are seen once the entries expire after the TTL.
+ * The TTL (0 disables the cache) and the maximum number of cached locations can be set with the
+ * {@link #CACHE_TTL} and {@link #CACHE_SIZE} properties in the Hive config overrides.
+ */
+public class HiveInputSplitCache {
+  private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(HiveInputSplitCache.class);
+
+  public static final String CACHE_TTL = "drill.hive.input-splits.cache-ttl-seconds";
+  public static final String CACHE_SIZE = "drill.hive.input-splits.cache-size";
+
+  private static final int DEFAULT_CACHE_TTL = 300;
+  private static final int DEFAULT_CACHE_SIZE = 100000;
+
+  private final Cache<Key, List<InputSplit>> splits;
+
+  public HiveInputSplitCache(final HiveConf hiveConf) {
+    int ttl = DEFAULT_CACHE_TTL;
+    final String ttlProp = hiveConf.get(CACHE_TTL);
+    if (!Strings.isNullOrEmpty(ttlProp)) {
+      ttl = Integer.valueOf(ttlProp);
+      logger.info("Hive input split cache ttl is set to {} seconds.", ttl);
+    }
+
+    int size = DEFAULT_CACHE_SIZE;
+    final String sizeProp = hiveConf.get(CACHE_SIZE);
+    if (!Strings.isNullOrEmpty(sizeProp)) {
+      size = Integer.valueOf(sizeProp);
+    }
+
+    splits = ttl > 0 && size > 0
+        ? CacheBuilder.newBuilder().expireAfterWrite(ttl, TimeUnit.SECONDS).maximumSize(size).recordStats()
+            .<Key, List<InputSplit>>build()
+        : null;
+  }
+
+  /**
+   * Returns the cached input splits of the given location, or null if there are none.
+   */
+  public List<InputSplit> get(final Key key) {
+    return splits == null ? null : splits.getIfPresent(key);
+  }
+
+  public void put(final Key key, final List<InputSplit> inputSplits) {
+    if (splits != null) {
+      splits.put(key, inputSplits);
+    }
+  }
+
+  /**
+   * Returns the number of lookups that found the splits of their location in the cache.
+   */
+  public long getHitCount() {
+    return splits == null ? 0 : splits.stats().hitCount();
+  }
+
+  /**
+   * Returns the number of lookups that did not find the splits of their location in the cache.
+   */
+  public long getMissCount() {
+    return splits == null ? 0 : splits.stats().missCount();
+  }
+
+  public void invalidateAll() {
+    if (splits != null) {
+      splits.invalidateAll();
+    }
+  }
+
+  /**
+   * Identifies the splits of a location. The user is part of the key, as the splits are
+   * computed with the user's file system permissions.
+   */
+  public static class Key {
+    private final String userName;
+    private final String location;
+    private final long modificationTime;
+    private final String inputFormat;
+
+    public Key(final String userName, final String location, final long modificationTime, final String inputFormat) {
+      this.userName = userName;
+      this.location = location;
+      this.modificationTime = modificationTime;
+      this.inputFormat = inputFormat;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final Key that = (Key) o;
+      return modificationTime == that.modificationTime
+          && Objects.equal(userName, that.userName)
+          && Objects.equal(location, that.location)
+          && Objects.equal(inputFormat, that.inputFormat);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(userName, location, modificationTime, inputFormat);
+    }
+
+    @Override
+    public String toString() {
+      return location + " (modified " + modificationTime + ", " + inputFormat + ", user " + userName + ")";
+    }
+  }
+}
@@ -19,10 +19,13 @@ package org.apache.drill.exec.store.hive;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.apache.drill.common.exceptions.DrillRuntimeException;
+import org.apache.drill.exec.store.TimedRunnable;
 import org.apache.drill.exec.util.ImpersonationUtil;
+import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.hive.common.StatsSetupConst;
@@ -36,6 +39,7 @@ import org.apache.hadoop.mapred.InputSplit;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.security.UserGroupInformation;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.security.PrivilegedExceptionAction;
 import java.util.Collections;
@@ -54,21 +58,37 @@ public class HiveMetadataProvider {
 
   public static final int RECORD_SIZE = 1024;
 
+  /** Number of partitions whose input splits are computed concurrently; set in the Hive config overrides. */
+  public static final String SPLIT_PARALLELISM = "drill.hive.input-splits.parallelism";
+  private static final int DEFAULT_SPLIT_PARALLELISM = 16;
+
   private final HiveReadEntry hiveReadEntry;
+  private final String userName;
   private final UserGroupInformation ugi;
   private final boolean isPartitionedTable;
   private final Map<Partition, List<InputSplitWrapper>> partitionInputSplitMap;
   private final HiveConf hiveConf;
+  private final HiveInputSplitCache inputSplitCache;
+  private final int splitParallelism;
   private List<InputSplitWrapper> tableInputSplits;
 
-  private final Stopwatch watch = Stopwatch.createUnstarted();
-
   public HiveMetadataProvider(final String userName, final HiveReadEntry hiveReadEntry, final HiveConf hiveConf) {
+    this(userName, hiveReadEntry, hiveConf, null);
+  }
+
+  /**
+   * @param inputSplitCache cache of the input splits shared across queries, or null to not cache them
+   */
+  public HiveMetadataProvider(final String userName, final HiveReadEntry hiveReadEntry, final HiveConf hiveConf,
+      final HiveInputSplitCache inputSplitCache) {
     this.hiveReadEntry = hiveReadEntry;
+    this.userName = userName;
     this.ugi = ImpersonationUtil.createProxyUgi(userName);
     isPartitionedTable = hiveReadEntry.getTable().getPartitionKeysSize() > 0;
     partitionInputSplitMap = Maps.newHashMap();
     this.hiveConf = hiveConf;
+    this.inputSplitCache = inputSplitCache;
+    this.splitParallelism = Math.max(1, hiveConf.getInt(SPLIT_PARALLELISM, DEFAULT_SPLIT_PARALLELISM));
   }
 
   /**
@@ -95,15 +115,22 @@ public class HiveMetadataProvider {
         return getStatsEstimateFromInputSplits(getTableInputSplits());
       } else {
         final HiveStats aggStats = new HiveStats(0, 0);
+        final List<HivePartition> partitionsWithoutStats = Lists.newArrayList();
         for(HivePartition partition : hiveReadEntry.getPartitions()) {
           final Properties properties = HiveUtilities.getPartitionMetadata(partition, table);
           HiveStats stats = getStatsFromProps(properties);
 
-          if (!stats.valid()) {
-            // estimate the stats from InputSplits
-            stats = getStatsEstimateFromInputSplits(getPartitionInputSplits(partition));
+          if (stats.valid()) {
+            aggStats.add(stats);
+          } else {
+            partitionsWithoutStats.add(partition);
           }
-          aggStats.add(stats);
+        }
+
+        // estimate the stats from InputSplits
+        loadPartitionInputSplits(partitionsWithoutStats);
+        for (HivePartition partition : partitionsWithoutStats) {
+          aggStats.add(getStatsEstimateFromInputSplits(partitionInputSplitMap.get(partition)));
         }
 
         return aggStats;
@@ -129,19 +156,39 @@ public class HiveMetadataProvider {
     return tableInputSplits;
   }
 
-  /** Helper method which returns the InputSplits for given partition. InputSplits are cached to speed up subsequent
-   * metadata cache requests for the same partition(s).
+  /** Helper method which computes the InputSplits of the given partitions that have not been loaded yet, using up to
+   * {@link #SPLIT_PARALLELISM} threads. InputSplits are kept to speed up subsequent metadata cache requests for the
+   * same partition(s).
    */
-  private List<InputSplitWrapper> getPartitionInputSplits(final HivePartition partition) throws Exception {
-    if (partitionInputSplitMap.containsKey(partition)) {
-      return partitionInputSplitMap.get(partition);
-    }
+  private void loadPartitionInputSplits(final List<HivePartition> partitions) throws IOException {
+    final List<HivePartition> missing = Lists.newArrayList();
+    final List<TimedRunnable<List<InputSplitWrapper>>> tasks = Lists.newArrayList();
+    for (final HivePartition partition : partitions) {
+      if (partitionInputSplitMap.containsKey(partition)) {
+        continue;
+      }
+      missing.add(partition);
+      tasks.add(new TimedRunnable<List<InputSplitWrapper>>() {
+        @Override
+        protected List<InputSplitWrapper> runInner() throws Exception {
+          final Properties properties = HiveUtilities.getPartitionMetadata(partition, hiveReadEntry.getTable());
+          return splitInputWithUGI(properties, partition.getSd(), partition);
+        }
 
-    final Properties properties = HiveUtilities.getPartitionMetadata(partition, hiveReadEntry.getTable());
-    final List<InputSplitWrapper> splits = splitInputWithUGI(properties, partition.getSd(), partition);
-    partitionInputSplitMap.put(partition, splits);
+        @Override
+        protected IOException convertToIOException(final Exception e) {
+          return new IOException(String.format("Failed to get InputSplits of partition %s", partition.getValues()), e);
+        }
+      });
+    }
+    if (tasks.isEmpty()) {
+      return;
+    }
 
-    return splits;
+    final List<List<InputSplitWrapper>> splits = TimedRunnable.run("Get Hive InputSplits", logger, tasks, splitParallelism);
+    for (int i = 0; i < missing.size(); i++) {
+      partitionInputSplitMap.put(missing.get(i), splits.get(i));
+    }
   }
 
   /**
@@ -159,9 +206,10 @@ public class HiveMetadataProvider {
         return getTableInputSplits();
       }
 
+      loadPartitionInputSplits(hiveReadEntry.getPartitions());
       final List<InputSplitWrapper> splits = Lists.newArrayList();
       for (HivePartition p : hiveReadEntry.getPartitions()) {
-        splits.addAll(getPartitionInputSplits(p));
+        splits.addAll(partitionInputSplitMap.get(p));
       }
       return splits;
     } catch (final Exception e) {
@@ -233,9 +281,13 @@ public class HiveMetadataProvider {
     return new HiveStats(data/RECORD_SIZE, data);
   }
 
+  /**
+   * Computes the InputSplits of the given location, or takes them from the {@link HiveInputSplitCache} when the
+   * location has not been modified since they were cached. May be called concurrently for different partitions.
+   */
   private List<InputSplitWrapper> splitInputWithUGI(final Properties properties, final StorageDescriptor sd,
       final Partition partition) throws Exception {
-    watch.start();
+    final Stopwatch watch = Stopwatch.createStarted();
     try {
       return ugi.doAs(new PrivilegedExceptionAction<List<InputSplitWrapper>>() {
         public List<InputSplitWrapper> run() throws Exception {
@@ -246,12 +298,29 @@ public class HiveMetadataProvider {
           final Path path = new Path(sd.getLocation());
           final FileSystem fs = path.getFileSystem(job);
 
-          if (fs.exists(path)) {
+          final FileStatus status;
+          try {
+            status = fs.getFileStatus(path);
+          } catch (final FileNotFoundException e) {
+            return splits;
+          }
+
+          final HiveInputSplitCache.Key key = new HiveInputSplitCache.Key(userName, status.getPath().toString(),
+              status.getModificationTime(), job.getInputFormat().getClass().getName());
+          List<InputSplit> inputSplits = inputSplitCache == null ? null : inputSplitCache.get(key);
+          if (inputSplits == null) {
             FileInputFormat.addInputPath(job, path);
             final InputFormat<?, ?> format = job.getInputFormat();
-            for (final InputSplit split : format.getSplits(job, 1)) {
-              splits.add(new InputSplitWrapper(split, partition));
+            inputSplits = ImmutableList.copyOf(format.getSplits(job, 1));
+            if (inputSplitCache != null) {
+              inputSplitCache.put(key, inputSplits);
             }
+          } else {
+            logger.trace("Using cached splits of {}", key);
+          }
+
+          for (final InputSplit split : inputSplits) {
+            splits.add(new InputSplitWrapper(split, partition));
           }
 
           return splits;
@@ -263,7 +332,6 @@ public class HiveMetadataProvider {
       throw new DrillRuntimeException(errMsg, e);
     } finally {
       logger.trace("Took {} µs to get splits from {}", watch.elapsed(TimeUnit.NANOSECONDS) / 1000, sd.getLocation());
-      watch.stop();
     }
   }
 
@@ -0,0 +1,279 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.hive;
+
+import java.util.List;
+
+import org.apache.drill.common.expression.BooleanOperator;
+import org.apache.drill.common.expression.FunctionCall;
+import org.apache.drill.common.expression.LogicalExpression;
+import org.apache.drill.common.expression.SchemaPath;
+import org.apache.drill.common.expression.ValueExpressions.DoubleExpression;
+import org.apache.drill.common.expression.ValueExpressions.FloatExpression;
+import org.apache.drill.common.expression.ValueExpressions.IntExpression;
+import org.apache.drill.common.expression.ValueExpressions.LongExpression;
+import org.apache.drill.common.expression.ValueExpressions.QuotedString;
+import org.apache.drill.common.expression.visitors.AbstractExprVisitor;
+import org.apache.hadoop.hive.metastore.api.FieldSchema;
+import org.apache.hadoop.hive.ql.io.sarg.SearchArgument;
+import org.apache.hadoop.hive.ql.io.sarg.SearchArgumentFactory;
+import org.apache.hadoop.hive.serde2.typeinfo.PrimitiveTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoUtils;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Converts a Drill filter condition into an ORC {@link SearchArgument}, which ORC evaluates against the
+ * statistics of stripes and row groups to skip those that cannot contain a matching row. Comparisons of a
+ * column with a literal, IS [NOT] NULL, and ANDs and ORs of those are converted. As the search argument is
+ * only used to skip data, the parts of an AND that cannot be converted are simply dropped; Drill's filter
+ * is always kept on top of the scan.
+ * <p>
+ * The visitor is used in two passes: without a {@link SearchArgument.Builder} it checks whether an
+ * expression can be converted, with one it adds the converted expression to the builder.
+ */
+public class HiveOrcFilterBuilder extends AbstractExprVisitor<Boolean, SearchArgument.Builder, RuntimeException> {
+
+  private static final ImmutableSet<String> COMPARE_FUNCTIONS = ImmutableSet.of("equal", "not_equal", "less_than",
+      "less_than_or_equal_to", "greater_than", "greater_than_or_equal_to");
+
+  private static final ImmutableSet<String> IS_NULL_FUNCTIONS = ImmutableSet.of("isnull", "isNull", "is null");
+
+  private static final ImmutableSet<String> IS_NOT_NULL_FUNCTIONS =
+      ImmutableSet.of("isnotnull", "isNotNull", "is not null");
+
+  private final List<FieldSchema> tableColumns;
+  private final LogicalExpression le;
+
+  public HiveOrcFilterBuilder(List<FieldSchema> tableColumns, LogicalExpression le) {
+    this.tableColumns = tableColumns;
+    this.le = le;
+  }
+
+  /**
+   * @return the search argument serialized with kryo, or null if no part of the condition could be converted
+   */
+  public String parseTree() {
+    if (!le.accept(this, null)) {
+      return null;
+    }
+    final SearchArgument.Builder builder = SearchArgumentFactory.newBuilder().startAnd();
+    le.accept(this, builder);
+    return builder.end().build().toKryo();
+  }
+
+  @Override
+  public Boolean visitUnknown(LogicalExpression e, SearchArgument.Builder builder) throws RuntimeException {
+    return false;
+  }
+
+  @Override
+  public Boolean visitBooleanOperator(BooleanOperator op, SearchArgument.Builder builder) throws RuntimeException {
+    return visitFunctionCall(op, builder);
+  }
+
+  @Override
+  public Boolean visitFunctionCall(FunctionCall call, SearchArgument.Builder builder) throws RuntimeException {
+    final String functionName = call.getName();
+    final ImmutableList<LogicalExpression> args = call.args;
+
+    if (COMPARE_FUNCTIONS.contains(functionName) && args.size() == 2) {
+      return createComparison(functionName, args.get(0), args.get(1), builder);
+    } else if (IS_NULL_FUNCTIONS.contains(functionName) && args.size() == 1) {
+      final String column = getColumnName(args.get(0));
+      if (column != null && builder != null) {
+        builder.isNull(column);
+      }
+      return column != null;
+    } else if (IS_NOT_NULL_FUNCTIONS.contains(functionName) && args.size() == 1) {
+      final String column = getColumnName(args.get(0));
+      if (column != null && builder != null) {
+        builder.startNot().isNull(column).end();
+      }
+      return column != null;
+    }
+
+    switch (functionName) {
+    case "booleanAnd": {
+      // any convertible part of an AND restricts the rows
+      boolean converted = false;
+      for (LogicalExpression arg : args) {
+        converted |= arg.accept(this, null);
+      }
+      if (converted && builder != null) {
+        builder.startAnd();
+        for (LogicalExpression arg : args) {
+          if (arg.accept(this, null)) {
+            arg.accept(this, builder);
+          }
+        }
+        builder.end();
+      }
+      return converted;
+    }
+    case "booleanOr": {
+      // all the parts of an OR must be converted
+      for (LogicalExpression arg : args) {
+        if (!arg.accept(this, null)) {
+          return false;
+        }
+      }
+      if (builder != null) {
+        builder.startOr();
+        for (LogicalExpression arg : args) {
+          arg.accept(this, builder);
+        }
+        builder.end();
+      }
+      return true;
+    }
+    default:
+      return false;
+    }
+  }
+
+  private boolean createComparison(String functionName, LogicalExpression left, LogicalExpression right,
+      SearchArgument.Builder builder) {
+    String column = getColumnName(left);
+    LogicalExpression literal = right;
+    boolean transposed = false;
+    if (column == null) {
+      column = getColumnName(right);
+      literal = left;
+      transposed = true;
+    }
+    if (column == null) {
+      return false;
+    }
+    final Object value = getValue(column, literal);
+    if (value == null) {
+      return false;
+    }
+    if (builder == null) {
+      return true;
+    }
+
+    if (transposed) {
+      functionName = transpose(functionName);
+    }
+    switch (functionName) {
+    case "equal":
+      builder.equals(column, value);
+      break;
+    case "not_equal":
+      builder.startNot().equals(column, value).end();
+      break;
+    case "less_than":
+      builder.lessThan(column, value);
+      break;
+    case "less_than_or_equal_to":
+      builder.lessThanEquals(column, value);
+      break;
+    case "greater_than":
+      builder.startNot().lessThanEquals(column, value).end();
+      break;
+    case "greater_than_or_equal_to":
+      builder.startNot().lessThan(column, value).end();
+      break;
+    default:
+      throw new IllegalStateException("Unexpected comparison " + functionName);
+    }
+    return true;
+  }
+
+  /**
+   * @return the comparison to use when the literal is the first argument
+   */
+  private static String transpose(String functionName) {
+    switch (functionName) {
+    case "less_than":
+      return "greater_than";
+    case "less_than_or_equal_to":
+      return "greater_than_or_equal_to";
+    case "greater_than":
+      return "less_than";
+    case "greater_than_or_equal_to":
+      return "less_than_or_equal_to";
+    default:
+      return functionName;
+    }
+  }
+
+  /**
+   * @return the name of the table column the expression refers to, or null if it is not a plain column
+   */
+  private String getColumnName(LogicalExpression e) {
+    if (!(e instanceof SchemaPath) || !((SchemaPath) e).getRootSegment().isLastPath()) {
+      return null;
+    }
+    final String name = ((SchemaPath) e).getRootSegment().getPath();
+    for (FieldSchema column : tableColumns) {
+      if (column.getName().equalsIgnoreCase(name)) {
+        return column.getName();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the value of the literal as the type ORC compares the statistics of the column with, or null
+   *         if the comparison would not be exact
+   */
+  private Object getValue(String columnName, LogicalExpression e) {
+    TypeInfo typeInfo = null;
+    for (FieldSchema column : tableColumns) {
+      if (column.getName().equals(columnName)) {
+        typeInfo = TypeInfoUtils.getTypeInfoFromTypeString(column.getType());
+      }
+    }
+    if (!(typeInfo instanceof PrimitiveTypeInfo)) {
+      return null;
+    }
+    switch (((PrimitiveTypeInfo) typeInfo).getPrimitiveCategory()) {
+    case BYTE:
+    case SHORT:
+    case INT:
+    case LONG:
+      if (e instanceof IntExpression) {
+        return (long) ((IntExpression) e).getInt();
+      } else if (e instanceof LongExpression) {
+        return ((LongExpression) e).getLong();
+      }
+      return null;
+    case DOUBLE:
+      if (e instanceof DoubleExpression) {
+        return ((DoubleExpression) e).getDouble();
+      } else if (e instanceof FloatExpression) {
+        return (double) ((FloatExpression) e).getFloat();
+      } else if (e instanceof IntExpression) {
+        return (double) ((IntExpression) e).getInt();
+      } else if (e instanceof LongExpression) {
+        return (double) ((LongExpression) e).getLong();
+      }
+      return null;
+    case STRING:
+    case VARCHAR:
+      return e instanceof QuotedString ? ((QuotedString) e).getString() : null;
+    default:
+      // floats are compared as doubles by Drill, dates and timestamps are not pushed
+      return null;
+    }
+  }
+}
@@ -0,0 +1,445 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.hive;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.drill.common.exceptions.DrillRuntimeException;
+import org.apache.drill.common.exceptions.ExecutionSetupException;
+import org.apache.drill.common.expression.SchemaPath;
+import org.apache.drill.common.types.TypeProtos.MajorType;
+import org.apache.drill.exec.exception.SchemaChangeException;
+import org.apache.drill.exec.expr.TypeHelper;
+import org.apache.drill.exec.ops.FragmentContext;
+import org.apache.drill.exec.ops.OperatorContext;
+import org.apache.drill.exec.physical.impl.OutputMutator;
+import org.apache.drill.exec.record.MaterializedField;
+import org.apache.drill.exec.store.AbstractRecordReader;
+import org.apache.drill.exec.vector.AllocationHelper;
+import org.apache.drill.exec.vector.NullableBigIntVector;
+import org.apache.drill.exec.vector.NullableBitVector;
+import org.apache.drill.exec.vector.NullableDateVector;
+import org.apache.drill.exec.vector.NullableFloat4Vector;
+import org.apache.drill.exec.vector.NullableFloat8Vector;
+import org.apache.drill.exec.vector.NullableIntVector;
+import org.apache.drill.exec.vector.NullableTimeStampVector;
+import org.apache.drill.exec.vector.NullableVarBinaryVector;
+import org.apache.drill.exec.vector.NullableVarCharVector;
+import org.apache.drill.exec.vector.ValueVector;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.conf.HiveConf;
+import org.apache.hadoop.hive.metastore.api.FieldSchema;
+import org.apache.hadoop.hive.ql.exec.vector.BytesColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.DoubleColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.LongColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
+import org.apache.hadoop.hive.ql.io.orc.OrcFile;
+import org.apache.hadoop.hive.ql.io.orc.OrcProto;
+import org.apache.hadoop.hive.ql.io.orc.Reader;
+import org.apache.hadoop.hive.ql.io.orc.RecordReader;
+import org.apache.hadoop.hive.ql.io.sarg.SearchArgument;
+import org.apache.hadoop.hive.ql.io.sarg.SearchArgumentFactory;
+import org.apache.hadoop.hive.serde2.typeinfo.PrimitiveTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoUtils;
+import org.apache.hadoop.mapred.FileSplit;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.security.UserGroupInformation;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeZone;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Reads an ORC file split of a Hive table with ORC's vectorized reader: whole column vectors of
+ * a {@link VectorizedRowBatch} are copied into Drill's value vectors, instead of going through the
+ * SerDe and ObjectInspectors for every value. Only primitive, non-decimal columns are supported
+ * (see {@link org.apache.drill.exec.planner.sql.logical.ConvertHiveOrcScanToDrillOrcScan}).
+ * <p>
+ * The columns of the file are matched to the columns of the table by position, as Hive does. When
+ * a search argument is given, ORC skips the stripes and row groups whose statistics cannot satisfy
+ * it; the rows that are read still go through Drill's filter.
+ */
+public class HiveOrcRecordReader extends AbstractRecordReader {
+  private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(HiveOrcRecordReader.class);
+
+  private static final int TARGET_RECORD_COUNT = 4096;
+
+  private final HiveTableWithColumnCache table;
+  private final FileSplit split;
+  private final String searchArgument;
+  private final FragmentContext fragmentContext;
+  private final HiveConf hiveConf;
+  private final UserGroupInformation proxyUgi;
+
+  private final List<FieldSchema> selectedColumns = Lists.newArrayList();
+  private final List<ColumnCopier> copiers = Lists.newArrayList();
+  private RecordReader reader;
+  private VectorizedRowBatch batch;
+  // position of the next row of the current batch to copy
+  private int batchOffset;
+
+  public HiveOrcRecordReader(HiveTableWithColumnCache table, FileSplit split, String searchArgument,
+      List<SchemaPath> projectedColumns, FragmentContext context, HiveConf hiveConf, UserGroupInformation proxyUgi) {
+    this.table = table;
+    this.split = split;
+    this.searchArgument = searchArgument;
+    this.fragmentContext = context;
+    this.hiveConf = hiveConf;
+    this.proxyUgi = proxyUgi;
+    setColumns(projectedColumns);
+  }
+
+  @Override
+  public void setup(OperatorContext context, OutputMutator output) throws ExecutionSetupException {
+    final List<FieldSchema> tableColumns = table.getSd().getCols();
+    final boolean[] selected = new boolean[tableColumns.size()];
+    if (isStarQuery()) {
+      Arrays.fill(selected, true);
+    } else {
+      for (SchemaPath column : getColumns()) {
+        for (int i = 0; i < tableColumns.size(); i++) {
+          if (tableColumns.get(i).getName().equalsIgnoreCase(column.getRootSegment().getPath())) {
+            selected[i] = true;
+          }
+        }
+      }
+    }
+
+    final ListenableFuture<Void> result = context.runCallableAs(proxyUgi, new Callable<Void>() {
+      @Override
+      public Void call() throws Exception {
+        openReader(tableColumns, selected);
+        return null;
+      }
+    });
+    try {
+      result.get();
+    } catch (InterruptedException e) {
+      result.cancel(true);
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      throw ExecutionSetupException.fromThrowable(e.getMessage(), e);
+    }
+
+    try {
+      for (FieldSchema column : selectedColumns) {
+        final MajorType type = HiveUtilities.getMajorTypeFromHiveTypeInfo(
+            TypeInfoUtils.getTypeInfoFromTypeString(column.getType()), fragmentContext.getOptions());
+        final MaterializedField field = MaterializedField.create(column.getName(), type);
+        final ValueVector vector = output.addField(field, TypeHelper.getValueVectorClass(type.getMinorType(), type.getMode()));
+        final int fileColumn = tableColumns.indexOf(column);
+        copiers.add(createCopier(column, fileColumn, vector));
+      }
+    } catch (SchemaChangeException e) {
+      throw new ExecutionSetupException(e);
+    }
+  }
+
+  private void openReader(List<FieldSchema> tableColumns, boolean[] selected) throws IOException {
+    final JobConf job = new JobConf(hiveConf);
+    final Path path = split.getPath();
+    final Reader orcReader = OrcFile.createReader(path, OrcFile.readerOptions(job).filesystem(path.getFileSystem(job)));
+
+    // ORC column ids: 0 is the root struct, its fields are the columns of the table
+    final List<OrcProto.Type> types = orcReader.getTypes();
+    final boolean[] include = new boolean[types.size()];
+    final String[] columnNames = new String[types.size()];
+    include[0] = true;
+    columnNames[0] = "";
+    final OrcProto.Type root = types.get(0);
+    for (int i = 0; i < tableColumns.size() && i < root.getSubtypesCount(); i++) {
+      final int columnId = root.getSubtypes(i);
+      columnNames[columnId] = tableColumns.get(i).getName();
+      if (selected[i]) {
+        include[columnId] = true;
+        selectedColumns.add(tableColumns.get(i));
+      }
+    }
+
+    final Reader.Options options = new Reader.Options()
+        .range(split.getStart(), split.getLength())
+        .include(include);
+    if (searchArgument != null) {
+      final SearchArgument sarg = SearchArgumentFactory.create(searchArgument);
+      options.searchArgument(sarg, columnNames);
+    }
+    reader = orcReader.rowsOptions(options);
+  }
+
+  @Override
+  public int next() {
+    for (ColumnCopier copier : copiers) {
+      AllocationHelper.allocateNew(copier.vector, TARGET_RECORD_COUNT);
+    }
+
+    int recordCount = 0;
+    try {
+      while (recordCount < TARGET_RECORD_COUNT) {
+        if (batch == null || batchOffset == batch.size) {
+          if (!reader.hasNext()) {
+            break;
+          }
+          batch = reader.nextBatch(batch);
+          batchOffset = 0;
+          if (batch.size == 0) {
+            continue;
+          }
+        }
+        final int count = Math.min(TARGET_RECORD_COUNT - recordCount, batch.size - batchOffset);
+        for (ColumnCopier copier : copiers) {
+          copier.copy(batch.cols[copier.fileColumn], batchOffset, recordCount, count);
+        }
+        batchOffset += count;
+        recordCount += count;
+      }
+    } catch (IOException e) {
+      throw new DrillRuntimeException(String.format("Failed to read ORC file %s", split.getPath()), e);
+    }
+
+    for (ColumnCopier copier : copiers) {
+      copier.vector.getMutator().setValueCount(recordCount);
+    }
+    return recordCount;
+  }
+
+  @Override
+  public void close() {
+    try {
+      if (reader != null) {
+        reader.close();
+        reader = null;
+      }
+    } catch (Exception e) {
+      logger.warn("Failure while closing ORC reader.", e);
+    }
+  }
+
+  private ColumnCopier createCopier(FieldSchema column, int fileColumn, ValueVector vector) {
+    final PrimitiveTypeInfo typeInfo = (PrimitiveTypeInfo) TypeInfoUtils.getTypeInfoFromTypeString(column.getType());
+    switch (typeInfo.getPrimitiveCategory()) {
+      case BOOLEAN:
+        return new BitCopier(fileColumn, vector);
+      case BYTE:
+      case SHORT:
+      case INT:
+        return new IntCopier(fileColumn, vector);
+      case LONG:
+        return new BigIntCopier(fileColumn, vector);
+      case FLOAT:
+        return new Float4Copier(fileColumn, vector);
+      case DOUBLE:
+        return new Float8Copier(fileColumn, vector);
+      case STRING:
+      case VARCHAR:
+        return new VarCharCopier(fileColumn, vector);
+      case BINARY:
+        return new VarBinaryCopier(fileColumn, vector);
+      case DATE:
+        return new DateCopier(fileColumn, vector);
+      case TIMESTAMP:
+        return new TimeStampCopier(fileColumn, vector);
+      default:
+        throw new DrillRuntimeException(String.format("Unsupported ORC column type %s of column %s",
+            column.getType(), column.getName()));
+    }
+  }
+
+  /**
+   * Copies the values of one column of the ORC batch into a Drill vector.
+   */
+  private abstract static class ColumnCopier {
+    final int fileColumn;
+    final ValueVector vector;
+
+    ColumnCopier(int fileColumn, ValueVector vector) {
+      this.fileColumn = fileColumn;
+      this.vector = vector;
+    }
+
+    /**
+     * Copies <code>count</code> rows, starting at row <code>from</code> of the ORC column, to the
+     * vector, starting at index <code>to</code>. Null values are left unset.
+     */
+    void copy(ColumnVector column, int from, int to, int count) {
+      if (column.isRepeating) {
+        if (column.noNulls || !column.isNull[0]) {
+          for (int i = 0; i < count; i++) {
+            set(column, 0, to + i);
+          }
+        }
+      } else if (column.noNulls) {
+        for (int i = 0; i < count; i++) {
+          set(column, from + i, to + i);
+        }
+      } else {
+        for (int i = 0; i < count; i++) {
+          if (!column.isNull[from + i]) {
+            set(column, from + i, to + i);
+          }
+        }
+      }
+    }
+
+    abstract void set(ColumnVector column, int row, int index);
+  }
+
+  private static class BitCopier extends ColumnCopier {
+    private final NullableBitVector.Mutator mutator;
+
+    BitCopier(int fileColumn, ValueVector vector) {
+      super(fileColumn, vector);
+      mutator = ((NullableBitVector) vector).getMutator();
+    }
+
+    @Override
+    void set(ColumnVector column, int row, int index) {
+      mutator.setSafe(index, ((LongColumnVector) column).vector[row] == 0 ? 0 : 1);
+    }
+  }
+
+  private static class IntCopier extends ColumnCopier {
+    private final NullableIntVector.Mutator mutator;
+
+    IntCopier(int fileColumn, ValueVector vector) {
+      super(fileColumn, vector);
+      mutator = ((NullableIntVector) vector).getMutator();
+    }
+
+    @Override
+    void set(ColumnVector column, int row, int index) {
+      mutator.setSafe(index, (int) ((LongColumnVector) column).vector[row]);
+    }
+  }
+
+  private static class BigIntCopier extends ColumnCopier {
+    private final NullableBigIntVector.Mutator mutator;
+
+    BigIntCopier(int fileColumn, ValueVector vector) {
+      super(fileColumn, vector);
+      mutator = ((NullableBigIntVector) vector).getMutator();
+    }
+
+    @Override
+    void set(ColumnVector column, int row, int index) {
+      mutator.setSafe(index, ((LongColumnVector) column).vector[row]);
+    }
+  }
+
+  private static class Float4Copier extends ColumnCopier {
+    private final NullableFloat4Vector.Mutator mutator;
+
+    Float4Copier(int fileColumn, ValueVector vector) {
+      super(fileColumn, vector);
+      mutator = ((NullableFloat4Vector) vector).getMutator();
+    }
+
+    @Override
+    void set(ColumnVector column, int row, int index) {
+      mutator.setSafe(index, (float) ((DoubleColumnVector) column).vector[row]);
+    }
+  }
+
+  private static class Float8Copier extends ColumnCopier {
+    private final NullableFloat8Vector.Mutator mutator;
+
+    Float8Copier(int fileColumn, ValueVector vector) {
+      super(fileColumn, vector);
+      mutator = ((NullableFloat8Vector) vector).getMutator();
+    }
+
+    @Override
+    void set(ColumnVector column, int row, int index) {
+      mutator.setSafe(index, ((DoubleColumnVector) column).vector[row]);
+    }
+  }
+
+  private static class VarCharCopier extends ColumnCopier {
+    private final NullableVarCharVector.Mutator mutator;
+
+    VarCharCopier(int fileColumn, ValueVector vector) {
+      super(fileColumn, vector);
+      mutator = ((NullableVarCharVector) vector).getMutator();
+    }
+
+    @Override
+    void set(ColumnVector column, int row, int index) {
+      final BytesColumnVector bytes = (BytesColumnVector) column;
+      mutator.setSafe(index, bytes.vector[row], bytes.start[row], bytes.length[row]);
+    }
+  }
+
+  private static class VarBinaryCopier extends ColumnCopier {
+    private final NullableVarBinaryVector.Mutator mutator;
+
+    VarBinaryCopier(int fileColumn, ValueVector vector) {
+      super(fileColumn, vector);
+      mutator = ((NullableVarBinaryVector) vector).getMutator();
+    }
+
+    @Override
+    void set(ColumnVector column, int row, int index) {
+      final BytesColumnVector bytes = (BytesColumnVector) column;
+      mutator.setSafe(index, bytes.vector[row], bytes.start[row], bytes.length[row]);
+    }
+  }
+
+  /**
+   * ORC dates are days since the epoch; Drill's Hive reader returns midnight UTC of the date.
+   */
+  private static class DateCopier extends ColumnCopier {
+    private final NullableDateVector.Mutator mutator;
+
+    DateCopier(int fileColumn, ValueVector vector) {
+      super(fileColumn, vector);
+      mutator = ((NullableDateVector) vector).getMutator();
+    }
+
+    @Override
+    void set(ColumnVector column, int row, int index) {
+      mutator.setSafe(index, ((LongColumnVector) column).vector[row] * DateTimeConstants.MILLIS_PER_DAY);
+    }
+  }
+
+  /**
+   * ORC timestamps are read as nanoseconds since the epoch; like Drill's Hive reader, keep the local
+   * date and time fields of the timestamp in UTC.
+   */
+  private static class TimeStampCopier extends ColumnCopier {
+    private final NullableTimeStampVector.Mutator mutator;
+
+    TimeStampCopier(int fileColumn, ValueVector vector) {
+      super(fileColumn, vector);
+      mutator = ((NullableTimeStampVector) vector).getMutator();
+    }
+
+    @Override
+    void set(ColumnVector column, int row, int index) {
+      final long nanos = ((LongColumnVector) column).vector[row];
+      // round towards negative infinity, for timestamps before the epoch
+      final long millis = nanos >= 0 ? nanos / 1000000L : -((-nanos + 999999L) / 1000000L);
+      mutator.setSafe(index, new DateTime(millis).withZoneRetainFields(DateTimeZone.UTC).getMillis());
+    }
+  }
+}
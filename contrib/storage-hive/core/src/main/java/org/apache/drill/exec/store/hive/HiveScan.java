@@ -99,7 +99,8 @@ public class HiveScan extends AbstractGroupScan {
     this.columns = columns;
     this.storagePlugin = storagePlugin;
     if (metadataProvider == null) {
-      this.metadataProvider = new HiveMetadataProvider(userName, hiveReadEntry, storagePlugin.getHiveConf());
+      this.metadataProvider = new HiveMetadataProvider(userName, hiveReadEntry, storagePlugin.getHiveConf(),
+          storagePlugin.getInputSplitCache());
     } else {
       this.metadataProvider = metadataProvider;
     }
@@ -34,7 +34,9 @@ import org.apache.drill.common.exceptions.ExecutionSetupException;
 import org.apache.drill.common.expression.SchemaPath;
 import org.apache.drill.exec.ExecConstants;
 import org.apache.drill.exec.ops.OptimizerRulesContext;
+import org.apache.drill.exec.planner.sql.logical.ConvertHiveOrcScanToDrillOrcScan;
 import org.apache.drill.exec.planner.sql.logical.ConvertHiveParquetScanToDrillParquetScan;
+import org.apache.drill.exec.planner.sql.logical.HiveOrcPushFilterIntoScan;
 import org.apache.drill.exec.planner.sql.logical.HivePushPartitionFilterIntoScan;
 import org.apache.drill.exec.server.DrillbitContext;
 import org.apache.drill.exec.store.AbstractStoragePlugin;
@@ -59,6 +61,7 @@ public class HiveStoragePlugin extends AbstractStoragePlugin {
   private final DrillbitContext context;
   private final String name;
   private final HiveConf hiveConf;
+  private final HiveInputSplitCache inputSplitCache;
 
   public HiveStoragePlugin(HiveStoragePluginConfig config, DrillbitContext context, String name) throws ExecutionSetupException {
     this.config = config;
@@ -66,12 +69,17 @@ public class HiveStoragePlugin extends AbstractStoragePlugin {
     this.name = name;
     this.hiveConf = createHiveConf(config.getHiveConfigOverride());
     this.schemaFactory = new HiveSchemaFactory(this, name, hiveConf);
+    this.inputSplitCache = new HiveInputSplitCache(hiveConf);
   }
 
   public HiveConf getHiveConf() {
     return hiveConf;
   }
 
+  public HiveInputSplitCache getInputSplitCache() {
+    return inputSplitCache;
+  }
+
   public HiveStoragePluginConfig getConfig() {
     return config;
   }
@@ -180,7 +188,11 @@ public class HiveStoragePlugin extends AbstractStoragePlugin {
     // once "store.parquet.reader.int96_as_timestamp" will be true by default
     if(optimizerRulesContext.getPlannerSettings().getOptions()
         .getOption(ExecConstants.HIVE_OPTIMIZE_SCAN_WITH_NATIVE_READERS).bool_val) {
-      return ImmutableSet.<StoragePluginOptimizerRule>of(ConvertHiveParquetScanToDrillParquetScan.INSTANCE);
+      return ImmutableSet.<StoragePluginOptimizerRule>of(
+          ConvertHiveParquetScanToDrillParquetScan.INSTANCE,
+          ConvertHiveOrcScanToDrillOrcScan.INSTANCE,
+          HiveOrcPushFilterIntoScan.FILTER_ON_SCAN,
+          HiveOrcPushFilterIntoScan.FILTER_ON_PROJECT);
     }
 
     return ImmutableSet.of();
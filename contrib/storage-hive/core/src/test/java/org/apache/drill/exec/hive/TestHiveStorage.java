@@ -28,6 +28,8 @@ import org.apache.drill.common.exceptions.UserRemoteException;
 import org.apache.drill.exec.ExecConstants;
 import org.apache.drill.exec.planner.physical.PlannerSettings;
 import org.apache.drill.exec.proto.UserProtos;
+import org.apache.drill.exec.store.hive.HiveInputSplitCache;
+import org.apache.drill.exec.store.hive.HiveStoragePlugin;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.hive.common.type.HiveVarchar;
 import org.joda.time.DateTime;
@@ -36,6 +38,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.io.File;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
 import java.sql.Date;
@@ -388,6 +391,30 @@ public class TestHiveStorage extends HiveTestBase {
         .go();
   }
 
+  @Test
+  public void readPartitionedTableWithCachedInputSplits() throws Exception {
+    final String query = "SELECT count(*) as cnt FROM hive.partition_pruning_test";
+    final HiveInputSplitCache cache = ((HiveStoragePlugin) getDrillbitContext().getStorage().getPlugin("hive"))
+        .getInputSplitCache();
+    cache.invalidateAll();
+
+    test(query);
+    final long hits = cache.getHitCount();
+    final long misses = cache.getMissCount();
+    assertTrue("The splits of the partitions were not computed", misses > 0);
+
+    // the later run takes the input splits of the partitions from the storage plugin's cache
+    test(query);
+    assertEquals("The splits of some partitions were not cached", misses, cache.getMissCount());
+    assertTrue("The splits of the partitions were not taken from the cache", cache.getHitCount() >= hits + misses);
+
+    // modifying a partition directory invalidates its splits only
+    final File partition = new File(hiveTest.getWhDir(), "partition_pruning_test/c=1/d=1/e=1");
+    assertTrue(partition.setLastModified(partition.lastModified() + 10000));
+    test(query);
+    assertEquals("The splits of the modified partition were taken from the cache", misses + 1, cache.getMissCount());
+  }
+
   @Test // DRILL-3938
   public void readFromAlteredPartitionedTable() throws Exception {
     testBuilder()
@@ -412,6 +439,99 @@ public class TestHiveStorage extends HiveTestBase {
     }
   }
 
+  @Test
+  public void readFromOrcTableWithNativeReader() throws Exception {
+    try {
+      test(String.format("alter session set `%s` = true", ExecConstants.HIVE_OPTIMIZE_SCAN_WITH_NATIVE_READERS));
+      final String query = "SELECT key, `value`, part1 FROM hive.kv_orc WHERE key > 3";
+
+      // Make sure the plan has Hive scan with native ORC reader, to which the filter on the (non-partition) column
+      // is pushed as a search argument, through the project that casts the partition column
+      testPlanMatchingPatterns(query,
+          new String[] {"HiveDrillNativeOrcScan .*searchArgument=true"},
+          new String[] {"searchArgument=false"});
+
+      testBuilder()
+          .sqlQuery(query)
+          .unOrdered()
+          .baselineColumns("key", "value", "part1")
+          .baselineValues(4, " key_4", 0)
+          .baselineValues(5, " key_5", 1)
+          .go();
+    } finally {
+      test(String.format("alter session set `%s` = false", ExecConstants.HIVE_OPTIMIZE_SCAN_WITH_NATIVE_READERS));
+    }
+  }
+
+  @Test
+  public void orcSearchArgumentIsNotPushedForUnsupportedFilter() throws Exception {
+    try {
+      test(String.format("alter session set `%s` = true", ExecConstants.HIVE_OPTIMIZE_SCAN_WITH_NATIVE_READERS));
+      final String query = "SELECT key FROM hive.kv_orc WHERE `value` LIKE '%key_4'";
+
+      testPlanMatchingPatterns(query,
+          new String[] {"HiveDrillNativeOrcScan .*searchArgument=false"},
+          new String[] {"searchArgument=true"});
+
+      testBuilder()
+          .sqlQuery(query)
+          .unOrdered()
+          .baselineColumns("key")
+          .baselineValues(4)
+          .go();
+    } finally {
+      test(String.format("alter session set `%s` = false", ExecConstants.HIVE_OPTIMIZE_SCAN_WITH_NATIVE_READERS));
+    }
+  }
+
+  /**
+   * Checks that the native ORC reader returns the same values, and nulls, as Hive's ORC SerDe for all the types
+   * it reads.
+   */
+  @Test
+  public void readAllSupportedHiveDataTypesNativeOrc() throws Exception {
+    final String query = "SELECT * FROM hive.readtest_orc";
+    try {
+      test(String.format("alter session set `%s` = true", ExecConstants.HIVE_OPTIMIZE_SCAN_WITH_NATIVE_READERS));
+      testPhysicalPlan(query, "hive-drill-native-orc-scan");
+
+      testBuilder()
+          .sqlQuery(query)
+          .unOrdered()
+          .optionSettingQueriesForTestQuery("alter session set `%s` = true",
+              ExecConstants.HIVE_OPTIMIZE_SCAN_WITH_NATIVE_READERS)
+          .optionSettingQueriesForBaseline("alter session set `%s` = false",
+              ExecConstants.HIVE_OPTIMIZE_SCAN_WITH_NATIVE_READERS)
+          .sqlBaselineQuery(query)
+          .go();
+    } finally {
+      test(String.format("alter session set `%s` = false", ExecConstants.HIVE_OPTIMIZE_SCAN_WITH_NATIVE_READERS));
+    }
+  }
+
+  @Test
+  public void nativeReaderIsDisabledForTransactionalOrcTable() throws Exception {
+    try {
+      test(String.format("alter session set `%s` = true", ExecConstants.HIVE_OPTIMIZE_SCAN_WITH_NATIVE_READERS));
+      final String query = "SELECT key, `value` FROM hive.kv_orc_acid WHERE key > 3";
+
+      // Make sure the HiveScan in plan has no native ORC reader
+      final String planStr = getPlanInString("EXPLAIN PLAN FOR " + query, JSON_FORMAT);
+      assertFalse("Hive native is not expected in the plan", planStr.contains("hive-drill-native-orc-scan"));
+
+      // Hive's reader merges the delta of the update with the rows of the insert
+      testBuilder()
+          .sqlQuery(query)
+          .unOrdered()
+          .baselineColumns("key", "value")
+          .baselineValues(4, "updated")
+          .baselineValues(5, " key_5")
+          .go();
+    } finally {
+      test(String.format("alter session set `%s` = false", ExecConstants.HIVE_OPTIMIZE_SCAN_WITH_NATIVE_READERS));
+    }
+  }
+
   @Test // DRILL-3739
   public void readingFromStorageHandleBasedTable() throws Exception {
     testBuilder()
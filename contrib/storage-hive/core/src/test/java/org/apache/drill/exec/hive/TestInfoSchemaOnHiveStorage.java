@@ -36,11 +36,14 @@ public class TestInfoSchemaOnHiveStorage extends HiveTestBase {
         .baselineValues("hive.default", "partition_pruning_test")
         .baselineValues("hive.default", "readtest")
         .baselineValues("hive.default", "readtest_parquet")
+        .baselineValues("hive.default", "readtest_orc")
         .baselineValues("hive.default", "empty_table")
         .baselineValues("hive.default", "infoschematest")
         .baselineValues("hive.default", "hiveview")
         .baselineValues("hive.default", "kv")
         .baselineValues("hive.default", "kv_parquet")
+        .baselineValues("hive.default", "kv_orc")
+        .baselineValues("hive.default", "kv_orc_acid")
         .baselineValues("hive.default", "kv_sh")
         .baselineValues("hive.default", "countstar_parquet")
         .baselineValues("hive.default", "simple_json")
@@ -243,10 +246,13 @@ public class TestInfoSchemaOnHiveStorage extends HiveTestBase {
         .baselineValues("DRILL", "hive.default", "readtest", "TABLE")
         .baselineValues("DRILL", "hive.default", "infoschematest", "TABLE")
         .baselineValues("DRILL", "hive.default", "readtest_parquet", "TABLE")
+        .baselineValues("DRILL", "hive.default", "readtest_orc", "TABLE")
         .baselineValues("DRILL", "hive.default", "hiveview", "VIEW")
         .baselineValues("DRILL", "hive.default", "partition_pruning_test", "TABLE")
         .baselineValues("DRILL", "hive.default", "partition_with_few_schemas", "TABLE")
         .baselineValues("DRILL", "hive.default", "kv_parquet", "TABLE")
+        .baselineValues("DRILL", "hive.default", "kv_orc", "TABLE")
+        .baselineValues("DRILL", "hive.default", "kv_orc_acid", "TABLE")
         .baselineValues("DRILL", "hive.default", "countstar_parquet", "TABLE")
         .baselineValues("DRILL", "hive.default", "kv_sh", "TABLE")
         .baselineValues("DRILL", "hive.default", "simple_json", "TABLE")
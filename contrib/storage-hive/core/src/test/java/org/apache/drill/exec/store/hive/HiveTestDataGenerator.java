@@ -73,6 +73,13 @@ public class HiveTestDataGenerator {
     config.put(FileSystem.FS_DEFAULT_NAME_KEY, FileSystem.DEFAULT_FS);
   }
 
+  /**
+   * Returns the directory of the Hive warehouse, which holds the data of the managed test tables.
+   */
+  public String getWhDir() {
+    return whDir;
+  }
+
   /**
    * Add Hive test storage plugin to the given plugin registry.
    * @throws Exception
@@ -464,6 +471,16 @@ public class HiveTestDataGenerator {
     executeQuery(hiveDriver, "INSERT INTO TABLE kv_parquet PARTITION(part1) SELECT key, value, key FROM default.kv");
     executeQuery(hiveDriver, "ALTER TABLE kv_parquet ADD COLUMNS (newcol string)");
 
+    // Create a partitioned ORC table
+    executeQuery(hiveDriver,
+        "CREATE TABLE kv_orc(key INT, value STRING) PARTITIONED BY (part1 int) STORED AS ORC");
+    executeQuery(hiveDriver, "INSERT INTO TABLE kv_orc PARTITION(part1) SELECT key, value, key % 2 FROM default.kv");
+
+    // Create an ORC table with all the types read by the native ORC reader
+    executeQuery(hiveDriver, "CREATE TABLE readtest_orc STORED AS ORC AS SELECT binary_field, boolean_field, " +
+        "tinyint_field, double_field, float_field, int_field, bigint_field, smallint_field, string_field, " +
+        "varchar_field, timestamp_field, date_field FROM readtest WHERE tinyint_part = 64");
+
     executeQuery(hiveDriver,
         "CREATE TABLE countStar_Parquet (int_field INT) STORED AS parquet");
 
@@ -520,6 +537,31 @@ public class HiveTestDataGenerator {
           Resources.getResource("simple.json") + "' into table default.simple_json");
       executeQuery(hiveDriver, loadData);
     ss.close();
+
+    createAcidOrcTable(conf);
+  }
+
+  /**
+   * Creates a transactional ORC table. Writing to it needs Hive's DbTxnManager, whose transaction tables are only
+   * created in the metastore database in test mode, so it is done in a session of its own.
+   */
+  private void createAcidOrcTable(final HiveConf conf) throws Exception {
+    final HiveConf acidConf = new HiveConf(conf);
+    acidConf.setBoolVar(ConfVars.HIVE_IN_TEST, true);
+    acidConf.setBoolVar(ConfVars.HIVE_SUPPORT_CONCURRENCY, true);
+    acidConf.setVar(ConfVars.HIVE_TXN_MANAGER, "org.apache.hadoop.hive.ql.lockmgr.DbTxnManager");
+    acidConf.setBoolVar(ConfVars.HIVEENFORCEBUCKETING, true);
+
+    final SessionState ss = new SessionState(acidConf);
+    SessionState.start(ss);
+    final Driver hiveDriver = new Driver(acidConf);
+
+    executeQuery(hiveDriver, "CREATE TABLE kv_orc_acid(key INT, value STRING) CLUSTERED BY (key) INTO 2 BUCKETS " +
+        "STORED AS ORC TBLPROPERTIES ('transactional'='true')");
+    executeQuery(hiveDriver, "INSERT INTO TABLE kv_orc_acid SELECT key, value FROM default.kv");
+    // the updated rows go to a delta directory, next to the delta of the insert
+    executeQuery(hiveDriver, "UPDATE kv_orc_acid SET value = 'updated' WHERE key = 4");
+    ss.close();
   }
 
   private File getTempFile() throws Exception {
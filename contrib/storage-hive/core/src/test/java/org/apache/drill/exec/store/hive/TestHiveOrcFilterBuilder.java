@@ -0,0 +1,144 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.hive;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+
+import org.apache.drill.common.expression.ExpressionPosition;
+import org.apache.drill.common.expression.FunctionCallFactory;
+import org.apache.drill.common.expression.LogicalExpression;
+import org.apache.drill.common.expression.SchemaPath;
+import org.apache.drill.common.expression.ValueExpressions;
+import org.apache.hadoop.hive.metastore.api.FieldSchema;
+import org.apache.hadoop.hive.ql.io.sarg.PredicateLeaf;
+import org.apache.hadoop.hive.ql.io.sarg.SearchArgument;
+import org.apache.hadoop.hive.ql.io.sarg.SearchArgument.TruthValue;
+import org.apache.hadoop.hive.ql.io.sarg.SearchArgumentFactory;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+
+public class TestHiveOrcFilterBuilder {
+
+  private static final List<FieldSchema> COLUMNS = ImmutableList.of(
+      new FieldSchema("key", "int", null),
+      new FieldSchema("value", "string", null),
+      new FieldSchema("d", "date", null));
+
+  private static LogicalExpression call(String op, LogicalExpression... args) {
+    return FunctionCallFactory.createExpression(op, ExpressionPosition.UNKNOWN, args);
+  }
+
+  private static LogicalExpression column(String name) {
+    return SchemaPath.getSimplePath(name);
+  }
+
+  private static SearchArgument build(LogicalExpression condition) {
+    final String kryo = new HiveOrcFilterBuilder(COLUMNS, condition).parseTree();
+    return kryo == null ? null : SearchArgumentFactory.create(kryo);
+  }
+
+  private static void assertLeaf(PredicateLeaf leaf, PredicateLeaf.Operator operator, String column, Object literal) {
+    assertEquals(operator, leaf.getOperator());
+    assertEquals(column, leaf.getColumnName());
+    assertEquals(literal, leaf.getLiteral());
+  }
+
+  @Test
+  public void comparison() {
+    final SearchArgument sarg = build(call(">", column("key"), ValueExpressions.getInt(3)));
+
+    assertEquals(1, sarg.getLeaves().size());
+    assertLeaf(sarg.getLeaves().get(0), PredicateLeaf.Operator.LESS_THAN_EQUALS, "key", 3L);
+    // a row group whose values are all <= 3 is skipped
+    assertEquals(TruthValue.NO, sarg.evaluate(new TruthValue[] {TruthValue.YES}));
+    assertEquals(TruthValue.YES, sarg.evaluate(new TruthValue[] {TruthValue.NO}));
+  }
+
+  @Test
+  public void literalFirst() {
+    final SearchArgument sarg = build(call("<", ValueExpressions.getInt(3), column("KEY")));
+
+    assertEquals(1, sarg.getLeaves().size());
+    assertLeaf(sarg.getLeaves().get(0), PredicateLeaf.Operator.LESS_THAN_EQUALS, "key", 3L);
+    assertEquals(TruthValue.NO, sarg.evaluate(new TruthValue[] {TruthValue.YES}));
+  }
+
+  @Test
+  public void stringEquality() {
+    final SearchArgument sarg = build(call("==", column("value"), ValueExpressions.getChar("key_1", 5)));
+
+    assertEquals(1, sarg.getLeaves().size());
+    assertLeaf(sarg.getLeaves().get(0), PredicateLeaf.Operator.EQUALS, "value", "key_1");
+  }
+
+  @Test
+  public void isNull() {
+    final SearchArgument sarg = build(call("isnull", column("value")));
+
+    assertEquals(1, sarg.getLeaves().size());
+    assertEquals(PredicateLeaf.Operator.IS_NULL, sarg.getLeaves().get(0).getOperator());
+    assertEquals("value", sarg.getLeaves().get(0).getColumnName());
+  }
+
+  @Test
+  public void andKeepsConvertedParts() {
+    final LogicalExpression condition = FunctionCallFactory.createBooleanOperator("and", ImmutableList.of(
+        call("==", column("key"), ValueExpressions.getInt(1)),
+        call("like", column("value"), ValueExpressions.getChar("key%", 4))));
+    final SearchArgument sarg = build(condition);
+
+    assertEquals(1, sarg.getLeaves().size());
+    assertLeaf(sarg.getLeaves().get(0), PredicateLeaf.Operator.EQUALS, "key", 1L);
+  }
+
+  @Test
+  public void orNeedsAllParts() {
+    final LogicalExpression condition = FunctionCallFactory.createBooleanOperator("or", ImmutableList.of(
+        call("==", column("key"), ValueExpressions.getInt(1)),
+        call("like", column("value"), ValueExpressions.getChar("key%", 4))));
+
+    assertNull(build(condition));
+  }
+
+  @Test
+  public void orOfComparisons() {
+    final LogicalExpression condition = FunctionCallFactory.createBooleanOperator("or", ImmutableList.of(
+        call("==", column("key"), ValueExpressions.getInt(1)),
+        call("==", column("key"), ValueExpressions.getBigInt(5))));
+    final SearchArgument sarg = build(condition);
+
+    assertEquals(2, sarg.getLeaves().size());
+    assertEquals(TruthValue.NO, sarg.evaluate(new TruthValue[] {TruthValue.NO, TruthValue.NO}));
+    assertEquals(TruthValue.YES, sarg.evaluate(new TruthValue[] {TruthValue.NO, TruthValue.YES}));
+  }
+
+  @Test
+  public void unsupportedComparisons() {
+    // dates are not pushed
+    assertNull(build(call("==", column("d"), ValueExpressions.getDate(0))));
+    // neither are unknown columns, nor literals of another type than the column
+    assertNull(build(call("==", column("unknown"), ValueExpressions.getInt(1))));
+    assertNull(build(call("==", column("key"), ValueExpressions.getChar("1", 1))));
+    // nor comparisons of two columns
+    assertNull(build(call("==", column("key"), column("value"))));
+  }
+}
@@ -36,7 +36,8 @@ public class JdbcBatchCreator implements BatchCreator<JdbcSubScan> {
       List<RecordBatch> children) throws ExecutionSetupException {
     Preconditions.checkArgument(children.isEmpty());
     JdbcStoragePlugin plugin = config.getPlugin();
-    RecordReader reader = new JdbcRecordReader(context, plugin.getSource(), config.getSql(), plugin.getName());
+    RecordReader reader = new JdbcRecordReader(context, plugin.getSource(), config.getSql(), config.getRange(),
+        plugin.getConfig(), plugin.getName());
     return new ScanBatch(config, context, Collections.singletonList(reader).iterator());
   }
 }
@@ -0,0 +1,47 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.drill.exec.compile.TemplateClassDefinition;
+import org.apache.drill.exec.exception.SchemaChangeException;
+import org.apache.drill.exec.vector.ValueVector;
+
+/**
+ * Copies the rows of a JDBC result set into value vectors. The implementation is generated for the
+ * columns of the result set, so that each row is copied by straight-line code, with one typed getter
+ * and one mutator call per column.
+ */
+public interface JdbcCopier {
+  TemplateClassDefinition<JdbcCopier> TEMPLATE_DEFINITION =
+      new TemplateClassDefinition<>(JdbcCopier.class, JdbcCopierTemplate.class);
+
+  /**
+   * @param vectors the vectors of the copied columns, in the order the copier was generated for
+   */
+  void setup(ResultSet resultSet, ValueVector[] vectors) throws SchemaChangeException;
+
+  /**
+   * Copies the next rows of the result set.
+   *
+   * @return the number of rows copied, fewer than <code>maxRecords</code> only at the end of the result set
+   */
+  int copyRecords(int maxRecords) throws SQLException, SchemaChangeException;
+}
@@ -0,0 +1,52 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.inject.Named;
+
+import org.apache.drill.exec.exception.SchemaChangeException;
+import org.apache.drill.exec.vector.ValueVector;
+
+public abstract class JdbcCopierTemplate implements JdbcCopier {
+
+  private ResultSet resultSet;
+
+  @Override
+  public void setup(ResultSet resultSet, ValueVector[] vectors) throws SchemaChangeException {
+    this.resultSet = resultSet;
+    doSetup(resultSet, vectors);
+  }
+
+  @Override
+  public int copyRecords(int maxRecords) throws SQLException, SchemaChangeException {
+    int index = 0;
+    while (index < maxRecords && resultSet.next()) {
+      doEval(index);
+      index++;
+    }
+    return index;
+  }
+
+  public abstract void doSetup(@Named("resultSet") ResultSet resultSet, @Named("vectors") ValueVector[] vectors)
+      throws SchemaChangeException;
+
+  public abstract void doEval(@Named("index") int index) throws SQLException, SchemaChangeException;
+}
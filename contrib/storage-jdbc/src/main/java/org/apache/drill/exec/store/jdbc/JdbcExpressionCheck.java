@@ -103,7 +103,8 @@ class JdbcExpressionCheck implements RexVisitor<Boolean> {
 
   @Override
   public Boolean visitDynamicParam(RexDynamicParam paramRexDynamicParam) {
-    return true;
+    // the values of the parameters are only bound into the Drill plan, not into the pushed down SQL
+    return false;
   }
 
   @Override
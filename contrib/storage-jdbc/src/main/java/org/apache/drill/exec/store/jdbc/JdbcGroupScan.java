@@ -17,6 +17,7 @@
  */
 package org.apache.drill.exec.store.jdbc;
 
+import java.sql.SQLException;
 import java.util.List;
 
 import org.apache.drill.common.exceptions.ExecutionSetupException;
@@ -35,44 +36,74 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 
+/**
+ * Group scan of a query pushed down to a JDBC source. The query is read by a single
+ * sub scan, unless a partition column is known for it: the scan is then split into
+ * ranges of that column (see {@link JdbcScanRange}), one per minor fragment.
+ */
 @JsonTypeName("jdbc-scan")
 public class JdbcGroupScan extends AbstractGroupScan {
+  static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(JdbcGroupScan.class);
 
   private final String sql;
   private final JdbcStoragePlugin plugin;
   private final double rows;
+  private final String partitionColumn;
+  private List<JdbcScanRange> ranges;
 
   @JsonCreator
   public JdbcGroupScan(
       @JsonProperty("sql") String sql,
       @JsonProperty("config") StoragePluginConfig config,
       @JsonProperty("rows") double rows,
+      @JsonProperty("partitionColumn") String partitionColumn,
       @JacksonInject StoragePluginRegistry plugins) throws ExecutionSetupException {
     super("");
     this.sql = sql;
     this.plugin = (JdbcStoragePlugin) plugins.getPlugin(config);
     this.rows = rows;
+    this.partitionColumn = partitionColumn;
   }
 
-  JdbcGroupScan(String sql, JdbcStoragePlugin plugin, double rows) {
+  JdbcGroupScan(String sql, JdbcStoragePlugin plugin, double rows, String partitionColumn) {
     super("");
     this.sql = sql;
     this.plugin = plugin;
     this.rows = rows;
+    this.partitionColumn = partitionColumn;
   }
 
   @Override
   public void applyAssignments(List<DrillbitEndpoint> endpoints) throws PhysicalOperatorSetupException {
+    ranges = null;
+    if (partitionColumn == null || endpoints.size() <= 1) {
+      return;
+    }
+    try {
+      ranges = JdbcScanRange.split(plugin.getSource(), plugin.getDialect(), sql,
+          plugin.getDialect().quoteIdentifier(partitionColumn), endpoints.size());
+    } catch (SQLException e) {
+      logger.warn("Failure while querying the bounds of partition column {}, reading the query in a single scan.",
+          partitionColumn, e);
+    }
   }
 
   @Override
   public SubScan getSpecificScan(int minorFragmentId) throws ExecutionSetupException {
-    return new JdbcSubScan(sql, plugin);
+    if (ranges == null) {
+      // a single scan reads everything; any other minor fragment reads nothing
+      return minorFragmentId == 0
+          ? new JdbcSubScan(sql, null, plugin)
+          : new JdbcSubScan(JdbcScanRange.restrictToNone(sql, plugin.getDialect()), null, plugin);
+    }
+    final JdbcScanRange range = ranges.get(minorFragmentId);
+    return new JdbcSubScan(range.restrict(sql, plugin.getDialect().quoteIdentifier(partitionColumn), plugin.getDialect()),
+        range, plugin);
   }
 
   @Override
   public int getMaxParallelizationWidth() {
-    return 1;
+    return partitionColumn == null ? 1 : plugin.getConfig().getPartitionCount();
   }
 
   @Override
@@ -88,9 +119,18 @@ public class JdbcGroupScan extends AbstractGroupScan {
     return sql;
   }
 
+  public double getRows() {
+    return rows;
+  }
+
+  public String getPartitionColumn() {
+    return partitionColumn;
+  }
+
   @Override
   public String getDigest() {
-    return sql + String.valueOf(plugin.getConfig());
+    return sql + String.valueOf(plugin.getConfig())
+        + (partitionColumn == null ? "" : ", partitionColumn=" + partitionColumn);
   }
 
   public StoragePluginConfig getConfig() {
@@ -99,7 +139,7 @@ public class JdbcGroupScan extends AbstractGroupScan {
 
   @Override
   public PhysicalOperator getNewWithChildren(List<PhysicalOperator> children) throws ExecutionSetupException {
-    return new JdbcGroupScan(sql, plugin, rows);
+    return new JdbcGroupScan(sql, plugin, rows, partitionColumn);
   }
 
 
@@ -20,6 +20,7 @@ package org.apache.drill.exec.store.jdbc;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 import org.apache.calcite.adapter.java.JavaTypeFactory;
 import org.apache.calcite.adapter.jdbc.JdbcImplementor;
@@ -31,6 +32,9 @@ import org.apache.calcite.rel.AbstractRelNode;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelShuttleImpl;
 import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.core.TableScan;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.sql.SqlDialect;
 import org.apache.drill.exec.physical.base.PhysicalOperator;
@@ -48,6 +52,7 @@ public class JdbcPrel extends AbstractRelNode implements Prel {
   private final String sql;
   private final double rows;
   private final DrillJdbcConvention convention;
+  private final String partitionColumn;
 
   public JdbcPrel(RelOptCluster cluster, RelTraitSet traitSet, JdbcIntermediatePrel prel) {
     super(cluster, traitSet);
@@ -60,10 +65,40 @@ public class JdbcPrel extends AbstractRelNode implements Prel {
     final JdbcImplementor jdbcImplementor = new JdbcImplementor(
         dialect,
         (JavaTypeFactory) getCluster().getTypeFactory());
+    final RelNode tree = input.accept(new SubsetRemover());
     final JdbcImplementor.Result result =
-        jdbcImplementor.visitChild(0, input.accept(new SubsetRemover()));
+        jdbcImplementor.visitChild(0, tree);
     sql = result.asQuery().toSqlString(dialect).getSql();
     rowType = input.getRowType();
+    partitionColumn = getPartitionColumn(tree);
+  }
+
+  /**
+   * Returns the column to split the scan on, if the plugin configures one for the table read.
+   * Only scans (possibly filtered and projected) of a single table are split, and only when the
+   * column is in their output, since the split restricts the output of the query.
+   */
+  private String getPartitionColumn(RelNode tree) {
+    RelNode node = tree;
+    while (node instanceof Filter || node instanceof Project) {
+      node = node.getInput(0);
+    }
+    if (!(node instanceof TableScan)) {
+      return null;
+    }
+    final List<String> qualifiedName = node.getTable().getQualifiedName();
+    final String tableName = qualifiedName.get(qualifiedName.size() - 1);
+    final String schemaName = qualifiedName.size() > 1 ? qualifiedName.get(qualifiedName.size() - 2) : null;
+    final String column = convention.getPlugin().getConfig().getPartitionColumn(schemaName, tableName);
+    if (column == null) {
+      return null;
+    }
+    for (String fieldName : rowType.getFieldNames()) {
+      if (fieldName.equalsIgnoreCase(column)) {
+        return fieldName;
+      }
+    }
+    return null;
   }
 
   private class SubsetRemover extends RelShuttleImpl {
@@ -81,13 +116,13 @@ public class JdbcPrel extends AbstractRelNode implements Prel {
 
   @Override
   public PhysicalOperator getPhysicalOperator(PhysicalPlanCreator creator) throws IOException {
-    JdbcGroupScan output = new JdbcGroupScan(sql, convention.getPlugin(), rows);
+    JdbcGroupScan output = new JdbcGroupScan(sql, convention.getPlugin(), rows, partitionColumn);
     return creator.addMetadata(this, output);
   }
 
   @Override
   public RelWriter explainTerms(RelWriter pw) {
-    return super.explainTerms(pw).item("sql", sql);
+    return super.explainTerms(pw).item("sql", sql).itemIf("partitionColumn", partitionColumn, partitionColumn != null);
   }
 
   @Override
@@ -17,10 +17,12 @@
  */
 package org.apache.drill.exec.store.jdbc;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
-import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.Date;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -28,6 +30,8 @@ import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.List;
+import java.util.Set;
 import java.util.TimeZone;
 
 import javax.sql.DataSource;
@@ -38,7 +42,10 @@ import org.apache.drill.common.exceptions.UserException;
 import org.apache.drill.common.types.TypeProtos.MajorType;
 import org.apache.drill.common.types.TypeProtos.MinorType;
 import org.apache.drill.common.types.Types;
+import org.apache.drill.exec.exception.ClassTransformationException;
 import org.apache.drill.exec.exception.SchemaChangeException;
+import org.apache.drill.exec.expr.ClassGenerator;
+import org.apache.drill.exec.expr.CodeGenerator;
 import org.apache.drill.exec.expr.TypeHelper;
 import org.apache.drill.exec.ops.FragmentContext;
 import org.apache.drill.exec.ops.OperatorContext;
@@ -57,9 +64,17 @@ import org.apache.drill.exec.vector.NullableVarBinaryVector;
 import org.apache.drill.exec.vector.NullableVarCharVector;
 import org.apache.drill.exec.vector.ValueVector;
 
-import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.sun.codemodel.JBlock;
+import com.sun.codemodel.JClass;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JExpression;
+import com.sun.codemodel.JOp;
+import com.sun.codemodel.JVar;
 
 @SuppressWarnings("unchecked")
 class JdbcRecordReader extends AbstractRecordReader {
@@ -67,6 +82,10 @@ class JdbcRecordReader extends AbstractRecordReader {
       .getLogger(JdbcRecordReader.class);
 
   private static final ImmutableMap<Integer, MinorType> JDBC_TYPE_MAPPINGS;
+  // types whose values may be large, read through the driver's streams
+  private static final Set<Integer> STREAMED_TYPES = ImmutableSet.of(
+      java.sql.Types.CLOB, java.sql.Types.NCLOB, java.sql.Types.LONGVARCHAR, java.sql.Types.LONGNVARCHAR,
+      java.sql.Types.BLOB, java.sql.Types.LONGVARBINARY);
   private final DataSource source;
   private ResultSet resultSet;
   private final String storagePluginName;
@@ -74,15 +93,20 @@ class JdbcRecordReader extends AbstractRecordReader {
   private Connection connection;
   private Statement statement;
   private final String sql;
+  private final JdbcScanRange range;
+  private final JdbcStorageConfig config;
   private ImmutableList<ValueVector> vectors;
-  private ImmutableList<Copier<?>> copiers;
+  private JdbcCopier copier;
 
   private OperatorContext operatorContext;
 
-  public JdbcRecordReader(FragmentContext fragmentContext, DataSource source, String sql, String storagePluginName) {
+  public JdbcRecordReader(FragmentContext fragmentContext, DataSource source, String sql, JdbcScanRange range,
+      JdbcStorageConfig config, String storagePluginName) {
     this.fragmentContext = fragmentContext;
     this.source = source;
     this.sql = sql;
+    this.range = range;
+    this.config = config;
     this.storagePluginName = storagePluginName;
   }
 
@@ -140,31 +164,114 @@ class JdbcRecordReader extends AbstractRecordReader {
 
   }
 
-  private Copier<?> getCopier(int jdbcType, int offset, ResultSet result, ValueVector v) {
-
-    if (v instanceof NullableBigIntVector) {
-      return new BigIntCopier(offset, result, (NullableBigIntVector.Mutator) v.getMutator());
-    } else if (v instanceof NullableFloat4Vector) {
-      return new Float4Copier(offset, result, (NullableFloat4Vector.Mutator) v.getMutator());
-    } else if (v instanceof NullableFloat8Vector) {
-      return new Float8Copier(offset, result, (NullableFloat8Vector.Mutator) v.getMutator());
-    } else if (v instanceof NullableIntVector) {
-      return new IntCopier(offset, result, (NullableIntVector.Mutator) v.getMutator());
-    } else if (v instanceof NullableVarCharVector) {
-      return new VarCharCopier(offset, result, (NullableVarCharVector.Mutator) v.getMutator());
-    } else if (v instanceof NullableVarBinaryVector) {
-      return new VarBinaryCopier(offset, result, (NullableVarBinaryVector.Mutator) v.getMutator());
-    } else if (v instanceof NullableDateVector) {
-      return new DateCopier(offset, result, (NullableDateVector.Mutator) v.getMutator());
-    } else if (v instanceof NullableTimeVector) {
-      return new TimeCopier(offset, result, (NullableTimeVector.Mutator) v.getMutator());
-    } else if (v instanceof NullableTimeStampVector) {
-      return new TimeStampCopier(offset, result, (NullableTimeStampVector.Mutator) v.getMutator());
-    } else if (v instanceof NullableBitVector) {
-      return new BitCopier(offset, result, (NullableBitVector.Mutator) v.getMutator());
+  /**
+   * Generates the copier of the columns of the result set. The code only depends on the types of the
+   * columns, so the compiled class is shared by the queries whose results have the same column types.
+   */
+  private JdbcCopier getCopier(List<ValueVector> vectors, List<Integer> columnIndexes, List<Integer> jdbcTypes)
+      throws ClassTransformationException, IOException {
+    final CodeGenerator<JdbcCopier> cg = CodeGenerator.get(JdbcCopier.TEMPLATE_DEFINITION,
+        fragmentContext.getFunctionRegistry(), fragmentContext.getOptions());
+    cg.plainJavaCapable(true);
+    final ClassGenerator<JdbcCopier> g = cg.getRoot();
+    final JCodeModel model = g.getModel();
+    final JExpression index = JExpr.direct("index");
+
+    // doEval only receives the row index, so keep the result set in a field of the generated class
+    final JVar resultSet = g.declareClassField("resultSet", model.ref(ResultSet.class));
+    g.getSetupBlock().assign(resultSet, JExpr.direct("resultSet"));
+
+    JVar calendar = null;
+    JVar streamingReader = null;
+    for (int i = 0; i < vectors.size(); i++) {
+      final ValueVector vector = vectors.get(i);
+      final JExpression column = JExpr.lit(columnIndexes.get(i));
+      final int jdbcType = jdbcTypes.get(i);
+
+      g.rotateBlock();
+      final JClass mutatorType = model.ref(vector.getMutator().getClass());
+      final JVar mutator = g.declareClassField("mutator", mutatorType);
+      g.getSetupBlock().assign(mutator,
+          JExpr.cast(mutatorType, JExpr.direct("vectors").component(JExpr.lit(i)).invoke("getMutator")));
+      final JBlock eval = g.getEvalBlock();
+
+      if (vector instanceof NullableBigIntVector) {
+        copyPrimitive(eval, resultSet, mutator, index, resultSet.invoke("getLong").arg(column));
+      } else if (vector instanceof NullableFloat4Vector) {
+        copyPrimitive(eval, resultSet, mutator, index, resultSet.invoke("getFloat").arg(column));
+      } else if (vector instanceof NullableFloat8Vector) {
+        copyPrimitive(eval, resultSet, mutator, index, resultSet.invoke("getDouble").arg(column));
+      } else if (vector instanceof NullableIntVector) {
+        copyPrimitive(eval, resultSet, mutator, index, resultSet.invoke("getInt").arg(column));
+      } else if (vector instanceof NullableBitVector) {
+        copyPrimitive(eval, resultSet, mutator, index,
+            JOp.cond(resultSet.invoke("getBoolean").arg(column), JExpr.lit(1), JExpr.lit(0)));
+      } else if (vector instanceof NullableVarCharVector || vector instanceof NullableVarBinaryVector) {
+        final boolean characters = vector instanceof NullableVarCharVector;
+        if (STREAMED_TYPES.contains(jdbcType)) {
+          if (streamingReader == null) {
+            final JClass readerType = model.ref(JdbcStreamingValueReader.class);
+            streamingReader = g.declareClassField("streamingReader", readerType);
+            g.getSetupBlock().assign(streamingReader, JExpr._new(readerType));
+          }
+          final JVar length = eval.decl(model.INT, g.getNextVar("length"),
+              streamingReader.invoke(characters ? "readCharacters" : "readBinary").arg(resultSet).arg(column));
+          eval._if(length.gte(JExpr.lit(0)))._then()
+              .add(mutator.invoke("setSafe").arg(index).arg(streamingReader.invoke("getBytes")).arg(JExpr.lit(0)).arg(length));
+        } else {
+          final JVar bytes;
+          if (characters) {
+            final JVar value = eval.decl(model.ref(String.class), g.getNextVar("value"),
+                resultSet.invoke("getString").arg(column));
+            bytes = eval.decl(model.BYTE.array(), g.getNextVar("bytes"),
+                JOp.cond(value.eq(JExpr._null()), JExpr._null(),
+                    value.invoke("getBytes").arg(model.ref(StandardCharsets.class).staticRef("UTF_8"))));
+          } else {
+            bytes = eval.decl(model.BYTE.array(), g.getNextVar("bytes"), resultSet.invoke("getBytes").arg(column));
+          }
+          eval._if(bytes.ne(JExpr._null()))._then()
+              .add(mutator.invoke("setSafe").arg(index).arg(bytes).arg(JExpr.lit(0)).arg(bytes.ref("length")));
+        }
+      } else if (vector instanceof NullableDateVector || vector instanceof NullableTimeVector
+          || vector instanceof NullableTimeStampVector) {
+        if (calendar == null) {
+          final JClass calendarType = model.ref(Calendar.class);
+          calendar = g.declareClassField("calendar", calendarType);
+          g.getSetupBlock().assign(calendar,
+              calendarType.staticInvoke("getInstance").arg(model.ref(TimeZone.class).staticInvoke("getTimeZone").arg(JExpr.lit("UTC"))));
+        }
+        final JVar value;
+        JExpression millis;
+        if (vector instanceof NullableDateVector) {
+          value = eval.decl(model.ref(Date.class), g.getNextVar("date"),
+              resultSet.invoke("getDate").arg(column).arg(calendar));
+          millis = value.invoke("getTime");
+        } else if (vector instanceof NullableTimeVector) {
+          value = eval.decl(model.ref(Time.class), g.getNextVar("time"),
+              resultSet.invoke("getTime").arg(column).arg(calendar));
+          millis = JExpr.cast(model.INT, value.invoke("getTime"));
+        } else {
+          value = eval.decl(model.ref(Timestamp.class), g.getNextVar("stamp"),
+              resultSet.invoke("getTimestamp").arg(column).arg(calendar));
+          millis = value.invoke("getTime");
+        }
+        eval._if(value.ne(JExpr._null()))._then().add(mutator.invoke("setSafe").arg(index).arg(millis));
+      } else {
+        throw new IllegalArgumentException("Unknown how to handle vector.");
+      }
+      g.rotateBlock();
     }
 
-    throw new IllegalArgumentException("Unknown how to handle vector.");
+    return fragmentContext.getImplementationClass(cg);
+  }
+
+  /**
+   * Sets the value of a primitive getter, then clears it if the value was null.
+   */
+  private static void copyPrimitive(JBlock eval, JExpression resultSet, JVar mutator, JExpression index,
+      JExpression value) {
+    eval.add(mutator.invoke("setSafe").arg(index).arg(value));
+    eval._if(resultSet.invoke("wasNull"))._then().add(mutator.invoke("setNull").arg(index));
   }
 
   @Override
@@ -173,13 +280,29 @@ class JdbcRecordReader extends AbstractRecordReader {
 
       this.operatorContext = operatorContext;
       connection = source.getConnection();
-      statement = connection.createStatement();
-      resultSet = statement.executeQuery(sql);
+      if (config.isStreaming()) {
+        // Some drivers only honor the fetch size within a transaction; the connection pool
+        // rolls back and restores auto-commit when the connection is returned.
+        connection.setAutoCommit(false);
+      }
+      if (range == null) {
+        statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        setFetchSize(statement);
+        resultSet = statement.executeQuery(sql);
+      } else {
+        final PreparedStatement preparedStatement =
+            connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement = preparedStatement;
+        setFetchSize(statement);
+        range.bind(preparedStatement);
+        resultSet = preparedStatement.executeQuery();
+      }
 
       final ResultSetMetaData meta = resultSet.getMetaData();
       final int columns = meta.getColumnCount();
       ImmutableList.Builder<ValueVector> vectorBuilder = ImmutableList.builder();
-      ImmutableList.Builder<Copier<?>> copierBuilder = ImmutableList.builder();
+      final List<Integer> columnIndexes = Lists.newArrayList();
+      final List<Integer> jdbcTypes = Lists.newArrayList();
 
       for (int i = 1; i <= columns; i++) {
         final String name = meta.getColumnLabel(i);
@@ -210,13 +333,21 @@ class JdbcRecordReader extends AbstractRecordReader {
             minorType, type.getMode());
         ValueVector vector = output.addField(field, clazz);
         vectorBuilder.add(vector);
-        copierBuilder.add(getCopier(jdbcType, i, resultSet, vector));
+        columnIndexes.add(i);
+        jdbcTypes.add(jdbcType);
 
       }
 
       vectors = vectorBuilder.build();
-      copiers = copierBuilder.build();
+      copier = getCopier(vectors, columnIndexes, jdbcTypes);
+      copier.setup(resultSet, vectors.toArray(new ValueVector[vectors.size()]));
 
+    } catch (ClassTransformationException | IOException e) {
+      throw UserException.internalError(e)
+          .message("The JDBC storage plugin failed while generating the copier of the query results. ")
+          .addContext("sql", sql)
+          .addContext("plugin", storagePluginName)
+          .build(logger);
     } catch (SQLException | SchemaChangeException e) {
       throw UserException.dataReadError(e)
           .message("The JDBC storage plugin failed while trying setup the SQL query. ")
@@ -226,24 +357,19 @@ class JdbcRecordReader extends AbstractRecordReader {
     }
   }
 
+  private void setFetchSize(Statement statement) throws SQLException {
+    if (config.getFetchSize() != null) {
+      statement.setFetchSize(config.getFetchSize());
+    }
+  }
 
   @Override
   public int next() {
     int counter = 0;
-    Boolean b = true;
     try {
-      while (counter < 4095 && b == true) { // loop at 4095 since nullables use one more than record count and we
-                                            // allocate on powers of two.
-        b = resultSet.next();
-        if(b == false) {
-            break;
-        }
-        for (Copier<?> c : copiers) {
-          c.copy(counter);
-        }
-        counter++;
-      }
-    } catch (SQLException e) {
+      // copy at most 4095 rows since nullables use one more than record count and we allocate on powers of two.
+      counter = copier.copyRecords(4095);
+    } catch (SQLException | SchemaChangeException e) {
       throw UserException
           .dataReadError(e)
           .message("Failure while attempting to read from database.")
@@ -263,205 +389,4 @@ class JdbcRecordReader extends AbstractRecordReader {
   public void close() throws Exception {
     AutoCloseables.close(resultSet, statement, connection);
   }
-
-  private abstract class Copier<T extends ValueVector.Mutator> {
-    protected final int columnIndex;
-    protected final ResultSet result;
-    protected final T mutator;
-
-    public Copier(int columnIndex, ResultSet result, T mutator) {
-      super();
-      this.columnIndex = columnIndex;
-      this.result = result;
-      this.mutator = mutator;
-    }
-
-    abstract void copy(int index) throws SQLException;
-  }
-
-  private class IntCopier extends Copier<NullableIntVector.Mutator> {
-    public IntCopier(int offset, ResultSet set, NullableIntVector.Mutator mutator) {
-      super(offset, set, mutator);
-    }
-
-    @Override
-    void copy(int index) throws SQLException {
-      mutator.setSafe(index, result.getInt(columnIndex));
-      if (result.wasNull()) {
-        mutator.setNull(index);
-      }
-    }
-  }
-
-  private class BigIntCopier extends Copier<NullableBigIntVector.Mutator> {
-    public BigIntCopier(int offset, ResultSet set, NullableBigIntVector.Mutator mutator) {
-      super(offset, set, mutator);
-    }
-
-    @Override
-    void copy(int index) throws SQLException {
-      mutator.setSafe(index, result.getLong(columnIndex));
-      if (result.wasNull()) {
-        mutator.setNull(index);
-      }
-    }
-
-  }
-
-  private class Float4Copier extends Copier<NullableFloat4Vector.Mutator> {
-
-    public Float4Copier(int columnIndex, ResultSet result, NullableFloat4Vector.Mutator mutator) {
-      super(columnIndex, result, mutator);
-    }
-
-    @Override
-    void copy(int index) throws SQLException {
-      mutator.setSafe(index, result.getFloat(columnIndex));
-      if (result.wasNull()) {
-        mutator.setNull(index);
-      }
-    }
-
-  }
-
-
-  private class Float8Copier extends Copier<NullableFloat8Vector.Mutator> {
-
-    public Float8Copier(int columnIndex, ResultSet result, NullableFloat8Vector.Mutator mutator) {
-      super(columnIndex, result, mutator);
-    }
-
-    @Override
-    void copy(int index) throws SQLException {
-      mutator.setSafe(index, result.getDouble(columnIndex));
-      if (result.wasNull()) {
-        mutator.setNull(index);
-      }
-
-    }
-
-  }
-
-  private class DecimalCopier extends Copier<NullableFloat8Vector.Mutator> {
-
-    public DecimalCopier(int columnIndex, ResultSet result, NullableFloat8Vector.Mutator mutator) {
-      super(columnIndex, result, mutator);
-    }
-
-    @Override
-    void copy(int index) throws SQLException {
-      BigDecimal decimal = result.getBigDecimal(columnIndex);
-      if (decimal != null) {
-        mutator.setSafe(index, decimal.doubleValue());
-      }
-    }
-
-  }
-
-  private class VarCharCopier extends Copier<NullableVarCharVector.Mutator> {
-
-    public VarCharCopier(int columnIndex, ResultSet result, NullableVarCharVector.Mutator mutator) {
-      super(columnIndex, result, mutator);
-    }
-
-    @Override
-    void copy(int index) throws SQLException {
-      String val = resultSet.getString(columnIndex);
-      if (val != null) {
-        byte[] record = val.getBytes(Charsets.UTF_8);
-        mutator.setSafe(index, record, 0, record.length);
-      }
-    }
-
-  }
-
-  private class VarBinaryCopier extends Copier<NullableVarBinaryVector.Mutator> {
-
-    public VarBinaryCopier(int columnIndex, ResultSet result, NullableVarBinaryVector.Mutator mutator) {
-      super(columnIndex, result, mutator);
-    }
-
-    @Override
-    void copy(int index) throws SQLException {
-      byte[] record = result.getBytes(columnIndex);
-      if (record != null) {
-        mutator.setSafe(index, record, 0, record.length);
-      }
-    }
-
-  }
-
-  private class DateCopier extends Copier<NullableDateVector.Mutator> {
-
-    private final Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-
-    public DateCopier(int columnIndex, ResultSet result, NullableDateVector.Mutator mutator) {
-      super(columnIndex, result, mutator);
-    }
-
-    @Override
-    void copy(int index) throws SQLException {
-      Date date = result.getDate(columnIndex, calendar);
-      if (date != null) {
-        mutator.setSafe(index, date.getTime());
-      }
-    }
-
-  }
-
-  private class TimeCopier extends Copier<NullableTimeVector.Mutator> {
-
-    private final Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-
-    public TimeCopier(int columnIndex, ResultSet result, NullableTimeVector.Mutator mutator) {
-      super(columnIndex, result, mutator);
-    }
-
-    @Override
-    void copy(int index) throws SQLException {
-      Time time = result.getTime(columnIndex, calendar);
-      if (time != null) {
-        mutator.setSafe(index, (int) time.getTime());
-      }
-
-    }
-
-  }
-
-
-  private class TimeStampCopier extends Copier<NullableTimeStampVector.Mutator> {
-
-    private final Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-
-    public TimeStampCopier(int columnIndex, ResultSet result, NullableTimeStampVector.Mutator mutator) {
-      super(columnIndex, result, mutator);
-    }
-
-    @Override
-    void copy(int index) throws SQLException {
-      Timestamp stamp = result.getTimestamp(columnIndex, calendar);
-      if (stamp != null) {
-        mutator.setSafe(index, stamp.getTime());
-      }
-
-    }
-
-  }
-
-  private class BitCopier extends Copier<NullableBitVector.Mutator> {
-
-    public BitCopier(int columnIndex, ResultSet result, NullableBitVector.Mutator mutator) {
-      super(columnIndex, result, mutator);
-    }
-
-    @Override
-    void copy(int index) throws SQLException {
-      mutator.setSafe(index, result.getBoolean(columnIndex) ? 1 : 0);
-      if (result.wasNull()) {
-        mutator.setNull(index);
-      }
-    }
-
-  }
-
 }
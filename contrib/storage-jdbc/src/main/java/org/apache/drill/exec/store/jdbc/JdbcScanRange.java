@@ -0,0 +1,243 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.jdbc;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.calcite.sql.SqlDialect;
+import org.apache.drill.common.AutoCloseables;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.Lists;
+
+/**
+ * A range of values of the partition column, read by one sub scan of a split JDBC scan.
+ * A missing lower bound also takes the rows where the column is null, so that the ranges
+ * of a scan together cover all rows.
+ */
+public class JdbcScanRange {
+  static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(JdbcScanRange.class);
+
+  private static final String ALIAS = "drill_partition";
+
+  /**
+   * How the bounds (kept as longs) are bound to the statement.
+   */
+  public enum BoundType {
+    NUMBER, DATE, TIMESTAMP
+  }
+
+  private final BoundType type;
+  private final Long lower;
+  private final Long upper;
+
+  @JsonCreator
+  public JdbcScanRange(
+      @JsonProperty("type") BoundType type,
+      @JsonProperty("lower") Long lower,
+      @JsonProperty("upper") Long upper) {
+    this.type = type;
+    this.lower = lower;
+    this.upper = upper;
+  }
+
+  public BoundType getType() {
+    return type;
+  }
+
+  public Long getLower() {
+    return lower;
+  }
+
+  public Long getUpper() {
+    return upper;
+  }
+
+  /**
+   * Restricts the given query to this range of the partition column; the bounds are
+   * parameters of the returned query, see {@link #bind(PreparedStatement)}.
+   */
+  public String restrict(String sql, String quotedColumn, SqlDialect dialect) {
+    final String column = dialect.quoteIdentifier(ALIAS) + "." + quotedColumn;
+    final String condition;
+    if (lower == null && upper == null) {
+      return sql;
+    } else if (lower == null) {
+      condition = String.format("(%s < ? OR %s IS NULL)", column, column);
+    } else if (upper == null) {
+      condition = String.format("%s >= ?", column);
+    } else {
+      condition = String.format("%s >= ? AND %s < ?", column, column);
+    }
+    return String.format("SELECT * FROM (%s) %s WHERE %s", sql, dialect.quoteIdentifier(ALIAS), condition);
+  }
+
+  /**
+   * Restricts the given query to no rows, for minor fragments beyond the ranges of a scan.
+   */
+  public static String restrictToNone(String sql, SqlDialect dialect) {
+    return String.format("SELECT * FROM (%s) %s WHERE 1 = 0", sql, dialect.quoteIdentifier(ALIAS));
+  }
+
+  /**
+   * Binds the bounds of this range to the parameters of a query built by {@link #restrict}.
+   */
+  public void bind(PreparedStatement statement) throws SQLException {
+    int index = 1;
+    if (lower != null) {
+      bind(statement, index++, lower);
+    }
+    if (upper != null) {
+      bind(statement, index, upper);
+    }
+  }
+
+  private void bind(PreparedStatement statement, int index, long value) throws SQLException {
+    switch (type) {
+      case DATE:
+        statement.setDate(index, new Date(value));
+        break;
+      case TIMESTAMP:
+        statement.setTimestamp(index, new Timestamp(value));
+        break;
+      default:
+        statement.setLong(index, value);
+    }
+  }
+
+  /**
+   * Splits the values of the partition column of the given query into ranges. The minimum and
+   * maximum values of the column are queried from the database; the ranges between them are of
+   * (about) equal width, the first and last ones are open ended.
+   *
+   * @return the ranges, or null if the column is not of an integer or date type, or holds no values
+   */
+  public static List<JdbcScanRange> split(DataSource source, SqlDialect dialect, String sql, String quotedColumn,
+                                          int count) throws SQLException {
+    final String minMaxSql = String.format("SELECT MIN(%s), MAX(%s) FROM (%s) %s",
+        quotedColumn, quotedColumn, sql, dialect.quoteIdentifier(ALIAS));
+    Connection connection = null;
+    Statement statement = null;
+    ResultSet resultSet = null;
+    try {
+      connection = source.getConnection();
+      statement = connection.createStatement();
+      resultSet = statement.executeQuery(minMaxSql);
+      if (!resultSet.next()) {
+        return null;
+      }
+
+      final ResultSetMetaData meta = resultSet.getMetaData();
+      final BoundType type;
+      final Long min;
+      final Long max;
+      switch (meta.getColumnType(1)) {
+        case Types.TINYINT:
+        case Types.SMALLINT:
+        case Types.INTEGER:
+        case Types.BIGINT:
+          type = BoundType.NUMBER;
+          min = getLong(resultSet, 1);
+          max = getLong(resultSet, 2);
+          break;
+        case Types.NUMERIC:
+        case Types.DECIMAL:
+          if (meta.getScale(1) != 0) {
+            return null;
+          }
+          type = BoundType.NUMBER;
+          min = getLongExact(resultSet.getBigDecimal(1));
+          max = getLongExact(resultSet.getBigDecimal(2));
+          break;
+        case Types.DATE:
+          type = BoundType.DATE;
+          min = resultSet.getDate(1) == null ? null : resultSet.getDate(1).getTime();
+          max = resultSet.getDate(2) == null ? null : resultSet.getDate(2).getTime();
+          break;
+        case Types.TIMESTAMP:
+          type = BoundType.TIMESTAMP;
+          min = resultSet.getTimestamp(1) == null ? null : resultSet.getTimestamp(1).getTime();
+          max = resultSet.getTimestamp(2) == null ? null : resultSet.getTimestamp(2).getTime();
+          break;
+        default:
+          logger.debug("Not splitting the scan on column {} of type {}", quotedColumn, meta.getColumnTypeName(1));
+          return null;
+      }
+      if (min == null || max == null) {
+        return null;
+      }
+      return split(type, min, max, count);
+    } finally {
+      try {
+        AutoCloseables.close(resultSet, statement, connection);
+      } catch (Exception e) {
+        logger.warn("Failure while closing the connection after querying the partition bounds.", e);
+      }
+    }
+  }
+
+  static List<JdbcScanRange> split(BoundType type, long min, long max, int count) {
+    final List<JdbcScanRange> ranges = Lists.newArrayList();
+    final BigInteger start = BigInteger.valueOf(min);
+    final BigInteger width = BigInteger.valueOf(max).subtract(start).add(BigInteger.ONE);
+    Long lower = null;
+    for (int i = 1; i < count; i++) {
+      // ranges past the maximum are empty, but every minor fragment needs one
+      final long upper = start.add(width.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(count))).longValue();
+      ranges.add(new JdbcScanRange(type, lower, upper));
+      lower = upper;
+    }
+    ranges.add(new JdbcScanRange(type, lower, null));
+    return ranges;
+  }
+
+  private static Long getLong(ResultSet resultSet, int index) throws SQLException {
+    final long value = resultSet.getLong(index);
+    return resultSet.wasNull() ? null : value;
+  }
+
+  private static Long getLongExact(BigDecimal value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return value.longValueExact();
+    } catch (ArithmeticException e) {
+      return null;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "JdbcScanRange [type=" + type + ", lower=" + lower + ", upper=" + upper + "]";
+  }
+}
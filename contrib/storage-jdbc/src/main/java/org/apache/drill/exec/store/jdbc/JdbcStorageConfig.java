@@ -17,12 +17,30 @@
  */
 package org.apache.drill.exec.store.jdbc;
 
+import java.util.Collections;
+import java.util.Map;
+
 import org.apache.drill.common.logical.StoragePluginConfig;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 
+/**
+ * Configuration of a JDBC storage plugin.
+ * <p>
+ * Besides the connection properties, the following optional properties control how tables are read:
+ * <ul>
+ *   <li><code>fetchSize</code>: the fetch size of the statements, instead of the driver's default. Some drivers
+ *   need a specific value to stream results (e.g. MySQL streams with <code>-2147483648</code>.)</li>
+ *   <li><code>streaming</code>: read with auto-commit disabled, which some drivers (e.g. PostgreSQL) require to
+ *   honor the fetch size instead of buffering the whole result.</li>
+ *   <li><code>partitionColumns</code>: per table name, a numeric or date column to split scans of the table on.
+ *   The range between the minimum and maximum value of the column is split into one range per minor
+ *   fragment, each read by its own query.</li>
+ *   <li><code>partitionCount</code>: the maximum number of ranges (and so of minor fragments) of a split scan.</li>
+ * </ul>
+ */
 @JsonTypeName(JdbcStorageConfig.NAME)
 public class JdbcStorageConfig extends StoragePluginConfig {
 
@@ -32,18 +50,34 @@ public class JdbcStorageConfig extends StoragePluginConfig {
   private final String url;
   private final String username;
   private final String password;
+  private final Integer fetchSize;
+  private final boolean streaming;
+  private final Map<String, String> partitionColumns;
+  private final int partitionCount;
+
+  public JdbcStorageConfig(String driver, String url, String username, String password) {
+    this(driver, url, username, password, null, null, null, null);
+  }
 
   @JsonCreator
   public JdbcStorageConfig(
       @JsonProperty("driver") String driver,
       @JsonProperty("url") String url,
       @JsonProperty("username") String username,
-      @JsonProperty("password") String password) {
+      @JsonProperty("password") String password,
+      @JsonProperty("fetchSize") Integer fetchSize,
+      @JsonProperty("streaming") Boolean streaming,
+      @JsonProperty("partitionColumns") Map<String, String> partitionColumns,
+      @JsonProperty("partitionCount") Integer partitionCount) {
     super();
     this.driver = driver;
     this.url = url;
     this.username = username;
     this.password = password;
+    this.fetchSize = fetchSize;
+    this.streaming = streaming != null && streaming;
+    this.partitionColumns = partitionColumns == null ? Collections.<String, String>emptyMap() : partitionColumns;
+    this.partitionCount = partitionCount == null ? 1 : Math.max(partitionCount, 1);
   }
 
   public String getDriver() {
@@ -62,6 +96,36 @@ public class JdbcStorageConfig extends StoragePluginConfig {
     return password;
   }
 
+  public Integer getFetchSize() {
+    return fetchSize;
+  }
+
+  public boolean isStreaming() {
+    return streaming;
+  }
+
+  public Map<String, String> getPartitionColumns() {
+    return partitionColumns;
+  }
+
+  public int getPartitionCount() {
+    return partitionCount;
+  }
+
+  /**
+   * Returns the column to split scans of the given table on, if any. The table name
+   * is matched case insensitively, either on its own or qualified with its schema.
+   */
+  public String getPartitionColumn(String schemaName, String tableName) {
+    for (Map.Entry<String, String> entry : partitionColumns.entrySet()) {
+      if (entry.getKey().equalsIgnoreCase(tableName)
+          || (schemaName != null && entry.getKey().equalsIgnoreCase(schemaName + "." + tableName))) {
+        return entry.getValue();
+      }
+    }
+    return null;
+  }
+
   @Override
   public int hashCode() {
     final int prime = 31;
@@ -70,6 +134,10 @@ public class JdbcStorageConfig extends StoragePluginConfig {
     result = prime * result + ((password == null) ? 0 : password.hashCode());
     result = prime * result + ((url == null) ? 0 : url.hashCode());
     result = prime * result + ((username == null) ? 0 : username.hashCode());
+    result = prime * result + ((fetchSize == null) ? 0 : fetchSize.hashCode());
+    result = prime * result + (streaming ? 1231 : 1237);
+    result = prime * result + partitionColumns.hashCode();
+    result = prime * result + partitionCount;
     return result;
   }
 
@@ -113,6 +181,22 @@ public class JdbcStorageConfig extends StoragePluginConfig {
     } else if (!username.equals(other.username)) {
       return false;
     }
+    if (fetchSize == null) {
+      if (other.fetchSize != null) {
+        return false;
+      }
+    } else if (!fetchSize.equals(other.fetchSize)) {
+      return false;
+    }
+    if (streaming != other.streaming) {
+      return false;
+    }
+    if (!partitionColumns.equals(other.partitionColumns)) {
+      return false;
+    }
+    if (partitionCount != other.partitionCount) {
+      return false;
+    }
     return true;
   }
 
@@ -0,0 +1,124 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Reads large character and binary values (CLOB, BLOB and the LONG types) through the streams of the
+ * driver into a buffer that is reused from row to row, rather than through an intermediate String or
+ * byte array per value. Used by the generated {@link JdbcCopier}s.
+ */
+public class JdbcStreamingValueReader {
+
+  private static final int INITIAL_SIZE = 8192;
+
+  private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  private char[] chars = new char[INITIAL_SIZE];
+  private byte[] bytes = new byte[INITIAL_SIZE];
+
+  /**
+   * Returns the buffer holding the last value read.
+   */
+  public byte[] getBytes() {
+    return bytes;
+  }
+
+  /**
+   * Reads a character value and encodes it as UTF-8 into the buffer.
+   *
+   * @return the length of the encoded value, -1 if the value is null
+   */
+  public int readCharacters(ResultSet resultSet, int column) throws SQLException {
+    final Reader reader = resultSet.getCharacterStream(column);
+    if (reader == null) {
+      return -1;
+    }
+    int length = 0;
+    try {
+      try {
+        for (int n; (n = reader.read(chars, length, chars.length - length)) >= 0; ) {
+          length += n;
+          if (length == chars.length) {
+            chars = Arrays.copyOf(chars, chars.length * 2);
+          }
+        }
+      } finally {
+        reader.close();
+      }
+    } catch (IOException e) {
+      throw new SQLException("Failure while reading a character value", e);
+    }
+
+    final CharBuffer in = CharBuffer.wrap(chars, 0, length);
+    ByteBuffer out = ByteBuffer.wrap(bytes);
+    encoder.reset();
+    while (encoder.encode(in, out, true).isOverflow()) {
+      out = grow(out);
+    }
+    while (encoder.flush(out).isOverflow()) {
+      out = grow(out);
+    }
+    return out.position();
+  }
+
+  /**
+   * Reads a binary value into the buffer.
+   *
+   * @return the length of the value, -1 if the value is null
+   */
+  public int readBinary(ResultSet resultSet, int column) throws SQLException {
+    final InputStream in = resultSet.getBinaryStream(column);
+    if (in == null) {
+      return -1;
+    }
+    int length = 0;
+    try {
+      try {
+        for (int n; (n = in.read(bytes, length, bytes.length - length)) >= 0; ) {
+          length += n;
+          if (length == bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+          }
+        }
+      } finally {
+        in.close();
+      }
+    } catch (IOException e) {
+      throw new SQLException("Failure while reading a binary value", e);
+    }
+    return length;
+  }
+
+  private ByteBuffer grow(ByteBuffer out) {
+    bytes = Arrays.copyOf(bytes, bytes.length * 2);
+    return ByteBuffer.wrap(bytes, out.position(), bytes.length - out.position());
+  }
+}
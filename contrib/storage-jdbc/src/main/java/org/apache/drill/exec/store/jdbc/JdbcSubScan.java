@@ -32,21 +32,25 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 public class JdbcSubScan extends AbstractSubScan {
 
   private final String sql;
+  private final JdbcScanRange range;
   private final JdbcStoragePlugin plugin;
 
   @JsonCreator
   public JdbcSubScan(
       @JsonProperty("sql") String sql,
+      @JsonProperty("range") JdbcScanRange range,
       @JsonProperty("config") StoragePluginConfig config,
       @JacksonInject StoragePluginRegistry plugins) throws ExecutionSetupException {
     super("");
     this.sql = sql;
+    this.range = range;
     this.plugin = (JdbcStoragePlugin) plugins.getPlugin(config);
   }
 
-  JdbcSubScan(String sql, JdbcStoragePlugin plugin) {
+  JdbcSubScan(String sql, JdbcScanRange range, JdbcStoragePlugin plugin) {
     super("");
     this.sql = sql;
+    this.range = range;
     this.plugin = plugin;
   }
 
@@ -59,6 +63,13 @@ public class JdbcSubScan extends AbstractSubScan {
     return sql;
   }
 
+  /**
+   * @return the range of the partition column the query is restricted to, or null
+   */
+  public JdbcScanRange getRange() {
+    return range;
+  }
+
   public StoragePluginConfig getConfig() {
     return plugin.getConfig();
   }
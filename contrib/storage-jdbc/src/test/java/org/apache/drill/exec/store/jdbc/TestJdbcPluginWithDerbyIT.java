@@ -70,6 +70,28 @@ public class TestJdbcPluginWithDerbyIT extends PlanTestBase {
             .build().run();
   }
 
+  @Test
+  public void testSplitScan() throws Exception {
+    try {
+      testNoResult("SET `planner.slice_target` = 1");
+      final String query = "select PERSON_ID, FIRST_NAME from derby_split.DRILL_DERBY_TEST.PERSON where PERSON_ID > 1";
+
+      testPlanMatchingPatterns(query, new String[]{"partitionColumn=\\[PERSON_ID\\]"}, new String[]{});
+
+      testBuilder()
+          .sqlQuery(query)
+          .unOrdered()
+          .baselineColumns("PERSON_ID", "FIRST_NAME")
+          .baselineValues(2, "first_name_2")
+          .baselineValues(3, "first_name_3")
+          .baselineValues(4, null)
+          .baselineValues(5, null)
+          .go();
+    } finally {
+      testNoResult("ALTER SESSION RESET `planner.slice_target`");
+    }
+  }
+
   @Test
   public void pushdownJoin() throws Exception {
     testNoResult("use derby");
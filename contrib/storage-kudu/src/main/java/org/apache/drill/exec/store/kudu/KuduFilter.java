@@ -0,0 +1,127 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.kudu;
+
+import java.util.List;
+
+import org.apache.kudu.ColumnSchema;
+import org.apache.kudu.Schema;
+import org.apache.kudu.Type;
+import org.apache.kudu.client.KuduPredicate;
+import org.apache.kudu.client.KuduPredicate.ComparisonOp;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+/**
+ * A predicate on a single Kudu column, pushed down from a Drill filter. Unlike a
+ * {@link KuduPredicate}, it can be serialized with the physical plan; the values are
+ * coerced to the type of the column when the predicate is created.
+ */
+public class KuduFilter {
+
+  public enum Op {
+    EQUAL, LESS, LESS_EQUAL, GREATER, GREATER_EQUAL, IN, IS_NULL, IS_NOT_NULL
+  }
+
+  private final String column;
+  private final Op op;
+  private final List<Object> values;
+
+  @JsonCreator
+  public KuduFilter(@JsonProperty("column") String column,
+                    @JsonProperty("op") Op op,
+                    @JsonProperty("values") List<Object> values) {
+    this.column = column;
+    this.op = op;
+    this.values = values == null ? ImmutableList.of() : values;
+  }
+
+  public String getColumn() {
+    return column;
+  }
+
+  public Op getOp() {
+    return op;
+  }
+
+  public List<Object> getValues() {
+    return values;
+  }
+
+  public KuduPredicate toPredicate(Schema schema) {
+    final ColumnSchema columnSchema = schema.getColumn(column);
+    switch (op) {
+    case IS_NULL:
+      return KuduPredicate.newIsNullPredicate(columnSchema);
+    case IS_NOT_NULL:
+      return KuduPredicate.newIsNotNullPredicate(columnSchema);
+    case IN:
+      final List<Object> inValues = Lists.newArrayList();
+      for (Object value : values) {
+        inValues.add(coerce(columnSchema.getType(), value));
+      }
+      return KuduPredicate.newInListPredicate(columnSchema, inValues);
+    default:
+      final Object value = coerce(columnSchema.getType(), values.get(0));
+      final ComparisonOp comparison = ComparisonOp.valueOf(op.name());
+      switch (columnSchema.getType()) {
+      case BOOL:
+        return KuduPredicate.newComparisonPredicate(columnSchema, comparison, (Boolean) value);
+      case FLOAT:
+        return KuduPredicate.newComparisonPredicate(columnSchema, comparison, (Float) value);
+      case DOUBLE:
+        return KuduPredicate.newComparisonPredicate(columnSchema, comparison, (Double) value);
+      case STRING:
+        return KuduPredicate.newComparisonPredicate(columnSchema, comparison, (String) value);
+      default:
+        return KuduPredicate.newComparisonPredicate(columnSchema, comparison, ((Number) value).longValue());
+      }
+    }
+  }
+
+  /**
+   * Converts a value (as it comes back from JSON) to the Java type Kudu expects for the column.
+   */
+  private static Object coerce(Type type, Object value) {
+    switch (type) {
+    case INT8:
+      return ((Number) value).byteValue();
+    case INT16:
+      return ((Number) value).shortValue();
+    case INT32:
+      return ((Number) value).intValue();
+    case INT64:
+      return ((Number) value).longValue();
+    case FLOAT:
+      return ((Number) value).floatValue();
+    case DOUBLE:
+      return ((Number) value).doubleValue();
+    default:
+      return value;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return column + " " + op + (values.isEmpty() ? "" : " " + values);
+  }
+
+}
@@ -0,0 +1,252 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.kudu;
+
+import java.util.List;
+
+import org.apache.drill.common.expression.BooleanOperator;
+import org.apache.drill.common.expression.FunctionCall;
+import org.apache.drill.common.expression.LogicalExpression;
+import org.apache.drill.common.expression.SchemaPath;
+import org.apache.drill.common.expression.ValueExpressions.BooleanExpression;
+import org.apache.drill.common.expression.ValueExpressions.DoubleExpression;
+import org.apache.drill.common.expression.ValueExpressions.FloatExpression;
+import org.apache.drill.common.expression.ValueExpressions.IntExpression;
+import org.apache.drill.common.expression.ValueExpressions.LongExpression;
+import org.apache.drill.common.expression.ValueExpressions.QuotedString;
+import org.apache.drill.common.expression.visitors.AbstractExprVisitor;
+import org.apache.drill.exec.store.kudu.KuduFilter.Op;
+import org.apache.kudu.ColumnSchema;
+import org.apache.kudu.Schema;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+
+/**
+ * Converts a Drill filter condition into a conjunction of {@link KuduFilter}s. Comparisons
+ * of a column with a literal, IS [NOT] NULL and disjunctions of equalities on one column
+ * (which is how Drill plans a short IN list) are converted; the parts of an AND that cannot
+ * be converted are left to Drill.
+ */
+public class KuduFilterBuilder extends AbstractExprVisitor<List<KuduFilter>, Void, RuntimeException> {
+
+  private static final ImmutableMap<String, Op> COMPARE_FUNCTIONS = ImmutableMap.<String, Op>builder()
+      .put("equal", Op.EQUAL)
+      .put("less_than", Op.LESS)
+      .put("less_than_or_equal_to", Op.LESS_EQUAL)
+      .put("greater_than", Op.GREATER)
+      .put("greater_than_or_equal_to", Op.GREATER_EQUAL)
+      .build();
+
+  // the comparison to use when the literal is the first argument
+  private static final ImmutableMap<Op, Op> TRANSPOSED = ImmutableMap.<Op, Op>builder()
+      .put(Op.EQUAL, Op.EQUAL)
+      .put(Op.LESS, Op.GREATER)
+      .put(Op.LESS_EQUAL, Op.GREATER_EQUAL)
+      .put(Op.GREATER, Op.LESS)
+      .put(Op.GREATER_EQUAL, Op.LESS_EQUAL)
+      .build();
+
+  private static final ImmutableMap<String, Op> NULL_FUNCTIONS = ImmutableMap.<String, Op>builder()
+      .put("isnull", Op.IS_NULL)
+      .put("isNull", Op.IS_NULL)
+      .put("is null", Op.IS_NULL)
+      .put("isnotnull", Op.IS_NOT_NULL)
+      .put("isNotNull", Op.IS_NOT_NULL)
+      .put("is not null", Op.IS_NOT_NULL)
+      .build();
+
+  private final Schema schema;
+  private final LogicalExpression le;
+  private boolean allExpressionsConverted = true;
+
+  public KuduFilterBuilder(Schema schema, LogicalExpression le) {
+    this.schema = schema;
+    this.le = le;
+  }
+
+  /**
+   * @return the filters, or null if no part of the condition could be converted
+   */
+  public List<KuduFilter> parseTree() {
+    return le.accept(this, null);
+  }
+
+  public boolean isAllExpressionsConverted() {
+    return allExpressionsConverted;
+  }
+
+  @Override
+  public List<KuduFilter> visitUnknown(LogicalExpression e, Void value) throws RuntimeException {
+    allExpressionsConverted = false;
+    return null;
+  }
+
+  @Override
+  public List<KuduFilter> visitBooleanOperator(BooleanOperator op, Void value) throws RuntimeException {
+    return visitFunctionCall(op, value);
+  }
+
+  @Override
+  public List<KuduFilter> visitFunctionCall(FunctionCall call, Void value) throws RuntimeException {
+    List<KuduFilter> filters = null;
+    final String functionName = call.getName();
+    final ImmutableList<LogicalExpression> args = call.args;
+
+    if (COMPARE_FUNCTIONS.containsKey(functionName) && args.size() == 2) {
+      filters = createComparison(COMPARE_FUNCTIONS.get(functionName), args.get(0), args.get(1));
+    } else if (NULL_FUNCTIONS.containsKey(functionName) && args.size() == 1) {
+      final String column = getColumnName(args.get(0));
+      if (column != null) {
+        filters = ImmutableList.of(new KuduFilter(column, NULL_FUNCTIONS.get(functionName), null));
+      }
+    } else {
+      switch (functionName) {
+      case "booleanAnd":
+        filters = Lists.newArrayList();
+        for (LogicalExpression arg : args) {
+          final List<KuduFilter> argFilters = arg.accept(this, null);
+          if (argFilters != null) {
+            filters.addAll(argFilters);
+          } else {
+            allExpressionsConverted = false;
+          }
+        }
+        if (filters.isEmpty()) {
+          filters = null;
+        }
+        break;
+      case "booleanOr":
+        filters = createInList(args);
+        break;
+      }
+    }
+
+    if (filters == null) {
+      allExpressionsConverted = false;
+    }
+    return filters;
+  }
+
+  private List<KuduFilter> createComparison(Op op, LogicalExpression left, LogicalExpression right) {
+    String column = getColumnName(left);
+    LogicalExpression literal = right;
+    if (column == null) {
+      column = getColumnName(right);
+      literal = left;
+      op = TRANSPOSED.get(op);
+    }
+    if (column == null) {
+      return null;
+    }
+    final Object value = getValue(schema.getColumn(column), literal);
+    if (value == null) {
+      return null;
+    }
+    return ImmutableList.of(new KuduFilter(column, op, ImmutableList.of(value)));
+  }
+
+  /**
+   * Converts a disjunction of equalities on the same column into an IN list predicate.
+   */
+  private List<KuduFilter> createInList(List<LogicalExpression> args) {
+    String column = null;
+    final List<Object> values = Lists.newArrayList();
+    for (LogicalExpression arg : args) {
+      // use a separate builder, so that an unconvertible branch does not change our state
+      final KuduFilterBuilder builder = new KuduFilterBuilder(schema, arg);
+      final List<KuduFilter> argFilters = builder.parseTree();
+      if (argFilters == null || argFilters.size() != 1 || !builder.isAllExpressionsConverted()) {
+        return null;
+      }
+      final KuduFilter filter = argFilters.get(0);
+      if ((filter.getOp() != Op.EQUAL && filter.getOp() != Op.IN)
+          || (column != null && !column.equals(filter.getColumn()))) {
+        return null;
+      }
+      column = filter.getColumn();
+      values.addAll(filter.getValues());
+    }
+    return ImmutableList.of(new KuduFilter(column, Op.IN, values));
+  }
+
+  /**
+   * @return the name of the Kudu column the expression refers to, or null if it is not a plain column
+   */
+  private String getColumnName(LogicalExpression e) {
+    if (!(e instanceof SchemaPath) || !((SchemaPath) e).getRootSegment().isLastPath()) {
+      return null;
+    }
+    final String name = ((SchemaPath) e).getRootSegment().getPath();
+    for (ColumnSchema column : schema.getColumns()) {
+      if (column.getName().equalsIgnoreCase(name)) {
+        return column.getName();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the value of the literal as a type that compares exactly like Drill would
+   *         against the column, or null if there is no such value
+   */
+  private static Object getValue(ColumnSchema column, LogicalExpression e) {
+    switch (column.getType()) {
+    case INT8:
+    case INT16:
+    case INT32:
+    case INT64:
+      final Long longValue;
+      if (e instanceof IntExpression) {
+        longValue = (long) ((IntExpression) e).getInt();
+      } else if (e instanceof LongExpression) {
+        longValue = ((LongExpression) e).getLong();
+      } else {
+        return null;
+      }
+      // Kudu rejects predicate values out of the range of the column's type
+      final int bits = column.getType().getSize() * 8;
+      if (bits < 64 && (longValue < -(1L << (bits - 1)) || longValue >= 1L << (bits - 1))) {
+        return null;
+      }
+      return longValue;
+    case FLOAT:
+      return e instanceof FloatExpression ? ((FloatExpression) e).getFloat() : null;
+    case DOUBLE:
+      if (e instanceof DoubleExpression) {
+        return ((DoubleExpression) e).getDouble();
+      } else if (e instanceof FloatExpression) {
+        return (double) ((FloatExpression) e).getFloat();
+      } else if (e instanceof IntExpression) {
+        return (double) ((IntExpression) e).getInt();
+      } else if (e instanceof LongExpression) {
+        return (double) ((LongExpression) e).getLong();
+      }
+      return null;
+    case STRING:
+      return e instanceof QuotedString ? ((QuotedString) e).getString() : null;
+    case BOOL:
+      return e instanceof BooleanExpression ? ((BooleanExpression) e).getBoolean() : null;
+    default:
+      // timestamps are read with millisecond precision, so a comparison in micros would not match Drill's
+      return null;
+    }
+  }
+
+}
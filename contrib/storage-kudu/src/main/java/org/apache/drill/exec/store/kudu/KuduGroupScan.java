@@ -51,6 +51,10 @@ import org.apache.drill.exec.store.schedule.AssignmentCreator;
 import org.apache.drill.exec.store.schedule.CompleteWork;
 import org.apache.drill.exec.store.schedule.EndpointByteMap;
 import org.apache.drill.exec.store.schedule.EndpointByteMapImpl;
+import org.apache.kudu.Schema;
+import org.apache.kudu.client.KuduScanToken;
+import org.apache.kudu.client.KuduScanToken.KuduScanTokenBuilder;
+import org.apache.kudu.client.KuduTable;
 import org.apache.kudu.client.LocatedTablet;
 import org.apache.kudu.client.LocatedTablet.Replica;
 
@@ -58,6 +62,7 @@ import org.apache.kudu.client.LocatedTablet.Replica;
 public class KuduGroupScan extends AbstractGroupScan {
   static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(KuduGroupScan.class);
   private static final long DEFAULT_TABLET_SIZE = 1000;
+  private static final byte[] UNBOUNDED_KEY = new byte[0];
 
   private KuduStoragePluginConfig storagePluginConfig;
   private List<SchemaPath> columns;
@@ -67,6 +72,7 @@ public class KuduGroupScan extends AbstractGroupScan {
   private List<KuduWork> kuduWorkList = Lists.newArrayList();
   private ListMultimap<Integer,KuduWork> assignments;
   private List<EndpointAffinity> affinities;
+  private Schema tableSchema;
 
 
   @JsonCreator
@@ -95,8 +101,15 @@ public class KuduGroupScan extends AbstractGroupScan {
       endpointMap.put(endpoint.getAddress(), endpoint);
     }
     try {
-      List<LocatedTablet> locations = storagePlugin.getClient().openTable(tableName).getTabletsLocations(10000);
-      for (LocatedTablet tablet : locations) {
+      KuduTable table = storagePlugin.getClient().openTable(tableName);
+      tableSchema = table.getSchema();
+      // the scan tokens only cover the tablets whose partitions the predicates can match
+      KuduScanTokenBuilder tokenBuilder = storagePlugin.getClient().newScanTokenBuilder(table);
+      for (KuduFilter filter : kuduScanSpec.getFilters()) {
+        tokenBuilder.addPredicate(filter.toPredicate(tableSchema));
+      }
+      for (KuduScanToken token : tokenBuilder.build()) {
+        LocatedTablet tablet = token.getTablet();
         KuduWork work = new KuduWork(tablet.getPartition().getPartitionKeyStart(), tablet.getPartition().getPartitionKeyEnd());
         for (Replica replica : tablet.getReplicas()) {
           String host = replica.getRpcHost();
@@ -107,6 +120,11 @@ public class KuduGroupScan extends AbstractGroupScan {
         }
         kuduWorkList.add(work);
       }
+      if (kuduWorkList.isEmpty()) {
+        // no tablet can match; a scan of the whole key range with the predicates returns no rows
+        kuduWorkList.add(new KuduWork(UNBOUNDED_KEY, UNBOUNDED_KEY));
+      }
+      logger.debug("Scanning {} tablet(s) of table {}", kuduWorkList.size(), tableName);
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
@@ -160,6 +178,7 @@ public class KuduGroupScan extends AbstractGroupScan {
     this.filterPushedDown = that.filterPushedDown;
     this.kuduWorkList = that.kuduWorkList;
     this.assignments = that.assignments;
+    this.tableSchema = that.tableSchema;
   }
 
   @Override
@@ -201,7 +220,8 @@ public class KuduGroupScan extends AbstractGroupScan {
     List<KuduSubScanSpec> scanSpecList = Lists.newArrayList();
 
     for (KuduWork work : workList) {
-      scanSpecList.add(new KuduSubScanSpec(getTableName(), work.getPartitionKeyStart(), work.getPartitionKeyEnd()));
+      scanSpecList.add(new KuduSubScanSpec(getTableName(), work.getPartitionKeyStart(), work.getPartitionKeyEnd(),
+          kuduScanSpec.getFilters(), kuduScanSpec.getLimit()));
     }
 
     return new KuduSubScan(storagePlugin, storagePluginConfig, scanSpecList, this.columns);
@@ -212,6 +232,13 @@ public class KuduGroupScan extends AbstractGroupScan {
   @Override
   public ScanStats getScanStats() {
     long recordCount = 100000 * kuduWorkList.size();
+    if (!kuduScanSpec.getFilters().isEmpty()) {
+      // a rough selectivity, so that a scan with pushed down predicates is preferred
+      recordCount = Math.max(1, recordCount / 2);
+    }
+    if (kuduScanSpec.getLimit() != null) {
+      recordCount = Math.min(recordCount, kuduScanSpec.getLimit() * kuduWorkList.size());
+    }
     return new ScanStats(GroupScanProperty.NO_EXACT_ROW_COUNT, recordCount, 1, recordCount);
   }
 
@@ -267,7 +294,15 @@ public class KuduGroupScan extends AbstractGroupScan {
 
   @JsonIgnore
   public void setFilterPushedDown(boolean b) {
-    this.filterPushedDown = true;
+    this.filterPushedDown = b;
+  }
+
+  /**
+   * @return the schema of the table, as read when the scan was planned
+   */
+  @JsonIgnore
+  public Schema getTableSchema() {
+    return tableSchema;
   }
 
   @JsonIgnore
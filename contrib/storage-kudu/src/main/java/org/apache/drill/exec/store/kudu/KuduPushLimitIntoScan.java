@@ -0,0 +1,75 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.kudu;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.drill.exec.planner.logical.RelOptHelper;
+import org.apache.drill.exec.planner.physical.LimitPrel;
+import org.apache.drill.exec.planner.physical.ScanPrel;
+import org.apache.drill.exec.store.StoragePluginOptimizerRule;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Pushes a limit into the Kudu scanners. Each scanner returns at most the limit, so the
+ * Limit operator stays in the plan to apply it to the rows of all the tablets.
+ */
+public class KuduPushLimitIntoScan extends StoragePluginOptimizerRule {
+
+  public static final StoragePluginOptimizerRule LIMIT_ON_SCAN = new KuduPushLimitIntoScan();
+
+  private KuduPushLimitIntoScan() {
+    super(RelOptHelper.some(LimitPrel.class, RelOptHelper.any(ScanPrel.class)), "KuduPushLimitIntoScan:Limit_On_Scan");
+  }
+
+  @Override
+  public boolean matches(RelOptRuleCall call) {
+    final ScanPrel scan = (ScanPrel) call.rel(1);
+    if (scan.getGroupScan() instanceof KuduGroupScan) {
+      return super.matches(call);
+    }
+    return false;
+  }
+
+  @Override
+  public void onMatch(RelOptRuleCall call) {
+    final LimitPrel limit = (LimitPrel) call.rel(0);
+    final ScanPrel scan = (ScanPrel) call.rel(1);
+    if (limit.getFetch() == null) {
+      return;
+    }
+
+    final long rows = (limit.getOffset() == null ? 0L : RexLiteral.intValue(limit.getOffset()))
+        + RexLiteral.intValue(limit.getFetch());
+
+    final KuduGroupScan groupScan = (KuduGroupScan) scan.getGroupScan();
+    final KuduScanSpec scanSpec = groupScan.getKuduScanSpec();
+    if (scanSpec.getLimit() != null && scanSpec.getLimit() <= rows) {
+      return;
+    }
+
+    final KuduGroupScan newGroupScan = new KuduGroupScan(groupScan.getStoragePlugin(),
+        new KuduScanSpec(scanSpec.getTableName(), scanSpec.getFilters(), rows), groupScan.getColumns());
+    newGroupScan.setFilterPushedDown(groupScan.isFilterPushedDown());
+    final ScanPrel newScanPrel = ScanPrel.create(scan, scan.getTraitSet(), newGroupScan, scan.getRowType());
+    call.transformTo(limit.copy(limit.getTraitSet(), ImmutableList.<RelNode>of(newScanPrel)));
+  }
+
+}
@@ -110,6 +110,12 @@ public class KuduRecordReader extends AbstractRecordReader {
         }
         builder.setProjectedColumnNames(colNames);
       }
+      for (KuduFilter filter : scanSpec.getFilters()) {
+        builder.addPredicate(filter.toPredicate(table.getSchema()));
+      }
+      if (scanSpec.getLimit() != null) {
+        builder.limit(scanSpec.getLimit());
+      }
 
       context.getStats().startWait();
       try {
@@ -17,22 +17,54 @@
  */
 package org.apache.drill.exec.store.kudu;
 
+import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableList;
 
 public class KuduScanSpec {
 
   private final String tableName;
+  private final List<KuduFilter> filters;
+  private final Long limit;
+
+  public KuduScanSpec(String tableName) {
+    this(tableName, null, null);
+  }
 
   @JsonCreator
-  public KuduScanSpec(@JsonProperty("tableName") String tableName) {
+  public KuduScanSpec(@JsonProperty("tableName") String tableName,
+                      @JsonProperty("filters") List<KuduFilter> filters,
+                      @JsonProperty("limit") Long limit) {
     this.tableName = tableName;
+    this.filters = filters == null ? ImmutableList.<KuduFilter>of() : filters;
+    this.limit = limit;
   }
 
   public String getTableName() {
     return tableName;
   }
 
+  /**
+   * @return the predicates the scan applies, all of which must hold
+   */
+  public List<KuduFilter> getFilters() {
+    return filters;
+  }
+
+  /**
+   * @return the maximum number of rows each scanner returns, or null if there is no limit
+   */
+  public Long getLimit() {
+    return limit;
+  }
+
+  @Override
+  public String toString() {
+    return "KuduScanSpec [tableName=" + tableName
+        + (filters.isEmpty() ? "" : ", filters=" + filters)
+        + (limit == null ? "" : ", limit=" + limit) + "]";
+  }
 
 }
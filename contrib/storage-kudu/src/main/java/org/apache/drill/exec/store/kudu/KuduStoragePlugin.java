@@ -18,16 +18,20 @@
 package org.apache.drill.exec.store.kudu;
 
 import java.io.IOException;
+import java.util.Set;
 
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.drill.common.JSONOptions;
+import org.apache.drill.exec.ops.OptimizerRulesContext;
 import org.apache.drill.exec.server.DrillbitContext;
 import org.apache.drill.exec.store.AbstractStoragePlugin;
 import org.apache.drill.exec.store.SchemaConfig;
+import org.apache.drill.exec.store.StoragePluginOptimizerRule;
 import org.apache.kudu.client.KuduClient;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableSet;
 
 public class KuduStoragePlugin extends AbstractStoragePlugin {
   static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(KuduStoragePlugin.class);
@@ -78,6 +82,12 @@ public class KuduStoragePlugin extends AbstractStoragePlugin {
     return new KuduGroupScan(this, scanSpec, null);
   }
 
+  @Override
+  public Set<StoragePluginOptimizerRule> getPhysicalOptimizerRules(OptimizerRulesContext optimizerRulesContext) {
+    return ImmutableSet.of(KuduPushFilterIntoScan.FILTER_ON_SCAN, KuduPushFilterIntoScan.FILTER_ON_PROJECT,
+        KuduPushLimitIntoScan.LIMIT_ON_SCAN);
+  }
+
   @Override
   public boolean supportsWrite() {
     return true;
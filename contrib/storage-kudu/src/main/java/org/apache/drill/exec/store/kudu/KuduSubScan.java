@@ -37,6 +37,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterators;
 
 // Class containing information for reading a single Kudu tablet
@@ -117,14 +118,24 @@ public class KuduSubScan extends AbstractBase implements SubScan {
     private final String tableName;
     private final byte[] startKey;
     private final byte[] endKey;
+    private final List<KuduFilter> filters;
+    private final Long limit;
+
+    public KuduSubScanSpec(String tableName, byte[] startKey, byte[] endKey) {
+      this(tableName, startKey, endKey, null, null);
+    }
 
     @JsonCreator
     public KuduSubScanSpec(@JsonProperty("tableName") String tableName,
                            @JsonProperty("startKey") byte[] startKey,
-                           @JsonProperty("endKey") byte[] endKey) {
+                           @JsonProperty("endKey") byte[] endKey,
+                           @JsonProperty("filters") List<KuduFilter> filters,
+                           @JsonProperty("limit") Long limit) {
       this.tableName = tableName;
       this.startKey = startKey;
       this.endKey = endKey;
+      this.filters = filters == null ? ImmutableList.<KuduFilter>of() : filters;
+      this.limit = limit;
     }
 
     public String getTableName() {
@@ -139,6 +150,14 @@ public class KuduSubScan extends AbstractBase implements SubScan {
       return endKey;
     }
 
+    public List<KuduFilter> getFilters() {
+      return filters;
+    }
+
+    public Long getLimit() {
+      return limit;
+    }
+
   }
 
   @Override
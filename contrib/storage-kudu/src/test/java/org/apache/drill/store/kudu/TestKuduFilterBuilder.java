@@ -0,0 +1,110 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.store.kudu;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.drill.common.expression.BooleanOperator;
+import org.apache.drill.common.expression.ExpressionPosition;
+import org.apache.drill.common.expression.FunctionCall;
+import org.apache.drill.common.expression.LogicalExpression;
+import org.apache.drill.common.expression.SchemaPath;
+import org.apache.drill.common.expression.ValueExpressions;
+import org.apache.drill.exec.store.kudu.KuduFilter;
+import org.apache.drill.exec.store.kudu.KuduFilter.Op;
+import org.apache.drill.exec.store.kudu.KuduFilterBuilder;
+import org.apache.kudu.ColumnSchema;
+import org.apache.kudu.Schema;
+import org.apache.kudu.Type;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+
+public class TestKuduFilterBuilder {
+
+  private static final Schema SCHEMA = new Schema(Arrays.asList(
+      new ColumnSchema.ColumnSchemaBuilder("key", Type.INT32).key(true).build(),
+      new ColumnSchema.ColumnSchemaBuilder("name", Type.STRING).nullable(true).build(),
+      new ColumnSchema.ColumnSchemaBuilder("ratio", Type.FLOAT).nullable(true).build()));
+
+  private static LogicalExpression call(String name, LogicalExpression... args) {
+    return new FunctionCall(name, ImmutableList.copyOf(args), ExpressionPosition.UNKNOWN);
+  }
+
+  private static LogicalExpression bool(String name, LogicalExpression... args) {
+    return new BooleanOperator(name, ImmutableList.copyOf(args), ExpressionPosition.UNKNOWN);
+  }
+
+  private static LogicalExpression column(String name) {
+    return SchemaPath.getSimplePath(name);
+  }
+
+  @Test
+  public void testComparisons() {
+    KuduFilterBuilder builder = new KuduFilterBuilder(SCHEMA, bool("booleanAnd",
+        call("greater_than_or_equal_to", column("KEY"), ValueExpressions.getInt(10)),
+        call("less_than", ValueExpressions.getInt(20), column("key")),
+        call("isnotnull", column("name"))));
+    List<KuduFilter> filters = builder.parseTree();
+    assertTrue(builder.isAllExpressionsConverted());
+    assertEquals(3, filters.size());
+    assertEquals("key", filters.get(0).getColumn());
+    assertEquals(Op.GREATER_EQUAL, filters.get(0).getOp());
+    assertEquals(Op.GREATER, filters.get(1).getOp());
+    assertEquals(Op.IS_NOT_NULL, filters.get(2).getOp());
+  }
+
+  @Test
+  public void testInList() {
+    KuduFilterBuilder builder = new KuduFilterBuilder(SCHEMA, bool("booleanOr",
+        call("equal", column("key"), ValueExpressions.getInt(1)),
+        call("equal", column("key"), ValueExpressions.getInt(2)),
+        call("equal", column("key"), ValueExpressions.getInt(3))));
+    List<KuduFilter> filters = builder.parseTree();
+    assertTrue(builder.isAllExpressionsConverted());
+    assertEquals(1, filters.size());
+    assertEquals(Op.IN, filters.get(0).getOp());
+    assertEquals(3, filters.get(0).getValues().size());
+  }
+
+  @Test
+  public void testPartialConversion() {
+    // an OR across columns and a comparison of a FLOAT column with a DOUBLE literal stay in Drill
+    KuduFilterBuilder builder = new KuduFilterBuilder(SCHEMA, bool("booleanAnd",
+        call("equal", column("key"), ValueExpressions.getInt(1)),
+        bool("booleanOr",
+            call("equal", column("key"), ValueExpressions.getInt(2)),
+            call("equal", column("name"), ValueExpressions.getChar("a", 1))),
+        call("less_than", column("ratio"), ValueExpressions.getFloat8(0.5))));
+    List<KuduFilter> filters = builder.parseTree();
+    assertFalse(builder.isAllExpressionsConverted());
+    assertEquals(1, filters.size());
+    assertEquals(Op.EQUAL, filters.get(0).getOp());
+
+    builder = new KuduFilterBuilder(SCHEMA, call("equal", column("missing"), ValueExpressions.getInt(1)));
+    assertNull(builder.parseTree());
+    assertFalse(builder.isAllExpressionsConverted());
+  }
+
+}
@@ -164,6 +164,18 @@ public class MongoGroupScan extends AbstractGroupScan implements
     this.filterPushedDown = filterPushedDown;
   }
 
+  /**
+   * @return true if the collection is read as a single chunk, so that a single reader sees all its documents
+   */
+  @JsonIgnore
+  public boolean isSingleChunk() {
+    int chunks = 0;
+    for (List<ChunkInfo> chunkList : chunksInverseMapping.values()) {
+      chunks += chunkList.size();
+    }
+    return chunks == 1;
+  }
+
   private boolean isShardedCluster(MongoClient client) {
     MongoDatabase db = client.getDatabase(scanSpec.getDbName());
     String msg = db.runCommand(new Document("isMaster", 1)).getString("msg");
@@ -370,6 +382,15 @@ public class MongoGroupScan extends AbstractGroupScan implements
     return clone;
   }
 
+  /**
+   * Returns a copy of this group scan that reads the same collection with the given scan spec.
+   */
+  public MongoGroupScan clone(MongoScanSpec scanSpec) {
+    MongoGroupScan clone = new MongoGroupScan(this);
+    clone.scanSpec = scanSpec;
+    return clone;
+  }
+
   @Override
   public boolean canPushdownProjects(List<SchemaPath> columns) {
     return true;
@@ -475,7 +496,10 @@ public class MongoGroupScan extends AbstractGroupScan implements
         .setHosts(chunkInfo.getChunkLocList())
         .setMinFilters(chunkInfo.getMinFilters())
         .setMaxFilters(chunkInfo.getMaxFilters())
-        .setFilter(scanSpec.getFilters());
+        .setFilter(scanSpec.getFilters())
+        .setSort(scanSpec.getSort())
+        .setLimit(scanSpec.getLimit())
+        .setPipeline(scanSpec.getPipeline());
     return subScanSpec;
   }
 
@@ -0,0 +1,257 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.mongo;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptRuleOperand;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.drill.common.expression.LogicalExpression;
+import org.apache.drill.common.expression.SchemaPath;
+import org.apache.drill.exec.planner.logical.DrillAggregateRel;
+import org.apache.drill.exec.planner.logical.DrillFilterRel;
+import org.apache.drill.exec.planner.logical.DrillOptiq;
+import org.apache.drill.exec.planner.logical.DrillParseContext;
+import org.apache.drill.exec.planner.logical.DrillProjectRel;
+import org.apache.drill.exec.planner.logical.DrillScanRel;
+import org.apache.drill.exec.planner.logical.RelOptHelper;
+import org.apache.drill.exec.planner.physical.PrelUtil;
+import org.apache.drill.exec.planner.sql.QueryParameters;
+import org.apache.drill.exec.store.StoragePluginOptimizerRule;
+import org.bson.Document;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+/**
+ * Converts a grouped aggregation (with an optional filter and project below it) over a Mongo
+ * scan into a Mongo aggregation pipeline: the scan then returns the groups, and the Drill
+ * aggregate is removed from the plan.
+ * <p>
+ * Only COUNT, SUM, $SUM0, MIN and MAX without DISTINCT are converted, on plain columns, and only
+ * when the whole collection is read by a single reader (the groups of several readers would
+ * have to be combined.) Filters must be converted entirely into a Mongo query.
+ */
+public abstract class MongoPushDownAggregateForScan extends StoragePluginOptimizerRule {
+  private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(MongoPushDownAggregateForScan.class);
+
+  private static final String GROUP_KEY_PREFIX = "k";
+  private static final String AGG_PREFIX = "a";
+  private static final String COUNT_PREFIX = "c";
+
+  public static final StoragePluginOptimizerRule AGG_ON_SCAN = new MongoPushDownAggregateForScan(
+      RelOptHelper.some(DrillAggregateRel.class, RelOptHelper.any(DrillScanRel.class)),
+      "MongoPushDownAggregateForScan:Agg_on_scan") {
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+      doOnMatch(call, (DrillAggregateRel) call.rel(0), null, null, (DrillScanRel) call.rel(1));
+    }
+  };
+
+  public static final StoragePluginOptimizerRule AGG_ON_PROJ_ON_SCAN = new MongoPushDownAggregateForScan(
+      RelOptHelper.some(DrillAggregateRel.class,
+          RelOptHelper.some(DrillProjectRel.class, RelOptHelper.any(DrillScanRel.class))),
+      "MongoPushDownAggregateForScan:Agg_on_proj_on_scan") {
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+      doOnMatch(call, (DrillAggregateRel) call.rel(0), (DrillProjectRel) call.rel(1), null, (DrillScanRel) call.rel(2));
+    }
+  };
+
+  public static final StoragePluginOptimizerRule AGG_ON_FILTER_ON_SCAN = new MongoPushDownAggregateForScan(
+      RelOptHelper.some(DrillAggregateRel.class,
+          RelOptHelper.some(DrillFilterRel.class, RelOptHelper.any(DrillScanRel.class))),
+      "MongoPushDownAggregateForScan:Agg_on_filter_on_scan") {
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+      doOnMatch(call, (DrillAggregateRel) call.rel(0), null, (DrillFilterRel) call.rel(1), (DrillScanRel) call.rel(2));
+    }
+  };
+
+  public static final StoragePluginOptimizerRule AGG_ON_PROJ_ON_FILTER_ON_SCAN = new MongoPushDownAggregateForScan(
+      RelOptHelper.some(DrillAggregateRel.class,
+          RelOptHelper.some(DrillProjectRel.class,
+              RelOptHelper.some(DrillFilterRel.class, RelOptHelper.any(DrillScanRel.class)))),
+      "MongoPushDownAggregateForScan:Agg_on_proj_on_filter_on_scan") {
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+      doOnMatch(call, (DrillAggregateRel) call.rel(0), (DrillProjectRel) call.rel(1), (DrillFilterRel) call.rel(2),
+          (DrillScanRel) call.rel(3));
+    }
+  };
+
+  private MongoPushDownAggregateForScan(RelOptRuleOperand operand, String description) {
+    super(operand, description);
+  }
+
+  @Override
+  public boolean matches(RelOptRuleCall call) {
+    final DrillScanRel scan = (DrillScanRel) call.rel(call.rels.length - 1);
+    if (scan.getGroupScan() instanceof MongoGroupScan) {
+      return super.matches(call);
+    }
+    return false;
+  }
+
+  protected void doOnMatch(RelOptRuleCall call, DrillAggregateRel agg, DrillProjectRel project, DrillFilterRel filter,
+                           DrillScanRel scan) {
+    final MongoGroupScan groupScan = (MongoGroupScan) scan.getGroupScan();
+    final MongoScanSpec scanSpec = groupScan.getScanSpec();
+    if (scanSpec.getPipeline() != null || scanSpec.getSort() != null || scanSpec.getLimit() != null
+        || agg.indicator || agg.getGroupSets().size() != 1 || agg.getGroupCount() == 0
+        || !groupScan.isSingleChunk()) {
+      // a global aggregate (no group keys) returns a row even for no documents, where $group returns none
+      return;
+    }
+
+    Document filters = scanSpec.getFilters();
+    if (filter != null) {
+      if (groupScan.isFilterPushedDown() || QueryParameters.hasParameters(filter.getCondition())) {
+        // the pushed down condition would keep the placeholders of the parameters instead of their values
+        return;
+      }
+      final LogicalExpression conditionExp = DrillOptiq.toDrill(
+          new DrillParseContext(PrelUtil.getPlannerSettings(call.getPlanner())), scan, filter.getCondition());
+      final MongoFilterBuilder mongoFilterBuilder = new MongoFilterBuilder(groupScan, conditionExp);
+      final MongoScanSpec filteredScanSpec = mongoFilterBuilder.parseTree();
+      if (filteredScanSpec == null || !mongoFilterBuilder.isAllExpressionsConverted()) {
+        return;
+      }
+      filters = filteredScanSpec.getFilters();
+    }
+
+    final List<String> outputNames = agg.getRowType().getFieldNames();
+    for (String name : outputNames) {
+      if (!isPlainFieldName(name)) {
+        return;
+      }
+    }
+
+    final Document groupId = new Document();
+    final Document projection = new Document(DrillMongoConstants.ID, 0);
+    int outputIndex = 0;
+    for (int key : agg.getGroupSet()) {
+      final String field = getFieldName(key, project, scan);
+      if (field == null) {
+        return;
+      }
+      // missing fields would otherwise form a group of their own, apart from the null values
+      groupId.put(GROUP_KEY_PREFIX + outputIndex, new Document("$ifNull", Arrays.asList("$" + field, null)));
+      projection.put(outputNames.get(outputIndex), "$" + DrillMongoConstants.ID + "." + GROUP_KEY_PREFIX + outputIndex);
+      outputIndex++;
+    }
+
+    final Document group = new Document(DrillMongoConstants.ID, groupId);
+    for (int i = 0; i < agg.getAggCallList().size(); i++, outputIndex++) {
+      final AggregateCall aggCall = agg.getAggCallList().get(i);
+      if (aggCall.isDistinct() || aggCall.getArgList().size() > 1) {
+        return;
+      }
+      String field = null;
+      if (aggCall.getArgList().size() == 1) {
+        field = getFieldName(aggCall.getArgList().get(0), project, scan);
+        if (field == null) {
+          return;
+        }
+      }
+      final String accumulator = AGG_PREFIX + i;
+      final String output = outputNames.get(outputIndex);
+      switch (aggCall.getAggregation().getName().toUpperCase()) {
+        case "COUNT":
+          group.put(accumulator, new Document("$sum", field == null ? 1L : countIfNotNull(field)));
+          projection.put(output, "$" + accumulator);
+          break;
+        case "$SUM0":
+          if (field == null) {
+            return;
+          }
+          group.put(accumulator, new Document("$sum", "$" + field));
+          projection.put(output, "$" + accumulator);
+          break;
+        case "SUM":
+          if (field == null) {
+            return;
+          }
+          // the sum of no (non-null) values is null, where Mongo's is 0
+          group.put(accumulator, new Document("$sum", "$" + field));
+          group.put(COUNT_PREFIX + i, new Document("$sum", countIfNotNull(field)));
+          projection.put(output, new Document("$cond",
+              Arrays.asList(new Document("$gt", Arrays.asList("$" + COUNT_PREFIX + i, 0)), "$" + accumulator, null)));
+          break;
+        case "MIN":
+        case "MAX":
+          if (field == null) {
+            return;
+          }
+          group.put(accumulator, new Document("$" + aggCall.getAggregation().getName().toLowerCase(), "$" + field));
+          projection.put(output, "$" + accumulator);
+          break;
+        default:
+          return;
+      }
+    }
+
+    final List<String> pipeline = ImmutableList.of(
+        new Document("$group", group).toJson(),
+        new Document("$project", projection).toJson());
+    final MongoGroupScan newGroupScan = groupScan.clone(new MongoScanSpec(scanSpec, filters, pipeline));
+    newGroupScan.setFilterPushedDown(groupScan.isFilterPushedDown() || filter != null);
+
+    final List<SchemaPath> columns = Lists.newArrayList();
+    for (String name : outputNames) {
+      columns.add(SchemaPath.getSimplePath(name));
+    }
+
+    logger.debug("Converted aggregate into the Mongo pipeline {}", pipeline);
+    call.transformTo(new DrillScanRel(scan.getCluster(), scan.getTraitSet(), scan.getTable(),
+        newGroupScan.clone(columns), agg.getRowType(), columns));
+  }
+
+  /**
+   * Returns the name of the scan column the given input of the aggregate refers to,
+   * or null if it is not a plain column.
+   */
+  private static String getFieldName(int index, DrillProjectRel project, DrillScanRel scan) {
+    if (project != null) {
+      final RexNode expr = project.getProjects().get(index);
+      if (!(expr instanceof RexInputRef)) {
+        return null;
+      }
+      index = ((RexInputRef) expr).getIndex();
+    }
+    final String name = scan.getRowType().getFieldNames().get(index);
+    return isPlainFieldName(name) ? name : null;
+  }
+
+  private static boolean isPlainFieldName(String name) {
+    return !name.isEmpty() && !name.startsWith("$") && !name.contains(".") && !name.contains("*");
+  }
+
+  /**
+   * @return an expression that is 1 for documents where the field is not null (nor missing), 0 otherwise
+   */
+  private static Document countIfNotNull(String field) {
+    return new Document("$cond", Arrays.asList(
+        new Document("$eq", Arrays.asList(new Document("$ifNull", Arrays.asList("$" + field, null)), null)), 0L, 1L));
+  }
+
+}
@@ -27,6 +27,7 @@ import org.apache.drill.exec.planner.logical.RelOptHelper;
 import org.apache.drill.exec.planner.physical.FilterPrel;
 import org.apache.drill.exec.planner.physical.PrelUtil;
 import org.apache.drill.exec.planner.physical.ScanPrel;
+import org.apache.drill.exec.planner.sql.QueryParameters;
 import org.apache.drill.exec.store.StoragePluginOptimizerRule;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.plan.RelOptRuleCall;
@@ -54,7 +55,13 @@ public class MongoPushDownFilterForScan extends StoragePluginOptimizerRule {
     final RexNode condition = filter.getCondition();
 
     MongoGroupScan groupScan = (MongoGroupScan) scan.getGroupScan();
-    if (groupScan.isFilterPushedDown()) {
+    if (groupScan.isFilterPushedDown() || groupScan.getScanSpec().getPipeline() != null) {
+      // a filter on the output of a pushed down aggregation can not be applied to the documents
+      return;
+    }
+
+    if (QueryParameters.hasParameters(condition)) {
+      // the pushed down condition would keep the placeholders of the parameters instead of their values
       return;
     }
 
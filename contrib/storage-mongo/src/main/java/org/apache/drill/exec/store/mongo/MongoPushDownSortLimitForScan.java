@@ -0,0 +1,135 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.mongo;
+
+import java.util.List;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptRuleOperand;
+import org.apache.calcite.rel.RelFieldCollation.Direction;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.drill.common.expression.FieldReference;
+import org.apache.drill.common.expression.SchemaPath;
+import org.apache.drill.common.logical.data.Order.Ordering;
+import org.apache.drill.exec.planner.logical.RelOptHelper;
+import org.apache.drill.exec.planner.physical.LimitPrel;
+import org.apache.drill.exec.planner.physical.PrelUtil;
+import org.apache.drill.exec.planner.physical.ScanPrel;
+import org.apache.drill.exec.planner.physical.TopNPrel;
+import org.apache.drill.exec.store.StoragePluginOptimizerRule;
+import org.bson.Document;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Pushes a limit, or the sort and limit of a TopN, into the Mongo scan below it. Every
+ * reader then returns at most that many documents (in that order); the Drill operator
+ * remains in the plan, to combine the output of the readers.
+ */
+public abstract class MongoPushDownSortLimitForScan extends StoragePluginOptimizerRule {
+
+  public static final StoragePluginOptimizerRule LIMIT_ON_SCAN = new MongoPushDownSortLimitForScan(
+      RelOptHelper.some(LimitPrel.class, RelOptHelper.any(ScanPrel.class)), "MongoPushDownLimitForScan") {
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+      final LimitPrel limit = (LimitPrel) call.rel(0);
+      final ScanPrel scan = (ScanPrel) call.rel(1);
+      if (limit.getFetch() == null) {
+        return;
+      }
+      final int rows = (limit.getOffset() == null ? 0 : RexLiteral.intValue(limit.getOffset()))
+          + RexLiteral.intValue(limit.getFetch());
+
+      final MongoGroupScan groupScan = (MongoGroupScan) scan.getGroupScan();
+      final MongoScanSpec scanSpec = groupScan.getScanSpec();
+      if (scanSpec.getLimit() != null && scanSpec.getLimit() <= rows) {
+        return;
+      }
+
+      final ScanPrel newScan = ScanPrel.create(scan, scan.getTraitSet(),
+          groupScan.clone(new MongoScanSpec(scanSpec, scanSpec.getSort(), rows)), scan.getRowType());
+      call.transformTo(limit.copy(limit.getTraitSet(), ImmutableList.of((RelNode) newScan)));
+    }
+  };
+
+  public static final StoragePluginOptimizerRule TOPN_ON_SCAN = new MongoPushDownSortLimitForScan(
+      RelOptHelper.some(TopNPrel.class, RelOptHelper.any(ScanPrel.class)), "MongoPushDownTopNForScan") {
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+      final TopNPrel topN = (TopNPrel) call.rel(0);
+      final ScanPrel scan = (ScanPrel) call.rel(1);
+
+      final MongoGroupScan groupScan = (MongoGroupScan) scan.getGroupScan();
+      final MongoScanSpec scanSpec = groupScan.getScanSpec();
+      if (scanSpec.getSort() != null || scanSpec.getLimit() != null) {
+        return;
+      }
+
+      final Document sort = toSort(PrelUtil.getOrdering(topN.getCollation(), scan.getRowType()));
+      if (sort == null) {
+        return;
+      }
+
+      final ScanPrel newScan = ScanPrel.create(scan, scan.getTraitSet(),
+          groupScan.clone(new MongoScanSpec(scanSpec, sort, topN.getLimit())), scan.getRowType());
+      call.transformTo(topN.copy(topN.getTraitSet(), ImmutableList.of((RelNode) newScan)));
+    }
+  };
+
+  private MongoPushDownSortLimitForScan(RelOptRuleOperand operand, String description) {
+    super(operand, description);
+  }
+
+  /**
+   * Converts the orderings into a Mongo sort document. Mongo sorts null (and missing) values
+   * before all others, so only orderings that do the same are converted.
+   *
+   * @return the sort document, or null if the orderings can not be converted
+   */
+  private static Document toSort(List<Ordering> orderings) {
+    final Document sort = new Document();
+    for (Ordering ordering : orderings) {
+      if (ordering.nullsSortHigh() || !(ordering.getExpr() instanceof FieldReference)) {
+        return null;
+      }
+      final SchemaPath field = (SchemaPath) ordering.getExpr();
+      if (!field.getRootSegment().isLastPath()) {
+        return null;
+      }
+      final String name = field.getRootSegment().getPath();
+      if (name.contains("*") || name.contains(".") || name.startsWith("$")) {
+        return null;
+      }
+      sort.put(name, ordering.getDirection() == Direction.DESCENDING ? -1 : 1);
+    }
+    return sort.isEmpty() ? null : sort;
+  }
+
+  @Override
+  public boolean matches(RelOptRuleCall call) {
+    final ScanPrel scan = (ScanPrel) call.rel(1);
+    if (scan.getGroupScan() instanceof MongoGroupScan) {
+      return super.matches(call);
+    }
+    return false;
+  }
+
+}
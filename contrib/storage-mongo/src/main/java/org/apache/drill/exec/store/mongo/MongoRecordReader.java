@@ -40,6 +40,7 @@ import org.apache.drill.exec.vector.complex.impl.VectorContainerWriter;
 import org.bson.BsonDocument;
 import org.bson.BsonDocumentReader;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,6 +50,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.mongodb.MongoClient;
 import com.mongodb.ServerAddress;
+import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
@@ -65,6 +67,10 @@ public class MongoRecordReader extends AbstractRecordReader {
 
   private Document filters;
   private final Document fields;
+  private final Document sort;
+  private final Integer limit;
+  private final List<String> pipeline;
+  private final int batchSize;
 
   private final FragmentContext fragmentContext;
   private OperatorContext operatorContext;
@@ -90,6 +96,12 @@ public class MongoRecordReader extends AbstractRecordReader {
         subScanSpec.getMinFilters(), subScanSpec.getMaxFilters());
 
     buildFilters(subScanSpec.getFilter(), mergedFilters);
+    sort = subScanSpec.getSort();
+    limit = subScanSpec.getLimit();
+    pipeline = subScanSpec.getPipeline();
+    final long batchSizeOption = fragmentContext.getOptions().getOption(ExecConstants.MONGO_READER_BATCH_SIZE).num_val;
+    // by default, fetch the documents of one record batch per round trip
+    batchSize = batchSizeOption > 0 ? (int) batchSizeOption : BaseValueVector.INITIAL_VALUE_ALLOCATION;
     enableAllTextMode = fragmentContext.getOptions().getOption(ExecConstants.MONGO_ALL_TEXT_MODE).bool_val;
     readNumbersAsDouble = fragmentContext.getOptions().getOption(ExecConstants.MONGO_READER_READ_NUMBERS_AS_DOUBLE).bool_val;
     isBsonRecordReader = fragmentContext.getOptions().getOption(ExecConstants.MONGO_BSON_RECORD_READER).bool_val;
@@ -168,8 +180,19 @@ public class MongoRecordReader extends AbstractRecordReader {
   public int next() {
     if (cursor == null) {
       logger.info("Filters Applied : " + filters);
-      logger.info("Fields Selected :" + fields);
-      cursor = collection.find(filters).projection(fields).batchSize(100).iterator();
+      if (pipeline != null) {
+        cursor = collection.aggregate(buildPipeline()).allowDiskUse(true).batchSize(batchSize).iterator();
+      } else {
+        logger.info("Fields Selected :" + fields);
+        FindIterable<BsonDocument> documents = collection.find(filters).projection(fields).batchSize(batchSize);
+        if (sort != null) {
+          documents = documents.sort(sort);
+        }
+        if (limit != null) {
+          documents = documents.limit(limit);
+        }
+        cursor = documents.iterator();
+      }
     }
 
     writer.allocate();
@@ -208,6 +231,27 @@ public class MongoRecordReader extends AbstractRecordReader {
     }
   }
 
+  /**
+   * Builds the aggregation pipeline: the filters, the pushed down stages, and the sort and limit, if any.
+   */
+  private List<Bson> buildPipeline() {
+    List<Bson> stages = Lists.newArrayList();
+    if (!filters.isEmpty()) {
+      stages.add(new Document("$match", filters));
+    }
+    for (String stage : pipeline) {
+      stages.add(Document.parse(stage));
+    }
+    if (sort != null) {
+      stages.add(new Document("$sort", sort));
+    }
+    if (limit != null) {
+      stages.add(new Document("$limit", limit));
+    }
+    logger.info("Pipeline Applied : " + stages);
+    return stages;
+  }
+
   @Override
   public void close() {
   }
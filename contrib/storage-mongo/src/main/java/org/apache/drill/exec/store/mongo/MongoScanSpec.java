@@ -17,6 +17,8 @@
  */
 package org.apache.drill.exec.store.mongo;
 
+import java.util.List;
+
 import org.bson.Document;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -28,11 +30,27 @@ public class MongoScanSpec {
 
   private Document filters;
 
+  private Document sort;
+
+  private Integer limit;
+
+  private List<String> pipeline;
+
   @JsonCreator
   public MongoScanSpec(@JsonProperty("dbName") String dbName,
-      @JsonProperty("collectionName") String collectionName) {
+      @JsonProperty("collectionName") String collectionName,
+      @JsonProperty("sort") Document sort,
+      @JsonProperty("limit") Integer limit,
+      @JsonProperty("pipeline") List<String> pipeline) {
     this.dbName = dbName;
     this.collectionName = collectionName;
+    this.sort = sort;
+    this.limit = limit;
+    this.pipeline = pipeline;
+  }
+
+  public MongoScanSpec(String dbName, String collectionName) {
+    this(dbName, collectionName, null, null, null);
   }
 
   public MongoScanSpec(String dbName, String collectionName,
@@ -42,6 +60,30 @@ public class MongoScanSpec {
     this.filters = filters;
   }
 
+  /**
+   * Creates a copy of the given scan spec, which reads the documents in the given order,
+   * up to the given limit (either may be null.)
+   */
+  public MongoScanSpec(MongoScanSpec that, Document sort, Integer limit) {
+    this.dbName = that.dbName;
+    this.collectionName = that.collectionName;
+    this.filters = that.filters;
+    this.sort = sort;
+    this.limit = limit;
+    this.pipeline = that.pipeline;
+  }
+
+  /**
+   * Creates a copy of the given scan spec, which reads the output of the given aggregation
+   * pipeline stages (as JSON documents) over the filtered documents instead.
+   */
+  public MongoScanSpec(MongoScanSpec that, Document filters, List<String> pipeline) {
+    this.dbName = that.dbName;
+    this.collectionName = that.collectionName;
+    this.filters = filters;
+    this.pipeline = pipeline;
+  }
+
   public String getDbName() {
     return dbName;
   }
@@ -54,10 +96,25 @@ public class MongoScanSpec {
     return filters;
   }
 
+  public Document getSort() {
+    return sort;
+  }
+
+  public Integer getLimit() {
+    return limit;
+  }
+
+  public List<String> getPipeline() {
+    return pipeline;
+  }
+
   @Override
   public String toString() {
     return "MongoScanSpec [dbName=" + dbName + ", collectionName="
-        + collectionName + ", filters=" + filters + "]";
+        + collectionName + ", filters=" + filters
+        + (sort == null ? "" : ", sort=" + sort)
+        + (limit == null ? "" : ", limit=" + limit)
+        + (pipeline == null ? "" : ", pipeline=" + pipeline) + "]";
   }
 
 }
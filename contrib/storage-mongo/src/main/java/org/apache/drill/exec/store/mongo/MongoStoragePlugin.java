@@ -97,9 +97,21 @@ public class MongoStoragePlugin extends AbstractStoragePlugin {
     return new MongoGroupScan(userName, this, mongoScanSpec, null);
   }
 
+  @Override
+  public Set<StoragePluginOptimizerRule> getLogicalOptimizerRules(OptimizerRulesContext optimizerContext) {
+    return ImmutableSet.of(
+        MongoPushDownAggregateForScan.AGG_ON_SCAN,
+        MongoPushDownAggregateForScan.AGG_ON_PROJ_ON_SCAN,
+        MongoPushDownAggregateForScan.AGG_ON_FILTER_ON_SCAN,
+        MongoPushDownAggregateForScan.AGG_ON_PROJ_ON_FILTER_ON_SCAN);
+  }
+
   @Override
   public Set<StoragePluginOptimizerRule> getPhysicalOptimizerRules(OptimizerRulesContext optimizerRulesContext) {
-    return ImmutableSet.of(MongoPushDownFilterForScan.INSTANCE);
+    return ImmutableSet.of(
+        MongoPushDownFilterForScan.INSTANCE,
+        MongoPushDownSortLimitForScan.LIMIT_ON_SCAN,
+        MongoPushDownSortLimitForScan.TOPN_ON_SCAN);
   }
 
 
@@ -132,19 +132,29 @@ public class MongoSubScan extends AbstractBase implements SubScan {
 
     protected Document filter;
 
+    protected Document sort;
+    protected Integer limit;
+    protected List<String> pipeline;
+
     @JsonCreator
     public MongoSubScanSpec(@JsonProperty("dbName") String dbName,
         @JsonProperty("collectionName") String collectionName,
         @JsonProperty("hosts") List<String> hosts,
         @JsonProperty("minFilters") Map<String, Object> minFilters,
         @JsonProperty("maxFilters") Map<String, Object> maxFilters,
-        @JsonProperty("filters") Document filters) {
+        @JsonProperty("filters") Document filters,
+        @JsonProperty("sort") Document sort,
+        @JsonProperty("limit") Integer limit,
+        @JsonProperty("pipeline") List<String> pipeline) {
       this.dbName = dbName;
       this.collectionName = collectionName;
       this.hosts = hosts;
       this.minFilters = minFilters;
       this.maxFilters = maxFilters;
       this.filter = filters;
+      this.sort = sort;
+      this.limit = limit;
+      this.pipeline = pipeline;
     }
 
     MongoSubScanSpec() {
@@ -205,11 +215,41 @@ public class MongoSubScan extends AbstractBase implements SubScan {
       return this;
     }
 
+    public Document getSort() {
+      return sort;
+    }
+
+    public MongoSubScanSpec setSort(Document sort) {
+      this.sort = sort;
+      return this;
+    }
+
+    public Integer getLimit() {
+      return limit;
+    }
+
+    public MongoSubScanSpec setLimit(Integer limit) {
+      this.limit = limit;
+      return this;
+    }
+
+    public List<String> getPipeline() {
+      return pipeline;
+    }
+
+    public MongoSubScanSpec setPipeline(List<String> pipeline) {
+      this.pipeline = pipeline;
+      return this;
+    }
+
     @Override
     public String toString() {
       return "MongoSubScanSpec [dbName=" + dbName + ", collectionName="
           + collectionName + ", hosts=" + hosts + ", minFilters=" + minFilters
-          + ", maxFilters=" + maxFilters + ", filter=" + filter + "]";
+          + ", maxFilters=" + maxFilters + ", filter=" + filter
+          + (sort == null ? "" : ", sort=" + sort)
+          + (limit == null ? "" : ", limit=" + limit)
+          + (pipeline == null ? "" : ", pipeline=" + pipeline) + "]";
     }
 
   }
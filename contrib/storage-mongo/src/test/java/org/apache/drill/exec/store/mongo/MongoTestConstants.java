@@ -65,6 +65,9 @@ public interface MongoTestConstants {
   public static final String TEST_FILTER_PUSH_DOWN_NOT_EQUAL_QUERY_TEMPLATE_1 = "SELECT `employee_id` FROM mongo.%s.`%s` where rating != 52.17";
   public static final String TEST_FILTER_PUSH_DOWN_LESS_THAN_QUERY_TEMPLATE_1 = "SELECT `full_name` FROM mongo.%s.`%s` where rating < 52.17";
   public static final String TEST_FILTER_PUSH_DOWN_GREATER_THAN_QUERY_TEMPLATE_1 = "SELECT `full_name` FROM mongo.%s.`%s` where rating > 52.17";
+  public static final String TEST_LIMIT_PUSH_DOWN_QUERY_TEMPLATE = "select `employee_id` from mongo.%s.`%s` limit 3";
+  public static final String TEST_TOPN_PUSH_DOWN_QUERY_TEMPLATE = "select `employee_id` from mongo.%s.`%s` order by `employee_id` desc nulls last limit 3";
+  public static final String TEST_AGG_PUSH_DOWN_QUERY_TEMPLATE = "select `position_id`, count(*) as cnt, max(`rating`) as best from mongo.%s.`%s` group by `position_id`";
   public static final String TEST_EMPTY_TABLE_QUERY_TEMPLATE = "select count(*) from mongo.%s.`%s`";
 
   public static final String TEST_BOOLEAN_FILTER_QUERY_TEMPLATE1 = "select `employee_id` from mongo.%s.`%s` where isFTE = true";
@@ -61,7 +61,7 @@ import de.flapdoodle.embed.process.runtime.Network;
 
 @RunWith(Suite.class)
 @SuiteClasses({ TestMongoFilterPushDown.class, TestMongoProjectPushDown.class,
-    TestMongoQueries.class, TestMongoChunkAssignment.class })
+    TestMongoPipelinePushDown.class, TestMongoQueries.class, TestMongoChunkAssignment.class })
 public class MongoTestSuit implements MongoTestConstants {
 
   private static final Logger logger = LoggerFactory
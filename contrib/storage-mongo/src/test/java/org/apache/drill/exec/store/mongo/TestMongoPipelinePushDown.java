@@ -0,0 +1,61 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.mongo;
+
+import org.junit.Test;
+
+public class TestMongoPipelinePushDown extends MongoTestBase {
+
+  @Test
+  public void testLimitPushDown() throws Exception {
+    String queryString = String.format(
+        TEST_LIMIT_PUSH_DOWN_QUERY_TEMPLATE, EMPLOYEE_DB,
+        EMPINFO_COLLECTION);
+    String expectedExpr = "\"limit\" : 3";
+    testHelper(queryString, expectedExpr, 3);
+  }
+
+  @Test
+  public void testTopNPushDown() throws Exception {
+    String queryString = String.format(
+        TEST_TOPN_PUSH_DOWN_QUERY_TEMPLATE, EMPLOYEE_DB,
+        EMPINFO_COLLECTION);
+    String expectedExpr = "\"employee_id\" : -1";
+    testHelper(queryString, expectedExpr, 3);
+  }
+
+  @Test
+  public void testAggregateWithNullGroup() throws Exception {
+    String queryString = String.format(TEST_AGG_PUSH_DOWN_QUERY_TEMPLATE, EMPLOYEE_DB, EMPINFO_COLLECTION);
+    // the aggregation runs in Mongo, as a $group stage of the pipeline of the scan
+    testPlanMatchingPatterns(queryString,
+        new String[] {"pipeline=\\[.*\\$group.*\\$max"},
+        new String[] {"HashAgg", "StreamAgg"});
+
+    // two documents have no position_id; they form a single (null) group
+    testBuilder()
+        .sqlQuery(queryString)
+        .unOrdered()
+        .sqlBaselineQuery(String.format(
+            "select `position_id`, count(*) as cnt, max(`rating`) as best from "
+            + "(select `position_id`, `rating` from mongo.%s.`%s` limit 1000) group by `position_id`",
+            EMPLOYEE_DB, EMPINFO_COLLECTION))
+        .go();
+  }
+
+}
@@ -31,6 +31,7 @@ import org.apache.drill.exec.server.options.TypeValidators.RangeLongValidator;
 import org.apache.drill.exec.server.options.TypeValidators.StringValidator;
 import org.apache.drill.exec.testing.ExecutionControls;
 import org.apache.drill.exec.util.ImpersonationUtil;
+import org.apache.drill.exec.vector.ValueVector;
 
 public interface ExecConstants {
   String ZK_RETRY_TIMES = "drill.exec.zk.retry.count";
@@ -104,9 +105,37 @@ public interface ExecConstants {
   String HASHAGG_MIN_BATCHES_PER_PARTITION = "drill.exec.hashagg.min_batches_per_partition";
   String HASHAGG_MIN_BATCHES_PER_PARTITION_KEY = "drill.exec.hashagg.min_batches_per_partition";
   LongValidator HASHAGG_MIN_BATCHES_PER_PARTITION_VALIDATOR = new RangeLongValidator(HASHAGG_MIN_BATCHES_PER_PARTITION_KEY, 2, 5, 3);
+  // From this spill cycle on, a spilled partition is sorted on the group-by keys (using the managed external sort)
+  // and aggregated in key order, instead of being re-partitioned and possibly spilled again. 0 means never.
+  String HASHAGG_SORT_FALLBACK_CYCLE = "drill.exec.hashagg.sort_fallback_cycle";
   String HASHAGG_SPILL_DIRS = "drill.exec.hashagg.spill.directories";
   String HASHAGG_SPILL_FILESYSTEM = "drill.exec.hashagg.spill.fs";
 
+  // Flatten Options
+
+  /**
+   * Maximum number of records in a single outgoing flatten batch. Large
+   * repeated values are emitted over several batches, resuming from the
+   * position reached in the incoming batch on the next call.
+   */
+  String FLATTEN_OUTPUT_BATCH_SIZE_KEY = "exec.flatten.output_batch_size";
+  LongValidator FLATTEN_OUTPUT_BATCH_SIZE_VALIDATOR = new RangeLongValidator(FLATTEN_OUTPUT_BATCH_SIZE_KEY, 1, ValueVector.MAX_ROW_COUNT - 1, 4 * 1024);
+  /**
+   * Amount of memory the flatten operator may hold for a single outgoing batch
+   * before it flushes and shrinks the record limit for later batches.
+   */
+  String FLATTEN_OUTPUT_BATCH_MEMORY_KEY = "exec.flatten.output_batch_memory";
+  LongValidator FLATTEN_OUTPUT_BATCH_MEMORY_VALIDATOR = new RangeLongValidator(FLATTEN_OUTPUT_BATCH_MEMORY_KEY, 1024 * 1024, Integer.MAX_VALUE, 64 * 1024 * 1024);
+
+  // Nested Loop Join Options
+
+  /**
+   * Whether the nested loop join builds a grid index over the geometries of its right input when its
+   * condition is a spatial function, such as ST_DWithin, of a geometry of each input.
+   */
+  String NESTED_LOOP_JOIN_SPATIAL_INDEX_KEY = "exec.nested_loop_join.spatial_index";
+  BooleanValidator NESTED_LOOP_JOIN_SPATIAL_INDEX_VALIDATOR = new BooleanValidator(NESTED_LOOP_JOIN_SPATIAL_INDEX_KEY, true);
+
   String TEXT_LINE_READER_BATCH_SIZE = "drill.exec.storage.file.text.batch.size";
   String TEXT_LINE_READER_BUFFER_SIZE = "drill.exec.storage.file.text.buffer.size";
   String HAZELCAST_SUBNETS = "drill.exec.cache.hazel.subnets";
@@ -129,6 +158,10 @@ public interface ExecConstants {
   String SYS_STORE_PROVIDER_CLASS = "drill.exec.sys.store.provider.class";
   String SYS_STORE_PROVIDER_LOCAL_PATH = "drill.exec.sys.store.provider.local.path";
   String SYS_STORE_PROVIDER_LOCAL_ENABLE_WRITE = "drill.exec.sys.store.provider.local.write";
+  String SYS_STORE_PROVIDER_LOCAL_LOG_ENABLED = "drill.exec.sys.store.provider.local.log.enabled";
+  String SYS_STORE_PROVIDER_LOCAL_LOG_SEGMENT_SIZE = "drill.exec.sys.store.provider.local.log.segment_size";
+  String SYS_STORE_PROVIDER_LOCAL_LOG_COMPACTION_THRESHOLD = "drill.exec.sys.store.provider.local.log.compaction_threshold";
+  String SYS_STORE_PROVIDER_LOCAL_LOG_SYNC = "drill.exec.sys.store.provider.local.log.sync";
   String PROFILES_STORE_INMEMORY = "drill.exec.profiles.store.inmemory";
   String PROFILES_STORE_CAPACITY = "drill.exec.profiles.store.capacity";
   String IMPERSONATION_ENABLED = "drill.exec.impersonation.enabled";
@@ -251,6 +284,19 @@ public interface ExecConstants {
   DoubleValidator TEXT_ESTIMATED_ROW_SIZE = new RangeDoubleValidator(
       "store.text.estimated_row_size_bytes", 1, Long.MAX_VALUE, 100.0);
 
+  // Read ahead JSON, text and Avro files on the scan executor while the reader parses the previous buffers
+  String EASY_READER_ASYNC_READ_AHEAD = "store.easy.reader.async_read_ahead";
+  BooleanValidator EASY_READER_ASYNC_READ_AHEAD_VALIDATOR = new BooleanValidator(EASY_READER_ASYNC_READ_AHEAD, false);
+
+  // Size in bytes of each buffer the asynchronous read-ahead fills. Default is 1 MiB
+  String EASY_READER_READ_AHEAD_BUFFER_SIZE = "store.easy.reader.read_ahead.buffersize";
+  LongValidator EASY_READER_READ_AHEAD_BUFFER_SIZE_VALIDATOR = new RangeLongValidator(EASY_READER_READ_AHEAD_BUFFER_SIZE,
+      4 * 1024, Integer.MAX_VALUE, 1024 * 1024);
+
+  // Number of filled buffers the asynchronous read-ahead will keep before blocking
+  String EASY_READER_READ_AHEAD_QUEUE_SIZE = "store.easy.reader.read_ahead.queuesize";
+  LongValidator EASY_READER_READ_AHEAD_QUEUE_SIZE_VALIDATOR = new PositiveLongValidator(EASY_READER_READ_AHEAD_QUEUE_SIZE, 64, 2);
+
   /**
    * The column label (for directory levels) in results when querying files in a directory
    * E.g.  labels: dir0   dir1
@@ -282,6 +328,12 @@ public interface ExecConstants {
   OptionValidator MONGO_READER_READ_NUMBERS_AS_DOUBLE_VALIDATOR = new BooleanValidator(MONGO_READER_READ_NUMBERS_AS_DOUBLE, false);
   String MONGO_BSON_RECORD_READER = "store.mongo.bson.record.reader";
   OptionValidator MONGO_BSON_RECORD_READER_VALIDATOR = new BooleanValidator(MONGO_BSON_RECORD_READER, true);
+  /**
+   * Number of documents the Mongo reader asks for per round trip (cursor batch size). The default
+   * of 0 asks for as many documents as the reader puts in a record batch.
+   */
+  String MONGO_READER_BATCH_SIZE = "store.mongo.reader.batch_size";
+  OptionValidator MONGO_READER_BATCH_SIZE_VALIDATOR = new RangeLongValidator(MONGO_READER_BATCH_SIZE, 0, Integer.MAX_VALUE, 0);
 
   BooleanValidator ENABLE_UNION_TYPE = new BooleanValidator("exec.enable_union_type", false);
 
@@ -379,6 +431,16 @@ public interface ExecConstants {
   LongValidator QUEUE_TIMEOUT = new PositiveLongValidator("exec.queue.timeout_millis",
       Long.MAX_VALUE, 60 * 1000 * 5);
 
+  /**
+   * Whether queries with a plan without exchanges and an estimated cost of at most
+   * {@link #LOCAL_SHORT_QUERY_MAX_COST} run as a single fragment of the Foreman, without serializing
+   * the fragment nor reporting its status over the control RPC, and with their profile written in the
+   * background.
+   */
+  BooleanValidator LOCAL_SHORT_QUERY_ENABLED = new BooleanValidator("exec.local_short_query.enabled", false);
+  LongValidator LOCAL_SHORT_QUERY_MAX_COST = new PositiveLongValidator("exec.local_short_query.max_cost",
+      Long.MAX_VALUE, 100000);
+
   String ENABLE_VERBOSE_ERRORS_KEY = "exec.errors.verbose";
   OptionValidator ENABLE_VERBOSE_ERRORS = new BooleanValidator(ENABLE_VERBOSE_ERRORS_KEY, false);
 
@@ -459,6 +521,73 @@ public interface ExecConstants {
   OptionValidator CREATE_PREPARE_STATEMENT_TIMEOUT_MILLIS_VALIDATOR =
       new PositiveLongValidator(CREATE_PREPARE_STATEMENT_TIMEOUT_MILLIS, Integer.MAX_VALUE, 10000);
 
+  /**
+   * Whether the executions of a prepared statement reuse the physical plan of its earlier executions
+   * rather than planning the statement again. A cached plan is used for at most
+   * {@link #PREPARED_STATEMENT_PLAN_CACHE_TTL_SECS} seconds; plans are also dropped when options, tables,
+   * views, functions or storage plugins change through this Drillbit.
+   */
+  String PREPARED_STATEMENT_PLAN_CACHE_ENABLED = "prepare.statement.plan_cache.enabled";
+  BooleanValidator PREPARED_STATEMENT_PLAN_CACHE_ENABLED_VALIDATOR =
+      new BooleanValidator(PREPARED_STATEMENT_PLAN_CACHE_ENABLED, true);
+  String PREPARED_STATEMENT_PLAN_CACHE_TTL_SECS = "prepare.statement.plan_cache.ttl_secs";
+  OptionValidator PREPARED_STATEMENT_PLAN_CACHE_TTL_SECS_VALIDATOR =
+      new PositiveLongValidator(PREPARED_STATEMENT_PLAN_CACHE_TTL_SECS, Integer.MAX_VALUE, 300);
+
+  /**
+   * Whether queries reuse the physical plan of an earlier query with the same SQL text, default schema,
+   * user and options rather than planning the query again. Only queries whose plan does not depend on
+   * the time it was made at are cached. A cached plan is used for at most {@link #PLAN_CACHE_TTL_SECS}
+   * seconds; plans are also dropped when tables, views, functions or storage plugins change through
+   * this Drillbit, so the option is best suited to tables that do not change outside of Drill.
+   */
+  String PLAN_CACHE_ENABLED = "planner.plan_cache.enabled";
+  BooleanValidator PLAN_CACHE_ENABLED_VALIDATOR = new BooleanValidator(PLAN_CACHE_ENABLED, false);
+  String PLAN_CACHE_TTL_SECS = "planner.plan_cache.ttl_secs";
+  OptionValidator PLAN_CACHE_TTL_SECS_VALIDATOR =
+      new PositiveLongValidator(PLAN_CACHE_TTL_SECS, Integer.MAX_VALUE, 300);
+
+  /**
+   * Boot-time config option: number of query and prepared statement plans cached by a Drillbit.
+   */
+  String PLAN_CACHE_SIZE = "drill.exec.plan_cache.size";
+
+  /**
+   * Whether query results are compressed for the clients that ask for it with the
+   * <code>result_compression</code> connection property. The system value decides whether the
+   * compression is agreed on in the user handshake; the session value whether the batches of a
+   * query are then compressed.
+   */
+  String RESULT_COMPRESSION_ENABLED = "exec.results.compression.enabled";
+  BooleanValidator RESULT_COMPRESSION_ENABLED_VALIDATOR = new BooleanValidator(RESULT_COMPRESSION_ENABLED, true);
+
+  /**
+   * Number of batches of query results the root fragment of a query sends ahead of the
+   * acknowledgments of the client.
+   */
+  String RESULT_BATCHES_IN_FLIGHT = "exec.results.max_batches_in_flight";
+  PositiveLongValidator RESULT_BATCHES_IN_FLIGHT_VALIDATOR = new PositiveLongValidator(RESULT_BATCHES_IN_FLIGHT, 1024, 16);
+
+  /**
+   * Number of seconds the directory listings of file system workspaces are cached by a Drillbit, 0 to
+   * list directories on every query. Listings are also dropped when files change through the workspace,
+   * or when tables or views change through this Drillbit.
+   */
+  String FILE_LISTING_CACHE_TTL_SECS = "store.file.listing_cache.ttl_secs";
+  LongValidator FILE_LISTING_CACHE_TTL_SECS_VALIDATOR =
+      new RangeLongValidator(FILE_LISTING_CACHE_TTL_SECS, 0, Integer.MAX_VALUE, 0);
+
+  /**
+   * Boot-time config option: number of directory listings cached by a Drillbit.
+   */
+  String FILE_LISTING_CACHE_SIZE = "drill.exec.file_listing_cache.size";
+
+  /**
+   * Boot-time config option: number of directories listed at the same time when planning a query
+   * lists the directories under a table.
+   */
+  String FILE_LISTING_PARALLELISM = "drill.exec.file_listing_cache.parallelism";
+
   String DYNAMIC_UDF_SUPPORT_ENABLED = "exec.udf.enable_dynamic_support";
   BooleanValidator DYNAMIC_UDF_SUPPORT_ENABLED_VALIDATOR = new BooleanValidator(DYNAMIC_UDF_SUPPORT_ENABLED, true, true);
 
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.client;
+
+import io.netty.buffer.DrillBuf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.drill.exec.record.BatchSchema;
+import org.apache.drill.exec.record.VectorAccessible;
+import org.apache.drill.exec.record.VectorWrapper;
+import org.apache.drill.exec.vector.BaseDataValueVector;
+import org.apache.drill.exec.vector.FixedWidthVector;
+import org.apache.drill.exec.vector.NullableVector;
+import org.apache.drill.exec.vector.ValueVector;
+
+/**
+ * Column-wise view of one batch of query results, for clients that consume results a batch at a
+ * time rather than a row at a time.
+ * <p>
+ * Columns are exposed as the value vectors the batch was loaded into: their accessors read values
+ * without any conversion (for instance <code>getVector(0, NullableBigIntVector.class).getAccessor().get(i)</code>),
+ * and the buffers of fixed-width columns can be read in place, see {@link #getValuesBuffer(int)}.
+ * <p>
+ * A batch is only valid until the loader it views loads the next batch or is cleared; callers that
+ * keep buffers beyond that must retain them.
+ */
+public class ColumnarBatch {
+
+  private final VectorAccessible batch;
+  private final List<ValueVector> vectors;
+
+  /**
+   * @param batch the loaded batch, typically a {@link org.apache.drill.exec.record.RecordBatchLoader}
+   *              into which a {@link org.apache.drill.exec.rpc.user.QueryDataBatch} was loaded
+   */
+  public ColumnarBatch(VectorAccessible batch) {
+    this.batch = batch;
+    final List<ValueVector> vectors = new ArrayList<>();
+    for (VectorWrapper<?> wrapper : batch) {
+      vectors.add(wrapper.getValueVector());
+    }
+    this.vectors = Collections.unmodifiableList(vectors);
+  }
+
+  public BatchSchema getSchema() {
+    return batch.getSchema();
+  }
+
+  public int getRecordCount() {
+    return batch.getRecordCount();
+  }
+
+  public int getColumnCount() {
+    return vectors.size();
+  }
+
+  /**
+   * @return the vectors of the columns, in the order of the schema
+   */
+  public List<ValueVector> getVectors() {
+    return vectors;
+  }
+
+  /**
+   * @param columnIndex 0-based index of the column
+   */
+  public ValueVector getVector(int columnIndex) {
+    return vectors.get(columnIndex);
+  }
+
+  /**
+   * @param columnIndex 0-based index of the column
+   * @param vectorClass the class of the vector, which follows from the type of the column
+   *                    (e.g. <code>NullableIntVector</code> for an optional INT column)
+   * @throws ClassCastException if the vector is not of the given class
+   */
+  public <T extends ValueVector> T getVector(int columnIndex, Class<T> vectorClass) {
+    return vectorClass.cast(vectors.get(columnIndex));
+  }
+
+  /**
+   * @return the 0-based index of the column of the given name (case insensitive), or -1 if there is none
+   */
+  public int findColumn(String name) {
+    for (int i = 0; i < vectors.size(); i++) {
+      if (vectors.get(i).getField().getName().equalsIgnoreCase(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Gives access to the values of a fixed-width column without copying them. The values are laid out
+   * contiguously in little-endian order, <code>getRecordCount()</code> of them (one bit each for BIT
+   * columns); the values of null entries of optional columns are undefined (see
+   * {@link #getValidityBuffer(int)}).
+   *
+   * @param columnIndex 0-based index of the column
+   * @throws IllegalArgumentException if the column is not of a fixed-width type
+   */
+  public DrillBuf getValuesBuffer(int columnIndex) {
+    ValueVector vector = vectors.get(columnIndex);
+    if (vector instanceof NullableVector) {
+      vector = ((NullableVector) vector).getValuesVector();
+    }
+    if (!(vector instanceof FixedWidthVector) || !(vector instanceof BaseDataValueVector)) {
+      throw new IllegalArgumentException(String.format("Column %d (%s) is not of a fixed-width type.",
+          columnIndex, vectors.get(columnIndex).getField().getName()));
+    }
+    return ((BaseDataValueVector) vector).getBuffer();
+  }
+
+  /**
+   * Gives access to the null flags of an optional column without copying them: one byte per value,
+   * 1 if the value is set and 0 if it is null.
+   *
+   * @param columnIndex 0-based index of the column
+   * @return the buffer of the flags, or null if the column is not optional (no value is null)
+   */
+  public DrillBuf getValidityBuffer(int columnIndex) {
+    final ValueVector vector = vectors.get(columnIndex);
+    if (!(vector instanceof NullableVector)) {
+      return null;
+    }
+    return ((NullableVector) vector).getBitsVector().getBuffer();
+  }
+}
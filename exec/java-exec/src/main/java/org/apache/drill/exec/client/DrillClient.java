@@ -70,6 +70,7 @@ import org.apache.drill.exec.proto.UserProtos.GetTablesReq;
 import org.apache.drill.exec.proto.UserProtos.GetTablesResp;
 import org.apache.drill.exec.proto.UserProtos.LikeFilter;
 import org.apache.drill.exec.proto.UserProtos.PreparedStatementHandle;
+import org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter;
 import org.apache.drill.exec.proto.UserProtos.QueryPlanFragments;
 import org.apache.drill.exec.proto.UserProtos.RpcEndpointInfos;
 import org.apache.drill.exec.proto.UserProtos.RpcType;
@@ -761,6 +762,51 @@ public class DrillClient implements Closeable, ConnectionThrottle {
     client.submitQuery(resultsListener, runQuery);
   }
 
+  /**
+   * Execute the given prepared statement with the given values of its parameters ('?').
+   *
+   * @param preparedStatementHandle Prepared statement handle returned in response to
+   *                                {@link #createPreparedStatement(String)}.
+   * @param parameters Values of the parameters, in order. Values of types other than boolean, numbers and
+   *                   strings are given as strings, in the text form accepted by casts from VARCHAR
+   *                   (e.g. "2017-01-31" for a DATE parameter); a parameter with no value set is SQL NULL.
+   * @param resultsListener {@link UserResultsListener} instance for listening for query results.
+   */
+  public void executePreparedStatement(final PreparedStatementHandle preparedStatementHandle,
+      final List<PreparedStatementParameter> parameters, final UserResultsListener resultsListener) {
+    client.submitQuery(resultsListener, newPreparedStatementQuery(preparedStatementHandle, parameters));
+  }
+
+  /**
+   * Execute the given prepared statement with the given values of its parameters, and return the results.
+   *
+   * @param preparedStatementHandle Prepared statement handle returned in response to
+   *                                {@link #createPreparedStatement(String)}.
+   * @param parameters Values of the parameters, see {@link #executePreparedStatement(PreparedStatementHandle,
+   *                   List, UserResultsListener)}.
+   * @return List of {@link QueryDataBatch}s. It is responsibility of the caller to release query data batches.
+   * @throws RpcException
+   */
+  public List<QueryDataBatch> executePreparedStatement(final PreparedStatementHandle preparedStatementHandle,
+      final List<PreparedStatementParameter> parameters) throws RpcException {
+    final RunQuery runQuery = newPreparedStatementQuery(preparedStatementHandle, parameters);
+    final ListHoldingResultsListener resultsListener = new ListHoldingResultsListener(runQuery);
+
+    client.submitQuery(resultsListener, runQuery);
+
+    return resultsListener.getResults();
+  }
+
+  private static RunQuery newPreparedStatementQuery(final PreparedStatementHandle preparedStatementHandle,
+      final List<PreparedStatementParameter> parameters) {
+    return newBuilder()
+        .setResultsMode(STREAM_FULL)
+        .setType(QueryType.PREPARED_STATEMENT)
+        .setPreparedStatementHandle(preparedStatementHandle)
+        .addAllParameters(parameters)
+        .build();
+  }
+
   /**
    * Execute the given prepared statement and return the results.
    *
@@ -17,28 +17,78 @@
  */
 package org.apache.drill.exec.ops;
 
+import io.netty.buffer.ByteBuf;
+
+import java.util.concurrent.Semaphore;
+
 import org.apache.drill.exec.physical.impl.materialize.QueryWritableBatch;
 import org.apache.drill.exec.proto.GeneralRPCProtos.Ack;
+import org.apache.drill.exec.rpc.RpcException;
 import org.apache.drill.exec.rpc.RpcOutcomeListener;
 import org.apache.drill.exec.rpc.UserClientConnection;
 
 /**
  * Wrapper around a {@link UserClientConnection} that tracks the status of batches
- * sent to User.
+ * sent to User, and bounds the number of batches sent ahead of the acknowledgments of
+ * the client: the client returns a credit with each acknowledgment.
  */
 public class AccountingUserConnection {
   private final UserClientConnection connection;
   private final SendingAccountor sendingAccountor;
   private final RpcOutcomeListener<Ack> statusHandler;
+  private final Semaphore sendingSemaphore;
 
-  public AccountingUserConnection(UserClientConnection connection, SendingAccountor sendingAccountor, RpcOutcomeListener<Ack> statusHandler) {
+  public AccountingUserConnection(UserClientConnection connection, SendingAccountor sendingAccountor,
+      RpcOutcomeListener<Ack> statusHandler, int maxBatchesInFlight) {
     this.connection = connection;
     this.sendingAccountor = sendingAccountor;
     this.statusHandler = statusHandler;
+    this.sendingSemaphore = new Semaphore(maxBatchesInFlight);
   }
 
   public void sendData(QueryWritableBatch batch) {
     sendingAccountor.increment();
-    connection.sendData(statusHandler, batch);
+    try {
+      sendingSemaphore.acquire();
+    } catch (final InterruptedException e) {
+      // Release the buffers first before informing the listener about the interrupt.
+      for (ByteBuf buffer : batch.getBuffers()) {
+        buffer.release();
+      }
+
+      statusHandler.interrupted(e);
+
+      // Preserve evidence that the interruption occurred so that code higher up on the call stack can learn of the
+      // interruption and respond to it if it wants to.
+      Thread.currentThread().interrupt();
+      return;
+    }
+    connection.sendData(new ThrottlingOutcomeListener(statusHandler), batch);
+  }
+
+  private class ThrottlingOutcomeListener implements RpcOutcomeListener<Ack> {
+    private final RpcOutcomeListener<Ack> inner;
+
+    public ThrottlingOutcomeListener(RpcOutcomeListener<Ack> inner) {
+      this.inner = inner;
+    }
+
+    @Override
+    public void failed(RpcException ex) {
+      sendingSemaphore.release();
+      inner.failed(ex);
+    }
+
+    @Override
+    public void success(Ack value, ByteBuf buffer) {
+      sendingSemaphore.release();
+      inner.success(value, buffer);
+    }
+
+    @Override
+    public void interrupted(InterruptedException e) {
+      sendingSemaphore.release();
+      inner.interrupted(e);
+    }
   }
 }
@@ -139,7 +139,6 @@ public class FragmentContext implements AutoCloseable, UdfUtilities, FragmentExe
     this.context = dbContext;
     this.queryContext = queryContext;
     this.connection = connection;
-    this.accountingUserConnection = new AccountingUserConnection(connection, sendingAccountor, statusHandler);
     this.fragment = fragment;
     this.funcRegistry = funcRegistry;
     contextInformation = new ContextInformation(fragment.getCredentials(), fragment.getContext());
@@ -149,10 +148,11 @@ public class FragmentContext implements AutoCloseable, UdfUtilities, FragmentExe
 
     final OptionList list;
     if (!fragment.hasOptionsJson() || fragment.getOptionsJson().isEmpty()) {
-      list = new OptionList();
+      // fragments run locally by the Foreman are not serialized, they take the options of their query
+      list = queryContext != null ? queryContext.getOptions().getOptionList() : new OptionList();
     } else {
       try {
-        list = dbContext.getLpPersistence().getMapper().readValue(fragment.getOptionsJson(), OptionList.class);
+        list = dbContext.getPlanReader().readFragmentOptions(fragment.getOptionsJson());
       } catch (final Exception e) {
         throw new ExecutionSetupException("Failure while reading plan options.", e);
       }
@@ -160,6 +160,8 @@ public class FragmentContext implements AutoCloseable, UdfUtilities, FragmentExe
     fragmentOptions = new FragmentOptionManager(context.getOptionManager(), list);
 
     executionControls = new ExecutionControls(fragmentOptions, dbContext.getEndpoint());
+    accountingUserConnection = new AccountingUserConnection(connection, sendingAccountor, statusHandler,
+        (int) fragmentOptions.getOption(ExecConstants.RESULT_BATCHES_IN_FLIGHT_VALIDATOR));
 
     // Add the fragment context to the root allocator.
     // The QueryManager will call the root allocator to recalculate all the memory limits for all the fragments
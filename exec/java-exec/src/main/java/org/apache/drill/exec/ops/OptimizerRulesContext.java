@@ -17,6 +17,7 @@
  */
 package org.apache.drill.exec.ops;
 
+import org.apache.drill.exec.compile.CodeCompiler;
 import org.apache.drill.exec.expr.fn.FunctionImplementationRegistry;
 import org.apache.drill.exec.memory.BufferAllocator;
 import org.apache.drill.exec.planner.physical.PlannerSettings;
@@ -39,4 +40,16 @@ public interface OptimizerRulesContext extends UdfUtilities {
    * @return PlannerSettings
    */
   public PlannerSettings getPlannerSettings();
+
+  /**
+   * Method returns the compiler of generated code, for rules that evaluate expressions
+   * @return CodeCompiler
+   */
+  public CodeCompiler getCompiler();
+
+  /**
+   * Method returns the planning times of the query, reported in its profile
+   * @return PlanningStats
+   */
+  public PlanningStats getPlanningStats();
 }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.ops;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile;
+import org.apache.drill.exec.proto.UserBitShared.QueryProfile;
+
+/**
+ * Time spent by the planner of a query in the phases that are reported in the query profile,
+ * such as the evaluation of partition filters. A phase may run several times during planning,
+ * its times are added up.
+ */
+public class PlanningStats {
+
+  private final Map<String, Phase> phases = new LinkedHashMap<>();
+
+  /**
+   * Adds a run of the given phase.
+   *
+   * @param phase name of the phase
+   * @param nanos time spent in this run of the phase
+   */
+  public synchronized void addTime(String phase, long nanos) {
+    Phase stats = phases.get(phase);
+    if (stats == null) {
+      stats = new Phase();
+      phases.put(phase, stats);
+    }
+    stats.count++;
+    stats.nanos += nanos;
+  }
+
+  /**
+   * Adds the phases, in the order they first ran, to the given query profile.
+   */
+  public synchronized void addPlanningPhases(QueryProfile.Builder builder) {
+    for (Map.Entry<String, Phase> phase : phases.entrySet()) {
+      builder.addPlanningPhaseProfile(PlanningPhaseProfile.newBuilder()
+          .setName(phase.getKey())
+          .setCount(phase.getValue().count)
+          .setTimeNanos(phase.getValue().nanos));
+    }
+  }
+
+  private static class Phase {
+    private int count;
+    private long nanos;
+  }
+}
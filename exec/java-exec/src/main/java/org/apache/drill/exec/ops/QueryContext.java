@@ -27,6 +27,7 @@ import org.apache.drill.common.config.DrillConfig;
 import org.apache.drill.common.config.LogicalPlanPersistence;
 import org.apache.drill.common.types.TypeProtos.MinorType;
 import org.apache.drill.exec.ExecConstants;
+import org.apache.drill.exec.compile.CodeCompiler;
 import org.apache.drill.exec.expr.fn.FunctionImplementationRegistry;
 import org.apache.drill.exec.expr.fn.registry.RemoteFunctionRegistry;
 import org.apache.drill.exec.expr.holders.ValueHolder;
@@ -49,8 +50,10 @@ import org.apache.drill.exec.store.SchemaConfig;
 import org.apache.drill.exec.store.SchemaConfig.SchemaConfigInfoProvider;
 import org.apache.drill.exec.store.SchemaTreeProvider;
 import org.apache.drill.exec.store.StoragePluginRegistry;
+import org.apache.drill.exec.store.dfs.FileListingCache;
 import org.apache.drill.exec.testing.ExecutionControls;
 import org.apache.drill.exec.util.Utilities;
+import org.apache.drill.exec.work.foreman.PlanCache;
 
 import com.google.common.base.Function;
 import com.google.common.collect.Lists;
@@ -77,6 +80,7 @@ public class QueryContext implements AutoCloseable, OptimizerRulesContext, Schem
   private final SchemaTreeProvider schemaTreeProvider;
   /** Stores constants and their holders by type */
   private final Map<String, Map<MinorType, ValueHolder>> constantValueHolderCache;
+  private final PlanningStats planningStats = new PlanningStats();
 
   /*
    * Flag to indicate if close has been called, after calling close the first
@@ -214,6 +218,16 @@ public class QueryContext implements AutoCloseable, OptimizerRulesContext, Schem
     return drillbitContext.getProfileStoreContext();
   }
 
+  @Override
+  public CodeCompiler getCompiler() {
+    return drillbitContext.getCompiler();
+  }
+
+  @Override
+  public PlanningStats getPlanningStats() {
+    return planningStats;
+  }
+
   @Override
   public FunctionImplementationRegistry getFunctionRegistry() {
     return drillbitContext.getFunctionImplementationRegistry();
@@ -258,6 +272,14 @@ public class QueryContext implements AutoCloseable, OptimizerRulesContext, Schem
     return drillbitContext.getRemoteFunctionRegistry();
   }
 
+  public PlanCache getPlanCache() {
+    return drillbitContext.getPlanCache();
+  }
+
+  public FileListingCache getFileListingCache() {
+    return drillbitContext.getFileListingCache();
+  }
+
   @Override
   public ContextInformation getContextInformation() {
     return contextInformation;
@@ -66,6 +66,7 @@ import org.apache.drill.exec.record.MaterializedField;
 
 import org.apache.drill.exec.record.RecordBatch;
 import org.apache.drill.exec.record.BatchSchema;
+import org.apache.drill.exec.record.CloseableRecordBatch;
 
 import org.apache.drill.exec.record.VectorContainer;
 
@@ -123,6 +124,7 @@ public abstract class HashAggTemplate implements HashAggregator {
 
   private int underlyingIndex = 0;
   private int currentIndex = 0;
+  private boolean useVectorIndex; // incoming carries a selection vector (spilled batches never do)
   private IterOutcome outcome;
   private int numGroupedRecords = 0;
   private int currentBatchRecordCount = 0; // Performance: Avoid repeated calls to getRecordCount()
@@ -143,12 +145,15 @@ public abstract class HashAggTemplate implements HashAggregator {
 
   // For handling spilling
   private SpillSet spillSet;
-  SpilledRecordbatch newIncoming; // when reading a spilled file - work like an "incoming"
+  CloseableRecordBatch newIncoming; // when reading a spilled file - work like an "incoming"
   private OutputStream outputStream[]; // an output stream for each spilled partition
   private int spilledBatchesCount[]; // count number of batches spilled, in each partition
   private String spillFiles[];
   private int cycleNum = 0; // primary, secondary, tertiary, etc.
   private int originalPartition = -1; // the partition a secondary reads from
+  private long sortFallbackCycle; // from this cycle on, spilled partitions are sorted instead of re-spilled (0 - never)
+  private boolean sortedInput = false; // the current spilled partition is read back sorted on the group-by keys
+  private HashAggregate hashAggrConfig; // needed to build the sort for the sorted fallback
 
   private static class SpilledPartition { public int spilledBatches; public String spillFile; int cycleNum; int origPartn; int prevOrigPartn; }
 
@@ -181,7 +186,8 @@ public abstract class HashAggTemplate implements HashAggregator {
                       // then later re-read. So, disk I/O is twice this amount.
                       // For first phase aggr -- this is an estimate of the amount of data
                       // returned early (analogous to a spill in the 2nd phase).
-    SPILL_CYCLE       // 0 - no spill, 1 - spill, 2 - SECONDARY, 3 - TERTIARY
+    SPILL_CYCLE,      // 0 - no spill, 1 - spill, 2 - SECONDARY, 3 - TERTIARY
+    SORTED_PARTITIONS // number of spilled partitions aggregated in sorted order (instead of being re-spilled)
     ;
 
     // duplicate for hash ag
@@ -317,6 +323,7 @@ public abstract class HashAggTemplate implements HashAggregator {
     this.outgoing = outgoing;
     this.outContainer = outContainer;
     this.operatorId = hashAggrConfig.getOperatorId();
+    this.hashAggrConfig = hashAggrConfig;
 
     is2ndPhase = hashAggrConfig.getAggPhase() == AggPrelBase.OperatorPhase.PHASE_2of2;
     isTwoPhase = hashAggrConfig.getAggPhase() != AggPrelBase.OperatorPhase.PHASE_1of1;
@@ -325,6 +332,9 @@ public abstract class HashAggTemplate implements HashAggregator {
     // Typically for testing - force a spill after a partition has more than so many batches
     minBatchesPerPartition = context.getConfig().getLong(ExecConstants.HASHAGG_MIN_BATCHES_PER_PARTITION);
 
+    // Fall back to sorting the spilled partitions once this spill cycle is reached (0 - disabled)
+    sortFallbackCycle = context.getConfig().getLong(ExecConstants.HASHAGG_SORT_FALLBACK_CYCLE);
+
     // Set the memory limit
     memoryLimit = allocator.getLimit();
     // Optional configured memory limit, typically used only for testing.
@@ -370,6 +380,7 @@ public abstract class HashAggTemplate implements HashAggregator {
     this.groupByOutFieldIds = groupByOutFieldIds; // retain these for delayedSetup, and to allow recreating hash tables (after a spill)
     numGroupByOutFields = groupByOutFieldIds.length;
 
+    useVectorIndex = incoming.getSchema().getSelectionVectorMode() != BatchSchema.SelectionVectorMode.NONE;
     doSetup(incoming);
   }
 
@@ -462,6 +473,7 @@ public abstract class HashAggTemplate implements HashAggregator {
   private void initializeSetup(RecordBatch newIncoming) throws SchemaChangeException, IOException {
     baseHashTable.updateIncoming(newIncoming); // after a spill - a new incoming
     this.incoming = newIncoming;
+    useVectorIndex = false; // the generated getVectorIndex() still refers to the original incoming's selection vector
     currentBatchRecordCount = newIncoming.getRecordCount(); // first batch in this spill file
     nextPartitionToReturn = 0;
     for (int i = 0; i < numPartitions; i++ ) {
@@ -733,6 +745,10 @@ public abstract class HashAggTemplate implements HashAggregator {
       currentIndex = Integer.MAX_VALUE;
       return;
     }
+    if ( ! useVectorIndex ) {
+      currentIndex = underlyingIndex;
+      return;
+    }
     try { currentIndex = getVectorIndex(underlyingIndex); }
     catch (SchemaChangeException sc) { throw new UnsupportedOperationException(sc);}
   }
@@ -799,6 +815,25 @@ public abstract class HashAggTemplate implements HashAggregator {
     return indexMax;
   }
 
+  /**
+   * When the input is sorted on the group-by keys, choose a partition to return (instead of spill)
+   * - The largest partition, other than the current one (which holds the current, possibly incomplete group)
+   *
+   * @param currPart - The partition that holds the current key (can not be returned)
+   * @return The partition (number) chosen to be returned, or -1 if none
+   */
+  private int chooseAPartitionToReturn(int currPart) {
+    int maxSize = 0;
+    int indexMax = -1;
+    for ( int insp = 0; insp < numPartitions; insp++) {
+      if ( insp != currPart && maxSize < batchHolders[insp].size() ) {
+        indexMax = insp;
+        maxSize = batchHolders[insp].size();
+      }
+    }
+    return indexMax;
+  }
+
   /**
    * Iterate through the batches of the given partition, writing them to a file
    *
@@ -977,7 +1012,18 @@ public abstract class HashAggTemplate implements HashAggregator {
         // pick a spilled partition; set a new incoming ...
         SpilledPartition sp = spilledPartitionsList.remove(0);
         // Create a new "incoming" out of the spilled partition spill file
-        newIncoming = new SpilledRecordbatch(sp.spillFile, sp.spilledBatches, context, schema, oContext, spillSet);
+        SpilledRecordbatch spilledBatch = new SpilledRecordbatch(sp.spillFile, sp.spilledBatches, context, schema, oContext, spillSet);
+        // After too many spill cycles, sort the partition on the keys instead of (possibly) spilling it yet again.
+        // (A single batch partition can always be aggregated in memory, so no need to sort it.)
+        sortedInput = sortFallbackCycle > 0 && sp.cycleNum + 1 >= sortFallbackCycle && sp.spilledBatches > 1;
+        if ( sortedInput ) {
+          logger.debug("Sorting spilled partition {} from cycle {} (with {} batches) on the group-by keys",
+              sp.origPartn, sp.cycleNum, sp.spilledBatches);
+          newIncoming = new SortedSpilledRecordbatch(spilledBatch, hashAggrConfig, context, oContext, memoryLimit / 2);
+          stats.addLongStat(Metric.SORTED_PARTITIONS, 1);
+        } else {
+          newIncoming = spilledBatch;
+        }
         originalPartition = sp.origPartn; // used for the filename
         logger.trace("Reading back spilled original partition {} as an incoming",originalPartition);
         // Initialize .... new incoming, new set of partitions
@@ -1253,13 +1299,24 @@ public abstract class HashAggTemplate implements HashAggregator {
       if ( allocator.getAllocatedMemory() + maxMemoryNeeded > memoryLimit ) {
 
         // Pick a "victim" partition to spill or return
-        int victimPartition = chooseAPartitionToFlush(currentPartition);
+        // (with sorted input, the current partition may hold an incomplete group, so return another one)
+        int victimPartition = sortedInput ? chooseAPartitionToReturn(currentPartition) : chooseAPartitionToFlush(currentPartition);
 
         // In case no partition has more than one batch -- try and "push the limits"; maybe next
         // time the spill could work.
         if ( victimPartition < 0 ) { return; }
 
-        if ( is2ndPhase ) {
+        if ( is2ndPhase && sortedInput ) {
+          // The input is sorted on the keys, so only the current partition may hold an incomplete group
+          // (the current key); the groups in any other partition are final and can be returned right away.
+          earlyOutput = true;
+          earlyPartition = victimPartition;
+
+          if ( EXTRA_DEBUG_SPILL ) {
+            logger.debug("picked partition {} for early output of sorted input", victimPartition);
+          }
+        }
+        else if ( is2ndPhase ) {
           long before = allocator.getAllocatedMemory();
 
           spillAPartition(victimPartition);
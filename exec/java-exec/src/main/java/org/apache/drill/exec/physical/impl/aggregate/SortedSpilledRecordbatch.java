@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.physical.impl.aggregate;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.calcite.rel.RelFieldCollation.Direction;
+import org.apache.drill.common.expression.SchemaPath;
+import org.apache.drill.common.logical.data.NamedExpression;
+import org.apache.drill.common.logical.data.Order.Ordering;
+import org.apache.drill.exec.memory.BufferAllocator;
+import org.apache.drill.exec.ops.FragmentContext;
+import org.apache.drill.exec.ops.MetricDef;
+import org.apache.drill.exec.ops.OperExecContext;
+import org.apache.drill.exec.ops.OperExecContextImpl;
+import org.apache.drill.exec.ops.OperatorContext;
+import org.apache.drill.exec.ops.OperatorStatReceiver;
+import org.apache.drill.exec.physical.config.ExternalSort;
+import org.apache.drill.exec.physical.config.HashAggregate;
+import org.apache.drill.exec.physical.impl.spill.SpillSet;
+import org.apache.drill.exec.physical.impl.xsort.managed.PriorityQueueCopierWrapper;
+import org.apache.drill.exec.physical.impl.xsort.managed.SortConfig;
+import org.apache.drill.exec.physical.impl.xsort.managed.SortImpl;
+import org.apache.drill.exec.physical.impl.xsort.managed.SortImpl.SortResults;
+import org.apache.drill.exec.physical.impl.xsort.managed.SpilledRuns;
+import org.apache.drill.exec.record.BatchSchema;
+import org.apache.drill.exec.record.CloseableRecordBatch;
+import org.apache.drill.exec.record.TypedFieldId;
+import org.apache.drill.exec.record.VectorContainer;
+import org.apache.drill.exec.record.VectorWrapper;
+import org.apache.drill.exec.record.WritableBatch;
+import org.apache.drill.exec.record.selection.SelectionVector2;
+import org.apache.drill.exec.record.selection.SelectionVector4;
+import org.apache.drill.exec.testing.ControlsInjector;
+import org.apache.drill.exec.testing.ControlsInjectorFactory;
+
+import com.google.common.collect.Lists;
+
+/**
+ * A class to replace "incoming" when a spilled partition is re-read after the
+ * spill cycle threshold was reached. All the batches of the spilled partition
+ * are first sorted on the group-by keys (using the managed external sort's
+ * {@link SortImpl}, which spills and merges within its own memory budget), and
+ * the merged, sorted batches are then returned one at a time.
+ * <p>
+ * Since every group arrives contiguously, the Hash Aggregate can return any
+ * partition other than the one holding the current key as final output when
+ * memory runs low, rather than spilling it again for yet another cycle.
+ */
+public class SortedSpilledRecordbatch implements CloseableRecordBatch {
+  private static final ControlsInjector injector = ControlsInjectorFactory.getInjector(SortedSpilledRecordbatch.class);
+
+  private final FragmentContext context;
+  private final BatchSchema schema;
+  private final BufferAllocator allocator;
+  private final VectorContainer container;
+  private final SortImpl sortImpl;
+  private SortResults results;
+  private boolean closed = false;
+
+  public SortedSpilledRecordbatch(SpilledRecordbatch spilled, HashAggregate hashAggrConfig, FragmentContext context,
+                                  OperatorContext oContext, long memoryLimit) {
+    this.context = context;
+    this.schema = spilled.getSchema();
+
+    // The spilled batches hold the (partially aggregated) output columns, so order on the output names of the keys
+    List<Ordering> orderings = Lists.newArrayList();
+    for (NamedExpression ne : hashAggrConfig.getGroupByExprs()) {
+      orderings.add(new Ordering(Direction.ASCENDING, ne.getRef()));
+    }
+    ExternalSort sortConfig = new ExternalSort(hashAggrConfig.getChild(), orderings, false);
+    sortConfig.setOperatorId(hashAggrConfig.getOperatorId());
+
+    allocator = oContext.getAllocator().newChildAllocator("HashAggSortFallback:" + hashAggrConfig.getOperatorId(),
+        0, memoryLimit);
+    OperExecContext opContext = new OperExecContextImpl(context, allocator, new IgnoredStats(), sortConfig, injector);
+    SpillSet spillSet = new SpillSet(context, sortConfig);
+    PriorityQueueCopierWrapper copierHolder = new PriorityQueueCopierWrapper(opContext);
+    SpilledRuns spilledRuns = new SpilledRuns(opContext, spillSet, copierHolder);
+    container = new VectorContainer(allocator);
+    sortImpl = new SortImpl(opContext, new SortConfig(context.getConfig()), spilledRuns, container);
+
+    try {
+      load(spilled);
+    } catch (RuntimeException e) {
+      close();
+      throw e;
+    }
+
+    next(); // initialize the container with the first sorted batch
+  }
+
+  /**
+   * Feed every batch of the spilled partition into the sort. The merge of the sorted
+   * runs is always done through the spill path, even for a single batch, which delivers
+   * flat (non-SV4) batches into our container, as the hash table expects.
+   */
+  private void load(SpilledRecordbatch spilled) {
+    sortImpl.setSchema(spilled.getOutgoingContainer().getSchema());
+    // The constructor of the spilled batch already read its first batch
+    IterOutcome outcome = IterOutcome.OK;
+    try {
+      while (outcome == IterOutcome.OK) {
+        sortImpl.addBatch(spilled.getOutgoingContainer());
+        outcome = context.shouldContinue() ? spilled.next() : IterOutcome.STOP;
+      }
+    } finally {
+      if ( outcome != IterOutcome.NONE ) {
+        spilled.close(); // reading NONE already closed (and deleted) the spill file
+      }
+    }
+    sortImpl.spillAll();
+    results = sortImpl.startMerge();
+    if (results.getSv4() != null) {
+      throw new IllegalStateException("Sorting a spilled partition produced an in-memory (SV4) result");
+    }
+  }
+
+  @Override
+  public SelectionVector2 getSelectionVector2() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public SelectionVector4 getSelectionVector4() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public TypedFieldId getValueVectorId(SchemaPath path) {
+    return container.getValueVectorId(path);
+  }
+
+  @Override
+  public VectorWrapper<?> getValueAccessorById(Class<?> clazz, int... ids) {
+    return container.getValueAccessorById(clazz, ids);
+  }
+
+  @Override
+  public Iterator<VectorWrapper<?>> iterator() {
+    return container.iterator();
+  }
+
+  @Override
+  public FragmentContext getContext() { return context; }
+
+  @Override
+  public BatchSchema getSchema() { return schema; }
+
+  @Override
+  public WritableBatch getWritableBatch() {
+    return WritableBatch.get(this);
+  }
+
+  @Override
+  public VectorContainer getOutgoingContainer() { return container; }
+
+  @Override
+  public int getRecordCount() { return container.getRecordCount(); }
+
+  @Override
+  public void kill(boolean sendUpstream) {
+    this.close(); // delete the sort's spill files
+  }
+
+  /**
+   * Return the next merged (sorted) batch
+   *
+   * @return IterOutcome
+   */
+  @Override
+  public IterOutcome next() {
+    if ( closed ) {
+      return IterOutcome.NONE;
+    }
+    if ( ! results.next() ) {
+      this.close();
+      return IterOutcome.NONE;
+    }
+    return IterOutcome.OK;
+  }
+
+  @Override
+  public void close() {
+    if ( closed ) { return; }
+    closed = true;
+    container.clear();
+    try {
+      if ( results != null ) {
+        results.close();
+        results = null;
+      }
+      sortImpl.close();
+    } finally {
+      allocator.close();
+    }
+  }
+
+  /**
+   * The sort metrics use the External Sort's metric ids, which would collide with
+   * those of the Hash Aggregate in the operator profile.
+   */
+  private static class IgnoredStats implements OperatorStatReceiver {
+    @Override
+    public void addLongStat(MetricDef metric, long value) { }
+
+    @Override
+    public void addDoubleStat(MetricDef metric, double value) { }
+
+    @Override
+    public void setLongStat(MetricDef metric, long value) { }
+
+    @Override
+    public void setDoubleStat(MetricDef metric, double value) { }
+  }
+}
@@ -39,6 +39,7 @@ import org.apache.drill.exec.expr.TypeHelper;
 import org.apache.drill.exec.expr.ValueVectorReadExpression;
 import org.apache.drill.exec.expr.ValueVectorWriteExpression;
 import org.apache.drill.exec.ops.FragmentContext;
+import org.apache.drill.exec.ops.MetricDef;
 import org.apache.drill.exec.physical.config.FlattenPOP;
 import org.apache.drill.exec.record.AbstractSingleRecordBatch;
 import org.apache.drill.exec.record.BatchSchema.SelectionVectorMode;
@@ -68,6 +69,19 @@ public class FlattenRecordBatch extends AbstractSingleRecordBatch<FlattenPOP> {
   private boolean hasRemainder = false;
   private int remainderIndex = 0;
   private int recordCount;
+  private long maxOutputBatchRecords;
+  private long maxOutputBatchMemory;
+
+  public enum Metric implements MetricDef {
+    OUTPUT_BATCHES,
+    MAX_OUTPUT_BATCH_RECORDS,
+    MAX_OUTPUT_BATCH_MEMORY; // bytes used by the vectors of the largest outgoing batch
+
+    @Override
+    public int metricId() {
+      return ordinal();
+    }
+  }
 
   private final Flattener.Monitor monitor = new Flattener.Monitor() {
     @Override
@@ -114,8 +128,7 @@ public class FlattenRecordBatch extends AbstractSingleRecordBatch<FlattenPOP> {
   @Override
   public IterOutcome innerNext() {
     if (hasRemainder) {
-      handleRemainder();
-      return IterOutcome.OK;
+      return handleRemainder();
     }
     return super.innerNext();
   }
@@ -180,15 +193,21 @@ public class FlattenRecordBatch extends AbstractSingleRecordBatch<FlattenPOP> {
     if (complexWriters != null) {
       container.buildSchema(SelectionVectorMode.NONE);
     }
+    updateStats();
 
     return IterOutcome.OK;
   }
 
-  private void handleRemainder() {
+  /**
+   * Emits the next bounded slice of the current incoming batch. The flattener
+   * keeps its position in the repeated vector between calls, so the incoming
+   * batch is released only after its last flattened value has been sent.
+   */
+  private IterOutcome handleRemainder() {
     int remainingRecordCount = flattener.getFlattenField().getAccessor().getInnerValueCount() - remainderIndex;
     if (!doAlloc()) {
       outOfMemory = true;
-      return;
+      return IterOutcome.OUT_OF_MEMORY;
     }
 
     int projRecords = flattener.flattenRecords(remainingRecordCount, 0, monitor);
@@ -211,6 +230,24 @@ public class FlattenRecordBatch extends AbstractSingleRecordBatch<FlattenPOP> {
     if (complexWriters != null) {
       container.buildSchema(SelectionVectorMode.NONE);
     }
+    updateStats();
+    return IterOutcome.OK;
+  }
+
+  /**
+   * Records the size of the outgoing batch, so that the profile shows whether the
+   * configured record and memory limits were respected.
+   */
+  private void updateStats() {
+    long memory = 0;
+    for (VectorWrapper<?> w : container) {
+      memory += w.getValueVector().getBufferSize();
+    }
+    maxOutputBatchRecords = Math.max(maxOutputBatchRecords, recordCount);
+    maxOutputBatchMemory = Math.max(maxOutputBatchMemory, memory);
+    stats.addLongStat(Metric.OUTPUT_BATCHES, 1);
+    stats.setLongStat(Metric.MAX_OUTPUT_BATCH_RECORDS, maxOutputBatchRecords);
+    stats.setLongStat(Metric.MAX_OUTPUT_BATCH_MEMORY, maxOutputBatchMemory);
   }
 
   public void addComplexWriter(ComplexWriter writer) {
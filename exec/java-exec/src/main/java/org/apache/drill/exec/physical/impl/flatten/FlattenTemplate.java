@@ -21,6 +21,7 @@ import java.util.List;
 
 import javax.inject.Named;
 
+import org.apache.drill.exec.ExecConstants;
 import org.apache.drill.exec.exception.OversizedAllocationException;
 import org.apache.drill.exec.exception.SchemaChangeException;
 import org.apache.drill.exec.memory.BufferAllocator;
@@ -28,6 +29,7 @@ import org.apache.drill.exec.ops.FragmentContext;
 import org.apache.drill.exec.record.BatchSchema.SelectionVectorMode;
 import org.apache.drill.exec.record.RecordBatch;
 import org.apache.drill.exec.record.TransferPair;
+import org.apache.drill.exec.server.options.OptionManager;
 
 import com.google.common.collect.ImmutableList;
 
@@ -38,9 +40,6 @@ import org.slf4j.LoggerFactory;
 public abstract class FlattenTemplate implements Flattener {
   private static final Logger logger = LoggerFactory.getLogger(FlattenTemplate.class);
 
-  private static final int OUTPUT_BATCH_SIZE = 4*1024;
-  private static final int OUTPUT_MEMORY_LIMIT = 512 * 1024 * 1024;
-
   private ImmutableList<TransferPair> transfers;
   private BufferAllocator outputAllocator;
   private SelectionVectorMode svMode;
@@ -51,10 +50,17 @@ public abstract class FlattenTemplate implements Flattener {
   private int bigRecordsBufferSize;
 
   /**
-   * The output batch limit starts at OUTPUT_BATCH_SIZE, but may be decreased
+   * The output batch limit starts at the configured output batch size
+   * ({@link ExecConstants#FLATTEN_OUTPUT_BATCH_SIZE_KEY}), but may be decreased
    * if records are found to be large.
    */
-  private int outputLimit = OUTPUT_BATCH_SIZE;
+  private int outputLimit;
+
+  /**
+   * Memory the output vectors may use before we switch to bigRecords mode and
+   * flush ({@link ExecConstants#FLATTEN_OUTPUT_BATCH_MEMORY_KEY}).
+   */
+  private long outputMemoryLimit;
 
   // this allows for groups to be written between batches if we run out of space, for cases where we have finished
   // a batch on the boundary it will be set to 0
@@ -144,7 +150,7 @@ public abstract class FlattenTemplate implements Flattener {
                   }
                 }
               } else {
-                if (outputAllocator.getAllocatedMemory() > OUTPUT_MEMORY_LIMIT) {
+                if (outputAllocator.getAllocatedMemory() > outputMemoryLimit) {
                   /*
                    * We're dealing with big records. Reduce the outputLimit to
                    * the current record count, and take note of how much space the
@@ -284,6 +290,9 @@ public abstract class FlattenTemplate implements Flattener {
         throw new UnsupportedOperationException("Flatten does not support selection vector inputs.");
     }
     this.transfers = ImmutableList.copyOf(transfers);
+    final OptionManager options = context.getOptions();
+    outputLimit = (int) options.getOption(ExecConstants.FLATTEN_OUTPUT_BATCH_SIZE_VALIDATOR);
+    outputMemoryLimit = options.getOption(ExecConstants.FLATTEN_OUTPUT_BATCH_MEMORY_VALIDATOR);
     outputAllocator = outgoing.getOutgoingContainer().getAllocator();
     doSetup(context, incoming, outgoing);
   }
@@ -298,9 +298,9 @@ public class HashJoinBatch extends AbstractRecordBatch<HashJoinPOP> {
     if (leftUpstream != IterOutcome.OK_NEW_SCHEMA && leftUpstream != IterOutcome.OK) {
       leftExpr = null;
     } else {
-      if (left.getSchema().getSelectionVectorMode() != BatchSchema.SelectionVectorMode.NONE) {
+      if (left.getSchema().getSelectionVectorMode() == BatchSchema.SelectionVectorMode.FOUR_BYTE) {
         final String errorMsg = new StringBuilder()
-            .append("Hash join does not support probe batch with selection vectors. ")
+            .append("Hash join does not support probe batch with a four byte selection vector. ")
             .append("Probe batch has selection mode = ")
             .append(left.getSchema().getSelectionVectorMode())
             .toString();
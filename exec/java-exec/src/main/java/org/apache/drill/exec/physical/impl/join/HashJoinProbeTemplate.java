@@ -31,6 +31,7 @@ import org.apache.drill.exec.record.RecordBatch;
 import org.apache.drill.exec.record.RecordBatch.IterOutcome;
 import org.apache.drill.exec.record.VectorContainer;
 import org.apache.drill.exec.record.VectorWrapper;
+import org.apache.drill.exec.record.selection.SelectionVector2;
 import org.apache.calcite.rel.core.JoinRelType;
 
 public abstract class HashJoinProbeTemplate implements HashJoinProbe {
@@ -65,6 +66,9 @@ public abstract class HashJoinProbeTemplate implements HashJoinProbe {
   // Number of records processed on the probe side
   private int recordsProcessed = 0;
 
+  // Selection vector of the current probe batch, if the probe side is filtered (else null)
+  private SelectionVector2 probeSv2;
+
   // Number of records in the output container
   private int outputRecords;
 
@@ -93,10 +97,23 @@ public abstract class HashJoinProbeTemplate implements HashJoinProbe {
     this.hashTable = hashTable;
     this.hjHelper = hjHelper;
     this.outgoingJoinBatch = outgoing;
+    setupProbeSelection();
 
     doSetup(context, buildBatch, probeBatch, outgoing);
   }
 
+  private void setupProbeSelection() {
+    probeSv2 = probeBatch.getSchema().getSelectionVectorMode() == BatchSchema.SelectionVectorMode.TWO_BYTE ?
+        probeBatch.getSelectionVector2() : null;
+  }
+
+  /**
+   * Map the position of the current probe record to its index in the probe vectors
+   */
+  private int probeVectorIndex() {
+    return probeSv2 == null ? recordsProcessed : probeSv2.getIndex(recordsProcessed);
+  }
+
   public void executeProjectRightPhase() {
     while (outputRecords < TARGET_RECORDS_PER_BATCH && recordsProcessed < recordsToProcess) {
       projectBuildRecord(unmatchedBuildIndexes.get(recordsProcessed), outputRecords);
@@ -143,6 +160,7 @@ public abstract class HashJoinProbeTemplate implements HashJoinProbe {
                   probeBatch.getSchema());
             }
           case OK:
+            setupProbeSelection();
             recordsToProcess = probeBatch.getRecordCount();
             recordsProcessed = 0;
             // If we received an empty batch do nothing
@@ -156,7 +174,7 @@ public abstract class HashJoinProbeTemplate implements HashJoinProbe {
       // Check if we need to drain the next row in the probe side
       if (getNextRecord) {
         if (hashTable != null) {
-          probeIndex = hashTable.containsKey(recordsProcessed, true);
+          probeIndex = hashTable.containsKey(probeVectorIndex(), true);
         }
 
           if (probeIndex != -1) {
@@ -173,7 +191,7 @@ public abstract class HashJoinProbeTemplate implements HashJoinProbe {
             hjHelper.setRecordMatched(currentCompositeIdx);
 
             projectBuildRecord(currentCompositeIdx, outputRecords);
-            projectProbeRecord(recordsProcessed, outputRecords);
+            projectProbeRecord(probeVectorIndex(), outputRecords);
             outputRecords++;
             /* Projected single row from the build side with matching key but there
              * may be more rows with the same key. Check if that's the case
@@ -195,7 +213,7 @@ public abstract class HashJoinProbeTemplate implements HashJoinProbe {
 
             // If we have a left outer join, project the keys
             if (joinType == JoinRelType.LEFT || joinType == JoinRelType.FULL) {
-              projectProbeRecord(recordsProcessed, outputRecords);
+              projectProbeRecord(probeVectorIndex(), outputRecords);
               outputRecords++;
             }
             recordsProcessed++;
@@ -203,7 +221,7 @@ public abstract class HashJoinProbeTemplate implements HashJoinProbe {
       } else {
         hjHelper.setRecordMatched(currentCompositeIdx);
         projectBuildRecord(currentCompositeIdx, outputRecords);
-        projectProbeRecord(recordsProcessed, outputRecords);
+        projectProbeRecord(probeVectorIndex(), outputRecords);
         outputRecords++;
 
         currentCompositeIdx = hjHelper.getNextIndex(currentCompositeIdx);
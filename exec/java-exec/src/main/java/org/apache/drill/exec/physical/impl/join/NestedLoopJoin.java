@@ -36,7 +36,12 @@ public interface NestedLoopJoin {
   public void setupNestedLoopJoin(FragmentContext context, RecordBatch left,
                                   ExpandableHyperContainer rightContainer,
                                   LinkedList<Integer> rightCounts,
+                                  SpatialJoinIndex spatialIndex,
                                   NestedLoopJoinBatch outgoing);
+
+  // Add the geometries of a batch of the right side, at index 'batchIndex' in the hyper container, to the spatial index
+  public void addRightGeometries(FragmentContext context, RecordBatch rightBatch, int batchIndex, int recordCount,
+                                 SpatialJoinIndex spatialIndex);
   // Produce output records taking into account join type
   public int outputRecords(JoinRelType joinType);
 
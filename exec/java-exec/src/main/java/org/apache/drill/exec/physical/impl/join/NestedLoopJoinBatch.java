@@ -18,28 +18,45 @@
 package org.apache.drill.exec.physical.impl.join;
 
 import java.io.IOException;
+import java.lang.reflect.Modifier;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.drill.common.exceptions.DrillRuntimeException;
+import org.apache.drill.common.expression.BooleanOperator;
 import org.apache.drill.common.expression.ErrorCollector;
 import org.apache.drill.common.expression.ErrorCollectorImpl;
+import org.apache.drill.common.expression.FunctionCall;
+import org.apache.drill.common.expression.FunctionCallFactory;
 import org.apache.drill.common.expression.LogicalExpression;
+import org.apache.drill.common.expression.SchemaPath;
+import org.apache.drill.common.expression.ValueExpressions;
+import org.apache.drill.common.expression.visitors.AbstractExprVisitor;
 import org.apache.drill.common.types.TypeProtos;
 import org.apache.drill.common.types.Types;
+import org.apache.drill.exec.ExecConstants;
 import org.apache.drill.exec.compile.sig.GeneratorMapping;
 import org.apache.drill.exec.compile.sig.MappingSet;
 import org.apache.drill.exec.exception.ClassTransformationException;
 import org.apache.drill.exec.exception.OutOfMemoryException;
 import org.apache.drill.exec.exception.SchemaChangeException;
 import org.apache.drill.exec.expr.ClassGenerator;
+import org.apache.drill.exec.expr.ClassGenerator.HoldingContainer;
 import org.apache.drill.exec.expr.CodeGenerator;
 import org.apache.drill.exec.expr.BatchReference;
 import org.apache.drill.exec.expr.ExpressionTreeMaterializer;
+import org.apache.drill.exec.expr.fn.interpreter.InterpreterEvaluator;
+import org.apache.drill.exec.expr.holders.Float8Holder;
+import org.apache.drill.exec.expr.holders.NullableFloat8Holder;
+import org.apache.drill.exec.expr.holders.ValueHolder;
 import org.apache.drill.exec.ops.FragmentContext;
+import org.apache.drill.exec.ops.MetricDef;
 import org.apache.drill.exec.physical.config.NestedLoopJoinPOP;
+import org.apache.drill.exec.physical.impl.TopN.TopNBatch;
 import org.apache.drill.exec.physical.impl.filter.ReturnValueExpression;
 import org.apache.drill.exec.physical.impl.sort.RecordBatchData;
 import org.apache.drill.exec.record.AbstractRecordBatch;
@@ -49,12 +66,14 @@ import org.apache.drill.exec.record.MaterializedField;
 import org.apache.drill.exec.record.RecordBatch;
 import org.apache.drill.exec.record.TypedFieldId;
 import org.apache.drill.exec.record.VectorAccessible;
+import org.apache.drill.exec.record.VectorContainer;
 import org.apache.drill.exec.record.VectorWrapper;
 import org.apache.drill.exec.vector.AllocationHelper;
 
 import com.google.common.base.Preconditions;
 import com.sun.codemodel.JExpr;
 import com.sun.codemodel.JExpression;
+import com.sun.codemodel.JInvocation;
 import com.sun.codemodel.JVar;
 import org.apache.drill.exec.vector.ValueVector;
 import org.apache.drill.exec.vector.complex.AbstractContainerVector;
@@ -68,6 +87,17 @@ public class NestedLoopJoinBatch extends AbstractRecordBatch<NestedLoopJoinPOP>
   // Maximum number records in the outgoing batch
   protected static final int MAX_BATCH_SIZE = 4096;
 
+  public enum Metric implements MetricDef {
+    SPATIAL_INDEX_GEOMETRIES, // right geometries in the spatial index
+    SPATIAL_INDEX_CANDIDATE_PAIRS, // pairs whose envelopes passed the index, and the spatial predicate was evaluated for
+    SPATIAL_INDEX_MATCHING_PAIRS; // pairs the spatial predicate held for
+
+    @Override
+    public int metricId() {
+      return ordinal();
+    }
+  }
+
   // Input indexes to correctly update the stats
   protected static final int LEFT_INPUT = 0;
   protected static final int RIGHT_INPUT = 1;
@@ -102,6 +132,8 @@ public class NestedLoopJoinBatch extends AbstractRecordBatch<NestedLoopJoinPOP>
   // Record count of the individual batches in the right hyper container
   private LinkedList<Integer> rightCounts = new LinkedList<>();
 
+  // Index of the geometries on the right side, if the join condition is a spatial predicate
+  private SpatialJoinIndex spatialIndex = null;
 
   // Generator mapping for the right side
   private static final GeneratorMapping EMIT_RIGHT =
@@ -133,6 +165,35 @@ public class NestedLoopJoinBatch extends AbstractRecordBatch<NestedLoopJoinPOP>
       "outgoing" /* write container */,
       EMIT_LEFT_CONSTANT, EMIT_LEFT);
 
+  // Mapping set for the join condition, whose fields are read through batch references; the left batch provides
+  // the context to the functions
+  private static final MappingSet evalMapping = new MappingSet("leftIndex" /* read index */, "outIndex" /* write index */,
+      "leftBatch" /* read container */,
+      "outgoing" /* write container */,
+      ClassGenerator.DEFAULT_CONSTANT_MAP, ClassGenerator.DEFAULT_SCALAR_MAP);
+
+  // Generator mapping for the geometry of the left side when the join condition is spatial
+  private static final GeneratorMapping EVAL_LEFT_GEOMETRY =
+      GeneratorMapping.create("doSetup" /* setup method */, "doEvalLeftGeometry" /* eval method */, null /* reset */,
+          null /* cleanup */);
+  private static final GeneratorMapping EVAL_LEFT_GEOMETRY_CONSTANT =
+      GeneratorMapping.create("doSetup" /* setup method */, "doSetup" /* eval method */, null /* reset */,
+          null /* cleanup */);
+  private static final MappingSet leftGeometryMapping = new MappingSet("leftIndex" /* read index */,
+      "outIndex" /* write index */, "leftBatch" /* read container */, "outgoing" /* write container */,
+      EVAL_LEFT_GEOMETRY_CONSTANT, EVAL_LEFT_GEOMETRY);
+
+  // Generator mapping for the geometry of the right side, evaluated on each right batch
+  private static final GeneratorMapping EVAL_RIGHT_GEOMETRY =
+      GeneratorMapping.create("doSetupRightGeometry" /* setup method */, "doEvalRightGeometry" /* eval method */,
+          null /* reset */, null /* cleanup */);
+  private static final GeneratorMapping EVAL_RIGHT_GEOMETRY_CONSTANT =
+      GeneratorMapping.create("doSetupRightGeometry" /* setup method */, "doSetupRightGeometry" /* eval method */,
+          null /* reset */, null /* cleanup */);
+  private static final MappingSet rightGeometryMapping = new MappingSet("rightIndex" /* read index */,
+      "outIndex" /* write index */, "rightBatch" /* read container */, "outgoing" /* write container */,
+      EVAL_RIGHT_GEOMETRY_CONSTANT, EVAL_RIGHT_GEOMETRY);
+
   protected NestedLoopJoinBatch(NestedLoopJoinPOP popConfig, FragmentContext context, RecordBatch left, RecordBatch right) throws OutOfMemoryException {
     super(popConfig, context);
     Preconditions.checkNotNull(left);
@@ -171,7 +232,7 @@ public class NestedLoopJoinBatch extends AbstractRecordBatch<NestedLoopJoinPOP>
             }
             // fall through
           case OK:
-            addBatchToHyperContainer(right);
+            addRightBatch(right);
             break;
           case OUT_OF_MEMORY:
             return IterOutcome.OUT_OF_MEMORY;
@@ -183,7 +244,11 @@ public class NestedLoopJoinBatch extends AbstractRecordBatch<NestedLoopJoinPOP>
             break;
         }
       }
-      nljWorker.setupNestedLoopJoin(context, left, rightContainer, rightCounts, this);
+      if (spatialIndex != null) {
+        spatialIndex.build();
+        stats.setLongStat(Metric.SPATIAL_INDEX_GEOMETRIES, spatialIndex.getGeometryCount());
+      }
+      nljWorker.setupNestedLoopJoin(context, left, rightContainer, rightCounts, spatialIndex, this);
       state = BatchState.NOT_FIRST;
     }
 
@@ -192,6 +257,10 @@ public class NestedLoopJoinBatch extends AbstractRecordBatch<NestedLoopJoinPOP>
 
     // invoke the runtime generated method to emit records in the output batch
     outputRecords = nljWorker.outputRecords(popConfig.getJoinType());
+    if (spatialIndex != null) {
+      stats.setLongStat(Metric.SPATIAL_INDEX_CANDIDATE_PAIRS, spatialIndex.getCandidatePairs());
+      stats.setLongStat(Metric.SPATIAL_INDEX_MATCHING_PAIRS, spatialIndex.getMatchingPairs());
+    }
 
     // Set the record count
     for (final VectorWrapper<?> vw : container) {
@@ -230,6 +299,10 @@ public class NestedLoopJoinBatch extends AbstractRecordBatch<NestedLoopJoinPOP>
    * 1. doEval() -> Evaluates if record from left side matches record from the right side
    * 2. emitLeft() -> Project record from the left side
    * 3. emitRight() -> Project record from the right side (which is a hyper container)
+   * When the join condition is a spatial predicate (see {@link #findSpatialCondition()}), doEval() only evaluates the
+   * rest of the condition, and two more methods evaluate the geometries for the spatial index
+   * 4. doEvalLeftGeometry() -> Probe the spatial index with the geometry of a record from the left side
+   * 5. doEvalRightGeometry() -> Add the geometry of a record from a right batch to the spatial index
    * @return the runtime generated class that implements the NestedLoopJoin interface
    */
   private NestedLoopJoin setupWorker() throws IOException, ClassTransformationException, SchemaChangeException {
@@ -259,8 +332,18 @@ public class NestedLoopJoinBatch extends AbstractRecordBatch<NestedLoopJoinPOP>
         .put(rightContainer, new BatchReference("rightContainer", "rightBatchIndex", "rightRecordIndexWithinBatch"))
         .build();
 
+    final SpatialCondition spatialCondition = findSpatialCondition();
+    final LogicalExpression condition;
+    if (spatialCondition != null) {
+      condition = spatialCondition.remainder;
+      spatialIndex = new SpatialJoinIndex(spatialCondition.predicate, spatialCondition.leftFirst,
+          spatialCondition.distance, oContext.getAllocator());
+    } else {
+      condition = popConfig.getCondition();
+    }
+
     LogicalExpression materialize = ExpressionTreeMaterializer.materialize(
-        popConfig.getCondition(),
+        condition,
         batches,
         collector,
         context.getFunctionRegistry(),
@@ -272,8 +355,19 @@ public class NestedLoopJoinBatch extends AbstractRecordBatch<NestedLoopJoinPOP>
           collector.toErrorString()));
     }
 
+    nLJClassGenerator.setMappingSet(evalMapping);
     nLJClassGenerator.addExpr(new ReturnValueExpression(materialize), ClassGenerator.BlkCreateMode.FALSE);
 
+    // generate doEvalLeftGeometry and doEvalRightGeometry
+    if (spatialCondition != null) {
+      nLJClassGenerator.setMappingSet(leftGeometryMapping);
+      addGeometryExpr(nLJClassGenerator, spatialCondition.leftGeometry,
+          JExpr.direct("spatialIndex").invoke("probe"));
+      nLJClassGenerator.setMappingSet(rightGeometryMapping);
+      addGeometryExpr(nLJClassGenerator, spatialCondition.rightGeometry,
+          JExpr.direct("spatialIndex").invoke("addRightGeometry").arg(JExpr.direct("rightIndex")));
+    }
+
     // generate emitLeft
     nLJClassGenerator.setMappingSet(emitLeftMapping);
     JExpression outIndex = JExpr.direct("outIndex");
@@ -336,6 +430,206 @@ public class NestedLoopJoinBatch extends AbstractRecordBatch<NestedLoopJoinPOP>
     return context.getImplementationClass(nLJCodeGenerator);
   }
 
+  /**
+   * Adds the evaluation of a geometry to the current eval method, followed by the given call of the spatial index
+   * with the geometry (whether it is set, then its buffer, start and end) as last arguments.
+   */
+  private static void addGeometryExpr(ClassGenerator<NestedLoopJoin> classGenerator, LogicalExpression geometry,
+      JInvocation indexCall) {
+    final HoldingContainer out = classGenerator.addExpr(geometry, ClassGenerator.BlkCreateMode.FALSE);
+    classGenerator.getEvalBlock().add(indexCall
+        .arg(out.isOptional() ? out.getIsSet() : JExpr.lit(1))
+        .arg(out.getHolder().ref("buffer"))
+        .arg(out.getHolder().ref("start"))
+        .arg(out.getHolder().ref("end")));
+  }
+
+  /**
+   * The parts of a join condition that is, or has as one of its conjuncts, a {@link SpatialPredicate} of a geometry
+   * of each side, such as ST_DWithin(ST_Point(l.x, l.y), r.geom, 0.1).
+   */
+  private static class SpatialCondition {
+    private final SpatialPredicate<?> predicate;
+    // materialized against the left batch and against the right batch
+    private final LogicalExpression leftGeometry;
+    private final LogicalExpression rightGeometry;
+    private final boolean leftFirst;
+    private final double distance;
+    // the rest of the condition
+    private final LogicalExpression remainder;
+
+    SpatialCondition(SpatialPredicate<?> predicate, LogicalExpression leftGeometry, LogicalExpression rightGeometry,
+        boolean leftFirst, double distance, LogicalExpression remainder) {
+      this.predicate = predicate;
+      this.leftGeometry = leftGeometry;
+      this.rightGeometry = rightGeometry;
+      this.leftFirst = leftFirst;
+      this.distance = distance;
+      this.remainder = remainder;
+    }
+  }
+
+  /**
+   * Looks for a spatial predicate among the conjuncts of the join condition that the right geometries can be indexed
+   * for: its geometry arguments each read only one side, each a different one, and its distance, if any, is constant.
+   * @return the spatial condition, or null if there is none or the spatial index is disabled
+   */
+  private SpatialCondition findSpatialCondition() {
+    if (!context.getOptions().getOption(ExecConstants.NESTED_LOOP_JOIN_SPATIAL_INDEX_VALIDATOR)) {
+      return null;
+    }
+    final Map<String, SpatialPredicate<?>> predicates = getSpatialPredicates();
+    if (predicates.isEmpty()) {
+      return null;
+    }
+
+    final LogicalExpression condition = popConfig.getCondition();
+    final List<LogicalExpression> conjuncts = Lists.newArrayList();
+    if (condition instanceof BooleanOperator && "booleanAnd".equals(((BooleanOperator) condition).getName())) {
+      conjuncts.addAll(((BooleanOperator) condition).args);
+    } else {
+      conjuncts.add(condition);
+    }
+
+    for (int i = 0; i < conjuncts.size(); i++) {
+      if (!(conjuncts.get(i) instanceof FunctionCall)) {
+        continue;
+      }
+      final FunctionCall call = (FunctionCall) conjuncts.get(i);
+      final SpatialPredicate<?> predicate = predicates.get(call.getName().toLowerCase());
+      if (predicate == null || call.args.size() < 2 || call.args.size() > 3) {
+        continue;
+      }
+
+      final Boolean firstOnLeft = readsLeftSide(call.args.get(0));
+      final Boolean secondOnLeft = readsLeftSide(call.args.get(1));
+      if (firstOnLeft == null || secondOnLeft == null || firstOnLeft.equals(secondOnLeft)) {
+        continue;
+      }
+      final LogicalExpression leftGeometry = materializeGeometry(call.args.get(firstOnLeft ? 0 : 1), left);
+      final LogicalExpression rightGeometry = materializeGeometry(call.args.get(firstOnLeft ? 1 : 0), right);
+      if (leftGeometry == null || rightGeometry == null) {
+        continue;
+      }
+
+      double distance = 0;
+      if (call.args.size() == 3) {
+        final Double constant = evaluateDistance(call.args.get(2));
+        if (constant == null) {
+          continue;
+        }
+        distance = constant;
+      }
+
+      final List<LogicalExpression> remainder = Lists.newArrayList(conjuncts);
+      remainder.remove(i);
+      final LogicalExpression remainderCondition;
+      if (remainder.isEmpty()) {
+        remainderCondition = ValueExpressions.getBit(true);
+      } else if (remainder.size() == 1) {
+        remainderCondition = remainder.get(0);
+      } else {
+        remainderCondition = FunctionCallFactory.createBooleanOperator("and", remainder);
+      }
+      logger.debug("Indexing the right geometries of the nested loop join for {}", call.getName());
+      return new SpatialCondition(predicate, leftGeometry, rightGeometry, firstOnLeft, distance, remainderCondition);
+    }
+    return null;
+  }
+
+  /**
+   * @return the spatial predicates found on the classpath, by function name
+   */
+  private Map<String, SpatialPredicate<?>> getSpatialPredicates() {
+    final ImmutableMap.Builder<String, SpatialPredicate<?>> predicates = ImmutableMap.builder();
+    for (Class<? extends SpatialPredicate> predicateClass :
+        context.getDrillbitContext().getClasspathScan().getImplementations(SpatialPredicate.class)) {
+      if (Modifier.isAbstract(predicateClass.getModifiers())) {
+        continue;
+      }
+      try {
+        final SpatialPredicate<?> predicate = predicateClass.newInstance();
+        predicates.put(predicate.getName().toLowerCase(), predicate);
+      } catch (InstantiationException | IllegalAccessException e) {
+        logger.warn("Unable to instantiate the spatial predicate {}", predicateClass.getName(), e);
+      }
+    }
+    return predicates.build();
+  }
+
+  /**
+   * @return whether the expression only reads fields of the left side (true) or of the right side (false), or null if
+   *         it reads both sides, none, or fields of unknown side
+   */
+  private Boolean readsLeftSide(LogicalExpression expression) {
+    Boolean onLeft = null;
+    for (SchemaPath field : getFields(expression)) {
+      final boolean inLeft = left.getValueVectorId(field) != null;
+      final boolean inRight = rightSchema != null && right.getValueVectorId(field) != null;
+      if (inLeft == inRight || (onLeft != null && onLeft != inLeft)) {
+        return null;
+      }
+      onLeft = inLeft;
+    }
+    return onLeft;
+  }
+
+  private static List<SchemaPath> getFields(LogicalExpression expression) {
+    final List<SchemaPath> fields = Lists.newArrayList();
+    expression.accept(new AbstractExprVisitor<Void, Void, RuntimeException>() {
+      @Override
+      public Void visitSchemaPath(SchemaPath path, Void value) {
+        fields.add(path);
+        return null;
+      }
+
+      @Override
+      public Void visitUnknown(LogicalExpression e, Void value) {
+        for (LogicalExpression child : e) {
+          child.accept(this, value);
+        }
+        return null;
+      }
+    }, null);
+    return fields;
+  }
+
+  /**
+   * @return the geometry expression materialized against the given batch, or null if it is not a binary value
+   */
+  private LogicalExpression materializeGeometry(LogicalExpression geometry, RecordBatch batch) {
+    final ErrorCollector collector = new ErrorCollectorImpl();
+    final LogicalExpression materialized =
+        ExpressionTreeMaterializer.materialize(geometry, batch, collector, context.getFunctionRegistry());
+    if (collector.hasErrors() || materialized.getMajorType().getMinorType() != TypeProtos.MinorType.VARBINARY) {
+      return null;
+    }
+    return materialized;
+  }
+
+  /**
+   * @return the value of a distance expression, or null if it reads fields or is null
+   */
+  private Double evaluateDistance(LogicalExpression distance) {
+    if (!getFields(distance).isEmpty()) {
+      return null;
+    }
+    final ErrorCollector collector = new ErrorCollectorImpl();
+    final LogicalExpression materialized = ExpressionTreeMaterializer.materialize(
+        FunctionCallFactory.createCast(Types.required(TypeProtos.MinorType.FLOAT8), distance.getPosition(), distance),
+        left, collector, context.getFunctionRegistry());
+    if (collector.hasErrors()) {
+      return null;
+    }
+    final ValueHolder value = InterpreterEvaluator.evaluateConstantExpr(context, materialized);
+    if (value instanceof Float8Holder) {
+      return ((Float8Holder) value).value;
+    } else if (value instanceof NullableFloat8Holder && ((NullableFloat8Holder) value).isSet == 1) {
+      return ((NullableFloat8Holder) value).value;
+    }
+    return null;
+  }
+
   /**
    * Simple method to allocate space for all the vectors in the container.
    */
@@ -374,6 +668,8 @@ public class NestedLoopJoinBatch extends AbstractRecordBatch<NestedLoopJoinPOP>
         }
       }
 
+      // the geometries of the first right batch are added to the spatial index once the worker is generated
+      VectorContainer firstRightBatch = null;
       if (rightUpstream != IterOutcome.NONE) {
         // make right input schema optional if we have LEFT join
         for (final VectorWrapper<?> vectorWrapper : right) {
@@ -392,11 +688,14 @@ public class NestedLoopJoinBatch extends AbstractRecordBatch<NestedLoopJoinPOP>
           }
         }
         rightSchema = right.getSchema();
-        addBatchToHyperContainer(right);
+        firstRightBatch = addBatchToHyperContainer(right);
       }
 
       allocateVectors();
       nljWorker = setupWorker();
+      if (spatialIndex != null && firstRightBatch != null) {
+        addRightGeometries(firstRightBatch, 0);
+      }
 
       // if left batch is empty, fetch next
       if (leftUpstream != IterOutcome.NONE && left.getRecordCount() == 0) {
@@ -411,13 +710,21 @@ public class NestedLoopJoinBatch extends AbstractRecordBatch<NestedLoopJoinPOP>
     }
   }
 
-  private void addBatchToHyperContainer(RecordBatch inputBatch) {
+  private void addRightBatch(RecordBatch inputBatch) {
+    final VectorContainer batch = addBatchToHyperContainer(inputBatch);
+    if (spatialIndex != null) {
+      addRightGeometries(batch, rightCounts.size() - 1);
+    }
+  }
+
+  private VectorContainer addBatchToHyperContainer(RecordBatch inputBatch) {
     final RecordBatchData batchCopy = new RecordBatchData(inputBatch, oContext.getAllocator());
     boolean success = false;
     try {
       rightCounts.addLast(inputBatch.getRecordCount());
       rightContainer.addBatch(batchCopy.getContainer());
       success = true;
+      return batchCopy.getContainer();
     } finally {
       if (!success) {
         batchCopy.clear();
@@ -425,10 +732,18 @@ public class NestedLoopJoinBatch extends AbstractRecordBatch<NestedLoopJoinPOP>
     }
   }
 
+  private void addRightGeometries(VectorContainer batch, int batchIndex) {
+    nljWorker.addRightGeometries(context, new TopNBatch.SimpleRecordBatch(batch, null, context), batchIndex,
+        rightCounts.get(batchIndex), spatialIndex);
+  }
+
   @Override
   public void close() {
     rightContainer.clear();
     rightCounts.clear();
+    if (spatialIndex != null) {
+      spatialIndex.close();
+    }
     super.close();
   }
 
@@ -47,6 +47,9 @@ public abstract class NestedLoopJoinTemplate implements NestedLoopJoin {
   // Output batch
   private NestedLoopJoinBatch outgoing = null;
 
+  // Index of the geometries on the right side, if the join condition is a spatial predicate
+  private SpatialJoinIndex spatialIndex = null;
+
   // Iteration status tracker
   private IterationStatusTracker tracker = new IterationStatusTracker();
 
@@ -58,21 +61,45 @@ public abstract class NestedLoopJoinTemplate implements NestedLoopJoin {
    * @param left Current left input batch being processed
    * @param rightContainer Hyper container
    * @param rightCounts Counts for each right container
+   * @param spatialIndex Index of the geometries on the right side, null if the join condition is not spatial
    * @param outgoing Output batch
    */
   public void setupNestedLoopJoin(FragmentContext context,
                                   RecordBatch left,
                                   ExpandableHyperContainer rightContainer,
                                   LinkedList<Integer> rightCounts,
+                                  SpatialJoinIndex spatialIndex,
                                   NestedLoopJoinBatch outgoing) {
     this.left = left;
     this.leftRecordCount = left.getRecordCount();
     this.rightCounts = rightCounts;
+    this.spatialIndex = spatialIndex;
     this.outgoing = outgoing;
 
     doSetup(context, rightContainer, left, outgoing);
   }
 
+  /**
+   * Evaluates the geometry of each record of a right batch and adds it to the spatial index.
+   *
+   * @param context Fragment context
+   * @param rightBatch Batch of the right side, as copied in the hyper container
+   * @param batchIndex Index of the batch in the hyper container
+   * @param recordCount Number of records in the batch
+   * @param spatialIndex Index of the geometries on the right side
+   */
+  public void addRightGeometries(FragmentContext context,
+                                 RecordBatch rightBatch,
+                                 int batchIndex,
+                                 int recordCount,
+                                 SpatialJoinIndex spatialIndex) {
+    spatialIndex.startRightBatch(batchIndex);
+    doSetupRightGeometry(context, rightBatch);
+    for (int i = 0; i < recordCount; i++) {
+      doEvalRightGeometry(i, spatialIndex);
+    }
+  }
+
   /**
    * Main entry point for producing the output records. Thin wrapper around populateOutgoingBatch(), this method
    * controls which left batch we are processing and fetches the next left input batch once we exhaust the current one.
@@ -83,7 +110,11 @@ public abstract class NestedLoopJoinTemplate implements NestedLoopJoin {
   public int outputRecords(JoinRelType joinType) {
     int outputIndex = 0;
     while (leftRecordCount != 0) {
-      outputIndex = populateOutgoingBatch(joinType, outputIndex);
+      if (spatialIndex != null) {
+        outputIndex = populateOutgoingBatchFromIndex(joinType, outputIndex);
+      } else {
+        outputIndex = populateOutgoingBatch(joinType, outputIndex);
+      }
       if (outputIndex >= NestedLoopJoinBatch.MAX_BATCH_SIZE) {
         break;
       }
@@ -158,6 +189,71 @@ public abstract class NestedLoopJoinTemplate implements NestedLoopJoin {
     return outputIndex;
   }
 
+  /**
+   * Variant of {@link #populateOutgoingBatch(JoinRelType, int)} for a spatial join condition: each left batch
+   * record is only checked against the right records the spatial index matches with its geometry, the rest
+   * of the condition being evaluated by {@link #doEval(int, int, int)}. The position in the matches of the
+   * current left record is tracked as the next right record to process.
+   *
+   * @param joinType join type (INNER or LEFT)
+   * @param outputIndex index to start emitting records at
+   * @return final outputIndex after producing records in the output batch
+   */
+  private int populateOutgoingBatchFromIndex(JoinRelType joinType, int outputIndex) {
+    int nextMatchToProcess = tracker.getNextRightRecordToProcess();
+    int nextLeftRecordToProcess = tracker.getNextLeftRecordToProcess();
+    boolean rightRecordMatched = tracker.isRightRecordMatched();
+
+    outer:
+    // for every record in the left batch
+    for (; nextLeftRecordToProcess < leftRecordCount; nextLeftRecordToProcess++) {
+      if (nextMatchToProcess == 0) {
+        // find the right records whose geometries match the geometry of the left record
+        doEvalLeftGeometry(nextLeftRecordToProcess, spatialIndex);
+      }
+      final int matchCount = spatialIndex.getMatchCount();
+      for (; nextMatchToProcess < matchCount; nextMatchToProcess++) {
+        final int compositeIndex = spatialIndex.getMatch(nextMatchToProcess);
+        final int batchIndex = compositeIndex >>> 16;
+        final int recordIndexWithinBatch = compositeIndex & 65535;
+
+        if (doEval(nextLeftRecordToProcess, batchIndex, recordIndexWithinBatch)) {
+          // project records from the left and right batches
+          emitLeft(nextLeftRecordToProcess, outputIndex);
+          emitRight(batchIndex, recordIndexWithinBatch, outputIndex);
+          outputIndex++;
+          rightRecordMatched = true;
+
+          if (outputIndex >= NestedLoopJoinBatch.MAX_BATCH_SIZE) {
+            nextMatchToProcess++;
+
+            // no more space left in the batch, stop processing
+            break outer;
+          }
+        }
+      }
+      nextMatchToProcess = 0;
+      if (joinType == JoinRelType.LEFT && !rightRecordMatched) {
+        // project records from the left side only, records from right will be null
+        emitLeft(nextLeftRecordToProcess, outputIndex);
+        outputIndex++;
+        if (outputIndex >= NestedLoopJoinBatch.MAX_BATCH_SIZE) {
+          nextLeftRecordToProcess++;
+
+          // no more space left in the batch, stop processing
+          break;
+        }
+      } else {
+        // reset match indicator if matching record was found
+        rightRecordMatched = false;
+      }
+    }
+
+    // update iteration status tracker with actual index and match counters
+    tracker.update(0, nextMatchToProcess, nextLeftRecordToProcess, rightRecordMatched);
+    return outputIndex;
+  }
+
   /**
    * Utility method to clear the memory in the left input batch once we have completed processing it.
    * Resets some internal state which indicates the next records to process in the left and right batches,
@@ -200,6 +296,17 @@ public abstract class NestedLoopJoinTemplate implements NestedLoopJoin {
                                     @Named("rightBatchIndex") int batchIndex,
                                     @Named("rightRecordIndexWithinBatch") int recordIndexWithinBatch);
 
+  // Probe the spatial index with the geometry of the record at offset 'leftIndex' in the left input batch
+  protected abstract void doEvalLeftGeometry(@Named("leftIndex") int leftIndex,
+                                             @Named("spatialIndex") SpatialJoinIndex spatialIndex);
+
+  protected abstract void doSetupRightGeometry(@Named("context") FragmentContext context,
+                                               @Named("rightBatch") RecordBatch rightBatch);
+
+  // Add the geometry of the record at offset 'rightIndex' in the right batch to the spatial index
+  protected abstract void doEvalRightGeometry(@Named("rightIndex") int rightIndex,
+                                              @Named("spatialIndex") SpatialJoinIndex spatialIndex);
+
   /**
    * Helper class to track position of left and record batches during iteration
    * and match status of record from the right batch.
@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.physical.impl.join;
+
+import java.util.List;
+
+import org.apache.drill.exec.memory.BufferAllocator;
+
+import com.google.common.collect.Lists;
+
+import io.netty.buffer.DrillBuf;
+
+/**
+ * Grid index over the geometries of the right input of a nested loop join whose condition is a
+ * {@link SpatialPredicate}. Each right geometry is parsed once, when its batch is added, and filed under
+ * the cells of a uniform grid that its envelope overlaps. A left geometry is then parsed once as well, and
+ * only tested against the right geometries of the cells its envelope, widened by the distance, overlaps,
+ * and whose envelopes are close enough. A pair found in several cells is only tested in the cell holding
+ * the lower left corner of the intersection of the widened envelopes.
+ * <p>
+ * The envelopes and the grid are kept in buffers of the operator's allocator; the parsed right geometries
+ * are kept on the heap until the index is closed.
+ */
+public class SpatialJoinIndex implements AutoCloseable {
+
+  // the grid has about as many cells as there are right geometries, up to this number per side
+  private static final int MAX_CELLS_PER_SIDE = 1024;
+  private static final int ENVELOPE_SIZE = 4 * 8;
+
+  private final SpatialPredicate<Object> predicate;
+  // whether the left geometry is the first argument of the predicate
+  private final boolean leftFirst;
+  private final double distance;
+  private final BufferAllocator allocator;
+
+  // the right geometries, their envelopes and their indexes in the hyper container, in the order they were added
+  private final List<Object> geometries = Lists.newArrayList();
+  private DrillBuf envelopes;
+  private DrillBuf compositeIndexes;
+  private int rightBatchIndex;
+  private double minX = Double.POSITIVE_INFINITY;
+  private double minY = Double.POSITIVE_INFINITY;
+  private double maxX = Double.NEGATIVE_INFINITY;
+  private double maxY = Double.NEGATIVE_INFINITY;
+
+  // the grid: the entries of cell i, the positions of its geometries, are at [cellStarts[i], cellStarts[i + 1])
+  private int cellsX;
+  private int cellsY;
+  private double cellWidth;
+  private double cellHeight;
+  private DrillBuf cellStarts;
+  private DrillBuf cellEntries;
+
+  private final double[] envelope = new double[4];
+  private int[] matches = new int[16];
+  private int matchCount;
+  private long candidatePairs;
+  private long matchingPairs;
+
+  @SuppressWarnings("unchecked")
+  public SpatialJoinIndex(SpatialPredicate<?> predicate, boolean leftFirst, double distance, BufferAllocator allocator) {
+    this.predicate = (SpatialPredicate<Object>) predicate;
+    this.leftFirst = leftFirst;
+    this.distance = distance;
+    this.allocator = allocator;
+    this.envelopes = allocator.buffer(ENVELOPE_SIZE * 256);
+    this.compositeIndexes = allocator.buffer(4 * 256);
+  }
+
+  /**
+   * Sets the index in the hyper container of the batch the next right geometries belong to.
+   */
+  public void startRightBatch(int batchIndex) {
+    this.rightBatchIndex = batchIndex;
+  }
+
+  /**
+   * Adds the geometry of a record of the current right batch; null and empty geometries never match.
+   */
+  public void addRightGeometry(int recordIndex, int isSet, DrillBuf buffer, int start, int end) {
+    if (isSet == 0) {
+      return;
+    }
+    final Object geometry = predicate.parse(buffer, start, end);
+    if (!predicate.getEnvelope(geometry, envelope)) {
+      return;
+    }
+    final int position = geometries.size();
+    envelopes = ensureCapacity(envelopes, (position + 1) * ENVELOPE_SIZE);
+    compositeIndexes = ensureCapacity(compositeIndexes, (position + 1) * 4);
+    for (int i = 0; i < 4; i++) {
+      envelopes.setDouble(position * ENVELOPE_SIZE + i * 8, envelope[i]);
+    }
+    compositeIndexes.setInt(position * 4, (rightBatchIndex << 16) | (recordIndex & 65535));
+    geometries.add(geometry);
+
+    minX = Math.min(minX, envelope[0]);
+    minY = Math.min(minY, envelope[1]);
+    maxX = Math.max(maxX, envelope[2]);
+    maxY = Math.max(maxY, envelope[3]);
+  }
+
+  /**
+   * Builds the grid once all the right geometries are added.
+   */
+  public void build() {
+    final int count = geometries.size();
+    final int cellsPerSide = (int) Math.min(MAX_CELLS_PER_SIDE, Math.max(1, Math.ceil(Math.sqrt(count))));
+    cellsX = maxX > minX ? cellsPerSide : 1;
+    cellsY = maxY > minY ? cellsPerSide : 1;
+    cellWidth = maxX > minX ? (maxX - minX) / cellsX : 1;
+    cellHeight = maxY > minY ? (maxY - minY) / cellsY : 1;
+    final int cells = cellsX * cellsY;
+
+    // count the entries of each cell, turn the counts into start positions, then file the entries
+    cellStarts = allocator.buffer(4 * (cells + 1));
+    cellStarts.setZero(0, 4 * (cells + 1));
+    int entries = 0;
+    for (int position = 0; position < count; position++) {
+      for (int y = cellY(envelopeAt(position, 1)); y <= cellY(envelopeAt(position, 3)); y++) {
+        for (int x = cellX(envelopeAt(position, 0)); x <= cellX(envelopeAt(position, 2)); x++) {
+          final int cell = y * cellsX + x;
+          cellStarts.setInt(4 * (cell + 1), cellStarts.getInt(4 * (cell + 1)) + 1);
+          entries++;
+        }
+      }
+    }
+    for (int cell = 0; cell < cells; cell++) {
+      cellStarts.setInt(4 * (cell + 1), cellStarts.getInt(4 * (cell + 1)) + cellStarts.getInt(4 * cell));
+    }
+
+    cellEntries = allocator.buffer(4 * Math.max(entries, 1));
+    // the next free entry of each cell
+    final DrillBuf cursors = allocator.buffer(4 * cells);
+    try {
+      cursors.setBytes(0, cellStarts, 0, 4 * cells);
+      for (int position = 0; position < count; position++) {
+        for (int y = cellY(envelopeAt(position, 1)); y <= cellY(envelopeAt(position, 3)); y++) {
+          for (int x = cellX(envelopeAt(position, 0)); x <= cellX(envelopeAt(position, 2)); x++) {
+            final int cell = y * cellsX + x;
+            final int next = cursors.getInt(4 * cell);
+            cellEntries.setInt(4 * next, position);
+            cursors.setInt(4 * cell, next + 1);
+          }
+        }
+      }
+    } finally {
+      cursors.release();
+    }
+  }
+
+  /**
+   * Finds the right records that match the given left geometry; they are then available through
+   * {@link #getMatch(int)}.
+   *
+   * @return the number of matching right records
+   */
+  public int probe(int isSet, DrillBuf buffer, int start, int end) {
+    matchCount = 0;
+    if (isSet == 0 || geometries.isEmpty()) {
+      return 0;
+    }
+    final Object geometry = predicate.parse(buffer, start, end);
+    if (!predicate.getEnvelope(geometry, envelope)) {
+      return 0;
+    }
+    final double xMin = envelope[0] - distance;
+    final double yMin = envelope[1] - distance;
+    final double xMax = envelope[2] + distance;
+    final double yMax = envelope[3] + distance;
+    if (xMax < minX || xMin > maxX || yMax < minY || yMin > maxY) {
+      return 0;
+    }
+
+    for (int y = cellY(yMin); y <= cellY(yMax); y++) {
+      for (int x = cellX(xMin); x <= cellX(xMax); x++) {
+        final int cell = y * cellsX + x;
+        final int cellEnd = cellStarts.getInt(4 * (cell + 1));
+        for (int entry = cellStarts.getInt(4 * cell); entry < cellEnd; entry++) {
+          final int position = cellEntries.getInt(4 * entry);
+          final double rightXMin = envelopeAt(position, 0);
+          final double rightYMin = envelopeAt(position, 1);
+          // the distance between the envelopes is a lower bound of the distance between the geometries
+          final double dx = Math.max(0, Math.max(rightXMin - envelope[2], envelope[0] - envelopeAt(position, 2)));
+          final double dy = Math.max(0, Math.max(rightYMin - envelope[3], envelope[1] - envelopeAt(position, 3)));
+          if (dx > distance || dy > distance || dx * dx + dy * dy > distance * distance) {
+            continue;
+          }
+          if (cellX(Math.max(xMin, rightXMin)) != x || cellY(Math.max(yMin, rightYMin)) != y) {
+            // the pair is tested in another cell
+            continue;
+          }
+          candidatePairs++;
+          final Object rightGeometry = geometries.get(position);
+          final boolean match = leftFirst
+              ? predicate.evaluate(geometry, rightGeometry, distance)
+              : predicate.evaluate(rightGeometry, geometry, distance);
+          if (match) {
+            if (matchCount == matches.length) {
+              final int[] newMatches = new int[matches.length * 2];
+              System.arraycopy(matches, 0, newMatches, 0, matchCount);
+              matches = newMatches;
+            }
+            matches[matchCount++] = compositeIndexes.getInt(4 * position);
+          }
+        }
+      }
+    }
+    matchingPairs += matchCount;
+    return matchCount;
+  }
+
+  /**
+   * @return the number of right records matching the last probed geometry
+   */
+  public int getMatchCount() {
+    return matchCount;
+  }
+
+  /**
+   * @return the index in the hyper container (batch index in the upper 16 bits, record index in the
+   *         lower 16 bits) of a right record matching the last probed geometry
+   */
+  public int getMatch(int i) {
+    return matches[i];
+  }
+
+  /**
+   * @return the number of pairs whose envelopes were close enough for the predicate to be evaluated
+   */
+  public long getCandidatePairs() {
+    return candidatePairs;
+  }
+
+  /**
+   * @return the number of pairs the predicate holds for
+   */
+  public long getMatchingPairs() {
+    return matchingPairs;
+  }
+
+  /**
+   * @return the number of right geometries in the index
+   */
+  public int getGeometryCount() {
+    return geometries.size();
+  }
+
+  private double envelopeAt(int position, int coordinate) {
+    return envelopes.getDouble(position * ENVELOPE_SIZE + coordinate * 8);
+  }
+
+  private int cellX(double x) {
+    return cell(x, minX, cellWidth, cellsX);
+  }
+
+  private int cellY(double y) {
+    return cell(y, minY, cellHeight, cellsY);
+  }
+
+  private static int cell(double value, double min, double size, int cells) {
+    if (!(value > min)) {
+      return 0;
+    }
+    return (int) Math.min(cells - 1, (value - min) / size);
+  }
+
+  private DrillBuf ensureCapacity(DrillBuf buffer, int size) {
+    if (buffer.capacity() >= size) {
+      return buffer;
+    }
+    final DrillBuf newBuffer = allocator.buffer(Math.max(size, buffer.capacity() * 2));
+    newBuffer.setBytes(0, buffer, 0, buffer.capacity());
+    buffer.release();
+    return newBuffer;
+  }
+
+  @Override
+  public void close() {
+    geometries.clear();
+    for (DrillBuf buffer : new DrillBuf[] {envelopes, compositeIndexes, cellStarts, cellEntries}) {
+      if (buffer != null) {
+        buffer.release();
+      }
+    }
+    envelopes = compositeIndexes = cellStarts = cellEntries = null;
+  }
+}
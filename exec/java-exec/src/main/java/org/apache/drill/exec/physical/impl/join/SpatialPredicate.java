@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.physical.impl.join;
+
+import io.netty.buffer.DrillBuf;
+
+/**
+ * A spatial function, such as ST_DWithin, that the nested loop join can evaluate through a
+ * {@link SpatialJoinIndex} on the geometries of its right input. Implementations are found by
+ * classpath scanning, and come with the modules that implement the spatial functions; they must
+ * have a public no-argument constructor.
+ * <p>
+ * The function takes two geometries, and optionally a constant distance as third argument. It may
+ * only hold for a pair of geometries whose envelopes are at most that distance apart (or intersect,
+ * when it has no distance), and never holds when a geometry is empty.
+ *
+ * @param <G> the type of the parsed geometries
+ */
+public interface SpatialPredicate<G> {
+
+  /**
+   * @return the name of the function, as used in queries
+   */
+  String getName();
+
+  /**
+   * Parses a geometry from its serialized (binary) value.
+   */
+  G parse(DrillBuf buffer, int start, int end);
+
+  /**
+   * Stores the envelope of the given geometry in the given array, as its minimum x, minimum y,
+   * maximum x and maximum y.
+   *
+   * @return false if the geometry is empty
+   */
+  boolean getEnvelope(G geometry, double[] envelope);
+
+  /**
+   * Evaluates the function.
+   *
+   * @param distance the distance argument, 0 if the function has none
+   */
+  boolean evaluate(G geometry1, G geometry2, double distance);
+}
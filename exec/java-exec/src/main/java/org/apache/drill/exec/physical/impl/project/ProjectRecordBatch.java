@@ -341,7 +341,9 @@ public class ProjectRecordBatch extends AbstractSingleRecordBatch<Project> {
         if (result.isStar) {
           // The value indicates which wildcard we are processing now
           final Integer value = result.prefixMap.get(result.prefix);
-          if (value != null && value.intValue() == 1) {
+          // vectors behind a selection vector can not be transferred, since only the selected records are kept
+          final boolean canTransfer = incoming.getSchema().getSelectionVectorMode() == SelectionVectorMode.NONE;
+          if (value != null && value.intValue() == 1 && canTransfer) {
             int k = 0;
             for (final VectorWrapper<?> wrapper : incoming) {
               final ValueVector vvIn = wrapper.getValueVector();
@@ -362,7 +364,7 @@ public class ProjectRecordBatch extends AbstractSingleRecordBatch<Project> {
               final TransferPair tp = vvIn.makeTransferPair(vvOut);
               transfers.add(tp);
             }
-          } else if (value != null && value.intValue() > 1) { // subsequent wildcards should do a copy of incoming valuevectors
+          } else if (value != null && (value.intValue() > 1 || !canTransfer)) { // subsequent wildcards should do a copy of incoming valuevectors
             int k = 0;
             for (final VectorWrapper<?> wrapper : incoming) {
               final ValueVector vvIn = wrapper.getValueVector();
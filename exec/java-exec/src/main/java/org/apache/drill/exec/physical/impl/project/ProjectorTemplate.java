@@ -50,7 +50,7 @@ public abstract class ProjectorTemplate implements Projector {
 
     case TWO_BYTE:
       final int count = recordCount;
-      for (int i = 0; i < count; i++, firstOutputIndex++) {
+      for (int i = startIndex; i < startIndex + count; i++, firstOutputIndex++) {
         try {
           doEval(vector2.getIndex(i), firstOutputIndex);
         } catch (SchemaChangeException e) {
@@ -227,6 +227,17 @@ public class SortImpl {
     return true;
   }
 
+  /**
+   * Spill all the buffered batches, even a single one, so that the merge is done
+   * from the spilled runs and delivers flat batches rather than an SV4.
+   */
+
+  public void spillAll() {
+    while (bufferedBatches.size() > 0) {
+      spillFromMemory();
+    }
+  }
+
   /**
    * Process the converted incoming batch by adding it to the in-memory store
    * of data, or spilling data to disk when necessary.
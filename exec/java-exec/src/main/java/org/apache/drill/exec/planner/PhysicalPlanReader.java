@@ -18,10 +18,15 @@
 package org.apache.drill.exec.planner;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 import org.apache.drill.common.config.DrillConfig;
 import org.apache.drill.common.config.LogicalPlanPersistence;
+import org.apache.drill.common.expression.LogicalExpression;
+import org.apache.drill.common.expression.visitors.ParameterBinder;
 import org.apache.drill.common.logical.LogicalPlan;
 import org.apache.drill.common.scanner.persistence.ScanResult;
 import org.apache.drill.common.types.TypeProtos.MajorType;
@@ -31,6 +36,8 @@ import org.apache.drill.exec.physical.base.FragmentLeaf;
 import org.apache.drill.exec.physical.base.FragmentRoot;
 import org.apache.drill.exec.physical.base.PhysicalOperator;
 import org.apache.drill.exec.physical.base.PhysicalOperatorUtil;
+import org.apache.drill.exec.planner.fragment.FragmentPlanCodec;
+import org.apache.drill.exec.proto.BitControl.PlanFragment;
 import org.apache.drill.exec.proto.CoordinationProtos.DrillbitEndpoint;
 import org.apache.drill.exec.record.MajorTypeSerDe;
 import org.apache.drill.exec.server.options.OptionList;
@@ -38,18 +45,40 @@ import org.apache.drill.exec.store.StoragePluginRegistry;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.InjectableValues;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 public class PhysicalPlanReader {
   static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(PhysicalPlanReader.class);
 
+  /**
+   * Number of distinct fragment option lists kept parsed, see {@link #readFragmentOptions(String)}.
+   */
+  private static final int FRAGMENT_OPTIONS_CACHE_SIZE = 100;
+
   private final ObjectReader physicalPlanReader;
   private final ObjectMapper mapper;
-  private final ObjectReader operatorReader;
   private final ObjectReader logicalPlanReader;
 
+  // plan fragments are sent to every Drillbit running them, they are written without indentation and
+  // (de)serialized with Afterburner, which replaces reflection with generated accessors
+  private final ObjectMapper fragmentMapper;
+  private final ObjectWriter fragmentWriter;
+  private final ObjectReader fragmentReader;
+  private final ObjectReader fragmentOptionsReader;
+  private final Cache<String, OptionList> fragmentOptions = CacheBuilder.newBuilder()
+      .maximumSize(FRAGMENT_OPTIONS_CACHE_SIZE)
+      .build();
+
   public PhysicalPlanReader(DrillConfig config, ScanResult scanResult, LogicalPlanPersistence lpPersistance, final DrillbitEndpoint endpoint,
                             final StoragePluginRegistry pluginRegistry) {
 
@@ -72,16 +101,51 @@ public class PhysicalPlanReader {
 
     this.mapper = lpMapper;
     this.physicalPlanReader = mapper.reader(PhysicalPlan.class).with(injectables);
-    this.operatorReader = mapper.reader(PhysicalOperator.class).with(injectables);
     this.logicalPlanReader = mapper.reader(LogicalPlan.class).with(injectables);
+
+    this.fragmentMapper = lpMapper.copy()
+        .registerModule(new AfterburnerModule())
+        .disable(SerializationFeature.INDENT_OUTPUT);
+    this.fragmentWriter = fragmentMapper.writer();
+    this.fragmentReader = fragmentMapper.reader(PhysicalOperator.class).with(injectables);
+    this.fragmentOptionsReader = fragmentMapper.reader(OptionList.class);
   }
 
   public String writeJson(OptionList list) throws JsonProcessingException{
-    return mapper.writeValueAsString(list);
+    return fragmentWriter.writeValueAsString(list);
   }
 
   public String writeJson(PhysicalOperator op) throws JsonProcessingException{
-    return mapper.writeValueAsString(op);
+    return fragmentWriter.writeValueAsString(op);
+  }
+
+  /**
+   * Writes an operator tree as a Jackson tree, to be sent in binary form, see {@link FragmentPlanCodec}.
+   */
+  public JsonNode writeTree(PhysicalOperator op) throws IOException {
+    final TokenBuffer buffer = new TokenBuffer(fragmentMapper, false);
+    fragmentWriter.writeValue(buffer, op);
+    return fragmentMapper.readTree(buffer.asParser());
+  }
+
+  /**
+   * Reads the options of a plan fragment. All the fragments of a query share the same options, so the
+   * options are only parsed once for the fragments of a query run on this Drillbit.
+   *
+   * @return the options, which must not be modified since they are shared
+   */
+  public OptionList readFragmentOptions(final String json) throws IOException {
+    try {
+      return fragmentOptions.get(json, new Callable<OptionList>() {
+        @Override
+        public OptionList call() throws IOException {
+          return fragmentOptionsReader.readValue(json);
+        }
+      });
+    } catch (ExecutionException e) {
+      Throwables.propagateIfInstanceOf(e.getCause(), IOException.class);
+      throw Throwables.propagate(e.getCause());
+    }
   }
 
   public PhysicalPlan readPhysicalPlan(String json) throws JsonProcessingException, IOException {
@@ -89,9 +153,46 @@ public class PhysicalPlanReader {
     return physicalPlanReader.readValue(json);
   }
 
+  /**
+   * Reads the physical plan of a prepared statement, and binds the values of its parameters into its
+   * expressions.
+   *
+   * @param parameters the values of the parameters, in order, as literal (or null) expressions
+   */
+  public PhysicalPlan readPhysicalPlan(String json, List<LogicalExpression> parameters) throws IOException {
+    logger.debug("Reading physical plan {}", json);
+    return physicalPlanReader.withAttribute(ParameterBinder.ATTRIBUTE, new ParameterBinder(parameters))
+        .readValue(json);
+  }
+
   public FragmentRoot readFragmentOperator(String json) throws JsonProcessingException, IOException {
     logger.debug("Attempting to read {}", json);
-    PhysicalOperator op = operatorReader.readValue(json);
+    PhysicalOperator op = fragmentReader.readValue(json);
+    return toFragmentRoot(op);
+  }
+
+  /**
+   * Reads the operator tree of a fragment, whether it is sent in JSON or in binary form.
+   */
+  public FragmentRoot readFragmentOperator(PlanFragment fragment) throws IOException {
+    return readFragmentOperator(fragment, null);
+  }
+
+  /**
+   * Reads the operator tree of a fragment, whether it is sent in JSON, in binary form or as a delta of the
+   * shared plan of its major fragment.
+   *
+   * @param sharedPlan the shared plan of the major fragment, see {@link FragmentPlanCodec#getSharedPlans}
+   */
+  public FragmentRoot readFragmentOperator(PlanFragment fragment, JsonNode sharedPlan) throws IOException {
+    if (fragment.hasFragmentJson()) {
+      return readFragmentOperator(fragment.getFragmentJson());
+    }
+    PhysicalOperator op = fragmentReader.readValue(FragmentPlanCodec.getTree(fragment, sharedPlan));
+    return toFragmentRoot(op);
+  }
+
+  private static FragmentRoot toFragmentRoot(PhysicalOperator op) {
     if(op instanceof FragmentLeaf){
       return (FragmentRoot) op;
     }else{
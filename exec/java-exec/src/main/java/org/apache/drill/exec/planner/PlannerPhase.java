@@ -50,6 +50,7 @@ import org.apache.drill.exec.planner.logical.DrillMergeProjectRule;
 import org.apache.drill.exec.planner.logical.DrillProjectRule;
 import org.apache.drill.exec.planner.logical.DrillPushFilterPastProjectRule;
 import org.apache.drill.exec.planner.logical.DrillPushLimitToScanRule;
+import org.apache.drill.exec.planner.logical.DrillPushTopNToScanRule;
 import org.apache.drill.exec.planner.logical.DrillPushProjIntoScan;
 import org.apache.drill.exec.planner.logical.DrillPushProjectPastFilterRule;
 import org.apache.drill.exec.planner.logical.DrillPushProjectPastJoinRule;
@@ -347,7 +348,9 @@ public enum PlannerPhase {
             ParquetPruneScanRule.getFilterOnProjectParquet(optimizerRulesContext),
             ParquetPruneScanRule.getFilterOnScanParquet(optimizerRulesContext),
             DrillPushLimitToScanRule.LIMIT_ON_SCAN,
-            DrillPushLimitToScanRule.LIMIT_ON_PROJECT
+            DrillPushLimitToScanRule.LIMIT_ON_PROJECT,
+            DrillPushTopNToScanRule.LIMIT_ON_SORT_ON_SCAN,
+            DrillPushTopNToScanRule.LIMIT_ON_SORT_ON_PROJECT
         )
         .build();
 
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.planner.fragment;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.drill.exec.proto.BitControl.InitializeFragments;
+import org.apache.drill.exec.proto.BitControl.MajorFragmentPlan;
+import org.apache.drill.exec.proto.BitControl.PlanFragment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.protobuf.ByteString;
+
+/**
+ * Binary form of the operator trees of plan fragments.
+ * <p>
+ * An operator tree is written as its Jackson tree (the tree of its JSON form) in the Smile binary format, which
+ * keeps the names of the fields and the repeated strings only once. The minor fragments of a major fragment only
+ * differ in a few places of their trees, such as the entries of scans or the endpoints of exchanges. So the tree
+ * of the first one is sent once to each Drillbit as the shared plan of the major fragment, and each minor fragment
+ * only carries a delta, the changes that turn the shared plan into its own tree.
+ * <p>
+ * A delta is an array of changes, each one replaces the node at a path (of field names and array indexes) of the
+ * shared plan with a value.
+ */
+public class FragmentPlanCodec {
+  static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(FragmentPlanCodec.class);
+
+  private static final String PATH = "path";
+  private static final String VALUE = "value";
+
+  private static final ObjectMapper SMILE_MAPPER =
+      new ObjectMapper(new SmileFactory().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES));
+  private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+  private FragmentPlanCodec() {
+  }
+
+  /**
+   * @return the binary form of the given tree
+   */
+  public static ByteString encode(JsonNode tree) throws IOException {
+    final ByteString.Output output = ByteString.newOutput();
+    SMILE_MAPPER.writeValue(output, tree);
+    return output.toByteString();
+  }
+
+  /**
+   * @return the tree of the given binary form
+   */
+  public static JsonNode decode(ByteString data) throws IOException {
+    return SMILE_MAPPER.readTree(data.newInput());
+  }
+
+  /**
+   * @return the changes that turn the shared tree into the given one, empty if they are the same
+   */
+  public static JsonNode diff(JsonNode shared, JsonNode tree) {
+    final ArrayNode delta = JsonNodeFactory.instance.arrayNode();
+    diff(shared, tree, Lists.<JsonNode>newArrayList(), delta);
+    return delta;
+  }
+
+  private static void diff(JsonNode shared, JsonNode tree, List<JsonNode> path, ArrayNode delta) {
+    if (shared.isObject() && tree.isObject() && sameFields(shared, tree)) {
+      final Iterator<Map.Entry<String, JsonNode>> fields = tree.fields();
+      while (fields.hasNext()) {
+        final Map.Entry<String, JsonNode> field = fields.next();
+        path.add(TextNode.valueOf(field.getKey()));
+        diff(shared.get(field.getKey()), field.getValue(), path, delta);
+        path.remove(path.size() - 1);
+      }
+    } else if (shared.isArray() && tree.isArray() && shared.size() == tree.size()) {
+      for (int i = 0; i < tree.size(); i++) {
+        path.add(IntNode.valueOf(i));
+        diff(shared.get(i), tree.get(i), path, delta);
+        path.remove(path.size() - 1);
+      }
+    } else if (!shared.equals(tree)) {
+      final ObjectNode change = delta.addObject();
+      change.putArray(PATH).addAll(path);
+      change.set(VALUE, tree);
+    }
+  }
+
+  private static boolean sameFields(JsonNode shared, JsonNode tree) {
+    if (shared.size() != tree.size()) {
+      return false;
+    }
+    final Iterator<String> names = tree.fieldNames();
+    while (names.hasNext()) {
+      if (!shared.has(names.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Applies a delta to a shared tree. The shared tree is not modified: only the nodes along the paths of the
+   * changes are copied, the other ones are shared with the returned tree.
+   *
+   * @return the tree of the minor fragment
+   */
+  public static JsonNode apply(JsonNode shared, JsonNode delta) {
+    final Set<JsonNode> copies = Sets.newIdentityHashSet();
+    JsonNode tree = shared;
+    for (JsonNode change : delta) {
+      final JsonNode path = change.get(PATH);
+      final JsonNode value = change.get(VALUE);
+      if (path.size() == 0) {
+        tree = value;
+        continue;
+      }
+      tree = copy(tree, copies);
+      JsonNode parent = tree;
+      for (int i = 0; i < path.size() - 1; i++) {
+        final JsonNode child = copy(get(parent, path.get(i)), copies);
+        set(parent, path.get(i), child);
+        parent = child;
+      }
+      set(parent, path.get(path.size() - 1), value);
+    }
+    return tree;
+  }
+
+  private static JsonNode copy(JsonNode node, Set<JsonNode> copies) {
+    if (copies.contains(node)) {
+      return node;
+    }
+    final JsonNode copy;
+    if (node.isObject()) {
+      copy = JsonNodeFactory.instance.objectNode().setAll((ObjectNode) node);
+    } else if (node.isArray()) {
+      copy = JsonNodeFactory.instance.arrayNode().addAll((ArrayNode) node);
+    } else {
+      throw new IllegalArgumentException("The delta does not match the shared plan.");
+    }
+    copies.add(copy);
+    return copy;
+  }
+
+  private static JsonNode get(JsonNode parent, JsonNode element) {
+    final JsonNode child = element.isInt() ? parent.get(element.intValue()) : parent.get(element.textValue());
+    if (child == null) {
+      throw new IllegalArgumentException("The delta does not match the shared plan.");
+    }
+    return child;
+  }
+
+  private static void set(JsonNode parent, JsonNode element, JsonNode value) {
+    if (element.isInt()) {
+      ((ArrayNode) parent).set(element.intValue(), value);
+    } else {
+      ((ObjectNode) parent).set(element.textValue(), value);
+    }
+  }
+
+  /**
+   * Returns the tree of the operators of a fragment sent with a binary plan or a delta.
+   *
+   * @param sharedPlan the shared plan of the major fragment, needed if the fragment has a delta
+   */
+  public static JsonNode getTree(PlanFragment fragment, JsonNode sharedPlan) throws IOException {
+    if (fragment.hasFragmentPlanDelta()) {
+      if (sharedPlan == null) {
+        throw new IOException(String.format("No shared plan for major fragment %d.",
+            fragment.getHandle().getMajorFragmentId()));
+      }
+      return apply(sharedPlan, decode(fragment.getFragmentPlanDelta()));
+    }
+    return decode(fragment.getFragmentPlan());
+  }
+
+  /**
+   * @return the JSON form of the operator tree of a fragment, whatever the form it was sent in
+   */
+  public static String toJson(PlanFragment fragment, JsonNode sharedPlan) throws IOException {
+    if (fragment.hasFragmentJson()) {
+      return fragment.getFragmentJson();
+    }
+    return JSON_MAPPER.writeValueAsString(getTree(fragment, sharedPlan));
+  }
+
+  /**
+   * Decodes the shared plans of a message.
+   *
+   * @return the shared plans, by major fragment id
+   */
+  public static Map<Integer, JsonNode> getSharedPlans(InitializeFragments fragments) throws IOException {
+    final Map<Integer, JsonNode> sharedPlans = Maps.newHashMap();
+    for (MajorFragmentPlan plan : fragments.getSharedPlanList()) {
+      sharedPlans.put(plan.getMajorFragmentId(), decode(plan.getFragmentPlan()));
+    }
+    return sharedPlans;
+  }
+
+  /**
+   * Rewrites the fragments of a message with their operator trees in JSON, for Drillbits that do not support
+   * binary plans.
+   */
+  public static InitializeFragments toJson(InitializeFragments fragments) throws IOException {
+    final Map<Integer, JsonNode> sharedPlans = getSharedPlans(fragments);
+    final InitializeFragments.Builder builder = InitializeFragments.newBuilder();
+    for (PlanFragment fragment : fragments.getFragmentList()) {
+      if (fragment.hasFragmentJson()) {
+        builder.addFragment(fragment);
+        continue;
+      }
+      builder.addFragment(PlanFragment.newBuilder(fragment)
+          .clearFragmentPlan()
+          .clearFragmentPlanDelta()
+          .setFragmentJson(toJson(fragment, sharedPlans.get(fragment.getHandle().getMajorFragmentId()))));
+    }
+    return builder.build();
+  }
+}
@@ -17,9 +17,11 @@
  */
 package org.apache.drill.exec.planner.fragment;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.drill.common.exceptions.ExecutionSetupException;
@@ -37,6 +39,7 @@ import org.apache.drill.exec.planner.PhysicalPlanReader;
 import org.apache.drill.exec.planner.fragment.Fragment.ExchangeFragmentPair;
 import org.apache.drill.exec.planner.fragment.Materializer.IndexedFragmentNode;
 import org.apache.drill.exec.proto.BitControl.Collector;
+import org.apache.drill.exec.proto.BitControl.MajorFragmentPlan;
 import org.apache.drill.exec.proto.BitControl.PlanFragment;
 import org.apache.drill.exec.proto.BitControl.QueryContextInformation;
 import org.apache.drill.exec.proto.CoordinationProtos.DrillbitEndpoint;
@@ -49,9 +52,11 @@ import org.apache.drill.exec.work.QueryWorkUnit;
 import org.apache.drill.exec.work.foreman.ForemanSetupException;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
 /**
@@ -128,6 +133,25 @@ public class SimpleParallelizer implements ParallelizationParameters {
         options, foremanNode, queryId, reader, rootFragment, planningSet, session, queryContextInfo);
   }
 
+  /**
+   * Generates the only fragment of a plan without exchanges, to be run by the Foreman itself. The fragment
+   * is not sent to any other Drillbit, so neither its operator tree nor the options are serialized: the
+   * Foreman runs the returned root operator, with the options of the query.
+   *
+   * @see #getFragments(OptionList, DrillbitEndpoint, QueryId, Collection, PhysicalPlanReader, Fragment,
+   *      UserSession, QueryContextInformation)
+   */
+  public QueryWorkUnit getLocalFragment(DrillbitEndpoint foremanNode, QueryId queryId,
+      Collection<DrillbitEndpoint> activeEndpoints, Fragment rootFragment, UserSession session,
+      QueryContextInformation queryContextInfo) throws ExecutionSetupException {
+    Preconditions.checkArgument(rootFragment.getReceivingExchangePairs().isEmpty(),
+        "Only plans without exchanges run as a single local fragment.");
+
+    final PlanningSet planningSet = getFragmentsHelper(activeEndpoints, rootFragment);
+    return generateWorkUnit(
+        null, foremanNode, queryId, null, rootFragment, planningSet, session, queryContextInfo);
+  }
+
   /**
    * Create multiple physical plans from original query planning, it will allow execute them eventually independently
    * @param options
@@ -253,14 +277,33 @@ public class SimpleParallelizer implements ParallelizationParameters {
         .parallelizeFragment(fragmentWrapper, this, activeEndpoints);
   }
 
+  /**
+   * Whether the generated fragments carry their operator trees in binary form, the fragments of a major fragment
+   * being deltas of its shared plan (see {@link FragmentPlanCodec}), rather than in JSON.
+   */
+  protected boolean writesBinaryPlans() {
+    return true;
+  }
+
   protected QueryWorkUnit generateWorkUnit(OptionList options, DrillbitEndpoint foremanNode, QueryId queryId,
       PhysicalPlanReader reader, Fragment rootNode, PlanningSet planningSet,
       UserSession session, QueryContextInformation queryContextInfo) throws ExecutionSetupException {
     List<PlanFragment> fragments = Lists.newArrayList();
+    Map<Integer, MajorFragmentPlan> sharedPlans = Maps.newHashMap();
 
     PlanFragment rootFragment = null;
     FragmentRoot rootOperator = null;
 
+    // the options are the same for all the fragments, they are only serialized once
+    String optionsData = null;
+    if (reader != null) {
+      try {
+        optionsData = reader.writeJson(options);
+      } catch (JsonProcessingException e) {
+        throw new ForemanSetupException("Failure while trying to convert fragment options into json.", e);
+      }
+    }
+
     // now we generate all the individual plan fragments and associated assignments. Note, we need all endpoints
     // assigned before we can materialize, so we start a new loop here rather than utilizing the previous one.
     for (Wrapper wrapper : planningSet) {
@@ -275,6 +318,8 @@ public class SimpleParallelizer implements ParallelizationParameters {
       }
       // a fragment is self driven if it doesn't rely on any other exchanges.
       boolean isLeafFragment = node.getReceivingExchangePairs().size() == 0;
+      // the tree of the first minor fragment, shared by the other ones which only carry their differences
+      JsonNode sharedPlan = null;
 
       // Create a minorFragment for each major fragment.
       for (int minorFragmentId = 0; minorFragmentId < wrapper.getWidth(); minorFragmentId++) {
@@ -284,16 +329,6 @@ public class SimpleParallelizer implements ParallelizationParameters {
         Preconditions.checkArgument(op instanceof FragmentRoot);
         FragmentRoot root = (FragmentRoot) op;
 
-        // get plan as JSON
-        String plan;
-        String optionsData;
-        try {
-          plan = reader.writeJson(root);
-          optionsData = reader.writeJson(options);
-        } catch (JsonProcessingException e) {
-          throw new ForemanSetupException("Failure while trying to convert fragment into json.", e);
-        }
-
         FragmentHandle handle = FragmentHandle //
             .newBuilder() //
             .setMajorFragmentId(wrapper.getMajorFragmentId()) //
@@ -301,19 +336,46 @@ public class SimpleParallelizer implements ParallelizationParameters {
             .setQueryId(queryId) //
             .build();
 
-        PlanFragment fragment = PlanFragment.newBuilder() //
+        PlanFragment.Builder fragmentBuilder = PlanFragment.newBuilder() //
             .setForeman(foremanNode) //
-            .setFragmentJson(plan) //
             .setHandle(handle) //
             .setAssignment(wrapper.getAssignedEndpoint(minorFragmentId)) //
             .setLeafFragment(isLeafFragment) //
             .setContext(queryContextInfo)
             .setMemInitial(wrapper.getInitialAllocation())//
             .setMemMax(wrapper.getMaxAllocation())
-            .setOptionsJson(optionsData)
             .setCredentials(session.getCredentials())
-            .addAllCollector(CountRequiredFragments.getCollectors(root))
-            .build();
+            .addAllCollector(CountRequiredFragments.getCollectors(root));
+
+        // get the plan, unless the fragment is only run locally (no reader given)
+        if (reader != null && writesBinaryPlans()) {
+          try {
+            final JsonNode plan = reader.writeTree(root);
+            if (isRootNode) {
+              fragmentBuilder.setFragmentPlan(FragmentPlanCodec.encode(plan));
+            } else {
+              if (sharedPlan == null) {
+                sharedPlan = plan;
+                sharedPlans.put(wrapper.getMajorFragmentId(), MajorFragmentPlan.newBuilder()
+                    .setMajorFragmentId(wrapper.getMajorFragmentId())
+                    .setFragmentPlan(FragmentPlanCodec.encode(plan))
+                    .build());
+              }
+              fragmentBuilder.setFragmentPlanDelta(FragmentPlanCodec.encode(FragmentPlanCodec.diff(sharedPlan, plan)));
+            }
+            fragmentBuilder.setOptionsJson(optionsData);
+          } catch (IOException e) {
+            throw new ForemanSetupException("Failure while trying to convert fragment into binary form.", e);
+          }
+        } else if (reader != null) {
+          try {
+            fragmentBuilder.setFragmentJson(reader.writeJson(root));
+            fragmentBuilder.setOptionsJson(optionsData);
+          } catch (JsonProcessingException e) {
+            throw new ForemanSetupException("Failure while trying to convert fragment into json.", e);
+          }
+        }
+        PlanFragment fragment = fragmentBuilder.build();
 
         if (isRootNode) {
           if (logger.isDebugEnabled()) {
@@ -330,7 +392,7 @@ public class SimpleParallelizer implements ParallelizationParameters {
       }
     }
 
-    return new QueryWorkUnit(rootOperator, rootFragment, fragments);
+    return new QueryWorkUnit(rootOperator, rootFragment, fragments, sharedPlans);
   }
 
 
@@ -64,6 +64,14 @@ public class SplittingParallelizer extends SimpleParallelizer {
     super(context);
   }
 
+  /**
+   * The fragments are returned to planning-only clients, which read their operator trees in JSON.
+   */
+  @Override
+  protected boolean writesBinaryPlans() {
+    return false;
+  }
+
   /**
    * Create multiple physical plans from original query planning, it will allow execute them eventually independently
    * @param options
@@ -35,11 +35,13 @@ import org.apache.drill.common.expression.SchemaPath;
 import org.apache.drill.common.expression.TypedNullConstant;
 import org.apache.drill.common.expression.ValueExpressions;
 import org.apache.drill.common.expression.ValueExpressions.QuotedString;
+import org.apache.drill.common.expression.visitors.ParameterBinder;
 import org.apache.drill.common.types.TypeProtos;
 import org.apache.drill.common.types.TypeProtos.MajorType;
 import org.apache.drill.common.types.TypeProtos.MinorType;
 import org.apache.drill.common.types.Types;
 import org.apache.drill.exec.planner.StarColumnHelper;
+import org.apache.drill.exec.planner.sql.TypeInferenceUtils;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.type.RelDataTypeField;
 import org.apache.calcite.rex.RexBuilder;
@@ -279,7 +281,23 @@ public class DrillOptiq {
 
     @Override
     public LogicalExpression visitDynamicParam(RexDynamicParam dynamicParam) {
-      return doUnknown(dynamicParam);
+      // the value is bound when the plan is read for an execution, see ParameterBinder
+      final LogicalExpression placeholder = ParameterBinder.parameter(dynamicParam.getIndex());
+      final MinorType type = TypeInferenceUtils.getDrillTypeFromCalciteType(dynamicParam.getType());
+      switch (type) {
+      case INT:
+      case BIGINT:
+      case FLOAT4:
+      case FLOAT8:
+      case BIT:
+      case DATE:
+      case TIME:
+      case TIMESTAMP:
+        return FunctionCallFactory.createCast(Types.required(type), ExpressionPosition.UNKNOWN, placeholder);
+      default:
+        // character and untyped parameters keep the type of their value, and are implicitly cast where compared
+        return placeholder;
+      }
     }
 
     @Override
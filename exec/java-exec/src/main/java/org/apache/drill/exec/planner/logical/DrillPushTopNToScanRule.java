@@ -0,0 +1,141 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.planner.logical;
+
+import com.google.common.collect.ImmutableList;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptRuleOperand;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.drill.common.expression.SchemaPath;
+import org.apache.drill.exec.physical.base.GroupScan;
+import org.apache.drill.exec.store.parquet.ParquetGroupScan;
+
+/**
+ * Prunes the files of a parquet scan below an "ORDER BY column LIMIT n": the row group
+ * statistics of the first sort key tell which files hold values that can make it into
+ * the first n rows, see {@link ParquetGroupScan#applyOrderedLimit}.
+ * The sort and limit remain in the plan; only the scan reads fewer files.
+ */
+public abstract class DrillPushTopNToScanRule extends RelOptRule {
+  static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(DrillPushTopNToScanRule.class);
+
+  private DrillPushTopNToScanRule(RelOptRuleOperand operand, String description) {
+    super(operand, description);
+  }
+
+  public static DrillPushTopNToScanRule LIMIT_ON_SORT_ON_SCAN = new DrillPushTopNToScanRule(
+      RelOptHelper.some(DrillLimitRel.class, RelOptHelper.some(DrillSortRel.class, RelOptHelper.any(DrillScanRel.class))),
+      "DrillPushTopNToScanRule_LimitOnSortOnScan") {
+    @Override
+    public boolean matches(RelOptRuleCall call) {
+      DrillLimitRel limitRel = call.rel(0);
+      DrillScanRel scanRel = call.rel(2);
+      return isApplicable(limitRel, scanRel);
+    }
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+      DrillLimitRel limitRel = call.rel(0);
+      DrillSortRel sortRel = call.rel(1);
+      DrillScanRel scanRel = call.rel(2);
+      doOnMatch(call, limitRel, sortRel, scanRel, null);
+    }
+  };
+
+  public static DrillPushTopNToScanRule LIMIT_ON_SORT_ON_PROJECT = new DrillPushTopNToScanRule(
+      RelOptHelper.some(DrillLimitRel.class, RelOptHelper.some(DrillSortRel.class,
+          RelOptHelper.some(DrillProjectRel.class, RelOptHelper.any(DrillScanRel.class)))),
+      "DrillPushTopNToScanRule_LimitOnSortOnProject") {
+    @Override
+    public boolean matches(RelOptRuleCall call) {
+      DrillLimitRel limitRel = call.rel(0);
+      DrillScanRel scanRel = call.rel(3);
+      return isApplicable(limitRel, scanRel);
+    }
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+      DrillLimitRel limitRel = call.rel(0);
+      DrillSortRel sortRel = call.rel(1);
+      DrillProjectRel projectRel = call.rel(2);
+      DrillScanRel scanRel = call.rel(3);
+      doOnMatch(call, limitRel, sortRel, scanRel, projectRel);
+    }
+  };
+
+  private static boolean isApplicable(DrillLimitRel limitRel, DrillScanRel scanRel) {
+    // For now only applies to Parquet, and only when the number of rows is bounded.
+    return scanRel.getGroupScan() instanceof ParquetGroupScan && limitRel.getFetch() != null;
+  }
+
+  protected void doOnMatch(RelOptRuleCall call, DrillLimitRel limitRel, DrillSortRel sortRel, DrillScanRel scanRel,
+                           DrillProjectRel projectRel) {
+    try {
+      if (sortRel.getCollation().getFieldCollations().isEmpty()) {
+        return;
+      }
+      final RelFieldCollation collation = sortRel.getCollation().getFieldCollations().get(0);
+
+      int index = collation.getFieldIndex();
+      if (projectRel != null) {
+        // only when the sort key is a RexInputRef in the Project, we find the index of Scan's field.
+        final RexNode expr = projectRel.getProjects().get(index);
+        if (!(expr instanceof RexInputRef)) {
+          return;
+        }
+        index = ((RexInputRef) expr).getIndex();
+      }
+      final SchemaPath column = SchemaPath.getSimplePath(scanRel.getRowType().getFieldNames().get(index));
+
+      final long offset = limitRel.getOffset() != null ? RexLiteral.intValue(limitRel.getOffset()) : 0;
+      final long rowCountRequested = offset + RexLiteral.intValue(limitRel.getFetch());
+
+      final GroupScan newGroupScan = ((ParquetGroupScan) scanRel.getGroupScan()).applyOrderedLimit(column,
+          collation.getDirection().isDescending(), collation.nullDirection, rowCountRequested);
+
+      if (newGroupScan == null) {
+        return;
+      }
+
+      DrillScanRel newScanRel = new DrillScanRel(scanRel.getCluster(),
+          scanRel.getTraitSet(),
+          scanRel.getTable(),
+          newGroupScan,
+          scanRel.getRowType(),
+          scanRel.getColumns(),
+          scanRel.partitionFilterPushdown());
+
+      RelNode newInput = newScanRel;
+      if (projectRel != null) {
+        newInput = projectRel.copy(projectRel.getTraitSet(), ImmutableList.of(newInput));
+      }
+      final RelNode newSort = sortRel.copy(sortRel.getTraitSet(), ImmutableList.of(newInput));
+      final RelNode newLimit = limitRel.copy(limitRel.getTraitSet(), ImmutableList.of(newSort));
+
+      call.transformTo(newLimit);
+      logger.debug("Converted to a new DrillScanRel" + newScanRel.getGroupScan());
+    } catch (Exception e) {
+      logger.warn("Exception while pruning the scan for an ordered limit.", e);
+    }
+  }
+}
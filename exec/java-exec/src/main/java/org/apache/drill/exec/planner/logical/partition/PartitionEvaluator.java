@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.planner.logical.partition;
+
+import org.apache.drill.exec.compile.TemplateClassDefinition;
+import org.apache.drill.exec.exception.SchemaChangeException;
+import org.apache.drill.exec.ops.UdfUtilities;
+import org.apache.drill.exec.record.VectorAccessible;
+import org.apache.drill.exec.record.VectorContainer;
+
+/**
+ * Evaluates a partition filter over a batch of partition values at planning time, in generated code.
+ */
+public interface PartitionEvaluator {
+
+  TemplateClassDefinition<PartitionEvaluator> TEMPLATE_DEFINITION =
+      new TemplateClassDefinition<>(PartitionEvaluator.class, PartitionEvaluatorTemplate.class);
+
+  /**
+   * Binds the evaluator to the vectors of a batch.
+   *
+   * @param incoming the partition values
+   * @param outgoing the output of the filter, a nullable BIT vector
+   */
+  void setup(PartitionBatch incoming, VectorAccessible outgoing) throws SchemaChangeException;
+
+  /**
+   * Evaluates the filter for the first <code>recordCount</code> partitions of the batch.
+   */
+  void evaluate(int recordCount) throws SchemaChangeException;
+
+  /**
+   * The partition values a filter is evaluated over. Generated code gets the buffers and the context
+   * information injected into functions from the context of its incoming batch.
+   */
+  class PartitionBatch extends VectorContainer {
+    private final UdfUtilities context;
+
+    public PartitionBatch(UdfUtilities context) {
+      this.context = context;
+    }
+
+    public UdfUtilities getContext() {
+      return context;
+    }
+  }
+}
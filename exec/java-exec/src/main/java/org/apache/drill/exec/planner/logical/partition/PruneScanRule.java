@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import com.codahale.metrics.Timer;
 import com.google.common.base.Stopwatch;
 
 import org.apache.calcite.adapter.enumerable.EnumerableTableScan;
@@ -38,10 +39,15 @@ import org.apache.drill.common.types.TypeProtos;
 import org.apache.drill.common.types.TypeProtos.MajorType;
 import org.apache.drill.common.types.TypeProtos.MinorType;
 import org.apache.drill.common.types.Types;
+import org.apache.drill.exec.exception.ClassTransformationException;
+import org.apache.drill.exec.expr.ClassGenerator;
+import org.apache.drill.exec.expr.CodeGenerator;
 import org.apache.drill.exec.expr.ExpressionTreeMaterializer;
 import org.apache.drill.exec.expr.TypeHelper;
+import org.apache.drill.exec.expr.ValueVectorWriteExpression;
 import org.apache.drill.exec.expr.fn.interpreter.InterpreterEvaluator;
 import org.apache.drill.exec.memory.BufferAllocator;
+import org.apache.drill.exec.metrics.DrillMetrics;
 import org.apache.drill.exec.ops.OptimizerRulesContext;
 import org.apache.drill.exec.physical.base.FileGroupScan;
 import org.apache.drill.exec.physical.base.GroupScan;
@@ -56,7 +62,9 @@ import org.apache.drill.exec.planner.logical.DrillTranslatableTable;
 import org.apache.drill.exec.planner.logical.RelOptHelper;
 import org.apache.drill.exec.planner.physical.PlannerSettings;
 import org.apache.drill.exec.planner.physical.PrelUtil;
+import org.apache.drill.exec.planner.sql.QueryParameters;
 import org.apache.drill.exec.record.MaterializedField;
+import org.apache.drill.exec.record.TypedFieldId;
 import org.apache.drill.exec.record.VectorContainer;
 import org.apache.drill.exec.store.StoragePluginOptimizerRule;
 import org.apache.drill.exec.store.dfs.FormatSelection;
@@ -80,6 +88,15 @@ import org.apache.drill.exec.vector.ValueVector;
 public abstract class PruneScanRule extends StoragePluginOptimizerRule {
   static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(PruneScanRule.class);
 
+  private static final Timer populateTimer = DrillMetrics.getRegistry().timer("drill.planner.partition_pruning.populate");
+  private static final Timer evaluationTimer = DrillMetrics.getRegistry().timer("drill.planner.partition_pruning.evaluate");
+
+  // phases of partition pruning reported in the query profile
+  public static final String POPULATE_PHASE = "partition_pruning.populate";
+  public static final String GENERATED_EVALUATION_PHASE = "partition_pruning.generated_evaluation";
+  public static final String INTERPRETED_EVALUATION_PHASE = "partition_pruning.interpreted_evaluation";
+  public static final String CREATE_SCAN_PHASE = "partition_pruning.create_scan";
+
   final OptimizerRulesContext optimizerContext;
 
   public PruneScanRule(RelOptRuleOperand operand, String id, OptimizerRulesContext optimizerContext) {
@@ -171,6 +188,20 @@ public abstract class PruneScanRule extends StoragePluginOptimizerRule {
     RewriteAsBinaryOperators visitor = new RewriteAsBinaryOperators(true, filterRel.getCluster().getRexBuilder());
     condition = condition.accept(visitor);
 
+    // parameters are bound after planning, so conditions on them cannot prune partitions and stay in the filter
+    final List<RexNode> parameterConjuncts = Lists.newArrayList();
+    if (QueryParameters.hasParameters(condition)) {
+      final List<RexNode> conjuncts = Lists.newArrayList();
+      for (RexNode conjunct : RelOptUtil.conjunctions(condition)) {
+        if (QueryParameters.hasParameters(conjunct)) {
+          parameterConjuncts.add(conjunct);
+        } else {
+          conjuncts.add(conjunct);
+        }
+      }
+      condition = RexUtil.composeConjunction(filterRel.getCluster().getRexBuilder(), conjuncts, false);
+    }
+
     Map<Integer, String> fieldNameMap = Maps.newHashMap();
     List<String> fieldNames = scanRel.getRowType().getFieldNames();
     BitSet columnBitset = new BitSet();
@@ -225,6 +256,7 @@ public abstract class PruneScanRule extends StoragePluginOptimizerRule {
     int batchIndex = 0;
     PartitionLocation firstLocation = null;
     LogicalExpression materializedExpr = null;
+    PartitionEvaluator evaluator = null;
     String[] spInfo = null;
     int maxIndex = -1;
     BitSet matchBitSet = new BitSet();
@@ -237,7 +269,9 @@ public abstract class PruneScanRule extends StoragePluginOptimizerRule {
         firstLocation = partitions.get(0);
       }
       final NullableBitVector output = new NullableBitVector(MaterializedField.create("", Types.optional(MinorType.BIT)), allocator);
-      final VectorContainer container = new VectorContainer();
+      final PartitionEvaluator.PartitionBatch container = new PartitionEvaluator.PartitionBatch(optimizerContext);
+      final VectorContainer outgoing = new VectorContainer();
+      outgoing.add(output);
 
       try {
         final ValueVector[] vectors = new ValueVector[descriptor.getMaxHierarchyLevel()];
@@ -259,6 +293,8 @@ public abstract class PruneScanRule extends StoragePluginOptimizerRule {
 
         logger.info("Elapsed time to populate partitioning column vectors: {} ms within batchIndex: {}",
             miscTimer.elapsed(TimeUnit.MILLISECONDS), batchIndex);
+        populateTimer.update(miscTimer.elapsed(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        optimizerContext.getPlanningStats().addTime(POPULATE_PHASE, miscTimer.elapsed(TimeUnit.NANOSECONDS));
         miscTimer.reset();
 
         // materialize the expression; only need to do this once
@@ -272,17 +308,29 @@ public abstract class PruneScanRule extends StoragePluginOptimizerRule {
             setPruneStatus(metaContext, PruneStatus.NOT_PRUNED);
             return;
           }
+          evaluator = generateEvaluator(materializedExpr);
         }
 
         output.allocateNew(partitions.size());
 
-        // start the timer to evaluate how long we spend in the interpreter evaluation
+        // start the timer to evaluate how long we spend in the evaluation
         miscTimer.start();
 
-        InterpreterEvaluator.evaluate(partitions.size(), optimizerContext, container, output, materializedExpr);
+        if (evaluator != null) {
+          evaluator.setup(container, outgoing);
+          evaluator.evaluate(partitions.size());
+          output.getMutator().setValueCount(partitions.size());
+        } else {
+          InterpreterEvaluator.evaluate(partitions.size(), optimizerContext, container, output, materializedExpr);
+        }
 
-        logger.info("Elapsed time in interpreter evaluation: {} ms within batchIndex: {} with # of partitions : {}",
-            miscTimer.elapsed(TimeUnit.MILLISECONDS), batchIndex, partitions.size());
+        logger.info("Elapsed time in {} evaluation: {} ms within batchIndex: {} with # of partitions : {}",
+            evaluator != null ? "generated code" : "interpreter", miscTimer.elapsed(TimeUnit.MILLISECONDS),
+            batchIndex, partitions.size());
+        evaluationTimer.update(miscTimer.elapsed(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        optimizerContext.getPlanningStats().addTime(
+            evaluator != null ? GENERATED_EVALUATION_PHASE : INTERPRETED_EVALUATION_PHASE,
+            miscTimer.elapsed(TimeUnit.NANOSECONDS));
         miscTimer.reset();
 
         int recordCount = 0;
@@ -384,6 +432,7 @@ public abstract class PruneScanRule extends StoragePluginOptimizerRule {
       List<RexNode> conjuncts = RelOptUtil.conjunctions(condition);
       List<RexNode> pruneConjuncts = RelOptUtil.conjunctions(pruneCondition);
       conjuncts.removeAll(pruneConjuncts);
+      conjuncts.addAll(parameterConjuncts);
       RexNode newCondition = RexUtil.composeConjunction(filterRel.getCluster().getRexBuilder(), conjuncts, false);
 
       RewriteCombineBinaryOperators reverseVisitor = new RewriteCombineBinaryOperators(true, filterRel.getCluster().getRexBuilder());
@@ -419,9 +468,13 @@ public abstract class PruneScanRule extends StoragePluginOptimizerRule {
 
       }
 
+      // track how long we spend creating the new scan, which reads the metadata cache files of the selection
+      miscTimer.start();
       RelNode inputRel = descriptor.supportsMetadataCachePruning() ?
           descriptor.createTableScan(newPartitions, cacheFileRoot, wasAllPartitionsPruned, metaContext) :
             descriptor.createTableScan(newPartitions, wasAllPartitionsPruned);
+      optimizerContext.getPlanningStats().addTime(CREATE_SCAN_PHASE, miscTimer.elapsed(TimeUnit.NANOSECONDS));
+      miscTimer.reset();
 
       if (projectRel != null) {
         inputRel = projectRel.copy(projectRel.getTraitSet(), Collections.singletonList(inputRel));
@@ -497,6 +550,28 @@ public abstract class PruneScanRule extends StoragePluginOptimizerRule {
     return materializedExpr;
   }
 
+  /**
+   * Generates the code that evaluates the materialized partition filter over batches of partition values.
+   *
+   * @return the evaluator, or null if the code could not be generated, in which case the filter is
+   *         evaluated by the interpreter
+   */
+  private PartitionEvaluator generateEvaluator(LogicalExpression materializedExpr) {
+    final ClassGenerator<PartitionEvaluator> cg = CodeGenerator.getRoot(PartitionEvaluator.TEMPLATE_DEFINITION,
+        optimizerContext.getFunctionRegistry(), optimizerContext.getPlannerSettings().getOptions());
+    cg.getCodeGenerator().plainJavaCapable(true);
+    // the filter output is the only vector of the outgoing container
+    final TypedFieldId outputId = new TypedFieldId(Types.optional(MinorType.BIT), 0);
+    cg.addExpr(new ValueVectorWriteExpression(outputId, materializedExpr, true));
+    try {
+      return optimizerContext.getCompiler().createInstance(cg.getCodeGenerator());
+    } catch (ClassTransformationException e) {
+      logger.warn("Failure while generating the code of partition filter [{}], using the interpreter.",
+          materializedExpr, e);
+      return null;
+    }
+  }
+
   protected OptimizerRulesContext getOptimizerRulesContext() {
     return optimizerContext;
   }
@@ -19,7 +19,6 @@
 package org.apache.drill.exec.planner.physical;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -49,6 +48,8 @@ import org.apache.drill.exec.planner.logical.RelOptHelper;
 import org.apache.drill.exec.store.ColumnExplorer;
 
 import org.apache.drill.exec.store.direct.MetadataDirectGroupScan;
+import org.apache.drill.exec.store.parquet.ParquetGroupScan;
+import org.apache.drill.exec.store.parquet.ParquetGroupScan.ColumnMinMax;
 import org.apache.drill.exec.store.pojo.DynamicPojoRecordReader;
 
 /**
@@ -71,6 +72,12 @@ import org.apache.drill.exec.store.pojo.DynamicPojoRecordReader;
  * </p>
  *
  * <p>
+ * For parquet group scans, <b>" select min(column), max(column) from table "</b> on an
+ * integer column is converted the same way, using the minimum and maximum values kept
+ * in the row group statistics of the metadata cache.
+ * </p>
+ *
+ * <p>
  * Currently, only parquet group scan has the exact row count and column value count,
  * obtained from parquet row group info. This will save the cost to
  * scan the whole parquet files.
@@ -113,18 +120,22 @@ public class ConvertCountToDirectScan extends Prule {
       return;
     }
 
-    Map<String, Long> result = collectCounts(settings, agg, scan, project);
-    logger.trace("Calculated the following aggregate counts: ", result);
+    Map<String, AggValue> result = collectCounts(settings, agg, scan, project);
+    logger.trace("Calculated the following aggregate values: ", result);
     // if could not determine the counts, rule won't be applied
     if (result.isEmpty()) {
       return;
     }
 
-    final RelDataType scanRowType = constructDataType(agg, result.keySet());
+    final RelDataType scanRowType = constructDataType(agg, result);
 
-    final DynamicPojoRecordReader<Long> reader = new DynamicPojoRecordReader<>(
-        buildSchema(scanRowType.getFieldNames()),
-        Collections.singletonList((List<Long>) new ArrayList<>(result.values())));
+    final List<Object> values = new ArrayList<>();
+    for (AggValue aggValue : result.values()) {
+      values.add(aggValue.value);
+    }
+    final DynamicPojoRecordReader<Object> reader = new DynamicPojoRecordReader<>(
+        buildSchema(result),
+        Collections.singletonList(values));
 
     final ScanStats scanStats = new ScanStats(ScanStats.GroupScanProperty.EXACT_ROW_COUNT, 1, 1, scanRowType.getFieldCount());
     final GroupScan directScan = new MetadataDirectGroupScan(reader, oldGrpScan.getFiles(), scanStats);
@@ -140,31 +151,64 @@ public class ConvertCountToDirectScan extends Prule {
   }
 
   /**
-   * Collects counts for each aggregation call.
+   * Value of an aggregate call, along with the class the pojo reader writes it as.
+   */
+  private static class AggValue {
+    final Object value;
+    final Class<?> valueClass;
+    final RelDataType type;
+
+    AggValue(Object value, Class<?> valueClass, RelDataType type) {
+      this.value = value;
+      this.valueClass = valueClass;
+      this.type = type;
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(value);
+    }
+  }
+
+  /**
+   * Collects counts (and minimum or maximum values) for each aggregation call.
    * Will return empty result map if was not able to determine count for at least one aggregation call,
    *
    * For each aggregate call will determine if count can be calculated. Collects counts only for COUNT function.
    * For star, not null expressions and implicit columns sets count to total record number.
    * For other cases obtains counts from group scan operator. Also count can not be calculated for parition columns.
+   * For MIN and MAX functions obtains the value from the parquet metadata, see {@link #getMinMax}.
    *
    * @param agg aggregate relational expression
    * @param scan scan relational expression
    * @param project project relational expression
-   * @return result map where key is count column name, value is count value
+   * @return result map where key is aggregate column name, value is its value
    */
-  private Map<String, Long> collectCounts(PlannerSettings settings, DrillAggregateRel agg, DrillScanRel scan, DrillProjectRel project) {
+  private Map<String, AggValue> collectCounts(PlannerSettings settings, DrillAggregateRel agg, DrillScanRel scan, DrillProjectRel project) {
     final Set<String> implicitColumnsNames = ColumnExplorer.initImplicitFileColumns(settings.getOptions()).keySet();
     final GroupScan oldGrpScan = scan.getGroupScan();
     final long totalRecordCount = oldGrpScan.getScanStats(settings).getRecordCount();
-    final LinkedHashMap<String, Long> result = new LinkedHashMap<>();
+    final RelDataType countType = agg.getCluster().getTypeFactory().createSqlType(SqlTypeName.BIGINT);
+    final LinkedHashMap<String, AggValue> result = new LinkedHashMap<>();
 
     for (int i = 0; i < agg.getAggCallList().size(); i++) {
       AggregateCall aggCall = agg.getAggCallList().get(i);
     //for (AggregateCall aggCall : agg.getAggCallList()) {
       long cnt;
 
-      // rule can be applied only for count function, return empty counts
-      if (!"count".equalsIgnoreCase(aggCall.getAggregation().getName()) ) {
+      final String functionName = aggCall.getAggregation().getName();
+      if ("min".equalsIgnoreCase(functionName) || "max".equalsIgnoreCase(functionName)) {
+        AggValue minMax = getMinMax(settings, aggCall, scan, project, implicitColumnsNames);
+        if (minMax == null) {
+          return ImmutableMap.of();
+        }
+        result.put(functionName.toLowerCase() + i + "$" + (aggCall.getName() == null ? aggCall.toString() : aggCall.getName()),
+            minMax);
+        continue;
+      }
+
+      // rule can be applied only for count, min and max functions, return empty counts
+      if (!"count".equalsIgnoreCase(functionName) ) {
         return ImmutableMap.of();
       }
 
@@ -214,12 +258,59 @@ public class ConvertCountToDirectScan extends Prule {
       }
 
       String name = "count" + i + "$" + (aggCall.getName() == null ? aggCall.toString() : aggCall.getName());
-      result.put(name, cnt);
+      result.put(name, new AggValue(cnt, long.class, countType));
     }
 
     return ImmutableMap.copyOf(result);
   }
 
+  /**
+   * Obtains the value of a MIN or MAX aggregate call on a column from the parquet metadata.
+   * The value is only used when the statistics are exact for every row group, which is the
+   * case for integer columns of a table with a (recent enough) metadata cache file.
+   *
+   * @return the value, or null if it can not be determined
+   */
+  private AggValue getMinMax(PlannerSettings settings, AggregateCall aggCall, DrillScanRel scan,
+                             DrillProjectRel project, Set<String> implicitColumnsNames) {
+    if (!(scan.getGroupScan() instanceof ParquetGroupScan) || aggCall.getArgList().size() != 1) {
+      return null;
+    }
+
+    int index = aggCall.getArgList().get(0);
+    if (project != null) {
+      // as for count(column), only when the input of the AggCall is a RexInputRef in the Project
+      if (!(project.getProjects().get(index) instanceof RexInputRef)) {
+        return null;
+      }
+      index = ((RexInputRef) project.getProjects().get(index)).getIndex();
+    }
+
+    String columnName = scan.getRowType().getFieldNames().get(index).toLowerCase();
+    SchemaPath simplePath = SchemaPath.getSimplePath(columnName);
+    if (implicitColumnsNames.contains(columnName) || ColumnExplorer.isPartitionColumn(settings.getOptions(), simplePath)) {
+      return null;
+    }
+
+    ColumnMinMax minMax = ((ParquetGroupScan) scan.getGroupScan()).getColumnMinMax(simplePath);
+    if (minMax == null) {
+      return null;
+    }
+
+    // the type of the value must agree with the type the aggregate call was validated with
+    final RelDataType type = aggCall.getType();
+    final SqlTypeName expectedType = minMax.getValueClass() == Integer.class ? SqlTypeName.INTEGER : SqlTypeName.BIGINT;
+    if (type.getSqlTypeName() != SqlTypeName.ANY && type.getSqlTypeName() != expectedType) {
+      return null;
+    }
+    if (!type.isNullable() && minMax.getMin() == null) {
+      return null;
+    }
+
+    Object value = "min".equalsIgnoreCase(aggCall.getAggregation().getName()) ? minMax.getMin() : minMax.getMax();
+    return new AggValue(value, minMax.getValueClass(), type);
+  }
+
   /**
    * Checks if aggregate call contains star or non-null expression:
    * <pre>
@@ -238,38 +329,40 @@ public class ConvertCountToDirectScan extends Prule {
   }
 
   /**
-   * For each aggregate call creates field based on its name with bigint type.
+   * For each aggregate call creates field based on its name with its type
+   * (bigint for counts, the type of the aggregate call for min and max.)
    * Constructs record type for created fields.
    *
    * @param aggregateRel aggregate relation expression
-   * @param fieldNames field names
+   * @param values aggregate values, by field name
    * @return record type
    */
-  private RelDataType constructDataType(DrillAggregateRel aggregateRel, Collection<String> fieldNames) {
+  private RelDataType constructDataType(DrillAggregateRel aggregateRel, Map<String, AggValue> values) {
     List<RelDataTypeField> fields = new ArrayList<>();
-    Iterator<String> filedNamesIterator = fieldNames.iterator();
+    Iterator<Map.Entry<String, AggValue>> valuesIterator = values.entrySet().iterator();
     int fieldIndex = 0;
-    while (filedNamesIterator.hasNext()) {
+    while (valuesIterator.hasNext()) {
+      Map.Entry<String, AggValue> value = valuesIterator.next();
       RelDataTypeField field = new RelDataTypeFieldImpl(
-          filedNamesIterator.next(),
+          value.getKey(),
           fieldIndex++,
-          aggregateRel.getCluster().getTypeFactory().createSqlType(SqlTypeName.BIGINT));
+          value.getValue().type);
       fields.add(field);
     }
     return new RelRecordType(fields);
   }
 
   /**
-   * Builds schema based on given field names.
-   * Type for each schema is set to long.class.
+   * Builds schema based on given aggregate values.
+   * Type for counts is set to long.class; min and max values are nullable Integer or Long.
    *
-   * @param fieldNames field names
+   * @param values aggregate values, by field name
    * @return schema
    */
-  private LinkedHashMap<String, Class<?>> buildSchema(List<String> fieldNames) {
+  private LinkedHashMap<String, Class<?>> buildSchema(Map<String, AggValue> values) {
     LinkedHashMap<String, Class<?>> schema = new LinkedHashMap<>();
-    for (String fieldName: fieldNames) {
-      schema.put(fieldName, long.class);
+    for (Map.Entry<String, AggValue> value : values.entrySet()) {
+      schema.put(value.getKey(), value.getValue().valueClass);
     }
     return schema;
   }
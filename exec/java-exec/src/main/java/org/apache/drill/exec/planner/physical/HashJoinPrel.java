@@ -92,6 +92,17 @@ public class HashJoinPrel  extends JoinPrel {
     return SelectionVectorMode.DEFAULT;
   }
 
+  /**
+   * The probe side may carry an SV2, as probe records are only read by index. The build side is
+   * copied into the hash table's hyper batch as is, so it must be free of selection vectors.
+   *
+   * @param inputIndex 0 for the left input, 1 for the right input
+   */
+  public SelectionVectorMode[] getSupportedEncodings(int inputIndex) {
+    final int probeIndex = swapped ? 1 : 0;
+    return inputIndex == probeIndex ? SelectionVectorMode.NONE_AND_TWO : SelectionVectorMode.DEFAULT;
+  }
+
   @Override
   public SelectionVectorMode getEncoding() {
     return SelectionVectorMode.NONE;
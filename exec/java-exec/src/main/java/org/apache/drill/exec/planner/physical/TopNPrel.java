@@ -45,6 +45,14 @@ public class TopNPrel extends SinglePrel {
     this.collation = collation;
   }
 
+  public int getLimit() {
+    return limit;
+  }
+
+  public RelCollation getCollation() {
+    return collation;
+  }
+
   @Override
   public RelNode copy(RelTraitSet traitSet, List<RelNode> inputs) {
     return new TopNPrel(getCluster(), traitSet, sole(inputs), this.limit, this.collation);
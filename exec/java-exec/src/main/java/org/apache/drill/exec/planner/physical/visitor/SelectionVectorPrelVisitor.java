@@ -19,6 +19,8 @@ package org.apache.drill.exec.planner.physical.visitor;
 
 import java.util.List;
 
+import org.apache.drill.exec.planner.physical.HashJoinPrel;
+import org.apache.drill.exec.planner.physical.JoinPrel;
 import org.apache.drill.exec.planner.physical.Prel;
 import org.apache.drill.exec.planner.physical.SelectionVectorRemoverPrel;
 import org.apache.drill.exec.record.BatchSchema.SelectionVectorMode;
@@ -47,6 +49,24 @@ public class SelectionVectorPrelVisitor extends BasePrelVisitor<Prel, Void, Runt
     return (Prel) prel.copy(prel.getTraitSet(), children);
   }
 
+  @Override
+  public Prel visitJoin(JoinPrel prel, Void value) throws RuntimeException {
+    if (!(prel instanceof HashJoinPrel)) {
+      return visitPrel(prel, value);
+    }
+
+    // The two sides of a hash join accept different encodings
+    HashJoinPrel hashJoin = (HashJoinPrel) prel;
+    List<RelNode> children = Lists.newArrayList();
+    int i = 0;
+    for (Prel child : prel) {
+      child = child.accept(this, null);
+      children.add(convert(hashJoin.getSupportedEncodings(i++), child));
+    }
+
+    return (Prel) prel.copy(prel.getTraitSet(), children);
+  }
+
   private Prel convert(SelectionVectorMode[] encodings, Prel prel) {
     for (SelectionVectorMode m : encodings) {
       if (prel.getEncoding() == m) {
@@ -32,7 +32,13 @@ import org.apache.drill.exec.planner.sql.handlers.ExplainHandler;
 import org.apache.drill.exec.planner.sql.handlers.SetOptionHandler;
 import org.apache.drill.exec.planner.sql.handlers.SqlHandlerConfig;
 import org.apache.drill.exec.planner.sql.parser.DrillSqlCall;
+import org.apache.drill.exec.planner.sql.parser.SqlCreateFunction;
 import org.apache.drill.exec.planner.sql.parser.SqlCreateTable;
+import org.apache.drill.exec.planner.sql.parser.SqlCreateView;
+import org.apache.drill.exec.planner.sql.parser.SqlDropFunction;
+import org.apache.drill.exec.planner.sql.parser.SqlDropTable;
+import org.apache.drill.exec.planner.sql.parser.SqlDropView;
+import org.apache.drill.exec.planner.sql.parser.SqlRefreshMetadata;
 import org.apache.drill.exec.testing.ControlsInjector;
 import org.apache.drill.exec.testing.ControlsInjectorFactory;
 import org.apache.drill.exec.util.Pointer;
@@ -128,7 +134,12 @@ public class DrillSqlWorker {
     }
 
     try {
-      return handler.getPlan(sqlNode);
+      final PhysicalPlan plan = handler.getPlan(sqlNode);
+      if (changesPlanning(sqlNode)) {
+        context.getPlanCache().invalidateAll();
+        context.getFileListingCache().invalidateAll();
+      }
+      return plan;
     } catch(ValidationException e) {
       String errorMessage = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
       throw UserException.validationError(e)
@@ -144,4 +155,17 @@ public class DrillSqlWorker {
       throw new QueryInputException("Failure handling SQL.", e);
     }
   }
+
+  /**
+   * @return true if the statement changes tables, views or functions, so that plans made before it may be stale
+   */
+  private static boolean changesPlanning(SqlNode sqlNode) {
+    return sqlNode instanceof SqlCreateTable
+        || sqlNode instanceof SqlDropTable
+        || sqlNode instanceof SqlCreateView
+        || sqlNode instanceof SqlDropView
+        || sqlNode instanceof SqlRefreshMetadata
+        || sqlNode instanceof SqlCreateFunction
+        || sqlNode instanceof SqlDropFunction;
+  }
 }
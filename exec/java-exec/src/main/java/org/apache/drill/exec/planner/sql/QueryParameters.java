@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.planner.sql;
+
+import java.util.List;
+import java.util.Set;
+
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexVisitorImpl;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlDynamicParam;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.parser.SqlParseException;
+import org.apache.calcite.sql.parser.SqlParser;
+import org.apache.calcite.sql.util.SqlBasicVisitor;
+import org.apache.drill.common.exceptions.UserException;
+import org.apache.drill.common.expression.LogicalExpression;
+import org.apache.drill.common.expression.NullExpression;
+import org.apache.drill.common.expression.ValueExpressions;
+import org.apache.drill.common.expression.visitors.ParameterBinder;
+import org.apache.drill.exec.planner.physical.PlannerSettings;
+import org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+
+/**
+ * Dynamic parameters ('?') of prepared statements.
+ * <p>
+ * The planner turns each parameter into a placeholder expression, cast to the type inferred for the
+ * parameter (see {@link ParameterBinder#parameter(int)}), so that the physical plan of a statement does
+ * not depend on the values of its parameters. The values are bound into the expressions of the plan as
+ * it is read for an execution, which lets the executions of a statement share one plan.
+ */
+public class QueryParameters {
+  private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(QueryParameters.class);
+
+  /**
+   * Functions that are evaluated once while planning, whose value would be frozen in a reused plan.
+   */
+  private static final Set<String> PLANNING_TIME_FUNCTIONS = ImmutableSet.of(
+      "now", "current_date", "current_time", "current_timestamp", "localtime", "localtimestamp",
+      "statement_timestamp", "transaction_timestamp", "timeofday", "unix_timestamp", "session_id");
+
+  private QueryParameters() {
+  }
+
+  /**
+   * Tells whether an expression refers to parameters. Parameter values are only bound into the Drill
+   * expressions of a plan, not into what storage plugins build from them (filters and key ranges of
+   * scans, SQL sent to other databases) nor into the partitions and files kept by pruning. Rules
+   * must not push down or prune on such expressions, since the placeholder would be used instead of
+   * the value.
+   */
+  public static boolean hasParameters(RexNode expr) {
+    final ParameterFinder finder = new ParameterFinder();
+    expr.accept(finder);
+    return finder.found;
+  }
+
+  /**
+   * Converts the values of the parameters sent with the execution of a prepared statement into the literal
+   * expressions bound into its plan. A parameter with no value set is SQL NULL.
+   */
+  public static List<LogicalExpression> toExpressions(List<PreparedStatementParameter> parameters) {
+    final List<LogicalExpression> values = Lists.newArrayListWithCapacity(parameters.size());
+    for (PreparedStatementParameter parameter : parameters) {
+      if (parameter.hasBoolValue()) {
+        values.add(ValueExpressions.getBit(parameter.getBoolValue()));
+      } else if (parameter.hasLongValue()) {
+        values.add(ValueExpressions.getBigInt(parameter.getLongValue()));
+      } else if (parameter.hasDoubleValue()) {
+        values.add(ValueExpressions.getFloat8(parameter.getDoubleValue()));
+      } else if (parameter.hasStringValue()) {
+        values.add(ValueExpressions.getChar(parameter.getStringValue(), parameter.getStringValue().length()));
+      } else {
+        values.add(NullExpression.INSTANCE);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Parses the given statement to find its parameters and whether its plan may be reused.
+   *
+   * @param settings planner settings of the session, which define how the statement is parsed
+   */
+  public static StatementInfo analyze(String sql, PlannerSettings settings) {
+    final SqlNode sqlNode;
+    try {
+      sqlNode = SqlParser.create(sql, new DrillParserConfig(settings)).parseStmt();
+    } catch (SqlParseException e) {
+      throw UserException.parseError(e)
+          .addContext("SQL Query", sql)
+          .build(logger);
+    }
+    final StatementVisitor visitor = new StatementVisitor();
+    sqlNode.accept(visitor);
+    return new StatementInfo(visitor.parameterCount,
+        sqlNode.getKind().belongsTo(SqlKind.QUERY) && !visitor.usesPlanningTimeFunctions);
+  }
+
+  /**
+   * What {@link #analyze(String, PlannerSettings)} found out about a statement.
+   */
+  public static class StatementInfo {
+    private final int parameterCount;
+    private final boolean reusablePlan;
+
+    StatementInfo(int parameterCount, boolean reusablePlan) {
+      this.parameterCount = parameterCount;
+      this.reusablePlan = reusablePlan;
+    }
+
+    public int getParameterCount() {
+      return parameterCount;
+    }
+
+    /**
+     * @return true if the statement is a query whose plan stays valid for later executions: it does not
+     *         use functions evaluated at planning time, such as NOW()
+     */
+    public boolean isReusablePlan() {
+      return reusablePlan;
+    }
+  }
+
+  private static class ParameterFinder extends RexVisitorImpl<Void> {
+    private boolean found;
+
+    ParameterFinder() {
+      super(true);
+    }
+
+    @Override
+    public Void visitDynamicParam(RexDynamicParam dynamicParam) {
+      found = true;
+      return null;
+    }
+  }
+
+  private static class StatementVisitor extends SqlBasicVisitor<Void> {
+    private int parameterCount;
+    private boolean usesPlanningTimeFunctions;
+
+    @Override
+    public Void visit(SqlDynamicParam param) {
+      parameterCount = Math.max(parameterCount, param.getIndex() + 1);
+      return null;
+    }
+
+    @Override
+    public Void visit(SqlCall call) {
+      if (PLANNING_TIME_FUNCTIONS.contains(call.getOperator().getName().toLowerCase())) {
+        usesPlanningTimeFunctions = true;
+      }
+      return super.visit(call);
+    }
+
+    @Override
+    public Void visit(SqlIdentifier id) {
+      // niladic functions, such as CURRENT_DATE, may be parsed as identifiers
+      if (id.isSimple() && PLANNING_TIME_FUNCTIONS.contains(id.getSimple().toLowerCase())) {
+        usesPlanningTimeFunctions = true;
+      }
+      return null;
+    }
+  }
+}
@@ -132,6 +132,7 @@ public class ControlClient extends BasicClient<RpcType, ControlConnection, BitCo
   @Override
   protected void finalizeConnection(BitControlHandshake handshake, ControlConnection connection) {
     connection.setEndpoint(handshake.getEndpoint());
+    connection.setSupportedMethods(handshake.getSupportedMethodsList());
 
     // Increment the Control Connection counter.
     connection.incConnectionCounter();
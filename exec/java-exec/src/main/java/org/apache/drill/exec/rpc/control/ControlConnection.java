@@ -17,6 +17,7 @@
  */
 package org.apache.drill.exec.rpc.control;
 
+import com.google.common.collect.Sets;
 import com.google.protobuf.MessageLite;
 
 import io.netty.buffer.ByteBuf;
@@ -36,6 +37,8 @@ import org.slf4j.Logger;
 
 import javax.security.sasl.SaslClient;
 import javax.security.sasl.SaslException;
+import java.util.Collections;
+import java.util.Set;
 import java.util.UUID;
 
 import static com.google.common.base.Preconditions.checkState;
@@ -48,6 +51,8 @@ public class ControlConnection extends AbstractServerConnection<ControlConnectio
 
   private volatile DrillbitEndpoint endpoint;
   private volatile boolean active = false;
+  // the methods beyond the ones of the rpc version that the other bit supports
+  private volatile Set<RpcType> supportedMethods = Collections.emptySet();
 
   private SaslClient saslClient;
 
@@ -64,6 +69,17 @@ public class ControlConnection extends AbstractServerConnection<ControlConnectio
     active = true;
   }
 
+  void setSupportedMethods(Iterable<RpcType> supportedMethods) {
+    this.supportedMethods = Sets.immutableEnumSet(supportedMethods);
+  }
+
+  /**
+   * @return whether the other bit supports the given method, which is not part of all the bits of the rpc version
+   */
+  public boolean supportsMethod(RpcType method) {
+    return supportedMethods.contains(method);
+  }
+
   public <SEND extends MessageLite, RECEIVE extends MessageLite>
   void send(RpcOutcomeListener<RECEIVE> outcomeListener, RpcType rpcType, SEND protobufBody,
             Class<RECEIVE> clazz, ByteBuf... dataBodies) {
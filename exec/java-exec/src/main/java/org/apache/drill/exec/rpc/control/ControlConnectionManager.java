@@ -37,6 +37,7 @@ public class ControlConnectionManager extends ReconnectingConnection<ControlConn
         BitControlHandshake.newBuilder()
             .setRpcVersion(ControlRpcConfig.RPC_VERSION)
             .setEndpoint(localEndpoint)
+            .addAllSupportedMethods(ControlRpcConfig.SUPPORTED_METHODS)
             .build(),
         remoteEndpoint.getAddress(),
         remoteEndpoint.getControlPort());
@@ -87,6 +87,7 @@ public class ControlServer extends BasicServer<RpcType, ControlConnection>{
                   inbound.getEndpoint()));
         }
         connection.setEndpoint(inbound.getEndpoint());
+        connection.setSupportedMethods(inbound.getSupportedMethodsList());
 
         // add the
         ControlConnectionManager manager = connectionRegistry.getConnectionManager(inbound.getEndpoint());
@@ -100,6 +101,7 @@ public class ControlServer extends BasicServer<RpcType, ControlConnection>{
 
         final BitControlHandshake.Builder builder = BitControlHandshake.newBuilder();
         builder.setRpcVersion(ControlRpcConfig.RPC_VERSION);
+        builder.addAllSupportedMethods(ControlRpcConfig.SUPPORTED_METHODS);
         if (config.getAuthMechanismToUse() != null) {
           builder.addAllAuthenticationMechanisms(config.getAuthProvider().getAllFactoryNames());
         }
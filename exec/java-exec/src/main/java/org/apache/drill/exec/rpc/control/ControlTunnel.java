@@ -20,8 +20,14 @@ package org.apache.drill.exec.rpc.control;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.DrillBuf;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.drill.exec.planner.fragment.FragmentPlanCodec;
+import org.apache.drill.exec.proto.BitControl.BitStatus;
 import org.apache.drill.exec.proto.BitControl.CustomMessage;
 import org.apache.drill.exec.proto.BitControl.FinishedReceiver;
 import org.apache.drill.exec.proto.BitControl.FragmentStatus;
@@ -93,6 +99,16 @@ public class ControlTunnel {
     return b.getFuture();
   }
 
+  /**
+   * Sends the statuses of several fragments in one message, or one message per fragment if the other bit does not
+   * support batches of statuses.
+   */
+  public DrillRpcFuture<Ack> sendFragmentStatuses(List<FragmentStatus> statuses){
+    SendFragmentStatuses b = new SendFragmentStatuses(statuses);
+    manager.runCommand(b);
+    return b.getFuture();
+  }
+
   public DrillRpcFuture<QueryProfile> requestQueryProfile(QueryId queryId) {
     RequestProfile b = new RequestProfile(queryId);
     manager.runCommand(b);
@@ -116,6 +132,67 @@ public class ControlTunnel {
   }
 
 
+  public static class SendFragmentStatuses extends FutureBitCommand<Ack, ControlConnection> {
+    final List<FragmentStatus> statuses;
+
+    public SendFragmentStatuses(List<FragmentStatus> statuses) {
+      super();
+      this.statuses = statuses;
+    }
+
+    @Override
+    public void doRpcCall(RpcOutcomeListener<Ack> outcomeListener, ControlConnection connection) {
+      if (connection.supportsMethod(RpcType.REQ_FRAGMENT_STATUS_BATCH)) {
+        connection.sendUnsafe(outcomeListener, RpcType.REQ_FRAGMENT_STATUS_BATCH,
+            BitStatus.newBuilder().addAllFragmentStatus(statuses).build(), Ack.class);
+        return;
+      }
+
+      // the other bit predates batches of statuses
+      final StatusesListener listener = new StatusesListener(outcomeListener, statuses.size());
+      for (FragmentStatus status : statuses) {
+        connection.sendUnsafe(listener, RpcType.REQ_FRAGMENT_STATUS, status, Ack.class);
+      }
+    }
+
+    /**
+     * Completes the outcome of the statuses sent one by one once all of them are acknowledged, or when the first one
+     * fails.
+     */
+    private static class StatusesListener implements RpcOutcomeListener<Ack> {
+      private final RpcOutcomeListener<Ack> outcomeListener;
+      private final AtomicInteger pending;
+      private final AtomicBoolean completed = new AtomicBoolean();
+
+      StatusesListener(RpcOutcomeListener<Ack> outcomeListener, int count) {
+        this.outcomeListener = outcomeListener;
+        this.pending = new AtomicInteger(count);
+      }
+
+      @Override
+      public void failed(RpcException ex) {
+        if (completed.compareAndSet(false, true)) {
+          outcomeListener.failed(ex);
+        }
+      }
+
+      @Override
+      public void success(Ack value, ByteBuf buffer) {
+        if (pending.decrementAndGet() == 0 && completed.compareAndSet(false, true)) {
+          outcomeListener.success(value, buffer);
+        }
+      }
+
+      @Override
+      public void interrupted(InterruptedException e) {
+        if (completed.compareAndSet(false, true)) {
+          outcomeListener.interrupted(e);
+        }
+      }
+    }
+  }
+
+
   public static class ReceiverFinished extends ListeningCommand<Ack, ControlConnection> {
     final FinishedReceiver finishedReceiver;
 
@@ -157,7 +234,21 @@ public class ControlTunnel {
 
     @Override
     public void doRpcCall(RpcOutcomeListener<Ack> outcomeListener, ControlConnection connection) {
-      connection.send(outcomeListener, RpcType.REQ_INITIALIZE_FRAGMENTS, fragments, Ack.class);
+      if (fragments.getSharedPlanCount() == 0) {
+        connection.send(outcomeListener, RpcType.REQ_INITIALIZE_FRAGMENTS, fragments, Ack.class);
+      } else if (connection.supportsMethod(RpcType.REQ_INITIALIZE_SHARED_FRAGMENTS)) {
+        connection.send(outcomeListener, RpcType.REQ_INITIALIZE_SHARED_FRAGMENTS, fragments, Ack.class);
+      } else {
+        // the other bit predates binary plans, it gets the operator trees of the fragments in JSON
+        final InitializeFragments jsonFragments;
+        try {
+          jsonFragments = FragmentPlanCodec.toJson(fragments);
+        } catch (IOException e) {
+          outcomeListener.failed(new RpcException("Failure while converting fragments into json.", e));
+          return;
+        }
+        connection.send(outcomeListener, RpcType.REQ_INITIALIZE_FRAGMENTS, jsonFragments, Ack.class);
+      }
     }
 
   }
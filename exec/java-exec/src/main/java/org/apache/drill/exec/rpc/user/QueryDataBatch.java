@@ -20,8 +20,16 @@ package org.apache.drill.exec.rpc.user;
 import io.netty.buffer.DrillBuf;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.apache.drill.exec.client.ColumnarBatch;
+import org.apache.drill.exec.exception.SchemaChangeException;
 import org.apache.drill.exec.proto.UserBitShared.QueryData;
+import org.apache.drill.exec.proto.UserProtos.RpcType;
+import org.apache.drill.exec.record.RecordBatchLoader;
+import org.apache.drill.exec.rpc.Acks;
+import org.apache.drill.exec.rpc.Response;
+import org.apache.drill.exec.rpc.ResponseSender;
 
 public class QueryDataBatch {
   // private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(QueryDataBatch.class);
@@ -29,6 +37,9 @@ public class QueryDataBatch {
   private final QueryData header;
   private final DrillBuf data;
   private final AtomicBoolean released = new AtomicBoolean(false);
+  /** Sends the acknowledgment of this batch to the server; null once sent, or if no acknowledgment is due. */
+  private final AtomicReference<ResponseSender> ackSender = new AtomicReference<>();
+  private volatile boolean ackDeferred;
 
   public QueryDataBatch(QueryData header, DrillBuf data) {
     // logger.debug("New Result Batch with header {} and data {}", header, data);
@@ -51,6 +62,15 @@ public class QueryDataBatch {
     return data != null;
   }
 
+  /**
+   * Loads this batch into the given loader, to read it column by column. This batch must still be
+   * released; the returned view stays valid until the loader loads another batch or is cleared.
+   */
+  public ColumnarBatch load(RecordBatchLoader loader) throws SchemaChangeException {
+    loader.load(header.getDef(), data);
+    return new ColumnarBatch(loader);
+  }
+
   public void release() {
     if (!released.compareAndSet(false, true)) {
       throw new IllegalStateException("QueryDataBatch was released twice.");
@@ -59,6 +79,37 @@ public class QueryDataBatch {
     if (data != null) {
       data.release(1);
     }
+    sendAck();
+  }
+
+  void setAckSender(ResponseSender sender) {
+    ackSender.set(sender);
+  }
+
+  /**
+   * Holds back the acknowledgment of this batch until the batch is released (or {@link #sendAck()} is
+   * called), instead of acknowledging it as soon as {@link UserResultsListener#dataArrived} returns.
+   * <p>
+   * The server sends a bounded number of batches of a query ahead of their acknowledgments, so a
+   * listener that cannot keep up defers acknowledgments to slow down the results of that query, without
+   * stopping the reads of the connection.
+   */
+  public void deferAck() {
+    ackDeferred = true;
+  }
+
+  boolean isAckDeferred() {
+    return ackDeferred;
+  }
+
+  /**
+   * Acknowledges this batch to the server, if not done yet.
+   */
+  public void sendAck() {
+    final ResponseSender sender = ackSender.getAndSet(null);
+    if (sender != null) {
+      sender.send(new Response(RpcType.ACK, Acks.OK));
+    }
   }
 
   @Override
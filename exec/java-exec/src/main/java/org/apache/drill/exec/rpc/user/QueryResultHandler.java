@@ -40,6 +40,7 @@ import org.apache.drill.exec.rpc.RpcBus;
 import org.apache.drill.exec.rpc.RpcConnectionHandler;
 import org.apache.drill.exec.rpc.RpcException;
 import org.apache.drill.exec.rpc.RpcOutcomeListener;
+import org.apache.drill.exec.rpc.ResponseSender;
 
 import com.google.common.collect.Maps;
 import com.google.common.collect.Queues;
@@ -149,12 +150,11 @@ public class QueryResultHandler {
    * Maps internal low-level API protocol to {@link UserResultsListener}-level API protocol.
    * handles query data messages
    */
-  public void batchArrived( ConnectionThrottle throttle,
-                            ByteBuf pBody, ByteBuf dBody ) throws RpcException {
-    final QueryData queryData = RpcBus.get( pBody, QueryData.PARSER );
+  public void batchArrived( ConnectionThrottle throttle, QueryData queryData,
+                            DrillBuf drillBuf, ResponseSender sender ) throws RpcException {
     // Current batch coming in.
-    final DrillBuf drillBuf = (DrillBuf) dBody;
     final QueryDataBatch batch = new QueryDataBatch( queryData, drillBuf );
+    batch.setAckSender( sender );
 
     final QueryId queryId = queryData.getQueryId();
 
@@ -169,6 +169,9 @@ public class QueryResultHandler {
     try {
       resultsListener.dataArrived(batch, throttle);
       // That releases batch if successful.
+      if ( ! batch.isAckDeferred() ) {
+        batch.sendAck();
+      }
     } catch ( Exception e ) {
       batch.release();
       resultsListener.submissionFailed(UserException.systemError(e).build(logger));
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.rpc.user;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DrillBuf;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.drill.common.config.DrillProperties;
+import org.apache.drill.exec.memory.BufferAllocator;
+import org.apache.drill.exec.proto.UserBitShared.CompressionCodec;
+import org.apache.drill.exec.proto.UserBitShared.RecordBatchDef;
+import org.apache.drill.exec.proto.UserBitShared.SerializedField;
+import org.apache.drill.exec.rpc.RpcException;
+
+/**
+ * Compression of the data bodies of query results. A client asks for it through the
+ * {@link DrillProperties#RESULT_COMPRESSION} connection property, which sets the codec of the user handshake, and the
+ * server confirms the codec it compresses with in its handshake response.
+ * <p>
+ * A compressed body is sent in place of the buffers of a batch, and only when it is smaller than them; the
+ * header of the batch then names the codec. The bodies are streamed through small heap chunks, as the deflater
+ * only takes arrays, into buffers of the connection's allocator.
+ */
+final class ResultCompression {
+
+  static final String DEFLATE = "deflate";
+
+  /**
+   * Bodies smaller than this are not worth compressing.
+   */
+  private static final int MIN_LENGTH = 1024;
+
+  /**
+   * Size of the chunks the bodies are streamed through.
+   */
+  private static final int CHUNK_SIZE = 32 * 1024;
+
+  private ResultCompression() {
+  }
+
+  /**
+   * @return the codec the given value of the {@link DrillProperties#RESULT_COMPRESSION} property asks for
+   */
+  static CompressionCodec getRequestedCodec(String property) {
+    return DEFLATE.equalsIgnoreCase(property) ? CompressionCodec.DEFLATE : CompressionCodec.UNCOMPRESSED;
+  }
+
+  /**
+   * Compresses the buffers of a batch. The buffers are left untouched.
+   *
+   * @return the compressed body, allocated from the given allocator and owned by the caller; or null if the batch
+   *         is too small or compressing does not make it smaller
+   */
+  static DrillBuf deflate(ByteBuf[] buffers, BufferAllocator allocator) {
+    int length = 0;
+    for (ByteBuf buffer : buffers) {
+      length += buffer.readableBytes();
+    }
+    if (length < MIN_LENGTH) {
+      return null;
+    }
+
+    final byte[] input = new byte[Math.min(CHUNK_SIZE, length)];
+    final byte[] output = new byte[input.length];
+    final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    final DrillBuf compressed = allocator.buffer(length);
+    boolean smaller = false;
+    try {
+      for (ByteBuf buffer : buffers) {
+        for (int index = buffer.readerIndex(); index < buffer.writerIndex(); ) {
+          final int n = Math.min(input.length, buffer.writerIndex() - index);
+          buffer.getBytes(index, input, 0, n);
+          index += n;
+          deflater.setInput(input, 0, n);
+          while (!deflater.needsInput()) {
+            if (!write(compressed, output, deflater.deflate(output), length)) {
+              return null;
+            }
+          }
+        }
+      }
+      deflater.finish();
+      while (!deflater.finished()) {
+        if (!write(compressed, output, deflater.deflate(output), length)) {
+          return null;
+        }
+      }
+      smaller = true;
+      return compressed;
+    } finally {
+      deflater.end();
+      if (!smaller) {
+        compressed.release();
+      }
+    }
+  }
+
+  /**
+   * Appends compressed bytes to the body, as long as it stays smaller than the uncompressed one.
+   *
+   * @return false if the body would not be smaller
+   */
+  private static boolean write(DrillBuf compressed, byte[] output, int n, int length) {
+    if (compressed.writerIndex() + n >= length) {
+      return false;
+    }
+    compressed.writeBytes(output, 0, n);
+    return true;
+  }
+
+  /**
+   * Decompresses the body of a batch.
+   *
+   * @param def the definition of the batch, which gives the length of the decompressed body
+   * @return the decompressed body, allocated from the given allocator and owned by the caller
+   */
+  static DrillBuf inflate(RecordBatchDef def, ByteBuf body, BufferAllocator allocator) throws RpcException {
+    int length = 0;
+    for (SerializedField field : def.getFieldList()) {
+      length += field.getBufferLength();
+    }
+
+    final byte[] input = new byte[Math.min(CHUNK_SIZE, Math.max(body.readableBytes(), 1))];
+    final byte[] output = new byte[Math.min(CHUNK_SIZE, Math.max(length, 1))];
+    final Inflater inflater = new Inflater();
+    final DrillBuf decompressed = allocator.buffer(length);
+    boolean done = false;
+    try {
+      int index = body.readerIndex();
+      while (!inflater.finished()) {
+        if (inflater.needsInput()) {
+          final int n = Math.min(input.length, body.writerIndex() - index);
+          if (n == 0) {
+            break;
+          }
+          body.getBytes(index, input, 0, n);
+          index += n;
+          inflater.setInput(input, 0, n);
+        }
+        final int n = inflater.inflate(output);
+        if (n == 0 && inflater.needsDictionary()) {
+          break;
+        }
+        if (decompressed.writerIndex() + n > length) {
+          throw new RpcException(String.format(
+              "Compressed batch of query results decompresses to more than the expected %d bytes.", length));
+        }
+        decompressed.writeBytes(output, 0, n);
+      }
+      if (!inflater.finished() || decompressed.writerIndex() != length) {
+        throw new RpcException(String.format(
+            "Compressed batch of query results decompressed to %d bytes, expected %d.", decompressed.writerIndex(),
+            length));
+      }
+      done = true;
+      return decompressed;
+    } catch (DataFormatException e) {
+      throw new RpcException("Failure while decompressing a batch of query results.", e);
+    } finally {
+      inflater.end();
+      if (!done) {
+        decompressed.release();
+      }
+    }
+  }
+}
@@ -33,6 +33,7 @@ import org.apache.drill.common.config.DrillProperties;
 import org.apache.drill.exec.memory.BufferAllocator;
 import org.apache.drill.exec.proto.CoordinationProtos.DrillbitEndpoint;
 import org.apache.drill.exec.proto.GeneralRPCProtos.Ack;
+import org.apache.drill.exec.proto.UserBitShared.CompressionCodec;
 import org.apache.drill.exec.proto.UserBitShared.QueryData;
 import org.apache.drill.exec.proto.UserBitShared.QueryId;
 import org.apache.drill.exec.proto.UserBitShared.QueryResult;
@@ -61,6 +62,7 @@ import org.apache.drill.exec.rpc.OutOfMemoryHandler;
 import org.apache.drill.exec.rpc.ProtobufLengthDecoder;
 import org.apache.drill.exec.rpc.Response;
 import org.apache.drill.exec.rpc.ResponseSender;
+import org.apache.drill.exec.rpc.RpcBus;
 import org.apache.drill.exec.rpc.RpcConnectionHandler;
 import org.apache.drill.exec.rpc.RpcException;
 import org.apache.drill.exec.rpc.RpcOutcomeListener;
@@ -84,6 +86,7 @@ import com.google.protobuf.MessageLite;
 
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DrillBuf;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 
@@ -103,6 +106,9 @@ public class UserClient extends BasicClient<RpcType, UserClient.UserToBitConnect
   private volatile List<String> serverAuthMechanisms = null;
   private volatile boolean authComplete = true;
 
+  // codec of the query results, as confirmed by the server
+  private volatile CompressionCodec resultCompression = CompressionCodec.UNCOMPRESSED;
+
   public UserClient(String clientName, DrillConfig config, boolean supportComplexTypes,
       BufferAllocator allocator, EventLoopGroup eventLoopGroup, Executor eventExecutor) {
     super(
@@ -149,6 +155,9 @@ public class UserClient extends BasicClient<RpcType, UserClient.UserToBitConnect
         .setSaslSupport(SaslSupport.SASL_PRIVACY)
         .setProperties(properties.serializeForServer());
 
+    hsBuilder.setResultCompression(
+        ResultCompression.getRequestedCodec(properties.getProperty(DrillProperties.RESULT_COMPRESSION)));
+
     // Only used for testing purpose
     if (properties.containsKey(DrillProperties.TEST_SASL_LEVEL)) {
       hsBuilder.setSaslSupport(SaslSupport.valueOf(
@@ -361,8 +370,18 @@ public class UserClient extends BasicClient<RpcType, UserClient.UserToBitConnect
     }
     switch (rpcType) {
     case RpcType.QUERY_DATA_VALUE:
-      queryResultHandler.batchArrived(connection, pBody, dBody);
-      sender.send(new Response(RpcType.ACK, Acks.OK));
+      // the batch is acknowledged once its listener is done with it, see QueryDataBatch.deferAck()
+      final QueryData header = RpcBus.get(pBody, QueryData.PARSER);
+      final DrillBuf decompressed = header.getCompression() == CompressionCodec.DEFLATE
+          ? ResultCompression.inflate(header.getDef(), dBody, allocator) : null;
+      try {
+        queryResultHandler.batchArrived(connection, header,
+            decompressed != null ? decompressed : (DrillBuf) dBody, sender);
+      } finally {
+        if (decompressed != null) {
+          decompressed.release();
+        }
+      }
       break;
     case RpcType.QUERY_RESULT_VALUE:
       queryResultHandler.resultArrived(pBody);
@@ -380,6 +399,7 @@ public class UserClient extends BasicClient<RpcType, UserClient.UserToBitConnect
       serverInfos = inbound.getServerInfos();
     }
     supportedMethods = Sets.immutableEnumSet(inbound.getSupportedMethodsList());
+    resultCompression = inbound.getResultCompression();
 
     switch (inbound.getStatus()) {
     case SUCCESS:
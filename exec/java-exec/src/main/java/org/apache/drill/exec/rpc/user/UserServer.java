@@ -24,11 +24,15 @@ import java.util.UUID;
 import javax.security.sasl.SaslException;
 
 import org.apache.drill.common.config.DrillProperties;
+import org.apache.drill.exec.ExecConstants;
 import org.apache.drill.exec.exception.DrillbitStartupException;
 import org.apache.drill.exec.memory.BufferAllocator;
+import org.apache.drill.exec.metrics.DrillMetrics;
 import org.apache.drill.exec.physical.impl.materialize.QueryWritableBatch;
 import org.apache.drill.exec.proto.GeneralRPCProtos.Ack;
 import org.apache.drill.exec.proto.GeneralRPCProtos.RpcMode;
+import org.apache.drill.exec.proto.UserBitShared.CompressionCodec;
+import org.apache.drill.exec.proto.UserBitShared.QueryData;
 import org.apache.drill.exec.proto.UserBitShared.QueryResult;
 import org.apache.drill.exec.proto.UserBitShared.UserCredentials;
 import org.apache.drill.exec.proto.UserProtos.BitToUserHandshake;
@@ -57,8 +61,11 @@ import org.apache.drill.exec.work.user.UserWorker;
 import org.apache.hadoop.security.HadoopKerberosName;
 import org.slf4j.Logger;
 
+import com.codahale.metrics.Counter;
 import com.google.protobuf.MessageLite;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DrillBuf;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.EventLoopGroup;
@@ -70,6 +77,10 @@ public class UserServer extends BasicServer<RpcType, BitToUserConnection> {
   private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(UserServer.class);
   private static final String SERVER_NAME = "Apache Drill Server";
 
+  private static final Counter compressedBatches = DrillMetrics.getRegistry().counter("drill.results.compressed_batches");
+  private static final Counter compressionSavedBytes =
+      DrillMetrics.getRegistry().counter("drill.results.compression_saved_bytes");
+
   private final UserConnectionConfig config;
   private final UserWorker userWorker;
 
@@ -104,6 +115,8 @@ public class UserServer extends BasicServer<RpcType, BitToUserConnection> {
 
     private UserSession session;
     private UserToBitHandshake inbound;
+    // codec of the query results, confirmed in the handshake
+    private volatile CompressionCodec resultCompression = CompressionCodec.UNCOMPRESSED;
 
     BitToUserConnection(SocketChannel channel) {
       super(channel, config, !config.isAuthEnabled()
@@ -120,6 +133,10 @@ public class UserServer extends BasicServer<RpcType, BitToUserConnection> {
       this.inbound = inbound;
     }
 
+    void setResultCompression(final CompressionCodec resultCompression) {
+      this.resultCompression = resultCompression;
+    }
+
     @Override
     public void finalizeSaslSession() throws IOException {
       final String authorizationID = getSaslServer().getAuthorizationID();
@@ -170,7 +187,24 @@ public class UserServer extends BasicServer<RpcType, BitToUserConnection> {
     @Override
     public void sendData(final RpcOutcomeListener<Ack> listener, final QueryWritableBatch result) {
       logger.trace("Sending data to client with {}", result);
-      send(listener, this, RpcType.QUERY_DATA, result.getHeader(), Ack.class, false, result.getBuffers());
+      QueryData header = result.getHeader();
+      ByteBuf[] buffers = result.getBuffers();
+      if (resultCompression == CompressionCodec.DEFLATE
+          && session.getOptions().getOption(ExecConstants.RESULT_COMPRESSION_ENABLED_VALIDATOR)) {
+        final DrillBuf compressed = ResultCompression.deflate(buffers, config.getAllocator());
+        if (compressed != null) {
+          long length = 0;
+          for (final ByteBuf buffer : buffers) {
+            length += buffer.readableBytes();
+            buffer.release();
+          }
+          compressedBatches.inc();
+          compressionSavedBytes.inc(length - compressed.readableBytes());
+          header = header.toBuilder().setCompression(CompressionCodec.DEFLATE).build();
+          buffers = new ByteBuf[] { compressed };
+        }
+      }
+      send(listener, this, RpcType.QUERY_DATA, header, Ack.class, false, buffers);
     }
 
     @Override
@@ -266,6 +300,13 @@ public class UserServer extends BasicServer<RpcType, BitToUserConnection> {
 
           connection.setHandshake(inbound);
 
+          // results are only compressed with a codec the client asked for, and the server confirms
+          if (inbound.getResultCompression() == CompressionCodec.DEFLATE
+              && userWorker.getSystemOptions().getOption(ExecConstants.RESULT_COMPRESSION_ENABLED_VALIDATOR)) {
+            connection.setResultCompression(CompressionCodec.DEFLATE);
+            respBuilder.setResultCompression(CompressionCodec.DEFLATE);
+          }
+
           if (!config.isAuthEnabled()) {
             connection.finalizeSession(inbound.getCredentials().getUserName());
             respBuilder.setStatus(HandshakeStatus.SUCCESS);
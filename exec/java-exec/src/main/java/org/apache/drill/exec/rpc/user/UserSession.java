@@ -291,6 +291,13 @@ public class UserSession implements AutoCloseable {
     return temporaryTables.get(tableName.toLowerCase());
   }
 
+  /**
+   * @return true if temporary tables were registered in this session
+   */
+  public boolean hasTemporaryTables() {
+    return !temporaryTables.isEmpty();
+  }
+
   /**
    * Checks if passed table is temporary, table name is case-insensitive.
    * Before looking for table checks if passed schema is temporary and returns false if not
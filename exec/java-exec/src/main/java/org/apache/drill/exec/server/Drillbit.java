@@ -42,6 +42,7 @@ import org.apache.drill.exec.store.sys.store.provider.InMemoryStoreProvider;
 import org.apache.drill.exec.store.sys.PersistentStoreProvider;
 import org.apache.drill.exec.store.sys.PersistentStoreRegistry;
 import org.apache.drill.exec.store.sys.store.provider.LocalPersistentStoreProvider;
+import org.apache.drill.exec.store.sys.store.provider.LogStructuredPersistentStoreProvider;
 import org.apache.drill.exec.util.GuavaPatcher;
 import org.apache.drill.exec.work.WorkManager;
 import org.apache.zookeeper.Environment;
@@ -100,7 +101,11 @@ public class Drillbit implements AutoCloseable {
     boolean isDistributedMode = false;
     if (serviceSet != null) {
       coord = serviceSet.getCoordinator();
-      storeProvider = new CachingPersistentStoreProvider(new LocalPersistentStoreProvider(config));
+      if (config.getBoolean(ExecConstants.SYS_STORE_PROVIDER_LOCAL_LOG_ENABLED)) {
+        storeProvider = new CachingPersistentStoreProvider(new LogStructuredPersistentStoreProvider(config));
+      } else {
+        storeProvider = new CachingPersistentStoreProvider(new LocalPersistentStoreProvider(config));
+      }
     } else {
       coord = new ZKClusterCoordinator(config);
       storeProvider = new PersistentStoreRegistry(this.coord, config).newPStoreProvider();
@@ -22,6 +22,7 @@ import io.netty.channel.EventLoopGroup;
 import org.apache.drill.common.config.DrillConfig;
 import org.apache.drill.common.config.LogicalPlanPersistence;
 import org.apache.drill.common.scanner.persistence.ScanResult;
+import org.apache.drill.exec.ExecConstants;
 import org.apache.drill.exec.compile.CodeCompiler;
 import org.apache.drill.exec.coord.ClusterCoordinator;
 import org.apache.drill.exec.expr.fn.FunctionImplementationRegistry;
@@ -38,7 +39,9 @@ import org.apache.drill.exec.rpc.security.AuthenticatorProvider;
 import org.apache.drill.exec.server.options.SystemOptionManager;
 import org.apache.drill.exec.store.SchemaFactory;
 import org.apache.drill.exec.store.StoragePluginRegistry;
+import org.apache.drill.exec.store.dfs.FileListingCache;
 import org.apache.drill.exec.store.sys.PersistentStoreProvider;
+import org.apache.drill.exec.work.foreman.PlanCache;
 
 import java.util.Collection;
 import java.util.concurrent.ExecutorService;
@@ -66,6 +69,8 @@ public class DrillbitContext implements AutoCloseable {
   // operator table for standard SQL operators and functions, Drill built-in UDFs
   private final DrillOperatorTable table;
   private final QueryProfileStoreContext profileStoreContext;
+  private final PlanCache planCache;
+  private final FileListingCache fileListingCache;
 
   public DrillbitContext(
       DrillbitEndpoint endpoint,
@@ -97,6 +102,9 @@ public class DrillbitContext implements AutoCloseable {
     this.endpoint = checkNotNull(endpoint);
     this.provider = provider;
     this.lpPersistence = new LogicalPlanPersistence(context.getConfig(), classpathScan);
+    this.planCache = new PlanCache(context.getConfig().getLong(ExecConstants.PLAN_CACHE_SIZE));
+    this.fileListingCache = new FileListingCache(context.getConfig().getLong(ExecConstants.FILE_LISTING_CACHE_SIZE),
+        context.getExecutor(), context.getConfig().getInt(ExecConstants.FILE_LISTING_PARALLELISM));
 
     // TODO remove escaping "this".
     this.storagePlugins = context.getConfig()
@@ -232,6 +240,14 @@ public class DrillbitContext implements AutoCloseable {
     return table;
   }
 
+  public PlanCache getPlanCache() {
+    return planCache;
+  }
+
+  public FileListingCache getFileListingCache() {
+    return fileListingCache;
+  }
+
   public AuthenticatorProvider getAuthProvider() {
     return context.getAuthProvider();
   }
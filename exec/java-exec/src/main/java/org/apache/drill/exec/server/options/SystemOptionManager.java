@@ -97,6 +97,9 @@ public class SystemOptionManager extends BaseOptionManager implements OptionMana
       ExecConstants.HASHAGG_NUM_PARTITIONS_VALIDATOR,
       ExecConstants.HASHAGG_MAX_MEMORY_VALIDATOR,
       ExecConstants.HASHAGG_MIN_BATCHES_PER_PARTITION_VALIDATOR, // for tuning
+      ExecConstants.FLATTEN_OUTPUT_BATCH_SIZE_VALIDATOR,
+      ExecConstants.FLATTEN_OUTPUT_BATCH_MEMORY_VALIDATOR,
+      ExecConstants.NESTED_LOOP_JOIN_SPATIAL_INDEX_VALIDATOR,
       ExecConstants.CAST_TO_NULLABLE_NUMERIC_OPTION,
       ExecConstants.OUTPUT_FORMAT_VALIDATOR,
       ExecConstants.PARQUET_BLOCK_SIZE_VALIDATOR,
@@ -119,6 +122,9 @@ public class SystemOptionManager extends BaseOptionManager implements OptionMana
       ExecConstants.JSON_READER_ALL_TEXT_MODE_VALIDATOR,
       ExecConstants.ENABLE_UNION_TYPE,
       ExecConstants.TEXT_ESTIMATED_ROW_SIZE,
+      ExecConstants.EASY_READER_ASYNC_READ_AHEAD_VALIDATOR,
+      ExecConstants.EASY_READER_READ_AHEAD_BUFFER_SIZE_VALIDATOR,
+      ExecConstants.EASY_READER_READ_AHEAD_QUEUE_SIZE_VALIDATOR,
       ExecConstants.JSON_EXTENDED_TYPES,
       ExecConstants.JSON_WRITER_UGLIFY,
       ExecConstants.JSON_WRITER_SKIPNULLFIELDS,
@@ -129,6 +135,7 @@ public class SystemOptionManager extends BaseOptionManager implements OptionMana
       ExecConstants.MONGO_READER_ALL_TEXT_MODE_VALIDATOR,
       ExecConstants.MONGO_READER_READ_NUMBERS_AS_DOUBLE_VALIDATOR,
       ExecConstants.MONGO_BSON_RECORD_READER_VALIDATOR,
+      ExecConstants.MONGO_READER_BATCH_SIZE_VALIDATOR,
       ExecConstants.HIVE_OPTIMIZE_SCAN_WITH_NATIVE_READERS_VALIDATOR,
       ExecConstants.SLICE_TARGET_OPTION,
       ExecConstants.AFFINITY_FACTOR,
@@ -139,6 +146,8 @@ public class SystemOptionManager extends BaseOptionManager implements OptionMana
       ExecConstants.QUEUE_THRESHOLD_SIZE,
       ExecConstants.QUEUE_TIMEOUT,
       ExecConstants.SMALL_QUEUE_SIZE,
+      ExecConstants.LOCAL_SHORT_QUERY_ENABLED,
+      ExecConstants.LOCAL_SHORT_QUERY_MAX_COST,
       ExecConstants.MIN_HASH_TABLE_SIZE,
       ExecConstants.MAX_HASH_TABLE_SIZE,
       ExecConstants.EARLY_LIMIT0_OPT,
@@ -170,6 +179,13 @@ public class SystemOptionManager extends BaseOptionManager implements OptionMana
       ExecConstants.IMPLICIT_FILEPATH_COLUMN_LABEL_VALIDATOR,
       ExecConstants.CODE_GEN_EXP_IN_METHOD_SIZE_VALIDATOR,
       ExecConstants.CREATE_PREPARE_STATEMENT_TIMEOUT_MILLIS_VALIDATOR,
+      ExecConstants.PREPARED_STATEMENT_PLAN_CACHE_ENABLED_VALIDATOR,
+      ExecConstants.PREPARED_STATEMENT_PLAN_CACHE_TTL_SECS_VALIDATOR,
+      ExecConstants.PLAN_CACHE_ENABLED_VALIDATOR,
+      ExecConstants.PLAN_CACHE_TTL_SECS_VALIDATOR,
+      ExecConstants.RESULT_COMPRESSION_ENABLED_VALIDATOR,
+      ExecConstants.RESULT_BATCHES_IN_FLIGHT_VALIDATOR,
+      ExecConstants.FILE_LISTING_CACHE_TTL_SECS_VALIDATOR,
       ExecConstants.DYNAMIC_UDF_SUPPORT_ENABLED_VALIDATOR,
       ExecConstants.EXTERNAL_SORT_DISABLE_MANAGED_OPTION,
       ExecConstants.ENABLE_QUERY_PROFILE_VALIDATOR,
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Maps;
@@ -31,6 +32,7 @@ import org.apache.drill.exec.proto.UserBitShared.CoreOperatorType;
 import org.apache.drill.exec.proto.UserBitShared.MajorFragmentProfile;
 import org.apache.drill.exec.proto.UserBitShared.MinorFragmentProfile;
 import org.apache.drill.exec.proto.UserBitShared.OperatorProfile;
+import org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile;
 import org.apache.drill.exec.proto.UserBitShared.QueryProfile;
 import org.apache.drill.exec.proto.UserBitShared.QueryResult.QueryState;
 import org.apache.drill.exec.proto.helper.QueryIdHelper;
@@ -173,6 +175,19 @@ public class ProfileWrapper {
     return NOT_AVAILABLE_LABEL;
   }
 
+  /**
+   * @return the time spent in the planning phases reported by the planner, such as partition pruning
+   */
+  public List<String> getPlanningPhases() {
+    final List<String> phases = new ArrayList<>();
+    for (PlanningPhaseProfile phase : profile.getPlanningPhaseProfileList()) {
+      final long millis = TimeUnit.NANOSECONDS.toMillis(phase.getTimeNanos());
+      phases.add(String.format("%s: %s (%d times)", phase.getName(),
+          new SimpleDurationFormat(0, millis).verbose(), phase.getCount()));
+    }
+    return phases;
+  }
+
   public String getQueuedDuration() {
     //Check if State is ENQUEUED
     if (profile.getState() == QueryState.ENQUEUED) {
@@ -215,6 +215,7 @@ public class StoragePluginRegistryImpl implements StoragePluginRegistry {
     StoragePlugin plugin = plugins.remove(name);
     closePlugin(plugin);
     pluginSystemTable.delete(name);
+    context.getPlanCache().invalidateAll();
   }
 
   private void closePlugin(StoragePlugin plugin) {
@@ -262,6 +263,8 @@ public class StoragePluginRegistryImpl implements StoragePluginRegistry {
         if (persist) {
           pluginSystemTable.put(name, config);
         }
+        // plans may read through the old configuration of the plugin
+        context.getPlanCache().invalidateAll();
 
         return newPlugin;
       }
@@ -0,0 +1,534 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.avro;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.util.Utf8;
+import org.apache.drill.common.exceptions.DrillRuntimeException;
+import org.apache.drill.exec.vector.complex.fn.FieldSelection;
+import org.apache.drill.exec.vector.complex.impl.MapOrListWriterImpl;
+
+import com.google.common.base.Charsets;
+
+import io.netty.buffer.DrillBuf;
+
+/**
+ * Avro {@link DatumReader} that decodes each record of a data file straight into the value vectors,
+ * instead of materializing it as a {@link org.apache.avro.generic.GenericRecord} first.
+ * <p>
+ * When the writer schema of the file is known, a tree of decoders specialized to that schema and to the
+ * projected columns is assembled once: each node reads exactly one Avro type from the binary decoder and
+ * writes it with the matching writer, so there is no per value type dispatch and no intermediate objects
+ * (strings and bytes are copied from reused holders.) Columns that are not projected are skipped at the
+ * binary level without being decoded.
+ * <p>
+ * The decoders are assembled on the first record, so that schema errors are reported while reading,
+ * as they were by the generic reader. The reader returns no datum; the records only go to the writers.
+ */
+public class AvroDrillDatumReader implements DatumReader<Object> {
+
+  private final FieldSelection fieldSelection;
+  private DrillBuf buffer;
+  private MapOrListWriterImpl rootWriter;
+
+  private Schema schema;
+  private ValueDecoder root;
+
+  // decoders of the (possibly recursive) record types already assembled, by schema and selection
+  private final Map<Schema, Map<FieldSelection, RecordDecoder>> recordDecoders = new IdentityHashMap<>();
+  private final Map<Schema, RecordDecoder> recordSkippers = new IdentityHashMap<>();
+
+  public AvroDrillDatumReader(FieldSelection fieldSelection, DrillBuf buffer) {
+    this.fieldSelection = fieldSelection;
+    this.buffer = buffer;
+  }
+
+  public void setRootWriter(MapOrListWriterImpl rootWriter) {
+    this.rootWriter = rootWriter;
+  }
+
+  @Override
+  public void setSchema(Schema schema) {
+    this.schema = schema;
+    this.root = null;
+    recordDecoders.clear();
+    recordSkippers.clear();
+  }
+
+  @Override
+  public Object read(Object reuse, Decoder in) throws IOException {
+    if (root == null) {
+      if (schema.getType() != Schema.Type.RECORD) {
+        throw new DrillRuntimeException("Root object must be record type. Found: " + schema.getType());
+      }
+      root = recordDecoder(schema, fieldSelection);
+    }
+    root.decode(in, rootWriter, null);
+    return reuse;
+  }
+
+  private void ensure(final int length) {
+    buffer = buffer.reallocIfNeeded(length);
+  }
+
+  /**
+   * Returns the decoder of a value of the given schema.
+   *
+   * @param inField whether the value is a field of a record or a value of a map (as opposed to an element
+   *                of an array), in which case a record value is written into a map of the field's name
+   */
+  private ValueDecoder decoder(final Schema schema, final FieldSelection selection, final boolean inField) {
+    final Schema.Type type = schema.getType();
+    switch (type) {
+      case RECORD:
+        final RecordDecoder record = recordDecoder(schema, selection);
+        return inField ? new NestedRecordDecoder(record) : record;
+      case ARRAY:
+        final Schema elementSchema = schema.getElementType();
+        final Schema.Type elementType = elementSchema.getType();
+        return new ArrayDecoder(decoder(elementSchema, selection, false),
+            elementType == Schema.Type.RECORD || elementType == Schema.Type.MAP);
+      case MAP:
+        return new MapDecoder(selection, decoder(schema.getValueType(), FieldSelection.ALL_VALID, true),
+            skipper(schema.getValueType()));
+      case UNION:
+        // currently supporting only nullable union (optional fields) like ["null", "some-type"].
+        final List<Schema> types = schema.getTypes();
+        if (types.get(0).getType() != Schema.Type.NULL) {
+          throw new UnsupportedOperationException("Avro union type must be of the format : [\"null\", \"some-type\"]");
+        }
+        final ValueDecoder[] branches = new ValueDecoder[types.size()];
+        for (int i = 1; i < branches.length; i++) {
+          branches[i] = decoder(types.get(i), selection, inField);
+        }
+        return new NullableDecoder(branches);
+      case STRING:
+        return new StringDecoder();
+      case BYTES:
+        return new BytesDecoder();
+      case INT:
+        return new IntDecoder();
+      case LONG:
+        return new LongDecoder();
+      case FLOAT:
+        return new FloatDecoder();
+      case DOUBLE:
+        return new DoubleDecoder();
+      case BOOLEAN:
+        return new BooleanDecoder();
+      case ENUM:
+        return new EnumDecoder(schema.getEnumSymbols());
+      case NULL:
+        return new NullDecoder();
+      case FIXED:
+        throw new UnsupportedOperationException("Unimplemented type: " + type.toString());
+      default:
+        throw new DrillRuntimeException("Unhandled Avro type: " + type.toString());
+    }
+  }
+
+  private RecordDecoder recordDecoder(final Schema schema, final FieldSelection selection) {
+    Map<FieldSelection, RecordDecoder> bySelection = recordDecoders.get(schema);
+    if (bySelection == null) {
+      bySelection = new IdentityHashMap<>();
+      recordDecoders.put(schema, bySelection);
+    }
+    RecordDecoder record = bySelection.get(selection);
+    if (record == null) {
+      // registered before its fields are assembled, for the records that (indirectly) contain themselves
+      record = new RecordDecoder(schema.getFields().size());
+      bySelection.put(selection, record);
+      int i = 0;
+      for (final Schema.Field field : schema.getFields()) {
+        final FieldSelection fieldSelection = selection.getChild(field.name());
+        record.names[i] = field.name();
+        record.fields[i] = fieldSelection.isNeverValid()
+            ? skipper(field.schema())
+            : decoder(field.schema(), fieldSelection, true);
+        i++;
+      }
+    }
+    return record;
+  }
+
+  /**
+   * Returns a decoder that reads past a value of the given schema without writing it.
+   */
+  private ValueDecoder skipper(final Schema schema) {
+    switch (schema.getType()) {
+      case RECORD:
+        RecordDecoder record = recordSkippers.get(schema);
+        if (record == null) {
+          record = new RecordDecoder(schema.getFields().size());
+          recordSkippers.put(schema, record);
+          int i = 0;
+          for (final Schema.Field field : schema.getFields()) {
+            record.names[i] = field.name();
+            record.fields[i] = skipper(field.schema());
+            i++;
+          }
+        }
+        return record;
+      case ARRAY:
+        return new ArraySkipper(skipper(schema.getElementType()));
+      case MAP:
+        return new MapSkipper(skipper(schema.getValueType()));
+      case UNION:
+        final List<Schema> types = schema.getTypes();
+        final ValueDecoder[] branches = new ValueDecoder[types.size()];
+        for (int i = 0; i < branches.length; i++) {
+          branches[i] = skipper(types.get(i));
+        }
+        return new UnionSkipper(branches);
+      case FIXED:
+        return new FixedSkipper(schema.getFixedSize());
+      default:
+        return new PrimitiveSkipper(schema.getType());
+    }
+  }
+
+  /**
+   * Reads one value from the decoder and writes it, under the given name, with the given writer.
+   */
+  private abstract static class ValueDecoder {
+    abstract void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException;
+
+    /**
+     * Called instead of {@link #decode} for a null value of a nullable union.
+     */
+    void decodeNull(MapOrListWriterImpl writer, String name) {
+    }
+  }
+
+  private static class RecordDecoder extends ValueDecoder {
+    final String[] names;
+    final ValueDecoder[] fields;
+
+    RecordDecoder(int fieldCount) {
+      names = new String[fieldCount];
+      fields = new ValueDecoder[fieldCount];
+    }
+
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      for (int i = 0; i < fields.length; i++) {
+        fields[i].decode(in, writer, names[i]);
+      }
+    }
+  }
+
+  private static class NestedRecordDecoder extends ValueDecoder {
+    private final RecordDecoder record;
+
+    NestedRecordDecoder(RecordDecoder record) {
+      this.record = record;
+    }
+
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      record.decode(in, (MapOrListWriterImpl) writer.map(name), null);
+    }
+
+    @Override
+    void decodeNull(MapOrListWriterImpl writer, String name) {
+      // the map of an optional record exists even if the record is null
+      writer.map(name);
+    }
+  }
+
+  private static class ArrayDecoder extends ValueDecoder {
+    private final ValueDecoder element;
+    private final boolean mapElements;
+
+    ArrayDecoder(ValueDecoder element, boolean mapElements) {
+      this.element = element;
+      this.mapElements = mapElements;
+    }
+
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      MapOrListWriterImpl listWriter = writer.isMapWriter()
+          ? (MapOrListWriterImpl) writer.list(name)
+          : new MapOrListWriterImpl(writer.list.list());
+      if (mapElements) {
+        listWriter = (MapOrListWriterImpl) listWriter.listoftmap(name);
+      }
+      for (long n = in.readArrayStart(); n != 0; n = in.arrayNext()) {
+        for (long i = 0; i < n; i++) {
+          listWriter.start();
+          element.decode(in, listWriter, name);
+          listWriter.end();
+        }
+      }
+    }
+  }
+
+  private static class MapDecoder extends ValueDecoder {
+    private final FieldSelection selection;
+    private final ValueDecoder value;
+    private final ValueDecoder valueSkipper;
+    private Utf8 key = new Utf8();
+
+    MapDecoder(FieldSelection selection, ValueDecoder value, ValueDecoder valueSkipper) {
+      this.selection = selection;
+      this.value = value;
+      this.valueSkipper = valueSkipper;
+    }
+
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      final MapOrListWriterImpl mapWriter = (MapOrListWriterImpl) writer.map(name);
+      mapWriter.start();
+      for (long n = in.readMapStart(); n != 0; n = in.mapNext()) {
+        for (long i = 0; i < n; i++) {
+          key = in.readString(key);
+          final String keyName = key.toString();
+          if (selection.getChild(keyName).isNeverValid()) {
+            valueSkipper.decode(in, null, null);
+          } else {
+            value.decode(in, mapWriter, keyName);
+          }
+        }
+      }
+      mapWriter.end();
+    }
+  }
+
+  private static class NullableDecoder extends ValueDecoder {
+    private final ValueDecoder[] branches;
+
+    NullableDecoder(ValueDecoder[] branches) {
+      this.branches = branches;
+    }
+
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      final int index = in.readIndex();
+      if (index == 0) {
+        in.readNull();
+        if (branches.length > 1) {
+          branches[1].decodeNull(writer, name);
+        }
+      } else {
+        branches[index].decode(in, writer, name);
+      }
+    }
+  }
+
+  private class StringDecoder extends ValueDecoder {
+    private Utf8 value = new Utf8();
+
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      value = in.readString(value);
+      final int length = value.getByteLength();
+      ensure(length);
+      buffer.setBytes(0, value.getBytes(), 0, length);
+      writer.varChar(name).writeVarChar(0, length, buffer);
+    }
+  }
+
+  private class BytesDecoder extends ValueDecoder {
+    private ByteBuffer value;
+
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      value = in.readBytes(value);
+      final int length = value.remaining();
+      ensure(length);
+      buffer.setBytes(0, value);
+      writer.binary(name).writeVarBinary(0, length, buffer);
+    }
+  }
+
+  private class EnumDecoder extends ValueDecoder {
+    private final byte[][] symbols;
+
+    EnumDecoder(List<String> symbols) {
+      // Enum symbols are strings
+      this.symbols = new byte[symbols.size()][];
+      for (int i = 0; i < this.symbols.length; i++) {
+        this.symbols[i] = symbols.get(i).getBytes(Charsets.UTF_8);
+      }
+    }
+
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      final byte[] symbol = symbols[in.readEnum()];
+      ensure(symbol.length);
+      buffer.setBytes(0, symbol);
+      writer.varChar(name).writeVarChar(0, symbol.length, buffer);
+    }
+  }
+
+  private static class IntDecoder extends ValueDecoder {
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      writer.integer(name).writeInt(in.readInt());
+    }
+  }
+
+  private static class LongDecoder extends ValueDecoder {
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      writer.bigInt(name).writeBigInt(in.readLong());
+    }
+  }
+
+  private static class FloatDecoder extends ValueDecoder {
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      writer.float4(name).writeFloat4(in.readFloat());
+    }
+  }
+
+  private static class DoubleDecoder extends ValueDecoder {
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      writer.float8(name).writeFloat8(in.readDouble());
+    }
+  }
+
+  private static class BooleanDecoder extends ValueDecoder {
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      writer.bit(name).writeBit(in.readBoolean() ? 1 : 0);
+    }
+  }
+
+  private static class NullDecoder extends ValueDecoder {
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      // Nothing to do for null type
+      in.readNull();
+    }
+  }
+
+  private static class ArraySkipper extends ValueDecoder {
+    private final ValueDecoder element;
+
+    ArraySkipper(ValueDecoder element) {
+      this.element = element;
+    }
+
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      // skipArray() skips whole blocks when the writer recorded their size, else returns the items to skip
+      for (long n = in.skipArray(); n != 0; n = in.skipArray()) {
+        for (long i = 0; i < n; i++) {
+          element.decode(in, null, null);
+        }
+      }
+    }
+  }
+
+  private static class MapSkipper extends ValueDecoder {
+    private final ValueDecoder value;
+
+    MapSkipper(ValueDecoder value) {
+      this.value = value;
+    }
+
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      for (long n = in.skipMap(); n != 0; n = in.skipMap()) {
+        for (long i = 0; i < n; i++) {
+          in.skipString();
+          value.decode(in, null, null);
+        }
+      }
+    }
+  }
+
+  private static class UnionSkipper extends ValueDecoder {
+    private final ValueDecoder[] branches;
+
+    UnionSkipper(ValueDecoder[] branches) {
+      this.branches = branches;
+    }
+
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      branches[in.readIndex()].decode(in, null, null);
+    }
+  }
+
+  private static class FixedSkipper extends ValueDecoder {
+    private final int size;
+
+    FixedSkipper(int size) {
+      this.size = size;
+    }
+
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      in.skipFixed(size);
+    }
+  }
+
+  private static class PrimitiveSkipper extends ValueDecoder {
+    private final Schema.Type type;
+
+    PrimitiveSkipper(Schema.Type type) {
+      this.type = type;
+    }
+
+    @Override
+    void decode(Decoder in, MapOrListWriterImpl writer, String name) throws IOException {
+      switch (type) {
+        case STRING:
+          in.skipString();
+          break;
+        case BYTES:
+          in.skipBytes();
+          break;
+        case INT:
+          in.readInt();
+          break;
+        case LONG:
+          in.readLong();
+          break;
+        case FLOAT:
+          in.skipFixed(4);
+          break;
+        case DOUBLE:
+          in.skipFixed(8);
+          break;
+        case BOOLEAN:
+          in.readBoolean();
+          break;
+        case ENUM:
+          in.readEnum();
+          break;
+        case NULL:
+          in.readNull();
+          break;
+        default:
+          throw new DrillRuntimeException("Unhandled Avro type: " + type.toString());
+      }
+    }
+  }
+}
@@ -0,0 +1,355 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.dfs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.PositionedReadable;
+import org.apache.hadoop.fs.Seekable;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Input stream that reads ahead of its consumer. A task on the given executor reads the
+ * underlying stream sequentially into buffers of <code>bufferSize</code> bytes, keeping
+ * at most <code>queueSize</code> of them ready, while the fragment thread consumes them.
+ * <p>
+ * The underlying stream must not be instrumented, as it is read from another thread; the
+ * time the consumer spends blocked in this stream is measured by wrapping it in a
+ * {@link DrillFSDataInputStream} instead. A {@link #seek(long)} discards the buffered data
+ * and restarts the read-ahead at the new position; positioned reads bypass the read-ahead.
+ * A failure of the read-ahead is thrown by every later read, until the stream is
+ * repositioned.
+ * <p>
+ * Like other input streams, this class is not thread safe; it must be used by a single
+ * consumer thread.
+ */
+public class AsyncReadAheadInputStream extends InputStream implements Seekable, PositionedReadable {
+  static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(AsyncReadAheadInputStream.class);
+
+  private static final long POLL_MILLIS = 100;
+
+  /**
+   * A buffer filled by the read-ahead task. A buffer with a negative length marks the
+   * end of the stream; a buffer with an error carries a failure of the read-ahead task.
+   */
+  private static class Chunk {
+    final byte[] data;
+    final int length;
+    final IOException error;
+
+    Chunk(byte[] data, int length, IOException error) {
+      this.data = data;
+      this.length = length;
+      this.error = error;
+    }
+  }
+
+  private final FSDataInputStream in;
+  private final ExecutorService executor;
+  private final int bufferSize;
+  private final BlockingQueue<Chunk> readyChunks;
+  private final BlockingQueue<byte[]> freeBuffers;
+
+  private Future<Void> readAheadTask;
+  private volatile boolean stopReadAhead;
+  private Chunk current;
+  private int currentOffset;
+  private long position;
+  private boolean closed;
+
+  public AsyncReadAheadInputStream(FSDataInputStream in, ExecutorService executor, int bufferSize, int queueSize)
+      throws IOException {
+    Preconditions.checkArgument(bufferSize > 0, "Read-ahead buffer size must be positive");
+    Preconditions.checkArgument(queueSize > 0, "Read-ahead queue size must be positive");
+    this.in = in;
+    this.executor = executor;
+    this.bufferSize = bufferSize;
+    // the extra slot holds the end-of-stream (or error) marker
+    this.readyChunks = new ArrayBlockingQueue<>(queueSize + 1);
+    // buffers are recycled: the queued ones, plus the one being filled and the one being consumed
+    this.freeBuffers = new ArrayBlockingQueue<>(queueSize + 2);
+    this.position = in.getPos();
+  }
+
+  /**
+   * Reads the underlying stream until the end of the stream, or until asked to stop.
+   */
+  private class ReadAheadTask implements Callable<Void> {
+    @Override
+    public Void call() throws Exception {
+      try {
+        while (!stopReadAhead) {
+          byte[] buffer = freeBuffers.poll();
+          if (buffer == null) {
+            buffer = new byte[bufferSize];
+          }
+          int length = fill(buffer);
+          if (length > 0 && !enqueue(new Chunk(buffer, length, null))) {
+            return null;
+          }
+          if (length < bufferSize) {
+            enqueue(new Chunk(null, -1, null));
+            return null;
+          }
+        }
+      } catch (IOException e) {
+        enqueue(new Chunk(null, -1, e));
+      } catch (RuntimeException e) {
+        enqueue(new Chunk(null, -1, new IOException(e)));
+      }
+      return null;
+    }
+
+    private int fill(byte[] buffer) throws IOException {
+      int length = 0;
+      while (length < buffer.length) {
+        int n = in.read(buffer, length, buffer.length - length);
+        if (n < 0) {
+          break;
+        }
+        length += n;
+      }
+      return length;
+    }
+
+    /**
+     * Blocks until there is room in the queue; gives up if the read-ahead is stopped
+     * (the consumer may never take the chunk.)
+     */
+    private boolean enqueue(Chunk chunk) throws InterruptedException {
+      while (!stopReadAhead) {
+        if (readyChunks.offer(chunk, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private void startReadAhead() throws IOException {
+    stopReadAhead = false;
+    in.seek(position);
+    readAheadTask = executor.submit(new ReadAheadTask());
+  }
+
+  /**
+   * Stops the read-ahead task and waits for it to finish, so that the underlying stream
+   * can be repositioned or closed. The task is not interrupted, since interrupting a
+   * thread blocked in I/O may close the underlying channel.
+   */
+  private void stopReadAhead() throws IOException {
+    if (readAheadTask == null) {
+      return;
+    }
+    stopReadAhead = true;
+    try {
+      readAheadTask.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while stopping the read-ahead");
+    } catch (ExecutionException e) {
+      logger.debug("Read-ahead task failed while stopping", e.getCause());
+    } finally {
+      readAheadTask = null;
+      releaseCurrent();
+      Chunk chunk;
+      while ((chunk = readyChunks.poll()) != null) {
+        recycle(chunk);
+      }
+    }
+  }
+
+  private void recycle(Chunk chunk) {
+    if (chunk.data != null) {
+      freeBuffers.offer(chunk.data);
+    }
+  }
+
+  private void releaseCurrent() {
+    if (current != null) {
+      recycle(current);
+      current = null;
+    }
+  }
+
+  /**
+   * Makes sure there are unread bytes in the current chunk. Once the end of the stream or an
+   * error is reached, its chunk stays current, so that later calls return or throw it again
+   * instead of waiting for a read-ahead task that has finished.
+   *
+   * @return false at the end of the stream
+   */
+  private boolean ensureData() throws IOException {
+    if (closed) {
+      throw new IOException("Stream is closed");
+    }
+    if (current != null) {
+      if (current.error != null) {
+        throw current.error;
+      }
+      if (current.length < 0) {
+        return false;
+      }
+      if (currentOffset < current.length) {
+        return true;
+      }
+      releaseCurrent();
+    }
+    if (readAheadTask == null) {
+      startReadAhead();
+    }
+    Chunk chunk = readyChunks.poll();
+    if (chunk == null) {
+      try {
+        chunk = readyChunks.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for read-ahead data");
+      }
+    }
+    current = chunk;
+    currentOffset = 0;
+    if (chunk.error != null) {
+      throw chunk.error;
+    }
+    return chunk.length > 0;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!ensureData()) {
+      return -1;
+    }
+    position++;
+    return current.data[currentOffset++] & 0xff;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    Preconditions.checkPositionIndexes(off, off + len, b.length);
+    if (len == 0) {
+      return 0;
+    }
+    int total = 0;
+    while (total < len) {
+      // only block for the first byte; after that return what is already available (an error or the
+      // end of the stream is then returned by the next read)
+      if (total > 0 && (current == null || currentOffset >= current.length) && readyChunks.isEmpty()) {
+        break;
+      }
+      try {
+        if (!ensureData()) {
+          break;
+        }
+      } catch (IOException e) {
+        if (total == 0) {
+          throw e;
+        }
+        // the error chunk is current now, the next read throws it
+        break;
+      }
+      int n = Math.min(len - total, current.length - currentOffset);
+      System.arraycopy(current.data, currentOffset, b, off + total, n);
+      currentOffset += n;
+      total += n;
+    }
+    position += total;
+    return total == 0 ? -1 : total;
+  }
+
+  /**
+   * Skips over the data read ahead, so that fewer bytes than requested are skipped at the end
+   * of the stream. The length of the stream is not known, so seeking past the skipped bytes
+   * could not tell how many of them exist; use {@link #seek(long)} to jump ahead.
+   */
+  @Override
+  public long skip(long n) throws IOException {
+    long skipped = 0;
+    while (skipped < n && ensureData()) {
+      int count = (int) Math.min(n - skipped, current.length - currentOffset);
+      currentOffset += count;
+      skipped += count;
+    }
+    position += skipped;
+    return skipped;
+  }
+
+  @Override
+  public int available() throws IOException {
+    return current == null || current.length < 0 ? 0 : current.length - currentOffset;
+  }
+
+  @Override
+  public void seek(long pos) throws IOException {
+    if (pos == position) {
+      return;
+    }
+    stopReadAhead();
+    position = pos;
+  }
+
+  @Override
+  public long getPos() throws IOException {
+    return position;
+  }
+
+  @Override
+  public boolean seekToNewSource(long targetPos) throws IOException {
+    return false;
+  }
+
+  @Override
+  public int read(long pos, byte[] buffer, int offset, int length) throws IOException {
+    return in.read(pos, buffer, offset, length);
+  }
+
+  @Override
+  public void readFully(long pos, byte[] buffer, int offset, int length) throws IOException {
+    in.readFully(pos, buffer, offset, length);
+  }
+
+  @Override
+  public void readFully(long pos, byte[] buffer) throws IOException {
+    in.readFully(pos, buffer);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      stopReadAhead();
+    } finally {
+      freeBuffers.clear();
+      in.close();
+    }
+  }
+}
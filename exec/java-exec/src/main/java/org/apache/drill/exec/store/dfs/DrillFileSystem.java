@@ -21,13 +21,19 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
 
+import org.apache.drill.exec.ExecConstants;
 import org.apache.drill.exec.ops.OperatorStats;
+import org.apache.drill.exec.server.options.OptionSet;
 import org.apache.drill.exec.util.AssertionUtil;
+import org.apache.drill.exec.util.FileSystemUtil;
 import org.apache.hadoop.classification.InterfaceAudience.LimitedPrivate;
 import org.apache.hadoop.classification.InterfaceAudience.Private;
 import org.apache.hadoop.conf.Configuration;
@@ -83,6 +89,10 @@ public class DrillFileSystem extends FileSystem implements OpenFileTracker {
   private final OperatorStats operatorStats;
   private final CompressionCodecFactory codecFactory;
 
+  private FileListingCache listingCache;
+  private String listingUserName;
+  private long listingTtlMillis;
+
   public DrillFileSystem(Configuration fsConf) throws IOException {
     this(fsConf, null);
   }
@@ -93,6 +103,19 @@ public class DrillFileSystem extends FileSystem implements OpenFileTracker {
     this.operatorStats = operatorStats;
   }
 
+  /**
+   * Makes the directory listings of this file system go through the given cache, and the listings of
+   * several directories (see {@link #listStatuses(List, PathFilter)}) run in parallel.
+   *
+   * @param userName user this file system acts for, whose listings are cached apart from those of other users
+   * @param ttlMillis time to live of the cached listings, listings are not cached if it is not positive
+   */
+  public void setListingCache(FileListingCache listingCache, String userName, long ttlMillis) {
+    this.listingCache = listingCache;
+    this.listingUserName = userName;
+    this.listingTtlMillis = ttlMillis;
+  }
+
   @Override
   public void setConf(Configuration conf) {
     // Guard against setConf(null) call that is called as part of superclass constructor (Configured) of the
@@ -155,48 +178,84 @@ public class DrillFileSystem extends FileSystem implements OpenFileTracker {
 
   @Override
   public FSDataOutputStream create(Path f) throws IOException {
-    return underlyingFs.create(f);
+    try {
+      return underlyingFs.create(f);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
   public FSDataOutputStream create(Path f, boolean overwrite) throws IOException {
-    return underlyingFs.create(f, overwrite);
+    try {
+      return underlyingFs.create(f, overwrite);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
   public FSDataOutputStream create(Path f, Progressable progress) throws IOException {
-    return underlyingFs.create(f, progress);
+    try {
+      return underlyingFs.create(f, progress);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
   public FSDataOutputStream create(Path f, short replication) throws IOException {
-    return underlyingFs.create(f, replication);
+    try {
+      return underlyingFs.create(f, replication);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
   public FSDataOutputStream create(Path f, short replication, Progressable progress) throws IOException {
-    return underlyingFs.create(f, replication, progress);
+    try {
+      return underlyingFs.create(f, replication, progress);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
   public FSDataOutputStream create(Path f, boolean overwrite, int bufferSize) throws IOException {
-    return underlyingFs.create(f, overwrite, bufferSize);
+    try {
+      return underlyingFs.create(f, overwrite, bufferSize);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
   public FSDataOutputStream create(Path f, boolean overwrite, int bufferSize, Progressable progress) throws IOException {
-    return underlyingFs.create(f, overwrite, bufferSize, progress);
+    try {
+      return underlyingFs.create(f, overwrite, bufferSize, progress);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
   public FSDataOutputStream create(Path f, boolean overwrite, int bufferSize, short replication,
       long blockSize) throws IOException {
-    return underlyingFs.create(f, overwrite, bufferSize, replication, blockSize);
+    try {
+      return underlyingFs.create(f, overwrite, bufferSize, replication, blockSize);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
   public FSDataOutputStream create(Path f, boolean overwrite, int bufferSize, short replication, long blockSize, Progressable progress) throws IOException {
-    return underlyingFs.create(f, overwrite, bufferSize, replication, blockSize, progress);
+    try {
+      return underlyingFs.create(f, overwrite, bufferSize, replication, blockSize, progress);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
@@ -338,7 +397,11 @@ public class DrillFileSystem extends FileSystem implements OpenFileTracker {
 
   @Override
   public boolean mkdirs(Path f, FsPermission permission) throws IOException {
-    return underlyingFs.mkdirs(f, permission);
+    try {
+      return underlyingFs.mkdirs(f, permission);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
@@ -457,7 +520,11 @@ public class DrillFileSystem extends FileSystem implements OpenFileTracker {
   @Override
   public boolean mkdirs(Path folderPath) throws IOException {
     if (!underlyingFs.exists(folderPath)) {
-      return underlyingFs.mkdirs(folderPath);
+      try {
+        return underlyingFs.mkdirs(folderPath);
+      } finally {
+        invalidateListings(folderPath);
+      }
     } else if (!underlyingFs.getFileStatus(folderPath).isDir()) {
       throw new IOException("The specified folder path exists and is not a folder.");
     }
@@ -467,32 +534,52 @@ public class DrillFileSystem extends FileSystem implements OpenFileTracker {
   @Override
   public FSDataOutputStream create(Path f, FsPermission permission, EnumSet<CreateFlag> flags, int bufferSize,
       short replication, long blockSize, Progressable progress, ChecksumOpt checksumOpt) throws IOException {
-    return underlyingFs.create(f, permission, flags, bufferSize, replication, blockSize, progress, checksumOpt);
+    try {
+      return underlyingFs.create(f, permission, flags, bufferSize, replication, blockSize, progress, checksumOpt);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
   @Deprecated
   public FSDataOutputStream createNonRecursive(Path f, boolean overwrite, int bufferSize, short replication,
       long blockSize, Progressable progress) throws IOException {
-    return underlyingFs.createNonRecursive(f, overwrite, bufferSize, replication, blockSize, progress);
+    try {
+      return underlyingFs.createNonRecursive(f, overwrite, bufferSize, replication, blockSize, progress);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
   @Deprecated
   public FSDataOutputStream createNonRecursive(Path f, FsPermission permission, boolean overwrite, int bufferSize,
       short replication, long blockSize, Progressable progress) throws IOException {
-    return underlyingFs.createNonRecursive(f, permission, overwrite, bufferSize, replication, blockSize, progress);
+    try {
+      return underlyingFs.createNonRecursive(f, permission, overwrite, bufferSize, replication, blockSize, progress);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
   @Deprecated
   public FSDataOutputStream createNonRecursive(Path f, FsPermission permission, EnumSet<CreateFlag> flags, int bufferSize, short replication, long blockSize, Progressable progress) throws IOException {
-    return underlyingFs.createNonRecursive(f, permission, flags, bufferSize, replication, blockSize, progress);
+    try {
+      return underlyingFs.createNonRecursive(f, permission, flags, bufferSize, replication, blockSize, progress);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
   public boolean createNewFile(Path f) throws IOException {
-    return underlyingFs.createNewFile(f);
+    try {
+      return underlyingFs.createNewFile(f);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
@@ -508,18 +595,29 @@ public class DrillFileSystem extends FileSystem implements OpenFileTracker {
   @Override
   public FSDataOutputStream create(Path f, FsPermission permission, boolean overwrite, int bufferSize, short
       replication, long blockSize, Progressable progress) throws IOException {
-    return underlyingFs.create(f, permission, overwrite, bufferSize, replication, blockSize, progress);
+    try {
+      return underlyingFs.create(f, permission, overwrite, bufferSize, replication, blockSize, progress);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
   public FSDataOutputStream create(Path f, FsPermission permission, EnumSet<CreateFlag> flags, int bufferSize,
       short replication, long blockSize, Progressable progress) throws IOException {
-    return underlyingFs.create(f, permission, flags, bufferSize, replication, blockSize, progress);
+    try {
+      return underlyingFs.create(f, permission, flags, bufferSize, replication, blockSize, progress);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
   public FileStatus[] listStatus(Path f) throws FileNotFoundException, IOException {
-    return underlyingFs.listStatus(f);
+    if (listingCache == null) {
+      return underlyingFs.listStatus(f);
+    }
+    return listingCache.listStatus(underlyingFs, f, listingUserName, listingTtlMillis);
   }
 
   @Override
@@ -529,17 +627,65 @@ public class DrillFileSystem extends FileSystem implements OpenFileTracker {
 
   @Override
   public FileStatus[] listStatus(Path f, PathFilter filter) throws FileNotFoundException, IOException {
-    return underlyingFs.listStatus(f, filter);
+    if (listingCache == null) {
+      return underlyingFs.listStatus(f, filter);
+    }
+    final List<FileStatus> accepted = filter(listStatus(f), filter);
+    return accepted.toArray(new FileStatus[accepted.size()]);
   }
 
   @Override
   public FileStatus[] listStatus(Path[] files) throws FileNotFoundException, IOException {
-    return underlyingFs.listStatus(files);
+    return listStatus(files, FileSystemUtil.DUMMY_FILTER);
   }
 
   @Override
   public FileStatus[] listStatus(Path[] files, PathFilter filter) throws FileNotFoundException, IOException {
-    return underlyingFs.listStatus(files, filter);
+    if (listingCache == null) {
+      return underlyingFs.listStatus(files, filter);
+    }
+    final List<FileStatus> statuses = new ArrayList<>();
+    for (FileStatus[] listing : listStatuses(Arrays.asList(files), filter)) {
+      statuses.addAll(Arrays.asList(listing));
+    }
+    return statuses.toArray(new FileStatus[statuses.size()]);
+  }
+
+  /**
+   * Lists several directories, in parallel if this file system has a listing cache.
+   *
+   * @return the statuses of the files and directories accepted by the filter, for each of the given
+   *         paths in the same order
+   */
+  public List<FileStatus[]> listStatuses(List<Path> paths, PathFilter filter) throws IOException {
+    final List<FileStatus[]> listings = new ArrayList<>(paths.size());
+    if (listingCache == null) {
+      for (Path path : paths) {
+        listings.add(underlyingFs.listStatus(path, filter));
+      }
+      return listings;
+    }
+    for (FileStatus[] listing : listingCache.listStatus(underlyingFs, paths, listingUserName, listingTtlMillis)) {
+      final List<FileStatus> accepted = filter(listing, filter);
+      listings.add(accepted.toArray(new FileStatus[accepted.size()]));
+    }
+    return listings;
+  }
+
+  private static List<FileStatus> filter(FileStatus[] statuses, PathFilter filter) {
+    final List<FileStatus> accepted = new ArrayList<>(statuses.length);
+    for (FileStatus status : statuses) {
+      if (filter.accept(status.getPath())) {
+        accepted.add(status);
+      }
+    }
+    return accepted;
+  }
+
+  private void invalidateListings(Path path) {
+    if (listingCache != null) {
+      listingCache.invalidate(underlyingFs.makeQualified(path));
+    }
   }
 
   @Override
@@ -574,18 +720,31 @@ public class DrillFileSystem extends FileSystem implements OpenFileTracker {
 
   @Override
   public boolean rename(Path src, Path dst) throws IOException {
-    return underlyingFs.rename(src, dst);
+    try {
+      return underlyingFs.rename(src, dst);
+    } finally {
+      invalidateListings(src);
+      invalidateListings(dst);
+    }
   }
 
   @Override
   @Deprecated
   public boolean delete(Path f) throws IOException {
-    return underlyingFs.delete(f);
+    try {
+      return underlyingFs.delete(f);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
   public boolean delete(Path f, boolean recursive) throws IOException {
-    return underlyingFs.delete(f, recursive);
+    try {
+      return underlyingFs.delete(f, recursive);
+    } finally {
+      invalidateListings(f);
+    }
   }
 
   @Override
@@ -754,6 +913,49 @@ public class DrillFileSystem extends FileSystem implements OpenFileTracker {
       return open(path);
     }
   }
+
+  /**
+   * Like {@link #openPossiblyCompressedStream(Path)}, but reads the file ahead on the given executor
+   * if asynchronous read-ahead is enabled (see {@link #openWithReadAhead(Path, OptionSet, ExecutorService)}).
+   */
+  public InputStream openPossiblyCompressedStream(Path path, OptionSet options, ExecutorService readAheadExecutor)
+      throws IOException {
+    CompressionCodec codec = codecFactory.getCodec(path); // infers from file ext.
+    if (codec != null) {
+      return codec.createInputStream(openWithReadAhead(path, options, readAheadExecutor));
+    } else {
+      return openWithReadAhead(path, options, readAheadExecutor);
+    }
+  }
+
+  /**
+   * If the <tt>store.easy.reader.async_read_ahead</tt> option is enabled, return a stream that reads
+   * the file ahead of its consumer on the given executor; otherwise the same stream as {@link #open(Path)}.
+   * Like the streams of {@link #open(Path)}, the stream is instrumented if OperatorStats are provided, so
+   * time spent waiting for the read-ahead is reported as wait time, and tracked until it is closed.
+   */
+  public FSDataInputStream openWithReadAhead(Path f, OptionSet options, ExecutorService readAheadExecutor)
+      throws IOException {
+    if (readAheadExecutor == null || !options.getOption(ExecConstants.EASY_READER_ASYNC_READ_AHEAD_VALIDATOR)) {
+      return open(f);
+    }
+    int bufferSize = (int) options.getOption(ExecConstants.EASY_READER_READ_AHEAD_BUFFER_SIZE_VALIDATOR);
+    int queueSize = (int) options.getOption(ExecConstants.EASY_READER_READ_AHEAD_QUEUE_SIZE_VALIDATOR);
+    // the underlying stream is read by the read-ahead task, so only the read-ahead stream is instrumented
+    FSDataInputStream readAhead = new FSDataInputStream(
+        new AsyncReadAheadInputStream(underlyingFs.open(f), readAheadExecutor, bufferSize, queueSize));
+    if (operatorStats == null) {
+      return readAhead;
+    }
+
+    if (TRACKING_ENABLED) {
+      DrillFSDataInputStream is = new DrillFSDataInputStream(readAhead, operatorStats, this);
+      fileOpened(f, is);
+      return is;
+    }
+
+    return new DrillFSDataInputStream(readAhead, operatorStats);
+  }
   @Override
   public void fileOpened(Path path, DrillFSDataInputStream fsDataInputStream) {
     openedFiles.put(fsDataInputStream, new DebugStackTrace(path, Thread.currentThread().getStackTrace()));
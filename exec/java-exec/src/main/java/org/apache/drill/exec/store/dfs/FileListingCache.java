@@ -0,0 +1,326 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.dfs;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.drill.exec.metrics.DrillMetrics;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import com.codahale.metrics.Counter;
+import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.Sets;
+
+/**
+ * Directory listings of the workspaces of file system plugins, shared by the queries planned on a
+ * Drillbit so that planning does not list the same directories over and over.
+ * <p>
+ * A listing is cached for the directory and the user it was made for, since users may not see the
+ * same files. Listings expire after a time to live, since files may change outside of Drill, and
+ * are dropped when a file system of a workspace creates, deletes or renames files in the directory,
+ * or when tables or views change through this Drillbit. Listings that are not cached are made in
+ * parallel across directories (see {@link #listStatus(FileSystem, List, String, long)}).
+ * <p>
+ * The cached directories are indexed by their parent, so that dropping the listings affected by a
+ * change only visits the cached directories around it. A listing that is being made while its
+ * directory is dropped is not cached, as it may have been made before the change.
+ */
+public class FileListingCache {
+  private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(FileListingCache.class);
+
+  private static final Counter hits = DrillMetrics.getRegistry().counter("drill.file_listing_cache.hits");
+  private static final Counter misses = DrillMetrics.getRegistry().counter("drill.file_listing_cache.misses");
+
+  private final Cache<Key, Listing> listings;
+  // keys of the cached listings by the parent of their directory, guarded by itself
+  private final Map<Path, Set<Key>> keysByParent = new HashMap<>();
+  // listings being made for the cache
+  private final Set<Load> loads = Sets.newConcurrentHashSet();
+  private final ExecutorService executor;
+  private final int parallelism;
+
+  /**
+   * @param maximumSize maximum number of cached directory listings
+   * @param executor executor of the listings made in parallel
+   * @param parallelism maximum number of directories listed at the same time by one call
+   */
+  public FileListingCache(long maximumSize, ExecutorService executor, int parallelism) {
+    this.listings = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .removalListener(new RemovalListener<Key, Listing>() {
+          @Override
+          public void onRemoval(RemovalNotification<Key, Listing> notification) {
+            // a replaced listing leaves its key in the cache
+            if (notification.getCause() != RemovalCause.REPLACED) {
+              unindex(notification.getKey());
+            }
+          }
+        })
+        .build();
+    this.executor = executor;
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Lists a directory, or returns its cached listing if it is not older than <code>ttlMillis</code>.
+   *
+   * @param fs file system of the user, used for the listings that are not cached
+   * @param ttlMillis time to live of the listing, nothing is cached if it is not positive
+   * @return the statuses of the files and directories in the given directory, or the status of the
+   *         given path if it is a file
+   */
+  public FileStatus[] listStatus(FileSystem fs, Path path, String userName, long ttlMillis) throws IOException {
+    if (ttlMillis <= 0) {
+      return fs.listStatus(path);
+    }
+    final Key key = new Key(fs.makeQualified(path), userName);
+    final Listing listing = listings.getIfPresent(key);
+    if (listing != null && System.currentTimeMillis() - listing.creationTime <= ttlMillis) {
+      hits.inc();
+      return listing.statuses.clone();
+    }
+    misses.inc();
+    final Load load = new Load(key.path);
+    loads.add(load);
+    try {
+      final FileStatus[] statuses = fs.listStatus(path);
+      final Listing newListing = new Listing(statuses.clone());
+      listings.put(key, newListing);
+      index(key);
+      // invalidate() marks the loads before it drops the cached listings, so either it drops this
+      // listing, or the mark is seen here
+      if (load.invalidated) {
+        listings.asMap().remove(key, newListing);
+      }
+      return statuses;
+    } finally {
+      loads.remove(load);
+    }
+  }
+
+  /**
+   * Lists several directories, as {@link #listStatus(FileSystem, Path, String, long)} does, in parallel.
+   *
+   * @return the listings of the given paths, in the same order
+   */
+  public List<FileStatus[]> listStatus(final FileSystem fs, final List<Path> paths, final String userName,
+      final long ttlMillis) throws IOException {
+    final FileStatus[][] results = new FileStatus[paths.size()][];
+    final int threads = Math.min(parallelism, paths.size());
+    if (threads <= 1) {
+      for (int i = 0; i < results.length; i++) {
+        results[i] = listStatus(fs, paths.get(i), userName, ttlMillis);
+      }
+      return Arrays.asList(results);
+    }
+
+    // each task lists the next directory that is not taken yet, until there are none left
+    final AtomicInteger next = new AtomicInteger();
+    final List<Future<Void>> futures = new ArrayList<>(threads);
+    for (int i = 0; i < threads; i++) {
+      futures.add(executor.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws IOException {
+          for (int index = next.getAndIncrement(); index < results.length; index = next.getAndIncrement()) {
+            results[index] = listStatus(fs, paths.get(index), userName, ttlMillis);
+          }
+          return null;
+        }
+      }));
+    }
+    try {
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while listing directories.");
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException("Failure while listing directories.", cause);
+    } finally {
+      // stops the remaining listings after a failure
+      next.set(results.length);
+      for (Future<Void> future : futures) {
+        future.cancel(false);
+      }
+    }
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Drops the cached listings affected by a change of the given path: the listings of the path, of
+   * its parent and of the directories under it, for all users.
+   *
+   * @param path qualified path of the file or directory that changed
+   */
+  public void invalidate(Path path) {
+    final Path parent = path.getParent();
+    final String prefix = path.toString() + Path.SEPARATOR;
+    for (Load load : loads) {
+      final Path loading = load.path;
+      if (loading.equals(path) || loading.equals(parent) || loading.toString().startsWith(prefix)) {
+        load.invalidated = true;
+      }
+    }
+
+    final List<Key> affected = new ArrayList<>();
+    synchronized (keysByParent) {
+      if (parent != null) {
+        addKeys(parent.getParent(), parent, affected);
+      }
+      addKeys(parent, path, affected);
+      // the cached directories under the path, level by level
+      final Deque<Path> directories = new ArrayDeque<>();
+      directories.add(path);
+      while (!directories.isEmpty()) {
+        final Set<Key> children = keysByParent.get(directories.poll());
+        if (children != null) {
+          for (Key child : children) {
+            affected.add(child);
+            directories.add(child.path);
+          }
+        }
+      }
+    }
+    listings.invalidateAll(affected);
+  }
+
+  /**
+   * Adds the keys of the cached listings of the given directory to the given list.
+   */
+  private void addKeys(Path parent, Path directory, List<Key> keys) {
+    final Set<Key> siblings = keysByParent.get(parent);
+    if (siblings != null) {
+      for (Key key : siblings) {
+        if (key.path.equals(directory)) {
+          keys.add(key);
+        }
+      }
+    }
+  }
+
+  /**
+   * Drops all the cached listings, after a change of tables or views.
+   */
+  public void invalidateAll() {
+    logger.debug("Dropping {} cached directory listings.", listings.size());
+    for (Load load : loads) {
+      load.invalidated = true;
+    }
+    listings.invalidateAll();
+  }
+
+  private void index(Key key) {
+    synchronized (keysByParent) {
+      final Path parent = key.path.getParent();
+      Set<Key> keys = keysByParent.get(parent);
+      if (keys == null) {
+        keys = new HashSet<>();
+        keysByParent.put(parent, keys);
+      }
+      keys.add(key);
+    }
+  }
+
+  private void unindex(Key key) {
+    synchronized (keysByParent) {
+      final Path parent = key.path.getParent();
+      final Set<Key> keys = keysByParent.get(parent);
+      if (keys != null && keys.remove(key) && keys.isEmpty()) {
+        keysByParent.remove(parent);
+      }
+    }
+  }
+
+  private static class Key {
+    private final Path path;
+    private final String userName;
+
+    Key(Path path, String userName) {
+      this.path = path;
+      this.userName = userName;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(path, userName);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      final Key other = (Key) obj;
+      return path.equals(other.path) && Objects.equal(userName, other.userName);
+    }
+  }
+
+  /**
+   * A listing being made for the cache.
+   */
+  private static class Load {
+    private final Path path;
+    private volatile boolean invalidated;
+
+    Load(Path path) {
+      this.path = path;
+    }
+  }
+
+  private static class Listing {
+    private final FileStatus[] statuses;
+    private final long creationTime = System.currentTimeMillis();
+
+    Listing(FileStatus[] statuses) {
+      this.statuses = statuses;
+    }
+  }
+}
@@ -61,10 +61,12 @@ public class FileSystemPlugin extends AbstractStoragePlugin {
   private final FileSystemConfig config;
   private final Configuration fsConf;
   private final LogicalPlanPersistence lpPersistance;
+  private final FileListingCache fileListingCache;
 
   public FileSystemPlugin(FileSystemConfig config, DrillbitContext context, String name) throws ExecutionSetupException{
     this.config = config;
     this.lpPersistance = context.getLpPersistence();
+    this.fileListingCache = context.getFileListingCache();
     try {
 
       fsConf = new Configuration();
@@ -173,6 +175,13 @@ public class FileSystemPlugin extends AbstractStoragePlugin {
     return setBuilder.build();
   }
 
+  /**
+   * @return the cache of the directory listings of the workspaces, or null if there is none
+   */
+  public FileListingCache getFileListingCache() {
+    return fileListingCache;
+  }
+
   public Configuration getFsConf() {
     return fsConf;
   }
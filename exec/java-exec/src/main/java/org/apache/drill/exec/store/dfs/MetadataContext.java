@@ -29,9 +29,9 @@ public class MetadataContext {
 
   /** Map of directory path to the status of whether modification time was already checked.
    *  Note: the #directories is typically a small percentage of the #files, so the memory footprint
-   *  is expected to be relatively small.
+   *  is expected to be relatively small. The metadata cache files of several directories may be read in parallel.
    */
-  private Map<String, Boolean> dirModifCheckMap = Maps.newHashMap();
+  private Map<String, Boolean> dirModifCheckMap = Maps.newConcurrentMap();
 
   public enum PruneStatus {
     NOT_STARTED,         // initial state
@@ -53,10 +53,8 @@ public class MetadataContext {
   }
 
   public boolean getStatus(String dir) {
-    if (dirModifCheckMap.containsKey(dir)) {
-      return dirModifCheckMap.get(dir);
-    }
-    return false;
+    final Boolean status = dirModifCheckMap.get(dir);
+    return status != null && status;
   }
 
   public void clear() {
@@ -33,6 +33,7 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.apache.calcite.rel.type.RelDataType;
@@ -379,6 +380,11 @@ public class WorkspaceSchemaFactory {
       super(parentSchemaPath, wsName);
       this.schemaConfig = schemaConfig;
       this.fs = ImpersonationUtil.createFileSystem(schemaConfig.getUserName(), fsConf);
+      final FileListingCache listingCache = plugin.getFileListingCache();
+      if (listingCache != null) {
+        fs.setListingCache(listingCache, schemaConfig.getUserName(),
+            TimeUnit.SECONDS.toMillis(schemaConfig.getOption(ExecConstants.FILE_LISTING_CACHE_TTL_SECS).num_val));
+      }
     }
 
     DrillTable getDrillTable(TableInstance key) {
@@ -134,7 +134,8 @@ public class JSONRecordReader extends AbstractRecordReader {
   public void setup(final OperatorContext context, final OutputMutator output) throws ExecutionSetupException {
     try{
       if (hadoopPath != null) {
-        this.stream = fileSystem.openPossiblyCompressedStream(hadoopPath);
+        this.stream = fileSystem.openPossiblyCompressedStream(hadoopPath, fragmentContext.getOptions(),
+            context.getScanExecutor());
       }
 
       this.writer = new VectorContainerWriter(output, unionEnabled);
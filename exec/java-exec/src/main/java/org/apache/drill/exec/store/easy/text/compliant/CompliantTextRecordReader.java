@@ -66,9 +66,11 @@ public class CompliantTextRecordReader extends AbstractRecordReader {
   private DrillFileSystem dfs;
   // operator context for OutputMutator
   private OperatorContext oContext;
+  private FragmentContext fragmentContext;
 
   public CompliantTextRecordReader(FileSplit split, DrillFileSystem dfs, FragmentContext context, TextParsingSettings settings, List<SchemaPath> columns) {
     this.split = split;
+    this.fragmentContext = context;
     this.settings = settings;
     this.dfs = dfs;
     setColumns(columns);
@@ -146,7 +148,7 @@ public class CompliantTextRecordReader extends AbstractRecordReader {
 
       // setup Input using InputStream
       logger.trace("Opening file {}", split.getPath());
-      stream = dfs.openPossiblyCompressedStream(split.getPath());
+      stream = dfs.openPossiblyCompressedStream(split.getPath(), fragmentContext.getOptions(), context.getScanExecutor());
       input = new TextInput(settings, stream, readBuffer, split.getStart(), split.getStart() + split.getLength());
 
       // setup Reader using Input and Output
@@ -20,12 +20,15 @@ package org.apache.drill.exec.store.parquet;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.calcite.rel.RelFieldCollation.NullDirection;
 import org.apache.drill.common.exceptions.ExecutionSetupException;
 import org.apache.drill.common.exceptions.UserException;
 import org.apache.drill.common.expression.ErrorCollector;
@@ -43,6 +46,7 @@ import org.apache.drill.exec.compile.sig.ConstantExpressionIdentifier;
 import org.apache.drill.exec.expr.ExpressionTreeMaterializer;
 import org.apache.drill.exec.expr.fn.FunctionImplementationRegistry;
 import org.apache.drill.exec.expr.stat.ParquetFilterPredicate;
+import org.apache.drill.exec.metrics.DrillMetrics;
 import org.apache.drill.exec.ops.UdfUtilities;
 import org.apache.drill.exec.physical.EndpointAffinity;
 import org.apache.drill.exec.physical.PhysicalOperatorSetupException;
@@ -56,6 +60,7 @@ import org.apache.drill.exec.proto.CoordinationProtos.DrillbitEndpoint;
 import org.apache.drill.exec.server.options.OptionManager;
 import org.apache.drill.exec.store.ColumnExplorer;
 import org.apache.drill.exec.store.StoragePluginRegistry;
+import org.apache.drill.exec.store.TimedRunnable;
 import org.apache.drill.exec.store.dfs.DrillFileSystem;
 import org.apache.drill.exec.store.dfs.FileSelection;
 import org.apache.drill.exec.util.DrillFileSystemUtil;
@@ -99,6 +104,7 @@ import org.apache.parquet.io.api.Binary;
 import org.apache.parquet.schema.OriginalType;
 import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
 
+import com.codahale.metrics.Timer;
 import com.fasterxml.jackson.annotation.JacksonInject;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -115,6 +121,14 @@ import com.google.common.collect.Sets;
 public class ParquetGroupScan extends AbstractFileGroupScan {
   static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(ParquetGroupScan.class);
 
+  /**
+   * Number of metadata cache files of the directories of a selection that are read at the same time.
+   */
+  private static final int METADATA_CACHE_READ_PARALLELISM = 16;
+
+  private static final Timer metadataCacheReadTimer =
+      DrillMetrics.getRegistry().timer("drill.planner.parquet_metadata_cache.read");
+
   private final List<ReadEntryWithPath> entries;
   private final ParquetFormatPlugin formatPlugin;
   private final ParquetFormatConfig formatConfig;
@@ -671,21 +685,29 @@ public class ParquetGroupScan extends AbstractFileGroupScan {
         }
       }
     } else {
-      // we need to expand the files from fileStatuses
+      // we need to expand the files from fileStatuses, reading the metadata cache files of the directories in parallel
+      final List<TimedRunnable<List<String>>> cacheReaders = Lists.newArrayList();
       for (FileStatus status : fileStatuses) {
         Path cacheFileRoot = status.getPath();
         if (status.isDirectory()) {
-          //TODO [DRILL-4496] read the metadata cache files in parallel
           final Path metaPath = new Path(cacheFileRoot, Metadata.METADATA_FILENAME);
-          final Metadata.ParquetTableMetadataBase metadata = Metadata.readBlockMeta(fs, metaPath.toString(), selection.getMetaContext(), formatConfig);
-          for (Metadata.ParquetFileMetadata file : metadata.getFiles()) {
-            fileSet.add(file.getPath());
-          }
+          cacheReaders.add(new MetadataCacheReader(metaPath, selection.getMetaContext()));
         } else {
           final Path path = Path.getPathWithoutSchemeAndAuthority(cacheFileRoot);
           fileSet.add(path.toString());
         }
       }
+      if (!cacheReaders.isEmpty()) {
+        final Timer.Context readTime = metadataCacheReadTimer.time();
+        try {
+          for (List<String> files : TimedRunnable.run("Read parquet metadata cache files", logger, cacheReaders,
+              METADATA_CACHE_READ_PARALLELISM)) {
+            fileSet.addAll(files);
+          }
+        } finally {
+          readTime.stop();
+        }
+      }
     }
 
     if (fileSet.isEmpty()) {
@@ -1037,6 +1059,286 @@ public class ParquetGroupScan extends AbstractFileGroupScan {
     return columnValueCounts.containsKey(column) ? columnValueCounts.get(column) : 0;
   }
 
+  /**
+   * Exact minimum and maximum values of a column; both are null if the column only holds nulls.
+   * The values are Integer for INT32 columns and Long for INT64 columns.
+   */
+  public static class ColumnMinMax {
+    private final Class<?> valueClass;
+    private final Object min;
+    private final Object max;
+
+    public ColumnMinMax(Class<?> valueClass, Object min, Object max) {
+      this.valueClass = valueClass;
+      this.min = min;
+      this.max = max;
+    }
+
+    public Class<?> getValueClass() {
+      return valueClass;
+    }
+
+    public Object getMin() {
+      return min;
+    }
+
+    public Object getMax() {
+      return max;
+    }
+  }
+
+  /**
+   * Reads the metadata cache file of a directory, for the paths of the files it lists.
+   */
+  private class MetadataCacheReader extends TimedRunnable<List<String>> {
+    private final Path metaPath;
+    private final MetadataContext metaContext;
+
+    MetadataCacheReader(Path metaPath, MetadataContext metaContext) {
+      this.metaPath = metaPath;
+      this.metaContext = metaContext;
+    }
+
+    @Override
+    protected List<String> runInner() throws Exception {
+      final Metadata.ParquetTableMetadataBase metadata =
+          Metadata.readBlockMeta(fs, metaPath.toString(), metaContext, formatConfig);
+      final List<String> files = Lists.newArrayList();
+      for (Metadata.ParquetFileMetadata file : metadata.getFiles()) {
+        files.add(file.getPath());
+      }
+      return files;
+    }
+
+    @Override
+    protected IOException convertToIOException(Exception e) {
+      return new IOException("Failure while reading metadata cache file " + metaPath, e);
+    }
+  }
+
+  /**
+   * Statistics of one column in one row group, as far as they are exact.
+   */
+  private static class RowGroupColumnStats {
+    final String path;
+    final PrimitiveTypeName type; // null if the column is not in the file
+    final Long min;       // null if the row group only holds nulls
+    final Long max;
+    final long values;    // number of non-null values (lower bound if the null count is unknown)
+    final boolean mayHaveNulls;
+    final long nulls;     // number of nulls known to be in the row group
+
+    RowGroupColumnStats(String path, PrimitiveTypeName type, Long min, Long max, long values, boolean mayHaveNulls,
+                        long nulls) {
+      this.path = path;
+      this.type = type;
+      this.min = min;
+      this.max = max;
+      this.values = values;
+      this.mayHaveNulls = mayHaveNulls;
+      this.nulls = nulls;
+    }
+  }
+
+  /**
+   * Collect the per row group statistics of a column, for the files of this scan.
+   * Only integer columns are considered, since their parquet statistics are exact
+   * (the statistics of binary and floating point columns may be missing or inexact.)
+   *
+   * @return the statistics, or null if they are not available or not exact for some row group
+   */
+  private List<RowGroupColumnStats> collectRowGroupColumnStats(SchemaPath column) {
+    if (parquetTableMetadata == null || !parquetTableMetadata.isRowGroupPrunable()) {
+      return null; // older metadata cache versions do not keep both min and max values
+    }
+    final List<RowGroupColumnStats> stats = Lists.newArrayList();
+    for (ParquetFileMetadata file : parquetTableMetadata.getFiles()) {
+      if (fileSet != null && !fileSet.contains(file.getPath())) {
+        continue;
+      }
+      for (RowGroupMetadata rowGroup : file.getRowGroups()) {
+        ColumnMetadata columnMetadata = null;
+        for (ColumnMetadata c : rowGroup.getColumns()) {
+          if (column.equals(SchemaPath.getCompoundPath(c.getName()))) {
+            columnMetadata = c;
+            break;
+          }
+        }
+        final long rowCount = rowGroup.getRowCount();
+        if (columnMetadata == null) {
+          // the column is not in this file, so it reads as nulls
+          stats.add(new RowGroupColumnStats(file.getPath(), null, null, null, 0, rowCount > 0, rowCount));
+          continue;
+        }
+        if (!hasExactIntegerStats(columnMetadata)) {
+          return null;
+        }
+        final PrimitiveTypeName type = parquetTableMetadata.getPrimitiveType(columnMetadata.getName());
+        final Long nulls = columnMetadata.getNulls() != null && columnMetadata.getNulls() >= 0
+            ? columnMetadata.getNulls() : null; // a negative count means the count is not known
+        if (columnMetadata.getMinValue() == null || columnMetadata.getMaxValue() == null) {
+          if (nulls != null && nulls == rowCount) {
+            stats.add(new RowGroupColumnStats(file.getPath(), type, null, null, 0, rowCount > 0, rowCount));
+            continue;
+          }
+          return null; // no statistics for this row group
+        }
+        stats.add(new RowGroupColumnStats(file.getPath(), type,
+            ((Number) columnMetadata.getMinValue()).longValue(),
+            ((Number) columnMetadata.getMaxValue()).longValue(),
+            nulls == null ? 1 : rowCount - nulls,
+            nulls == null || nulls > 0,
+            nulls == null ? 0 : nulls));
+      }
+    }
+    return stats;
+  }
+
+  private boolean hasExactIntegerStats(ColumnMetadata columnMetadata) {
+    final PrimitiveTypeName primitiveType = parquetTableMetadata.getPrimitiveType(columnMetadata.getName());
+    final OriginalType originalType = parquetTableMetadata.getOriginalType(columnMetadata.getName());
+    if (primitiveType != PrimitiveTypeName.INT32 && primitiveType != PrimitiveTypeName.INT64) {
+      return false;
+    }
+    if (originalType == null) {
+      return true;
+    }
+    switch (originalType) {
+      case INT_8:
+      case INT_16:
+      case INT_32:
+      case INT_64:
+        return true;
+      default:
+        return false; // unsigned, decimal, date and time values are not compared as plain signed integers
+    }
+  }
+
+  /**
+   * Return the exact minimum and maximum values of the specified column over all the row groups
+   * of the scan, obtained from the row group statistics in the metadata.
+   *
+   * @return the minimum and maximum values, or null if they can not be determined exactly
+   */
+  public ColumnMinMax getColumnMinMax(SchemaPath column) {
+    final List<RowGroupColumnStats> stats = collectRowGroupColumnStats(column);
+    if (stats == null) {
+      return null;
+    }
+    PrimitiveTypeName type = null;
+    Long min = null;
+    Long max = null;
+    for (RowGroupColumnStats rg : stats) {
+      if (rg.type != null) {
+        type = rg.type;
+      }
+      if (rg.min == null) {
+        continue;
+      }
+      min = min == null ? rg.min : Math.min(min, rg.min);
+      max = max == null ? rg.max : Math.max(max, rg.max);
+    }
+    if (type == null) {
+      return null; // the column is not in any of the files, so its type is unknown
+    }
+    if (type == PrimitiveTypeName.INT32) {
+      return new ColumnMinMax(Integer.class,
+          min == null ? null : Integer.valueOf(min.intValue()),
+          max == null ? null : Integer.valueOf(max.intValue()));
+    }
+    return new ColumnMinMax(Long.class, min, max);
+  }
+
+  /**
+   * Apply a row group based prune for "ORDER BY column LIMIT n" queries. Row groups are ordered on
+   * their maximum (or for a descending order, minimum) value of the column, and taken until they
+   * hold at least <code>maxRecords</code> values. The value at that point bounds the first
+   * <code>maxRecords</code> records of the ordered result; row groups whose values are all beyond
+   * that bound can not contribute to the result and are pruned. Row groups with nulls are kept
+   * unless the nulls are known to sort last.
+   *
+   * @param column the (first) sort key
+   * @param descending whether the sort on the column is descending
+   * @param nullDirection where nulls are sorted
+   * @param maxRecords the number of rows requested from the sort (offset + fetch)
+   * @return a new group scan with fewer files, or null if no file can be pruned
+   */
+  public GroupScan applyOrderedLimit(SchemaPath column, final boolean descending, NullDirection nullDirection,
+                                     long maxRecords) {
+    final List<RowGroupColumnStats> stats = collectRowGroupColumnStats(column);
+    if (stats == null || fileSet == null || fileSet.size() <= 1) {
+      return null;
+    }
+
+    final boolean nullsLast = nullDirection == NullDirection.LAST;
+    final Set<String> fileNames = Sets.newHashSet();
+    long needed = Math.max(maxRecords, 1);
+
+    if (!nullsLast) {
+      for (RowGroupColumnStats rg : stats) {
+        if (rg.mayHaveNulls) {
+          fileNames.add(rg.path);
+          if (nullDirection == NullDirection.FIRST) {
+            needed -= rg.nulls; // these sort before all values
+          }
+        }
+      }
+    }
+
+    if (needed > 0) {
+      final List<RowGroupColumnStats> withValues = Lists.newArrayList();
+      for (RowGroupColumnStats rg : stats) {
+        if (rg.min != null) {
+          withValues.add(rg);
+        }
+      }
+      // order on the value whose position bounds the row group's values in the sort order
+      Collections.sort(withValues, new Comparator<RowGroupColumnStats>() {
+        @Override
+        public int compare(RowGroupColumnStats o1, RowGroupColumnStats o2) {
+          return descending ? Long.compare(o2.min, o1.min) : Long.compare(o1.max, o2.max);
+        }
+      });
+
+      Long bound = null;
+      long values = 0;
+      for (RowGroupColumnStats rg : withValues) {
+        values += rg.values;
+        if (values >= needed) {
+          bound = descending ? rg.min : rg.max;
+          break;
+        }
+      }
+      if (bound == null) {
+        return null; // all the row groups are needed
+      }
+
+      // ties on the bound are kept, since further sort keys may order them first
+      for (RowGroupColumnStats rg : withValues) {
+        if (descending ? rg.max >= bound : rg.min <= bound) {
+          fileNames.add(rg.path);
+        }
+      }
+    }
+
+    if (fileNames.isEmpty()) {
+      fileNames.add(fileSet.iterator().next()); // keep one file to get the schema from
+    }
+    if (fileNames.size() == fileSet.size()) {
+      logger.debug("applyOrderedLimit() does not apply!");
+      return null;
+    }
+
+    try {
+      FileSelection newSelection = new FileSelection(null, Lists.newArrayList(fileNames), getSelectionRoot(), cacheFileRoot, false);
+      logger.debug("applyOrderedLimit() reduce parquet file # from {} to {}", fileSet.size(), fileNames.size());
+      return this.clone(newSelection);
+    } catch (IOException e) {
+      logger.warn("Could not apply ordered limit prune due to Exception : {}", e);
+      return null;
+    }
+  }
+
   @Override
   public List<SchemaPath> getPartitionColumns() {
     return new ArrayList<>(partitionColTypeMap.keySet());
@@ -37,6 +37,7 @@ import org.apache.drill.exec.planner.physical.FilterPrel;
 import org.apache.drill.exec.planner.physical.PrelUtil;
 import org.apache.drill.exec.planner.physical.ProjectPrel;
 import org.apache.drill.exec.planner.physical.ScanPrel;
+import org.apache.drill.exec.planner.sql.QueryParameters;
 import org.apache.drill.exec.store.StoragePluginOptimizerRule;
 
 import java.util.List;
@@ -121,13 +122,15 @@ public abstract class ParquetPushDownFilter extends StoragePluginOptimizerRule {
     }
 
     // get a conjunctions of the filter condition. For each conjunction, if it refers to ITEM or FLATTEN expression
-    // then we could not pushed down. Otherwise, it's qualified to be pushed down.
+    // or to parameters of a prepared statement then we could not pushed down. Otherwise, it's qualified to be
+    // pushed down.
     final List<RexNode> predList = RelOptUtil.conjunctions(condition);
 
     final List<RexNode> qualifiedPredList = Lists.newArrayList();
 
     for (final RexNode pred : predList) {
-      if (DrillRelOptUtil.findItemOrFlatten(pred, ImmutableList.<RexNode>of()) == null) {
+      if (DrillRelOptUtil.findItemOrFlatten(pred, ImmutableList.<RexNode>of()) == null
+          && !QueryParameters.hasParameters(pred)) {
         qualifiedPredList.add(pred);
       }
     }
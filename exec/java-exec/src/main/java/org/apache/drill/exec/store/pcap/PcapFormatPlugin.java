@@ -66,8 +66,7 @@ public class PcapFormatPlugin extends EasyFormatPlugin<PcapFormatConfig> {
 
   @Override
   public RecordReader getRecordReader(FragmentContext context, DrillFileSystem dfs, FileWork fileWork, List<SchemaPath> columns, String userName) throws ExecutionSetupException {
-    String path = dfs.makeQualified(new Path(fileWork.getPath())).toUri().getPath();
-    return new PcapRecordReader(path, columns);
+    return new PcapRecordReader(dfs, new Path(fileWork.getPath()), fileWork.getStart(), fileWork.getLength(), columns);
   }
 
   @Override
@@ -18,6 +18,7 @@ package org.apache.drill.exec.store.pcap;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import org.apache.drill.common.exceptions.ExecutionSetupException;
 import org.apache.drill.common.exceptions.UserException;
 import org.apache.drill.common.expression.SchemaPath;
@@ -32,6 +33,7 @@ import org.apache.drill.exec.physical.impl.OutputMutator;
 import org.apache.drill.exec.record.MaterializedField;
 import org.apache.drill.exec.store.AbstractRecordReader;
 import org.apache.drill.exec.store.pcap.decoder.Packet;
+import org.apache.drill.exec.store.pcap.decoder.PacketConstants;
 import org.apache.drill.exec.store.pcap.decoder.PacketDecoder;
 import org.apache.drill.exec.store.pcap.dto.ColumnDto;
 import org.apache.drill.exec.store.pcap.schema.PcapTypes;
@@ -41,15 +43,17 @@ import org.apache.drill.exec.vector.NullableIntVector;
 import org.apache.drill.exec.vector.NullableTimeStampVector;
 import org.apache.drill.exec.vector.NullableVarCharVector;
 import org.apache.drill.exec.vector.ValueVector;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.drill.exec.store.pcap.PcapFormatUtils.parseBytesToASCII;
@@ -58,19 +62,32 @@ public class PcapRecordReader extends AbstractRecordReader {
   private static final Logger logger = LoggerFactory.getLogger(PcapRecordReader.class);
 
   private static final int BATCH_SIZE = 40_000;
+  private static final int MIN_BUFFER_SIZE = 1 << 20;
+
+  // the columns that only need the pcap header of a packet to be decoded
+  private static final Set<String> PCAP_HEADER_COLUMNS = ImmutableSet.of("timestamp", "network", "packet_length");
 
   private OutputMutator output;
 
   private PacketDecoder decoder;
   private ImmutableList<ProjectedColumnInfo> projectedCols;
+  private boolean decodeNetworkLayer;
 
   private byte[] buffer;
   private int offset = 0;
-  private InputStream in;
+  private FSDataInputStream in;
   private int validBytes;
-
-  private String inputPath;
-  private List<SchemaPath> projectedColumns;
+  // position in the file of the first byte of the buffer
+  private long bufferPosition;
+  private boolean endOfFile;
+  // the buffer keeps at least this many bytes ahead of the packet being decoded
+  private int packetSpace;
+
+  private final FileSystem fs;
+  private final Path inputPath;
+  private final long start;
+  private final long end;
+  private final List<SchemaPath> projectedColumns;
 
   private static final Map<PcapTypes, MinorType> TYPES;
 
@@ -88,9 +105,18 @@ public class PcapRecordReader extends AbstractRecordReader {
         .build();
   }
 
-  public PcapRecordReader(final String inputPath,
+  /**
+   * Reads the packets of a file that start in the given range (split) of the file.
+   */
+  public PcapRecordReader(final FileSystem fs,
+                          final Path inputPath,
+                          final long start,
+                          final long length,
                           final List<SchemaPath> projectedColumns) {
+    this.fs = fs;
     this.inputPath = inputPath;
+    this.start = start;
+    this.end = start + length;
     this.projectedColumns = projectedColumns;
   }
 
@@ -99,19 +125,67 @@ public class PcapRecordReader extends AbstractRecordReader {
     try {
 
       this.output = output;
-      this.buffer = new byte[100000];
-      this.in = new FileInputStream(inputPath);
+      setColumns(projectedColumns);
+      this.in = fs.open(inputPath);
       this.decoder = new PacketDecoder(in);
-      this.validBytes = in.read(buffer);
+      this.packetSpace = PacketConstants.PCAP_HEADER_SIZE + decoder.getMaxLength();
+      this.buffer = new byte[Math.max(MIN_BUFFER_SIZE, 4 * packetSpace)];
+      this.bufferPosition = PacketDecoder.GLOBAL_HEADER_SIZE;
+      if (start > bufferPosition) {
+        seekToFirstPacket();
+      } else {
+        fillBuffer();
+      }
       this.projectedCols = getProjectedColsIfItNull();
-      setColumns(projectedColumns);
     } catch (IOException io) {
       throw UserException.dataReadError(io)
-          .addContext("File name:", inputPath)
+          .addContext("File name:", inputPath.toUri().getPath())
           .build(logger);
     }
   }
 
+  /**
+   * Moves the remaining data to the start of the buffer and fills the rest of it from the file.
+   */
+  private void fillBuffer() throws IOException {
+    System.arraycopy(buffer, offset, buffer, 0, validBytes - offset);
+    validBytes -= offset;
+    bufferPosition += offset;
+    offset = 0;
+
+    while (!endOfFile && validBytes < buffer.length) {
+      int n = in.read(buffer, validBytes, buffer.length - validBytes);
+      if (n < 0) {
+        endOfFile = true;
+      } else {
+        validBytes += n;
+      }
+    }
+  }
+
+  /**
+   * Positions the reader on the first packet that starts at or after the start of the split. The packets
+   * before it belong to the previous split, whose reader stops at the first packet starting in this one.
+   */
+  private void seekToFirstPacket() throws IOException {
+    in.seek(start);
+    bufferPosition = start;
+    while (true) {
+      fillBuffer();
+      // leave room after the candidates to check the packets that follow them
+      final int limit = endOfFile ? validBytes : validBytes - buffer.length / 2;
+      final int packetStart = decoder.findPacketStart(buffer, offset, limit, validBytes);
+      if (packetStart >= 0) {
+        offset = packetStart;
+        return;
+      }
+      offset = Math.max(offset, limit);
+      if (endOfFile) {
+        return;
+      }
+    }
+  }
+
   @Override
   public int next() {
     try {
@@ -125,8 +199,11 @@ public class PcapRecordReader extends AbstractRecordReader {
 
   @Override
   public void close() throws Exception {
-//    buffer = null;
-//    in.close();
+    buffer = null;
+    if (in != null) {
+      in.close();
+      in = null;
+    }
   }
 
   private ImmutableList<ProjectedColumnInfo> getProjectedColsIfItNull() {
@@ -141,6 +218,12 @@ public class PcapRecordReader extends AbstractRecordReader {
       column = schema.getColumnByIndex(i);
 
       final String name = column.getColumnName().toLowerCase();
+      if (!isProjected(name)) {
+        continue;
+      }
+      if (!PCAP_HEADER_COLUMNS.contains(name)) {
+        decodeNetworkLayer = true;
+      }
       final PcapTypes type = column.getColumnType();
       TypeProtos.MinorType minorType = TYPES.get(type);
 
@@ -150,6 +233,25 @@ public class PcapRecordReader extends AbstractRecordReader {
     return pciBuilder.build();
   }
 
+  /**
+   * Only the projected columns are decoded. A skip query (count(*)) only needs the number of packets,
+   * so it reads a single column that is decoded from the pcap header.
+   */
+  private boolean isProjected(final String name) {
+    if (isSkipQuery()) {
+      return name.equals("timestamp");
+    }
+    if (isStarQuery()) {
+      return true;
+    }
+    for (SchemaPath column : getColumns()) {
+      if (column.getRootSegment().getPath().equalsIgnoreCase(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private ProjectedColumnInfo getProjectedColumnInfo(final ColumnDto column,
                                                      final String name,
                                                      final MinorType minorType) {
@@ -194,20 +296,17 @@ public class PcapRecordReader extends AbstractRecordReader {
   private int parsePcapFilesAndPutItToTable() throws IOException {
     Packet packet = new Packet();
     int counter = 0;
-    while (offset < validBytes && counter != BATCH_SIZE) {
-
-      if (validBytes - offset < 9000) {
-        System.arraycopy(buffer, offset, buffer, 0, validBytes - offset);
-        validBytes = validBytes - offset;
-        offset = 0;
+    while (counter != BATCH_SIZE) {
 
-        int n = in.read(buffer, validBytes, buffer.length - validBytes);
-        if (n > 0) {
-          validBytes += n;
-        }
+      if (!endOfFile && validBytes - offset < packetSpace) {
+        fillBuffer();
+      }
+      // the packets starting after the end of the split belong to the next one
+      if (offset >= validBytes || bufferPosition + offset >= end) {
+        break;
       }
 
-      offset = decoder.decodePacket(buffer, offset, packet);
+      offset = decoder.decodePacket(buffer, offset, packet, decodeNetworkLayer);
 
       if (addDataToTable(packet, decoder.getNetwork(), counter)) {
         counter++;
@@ -74,10 +74,29 @@ public class Packet {
 
   @SuppressWarnings("WeakerAccess")
   public int decodePcap(final byte[] buffer, final int offset, final boolean byteOrder, final int maxLength) {
+    return decodePcap(buffer, offset, byteOrder, maxLength, true);
+  }
+
+  /**
+   * Decodes the packet at the given offset of the buffer.
+   *
+   * @param decodeNetworkLayer false to only decode the pcap header (timestamp and lengths), when none of
+   *                           the network or transport layer fields are needed
+   * @return the offset of the next packet
+   */
+  @SuppressWarnings("WeakerAccess")
+  public int decodePcap(final byte[] buffer, final int offset, final boolean byteOrder, final int maxLength,
+                        final boolean decodeNetworkLayer) {
     raw = buffer;
     etherOffset = offset + PacketConstants.PCAP_HEADER_SIZE;
     decodePcapHeader(raw, byteOrder, maxLength, offset);
-    decodeEtherPacket();
+    if (decodeNetworkLayer) {
+      decodeEtherPacket();
+    } else {
+      etherProtocol = 0;
+      protocol = 0;
+      isRoutingV6 = false;
+    }
     return offset + PacketConstants.PCAP_HEADER_SIZE + originalLength;
   }
 
@@ -305,6 +324,9 @@ public class Packet {
   private void decodeEtherPacket() {
     etherProtocol = getShort(raw, etherOffset + PacketConstants.PACKET_PROTOCOL_OFFSET);
     ipOffset = etherOffset + PacketConstants.IP_OFFSET;
+    // the packet may be reused for the next one
+    protocol = 0;
+    isRoutingV6 = false;
     if (isIpV4Packet()) {
       protocol = processIpV4Packet();
     } else if (isIpV6Packet()) {
@@ -24,6 +24,7 @@ import java.io.InputStream;
 
 import static org.apache.drill.exec.store.pcap.PcapFormatUtils.getInt;
 import static org.apache.drill.exec.store.pcap.PcapFormatUtils.getIntFileOrder;
+import static org.apache.drill.exec.store.pcap.PcapFormatUtils.getShort;
 import static org.apache.drill.exec.store.pcap.PcapFormatUtils.getShortFileOrder;
 
 public class PacketDecoder {
@@ -54,10 +55,19 @@ public class PacketDecoder {
   //  network: link-layer header type, specifying the type of headers at the beginning of the packet (e.g.
   //     1 for Ethernet, see tcpdump.org's link-layer header types page for details); this can be various
   //     types such as 802.11, 802.11 with various radio information, PPP, Token Ring, FDDI, etc.
-  private static final int GLOBAL_HEADER_SIZE = 24;
+  public static final int GLOBAL_HEADER_SIZE = 24;
   private static final int PCAP_MAGIC_LITTLE_ENDIAN = 0xD4C3B2A1;
   private static final int PCAP_MAGIC_NUMBER = 0xA1B2C3D4;
 
+  private static final int LINKTYPE_ETHERNET = 1;
+  // the largest packet length tools write (tcpdump's maximum snapshot length)
+  private static final int MAX_PACKET_LENGTH = 262144;
+  // consecutive packet headers checked to recognize a packet boundary
+  private static final int BOUNDARY_CHECK_PACKETS = 3;
+  private static final long MAX_PACKET_GAP_SECONDS = 24 * 60 * 60;
+  // smaller values of the Ethernet type field are 802.3 frame lengths
+  private static final int MIN_ETHER_TYPE = 0x0600;
+
 
   private final int maxLength;
   private final int network;
@@ -93,10 +103,75 @@ public class PacketDecoder {
     return p.decodePcap(buffer, offset, bigEndian, maxLength);
   }
 
+  /**
+   * Decodes the packet at the given offset of the buffer, like {@link #decodePacket(byte[], int, Packet)},
+   * but only decodes the network and transport layers if asked to.
+   */
+  public int decodePacket(final byte[] buffer, final int offset, Packet p, final boolean decodeNetworkLayer) {
+    return p.decodePcap(buffer, offset, bigEndian, maxLength, decodeNetworkLayer);
+  }
+
+  /**
+   * Finds the first packet that starts in a range of a buffer read from an arbitrary position of the
+   * file, such as the start of a split. Pcap files have no sync markers, so a position is taken as a
+   * packet boundary when it and the following packets have plausible headers: microseconds below a
+   * second, a captured length within the snapshot length and not above the original length, an Ethernet
+   * type in the frame, and timestamps close to each other. The chance of packet data passing these
+   * checks for several packets in a row is negligible.
+   *
+   * @param offset first candidate position
+   * @param limit end (exclusive) of the candidate positions
+   * @param validBytes end of the data in the buffer; the packets checked after a candidate may go past
+   *                   it, as long as the candidate's own header is complete
+   * @return the offset of the first packet, or -1 if no position in the range is a packet boundary
+   */
+  public int findPacketStart(final byte[] buffer, final int offset, final int limit, final int validBytes) {
+    for (int candidate = offset; candidate < limit && candidate + PacketConstants.PCAP_HEADER_SIZE <= validBytes; candidate++) {
+      if (isPacketStart(buffer, candidate, validBytes)) {
+        return candidate;
+      }
+    }
+    return -1;
+  }
+
+  private boolean isPacketStart(final byte[] buffer, final int offset, final int validBytes) {
+    int position = offset;
+    long previousSeconds = -1;
+    for (int i = 0; i < BOUNDARY_CHECK_PACKETS; i++) {
+      if (position + PacketConstants.PCAP_HEADER_SIZE > validBytes) {
+        return i > 0;
+      }
+      final long seconds = getIntFileOrder(bigEndian, buffer, position + PacketConstants.TIMESTAMP_OFFSET) & 0xFFFFFFFFL;
+      final int micros = getIntFileOrder(bigEndian, buffer, position + PacketConstants.TIMESTAMP_MICRO_OFFSET);
+      final int capturedLength = getIntFileOrder(bigEndian, buffer, position + PacketConstants.ORIGINAL_LENGTH_OFFSET);
+      final int length = getIntFileOrder(bigEndian, buffer, position + PacketConstants.ACTUAL_LENGTH_OFFSET);
+      if (micros < 0 || micros >= 1000000
+          || capturedLength < PacketConstants.ETHER_HEADER_LENGTH || capturedLength > maxLength
+          || length < capturedLength || length > MAX_PACKET_LENGTH) {
+        return false;
+      }
+      if (previousSeconds >= 0 && Math.abs(seconds - previousSeconds) > MAX_PACKET_GAP_SECONDS) {
+        return false;
+      }
+      final int etherTypeOffset = position + PacketConstants.PCAP_HEADER_SIZE + PacketConstants.ETHER_TYPE_OFFSET;
+      if (network == LINKTYPE_ETHERNET && etherTypeOffset + 2 <= validBytes
+          && getShort(buffer, etherTypeOffset) < MIN_ETHER_TYPE) {
+        return false;
+      }
+      previousSeconds = seconds;
+      position += PacketConstants.PCAP_HEADER_SIZE + capturedLength;
+    }
+    return true;
+  }
+
   public Packet packet() {
     return new Packet();
   }
 
+  public int getMaxLength() {
+    return maxLength;
+  }
+
   public int getNetwork() {
     return network;
   }
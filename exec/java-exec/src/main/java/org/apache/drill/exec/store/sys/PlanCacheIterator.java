@@ -0,0 +1,100 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.sys;
+
+import java.sql.Timestamp;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.apache.drill.exec.ExecConstants;
+import org.apache.drill.exec.ops.FragmentContext;
+import org.apache.drill.exec.proto.CoordinationProtos.DrillbitEndpoint;
+import org.apache.drill.exec.server.options.OptionManager;
+import org.apache.drill.exec.util.ImpersonationUtil;
+import org.apache.drill.exec.work.foreman.PlanCache;
+import org.apache.drill.exec.work.foreman.PlanCache.CachedPlan;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.Iterators;
+
+/**
+ * The plans cached by a Drillbit, one record per plan. When user authentication is enabled, users
+ * who are not administrators only see the plans of their own queries.
+ */
+public class PlanCacheIterator implements Iterator<Object> {
+
+  private final DrillbitEndpoint endpoint;
+  private final Iterator<Map.Entry<PlanCache.Key, CachedPlan>> entries;
+
+  public PlanCacheIterator(final FragmentContext context) {
+    this.endpoint = context.getIdentity();
+    final Iterator<Map.Entry<PlanCache.Key, CachedPlan>> allEntries =
+        context.getDrillbitContext().getPlanCache().getEntries().entrySet().iterator();
+    final String userName = context.getQueryUserName();
+    final OptionManager options = context.getOptions();
+    if (!context.getConfig().getBoolean(ExecConstants.USER_AUTHENTICATION_ENABLED)
+        || ImpersonationUtil.hasAdminPrivileges(userName,
+            options.getOption(ExecConstants.ADMIN_USERS_VALIDATOR),
+            options.getOption(ExecConstants.ADMIN_USER_GROUPS_VALIDATOR))) {
+      this.entries = allEntries;
+    } else {
+      this.entries = Iterators.filter(allEntries, new Predicate<Map.Entry<PlanCache.Key, CachedPlan>>() {
+        @Override
+        public boolean apply(Map.Entry<PlanCache.Key, CachedPlan> entry) {
+          return userName.equals(entry.getKey().getUserName());
+        }
+      });
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return entries.hasNext();
+  }
+
+  @Override
+  public Object next() {
+    final Map.Entry<PlanCache.Key, CachedPlan> entry = entries.next();
+    final PlanCacheEntry planCacheEntry = new PlanCacheEntry();
+    planCacheEntry.hostname = endpoint.getAddress();
+    planCacheEntry.user_port = endpoint.getUserPort();
+    planCacheEntry.query = entry.getKey().getSql();
+    planCacheEntry.user_name = entry.getKey().getUserName();
+    planCacheEntry.default_schema = entry.getKey().getDefaultSchema();
+    planCacheEntry.parameter_count = entry.getValue().getParameterCount();
+    planCacheEntry.created = new Timestamp(entry.getValue().getCreationTime());
+    planCacheEntry.hits = entry.getValue().getHits();
+    return planCacheEntry;
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException();
+  }
+
+  public static class PlanCacheEntry {
+    public String hostname;
+    public long user_port;
+    public String query;
+    public String user_name;
+    public String default_schema;
+    public int parameter_count;
+    public Timestamp created;
+    public long hits;
+  }
+}
@@ -0,0 +1,76 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.sys;
+
+import java.util.Iterator;
+
+import org.apache.drill.exec.ops.FragmentContext;
+import org.apache.drill.exec.proto.CoordinationProtos.DrillbitEndpoint;
+import org.apache.drill.exec.work.foreman.PlanCache;
+
+/**
+ * The lookups and evictions of the plan cache of a Drillbit, since it started.
+ */
+public class PlanCacheStatsIterator implements Iterator<Object> {
+
+  private boolean beforeFirst = true;
+  private final FragmentContext context;
+
+  public PlanCacheStatsIterator(final FragmentContext context) {
+    this.context = context;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return beforeFirst;
+  }
+
+  @Override
+  public Object next() {
+    if (!beforeFirst) {
+      throw new IllegalStateException();
+    }
+    beforeFirst = false;
+    final PlanCacheStats planCacheStats = new PlanCacheStats();
+
+    final DrillbitEndpoint endpoint = context.getIdentity();
+    planCacheStats.hostname = endpoint.getAddress();
+    planCacheStats.user_port = endpoint.getUserPort();
+
+    final PlanCache planCache = context.getDrillbitContext().getPlanCache();
+    planCacheStats.entries = planCache.size();
+    planCacheStats.hits = planCache.getStats().getHits();
+    planCacheStats.misses = planCache.getStats().getMisses();
+    planCacheStats.evictions = planCache.getStats().getEvictions();
+    return planCacheStats;
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException();
+  }
+
+  public static class PlanCacheStats {
+    public String hostname;
+    public long user_port;
+    public long entries;
+    public long hits;
+    public long misses;
+    public long evictions;
+  }
+}
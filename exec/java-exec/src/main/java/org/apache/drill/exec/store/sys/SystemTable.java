@@ -26,8 +26,9 @@ import org.apache.drill.exec.store.sys.OptionIterator.OptionValueWrapper;
  * An enumeration of all tables in Drill's system ("sys") schema.
  * <p>
  *   OPTION, DRILLBITS and VERSION are local tables available on every Drillbit.
- *   MEMORY and THREADS are distributed tables with one record on every
- *   Drillbit.
+ *   MEMORY, THREADS and PLAN_CACHE_STATS are distributed tables with one record on
+ *   every Drillbit. PLAN_CACHE is a distributed table with one record per plan cached
+ *   on every Drillbit.
  * </p>
  */
 public enum SystemTable {
@@ -72,6 +73,20 @@ public enum SystemTable {
   public Iterator<Object> getIterator(final FragmentContext context) {
       return new ThreadsIterator(context);
     }
+  },
+
+  PLAN_CACHE("plan_cache", true, PlanCacheIterator.PlanCacheEntry.class) {
+    @Override
+    public Iterator<Object> getIterator(final FragmentContext context) {
+      return new PlanCacheIterator(context);
+    }
+  },
+
+  PLAN_CACHE_STATS("plan_cache_stats", true, PlanCacheStatsIterator.PlanCacheStats.class) {
+    @Override
+    public Iterator<Object> getIterator(final FragmentContext context) {
+      return new PlanCacheStatsIterator(context);
+    }
   };
 
 //  private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(SystemTable.class);
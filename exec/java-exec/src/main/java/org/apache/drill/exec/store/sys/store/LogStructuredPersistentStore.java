@@ -0,0 +1,740 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.sys.store;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+import javax.annotation.Nullable;
+
+import org.apache.drill.common.collections.ImmutableEntry;
+import org.apache.drill.common.concurrent.AutoCloseableLock;
+import org.apache.drill.exec.exception.VersionMismatchException;
+import org.apache.drill.exec.store.sys.BasePersistentStore;
+import org.apache.drill.exec.store.sys.PersistentStoreConfig;
+import org.apache.drill.exec.store.sys.PersistentStoreMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Function;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Predicates;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+
+/**
+ * A store that appends its values to log segments in a local directory, and keeps the location of the
+ * latest value of each key in an in-memory index. Values are not kept in memory: they are read from
+ * their segment when they are asked for.
+ * <p>
+ * Each record of a segment is made of a header, the checksum of the record and the lengths of its key
+ * and of its value, followed by the key and the value. A deleted key is recorded with a value length of
+ * -1. A segment is closed once it reaches its maximum size, and the next records go to a new segment.
+ * <p>
+ * When the overwritten and deleted values take more than a given fraction of the bytes of a closed
+ * segment, the segment is compacted in the background, one segment at a time, oldest first. Its latest
+ * values are copied to a new file without holding any lock, then the new file replaces the segment and the
+ * index is pointed at it under the write lock, skipping the keys written again in the meantime. Deletions
+ * are kept until their segment is the oldest one, as they hide the values of older segments.
+ * <p>
+ * The index is rebuilt from the segments when the store is opened. A record that was partly written to
+ * the last segment when the Drillbit stopped is dropped. The directory is locked while the store is open,
+ * since its segments can only have one writer.
+ */
+public class LogStructuredPersistentStore<V> extends BasePersistentStore<V> {
+  private static final Logger logger = LoggerFactory.getLogger(LogStructuredPersistentStore.class);
+
+  private static final String SEGMENT_SUFFIX = ".log";
+  private static final String LOCK_FILE = "store.lock";
+  private static final String COMPACTION_SUFFIX = ".compacting";
+  // checksum, key length, value length
+  private static final int HEADER_SIZE = 12;
+  private static final int TOMBSTONE = -1;
+
+  private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+  private final AutoCloseableLock readLock = new AutoCloseableLock(readWriteLock.readLock());
+  private final AutoCloseableLock writeLock = new AutoCloseableLock(readWriteLock.writeLock());
+
+  private final File dir;
+  private final PersistentStoreConfig<V> config;
+  private final long segmentSize;
+  private final double compactionThreshold;
+  private final boolean sync;
+  private final ExecutorService compactor;
+  private final FileChannel lockChannel;
+  private final FileLock dirLock;
+
+  // segments by id, oldest first; the last one is the active segment
+  private final TreeMap<Long, Segment> segments = new TreeMap<>();
+  // location of the latest value of each key, in key order
+  private final TreeMap<String, Location> index = new TreeMap<>();
+  private Segment active;
+  private int version;
+  // the running compaction, if any
+  private Future<?> compaction;
+  private boolean released;
+
+  /**
+   * Opens the store kept in the given directory, creating it if needed.
+   *
+   * @param dir directory of the segments of the store
+   * @param segmentSize size above which a segment is closed and a new one is started
+   * @param compactionThreshold fraction of the bytes of a segment taken by overwritten or deleted
+   *                            values above which the segment is compacted
+   * @param sync whether every write is forced to disk before it returns
+   * @param compactor executor of the compactions of the store
+   */
+  @SuppressWarnings("resource")
+  public LogStructuredPersistentStore(File dir, PersistentStoreConfig<V> config, long segmentSize,
+      double compactionThreshold, boolean sync, ExecutorService compactor) throws IOException {
+    this.dir = dir;
+    this.config = config;
+    this.segmentSize = segmentSize;
+    this.compactionThreshold = compactionThreshold;
+    this.sync = sync;
+    this.compactor = compactor;
+
+    if (!dir.isDirectory() && !dir.mkdirs()) {
+      throw new IOException(String.format("Unable to create the directory %s of the store %s.", dir, config.getName()));
+    }
+    lockChannel = new RandomAccessFile(new File(dir, LOCK_FILE), "rw").getChannel();
+    try {
+      dirLock = lockChannel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      lockChannel.close();
+      throw new IOException(String.format("The store %s is already open.", config.getName()), e);
+    }
+    if (dirLock == null) {
+      lockChannel.close();
+      throw new IOException(String.format("The directory %s of the store %s is used by another process.",
+          dir, config.getName()));
+    }
+    try {
+      open();
+    } catch (IOException | RuntimeException e) {
+      closeSegments();
+      throw e;
+    }
+    logger.debug("Opened store {} with {} keys in {} segments.", config.getName(), index.size(), segments.size());
+
+    // compacts the segments left with too much garbage by a previous run
+    try (AutoCloseableLock lock = writeLock.open()) {
+      for (Segment segment : segments.values()) {
+        if (needsCompaction(segment)) {
+          scheduleCompaction();
+          break;
+        }
+      }
+    }
+  }
+
+  private void open() throws IOException {
+    final File[] files = dir.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        final Long id = getSegmentId(file);
+        if (id != null) {
+          segments.put(id, new Segment(id, file));
+        } else if (file.getName().endsWith(COMPACTION_SUFFIX) && !file.delete()) {
+          // a compaction that did not complete, the segment it was made from is still there
+          logger.warn("Unable to delete the file {} of an interrupted compaction.", file);
+        }
+      }
+    }
+    for (Segment segment : segments.values()) {
+      replay(segment, segment.id == segments.lastKey());
+    }
+    active = segments.isEmpty() ? newSegment(1) : segments.lastEntry().getValue();
+  }
+
+  /**
+   * @return the directory of the segments of the store
+   */
+  public File getDirectory() {
+    return dir;
+  }
+
+  @Override
+  public PersistentStoreMode getMode() {
+    return PersistentStoreMode.PERSISTENT;
+  }
+
+  /**
+   * @return true if the store has no keys
+   */
+  public boolean isEmpty() {
+    try (AutoCloseableLock lock = readLock.open()) {
+      return index.isEmpty();
+    }
+  }
+
+  @Override
+  public Iterator<Map.Entry<String, V>> getRange(int skip, int take) {
+    final List<String> keys;
+    try (AutoCloseableLock lock = readLock.open()) {
+      keys = Lists.newArrayList(Iterables.limit(Iterables.skip(index.keySet(), skip), take));
+    }
+    // values are read as the entries are iterated, keys deleted in the meantime are skipped
+    final Iterator<Entry<String, V>> entries = Iterators.transform(keys.iterator(),
+        new Function<String, Entry<String, V>>() {
+          @Nullable
+          @Override
+          public Entry<String, V> apply(String key) {
+            final V value = get(key);
+            return value == null ? null : new ImmutableEntry<>(key, value);
+          }
+        });
+    return Iterators.filter(entries, Predicates.notNull());
+  }
+
+  @Override
+  public boolean contains(String key) {
+    return contains(key, null);
+  }
+
+  @Override
+  public boolean contains(String key, DataChangeVersion dataChangeVersion) {
+    try (AutoCloseableLock lock = readLock.open()) {
+      final boolean exists = index.containsKey(key);
+      if (exists && dataChangeVersion != null) {
+        dataChangeVersion.setVersion(version);
+      }
+      return exists;
+    }
+  }
+
+  @Override
+  public V get(String key) {
+    return get(key, null);
+  }
+
+  @Override
+  public V get(String key, DataChangeVersion dataChangeVersion) {
+    final byte[] bytes;
+    try (AutoCloseableLock lock = readLock.open()) {
+      if (dataChangeVersion != null) {
+        dataChangeVersion.setVersion(version);
+      }
+      final Location location = index.get(key);
+      if (location == null) {
+        return null;
+      }
+      try {
+        bytes = location.readValue();
+      } catch (IOException e) {
+        throw new RuntimeException(String.format("Unable to read the value of \"%s\" from %s.", key,
+            location.segment.file), e);
+      }
+    }
+    try {
+      return config.getSerializer().deserialize(bytes);
+    } catch (IOException e) {
+      throw new RuntimeException("Unable to deserialize the value of \"" + key + "\"", e);
+    }
+  }
+
+  @Override
+  public void put(String key, V value) {
+    put(key, value, null);
+  }
+
+  @Override
+  public void put(String key, V value, DataChangeVersion dataChangeVersion) {
+    final byte[] bytes = serialize(value);
+    try (AutoCloseableLock lock = writeLock.open()) {
+      if (dataChangeVersion != null && dataChangeVersion.getVersion() != version) {
+        throw new VersionMismatchException("Version mismatch detected", dataChangeVersion.getVersion());
+      }
+      write(key, bytes);
+    }
+  }
+
+  @Override
+  public boolean putIfAbsent(String key, V value) {
+    final byte[] bytes = serialize(value);
+    try (AutoCloseableLock lock = writeLock.open()) {
+      if (index.containsKey(key)) {
+        return false;
+      }
+      write(key, bytes);
+      return true;
+    }
+  }
+
+  @Override
+  public void delete(String key) {
+    try (AutoCloseableLock lock = writeLock.open()) {
+      if (index.containsKey(key)) {
+        write(key, null);
+      }
+      version++;
+    }
+  }
+
+  /**
+   * Forces the writes to disk. The segments stay open until {@link #release()} is called, since the
+   * provider of the store hands the same instance to all its users.
+   */
+  @Override
+  public void close() throws IOException {
+    try (AutoCloseableLock lock = writeLock.open()) {
+      active.channel.force(false);
+    }
+  }
+
+  /**
+   * Closes the segments of the store, which cannot be used anymore, once the running compaction if any
+   * has stopped.
+   */
+  public void release() throws IOException {
+    final Future<?> running;
+    try (AutoCloseableLock lock = writeLock.open()) {
+      released = true;
+      running = compaction;
+    }
+    if (running != null) {
+      try {
+        running.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (ExecutionException e) {
+        logger.warn("Failure while compacting the store {}.", config.getName(), e.getCause());
+      }
+    }
+    try (AutoCloseableLock lock = writeLock.open()) {
+      active.channel.force(false);
+      closeSegments();
+    }
+  }
+
+  /**
+   * Closes the segments, then releases the lock of the directory.
+   */
+  private void closeSegments() throws IOException {
+    try {
+      for (Segment segment : segments.values()) {
+        segment.channel.close();
+      }
+    } finally {
+      // closing the channel releases its lock
+      lockChannel.close();
+    }
+  }
+
+  private byte[] serialize(V value) {
+    try {
+      return config.getSerializer().serialize(value);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Appends the value of a key, or a deletion if the value is null, and updates the index. Must be
+   * called with the write lock held.
+   */
+  private void write(String key, byte[] value) {
+    Preconditions.checkArgument(!key.isEmpty(), "Keys cannot be empty.");
+    final byte[] keyBytes = key.getBytes(Charsets.UTF_8);
+    final int valueLength = value == null ? TOMBSTONE : value.length;
+    final ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + keyBytes.length + Math.max(valueLength, 0));
+    // the checksum is set once the rest of the record is written
+    record.putInt(0)
+        .putInt(keyBytes.length)
+        .putInt(valueLength)
+        .put(keyBytes);
+    if (value != null) {
+      record.put(value);
+    }
+    record.putInt(0, checksum(record.array(), HEADER_SIZE, record.capacity() - HEADER_SIZE));
+    record.flip();
+
+    try {
+      final Location location = append(record, keyBytes.length);
+      if (sync) {
+        active.channel.force(false);
+      }
+      final Location previous = value == null ? index.remove(key) : index.put(key, location);
+      if (previous != null) {
+        previous.segment.liveBytes -= previous.length;
+      }
+      if (value != null) {
+        location.segment.liveBytes += location.length;
+      } else {
+        location.segment.tombstoneBytes += location.length;
+      }
+      version++;
+
+      if (previous != null && needsCompaction(previous.segment)) {
+        scheduleCompaction();
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(String.format("Unable to write \"%s\" to the store %s.", key, config.getName()), e);
+    }
+  }
+
+  /**
+   * Appends a record to the active segment, after starting a new one if it would grow above its
+   * maximum size.
+   */
+  private Location append(ByteBuffer record, int keyLength) throws IOException {
+    if (active.size > 0 && active.size + record.remaining() > segmentSize) {
+      active.channel.force(false);
+      final Segment closed = active;
+      active = newSegment(active.id + 1);
+      if (needsCompaction(closed)) {
+        scheduleCompaction();
+      }
+    }
+    final long position = active.size;
+    final int length = record.remaining();
+    while (record.hasRemaining()) {
+      active.channel.write(record, position + length - record.remaining());
+    }
+    active.size += length;
+    return new Location(active, position, length, keyLength);
+  }
+
+  /**
+   * @return the bytes of the given segment that a compaction would drop: the overwritten and deleted
+   *         values, and the deletions once the segment is the oldest one. Must be called with a lock held.
+   */
+  private long getGarbageBytes(Segment segment) {
+    final long garbage = segment.size - segment.liveBytes;
+    return segment.id == segments.firstKey() ? garbage : garbage - segment.tombstoneBytes;
+  }
+
+  /**
+   * @return whether the given segment is closed and has enough garbage to be compacted. Must be called
+   *         with a lock held.
+   */
+  private boolean needsCompaction(Segment segment) {
+    return segment != active && segments.get(segment.id) == segment
+        && getGarbageBytes(segment) > compactionThreshold * segment.size;
+  }
+
+  /**
+   * Starts a compaction in the background, unless one is running. Must be called with the write lock held.
+   */
+  private void scheduleCompaction() {
+    if (compaction != null || released) {
+      return;
+    }
+    try {
+      compaction = compactor.submit(new Runnable() {
+        @Override
+        public void run() {
+          compactSegments();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      logger.debug("Not compacting the store {}, its executor is shut down.", config.getName());
+    }
+  }
+
+  /**
+   * Compacts the closed segments that need it, oldest first, until none does.
+   */
+  private void compactSegments() {
+    try {
+      while (true) {
+        Segment next = null;
+        try (AutoCloseableLock lock = writeLock.open()) {
+          if (!released) {
+            for (Segment segment : segments.values()) {
+              if (needsCompaction(segment)) {
+                next = segment;
+                break;
+              }
+            }
+          }
+          if (next == null) {
+            compaction = null;
+            return;
+          }
+        }
+        compact(next);
+      }
+    } catch (IOException | RuntimeException e) {
+      logger.warn("Failure while compacting the store {}.", config.getName(), e);
+      try (AutoCloseableLock lock = writeLock.open()) {
+        compaction = null;
+      }
+    }
+  }
+
+  /**
+   * Copies the latest values of a closed segment, and its deletions unless it is the oldest segment, to a
+   * new file, then replaces the segment with it, or deletes the segment if nothing was copied. Only the swap
+   * is done under the write lock: the records of a closed segment do not change, and a key written again
+   * while its record is copied keeps its new location.
+   */
+  private void compact(Segment segment) throws IOException {
+    final boolean oldest;
+    try (AutoCloseableLock lock = readLock.open()) {
+      oldest = segment.id == segments.firstKey();
+    }
+    logger.debug("Compacting segment {} of store {}: {} of {} bytes are live.", segment.file, config.getName(),
+        segment.liveBytes, segment.size);
+
+    final File compactedFile = new File(dir, segment.file.getName() + COMPACTION_SUFFIX);
+    // the key of each copied value, its location in the segment, and in the new file
+    final List<String> keys = Lists.newArrayList();
+    final List<Location> copied = Lists.newArrayList();
+    final List<Location> copies = Lists.newArrayList();
+    long compactedSize = 0;
+    try (FileChannel out = new RandomAccessFile(compactedFile, "rw").getChannel()) {
+      out.truncate(0);
+      final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      long position = 0;
+      while (position < segment.size) {
+        header.clear();
+        readFully(segment.channel, header, position);
+        final int keyLength = header.getInt(4);
+        final int valueLength = header.getInt(8);
+        final int length = HEADER_SIZE + keyLength + Math.max(valueLength, 0);
+        final Location location = new Location(segment, position, length, keyLength);
+        position += length;
+
+        String key = null;
+        final boolean keep;
+        if (valueLength == TOMBSTONE) {
+          keep = !oldest;
+        } else {
+          final ByteBuffer keyBytes = ByteBuffer.allocate(keyLength);
+          readFully(segment.channel, keyBytes, location.position + HEADER_SIZE);
+          key = new String(keyBytes.array(), Charsets.UTF_8);
+          try (AutoCloseableLock lock = readLock.open()) {
+            keep = location.isLatest(index.get(key));
+          }
+        }
+        if (keep) {
+          final ByteBuffer record = location.readRecord();
+          while (record.hasRemaining()) {
+            out.write(record, compactedSize + length - record.remaining());
+          }
+          if (key != null) {
+            keys.add(key);
+            copied.add(location);
+            copies.add(new Location(null, compactedSize, length, keyLength));
+          }
+          compactedSize += length;
+        }
+      }
+      out.force(true);
+    }
+
+    try (AutoCloseableLock lock = writeLock.open()) {
+      if (released) {
+        if (!compactedFile.delete()) {
+          logger.warn("Unable to delete the file {} of an interrupted compaction.", compactedFile);
+        }
+        return;
+      }
+      Segment replacement = null;
+      if (compactedSize > 0) {
+        Files.move(compactedFile.toPath(), segment.file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+        replacement = new Segment(segment.id, segment.file);
+        replacement.size = compactedSize;
+        replacement.tombstoneBytes = oldest ? 0 : segment.tombstoneBytes;
+        segments.put(segment.id, replacement);
+        // the keys written again while their values were copied keep their new location
+        for (int i = 0; i < keys.size(); i++) {
+          if (copied.get(i).isLatest(index.get(keys.get(i)))) {
+            final Location copy = copies.get(i);
+            index.put(keys.get(i), new Location(replacement, copy.position, copy.length, copy.keyLength));
+            replacement.liveBytes += copy.length;
+          }
+        }
+      } else {
+        segments.remove(segment.id);
+        if (!segment.file.delete()) {
+          logger.warn("Unable to delete the compacted segment {}.", segment.file);
+        }
+        if (!compactedFile.delete()) {
+          logger.warn("Unable to delete the file {} of a compaction.", compactedFile);
+        }
+      }
+      segment.channel.close();
+    }
+  }
+
+  /**
+   * Adds the records of a segment to the index. A record that cannot be read is taken as the end of
+   * the segment, and is truncated if it is in the last segment, where a write may have been interrupted.
+   */
+  private void replay(Segment segment, boolean last) throws IOException {
+    final FileChannel channel = segment.channel;
+    final long size = channel.size();
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    long position = 0;
+    while (position + HEADER_SIZE <= size) {
+      header.clear();
+      readFully(channel, header, position);
+      final int checksum = header.getInt(0);
+      final int keyLength = header.getInt(4);
+      final int valueLength = header.getInt(8);
+      // keys are never empty, which also stops at a tail of zeros
+      if (keyLength <= 0 || valueLength < TOMBSTONE
+          || position + HEADER_SIZE + keyLength + Math.max(valueLength, 0) > size) {
+        break;
+      }
+      final int length = HEADER_SIZE + keyLength + Math.max(valueLength, 0);
+      final ByteBuffer body = ByteBuffer.allocate(last ? length - HEADER_SIZE : keyLength);
+      readFully(channel, body, position + HEADER_SIZE);
+      // only the last segment may end with a partial write, the others were forced to disk when closed
+      if (last && checksum(body.array(), 0, body.capacity()) != checksum) {
+        break;
+      }
+
+      final String key = new String(body.array(), 0, keyLength, Charsets.UTF_8);
+      final Location previous;
+      if (valueLength == TOMBSTONE) {
+        previous = index.remove(key);
+        segment.tombstoneBytes += length;
+      } else {
+        final Location location = new Location(segment, position, length, keyLength);
+        previous = index.put(key, location);
+        segment.liveBytes += length;
+      }
+      if (previous != null) {
+        previous.segment.liveBytes -= previous.length;
+      }
+      position += length;
+    }
+
+    if (position < size) {
+      logger.warn("Dropping {} bytes that could not be read at the end of the segment {}.", size - position, segment.file);
+      if (last) {
+        channel.truncate(position);
+      }
+    }
+    segment.size = position;
+  }
+
+  private Segment newSegment(long id) throws IOException {
+    final Segment segment = new Segment(id, new File(dir, String.format("%020d%s", id, SEGMENT_SUFFIX)));
+    segments.put(id, segment);
+    return segment;
+  }
+
+  /**
+   * @return the id of the segment kept in the given file, or null if it is not a segment
+   */
+  private static Long getSegmentId(File file) {
+    final String name = file.getName();
+    if (!file.isFile() || !name.endsWith(SEGMENT_SUFFIX)) {
+      return null;
+    }
+    try {
+      return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static int checksum(byte[] bytes, int offset, int length) {
+    final CRC32 crc = new CRC32();
+    crc.update(bytes, offset, length);
+    return (int) crc.getValue();
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException("Unexpected end of segment.");
+      }
+    }
+  }
+
+  private static class Segment {
+    private final long id;
+    private final File file;
+    private final FileChannel channel;
+    private long size;
+    // bytes of the latest values of their key, and of the deletions
+    private long liveBytes;
+    private long tombstoneBytes;
+
+    @SuppressWarnings("resource")
+    Segment(long id, File file) throws IOException {
+      this.id = id;
+      this.file = file;
+      this.channel = new RandomAccessFile(file, "rw").getChannel();
+    }
+  }
+
+  private static class Location {
+    private final Segment segment;
+    private final long position;
+    private final int length;
+    private final int keyLength;
+
+    Location(Segment segment, long position, int length, int keyLength) {
+      this.segment = segment;
+      this.position = position;
+      this.length = length;
+      this.keyLength = keyLength;
+    }
+
+    /**
+     * @return whether this is the location of the latest value of its key, given the location in the index
+     */
+    boolean isLatest(Location latest) {
+      return latest != null && latest.segment == segment && latest.position == position;
+    }
+
+    ByteBuffer readRecord() throws IOException {
+      final ByteBuffer record = ByteBuffer.allocate(length);
+      readFully(segment.channel, record, position);
+      record.flip();
+      return record;
+    }
+
+    byte[] readValue() throws IOException {
+      final byte[] record = readRecord().array();
+      if (checksum(record, HEADER_SIZE, length - HEADER_SIZE) != ByteBuffer.wrap(record).getInt(0)) {
+        throw new IOException(String.format("Corrupted record at %d.", position));
+      }
+      return Arrays.copyOfRange(record, HEADER_SIZE + keyLength, length);
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.sys.store.provider;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.drill.common.AutoCloseables;
+import org.apache.drill.common.config.DrillConfig;
+import org.apache.drill.exec.ExecConstants;
+import org.apache.drill.exec.exception.StoreException;
+import org.apache.drill.exec.rpc.NamedThreadFactory;
+import org.apache.drill.exec.store.dfs.DrillFileSystem;
+import org.apache.drill.exec.store.sys.PersistentStore;
+import org.apache.drill.exec.store.sys.PersistentStoreConfig;
+import org.apache.drill.exec.store.sys.PersistentStoreRegistry;
+import org.apache.drill.exec.store.sys.store.LocalPersistentStore;
+import org.apache.drill.exec.store.sys.store.LogStructuredPersistentStore;
+import org.apache.drill.exec.testing.store.NoWriteLocalStore;
+import org.apache.hadoop.fs.Path;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * A provider that stores data in append-only log segments on the local file system, one directory
+ * per store, with an in-memory index of the keys (see {@link LogStructuredPersistentStore}). Unlike
+ * {@link LocalPersistentStoreProvider}, it does not create, open or list a file per value.
+ * <p>
+ * A store is opened once and shared by all its users, since its segments can only have one writer.
+ * The segments of the stores are compacted in the background by a single thread.
+ * The values that {@link LocalPersistentStoreProvider} kept in the same directory are imported the
+ * first time a store is opened, and a marker file records that they were, so that they are not imported
+ * again once the store has been emptied.
+ */
+public class LogStructuredPersistentStoreProvider extends BasePersistentStoreProvider {
+  private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(LogStructuredPersistentStoreProvider.class);
+
+  private static final String IMPORT_MARKER = "imported.marker";
+
+  private final DrillConfig config;
+  private final Path path;
+  private final File root;
+  private final boolean enableWrite;
+  private final long segmentSize;
+  private final double compactionThreshold;
+  private final boolean sync;
+  private final Map<String, LogStructuredPersistentStore<?>> stores = Maps.newHashMap();
+  private final ExecutorService compactor = Executors.newSingleThreadExecutor(new NamedThreadFactory("store-compaction-"));
+
+  public LogStructuredPersistentStoreProvider(final PersistentStoreRegistry<?> registry) throws StoreException {
+    this(registry.getConfig());
+  }
+
+  public LogStructuredPersistentStoreProvider(final DrillConfig config) throws StoreException {
+    this.config = config;
+    this.path = new Path(config.getString(ExecConstants.SYS_STORE_PROVIDER_LOCAL_PATH));
+    this.enableWrite = config.getBoolean(ExecConstants.SYS_STORE_PROVIDER_LOCAL_ENABLE_WRITE);
+    this.segmentSize = config.getBytes(ExecConstants.SYS_STORE_PROVIDER_LOCAL_LOG_SEGMENT_SIZE);
+    this.compactionThreshold = config.getDouble(ExecConstants.SYS_STORE_PROVIDER_LOCAL_LOG_COMPACTION_THRESHOLD);
+    this.sync = config.getBoolean(ExecConstants.SYS_STORE_PROVIDER_LOCAL_LOG_SYNC);
+
+    final String scheme = path.toUri().getScheme();
+    if (scheme != null && !scheme.equals("file")) {
+      throw new StoreException(String.format("The store path %s is not on the local file system.", path));
+    }
+    this.root = new File(path.toUri().getPath());
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public synchronized <V> PersistentStore<V> getOrCreateStore(PersistentStoreConfig<V> storeConfig)
+      throws StoreException {
+    switch(storeConfig.getMode()){
+    case BLOB_PERSISTENT:
+    case PERSISTENT:
+      if (!enableWrite) {
+        return new NoWriteLocalStore<>();
+      }
+      LogStructuredPersistentStore<V> store = (LogStructuredPersistentStore<V>) stores.get(storeConfig.getName());
+      if (store == null) {
+        try {
+          store = new LogStructuredPersistentStore<>(new File(root, storeConfig.getName()), storeConfig,
+              segmentSize, compactionThreshold, sync, compactor);
+        } catch (IOException e) {
+          throw new StoreException(String.format("Unable to open the store %s.", storeConfig.getName()), e);
+        }
+        try {
+          final File marker = new File(store.getDirectory(), IMPORT_MARKER);
+          if (!marker.exists()) {
+            if (store.isEmpty()) {
+              importFiles(store, storeConfig);
+              // the imported values must be on disk before the marker says they are
+              store.close();
+            }
+            if (!marker.createNewFile() && !marker.exists()) {
+              throw new IOException(String.format("Unable to create the file %s.", marker));
+            }
+          }
+        } catch (IOException e) {
+          try {
+            store.release();
+          } catch (IOException suppressed) {
+            e.addSuppressed(suppressed);
+          }
+          throw new StoreException(String.format("Unable to open the store %s.", storeConfig.getName()), e);
+        }
+        stores.put(storeConfig.getName(), store);
+      }
+      return store;
+    default:
+      throw new IllegalStateException();
+    }
+  }
+
+  /**
+   * Copies the values kept one per file by {@link LocalPersistentStore} in the directory of the store.
+   */
+  private <V> void importFiles(LogStructuredPersistentStore<V> store, PersistentStoreConfig<V> storeConfig)
+      throws IOException {
+    try (DrillFileSystem fs = LocalPersistentStore.getFileSystem(config, path)) {
+      final Iterator<Map.Entry<String, V>> entries = new LocalPersistentStore<>(fs, path, storeConfig).getAll();
+      int count = 0;
+      while (entries.hasNext()) {
+        final Map.Entry<String, V> entry = entries.next();
+        store.put(entry.getKey(), entry.getValue());
+        count++;
+      }
+      if (count > 0) {
+        logger.info("Imported {} values of the store {} from their files.", count, storeConfig.getName());
+      }
+    }
+  }
+
+  @Override
+  public synchronized void close() throws Exception {
+    final List<AutoCloseable> closeables = Lists.newArrayList();
+    for (final LogStructuredPersistentStore<?> store : stores.values()) {
+      closeables.add(new AutoCloseable() {
+        @Override
+        public void close() throws Exception {
+          store.release();
+        }
+      });
+    }
+    stores.clear();
+    try {
+      AutoCloseables.close(closeables);
+    } finally {
+      compactor.shutdown();
+    }
+  }
+}
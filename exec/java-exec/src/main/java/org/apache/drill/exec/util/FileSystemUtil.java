@@ -17,6 +17,7 @@
  */
 package org.apache.drill.exec.util;
 
+import org.apache.drill.exec.store.dfs.DrillFileSystem;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -25,7 +26,10 @@ import org.apache.hadoop.fs.PathFilter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Helper class that provides methods to list directories or file or both statuses.
@@ -55,7 +59,7 @@ public class FileSystemUtil {
    */
   public static List<FileStatus> listDirectories(final FileSystem fs, Path path, boolean recursive, PathFilter... filters) throws IOException {
     List<FileStatus> statuses = new ArrayList<>();
-    listDirectories(fs, path, recursive, statuses, mergeFilters(filters));
+    listDirectories(listTree(fs, path, recursive, mergeFilters(filters)), path, recursive, statuses);
     return statuses;
   }
 
@@ -71,7 +75,7 @@ public class FileSystemUtil {
    */
   public static List<FileStatus> listFiles(FileSystem fs, Path path, boolean recursive, PathFilter... filters) throws IOException {
     List<FileStatus> statuses = new ArrayList<>();
-    listFiles(fs, path, recursive, statuses, mergeFilters(filters));
+    listFiles(listTree(fs, path, recursive, mergeFilters(filters)), path, recursive, statuses);
     return statuses;
   }
 
@@ -87,7 +91,7 @@ public class FileSystemUtil {
    */
   public static List<FileStatus> listAll(FileSystem fs, Path path, boolean recursive, PathFilter... filters) throws IOException {
     List<FileStatus> statuses = new ArrayList<>();
-    listAll(fs, path, recursive, statuses, mergeFilters(filters));
+    listAll(listTree(fs, path, recursive, mergeFilters(filters)), path, recursive, statuses);
     return statuses;
   }
 
@@ -136,23 +140,22 @@ public class FileSystemUtil {
   }
 
   /**
-   * Helper method that will store in given holder statuses of all directories present in given path applying custom filter.
+   * Helper method that will store in given holder statuses of all directories present in given path.
    * If recursive flag is set to true, will call itself recursively to add statuses of nested directories.
    *
-   * @param fs current file system
+   * @param listings listings of the path and of its nested directories
    * @param path path to directory
    * @param recursive true if nested directories should be included
    * @param statuses holder for directory statuses
-   * @param filter custom filter
    * @return holder with all matching directory statuses
    */
-  private static List<FileStatus> listDirectories(FileSystem fs, Path path, boolean recursive, List<FileStatus> statuses, PathFilter filter) throws IOException {
-    FileStatus[] fileStatuses = fs.listStatus(path, filter);
+  private static List<FileStatus> listDirectories(Map<Path, FileStatus[]> listings, Path path, boolean recursive, List<FileStatus> statuses) {
+    FileStatus[] fileStatuses = listings.get(path);
     for (FileStatus status: fileStatuses) {
       if (status.isDirectory()) {
         statuses.add(status);
         if (recursive) {
-          listDirectories(fs, status.getPath(), true, statuses, filter);
+          listDirectories(listings, status.getPath(), true, statuses);
         }
       }
     }
@@ -160,22 +163,21 @@ public class FileSystemUtil {
   }
 
   /**
-   * Helper method that will store in given holder statuses of all files present in given path applying custom filter.
+   * Helper method that will store in given holder statuses of all files present in given path.
    * If recursive flag is set to true, will call itself recursively to add file statuses from nested directories.
    *
-   * @param fs current file system
+   * @param listings listings of the path and of its nested directories
    * @param path path to file or directory
    * @param recursive true if files in nested directories should be included
    * @param statuses holder for file statuses
-   * @param filter custom filter
    * @return holder with all matching file statuses
    */
-  private static List<FileStatus> listFiles(FileSystem fs, Path path, boolean recursive, List<FileStatus> statuses, PathFilter filter) throws IOException {
-    FileStatus[] fileStatuses = fs.listStatus(path, filter);
+  private static List<FileStatus> listFiles(Map<Path, FileStatus[]> listings, Path path, boolean recursive, List<FileStatus> statuses) {
+    FileStatus[] fileStatuses = listings.get(path);
     for (FileStatus status: fileStatuses) {
       if (status.isDirectory()) {
         if (recursive) {
-          listFiles(fs, status.getPath(), true, statuses, filter);
+          listFiles(listings, status.getPath(), true, statuses);
         }
       } else {
         statuses.add(status);
@@ -185,23 +187,65 @@ public class FileSystemUtil {
   }
 
   /**
-   * Helper method that will store in given holder statuses of all directories and files present in given path applying custom filter.
+   * Helper method that will store in given holder statuses of all directories and files present in given path.
    * If recursive flag is set to true, will call itself recursively to add nested directories and their file statuses.
    *
-   * @param fs current file system
+   * @param listings listings of the path and of its nested directories
    * @param path path to file or directory
    * @param recursive true if nested directories and their files should be included
    * @param statuses holder for directory and file statuses
-   * @param filter custom filter
    * @return holder with all matching directory and file statuses
    */
-  private static List<FileStatus> listAll(FileSystem fs, Path path, boolean recursive, List<FileStatus> statuses, PathFilter filter) throws IOException {
-    for (FileStatus status: fs.listStatus(path, filter)) {
+  private static List<FileStatus> listAll(Map<Path, FileStatus[]> listings, Path path, boolean recursive, List<FileStatus> statuses) {
+    for (FileStatus status: listings.get(path)) {
       statuses.add(status);
       if (status.isDirectory() && recursive) {
-        listAll(fs, status.getPath(), true, statuses, filter);
+        listAll(listings, status.getPath(), true, statuses);
       }
     }
     return statuses;
   }
+
+  /**
+   * Lists given path applying custom filter. If recursive flag is set to true, also lists all matching nested
+   * directories, level by level, so that a {@link DrillFileSystem} with a listing cache lists the directories
+   * of a level in parallel.
+   *
+   * @param fs current file system
+   * @param path path to file or directory
+   * @param recursive true if nested directories should be listed
+   * @param filter custom filter
+   * @return listings of the path and of its nested directories, by listed path
+   */
+  private static Map<Path, FileStatus[]> listTree(FileSystem fs, Path path, boolean recursive, PathFilter filter) throws IOException {
+    Map<Path, FileStatus[]> listings = new HashMap<>();
+    List<Path> level = Collections.singletonList(path);
+    while (!level.isEmpty()) {
+      List<FileStatus[]> levelListings = fs instanceof DrillFileSystem
+          ? ((DrillFileSystem) fs).listStatuses(level, filter)
+          : listStatuses(fs, level, filter);
+      List<Path> nextLevel = new ArrayList<>();
+      for (int i = 0; i < level.size(); i++) {
+        FileStatus[] fileStatuses = levelListings.get(i);
+        listings.put(level.get(i), fileStatuses);
+        if (recursive) {
+          for (FileStatus status : fileStatuses) {
+            if (status.isDirectory()) {
+              nextLevel.add(status.getPath());
+            }
+          }
+        }
+      }
+      level = nextLevel;
+    }
+    return listings;
+  }
+
+  private static List<FileStatus[]> listStatuses(FileSystem fs, List<Path> paths, PathFilter filter) throws IOException {
+    List<FileStatus[]> listings = new ArrayList<>(paths.size());
+    for (Path path : paths) {
+      listings.add(fs.listStatus(path, filter));
+    }
+    return listings;
+  }
 }
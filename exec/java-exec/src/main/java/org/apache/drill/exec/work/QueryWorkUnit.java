@@ -17,9 +17,14 @@
  */
 package org.apache.drill.exec.work;
 
+import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.drill.exec.physical.base.FragmentRoot;
+import org.apache.drill.exec.planner.fragment.FragmentPlanCodec;
+import org.apache.drill.exec.proto.BitControl.MajorFragmentPlan;
 import org.apache.drill.exec.proto.BitControl.PlanFragment;
 
 import com.google.common.base.Preconditions;
@@ -29,16 +34,24 @@ public class QueryWorkUnit {
   private final PlanFragment rootFragment; // for local
   private final FragmentRoot rootOperator; // for local
   private final List<PlanFragment> fragments;
+  private final Map<Integer, MajorFragmentPlan> sharedPlans; // by major fragment id
 
   public QueryWorkUnit(final FragmentRoot rootOperator, final PlanFragment rootFragment,
       final List<PlanFragment> fragments) {
+    this(rootOperator, rootFragment, fragments, Collections.<Integer, MajorFragmentPlan>emptyMap());
+  }
+
+  public QueryWorkUnit(final FragmentRoot rootOperator, final PlanFragment rootFragment,
+      final List<PlanFragment> fragments, final Map<Integer, MajorFragmentPlan> sharedPlans) {
     Preconditions.checkNotNull(rootFragment);
     Preconditions.checkNotNull(fragments);
     Preconditions.checkNotNull(rootOperator);
+    Preconditions.checkNotNull(sharedPlans);
 
     this.rootFragment = rootFragment;
     this.fragments = fragments;
     this.rootOperator = rootOperator;
+    this.sharedPlans = sharedPlans;
   }
 
   public PlanFragment getRootFragment() {
@@ -52,4 +65,20 @@ public class QueryWorkUnit {
   public FragmentRoot getRootOperator() {
     return rootOperator;
   }
+
+  /**
+   * @return the shared plans of the major fragments whose fragments are sent as deltas, by major fragment id
+   */
+  public Map<Integer, MajorFragmentPlan> getSharedPlans() {
+    return sharedPlans;
+  }
+
+  /**
+   * @return the JSON form of the operator tree of one of the fragments, whatever the form it is sent in
+   */
+  public String getFragmentJson(PlanFragment fragment) throws IOException {
+    final MajorFragmentPlan sharedPlan = sharedPlans.get(fragment.getHandle().getMajorFragmentId());
+    return FragmentPlanCodec.toJson(fragment,
+        sharedPlan == null ? null : FragmentPlanCodec.decode(sharedPlan.getFragmentPlan()));
+  }
 }
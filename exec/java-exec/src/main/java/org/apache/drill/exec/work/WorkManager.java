@@ -36,6 +36,7 @@ import org.apache.drill.exec.proto.UserBitShared.QueryId;
 import org.apache.drill.exec.proto.helper.QueryIdHelper;
 import org.apache.drill.exec.rpc.DrillRpcFuture;
 import org.apache.drill.exec.rpc.RpcException;
+import org.apache.drill.exec.rpc.control.ControlTunnel;
 import org.apache.drill.exec.rpc.control.Controller;
 import org.apache.drill.exec.rpc.control.WorkEventBus;
 import org.apache.drill.exec.rpc.data.DataConnectionCreator;
@@ -294,6 +295,9 @@ public class WorkManager implements AutoCloseable {
    * about RUNNING queries, such as current memory consumption, number of rows processed, and so on.
    * The FragmentStatusListener only tracks changes to state, so the statistics kept there will be
    * stale; this thread probes for current values.
+   * <p>
+   * The statuses of the fragments of all the queries of a Foreman are sent to it in one message, or one message per
+   * fragment if the Foreman does not support batches of statuses.
    */
   private class StatusThread extends Thread {
     public StatusThread() {
@@ -305,7 +309,7 @@ public class WorkManager implements AutoCloseable {
     public void run() {
       while(true) {
         final Controller controller = dContext.getController();
-        final List<DrillRpcFuture<Ack>> futures = Lists.newArrayList();
+        final Map<DrillbitEndpoint, List<FragmentStatus>> statusesByForeman = Maps.newHashMap();
         for(final FragmentExecutor fragmentExecutor : runningFragments.values()) {
           final FragmentStatus status = fragmentExecutor.getStatus();
           if (status == null) {
@@ -313,7 +317,23 @@ public class WorkManager implements AutoCloseable {
           }
 
           final DrillbitEndpoint ep = fragmentExecutor.getContext().getForemanEndpoint();
-          futures.add(controller.getTunnel(ep).sendFragmentStatus(status));
+          List<FragmentStatus> statuses = statusesByForeman.get(ep);
+          if (statuses == null) {
+            statuses = Lists.newArrayList();
+            statusesByForeman.put(ep, statuses);
+          }
+          statuses.add(status);
+        }
+
+        final List<DrillRpcFuture<Ack>> futures = Lists.newArrayList();
+        for(final Map.Entry<DrillbitEndpoint, List<FragmentStatus>> entry : statusesByForeman.entrySet()) {
+          final ControlTunnel tunnel = controller.getTunnel(entry.getKey());
+          final List<FragmentStatus> statuses = entry.getValue();
+          if (statuses.size() == 1) {
+            futures.add(tunnel.sendFragmentStatus(statuses.get(0)));
+          } else {
+            futures.add(tunnel.sendFragmentStatuses(statuses));
+          }
         }
 
         for(final DrillRpcFuture<Ack> future : futures) {
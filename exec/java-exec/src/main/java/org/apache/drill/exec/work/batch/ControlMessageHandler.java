@@ -21,7 +21,13 @@ import static org.apache.drill.exec.rpc.RpcBus.get;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.DrillBuf;
 
+import java.io.IOException;
+import java.util.Map;
+
 import org.apache.drill.exec.ops.FragmentContext;
+import org.apache.drill.exec.physical.base.FragmentRoot;
+import org.apache.drill.exec.planner.fragment.FragmentPlanCodec;
+import org.apache.drill.exec.proto.BitControl.BitStatus;
 import org.apache.drill.exec.proto.BitControl.CustomMessage;
 import org.apache.drill.exec.proto.BitControl.FinishedReceiver;
 import org.apache.drill.exec.proto.BitControl.FragmentStatus;
@@ -52,6 +58,8 @@ import org.apache.drill.exec.work.fragment.FragmentManager;
 import org.apache.drill.exec.work.fragment.FragmentStatusReporter;
 import org.apache.drill.exec.work.fragment.NonRootFragmentManager;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 public class ControlMessageHandler implements RequestHandler<ControlConnection> {
   private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(ControlMessageHandler.class);
   private final WorkerBee bee;
@@ -96,6 +104,13 @@ public class ControlMessageHandler implements RequestHandler<ControlConnection>
       sender.send(ControlRpcConfig.OK);
       break;
 
+    case RpcType.REQ_FRAGMENT_STATUS_BATCH_VALUE:
+      for (final FragmentStatus status : get(pBody, BitStatus.PARSER).getFragmentStatusList()) {
+        bee.getContext().getWorkBus().statusUpdate(status);
+      }
+      sender.send(ControlRpcConfig.OK);
+      break;
+
     case RpcType.REQ_QUERY_CANCEL_VALUE: {
       final QueryId queryId = get(pBody, QueryId.PARSER);
       final Foreman foreman = bee.getForemanForQueryId(queryId);
@@ -108,10 +123,18 @@ public class ControlMessageHandler implements RequestHandler<ControlConnection>
       break;
     }
 
-    case RpcType.REQ_INITIALIZE_FRAGMENTS_VALUE: {
+    case RpcType.REQ_INITIALIZE_FRAGMENTS_VALUE:
+    case RpcType.REQ_INITIALIZE_SHARED_FRAGMENTS_VALUE: {
       final InitializeFragments fragments = get(pBody, InitializeFragments.PARSER);
+      final Map<Integer, JsonNode> sharedPlans;
+      try {
+        sharedPlans = FragmentPlanCodec.getSharedPlans(fragments);
+      } catch (final IOException e) {
+        throw new UserRpcException(bee.getContext().getEndpoint(), "Failure while reading shared fragment plans", e);
+      }
       for(int i = 0; i < fragments.getFragmentCount(); i++) {
-        startNewRemoteFragment(fragments.getFragment(i));
+        final PlanFragment fragment = fragments.getFragment(i);
+        startNewRemoteFragment(fragment, sharedPlans.get(fragment.getHandle().getMajorFragmentId()));
       }
       sender.send(ControlRpcConfig.OK);
       break;
@@ -140,22 +163,30 @@ public class ControlMessageHandler implements RequestHandler<ControlConnection>
     }
   }
 
-  private void startNewRemoteFragment(final PlanFragment fragment) throws UserRpcException {
+  /**
+   * @param sharedPlan the shared plan of the major fragment of the fragment, if it is sent as a delta
+   */
+  private void startNewRemoteFragment(final PlanFragment fragment, final JsonNode sharedPlan)
+      throws UserRpcException {
     logger.debug("Received remote fragment start instruction", fragment);
 
     final DrillbitContext drillbitContext = bee.getContext();
     try {
+      // a fragment sent as a delta is read now, while the shared plan of its major fragment is at hand; other
+      // fragments are read when they start running
+      final FragmentRoot rootOperator = fragment.hasFragmentPlanDelta()
+          ? drillbitContext.getPlanReader().readFragmentOperator(fragment, sharedPlan) : null;
       // we either need to start the fragment if it is a leaf fragment, or set up a fragment manager if it is non leaf.
       if (fragment.getLeafFragment()) {
         final FragmentContext context = new FragmentContext(drillbitContext, fragment,
             drillbitContext.getFunctionImplementationRegistry());
         final ControlTunnel tunnel = drillbitContext.getController().getTunnel(fragment.getForeman());
         final FragmentStatusReporter statusReporter = new FragmentStatusReporter(context, tunnel);
-        final FragmentExecutor fr = new FragmentExecutor(context, fragment, statusReporter);
+        final FragmentExecutor fr = new FragmentExecutor(context, fragment, statusReporter, rootOperator);
         bee.addFragmentRunner(fr);
       } else {
         // isIntermediate, store for incoming data.
-        final NonRootFragmentManager manager = new NonRootFragmentManager(fragment, drillbitContext);
+        final NonRootFragmentManager manager = new NonRootFragmentManager(fragment, drillbitContext, rootOperator);
         drillbitContext.getWorkBus().addFragmentManager(manager);
       }
 
@@ -25,9 +25,11 @@ import io.netty.util.concurrent.GenericFutureListener;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -57,7 +59,10 @@ import org.apache.drill.exec.planner.fragment.MakeFragmentsVisitor;
 import org.apache.drill.exec.planner.fragment.SimpleParallelizer;
 import org.apache.drill.exec.planner.sql.DirectPlan;
 import org.apache.drill.exec.planner.sql.DrillSqlWorker;
+import org.apache.drill.exec.planner.sql.QueryParameters;
+import org.apache.drill.exec.planner.sql.QueryParameters.StatementInfo;
 import org.apache.drill.exec.proto.BitControl.InitializeFragments;
+import org.apache.drill.exec.proto.BitControl.MajorFragmentPlan;
 import org.apache.drill.exec.proto.BitControl.PlanFragment;
 import org.apache.drill.exec.proto.CoordinationProtos.DrillbitEndpoint;
 import org.apache.drill.exec.proto.ExecProtos.FragmentHandle;
@@ -67,11 +72,11 @@ import org.apache.drill.exec.proto.UserBitShared.QueryId;
 import org.apache.drill.exec.proto.UserBitShared.QueryResult;
 import org.apache.drill.exec.proto.UserBitShared.QueryResult.QueryState;
 import org.apache.drill.exec.proto.UserProtos.PreparedStatementHandle;
+import org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter;
 import org.apache.drill.exec.proto.UserProtos.RunQuery;
 import org.apache.drill.exec.proto.helper.QueryIdHelper;
 import org.apache.drill.exec.rpc.BaseRpcOutcomeListener;
 import org.apache.drill.exec.rpc.RpcException;
-import org.apache.drill.exec.rpc.control.ControlTunnel;
 import org.apache.drill.exec.rpc.control.Controller;
 import org.apache.drill.exec.rpc.UserClientConnection;
 import org.apache.drill.exec.server.DrillbitContext;
@@ -87,6 +92,7 @@ import org.apache.drill.exec.work.batch.IncomingBuffers;
 import org.apache.drill.exec.work.fragment.FragmentExecutor;
 import org.apache.drill.exec.work.fragment.FragmentStatusReporter;
 import org.apache.drill.exec.work.fragment.RootFragmentManager;
+import org.apache.drill.exec.work.foreman.PlanCache.CachedPlan;
 import org.codehaus.jackson.map.ObjectMapper;
 
 import com.google.common.base.Preconditions;
@@ -125,6 +131,7 @@ public class Foreman implements Runnable {
   private static final Counter enqueuedQueries = DrillMetrics.getRegistry().counter("drill.queries.enqueued");
   private static final Counter runningQueries = DrillMetrics.getRegistry().counter("drill.queries.running");
   private static final Counter completedQueries = DrillMetrics.getRegistry().counter("drill.queries.completed");
+  private static final Counter localShortQueries = DrillMetrics.getRegistry().counter("drill.queries.local_short");
 
   private final QueryId queryId;
   private final String queryIdString;
@@ -146,6 +153,7 @@ public class Foreman implements Runnable {
   private final ConnectionClosedListener closeListener = new ConnectionClosedListener();
   private final ChannelFuture closeFuture;
   private final boolean queuingEnabled;
+  private volatile boolean localShortQuery; // run as a single fragment of the Foreman, see isLocalShortQuery()
 
 
   private String queryText;
@@ -437,14 +445,22 @@ public class Foreman implements Runnable {
     //Marking endTime of Planning
     queryManager.markPlanningEndTime();
 
+    final double totalCost = getTotalCost(plan);
     if (queuingEnabled) {
-      acquireQuerySemaphore(plan);
+      acquireQuerySemaphore(totalCost);
       moveToState(QueryState.STARTING, null);
       //Marking endTime of Waiting in Queue
       queryManager.markQueueWaitEndTime();
     }
 
-    final QueryWorkUnit work = getQueryWorkUnit(plan);
+    final PhysicalOperator rootOperator = plan.getSortedOperators(false).iterator().next();
+    final Fragment rootFragment = rootOperator.accept(MakeFragmentsVisitor.INSTANCE, null);
+    if (isLocalShortQuery(totalCost, rootFragment)) {
+      runLocalShortQuery(rootFragment);
+      return;
+    }
+
+    final QueryWorkUnit work = getQueryWorkUnit(rootFragment);
     final List<PlanFragment> planFragments = work.getFragments();
     final PlanFragment rootPlanFragment = work.getRootFragment();
     assert queryId == rootPlanFragment.getHandle().getQueryId();
@@ -455,9 +471,40 @@ public class Foreman implements Runnable {
     logger.debug("Submitting fragments to run.");
 
     // set up the root fragment first so we'll have incoming buffers available.
-    setupRootFragment(rootPlanFragment, work.getRootOperator());
+    setupRootFragment(rootPlanFragment, work.getRootOperator(), false);
 
-    setupNonRootFragments(planFragments);
+    setupNonRootFragments(planFragments, work.getSharedPlans());
+
+    moveToState(QueryState.RUNNING, null);
+    logger.debug("Fragments running.");
+  }
+
+  /**
+   * A query is run as a single fragment of the Foreman when its plan has no exchanges, so that it runs on
+   * the Foreman anyway, and when its estimated cost is low enough that distributing it would not pay off.
+   */
+  private boolean isLocalShortQuery(final double totalCost, final Fragment rootFragment) {
+    final OptionManager options = queryContext.getOptions();
+    return options.getOption(ExecConstants.LOCAL_SHORT_QUERY_ENABLED)
+        && totalCost <= options.getOption(ExecConstants.LOCAL_SHORT_QUERY_MAX_COST)
+        && rootFragment.getReceivingExchangePairs().isEmpty();
+  }
+
+  /**
+   * Runs a short query as a single fragment of the Foreman. The fragment is not serialized, and reports
+   * its status to the query manager directly rather than through the control RPC. The profile of the
+   * query is written in the background once it is done.
+   */
+  private void runLocalShortQuery(final Fragment rootFragment) throws ExecutionSetupException {
+    final QueryWorkUnit work = new SimpleParallelizer(queryContext).getLocalFragment(
+        queryContext.getCurrentEndpoint(), queryId, queryContext.getActiveEndpoints(), rootFragment,
+        initiatingClient.getSession(), queryContext.getQueryContextInfo());
+    localShortQuery = true;
+    localShortQueries.inc();
+
+    drillbitContext.getWorkBus().addFragmentStatusListener(queryId, queryManager.getFragmentStatusListener());
+    logger.debug("Running the query as a single local fragment.");
+    setupRootFragment(work.getRootFragment(), work.getRootOperator(), true);
 
     moveToState(QueryState.RUNNING, null);
     logger.debug("Fragments running.");
@@ -493,7 +540,7 @@ public class Foreman implements Runnable {
 
     final FragmentRoot rootOperator;
     try {
-      rootOperator = drillbitContext.getPlanReader().readFragmentOperator(rootFragment.getFragmentJson());
+      rootOperator = drillbitContext.getPlanReader().readFragmentOperator(rootFragment);
     } catch (IOException e) {
       throw new ExecutionSetupException(String.format("Unable to parse FragmentRoot from fragment: %s", rootFragment.getFragmentJson()));
     }
@@ -507,17 +554,18 @@ public class Foreman implements Runnable {
     logger.debug("Submitting fragments to run.");
 
     // set up the root fragment first so we'll have incoming buffers available.
-    setupRootFragment(rootFragment, rootOperator);
+    setupRootFragment(rootFragment, rootOperator, false);
 
-    setupNonRootFragments(planFragments);
+    setupNonRootFragments(planFragments, Collections.<Integer, MajorFragmentPlan>emptyMap());
 
     moveToState(QueryState.RUNNING, null);
     logger.debug("Fragments running.");
   }
 
   /**
-   * Helper method to execute the query in prepared statement. Current implementation takes the query from opaque
-   * object of the <code>preparedStatement</code> and submits as a new query.
+   * Helper method to execute the query in prepared statement. The query is taken from opaque object of the
+   * <code>preparedStatement</code>. Its physical plan is reused from an earlier execution when it is in the
+   * {@link PlanCache}, and the values of its parameters, if any, are bound into the plan.
    *
    * @param preparedStatementHandle
    * @throws ExecutionSetupException
@@ -538,8 +586,54 @@ public class Foreman implements Runnable {
 
     queryText = serverState.getSqlQuery();
     logger.info("Prepared statement query for QueryId {} : {}", queryId, queryText);
-    runSQL(queryText);
 
+    final List<PreparedStatementParameter> parameters = queryRequest.getParametersList();
+
+    final OptionManager options = queryContext.getOptions();
+    final PlanCache planCache = drillbitContext.getPlanCache();
+    final PlanCache.Key key =
+        options.getOption(ExecConstants.PREPARED_STATEMENT_PLAN_CACHE_ENABLED_VALIDATOR)
+            ? PlanCache.newKey(queryContext, queryText)
+            : null;
+    CachedPlan plan = key == null ? null
+        : planCache.get(key,
+            TimeUnit.SECONDS.toMillis(options.getOption(ExecConstants.PREPARED_STATEMENT_PLAN_CACHE_TTL_SECS).num_val));
+
+    if (plan == null) {
+      final StatementInfo statement = QueryParameters.analyze(queryText, queryContext.getPlannerSettings());
+      if (statement.getParameterCount() == 0 && parameters.isEmpty()
+          && (key == null || !statement.isReusablePlan())) {
+        runSQL(queryText);
+        return;
+      }
+
+      final Pointer<String> textPlan = new Pointer<>();
+      final PhysicalPlan physicalPlan = DrillSqlWorker.getPlan(queryContext, queryText, textPlan);
+      plan = new CachedPlan(physicalPlan.unparse(queryContext.getLpPersistence().getMapper().writer()),
+          textPlan.value, statement.getParameterCount());
+      if (key != null && statement.isReusablePlan()) {
+        planCache.put(key, plan);
+      }
+    } else {
+      logger.debug("Reusing the cached plan of the prepared statement for QueryId {}", queryId);
+    }
+
+    if (parameters.size() != plan.getParameterCount()) {
+      throw UserException.validationError()
+          .message("The prepared statement has %d parameters, but %d values were given.",
+              plan.getParameterCount(), parameters.size())
+          .build(logger);
+    }
+
+    final PhysicalPlan physicalPlan;
+    try {
+      physicalPlan = drillbitContext.getPlanReader().readPhysicalPlan(plan.getJsonPlan(),
+          QueryParameters.toExpressions(parameters));
+    } catch (final IOException e) {
+      throw new ForemanSetupException("Failure while reading the plan of the prepared statement.", e);
+    }
+    queryManager.setPlanText(plan.getTextPlan());
+    runPhysicalPlan(physicalPlan);
   }
 
   private static void validatePlan(final PhysicalPlan plan) throws ForemanSetupException {
@@ -559,14 +653,12 @@ public class Foreman implements Runnable {
    * @param plan the query plan
    * @throws ForemanSetupException
    */
-  private void acquireQuerySemaphore(final PhysicalPlan plan) throws ForemanSetupException {
+  private static double getTotalCost(final PhysicalPlan plan) {
     double totalCost = 0;
     for (final PhysicalOperator ops : plan.getSortedOperators()) {
       totalCost += ops.getCost();
     }
-
-    acquireQuerySemaphore(totalCost);
-    return;
+    return totalCost;
   }
 
   private void acquireQuerySemaphore(double totalCost) throws ForemanSetupException {
@@ -610,9 +702,7 @@ public class Foreman implements Runnable {
     return foremanResult.getException();
   }
 
-  private QueryWorkUnit getQueryWorkUnit(final PhysicalPlan plan) throws ExecutionSetupException {
-    final PhysicalOperator rootOperator = plan.getSortedOperators(false).iterator().next();
-    final Fragment rootFragment = rootOperator.accept(MakeFragmentsVisitor.INSTANCE, null);
+  private QueryWorkUnit getQueryWorkUnit(final Fragment rootFragment) throws ExecutionSetupException {
     final SimpleParallelizer parallelizer = new SimpleParallelizer(queryContext);
     final QueryWorkUnit queryWorkUnit = parallelizer.getFragments(
         queryContext.getOptions().getOptionList(), queryContext.getCurrentEndpoint(),
@@ -650,7 +740,7 @@ public class Foreman implements Runnable {
         final ObjectMapper objectMapper = new ObjectMapper();
         try
         {
-          final Object json = objectMapper.readValue(planFragment.getFragmentJson(), Object.class);
+          final Object json = objectMapper.readValue(queryWorkUnit.getFragmentJson(planFragment), Object.class);
           jsonString = objectMapper.defaultPrettyPrintingWriter().writeValueAsString(json);
         } catch(final Exception e) {
           // we've already set jsonString to a fallback value
@@ -884,7 +974,11 @@ public class Foreman implements Runnable {
       // persistence.
 
       if (profileOption == ProfileOption.ASYNC) {
-        queryManager.writeFinalProfile(uex);
+        if (localShortQuery) {
+          queryManager.writeFinalProfile(uex, drillbitContext.getExecutor());
+        } else {
+          queryManager.writeFinalProfile(uex);
+        }
       }
 
       // Remove the Foreman from the running query list.
@@ -1046,12 +1140,52 @@ public class Foreman implements Runnable {
   }
 
   private void runSQL(final String sql) throws ExecutionSetupException {
+    final OptionManager options = queryContext.getOptions();
+    if (options.getOption(ExecConstants.PLAN_CACHE_ENABLED_VALIDATOR)) {
+      runCachedSQL(sql, TimeUnit.SECONDS.toMillis(options.getOption(ExecConstants.PLAN_CACHE_TTL_SECS).num_val));
+      return;
+    }
     final Pointer<String> textPlan = new Pointer<>();
     final PhysicalPlan plan = DrillSqlWorker.getPlan(queryContext, sql, textPlan);
     queryManager.setPlanText(textPlan.value);
     runPhysicalPlan(plan);
   }
 
+  /**
+   * Runs a query with the physical plan of an earlier query with the same text, default schema, user and
+   * options, when it is in the {@link PlanCache}. The cached plan is parallelized again, for the Drillbits
+   * currently available. Otherwise the query is planned, and its plan is cached if it can be reused.
+   */
+  private void runCachedSQL(final String sql, final long ttlMillis) throws ExecutionSetupException {
+    final PlanCache planCache = drillbitContext.getPlanCache();
+    final PlanCache.Key key = PlanCache.newKey(queryContext, sql);
+    final CachedPlan cachedPlan = planCache.get(key, ttlMillis);
+
+    // a prepared statement with parameters may share the text of the query, but not its plan
+    if (cachedPlan != null && cachedPlan.getParameterCount() == 0) {
+      logger.debug("Reusing the cached plan of the query for QueryId {}", queryId);
+      final PhysicalPlan plan;
+      try {
+        plan = drillbitContext.getPlanReader().readPhysicalPlan(cachedPlan.getJsonPlan());
+      } catch (final IOException e) {
+        throw new ForemanSetupException("Failure while reading the cached plan of the query.", e);
+      }
+      queryManager.setPlanText(cachedPlan.getTextPlan());
+      runPhysicalPlan(plan);
+      return;
+    }
+
+    final Pointer<String> textPlan = new Pointer<>();
+    final PhysicalPlan plan = DrillSqlWorker.getPlan(queryContext, sql, textPlan);
+    final StatementInfo statement = QueryParameters.analyze(sql, queryContext.getPlannerSettings());
+    if (statement.getParameterCount() == 0 && statement.isReusablePlan()) {
+      planCache.put(key, new CachedPlan(plan.unparse(queryContext.getLpPersistence().getMapper().writer()),
+          textPlan.value, 0));
+    }
+    queryManager.setPlanText(textPlan.value);
+    runPhysicalPlan(plan);
+  }
+
   private PhysicalPlan convert(final LogicalPlan plan) throws OptimizerException {
     if (logger.isDebugEnabled()) {
       logger.debug("Converting logical plan {}.", plan.toJsonStringSafe(queryContext.getLpPersistence()));
@@ -1071,8 +1205,8 @@ public class Foreman implements Runnable {
    * @param rootOperator
    * @throws ExecutionSetupException
    */
-  private void setupRootFragment(final PlanFragment rootFragment, final FragmentRoot rootOperator)
-      throws ExecutionSetupException {
+  private void setupRootFragment(final PlanFragment rootFragment, final FragmentRoot rootOperator,
+      final boolean local) throws ExecutionSetupException {
     @SuppressWarnings("resource")
     final FragmentContext rootContext = new FragmentContext(drillbitContext, rootFragment, queryContext,
         initiatingClient, drillbitContext.getFunctionImplementationRegistry());
@@ -1082,9 +1216,12 @@ public class Foreman implements Runnable {
 
     queryManager.addFragmentStatusTracker(rootFragment, true);
 
-    final ControlTunnel tunnel = drillbitContext.getController().getTunnel(queryContext.getCurrentEndpoint());
-    final FragmentExecutor rootRunner = new FragmentExecutor(rootContext, rootFragment,
-        new FragmentStatusReporter(rootContext, tunnel),
+    // a local fragment reports its status directly, the others through a loopback control tunnel
+    final FragmentStatusReporter statusReporter = local
+        ? new FragmentStatusReporter(rootContext, queryManager.getFragmentStatusListener())
+        : new FragmentStatusReporter(rootContext,
+            drillbitContext.getController().getTunnel(queryContext.getCurrentEndpoint()));
+    final FragmentExecutor rootRunner = new FragmentExecutor(rootContext, rootFragment, statusReporter,
         rootOperator);
     final RootFragmentManager fragmentManager = new RootFragmentManager(rootFragment.getHandle(), buffers, rootRunner);
 
@@ -1102,9 +1239,11 @@ public class Foreman implements Runnable {
    * Messages are sent immediately, so they may start returning data even before we complete this.
    *
    * @param fragments the fragments
+   * @param sharedPlans the shared plans of the major fragments whose fragments are sent as deltas
    * @throws ForemanException
    */
-  private void setupNonRootFragments(final Collection<PlanFragment> fragments) throws ForemanException {
+  private void setupNonRootFragments(final Collection<PlanFragment> fragments,
+      final Map<Integer, MajorFragmentPlan> sharedPlans) throws ForemanException {
     if (fragments.isEmpty()) {
       // nothing to do here
       return;
@@ -1121,8 +1260,8 @@ public class Foreman implements Runnable {
 
     // record all fragments for status purposes.
     for (final PlanFragment planFragment : fragments) {
-      logger.trace("Tracking intermediate remote node {} with data {}",
-                   planFragment.getAssignment(), planFragment.getFragmentJson());
+      logger.trace("Tracking intermediate remote node {} with fragment {}",
+                   planFragment.getAssignment(), planFragment.getHandle());
       queryManager.addFragmentStatusTracker(planFragment, false);
       if (planFragment.getLeafFragment()) {
         leafFragmentMap.put(planFragment.getAssignment(), planFragment);
@@ -1145,7 +1284,7 @@ public class Foreman implements Runnable {
 
     // send remote intermediate fragments
     for (final DrillbitEndpoint ep : intFragmentMap.keySet()) {
-      sendRemoteFragments(ep, intFragmentMap.get(ep), endpointLatch, fragmentSubmitFailures);
+      sendRemoteFragments(ep, intFragmentMap.get(ep), sharedPlans, endpointLatch, fragmentSubmitFailures);
     }
 
     final long timeout = RPC_WAIT_IN_MSECS_PER_FRAGMENT * numIntFragments;
@@ -1189,7 +1328,7 @@ public class Foreman implements Runnable {
      * the regular sendListener event delivery.
      */
     for (final DrillbitEndpoint ep : leafFragmentMap.keySet()) {
-      sendRemoteFragments(ep, leafFragmentMap.get(ep), null, null);
+      sendRemoteFragments(ep, leafFragmentMap.get(ep), sharedPlans, null, null);
     }
   }
 
@@ -1198,16 +1337,24 @@ public class Foreman implements Runnable {
    *
    * @param assignment the drillbit assigned to these fragments
    * @param fragments the set of fragments
+   * @param sharedPlans the shared plans of the major fragments whose fragments are sent as deltas; each one is
+   *                    sent once with the fragments of its major fragment
    * @param latch the countdown latch used to track the requests to all endpoints
    * @param fragmentSubmitFailures the submission failure counter used to track the requests to all endpoints
    */
   private void sendRemoteFragments(final DrillbitEndpoint assignment, final Collection<PlanFragment> fragments,
-      final CountDownLatch latch, final FragmentSubmitFailures fragmentSubmitFailures) {
+      final Map<Integer, MajorFragmentPlan> sharedPlans, final CountDownLatch latch,
+      final FragmentSubmitFailures fragmentSubmitFailures) {
     @SuppressWarnings("resource")
     final Controller controller = drillbitContext.getController();
     final InitializeFragments.Builder fb = InitializeFragments.newBuilder();
+    final Set<Integer> majorFragmentIds = Sets.newHashSet();
     for(final PlanFragment planFragment : fragments) {
       fb.addFragment(planFragment);
+      final int majorFragmentId = planFragment.getHandle().getMajorFragmentId();
+      if (planFragment.hasFragmentPlanDelta() && majorFragmentIds.add(majorFragmentId)) {
+        fb.addSharedPlan(sharedPlans.get(majorFragmentId));
+      }
     }
     final InitializeFragments initFrags = fb.build();
 
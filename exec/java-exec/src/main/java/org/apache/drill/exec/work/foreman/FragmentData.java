@@ -17,6 +17,8 @@
  */
 package org.apache.drill.exec.work.foreman;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.apache.drill.exec.proto.BitControl.FragmentStatus;
 import org.apache.drill.exec.proto.CoordinationProtos.DrillbitEndpoint;
 import org.apache.drill.exec.proto.ExecProtos.FragmentHandle;
@@ -28,7 +30,7 @@ public class FragmentData {
 //  private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(FragmentData.class);
 
   private final boolean isLocal;
-  private volatile FragmentStatus status;
+  private final AtomicReference<FragmentStatus> status = new AtomicReference<>();
   private volatile long lastStatusUpdate = System.currentTimeMillis();
   private volatile long lastProgress = System.currentTimeMillis();
   private final DrillbitEndpoint endpoint;
@@ -41,31 +43,59 @@ public class FragmentData {
         .setMinorFragmentId(handle.getMinorFragmentId())
         .setEndpoint(endpoint)
         .build();
-    status = FragmentStatus.newBuilder()
+    status.set(FragmentStatus.newBuilder()
         .setHandle(handle)
         .setProfile(f)
-        .build();
+        .build());
   }
 
   /**
-   * Update the status for this fragment. Also records last update and last progress time.
+   * Update the status for this fragment, unless the state change is not allowed (see
+   * {@link #isValidTransition(FragmentState, FragmentState)}). Also records last update and last progress
+   * time. Concurrent updates are applied one after the other without locking.
+   *
    * @param newStatus Updated status
+   * @return the status the update was checked against, and replaced if the update was allowed
    */
-  public void setStatus(final FragmentStatus newStatus) {
+  public FragmentStatus updateStatus(final FragmentStatus newStatus) {
+    final FragmentState newState = newStatus.getProfile().getState();
+    FragmentStatus previous;
+    do {
+      previous = status.get();
+      if (!isValidTransition(previous.getProfile().getState(), newState)) {
+        return previous;
+      }
+    } while (!status.compareAndSet(previous, newStatus));
+
     final long time = System.currentTimeMillis();
     lastStatusUpdate = time;
-    if (madeProgress(status, newStatus)) {
+    if (madeProgress(previous, newStatus)) {
       lastProgress = time;
     }
-    status = newStatus;
+    return previous;
+  }
+
+  public static boolean isTerminal(final FragmentState state) {
+    return state == FragmentState.FAILED
+        || state == FragmentState.FINISHED
+        || state == FragmentState.CANCELLED;
+  }
+
+  /**
+   * A fragment never leaves a terminal state, and only goes to a terminal state once its cancellation
+   * was requested.
+   */
+  public static boolean isValidTransition(final FragmentState oldState, final FragmentState newState) {
+    return !isTerminal(oldState)
+        && (oldState != FragmentState.CANCELLATION_REQUESTED || isTerminal(newState));
   }
 
   public FragmentState getState() {
-    return status.getProfile().getState();
+    return status.get().getProfile().getState();
   }
 
   public MinorFragmentProfile getProfile() {
-    return status
+    return status.get()
         .getProfile()
         .toBuilder()
         .setLastUpdate(lastStatusUpdate)
@@ -82,7 +112,7 @@ public class FragmentData {
   }
 
   public FragmentHandle getHandle() {
-    return status.getHandle();
+    return status.get().getHandle();
   }
 
   private boolean madeProgress(final FragmentStatus prev, final FragmentStatus cur) {
@@ -115,7 +145,7 @@ public class FragmentData {
 
   @Override
   public String toString() {
-    return "FragmentData [isLocal=" + isLocal + ", status=" + status + ", lastStatusUpdate=" + lastStatusUpdate
+    return "FragmentData [isLocal=" + isLocal + ", status=" + status.get() + ", lastStatusUpdate=" + lastStatusUpdate
         + ", endpoint=" + endpoint + "]";
   }
 }
\ No newline at end of file
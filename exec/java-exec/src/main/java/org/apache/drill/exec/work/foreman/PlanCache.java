@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.work.foreman;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.drill.exec.metrics.DrillMetrics;
+import org.apache.drill.exec.ops.QueryContext;
+import org.apache.drill.exec.rpc.user.UserSession;
+import org.apache.drill.exec.server.options.OptionValue;
+
+import com.codahale.metrics.Counter;
+import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Physical plans of queries and prepared statements, kept so that later executions of the same SQL text
+ * skip parsing, validation and optimization. Plans are kept serialized, with placeholders for the
+ * parameters of prepared statements (see {@link org.apache.drill.exec.planner.sql.QueryParameters}), and
+ * are parallelized again for every execution.
+ * <p>
+ * A plan is cached for the normalized SQL text, the user, the default schema and the options it was
+ * planned with, so a change of any of them plans the query again. Plans also expire after a time to live,
+ * since the tables they read may change outside of Drill, and are dropped when tables, views, functions
+ * or storage plugins change through this Drillbit.
+ */
+public class PlanCache {
+  private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(PlanCache.class);
+
+  private static final Counter hits = DrillMetrics.getRegistry().counter("drill.plan_cache.hits");
+  private static final Counter misses = DrillMetrics.getRegistry().counter("drill.plan_cache.misses");
+  private static final Counter evictions = DrillMetrics.getRegistry().counter("drill.plan_cache.evictions");
+
+  private final Cache<Key, CachedPlan> plans;
+  private final Stats stats = new Stats();
+
+  public PlanCache(long maximumSize) {
+    plans = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .removalListener(new RemovalListener<Key, CachedPlan>() {
+          @Override
+          public void onRemoval(RemovalNotification<Key, CachedPlan> notification) {
+            if (notification.wasEvicted()) {
+              evicted();
+            }
+          }
+        })
+        .build();
+  }
+
+  /**
+   * @return the plan cached for the given key, or null if there is none or if it is older than
+   *         <code>ttlMillis</code>
+   */
+  public CachedPlan get(Key key, long ttlMillis) {
+    final CachedPlan plan = plans.getIfPresent(key);
+    if (plan == null) {
+      missed();
+      return null;
+    }
+    if (System.currentTimeMillis() - plan.creationTime > ttlMillis) {
+      // expired plans are dropped explicitly, which the removal listener does not count as an eviction
+      plans.invalidate(key);
+      evicted();
+      missed();
+      return null;
+    }
+    hits.inc();
+    stats.hits.incrementAndGet();
+    plan.hits.incrementAndGet();
+    return plan;
+  }
+
+  public void put(Key key, CachedPlan plan) {
+    plans.put(key, plan);
+  }
+
+  /**
+   * Drops all the cached plans, after a change that may affect planning.
+   */
+  public void invalidateAll() {
+    logger.debug("Dropping {} cached plans.", plans.size());
+    plans.invalidateAll();
+  }
+
+  /**
+   * @return a snapshot of the cached plans, with their keys
+   */
+  public Map<Key, CachedPlan> getEntries() {
+    return ImmutableMap.copyOf(plans.asMap());
+  }
+
+  public Stats getStats() {
+    return stats;
+  }
+
+  public long size() {
+    return plans.size();
+  }
+
+  private void missed() {
+    misses.inc();
+    stats.misses.incrementAndGet();
+  }
+
+  private void evicted() {
+    evictions.inc();
+    stats.evictions.incrementAndGet();
+  }
+
+  /**
+   * @return the cache key of a query executed in the given query context
+   */
+  public static Key newKey(QueryContext context, String sql) {
+    final UserSession session = context.getSession();
+    // later values (session, then query options) override earlier ones
+    final Map<String, OptionValue> options = new TreeMap<>();
+    for (OptionValue option : context.getOptions()) {
+      options.put(option.name, option);
+    }
+    // temporary tables are resolved within their session only
+    final String sessionId = session.hasTemporaryTables() ? session.getSessionId() : null;
+    return new Key(normalize(sql), context.getQueryUserName(), session.getDefaultSchemaPath(), sessionId,
+        ImmutableList.copyOf(options.values()));
+  }
+
+  /**
+   * Normalizes the whitespace of a SQL text, so that queries that differ only by their layout share
+   * their plan: leading and trailing whitespace is dropped and other runs of whitespace outside of
+   * literals and quoted identifiers are replaced by a single space. Texts with line comments, which
+   * end at a line break, are only trimmed.
+   */
+  static String normalize(String sql) {
+    final StringBuilder normalized = new StringBuilder(sql.length());
+    char quote = 0;
+    boolean whitespace = false;
+    for (int i = 0; i < sql.length(); i++) {
+      final char c = sql.charAt(i);
+      if (quote != 0) {
+        if (c == quote) {
+          quote = 0;
+        }
+      } else if (Character.isWhitespace(c)) {
+        whitespace = true;
+        continue;
+      } else if (c == '\'' || c == '"' || c == '`') {
+        quote = c;
+      } else if (c == '-' && i + 1 < sql.length() && sql.charAt(i + 1) == '-') {
+        return sql.trim();
+      }
+      if (whitespace && normalized.length() > 0) {
+        normalized.append(' ');
+      }
+      whitespace = false;
+      normalized.append(c);
+    }
+    return normalized.toString();
+  }
+
+  public static class Key {
+    private final String sql;
+    private final String userName;
+    private final String defaultSchema;
+    private final String sessionId;
+    private final List<OptionValue> options;
+    private final int hashCode;
+
+    private Key(String sql, String userName, String defaultSchema, String sessionId, List<OptionValue> options) {
+      this.sql = sql;
+      this.userName = userName;
+      this.defaultSchema = defaultSchema;
+      this.sessionId = sessionId;
+      this.options = options;
+      this.hashCode = Objects.hashCode(sql, userName, defaultSchema, sessionId, options);
+    }
+
+    public String getSql() {
+      return sql;
+    }
+
+    public String getUserName() {
+      return userName;
+    }
+
+    public String getDefaultSchema() {
+      return defaultSchema;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      final Key other = (Key) obj;
+      return hashCode == other.hashCode
+          && sql.equals(other.sql)
+          && Objects.equal(userName, other.userName)
+          && Objects.equal(defaultSchema, other.defaultSchema)
+          && Objects.equal(sessionId, other.sessionId)
+          && options.equals(other.options);
+    }
+  }
+
+  public static class CachedPlan {
+    private final String jsonPlan;
+    private final String textPlan;
+    private final int parameterCount;
+    private final long creationTime = System.currentTimeMillis();
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * @param jsonPlan the physical plan, serialized in JSON
+     * @param textPlan the text of the plan, shown in the query profile
+     * @param parameterCount number of parameters of the statement
+     */
+    public CachedPlan(String jsonPlan, String textPlan, int parameterCount) {
+      this.jsonPlan = jsonPlan;
+      this.textPlan = textPlan;
+      this.parameterCount = parameterCount;
+    }
+
+    public String getJsonPlan() {
+      return jsonPlan;
+    }
+
+    public String getTextPlan() {
+      return textPlan;
+    }
+
+    public int getParameterCount() {
+      return parameterCount;
+    }
+
+    public long getCreationTime() {
+      return creationTime;
+    }
+
+    /**
+     * @return number of times the plan was reused
+     */
+    public long getHits() {
+      return hits.get();
+    }
+  }
+
+  /**
+   * Counts of the lookups and evictions of a cache, since the Drillbit started.
+   */
+  public static class Stats {
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public long getHits() {
+      return hits.get();
+    }
+
+    public long getMisses() {
+      return misses.get();
+    }
+
+    /**
+     * @return number of plans dropped because the cache was full or because they expired
+     */
+    public long getEvictions() {
+      return evictions.get();
+    }
+  }
+}
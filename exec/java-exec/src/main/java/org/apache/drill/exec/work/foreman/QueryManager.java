@@ -23,6 +23,8 @@ import io.netty.buffer.ByteBuf;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.drill.common.exceptions.DrillRuntimeException;
@@ -111,30 +113,22 @@ public class QueryManager implements AutoCloseable {
     this.runningProfileStore = foreman.getQueryContext().getProfileStoreContext().getRunningProfileStore();
   }
 
-  private static boolean isTerminal(final FragmentState state) {
-    return state == FragmentState.FAILED
-        || state == FragmentState.FINISHED
-        || state == FragmentState.CANCELLED;
-  }
-
   private boolean updateFragmentStatus(final FragmentStatus fragmentStatus) {
     final FragmentHandle fragmentHandle = fragmentStatus.getHandle();
     final int majorFragmentId = fragmentHandle.getMajorFragmentId();
     final int minorFragmentId = fragmentHandle.getMinorFragmentId();
     final FragmentData data = fragmentDataMap.get(majorFragmentId).get(minorFragmentId);
 
-    final FragmentState oldState = data.getState();
-    final boolean inTerminalState = isTerminal(oldState);
+    final FragmentState oldState = data.updateStatus(fragmentStatus).getProfile().getState();
     final FragmentState currentState = fragmentStatus.getProfile().getState();
 
-    if (inTerminalState || (oldState == FragmentState.CANCELLATION_REQUESTED && !isTerminal(currentState))) {
+    if (!FragmentData.isValidTransition(oldState, currentState)) {
       // Already in a terminal state, or invalid state transition from CANCELLATION_REQUESTED. This shouldn't happen.
       logger.warn(String.format("Received status message for fragment %s after fragment was in state %s. New state was %s",
         QueryIdHelper.getQueryIdentifier(fragmentHandle), oldState, currentState));
       return false;
     }
 
-    data.setStatus(fragmentStatus);
     return oldState != currentState;
   }
 
@@ -311,6 +305,35 @@ public class QueryManager implements AutoCloseable {
     }
   }
 
+  /**
+   * Writes the final profile of the query from the given executor, so that the query is done without
+   * waiting for the store. The profile itself is built right away, while the query manager is still open.
+   */
+  void writeFinalProfile(UserException ex, Executor executor) {
+    final QueryProfile profile;
+    try {
+      profile = getQueryProfile(ex);
+    } catch (Exception e) {
+      logger.error("Failure while building Query Profile", e);
+      return;
+    }
+    try {
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            completedProfileStore.put(stringQueryId, profile);
+          } catch (Exception e) {
+            logger.error("Failure while storing Query Profile", e);
+          }
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // the Drillbit is shutting down
+      logger.warn("Unable to store Query Profile {} in the background.", stringQueryId, e);
+    }
+  }
+
   private QueryInfo getQueryInfo() {
     final String queryText = foreman.getQueryText();
     QueryInfo.Builder queryInfoBuilder = QueryInfo.newBuilder()
@@ -364,6 +387,7 @@ public class QueryManager implements AutoCloseable {
       profileBuilder.setQuery(queryText);
     }
 
+    foreman.getQueryContext().getPlanningStats().addPlanningPhases(profileBuilder);
     fragmentDataMap.forEach(new OuterIter(profileBuilder));
 
     return profileBuilder.build();
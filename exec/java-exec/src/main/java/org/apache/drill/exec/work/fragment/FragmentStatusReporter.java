@@ -26,20 +26,33 @@ import org.apache.drill.exec.proto.UserBitShared.FragmentState;
 import org.apache.drill.exec.proto.UserBitShared.MinorFragmentProfile;
 import org.apache.drill.exec.proto.helper.QueryIdHelper;
 import org.apache.drill.exec.rpc.control.ControlTunnel;
+import org.apache.drill.exec.work.foreman.FragmentStatusListener;
 
 /**
  * The status reporter is responsible for receiving changes in fragment state and propagating the status back to the
- * Foreman through a control tunnel.
+ * Foreman through a control tunnel, or directly for the fragments run by the Foreman of their query.
  */
 public class FragmentStatusReporter {
   private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(FragmentStatusReporter.class);
 
   private final FragmentContext context;
   private final ControlTunnel tunnel;
+  private final FragmentStatusListener listener;
 
   public FragmentStatusReporter(final FragmentContext context, final ControlTunnel tunnel) {
     this.context = context;
     this.tunnel = tunnel;
+    this.listener = null;
+  }
+
+  /**
+   * Creates a reporter that hands the status over to the given listener of the Foreman, without going through the
+   * control RPC.
+   */
+  public FragmentStatusReporter(final FragmentContext context, final FragmentStatusListener listener) {
+    this.context = context;
+    this.tunnel = null;
+    this.listener = listener;
   }
 
   /**
@@ -98,7 +111,11 @@ public class FragmentStatusReporter {
   }
 
   private void sendStatus(final FragmentStatus status) {
-    tunnel.sendFragmentStatus(status);
+    if (listener != null) {
+      listener.statusUpdate(status);
+    } else {
+      tunnel.sendFragmentStatus(status);
+    }
   }
 
   /**
@@ -22,6 +22,7 @@ import java.io.IOException;
 import org.apache.drill.common.exceptions.ExecutionSetupException;
 import org.apache.drill.exec.exception.FragmentSetupException;
 import org.apache.drill.exec.ops.FragmentContext;
+import org.apache.drill.exec.physical.base.FragmentRoot;
 import org.apache.drill.exec.proto.BitControl.PlanFragment;
 import org.apache.drill.exec.proto.ExecProtos.FragmentHandle;
 import org.apache.drill.exec.rpc.data.IncomingDataBatch;
@@ -45,15 +46,19 @@ public class NonRootFragmentManager implements FragmentManager {
   private final FragmentContext context;
   private volatile boolean runnerRetrieved = false;
 
-  public NonRootFragmentManager(final PlanFragment fragment, final DrillbitContext context)
-      throws ExecutionSetupException {
+  /**
+   * @param rootOperator the root operator of the fragment if it is already read, null to read it when the fragment
+   *                     starts running
+   */
+  public NonRootFragmentManager(final PlanFragment fragment, final DrillbitContext context,
+      final FragmentRoot rootOperator) throws ExecutionSetupException {
     try {
       this.handle = fragment.getHandle();
       this.context = new FragmentContext(context, fragment, context.getFunctionImplementationRegistry());
       this.buffers = new IncomingBuffers(fragment, this.context);
       final FragmentStatusReporter reporter = new FragmentStatusReporter(this.context,
           context.getController().getTunnel(fragment.getForeman()));
-      this.runner = new FragmentExecutor(this.context, fragment, reporter);
+      this.runner = new FragmentExecutor(this.context, fragment, reporter, rootOperator);
       this.context.setBuffers(buffers);
 
     } catch (ForemanException e) {
@@ -21,11 +21,14 @@ import com.google.common.collect.ImmutableMap;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelFuture;
 import org.apache.drill.common.exceptions.ErrorHelper;
+import org.apache.drill.common.exceptions.UserException;
 import org.apache.drill.common.types.TypeProtos.DataMode;
 import org.apache.drill.common.types.TypeProtos.MajorType;
 import org.apache.drill.common.types.TypeProtos.MinorType;
 import org.apache.drill.common.types.Types;
 import org.apache.drill.exec.physical.impl.materialize.QueryWritableBatch;
+import org.apache.drill.exec.planner.physical.PlannerSettings;
+import org.apache.drill.exec.planner.sql.QueryParameters;
 import org.apache.drill.exec.proto.ExecProtos.ServerPreparedStatementState;
 import org.apache.drill.exec.proto.GeneralRPCProtos.Ack;
 import org.apache.drill.exec.proto.UserBitShared.DrillPBError;
@@ -39,6 +42,7 @@ import org.apache.drill.exec.proto.UserProtos.CreatePreparedStatementReq;
 import org.apache.drill.exec.proto.UserProtos.CreatePreparedStatementResp;
 import org.apache.drill.exec.proto.UserProtos.PreparedStatement;
 import org.apache.drill.exec.proto.UserProtos.PreparedStatementHandle;
+import org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter;
 import org.apache.drill.exec.proto.UserProtos.RequestStatus;
 import org.apache.drill.exec.proto.UserProtos.ResultColumnMetadata;
 import org.apache.drill.exec.proto.UserProtos.RpcType;
@@ -60,6 +64,7 @@ import java.sql.Date;
 import java.sql.ResultSetMetaData;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -126,11 +131,30 @@ public class PreparedStatementProvider {
       try {
         UserClientConnectionWrapper wrapper = new UserClientConnectionWrapper(connection);
 
-        final RunQuery limit0Query =
-            RunQuery.newBuilder()
-                .setType(QueryType.SQL)
-                .setPlan(String.format("SELECT * FROM (%s) LIMIT 0", req.getSqlQuery()))
-                .build();
+        final String limit0Sql = String.format("SELECT * FROM (%s) LIMIT 0", req.getSqlQuery());
+        final int parameterCount = getParameterCount(req.getSqlQuery());
+        final RunQuery limit0Query;
+        if (parameterCount == 0) {
+          limit0Query =
+              RunQuery.newBuilder()
+                  .setType(QueryType.SQL)
+                  .setPlan(limit0Sql)
+                  .build();
+        } else {
+          // Bind NULL to the parameters: the query returns no rows anyway, only the result set schema.
+          limit0Query =
+              RunQuery.newBuilder()
+                  .setType(QueryType.PREPARED_STATEMENT)
+                  .setPreparedStatementHandle(
+                      PreparedStatementHandle.newBuilder()
+                          .setServerInfo(
+                              ServerPreparedStatementState.newBuilder()
+                                  .setSqlQuery(limit0Sql)
+                                  .build().toByteString()))
+                  .addAllParameters(
+                      Collections.nCopies(parameterCount, PreparedStatementParameter.getDefaultInstance()))
+                  .build();
+        }
 
         final QueryId limit0QueryId = userWorker.submitWork(wrapper, limit0Query);
 
@@ -166,6 +190,7 @@ public class PreparedStatementProvider {
           prepStmtBuilder.addColumns(serializeColumn(field));
         }
 
+        prepStmtBuilder.setParameterCount(parameterCount);
         prepStmtBuilder.setServerHandle(
             PreparedStatementHandle.newBuilder()
                 .setServerInfo(
@@ -183,6 +208,19 @@ public class PreparedStatementProvider {
         responseSender.send(new Response(RpcType.PREPARED_STATEMENT, respBuilder.build()));
       }
     }
+
+    /**
+     * @return the number of parameters ('?') of the query
+     */
+    private int getParameterCount(final String sql) {
+      try {
+        return QueryParameters.analyze(sql, new PlannerSettings(connection.getSession().getOptions(), null))
+            .getParameterCount();
+      } catch (UserException e) {
+        // the LIMIT 0 query reports the parse error
+        return 0;
+      }
+    }
   }
 
   /**
@@ -108,6 +108,9 @@
   <p>TOTAL FRAGMENTS: ${model.getProfile().getTotalFragments()}</p>
   <p>DURATION: ${model.getProfileDuration()}</p>
   <p style="text-indent:5em;">PLANNING: ${model.getPlanningDuration()}</p>
+  <#list model.getPlanningPhases() as phase>
+  <p style="text-indent:10em;">${phase}</p>
+  </#list>
   <p style="text-indent:5em;">QUEUED: ${model.getQueuedDuration()}</p>
   <p style="text-indent:5em;">EXECUTION: ${model.getExecutionDuration()}</p>
 
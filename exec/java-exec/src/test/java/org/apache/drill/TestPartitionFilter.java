@@ -19,9 +19,19 @@ package org.apache.drill;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
 
 import org.apache.drill.common.util.FileUtils;
 import org.apache.drill.common.util.TestTools;
+import org.apache.drill.exec.ExecConstants;
+import org.apache.drill.exec.planner.logical.partition.PruneScanRule;
+import org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile;
+import org.apache.drill.exec.proto.UserBitShared.QueryProfile;
+import org.apache.drill.exec.proto.UserBitShared.QueryType;
+import org.apache.drill.exec.proto.helper.QueryIdHelper;
+import org.apache.drill.exec.rpc.user.QueryDataBatch;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -47,6 +57,32 @@ public class TestPartitionFilter extends PlanTestBase {
     testPlanMatchingPatterns(query, new String[]{numFilesPattern, includedFilterPattern}, new String[]{});
   }
 
+  /**
+   * Runs the given query and returns its profile, written before the query completes.
+   */
+  private static QueryProfile getProfile(String query) throws Exception {
+    test("alter session set `%s` = true", ExecConstants.QUERY_PROFILE_DEBUG_OPTION);
+    try {
+      final List<QueryDataBatch> results = testRunAndReturn(QueryType.SQL, query);
+      final String queryId = QueryIdHelper.getQueryId(results.get(0).getHeader().getQueryId());
+      for (QueryDataBatch result : results) {
+        result.release();
+      }
+      return getDrillbitContext().getProfileStoreContext().getCompletedProfileStore().get(queryId);
+    } finally {
+      test("alter session reset `%s`", ExecConstants.QUERY_PROFILE_DEBUG_OPTION);
+    }
+  }
+
+  private static long getPlanningPhaseCount(QueryProfile profile, String phase) {
+    for (PlanningPhaseProfile phaseProfile : profile.getPlanningPhaseProfileList()) {
+      if (phaseProfile.getName().equals(phase)) {
+        return phaseProfile.getCount();
+      }
+    }
+    return 0;
+  }
+
   @BeforeClass
   public static void createParquetTable() throws Exception {
     test("alter session set `planner.disable_exchanges` = true");
@@ -68,6 +104,19 @@ public class TestPartitionFilter extends PlanTestBase {
     testExcludeFilter(query, 1, "Filter", 10);
   }
 
+  @Test  //Parquet: filter evaluated by a function over partition values
+  public void testPartitionFilterWithFunction_Parquet() throws Exception {
+    String query = String.format("select dir0, dir1, o_custkey, o_orderdate from dfs_test.`%s/multilevel/parquet` where substr(dir1, 2) = '1'", TEST_RES_PATH);
+    testExcludeFilter(query, 3, "Filter", 30);
+
+    // the filter is evaluated by generated code, the interpreter is only a fallback
+    final QueryProfile profile = getProfile(query);
+    assertTrue(getPlanningPhaseCount(profile, PruneScanRule.GENERATED_EVALUATION_PHASE) > 0);
+    assertEquals(0, getPlanningPhaseCount(profile, PruneScanRule.INTERPRETED_EVALUATION_PHASE));
+    assertTrue(getPlanningPhaseCount(profile, PruneScanRule.POPULATE_PHASE) > 0);
+    assertTrue(getPlanningPhaseCount(profile, PruneScanRule.CREATE_SCAN_PHASE) > 0);
+  }
+
   @Test  //Json: basic test with dir0 and dir1 filters
   public void testPartitionFilter1_Json() throws Exception {
     String query = String.format("select dir0, dir1, o_custkey, o_orderdate from dfs_test.`%s/multilevel/json` where dir0=1994 and dir1='Q1'", TEST_RES_PATH);
@@ -416,7 +416,7 @@ public class TestLocalExchange extends PlanTestBase {
     // number of Drillbits in cluster
     ArrayListMultimap<Integer, DrillbitEndpoint> partitionSenderMap = ArrayListMultimap.create();
     for(PlanFragment planFragment : qwu.getFragments()) {
-      if (planFragment.getFragmentJson().contains("hash-partition-sender")) {
+      if (qwu.getFragmentJson(planFragment).contains("hash-partition-sender")) {
         int majorFragmentId = planFragment.getHandle().getMajorFragmentId();
         DrillbitEndpoint assignedEndpoint = planFragment.getAssignment();
         partitionSenderMap.get(majorFragmentId).add(assignedEndpoint);
@@ -138,4 +138,35 @@ public class TestHashAggrSpill extends BaseTestQuery {
             runAndDump(client, sql, 1_100_000, 3, 2);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     *  Test the sorted fallback -- the same query as above, but partitions read back at the secondary cycle
+     *  are sorted on the keys and aggregated without spilling again (Hence spill-cycle stays at 2 )
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testHashAggrSortFallback() throws Exception {
+        LogFixture.LogFixtureBuilder logBuilder = LogFixture.builder()
+            .toConsole()
+            .logger("org.apache.drill.exec.physical.impl.aggregate", Level.DEBUG)
+            ;
+
+        FixtureBuilder builder = ClusterFixture.builder()
+            .configProperty(ExecConstants.HASHAGG_MAX_MEMORY,58_000_000)
+            .configProperty(ExecConstants.HASHAGG_NUM_PARTITIONS,16)
+            .configProperty(ExecConstants.HASHAGG_MIN_BATCHES_PER_PARTITION,3)
+            .configProperty(ExecConstants.HASHAGG_SORT_FALLBACK_CYCLE,2)
+            .sessionOption(PlannerSettings.FORCE_2PHASE_AGGR_KEY,true)
+            .sessionOption(PlannerSettings.STREAMAGG.getOptionName(),false)
+            .maxParallelization(1)
+            .saveProfiles()
+            ;
+        try (LogFixture logs = logBuilder.build();
+             ClusterFixture cluster = builder.build();
+             ClientFixture client = cluster.clientFixture()) {
+            String sql = "SELECT empid_s44, dept_i, branch_i, AVG(salary_i) FROM `mock`.`employee_1100K` GROUP BY empid_s44, dept_i, branch_i";
+            runAndDump(client, sql, 1_100_000, 2, 2);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import static org.apache.commons.io.FileUtils.deleteQuietly;
 import static org.apache.drill.TestBuilder.listOf;
 import static org.apache.drill.TestBuilder.mapOf;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.BufferedWriter;
 import java.io.File;
@@ -30,14 +31,22 @@ import java.util.List;
 import org.apache.drill.BaseTestQuery;
 import org.apache.drill.TestBuilder;
 import org.apache.drill.common.util.FileUtils;
+import org.apache.drill.exec.ExecConstants;
 import org.apache.drill.exec.fn.interp.TestConstantFolding;
+import org.apache.drill.exec.proto.UserBitShared.CoreOperatorType;
 import org.apache.drill.exec.store.easy.json.JSONRecordReader;
 import org.apache.drill.exec.util.JsonStringHashMap;
+import org.apache.drill.test.ClientFixture;
+import org.apache.drill.test.ClusterFixture;
+import org.apache.drill.test.FixtureBuilder;
+import org.apache.drill.test.ProfileParser;
+import org.apache.drill.test.QueryBuilder.QuerySummary;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 
 public class TestFlatten extends BaseTestQuery {
@@ -587,5 +596,100 @@ public class TestFlatten extends BaseTestQuery {
     }
   }
 
-}
+  @Test
+  public void testFlattenLargeArrayAcrossOutputBatches() throws Exception {
+    File path = new File(BaseTestQuery.getTempDir("json/input"));
+    try {
+      path.mkdirs();
+      String pathString = path.toPath().toString();
+
+      try (BufferedWriter writer = new BufferedWriter(new FileWriter(new File(path, "large_array.json")))) {
+        writer.write("{\"id\" : 1, \"arr\" : [");
+        for (int i = 0; i < 10000; i++) {
+          writer.write(i == 0 ? "0" : "," + i);
+        }
+        writer.write("]}");
+      }
+
+      test("alter session set `%s` = 1000", ExecConstants.FLATTEN_OUTPUT_BATCH_SIZE_KEY);
 
+      String query = "select count(*) as cnt, sum(t.a) as total, max(t.id) as id from " +
+        "(select id, flatten(arr) as a from dfs_test.`%s/large_array.json`) t";
+
+      testBuilder()
+        .sqlQuery(query, pathString)
+        .unOrdered()
+        .baselineColumns("cnt", "total", "id")
+        .baselineValues(10000L, 49995000L, 1L)
+        .go();
+
+    } finally {
+      test("alter session reset `%s`", ExecConstants.FLATTEN_OUTPUT_BATCH_SIZE_KEY);
+      deleteQuietly(path);
+    }
+  }
+
+  @Test
+  public void testFlattenOutputBatchRecordLimit() throws Exception {
+    FixtureBuilder builder = ClusterFixture.builder()
+        .sessionOption(ExecConstants.FLATTEN_OUTPUT_BATCH_SIZE_KEY, 1000)
+        .maxParallelization(1)
+        .saveProfiles();
+    try (ClusterFixture cluster = builder.build();
+         ClientFixture client = cluster.clientFixture()) {
+      try (BufferedWriter writer = new BufferedWriter(new FileWriter(new File(cluster.getDfsTestTmpDir(), "large_array.json")))) {
+        writer.write("{\"id\" : 1, \"arr\" : [");
+        for (int i = 0; i < 10000; i++) {
+          writer.write(i == 0 ? "0" : "," + i);
+        }
+        writer.write("]}");
+      }
+
+      ProfileParser.OperatorProfile flatten = runFlatten(client,
+          "select id, flatten(arr) as a from dfs_test.tmp.`large_array.json`", 10000);
+      assertEquals(1000, flatten.getMetric(FlattenRecordBatch.Metric.MAX_OUTPUT_BATCH_RECORDS.ordinal()));
+      assertTrue(flatten.getMetric(FlattenRecordBatch.Metric.OUTPUT_BATCHES.ordinal()) >= 10);
+    }
+  }
+
+  @Test
+  public void testFlattenOutputBatchMemoryLimit() throws Exception {
+    final int memoryLimit = 1024 * 1024;
+    final int valueSize = 2048;
+    final int valueCount = 2000;
+    FixtureBuilder builder = ClusterFixture.builder()
+        .sessionOption(ExecConstants.FLATTEN_OUTPUT_BATCH_MEMORY_KEY, memoryLimit)
+        .maxParallelization(1)
+        .saveProfiles();
+    try (ClusterFixture cluster = builder.build();
+         ClientFixture client = cluster.clientFixture()) {
+      final String value = Strings.repeat("a", valueSize);
+      try (BufferedWriter writer = new BufferedWriter(new FileWriter(new File(cluster.getDfsTestTmpDir(), "large_values.json")))) {
+        writer.write("{\"arr\" : [");
+        for (int i = 0; i < valueCount; i++) {
+          writer.write((i == 0 ? "\"" : ",\"") + value + "\"");
+        }
+        writer.write("]}");
+      }
+
+      ProfileParser.OperatorProfile flatten = runFlatten(client,
+          "select flatten(arr) as a from dfs_test.tmp.`large_values.json`", valueCount);
+      // the memory limit is checked before each value is copied, so a batch may go over it by one value
+      final long maxBatchMemory = flatten.getMetric(FlattenRecordBatch.Metric.MAX_OUTPUT_BATCH_MEMORY.ordinal());
+      assertTrue("largest batch used " + maxBatchMemory + " bytes", maxBatchMemory <= memoryLimit + 2 * valueSize);
+      assertTrue(flatten.getMetric(FlattenRecordBatch.Metric.MAX_OUTPUT_BATCH_RECORDS.ordinal()) < valueCount);
+      assertTrue(flatten.getMetric(FlattenRecordBatch.Metric.OUTPUT_BATCHES.ordinal()) >= (long) valueCount * valueSize / memoryLimit);
+    }
+  }
+
+  private static ProfileParser.OperatorProfile runFlatten(ClientFixture client, String sql, long expectedRecords) throws Exception {
+    QuerySummary summary = client.queryBuilder().sql(sql).run();
+    assertEquals(expectedRecords, summary.recordCount());
+
+    List<ProfileParser.OperatorProfile> ops = client.parseProfile(summary.queryIdString())
+        .getOpsOfType(CoreOperatorType.FLATTEN_VALUE);
+    assertEquals(1, ops.size());
+    return ops.get(0);
+  }
+
+}
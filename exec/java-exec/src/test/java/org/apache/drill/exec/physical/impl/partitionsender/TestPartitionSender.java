@@ -224,7 +224,7 @@ public class TestPartitionSender extends PlanTestBase {
     final List<MinorFragmentEndpoint> mfEndPoints = PhysicalOperatorUtil.getIndexOrderedEndpoints(Lists.newArrayList(drillbitContext.getBits()));
 
     for(PlanFragment planFragment : qwu.getFragments()) {
-      if (!planFragment.getFragmentJson().contains("hash-partition-sender")) {
+      if (!qwu.getFragmentJson(planFragment).contains("hash-partition-sender")) {
         continue;
       }
       MockPartitionSenderRootExec partionSenderRootExec = null;
@@ -19,10 +19,10 @@ package org.apache.drill.exec.physical.impl.svremover;
 
 import static org.junit.Assert.assertEquals;
 
-import org.apache.drill.BaseTestQuery;
+import org.apache.drill.PlanTestBase;
 import org.junit.Test;
 
-public class TestSVRemover extends BaseTestQuery {
+public class TestSVRemover extends PlanTestBase {
   @Test
   public void testSelectionVectorRemoval() throws Exception {
     int numOutputRecords = testPhysical(getFile("remover/test1.json"));
@@ -34,4 +34,57 @@ public class TestSVRemover extends BaseTestQuery {
     int numOutputRecords = testPhysical(getFile("remover/sv_with_no_filter.json"));
     assertEquals(100, numOutputRecords);
   }
+
+  @Test
+  public void testHashAggOverFilterWithoutRemover() throws Exception {
+    final String query = "select n_regionkey, count(*) as cnt from cp.`tpch/nation.parquet` " +
+        "where n_nationkey > 10 group by n_regionkey";
+
+    try {
+      test("alter session set `planner.enable_streamagg` = false");
+      testPlanMatchingPatterns(query, new String[]{"HashAgg"}, new String[]{"SelectionVectorRemover"});
+
+      testBuilder()
+          .sqlQuery(query)
+          .unOrdered()
+          .baselineColumns("n_regionkey", "cnt")
+          .baselineValues(0, 3L)
+          .baselineValues(1, 2L)
+          .baselineValues(2, 3L)
+          .baselineValues(3, 3L)
+          .baselineValues(4, 3L)
+          .go();
+    } finally {
+      test("alter session reset `planner.enable_streamagg`");
+    }
+  }
+
+  @Test
+  public void testHashJoinProbeOverFilterWithoutRemover() throws Exception {
+    final String query = "select n.n_name, r.r_name from cp.`tpch/nation.parquet` n " +
+        "join cp.`tpch/region.parquet` r on n.n_regionkey = r.r_regionkey where n.n_nationkey > 20";
+
+    testPlanMatchingPatterns(query, new String[]{"HashJoin"}, new String[]{"SelectionVectorRemover"});
+
+    testBuilder()
+        .sqlQuery(query)
+        .unOrdered()
+        .baselineColumns("n_name", "r_name")
+        .baselineValues("VIETNAM", "ASIA")
+        .baselineValues("RUSSIA", "EUROPE")
+        .baselineValues("UNITED KINGDOM", "EUROPE")
+        .baselineValues("UNITED STATES", "AMERICA")
+        .go();
+  }
+
+  @Test
+  public void testProjectStarOverFilter() throws Exception {
+    // a wildcard over a selection vector must copy the selected records, rather than transfer the vectors
+    testBuilder()
+        .sqlQuery("select *, r_regionkey + 1 as nextkey from cp.`tpch/region.parquet` where r_regionkey in (1, 3)")
+        .unOrdered()
+        .sqlBaselineQuery("select r_regionkey, r_name, r_comment, r_regionkey + 1 as nextkey " +
+            "from cp.`tpch/region.parquet` where r_regionkey in (1, 3)")
+        .go();
+  }
 }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.planner.fragment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class TestFragmentPlanCodec {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private static final String SHARED = "{\"pop\":\"screen\",\"@id\":0,\"child\":{\"pop\":\"mock-scan\",\"@id\":1," +
+      "\"entries\":[{\"records\":100,\"path\":\"/a\"},{\"records\":200,\"path\":\"/b\"}],\"cost\":1.5}}";
+
+  private static JsonNode tree(String json) throws Exception {
+    return MAPPER.readTree(json);
+  }
+
+  private static void assertDelta(String sharedJson, String json, int changes) throws Exception {
+    final JsonNode shared = tree(sharedJson);
+    final JsonNode delta = FragmentPlanCodec.diff(shared, tree(json));
+
+    assertEquals(changes, delta.size());
+    // the delta is sent in binary form, and turns the shared tree into the other one
+    final JsonNode decoded = FragmentPlanCodec.decode(FragmentPlanCodec.encode(delta));
+    assertEquals(tree(json), FragmentPlanCodec.apply(shared, decoded));
+    // without changing the shared tree
+    assertEquals(tree(sharedJson), shared);
+  }
+
+  @Test
+  public void sameTrees() throws Exception {
+    final JsonNode shared = tree(SHARED);
+
+    assertEquals(0, FragmentPlanCodec.diff(shared, tree(SHARED)).size());
+    assertSame(shared, FragmentPlanCodec.apply(shared, FragmentPlanCodec.diff(shared, tree(SHARED))));
+  }
+
+  @Test
+  public void changedValues() throws Exception {
+    assertDelta(SHARED, SHARED.replace("\"/b\"", "\"/c\""), 1);
+    assertDelta(SHARED, SHARED.replace("100", "300").replace("\"/b\"", "\"/c\"").replace("1.5", "2.5"), 3);
+  }
+
+  @Test
+  public void changedStructure() throws Exception {
+    // an array of another size, or an object with other fields, is replaced as a whole
+    assertDelta(SHARED, SHARED.replace(",{\"records\":200,\"path\":\"/b\"}", ""), 1);
+    assertDelta(SHARED, SHARED.replace("\"records\":200", "\"rows\":200"), 1);
+    assertDelta(SHARED, "{\"pop\":\"screen\",\"@id\":0,\"child\":null}", 1);
+    assertDelta(SHARED, "[]", 1);
+  }
+
+  @Test
+  public void binaryForm() throws Exception {
+    final JsonNode shared = tree(SHARED);
+
+    assertEquals(shared, FragmentPlanCodec.decode(FragmentPlanCodec.encode(shared)));
+  }
+}
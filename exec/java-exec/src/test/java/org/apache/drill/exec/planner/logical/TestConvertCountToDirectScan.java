@@ -148,4 +148,43 @@ public class TestConvertCountToDirectScan extends PlanTestBase {
     }
   }
 
+  @Test
+  public void ensureConvertMinMaxToDirectScan() throws Exception {
+    test("use %s", TEMP_SCHEMA);
+    final String tableName = "parquet_table_min_max";
+
+    try {
+      test("create table %s as select cast(n_nationkey as int) as int_col, cast(n_regionkey as bigint) as bigint_col, " +
+          "n_name from cp.`tpch/nation.parquet`", tableName);
+
+      final String sql = String.format("select min(int_col) as min_int, max(int_col) as max_int,\n" +
+          "min(bigint_col) as min_bigint, max(bigint_col) as max_bigint, count(*) as star_count\n" +
+          "from %s", tableName);
+
+      testPlanMatchingPatterns(
+          sql,
+          new String[] { "DynamicPojoRecordReader" },
+          new String[]{});
+
+      testBuilder()
+          .sqlQuery(sql)
+          .unOrdered()
+          .baselineColumns("min_int", "max_int", "min_bigint", "max_bigint", "star_count")
+          .baselineValues(0, 24, 0L, 4L, 25L)
+          .go();
+
+    } finally {
+      test("drop table if exists %s", tableName);
+    }
+  }
+
+  @Test
+  public void ensureDoesNotConvertMinMaxOfVarchar() throws Exception {
+    final String sql = "select min(n_name) as min_name from cp.`tpch/nation.parquet`";
+    testPlanMatchingPatterns(
+        sql,
+        new String[] { "ParquetGroupScan" },
+        new String[]{ "DynamicPojoRecordReader" });
+  }
+
 }
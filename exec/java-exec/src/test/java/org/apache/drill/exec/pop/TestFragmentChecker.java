@@ -22,7 +22,10 @@ import java.util.List;
 import org.apache.drill.exec.planner.PhysicalPlanReader;
 import org.apache.drill.exec.planner.PhysicalPlanReaderTestFactory;
 import org.apache.drill.exec.planner.fragment.Fragment;
+import org.apache.drill.exec.planner.fragment.FragmentPlanCodec;
 import org.apache.drill.exec.planner.fragment.SimpleParallelizer;
+import org.apache.drill.exec.proto.BitControl.InitializeFragments;
+import org.apache.drill.exec.proto.BitControl.MajorFragmentPlan;
 import org.apache.drill.exec.proto.BitControl.PlanFragment;
 import org.apache.drill.exec.proto.BitControl.QueryContextInformation;
 import org.apache.drill.exec.proto.CoordinationProtos.DrillbitEndpoint;
@@ -37,6 +40,9 @@ import org.junit.Test;
 import com.google.common.collect.Lists;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class TestFragmentChecker extends PopUnitTestBase{
   static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(TestFragmentChecker.class);
@@ -68,11 +74,11 @@ public class TestFragmentChecker extends PopUnitTestBase{
         queryContextInfo);
     System.out.println(String.format("=========ROOT FRAGMENT [%d:%d] =========", qwu.getRootFragment().getHandle().getMajorFragmentId(), qwu.getRootFragment().getHandle().getMinorFragmentId()));
 
-    System.out.print(qwu.getRootFragment().getFragmentJson());
+    System.out.print(qwu.getFragmentJson(qwu.getRootFragment()));
 
     for(PlanFragment f : qwu.getFragments()) {
       System.out.println(String.format("=========Fragment [%d:%d]=====", f.getHandle().getMajorFragmentId(), f.getHandle().getMinorFragmentId()));
-      System.out.print(f.getFragmentJson());
+      System.out.print(qwu.getFragmentJson(f));
     }
 
     assertEquals(expectedFragmentCount,
@@ -85,4 +91,65 @@ public class TestFragmentChecker extends PopUnitTestBase{
 
   }
 
+  @Test
+  public void binaryFragmentPlans() throws Exception {
+    PhysicalPlanReader ppr = PhysicalPlanReaderTestFactory.defaultPhysicalPlanReader(CONFIG);
+    Fragment fragmentRoot = getRootFragment(ppr, "/physical_double_exchange.json");
+    List<DrillbitEndpoint> endpoints = Lists.newArrayList();
+    for (int i = 0; i < 3; i++) {
+      endpoints.add(DrillbitEndpoint.newBuilder().setAddress("localhost").setControlPort(1234 + i).build());
+    }
+
+    QueryWorkUnit qwu = getFragments(new SimpleParallelizer(1000*1000, 5, 10, 1.2), ppr, fragmentRoot, endpoints);
+    // the same fragments, in JSON
+    QueryWorkUnit jsonQwu = getFragments(new SimpleParallelizer(1000*1000, 5, 10, 1.2) {
+      @Override
+      protected boolean writesBinaryPlans() {
+        return false;
+      }
+    }, ppr, fragmentRoot, endpoints);
+
+    // the fragments read back are the ones written in JSON
+    assertFalse(qwu.getRootFragment().hasFragmentJson());
+    assertEquals(ppr.writeJson(ppr.readFragmentOperator(jsonQwu.getRootFragment())),
+        ppr.writeJson(ppr.readFragmentOperator(qwu.getRootFragment())));
+
+    final OptionList options = ppr.readFragmentOptions(qwu.getRootFragment().getOptionsJson());
+    assertEquals(jsonQwu.getFragments().size(), qwu.getFragments().size());
+    for (int i = 0; i < qwu.getFragments().size(); i++) {
+      final PlanFragment f = qwu.getFragments().get(i);
+      // the fragments are deltas of the shared plan of their major fragment, which are smaller than the plan
+      assertFalse(f.hasFragmentJson());
+      final MajorFragmentPlan sharedPlan = qwu.getSharedPlans().get(f.getHandle().getMajorFragmentId());
+      assertTrue(f.getFragmentPlanDelta().size() < sharedPlan.getFragmentPlan().size());
+      assertEquals(ppr.writeJson(ppr.readFragmentOperator(jsonQwu.getFragments().get(i))),
+          ppr.writeJson(ppr.readFragmentOperator(f, FragmentPlanCodec.decode(sharedPlan.getFragmentPlan()))));
+      // the options of all the fragments are parsed once
+      assertSame(options, ppr.readFragmentOptions(f.getOptionsJson()));
+    }
+
+    // Drillbits that do not support binary plans get the fragments in JSON
+    InitializeFragments message = InitializeFragments.newBuilder()
+        .addAllFragment(qwu.getFragments())
+        .addAllSharedPlan(qwu.getSharedPlans().values())
+        .build();
+    InitializeFragments jsonMessage = FragmentPlanCodec.toJson(message);
+    assertEquals(0, jsonMessage.getSharedPlanCount());
+    for (int i = 0; i < jsonMessage.getFragmentCount(); i++) {
+      final PlanFragment f = jsonMessage.getFragment(i);
+      assertFalse(f.hasFragmentPlanDelta());
+      assertEquals(ppr.writeJson(ppr.readFragmentOperator(jsonQwu.getFragments().get(i))),
+          ppr.writeJson(ppr.readFragmentOperator(f.getFragmentJson())));
+    }
+  }
+
+  private static QueryWorkUnit getFragments(SimpleParallelizer par, PhysicalPlanReader ppr, Fragment fragmentRoot,
+      List<DrillbitEndpoint> endpoints) throws Exception {
+    final QueryContextInformation queryContextInfo = Utilities.createQueryContextInfo("dummySchemaName", "938ea2d9-7cb9-4baf-9414-a5a0b7777e8e");
+    return par.getFragments(new OptionList(), endpoints.get(0), QueryId.getDefaultInstance(), endpoints, ppr,
+        fragmentRoot,
+        UserSession.Builder.newBuilder().withCredentials(UserBitShared.UserCredentials.newBuilder().setUserName("foo").build()).build(),
+        queryContextInfo);
+  }
+
 }
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.rpc.control;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.buffer.ByteBuf;
+
+import java.util.List;
+
+import org.apache.drill.BaseTestQuery;
+import org.apache.drill.exec.proto.BitControl.BitStatus;
+import org.apache.drill.exec.proto.BitControl.FragmentStatus;
+import org.apache.drill.exec.proto.BitControl.RpcType;
+import org.apache.drill.exec.proto.ExecProtos.FragmentHandle;
+import org.apache.drill.exec.proto.GeneralRPCProtos.Ack;
+import org.apache.drill.exec.proto.UserBitShared.FragmentState;
+import org.apache.drill.exec.proto.UserBitShared.MinorFragmentProfile;
+import org.apache.drill.exec.proto.UserBitShared.QueryId;
+import org.apache.drill.exec.rpc.Acks;
+import org.apache.drill.exec.rpc.RpcException;
+import org.apache.drill.exec.rpc.RpcOutcomeListener;
+import org.apache.drill.exec.rpc.control.ControlTunnel.SendFragmentStatuses;
+import org.apache.drill.exec.server.DrillbitContext;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.google.common.collect.ImmutableList;
+
+public class TestFragmentStatusBatches extends BaseTestQuery {
+
+  private static FragmentStatus newStatus(int minorFragmentId) {
+    final FragmentHandle handle = FragmentHandle.newBuilder()
+        .setQueryId(QueryId.newBuilder().setPart1(1).setPart2(2))
+        .setMajorFragmentId(1)
+        .setMinorFragmentId(minorFragmentId)
+        .build();
+    return FragmentStatus.newBuilder()
+        .setHandle(handle)
+        .setProfile(MinorFragmentProfile.newBuilder()
+            .setState(FragmentState.RUNNING)
+            .setMinorFragmentId(minorFragmentId))
+        .build();
+  }
+
+  private static class OutcomeListener implements RpcOutcomeListener<Ack> {
+    private int successes;
+    private int failures;
+
+    @Override
+    public void failed(RpcException ex) {
+      failures++;
+    }
+
+    @Override
+    public void success(Ack value, ByteBuf buffer) {
+      successes++;
+    }
+
+    @Override
+    public void interrupted(InterruptedException e) {
+      failures++;
+    }
+  }
+
+  @Test
+  public void sendBatch() throws Exception {
+    // statuses of unknown queries are dropped by the work bus, the batch is acknowledged anyway
+    final DrillbitContext context = getDrillbitContext();
+    final ControlTunnel loopbackTunnel = context.getController().getTunnel(context.getEndpoint());
+    final Ack ack = loopbackTunnel.sendFragmentStatuses(ImmutableList.of(newStatus(0), newStatus(1))).checkedGet();
+    assertTrue(ack.getOk());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void batchForBitsSupportingIt() {
+    final List<FragmentStatus> statuses = ImmutableList.of(newStatus(0), newStatus(1), newStatus(2));
+    final ControlConnection connection = mock(ControlConnection.class);
+    when(connection.supportsMethod(RpcType.REQ_FRAGMENT_STATUS_BATCH)).thenReturn(true);
+    final OutcomeListener listener = new OutcomeListener();
+
+    new SendFragmentStatuses(statuses).doRpcCall(listener, connection);
+
+    verify(connection).sendUnsafe(eq(listener), eq(RpcType.REQ_FRAGMENT_STATUS_BATCH),
+        eq(BitStatus.newBuilder().addAllFragmentStatus(statuses).build()), eq(Ack.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void statusPerMessageForOlderBits() {
+    final List<FragmentStatus> statuses = ImmutableList.of(newStatus(0), newStatus(1));
+    final ControlConnection connection = mock(ControlConnection.class);
+    final OutcomeListener listener = new OutcomeListener();
+
+    new SendFragmentStatuses(statuses).doRpcCall(listener, connection);
+
+    final ArgumentCaptor<RpcOutcomeListener> statusListener = ArgumentCaptor.forClass(RpcOutcomeListener.class);
+    verify(connection).sendUnsafe(statusListener.capture(), eq(RpcType.REQ_FRAGMENT_STATUS), eq(statuses.get(0)),
+        eq(Ack.class));
+    verify(connection).sendUnsafe(any(RpcOutcomeListener.class), eq(RpcType.REQ_FRAGMENT_STATUS),
+        eq(statuses.get(1)), eq(Ack.class));
+
+    // the outcome is known once every status is acknowledged
+    statusListener.getValue().success(Acks.OK, null);
+    assertEquals(0, listener.successes);
+    statusListener.getValue().success(Acks.OK, null);
+    assertEquals(1, listener.successes);
+    assertEquals(0, listener.failures);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void firstFailureOfOlderBits() {
+    final List<FragmentStatus> statuses = ImmutableList.of(newStatus(0), newStatus(1));
+    final ControlConnection connection = mock(ControlConnection.class);
+    final OutcomeListener listener = new OutcomeListener();
+
+    new SendFragmentStatuses(statuses).doRpcCall(listener, connection);
+
+    final ArgumentCaptor<RpcOutcomeListener> statusListener = ArgumentCaptor.forClass(RpcOutcomeListener.class);
+    verify(connection).sendUnsafe(statusListener.capture(), eq(RpcType.REQ_FRAGMENT_STATUS), eq(statuses.get(0)),
+        eq(Ack.class));
+    statusListener.getValue().failed(new RpcException("lost"));
+    statusListener.getValue().success(Acks.OK, null);
+    assertEquals(1, listener.failures);
+    assertEquals(0, listener.successes);
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.rpc.user;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DrillBuf;
+
+import java.util.Properties;
+import java.util.Random;
+
+import org.apache.drill.BaseTestQuery;
+import org.apache.drill.common.config.DrillProperties;
+import org.apache.drill.exec.ExecConstants;
+import org.apache.drill.exec.metrics.DrillMetrics;
+import org.apache.drill.exec.proto.UserBitShared.CompressionCodec;
+import org.apache.drill.exec.proto.UserBitShared.RecordBatchDef;
+import org.apache.drill.exec.proto.UserBitShared.SerializedField;
+import org.apache.drill.exec.rpc.RpcException;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.codahale.metrics.Counter;
+
+public class TestResultCompression extends BaseTestQuery {
+  private static final Counter compressedBatches = DrillMetrics.getRegistry().counter("drill.results.compressed_batches");
+  private static final Counter compressionSavedBytes =
+      DrillMetrics.getRegistry().counter("drill.results.compression_saved_bytes");
+
+  @BeforeClass
+  public static void setupCompressingClient() throws Exception {
+    final Properties properties = new Properties();
+    properties.setProperty(DrillProperties.RESULT_COMPRESSION, ResultCompression.DEFLATE);
+    updateClient(properties);
+  }
+
+  @AfterClass
+  public static void resetClient() throws Exception {
+    updateClient(new Properties());
+  }
+
+  @Test
+  public void compressedResults() throws Exception {
+    final long batches = compressedBatches.getCount();
+    final long savedBytes = compressionSavedBytes.getCount();
+    assertEquals(1155, printResult(testSqlWithResults("select * from cp.`employee.json`")));
+    assertTrue("No result batch was compressed", compressedBatches.getCount() > batches);
+    assertTrue("Compressing the results saved no bytes", compressionSavedBytes.getCount() > savedBytes);
+  }
+
+  @Test
+  public void compressionDisabled() throws Exception {
+    try {
+      test("alter session set `%s` = false", ExecConstants.RESULT_COMPRESSION_ENABLED);
+      final long batches = compressedBatches.getCount();
+      assertEquals(1155, printResult(testSqlWithResults("select * from cp.`employee.json`")));
+      assertEquals("Result batches were compressed", batches, compressedBatches.getCount());
+    } finally {
+      test("alter session reset `%s`", ExecConstants.RESULT_COMPRESSION_ENABLED);
+    }
+  }
+
+  @Test
+  public void compressedResultsOneBatchInFlight() throws Exception {
+    try {
+      test("alter session set `%s` = 1", ExecConstants.RESULT_BATCHES_IN_FLIGHT);
+      testBuilder()
+          .sqlQuery("select employee_id, full_name from cp.`employee.json`")
+          .unOrdered()
+          .sqlBaselineQuery("select employee_id, full_name from cp.`employee.json` order by employee_id")
+          .go();
+    } finally {
+      test("alter session reset `%s`", ExecConstants.RESULT_BATCHES_IN_FLIGHT);
+    }
+  }
+
+  @Test
+  public void notNegotiatedWhenDisabledAtConnect() throws Exception {
+    final Properties properties = new Properties();
+    properties.setProperty(DrillProperties.RESULT_COMPRESSION, ResultCompression.DEFLATE);
+    try {
+      test("alter system set `%s` = false", ExecConstants.RESULT_COMPRESSION_ENABLED);
+      updateClient(properties);
+      test("alter system reset `%s`", ExecConstants.RESULT_COMPRESSION_ENABLED);
+
+      // the server did not confirm the compression in the handshake, whatever the option is now
+      final long batches = compressedBatches.getCount();
+      assertEquals(1155, printResult(testSqlWithResults("select * from cp.`employee.json`")));
+      assertEquals("Result batches were compressed", batches, compressedBatches.getCount());
+    } finally {
+      test("alter system reset `%s`", ExecConstants.RESULT_COMPRESSION_ENABLED);
+      updateClient(properties);
+    }
+  }
+
+  @Test
+  public void requestedCodec() {
+    assertEquals(CompressionCodec.DEFLATE, ResultCompression.getRequestedCodec("Deflate"));
+    assertEquals(CompressionCodec.UNCOMPRESSED, ResultCompression.getRequestedCodec("none"));
+    assertEquals(CompressionCodec.UNCOMPRESSED, ResultCompression.getRequestedCodec(null));
+  }
+
+  @Test
+  public void deflateInflate() throws Exception {
+    final byte[] values = new byte[100000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = (byte) (i % 7);
+    }
+    final DrillBuf first = buffer(values, 0, 60000);
+    final DrillBuf second = buffer(values, 60000, values.length - 60000);
+    DrillBuf compressed = null;
+    DrillBuf decompressed = null;
+    try {
+      compressed = ResultCompression.deflate(new ByteBuf[] { first, second }, getAllocator());
+      assertNotNull(compressed);
+      assertTrue(compressed.readableBytes() < values.length);
+
+      decompressed = ResultCompression.inflate(def(values.length), compressed, getAllocator());
+      final byte[] result = new byte[values.length];
+      decompressed.getBytes(0, result);
+      assertArrayEquals(values, result);
+    } finally {
+      release(first, second, compressed, decompressed);
+    }
+  }
+
+  @Test
+  public void incompressibleBodyIsSentAsIs() throws Exception {
+    final byte[] values = new byte[4096];
+    new Random(4096).nextBytes(values);
+    final DrillBuf body = buffer(values, 0, values.length);
+    try {
+      assertNull(ResultCompression.deflate(new ByteBuf[] { body }, getAllocator()));
+    } finally {
+      body.release();
+    }
+  }
+
+  @Test(expected = RpcException.class)
+  public void truncatedBody() throws Exception {
+    final byte[] values = new byte[8192];
+    final DrillBuf body = buffer(values, 0, values.length);
+    DrillBuf compressed = null;
+    try {
+      compressed = ResultCompression.deflate(new ByteBuf[] { body }, getAllocator());
+      ResultCompression.inflate(def(values.length), compressed.slice(0, compressed.readableBytes() / 2),
+          getAllocator());
+    } finally {
+      release(body, compressed);
+    }
+  }
+
+  private static DrillBuf buffer(byte[] values, int index, int length) {
+    final DrillBuf buffer = getAllocator().buffer(length);
+    buffer.writeBytes(values, index, length);
+    return buffer;
+  }
+
+  private static void release(DrillBuf... buffers) {
+    for (DrillBuf buffer : buffers) {
+      if (buffer != null) {
+        buffer.release();
+      }
+    }
+  }
+
+  private static RecordBatchDef def(int bufferLength) {
+    return RecordBatchDef.newBuilder()
+        .setRecordCount(bufferLength)
+        .addField(SerializedField.newBuilder().setBufferLength(bufferLength))
+        .build();
+  }
+}
@@ -430,6 +430,23 @@ public class AvroFormatTest extends BaseTestQuery {
     testBuilder.go();
   }
 
+  @Test
+  public void testMapSchemaComplex_SkipUnprojectedColumns() throws Exception {
+
+    // the map columns are skipped without being decoded
+    final String file = AvroTestUtil.generateMapSchemaComplex_withNullValues().getFilePath();
+    final String sql = "select a_string, b_int from dfs_test.`" + file + "`";
+
+    TestBuilder testBuilder = testBuilder()
+        .sqlQuery(sql)
+        .unOrdered()
+        .baselineColumns("a_string", "b_int");
+    for (int i = 0; i < AvroTestUtil.RECORD_COUNT; i++) {
+      testBuilder.baselineValues("a_" + i, i);
+    }
+    testBuilder.go();
+  }
+
   @Test
   public void testStringAndUtf8Data() throws Exception {
     simpleAvroTestHelper(AvroTestUtil.generateStringAndUtf8Data(), "select * from dfs_test.`%s`");
@@ -17,21 +17,36 @@
  */
 package org.apache.drill.exec.store.dfs;
 
+import org.apache.drill.exec.ExecConstants;
 import org.apache.drill.exec.ops.OpProfileDef;
 import org.apache.drill.exec.ops.OperatorStats;
 import org.apache.drill.exec.proto.UserBitShared.OperatorProfile;
+import org.apache.drill.exec.server.options.OptionSet;
+import org.apache.drill.exec.server.options.OptionValue;
+import org.apache.drill.exec.server.options.TypeValidators;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.PositionedReadable;
+import org.apache.hadoop.fs.Seekable;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class TestDrillFileSystem {
 
@@ -96,6 +111,223 @@ public class TestDrillFileSystem {
     assertTrue("Expected wait time is non-zero, but got zero wait time", operatorProfile.getWaitNanos() > 0);
   }
 
+  @Test
+  public void testReadAhead() throws Exception {
+    Configuration conf = new Configuration();
+    conf.set(FileSystem.FS_DEFAULT_NAME_KEY, FileSystem.DEFAULT_FS);
+    FileSystem fs = FileSystem.get(conf);
+    Path path = new Path(tempFilePath);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      byte[] expected = readFully(fs.open(path));
+
+      // small buffers, so that the file spans many of them
+      try (AsyncReadAheadInputStream is = new AsyncReadAheadInputStream(fs.open(path), executor, 4096, 2)) {
+        assertArrayEquals(expected, readFully(is));
+        assertEquals(expected.length, is.getPos());
+        assertEquals(-1, is.read());
+
+        // seeking back restarts the read-ahead at the new position
+        is.seek(100000);
+        assertEquals(100000, is.getPos());
+        assertEquals(expected[100000] & 0xff, is.read());
+        is.seek(10);
+        byte[] buf = new byte[10000];
+        int n = is.read(buf, 0, buf.length);
+        assertTrue(n > 0);
+        for (int i = 0; i < n; i++) {
+          assertEquals(expected[10 + i], buf[i]);
+        }
+
+        // positioned reads bypass the read-ahead and leave the position alone
+        byte[] positioned = new byte[100];
+        is.readFully(50000, positioned);
+        for (int i = 0; i < positioned.length; i++) {
+          assertEquals(expected[50000 + i], positioned[i]);
+        }
+        assertEquals(10 + n, is.getPos());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testReadAheadSkip() throws Exception {
+    Configuration conf = new Configuration();
+    conf.set(FileSystem.FS_DEFAULT_NAME_KEY, FileSystem.DEFAULT_FS);
+    FileSystem fs = FileSystem.get(conf);
+    Path path = new Path(tempFilePath);
+    long length = fs.getFileStatus(path).getLen();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try (AsyncReadAheadInputStream is = new AsyncReadAheadInputStream(fs.open(path), executor, 4096, 2)) {
+      byte[] expected = readFully(fs.open(path));
+
+      // skips across several buffers
+      assertEquals(10000, is.skip(10000));
+      assertEquals(10000, is.getPos());
+      assertEquals(expected[10000] & 0xff, is.read());
+
+      // only the bytes left are skipped at the end of the stream
+      assertEquals(length - 10001, is.skip(length));
+      assertEquals(length, is.getPos());
+      assertEquals(0, is.skip(10));
+      assertEquals(-1, is.read());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testReadAheadErrorIsThrownByLaterReads() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try (AsyncReadAheadInputStream is = new AsyncReadAheadInputStream(
+        new FSDataInputStream(new FailingInputStream(10000)), executor, 4096, 2)) {
+      byte[] buf = new byte[20000];
+      int total = 0;
+      IOException error = null;
+      try {
+        int n;
+        while ((n = is.read(buf, total, buf.length - total)) != -1) {
+          total += n;
+        }
+        fail("The failure of the underlying stream was not thrown");
+      } catch (IOException e) {
+        error = e;
+      }
+      // the bytes read before the failure are returned first
+      assertEquals(8192, total);
+
+      // the failure is thrown again, instead of waiting for a read-ahead task that has finished
+      try {
+        is.read();
+        fail("The failure of the underlying stream was not thrown again");
+      } catch (IOException e) {
+        assertSame(error, e);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testReadAheadIOStats() throws Exception {
+    Configuration conf = new Configuration();
+    conf.set(FileSystem.FS_DEFAULT_NAME_KEY, FileSystem.DEFAULT_FS);
+    OpProfileDef profileDef = new OpProfileDef(0 /*operatorId*/, 0 /*operatorType*/, 0 /*inputCount*/);
+    OperatorStats stats = new OperatorStats(profileDef, null /*allocator*/);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    stats.startProcessing();
+    try (DrillFileSystem dfs = new DrillFileSystem(conf, stats)) {
+      try (InputStream is = dfs.openWithReadAhead(new Path(tempFilePath), new ReadAheadOptions(), executor)) {
+        // the read-ahead stream is instrumented and tracked like the other streams of the file system
+        assertTrue(is instanceof DrillFSDataInputStream);
+        readFully(is);
+      }
+    } finally {
+      stats.stopProcessing();
+      executor.shutdown();
+    }
+
+    OperatorProfile operatorProfile = stats.getProfile();
+    assertTrue("Expected wait time is non-zero, but got zero wait time", operatorProfile.getWaitNanos() > 0);
+  }
+
+  /**
+   * Enables the read-ahead, with small buffers.
+   */
+  private static class ReadAheadOptions implements OptionSet {
+    @Override
+    public OptionValue getOption(String name) {
+      return null;
+    }
+
+    @Override
+    public boolean getOption(TypeValidators.BooleanValidator validator) {
+      return validator.getOptionName().equals(ExecConstants.EASY_READER_ASYNC_READ_AHEAD);
+    }
+
+    @Override
+    public double getOption(TypeValidators.DoubleValidator validator) {
+      throw new UnsupportedOperationException(validator.getOptionName());
+    }
+
+    @Override
+    public long getOption(TypeValidators.LongValidator validator) {
+      return validator.getOptionName().equals(ExecConstants.EASY_READER_READ_AHEAD_BUFFER_SIZE) ? 4096 : 2;
+    }
+
+    @Override
+    public String getOption(TypeValidators.StringValidator validator) {
+      throw new UnsupportedOperationException(validator.getOptionName());
+    }
+  }
+
+  /**
+   * Returns zeros, then fails once the given number of bytes were read.
+   */
+  private static class FailingInputStream extends InputStream implements Seekable, PositionedReadable {
+    private final long failAt;
+    private long pos;
+
+    FailingInputStream(long failAt) {
+      this.failAt = failAt;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (pos >= failAt) {
+        throw new IOException("Failure at " + pos);
+      }
+      pos++;
+      return 0;
+    }
+
+    @Override
+    public void seek(long pos) {
+      this.pos = pos;
+    }
+
+    @Override
+    public long getPos() {
+      return pos;
+    }
+
+    @Override
+    public boolean seekToNewSource(long targetPos) {
+      return false;
+    }
+
+    @Override
+    public int read(long position, byte[] buffer, int offset, int length) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void readFully(long position, byte[] buffer, int offset, int length) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void readFully(long position, byte[] buffer) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private static byte[] readFully(InputStream is) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buf = new byte[7000];
+    int n;
+    while ((n = is.read(buf, 0, buf.length)) != -1) {
+      out.write(buf, 0, n);
+    }
+    return out.toByteArray();
+  }
+
   @AfterClass
   public static void deleteTempFile() throws Exception {
     new File(tempFilePath).delete();
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.dfs;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.drill.exec.util.FileSystemUtil;
+import org.apache.drill.exec.util.FileSystemUtilTestBase;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FilterFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestFileListingCache extends FileSystemUtilTestBase {
+
+  private static ExecutorService executor;
+
+  @BeforeClass
+  public static void setupExecutor() {
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @AfterClass
+  public static void shutdownExecutor() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testParallelRecursiveListing() throws IOException {
+    final DrillFileSystem cachedFs = newFileSystem(new FileListingCache(100, executor, 4), 60000);
+
+    final List<FileStatus> expected = FileSystemUtil.listAll(fs, base, true);
+    final List<FileStatus> statuses = FileSystemUtil.listAll(cachedFs, base, true);
+    assertEquals("Listing should match", expected, statuses);
+    // the second listing is served from the cache
+    assertEquals("Cached listing should match", expected, FileSystemUtil.listAll(cachedFs, base, true));
+  }
+
+  @Test
+  public void testListingIsCachedAndInvalidated() throws IOException {
+    final Path dir = new Path(base, "c");
+    fs.mkdirs(dir);
+    try {
+      final DrillFileSystem cachedFs = newFileSystem(new FileListingCache(100, executor, 4), 60000);
+      fs.createNewFile(new Path(dir, "f1.txt"));
+      assertEquals("File count should match", 1, FileSystemUtil.listFiles(cachedFs, dir, false).size());
+
+      // a file created outside of the cached file system is not seen until the listing expires
+      fs.createNewFile(new Path(dir, "f2.txt"));
+      assertEquals("File count should match", 1, FileSystemUtil.listFiles(cachedFs, dir, false).size());
+
+      // a file created through it drops the listing of its directory
+      cachedFs.createNewFile(new Path(dir, "f3.txt"));
+      final List<FileStatus> statuses = FileSystemUtil.listFiles(cachedFs, dir, false);
+      Collections.sort(statuses);
+      assertEquals("File count should match", 3, statuses.size());
+      assertEquals("File name should match", "f3.txt", statuses.get(2).getPath().getName());
+    } finally {
+      fs.delete(dir, true);
+    }
+  }
+
+  @Test
+  public void testListingIsNotCachedWithoutTtl() throws IOException {
+    final Path dir = new Path(base, "d");
+    fs.mkdirs(dir);
+    try {
+      final DrillFileSystem cachedFs = newFileSystem(new FileListingCache(100, executor, 4), 0);
+      fs.createNewFile(new Path(dir, "f1.txt"));
+      assertEquals("File count should match", 1, FileSystemUtil.listFiles(cachedFs, dir, false).size());
+      fs.createNewFile(new Path(dir, "f2.txt"));
+      assertEquals("File count should match", 2, FileSystemUtil.listFiles(cachedFs, dir, false).size());
+    } finally {
+      fs.delete(dir, true);
+    }
+  }
+
+  @Test
+  public void testInvalidationDropsRelatedListingsOnly() throws IOException {
+    final Path dir = new Path(base, "e");
+    final Path sub = new Path(dir, "sub");
+    final Path other = new Path(base, "other");
+    fs.mkdirs(sub);
+    fs.mkdirs(other);
+    try {
+      final FileListingCache cache = new FileListingCache(100, executor, 4);
+      assertEquals(1, cache.listStatus(fs, dir, "user", 60000).length);
+      assertEquals(0, cache.listStatus(fs, sub, "user", 60000).length);
+      assertEquals(0, cache.listStatus(fs, other, "user", 60000).length);
+
+      fs.createNewFile(new Path(dir, "f1.txt"));
+      fs.createNewFile(new Path(sub, "f1.txt"));
+      fs.createNewFile(new Path(other, "f1.txt"));
+
+      // a change of the directory drops its listing and the listings under it, not those of other directories
+      cache.invalidate(fs.makeQualified(dir));
+      assertEquals(2, cache.listStatus(fs, dir, "user", 60000).length);
+      assertEquals(1, cache.listStatus(fs, sub, "user", 60000).length);
+      assertEquals(0, cache.listStatus(fs, other, "user", 60000).length);
+    } finally {
+      fs.delete(dir, true);
+      fs.delete(other, true);
+    }
+  }
+
+  @Test
+  public void testListingIsNotCachedWhenInvalidatedWhileListing() throws IOException {
+    final Path dir = new Path(base, "g");
+    fs.mkdirs(dir);
+    try {
+      final FileListingCache cache = new FileListingCache(100, executor, 4);
+      fs.createNewFile(new Path(dir, "f1.txt"));
+
+      // the directory changes after it is listed, but before the listing is cached
+      final FilterFileSystem changingFs = new FilterFileSystem(fs) {
+        @Override
+        public FileStatus[] listStatus(Path f) throws IOException {
+          final FileStatus[] statuses = super.listStatus(f);
+          final Path file = new Path(dir, "f2.txt");
+          fs.createNewFile(file);
+          cache.invalidate(fs.makeQualified(file));
+          return statuses;
+        }
+      };
+      assertEquals(1, cache.listStatus(changingFs, dir, "user", 60000).length);
+      assertEquals("The listing made before the change was cached", 2,
+          cache.listStatus(fs, dir, "user", 60000).length);
+    } finally {
+      fs.delete(dir, true);
+    }
+  }
+
+  private static DrillFileSystem newFileSystem(FileListingCache cache, long ttlMillis) throws IOException {
+    final DrillFileSystem drillFs = new DrillFileSystem(new Configuration());
+    drillFs.setListingCache(cache, "user", ttlMillis);
+    return drillFs;
+  }
+}
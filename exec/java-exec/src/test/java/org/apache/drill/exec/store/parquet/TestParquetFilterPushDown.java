@@ -381,6 +381,45 @@ public class TestParquetFilterPushDown extends PlanTestBase {
 
   }
 
+  @Test
+  public void testOrderByLimitPrunesFiles() throws Exception {
+    final String tableName = "nation_ctas";
+
+    try {
+      deleteTableIfExists(tableName);
+
+      test("use dfs_test.tmp");
+      test(String.format("create table `%s/t1` as select cast(n_nationkey as int) as n_nationkey from cp.`tpch/nation.parquet` where n_nationkey < 10", tableName));
+      test(String.format("create table `%s/t2` as select cast(n_nationkey as int) as n_nationkey from cp.`tpch/nation.parquet` where n_nationkey between 10 and 19", tableName));
+      test(String.format("create table `%s/t3` as select cast(n_nationkey as int) as n_nationkey from cp.`tpch/nation.parquet` where n_nationkey >= 20", tableName));
+
+      final String query1 = "select n_nationkey from dfs_test.tmp.nation_ctas order by n_nationkey limit 3";
+      testParquetFilterPD(query1, 3, 1, false);
+
+      final String query2 = "select n_nationkey from dfs_test.tmp.nation_ctas order by n_nationkey desc limit 5";
+      testParquetFilterPD(query2, 5, 1, false);
+
+      final String query3 = "select n_nationkey from dfs_test.tmp.nation_ctas order by n_nationkey limit 2 offset 9";
+      testParquetFilterPD(query3, 2, 2, false);
+
+      testBuilder()
+          .sqlQuery(query3)
+          .ordered()
+          .baselineColumns("n_nationkey")
+          .baselineValues(9)
+          .baselineValues(10)
+          .go();
+
+      test(String.format("refresh table metadata %s", tableName));
+
+      testParquetFilterPD(query1, 3, 1, true);
+
+      testParquetFilterPD(query2, 5, 1, true);
+    } finally {
+      deleteTableIfExists(tableName);
+    }
+  }
+
   //////////////////////////////////////////////////////////////////////////////////////////////////
   // Some test helper functions.
   //////////////////////////////////////////////////////////////////////////////////////////////////
@@ -16,6 +16,7 @@
  */
 package org.apache.drill.exec.store.pcap;
 
+import com.google.common.io.ByteStreams;
 import com.google.common.io.Resources;
 import org.apache.drill.BaseTestQuery;
 import org.apache.drill.exec.store.pcap.decoder.Packet;
@@ -30,6 +31,8 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -75,6 +78,32 @@ public class TestPcapDecoder extends BaseTestQuery {
     assertEquals(0, p.getDst_port());
   }
 
+  @Test
+  public void testFindPacketStart() throws IOException {
+    InputStream in = Resources.getResource("store/pcap/data-1.pcap").openStream();
+    PacketDecoder pd = new PacketDecoder(in);
+    Packet p = pd.packet();
+    byte[] buffer = ByteStreams.toByteArray(in);
+
+    List<Integer> packetStarts = new ArrayList<>();
+    int offset = 0;
+    while (offset < buffer.length) {
+      packetStarts.add(offset);
+      offset = pd.decodePacket(buffer, offset, p, false);
+    }
+
+    // from any position, the boundary found is the next packet start
+    int next = 0;
+    for (int position = 0; position < buffer.length; position++) {
+      while (next < packetStarts.size() && packetStarts.get(next) < position) {
+        next++;
+      }
+      int expected = next < packetStarts.size() ? packetStarts.get(next) : -1;
+      assertEquals("Packet start after " + position, expected,
+          pd.findPacketStart(buffer, position, buffer.length, buffer.length));
+    }
+  }
+
   private static void writeHeader(DataOutputStream out) throws IOException {
     //        typedef struct pcap_hdr_s {
     //            guint32 magic_number;   /* magic number */
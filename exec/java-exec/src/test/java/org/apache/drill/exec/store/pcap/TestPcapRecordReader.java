@@ -45,6 +45,12 @@ public class TestPcapRecordReader extends BaseTestQuery {
     runSQLVerifyCount("select distinct * from dfs.`${WORKING_PATH}/src/test/resources/store/pcap/tcp-1.pcap`", 1);
   }
 
+  @Test
+  public void testProjectedColumns() throws Exception {
+    runSQLVerifyCount("select `timestamp`, packet_length from dfs.`${WORKING_PATH}/src/test/resources/store/pcap/tcp-1.pcap`", 16);
+    runSQLVerifyCount("select src_ip, dst_port from dfs.`${WORKING_PATH}/src/test/resources/store/pcap/tcp-2.pcap`", 256);
+  }
+
   private void runSQLVerifyCount(String sql, int expectedRowCount) throws Exception {
     List<QueryDataBatch> results = runSQLWithResults(sql);
     printResultAndVerifyRowCount(results, expectedRowCount);
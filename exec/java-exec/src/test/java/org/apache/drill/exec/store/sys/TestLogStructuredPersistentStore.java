@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.sys;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.drill.common.config.DrillConfig;
+import org.apache.drill.exec.ExecConstants;
+import org.apache.drill.exec.store.dfs.DrillFileSystem;
+import org.apache.drill.exec.store.sys.store.LocalPersistentStore;
+import org.apache.drill.exec.store.sys.store.LogStructuredPersistentStore;
+import org.apache.drill.exec.store.sys.store.provider.LogStructuredPersistentStoreProvider;
+import org.apache.hadoop.fs.Path;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class TestLogStructuredPersistentStore {
+
+  private static final PersistentStoreConfig<String> CONFIG =
+      PersistentStoreConfig.newJacksonBuilder(new ObjectMapper(), String.class).name("sys.test").build();
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private ExecutorService compactor = Executors.newSingleThreadExecutor();
+
+  @After
+  public void shutdownCompactor() {
+    compactor.shutdownNow();
+  }
+
+  private LogStructuredPersistentStore<String> open(File dir, long segmentSize) throws Exception {
+    return new LogStructuredPersistentStore<>(dir, CONFIG, segmentSize, 0.5, false, compactor);
+  }
+
+  /**
+   * Waits for the compactions started so far to complete.
+   */
+  private void awaitCompactions() throws Exception {
+    compactor.shutdown();
+    assertTrue(compactor.awaitTermination(1, TimeUnit.MINUTES));
+    compactor = Executors.newSingleThreadExecutor();
+  }
+
+  @Test
+  public void valuesSurviveReopening() throws Exception {
+    final File dir = folder.newFolder();
+    LogStructuredPersistentStore<String> store = open(dir, 1024);
+    for (int i = 0; i < 100; i++) {
+      store.put(String.format("key%03d", i), "value" + i);
+    }
+    store.put("key010", "overwritten");
+    store.delete("key020");
+    assertFalse(store.putIfAbsent("key030", "ignored"));
+    store.release();
+
+    store = open(dir, 1024);
+    assertEquals("overwritten", store.get("key010"));
+    assertNull(store.get("key020"));
+    assertEquals("value30", store.get("key030"));
+    assertEquals("value99", store.get("key099"));
+
+    // the range is in key order, without the deleted key
+    final Iterator<Map.Entry<String, String>> range = store.getRange(19, 2);
+    assertEquals("key019", range.next().getKey());
+    assertEquals("key021", range.next().getKey());
+    assertFalse(range.hasNext());
+    store.release();
+  }
+
+  @Test
+  public void compaction() throws Exception {
+    final File dir = folder.newFolder();
+    LogStructuredPersistentStore<String> store = open(dir, 256);
+    for (int i = 0; i < 1000; i++) {
+      store.put("key" + (i % 10), "value" + i);
+    }
+    awaitCompactions();
+    // the overwritten values were dropped along with their segments
+    assertTrue(dir.listFiles().length < 10);
+    store.release();
+
+    store = open(dir, 256);
+    for (int i = 0; i < 10; i++) {
+      assertEquals("value" + (990 + i), store.get("key" + i));
+    }
+    store.release();
+  }
+
+  @Test
+  public void deletionsHideOlderValuesAfterCompaction() throws Exception {
+    final File dir = folder.newFolder();
+    LogStructuredPersistentStore<String> store = open(dir, 256);
+    for (int i = 0; i < 20; i++) {
+      store.put("kept" + i, "value" + i);
+      store.put("deleted" + i, "value" + i);
+    }
+    for (int i = 0; i < 20; i++) {
+      store.delete("deleted" + i);
+    }
+    for (int i = 0; i < 1000; i++) {
+      store.put("key" + (i % 10), "value" + i);
+    }
+    awaitCompactions();
+    store.release();
+
+    store = open(dir, 256);
+    for (int i = 0; i < 20; i++) {
+      assertEquals("value" + i, store.get("kept" + i));
+      assertFalse(store.contains("deleted" + i));
+    }
+    store.release();
+  }
+
+  @Test
+  public void valuesAreReadWhileCompacting() throws Exception {
+    final File dir = folder.newFolder();
+    final LogStructuredPersistentStore<String> store = open(dir, 512);
+    for (int i = 0; i < 5000; i++) {
+      final String key = "key" + (i % 50);
+      store.put(key, "value" + i);
+      // the values moved by the compactions running in the background are found at their new location
+      assertEquals("value" + i, store.get(key));
+      assertEquals("value" + i / 50 * 50, store.get("key0"));
+    }
+    awaitCompactions();
+    // the segments left hold a latest value each at least, besides the active one and the lock file
+    assertTrue(dir.listFiles().length <= 52);
+    for (int i = 0; i < 50; i++) {
+      assertEquals("value" + (4950 + i), store.get("key" + i));
+    }
+    store.release();
+  }
+
+  @Test
+  public void partialWriteIsDropped() throws Exception {
+    final File dir = folder.newFolder();
+    LogStructuredPersistentStore<String> store = open(dir, 1024);
+    store.put("first", "value1");
+    store.put("second", "value2");
+    store.release();
+
+    // cuts the last record in the middle, as an interrupted write would
+    final File segment = new File(dir, String.format("%020d.log", 1));
+    try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+      file.setLength(file.length() - 3);
+    }
+
+    store = open(dir, 1024);
+    assertEquals("value1", store.get("first"));
+    assertFalse(store.contains("second"));
+    store.put("third", "value3");
+    store.release();
+
+    store = open(dir, 1024);
+    assertEquals("value1", store.get("first"));
+    assertEquals("value3", store.get("third"));
+    store.release();
+  }
+
+  @Test
+  public void directoryIsLocked() throws Exception {
+    final File dir = folder.newFolder();
+    LogStructuredPersistentStore<String> store = open(dir, 1024);
+    try {
+      open(dir, 1024);
+      fail("A second store was opened on the same directory.");
+    } catch (IOException e) {
+      // expected
+    }
+    store.release();
+
+    // the lock is released with the store
+    store = open(dir, 1024);
+    store.release();
+  }
+
+  @Test
+  public void filesAreImportedOnce() throws Exception {
+    final File root = folder.newFolder();
+    final Properties props = new Properties();
+    props.put(ExecConstants.SYS_STORE_PROVIDER_LOCAL_PATH, root.toURI().toString());
+    props.put(ExecConstants.SYS_STORE_PROVIDER_LOCAL_ENABLE_WRITE, "true");
+    final DrillConfig config = DrillConfig.create(props);
+
+    final Path path = new Path(root.toURI());
+    try (DrillFileSystem fs = LocalPersistentStore.getFileSystem(config, path)) {
+      new LocalPersistentStore<>(fs, path, CONFIG).put("key", "value");
+    }
+
+    try (LogStructuredPersistentStoreProvider provider = new LogStructuredPersistentStoreProvider(config)) {
+      final PersistentStore<String> store = provider.getOrCreateStore(CONFIG);
+      assertEquals("value", store.get("key"));
+      store.delete("key");
+    }
+
+    // the emptied store does not get the values of the files back
+    try (LogStructuredPersistentStoreProvider provider = new LogStructuredPersistentStoreProvider(config)) {
+      assertFalse(provider.getOrCreateStore(CONFIG).contains("key"));
+    }
+  }
+}
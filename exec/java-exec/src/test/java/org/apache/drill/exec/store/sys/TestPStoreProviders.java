@@ -24,6 +24,7 @@ import org.apache.drill.common.config.DrillConfig;
 import org.apache.drill.exec.ExecConstants;
 import org.apache.drill.exec.TestWithZookeeper;
 import org.apache.drill.exec.store.sys.store.provider.LocalPersistentStoreProvider;
+import org.apache.drill.exec.store.sys.store.provider.LogStructuredPersistentStoreProvider;
 import org.apache.drill.exec.store.sys.store.provider.ZookeeperPersistentStoreProvider;
 import org.junit.Test;
 
@@ -39,6 +40,13 @@ public class TestPStoreProviders extends TestWithZookeeper {
     }
   }
 
+  @Test
+  public void verifyLogStructuredStore() throws Exception {
+    try(LogStructuredPersistentStoreProvider provider = new LogStructuredPersistentStoreProvider(DrillConfig.create())){
+      PStoreTestUtil.test(provider);
+    }
+  }
+
   @Test
   public void verifyZkStore() throws Exception {
     DrillConfig config = getConfig();
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.store.sys;
+
+import static org.apache.drill.exec.rpc.user.security.testing.UserAuthenticatorTestImpl.PROCESS_USER;
+import static org.apache.drill.exec.rpc.user.security.testing.UserAuthenticatorTestImpl.PROCESS_USER_PASSWORD;
+import static org.apache.drill.exec.rpc.user.security.testing.UserAuthenticatorTestImpl.TEST_USER_1;
+import static org.apache.drill.exec.rpc.user.security.testing.UserAuthenticatorTestImpl.TEST_USER_1_PASSWORD;
+import static org.apache.drill.exec.rpc.user.security.testing.UserAuthenticatorTestImpl.TEST_USER_2;
+import static org.apache.drill.exec.rpc.user.security.testing.UserAuthenticatorTestImpl.TEST_USER_2_PASSWORD;
+
+import java.util.Properties;
+
+import org.apache.drill.BaseTestQuery;
+import org.apache.drill.common.config.DrillConfig;
+import org.apache.drill.common.config.DrillProperties;
+import org.apache.drill.exec.ExecConstants;
+import org.apache.drill.exec.rpc.user.security.testing.UserAuthenticatorTestImpl;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigValueFactory;
+
+/**
+ * Checks that users only see the cached plans of their own queries, unless they are administrators.
+ */
+public class TestPlanCacheVisibility extends BaseTestQuery {
+
+  private static final String PLAN_CACHE_QUERY =
+      "select user_name, query from sys.plan_cache where query like '%employee.json%'";
+
+  @BeforeClass
+  public static void setupCluster() throws Exception {
+    final Properties props = cloneDefaultTestConfigProperties();
+    final DrillConfig newConfig = new DrillConfig(DrillConfig.create(props)
+            .withValue(ExecConstants.USER_AUTHENTICATION_ENABLED,
+                ConfigValueFactory.fromAnyRef("true"))
+            .withValue(ExecConstants.USER_AUTHENTICATOR_IMPL,
+                ConfigValueFactory.fromAnyRef(UserAuthenticatorTestImpl.TYPE)),
+        false);
+
+    final Properties connectionProps = new Properties();
+    connectionProps.setProperty(DrillProperties.USER, PROCESS_USER);
+    connectionProps.setProperty(DrillProperties.PASSWORD, PROCESS_USER_PASSWORD);
+    updateTestCluster(1, newConfig, connectionProps);
+
+    runCachedQuery(TEST_USER_1, TEST_USER_1_PASSWORD, "select count(*) from cp.`employee.json` where position_id = 1");
+    runCachedQuery(TEST_USER_2, TEST_USER_2_PASSWORD, "select count(*) from cp.`employee.json` where position_id = 2");
+  }
+
+  private static void runCachedQuery(final String user, final String password, final String query) throws Exception {
+    connect(user, password);
+    test("alter session set `%s` = true", ExecConstants.PLAN_CACHE_ENABLED);
+    test(query);
+  }
+
+  private static void connect(final String user, final String password) throws Exception {
+    final Properties connectionProps = new Properties();
+    connectionProps.setProperty(DrillProperties.USER, user);
+    connectionProps.setProperty(DrillProperties.PASSWORD, password);
+    updateClient(connectionProps);
+  }
+
+  @Test
+  public void usersSeeTheirOwnPlans() throws Exception {
+    connect(TEST_USER_2, TEST_USER_2_PASSWORD);
+    testBuilder()
+        .sqlQuery(PLAN_CACHE_QUERY)
+        .unOrdered()
+        .baselineColumns("user_name", "query")
+        .baselineValues(TEST_USER_2, "select count(*) from cp.`employee.json` where position_id = 2")
+        .go();
+  }
+
+  @Test
+  public void adminSeesAllPlans() throws Exception {
+    connect(PROCESS_USER, PROCESS_USER_PASSWORD);
+    testBuilder()
+        .sqlQuery(PLAN_CACHE_QUERY)
+        .unOrdered()
+        .baselineColumns("user_name", "query")
+        .baselineValues(TEST_USER_1, "select count(*) from cp.`employee.json` where position_id = 1")
+        .baselineValues(TEST_USER_2, "select count(*) from cp.`employee.json` where position_id = 2")
+        .go();
+  }
+}
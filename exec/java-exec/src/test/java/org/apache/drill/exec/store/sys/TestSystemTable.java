@@ -66,4 +66,24 @@ public class TestSystemTable extends BaseTestQuery {
   public void memoryTable() throws Exception {
     test("select * from sys.memory");
   }
+
+  @Test
+  public void planCacheTables() throws Exception {
+    try {
+      test("alter session set `%s` = true", ExecConstants.PLAN_CACHE_ENABLED);
+      test("select count(*) from cp.`employee.json` where position_id = 2");
+      // the layout of the query does not matter
+      test("select count(*)\n  from cp.`employee.json`   where position_id = 2");
+
+      newTest() //
+        .sqlQuery("select hits from sys.plan_cache where query = 'select count(*) from cp.`employee.json` where position_id = 2'")
+        .baselineColumns("hits")
+        .unOrdered()
+        .baselineValues(1L)
+        .go();
+      test("select * from sys.plan_cache_stats");
+    } finally {
+      test("alter session reset `%s`", ExecConstants.PLAN_CACHE_ENABLED);
+    }
+  }
 }
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.work.foreman;
+
+import static org.junit.Assert.assertEquals;
+
+import org.apache.drill.exec.ExecTest;
+import org.apache.drill.exec.proto.BitControl.FragmentStatus;
+import org.apache.drill.exec.proto.CoordinationProtos.DrillbitEndpoint;
+import org.apache.drill.exec.proto.ExecProtos.FragmentHandle;
+import org.apache.drill.exec.proto.UserBitShared.FragmentState;
+import org.apache.drill.exec.proto.UserBitShared.MinorFragmentProfile;
+import org.junit.Test;
+
+public class TestFragmentData extends ExecTest {
+
+  private static final FragmentHandle HANDLE = FragmentHandle.newBuilder()
+      .setMajorFragmentId(1)
+      .setMinorFragmentId(2)
+      .build();
+  private static final DrillbitEndpoint ENDPOINT = DrillbitEndpoint.newBuilder()
+      .setAddress("localhost")
+      .build();
+
+  private static FragmentStatus newStatus(FragmentState state) {
+    return FragmentStatus.newBuilder()
+        .setHandle(HANDLE)
+        .setProfile(MinorFragmentProfile.newBuilder()
+            .setState(state)
+            .setMinorFragmentId(HANDLE.getMinorFragmentId())
+            .setEndpoint(ENDPOINT))
+        .build();
+  }
+
+  @Test
+  public void terminalStateIsFinal() {
+    final FragmentData data = new FragmentData(HANDLE, ENDPOINT, false);
+    assertEquals(FragmentState.SENDING, data.updateStatus(newStatus(FragmentState.RUNNING)).getProfile().getState());
+    assertEquals(FragmentState.RUNNING, data.updateStatus(newStatus(FragmentState.FINISHED)).getProfile().getState());
+
+    // a late status of a finished fragment is refused
+    assertEquals(FragmentState.FINISHED, data.updateStatus(newStatus(FragmentState.RUNNING)).getProfile().getState());
+    assertEquals(FragmentState.FINISHED, data.getState());
+  }
+
+  @Test
+  public void cancellationRequestedOnlyEndsInTerminalState() {
+    final FragmentData data = new FragmentData(HANDLE, ENDPOINT, false);
+    data.updateStatus(newStatus(FragmentState.CANCELLATION_REQUESTED));
+
+    data.updateStatus(newStatus(FragmentState.RUNNING));
+    assertEquals(FragmentState.CANCELLATION_REQUESTED, data.getState());
+
+    data.updateStatus(newStatus(FragmentState.CANCELLED));
+    assertEquals(FragmentState.CANCELLED, data.getState());
+  }
+}
@@ -0,0 +1,79 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.exec.work.foreman;
+
+import static org.junit.Assert.assertEquals;
+
+import org.apache.drill.BaseTestQuery;
+import org.apache.drill.exec.ExecConstants;
+import org.apache.drill.exec.metrics.DrillMetrics;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.codahale.metrics.Counter;
+
+public class TestLocalShortQuery extends BaseTestQuery {
+  private static final Counter localShortQueries = DrillMetrics.getRegistry().counter("drill.queries.local_short");
+
+  @BeforeClass
+  public static void enableLocalShortQueries() throws Exception {
+    test("alter session set `%s` = true", ExecConstants.LOCAL_SHORT_QUERY_ENABLED.getOptionName());
+  }
+
+  @AfterClass
+  public static void resetLocalShortQueries() throws Exception {
+    test("alter session reset `%s`", ExecConstants.LOCAL_SHORT_QUERY_ENABLED.getOptionName());
+  }
+
+  @Test
+  public void shortQuery() throws Exception {
+    final long localCount = localShortQueries.getCount();
+    testBuilder()
+        .sqlQuery("select employee_id, full_name from cp.`employee.json` where employee_id < 3")
+        .unOrdered()
+        .baselineColumns("employee_id", "full_name")
+        .baselineValues(1L, "Sheri Nowmer")
+        .baselineValues(2L, "Derrick Whelply")
+        .go();
+    assertEquals("The query did not run as a local fragment.", localCount + 1, localShortQueries.getCount());
+  }
+
+  @Test
+  public void queryAboveMaxCost() throws Exception {
+    try {
+      test("alter session set `%s` = 1", ExecConstants.LOCAL_SHORT_QUERY_MAX_COST.getOptionName());
+      final long localCount = localShortQueries.getCount();
+      testBuilder()
+          .sqlQuery("select count(*) as cnt from cp.`employee.json`")
+          .unOrdered()
+          .baselineColumns("cnt")
+          .baselineValues(1155L)
+          .go();
+      assertEquals("The query ran as a local fragment.", localCount, localShortQueries.getCount());
+    } finally {
+      test("alter session reset `%s`", ExecConstants.LOCAL_SHORT_QUERY_MAX_COST.getOptionName());
+    }
+  }
+
+  @Test
+  public void failingShortQuery() throws Exception {
+    errorMsgTestHelper("select cast(full_name as int) from cp.`employee.json` where employee_id = 1",
+        "NumberFormatException");
+  }
+}
@@ -152,7 +152,7 @@ public class TestMetadataProvider extends BaseTestQuery {
 
     assertEquals(RequestStatus.OK, resp.getStatus());
     List<TableMetadata> tables = resp.getTablesList();
-    assertEquals(11, tables.size());
+    assertEquals(13, tables.size());
 
     verifyTable("INFORMATION_SCHEMA", "CATALOGS", tables);
     verifyTable("INFORMATION_SCHEMA", "COLUMNS", tables);
@@ -163,6 +163,8 @@ public class TestMetadataProvider extends BaseTestQuery {
     verifyTable("sys", "drillbits", tables);
     verifyTable("sys", "memory", tables);
     verifyTable("sys", "options", tables);
+    verifyTable("sys", "plan_cache", tables);
+    verifyTable("sys", "plan_cache_stats", tables);
     verifyTable("sys", "threads", tables);
     verifyTable("sys", "version", tables);
   }
@@ -186,7 +188,7 @@ public class TestMetadataProvider extends BaseTestQuery {
 
     assertEquals(RequestStatus.OK, resp.getStatus());
     List<TableMetadata> tables = resp.getTablesList();
-    assertEquals(11, tables.size());
+    assertEquals(13, tables.size());
 
     verifyTable("INFORMATION_SCHEMA", "CATALOGS", tables);
     verifyTable("INFORMATION_SCHEMA", "COLUMNS", tables);
@@ -197,6 +199,8 @@ public class TestMetadataProvider extends BaseTestQuery {
     verifyTable("sys", "drillbits", tables);
     verifyTable("sys", "memory", tables);
     verifyTable("sys", "options", tables);
+    verifyTable("sys", "plan_cache", tables);
+    verifyTable("sys", "plan_cache_stats", tables);
     verifyTable("sys", "threads", tables);
     verifyTable("sys", "version", tables);
   }
@@ -242,7 +246,7 @@ public class TestMetadataProvider extends BaseTestQuery {
 
     assertEquals(RequestStatus.OK, resp.getStatus());
     List<ColumnMetadata> columns = resp.getColumnsList();
-    assertEquals(71, columns.size());
+    assertEquals(85, columns.size());
     // too many records to verify the output.
   }
 
@@ -255,12 +259,14 @@ public class TestMetadataProvider extends BaseTestQuery {
 
     assertEquals(RequestStatus.OK, resp.getStatus());
     List<ColumnMetadata> columns = resp.getColumnsList();
-    assertEquals(5, columns.size());
+    assertEquals(7, columns.size());
 
     verifyColumn("sys", "drillbits", "user_port", columns);
     verifyColumn("sys", "drillbits", "control_port", columns);
     verifyColumn("sys", "drillbits", "data_port", columns);
     verifyColumn("sys", "memory", "user_port", columns);
+    verifyColumn("sys", "plan_cache", "user_port", columns);
+    verifyColumn("sys", "plan_cache_stats", "user_port", columns);
     verifyColumn("sys", "threads", "user_port", columns);
   }
 
@@ -17,12 +17,18 @@
  */
 package org.apache.drill.exec.work.prepare;
 
+import static org.junit.Assert.assertEquals;
+
 import java.sql.Date;
 import java.util.List;
 
 import org.apache.drill.common.types.Types;
+import org.apache.drill.common.util.TestTools;
+import org.apache.drill.exec.ExecConstants;
 import org.apache.drill.exec.proto.UserBitShared.DrillPBError.ErrorType;
 import org.apache.drill.exec.proto.UserProtos.PreparedStatement;
+import org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter;
+import org.apache.drill.exec.work.foreman.PlanCache;
 import org.junit.Test;
 
 import com.google.common.collect.ImmutableList;
@@ -31,6 +37,7 @@ import com.google.common.collect.ImmutableList;
  * Tests for creating and executing prepared statements.
  */
 public class TestPreparedStatementProvider extends PreparedStatementTestBase {
+  private static final String TEST_RES_PATH = TestTools.getWorkingPath() + "/src/test/resources";
 
   /**
    * Simple query.
@@ -105,6 +112,121 @@ public class TestPreparedStatementProvider extends PreparedStatementTestBase {
     verifyMetadata(expMetadata, preparedStatement.getColumnsList());
   }
 
+  /**
+   * Execute a prepared statement with a parameter several times, with different values.
+   */
+  @Test
+  public void parameters() throws Exception {
+    String query = "SELECT region_id FROM cp.`region.json` WHERE region_id < CAST(? AS BIGINT)";
+    PreparedStatement preparedStatement = createPrepareStmt(query, false, null);
+
+    List<ExpectedColumnResult> expMetadata = ImmutableList.of(
+        new ExpectedColumnResult("region_id", "BIGINT", true, 20, 0, 0, true, Long.class.getName())
+    );
+
+    verifyMetadata(expMetadata, preparedStatement.getColumnsList());
+    assertEquals(1, preparedStatement.getParameterCount());
+
+    assertEquals(10, execute(preparedStatement, value(10)));
+    assertEquals(3, execute(preparedStatement, value("3")));
+    assertEquals(0, execute(preparedStatement, PreparedStatementParameter.getDefaultInstance()));
+  }
+
+  /**
+   * String values are bound as literals, not into the text of the plan: quotes in a value, and string literals
+   * that look like a parameter in the plan, are kept as they are.
+   */
+  @Test
+  public void stringParameters() throws Exception {
+    String query = "SELECT n_nationkey FROM cp.`tpch/nation.parquet` WHERE n_name = ? OR n_name = '$parameter(0)'";
+    PreparedStatement preparedStatement = createPrepareStmt(query, false, null);
+
+    assertEquals(1, execute(preparedStatement, value("FRANCE")));
+    assertEquals(0, execute(preparedStatement, value("FRANCE' OR 'a' = 'a")));
+    assertEquals(0, execute(preparedStatement, value("$parameter(0)")));
+  }
+
+  /**
+   * The executions of a prepared statement after the first one reuse its plan, until a DDL statement or a
+   * change of the options makes it stale.
+   */
+  @Test
+  public void planReuse() throws Exception {
+    String query = "SELECT region_id FROM cp.`region.json` WHERE region_id <= ?";
+    PreparedStatement preparedStatement = createPrepareStmt(query, false, null);
+    PlanCache.Stats stats = getDrillbitContext().getPlanCache().getStats();
+
+    long misses = stats.getMisses();
+    long hits = stats.getHits();
+    assertEquals(11, execute(preparedStatement, value(10)));
+    assertEquals("The first execution is planned", misses + 1, stats.getMisses());
+    assertEquals(4, execute(preparedStatement, value(3)));
+    assertEquals("The second execution reuses the plan", hits + 1, stats.getHits());
+
+    // a plan made with other options is not reused
+    try {
+      test("alter session set `%s` = 10", ExecConstants.SLICE_TARGET);
+      assertEquals(4, execute(preparedStatement, value(3)));
+      assertEquals(misses + 2, stats.getMisses());
+    } finally {
+      test("alter session reset `%s`", ExecConstants.SLICE_TARGET);
+    }
+    assertEquals(6, execute(preparedStatement, value(5)));
+    assertEquals(hits + 2, stats.getHits());
+
+    // DDL drops the cached plans
+    test("create view dfs_test.tmp.plan_reuse_view as select * from cp.`region.json`");
+    try {
+      assertEquals(6, execute(preparedStatement, value(5)));
+      assertEquals(misses + 3, stats.getMisses());
+      assertEquals(hits + 2, stats.getHits());
+    } finally {
+      test("drop view dfs_test.tmp.plan_reuse_view");
+    }
+  }
+
+  /**
+   * Plans are not reused when the prepared statement plan cache is disabled.
+   */
+  @Test
+  public void planReuseDisabled() throws Exception {
+    String query = "SELECT region_id FROM cp.`region.json` WHERE region_id < ?";
+    PreparedStatement preparedStatement = createPrepareStmt(query, false, null);
+    PlanCache.Stats stats = getDrillbitContext().getPlanCache().getStats();
+
+    try {
+      test("alter session set `%s` = false", ExecConstants.PREPARED_STATEMENT_PLAN_CACHE_ENABLED);
+      long hits = stats.getHits();
+      assertEquals(5, execute(preparedStatement, value(5)));
+      assertEquals(5, execute(preparedStatement, value(5)));
+      assertEquals(hits, stats.getHits());
+    } finally {
+      test("alter session reset `%s`", ExecConstants.PREPARED_STATEMENT_PLAN_CACHE_ENABLED);
+    }
+  }
+
+  /**
+   * Execute prepared statements with parameters in conditions that would otherwise prune partitions or be
+   * pushed into the parquet scan. The plan is reused with other values, so the conditions must be evaluated
+   * with the bound values.
+   */
+  @Test
+  public void parametersInPushedDownConditions() throws Exception {
+    String query = String.format("SELECT o_custkey FROM dfs_test.`%s/multilevel/parquet` " +
+        "WHERE dir0 = CAST(? AS VARCHAR(4))", TEST_RES_PATH);
+    PreparedStatement preparedStatement = createPrepareStmt(query, false, null);
+
+    assertEquals(40, execute(preparedStatement, value("1995")));
+    assertEquals(40, execute(preparedStatement, value("1996")));
+    assertEquals(0, execute(preparedStatement, value("1997")));
+
+    query = "SELECT n_nationkey FROM cp.`tpch/nation.parquet` WHERE n_nationkey < CAST(? AS INT)";
+    preparedStatement = createPrepareStmt(query, false, null);
+
+    assertEquals(10, execute(preparedStatement, value(10)));
+    assertEquals(3, execute(preparedStatement, value(3)));
+  }
+
   /**
    * Pass an invalid query to the create prepare statement request and expect a parser failure.
    * @throws Exception
@@ -122,4 +244,18 @@ public class TestPreparedStatementProvider extends PreparedStatementTestBase {
   public void invalidQueryValidationError() throws Exception {
     createPrepareStmt("SELECT * sdflkgdh", true, ErrorType.PARSE /** Drill returns incorrect error for parse error*/);
   }
+
+  private int execute(PreparedStatement preparedStatement, PreparedStatementParameter... parameters)
+      throws Exception {
+    return printResult(client.executePreparedStatement(preparedStatement.getServerHandle(),
+        ImmutableList.copyOf(parameters)));
+  }
+
+  private static PreparedStatementParameter value(long value) {
+    return PreparedStatementParameter.newBuilder().setLongValue(value).build();
+  }
+
+  private static PreparedStatementParameter value(String value) {
+    return PreparedStatementParameter.newBuilder().setStringValue(value).build();
+  }
 }
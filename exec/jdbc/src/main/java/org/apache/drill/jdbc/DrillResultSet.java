@@ -20,6 +20,9 @@ package org.apache.drill.jdbc;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+import org.apache.drill.exec.client.ColumnarBatch;
 
 
 /**
@@ -36,6 +39,25 @@ public interface DrillResultSet extends ResultSet  {
    */
   String getQueryId() throws SQLException;
 
+  /**
+   * Gets the rows of the next batch of results column-wise, as the value
+   * vectors they were received in, without converting each value into a Java
+   * object.
+   * <p>
+   *   Skips the remaining rows of the current batch, if any; after the call
+   *   the result set is positioned on the last row of the returned batch, so
+   *   that {@link #next()} moves on to the batch after it.  The returned batch
+   *   is valid until the result set is moved or closed.
+   * </p>
+   *
+   * @return  the next batch, or {@code null} if there are no more rows
+   * @throws  SQLException  if this method is called on a closed result set
+   * @throws  SQLFeatureNotSupportedException  if this result set does not
+   *   come from the execution of a query by Drill (e.g., some metadata
+   *   result sets)
+   */
+  ColumnarBatch nextBatch() throws SQLException;
+
   /**
    * {@inheritDoc}
    * <p>
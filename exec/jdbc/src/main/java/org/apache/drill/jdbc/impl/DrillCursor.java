@@ -38,12 +38,14 @@ import org.apache.calcite.avatica.util.ArrayImpl.Factory;
 import org.apache.calcite.avatica.util.Cursor;
 import org.apache.drill.common.exceptions.UserException;
 import org.apache.drill.exec.ExecConstants;
+import org.apache.drill.exec.client.ColumnarBatch;
 import org.apache.drill.exec.client.DrillClient;
 import org.apache.drill.exec.exception.SchemaChangeException;
 import org.apache.drill.exec.proto.UserBitShared.QueryId;
 import org.apache.drill.exec.proto.UserBitShared.QueryResult.QueryState;
 import org.apache.drill.exec.proto.UserBitShared.QueryType;
 import org.apache.drill.exec.proto.UserProtos.PreparedStatement;
+import org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter;
 import org.apache.drill.exec.proto.helper.QueryIdHelper;
 import org.apache.drill.exec.record.BatchSchema;
 import org.apache.drill.exec.record.RecordBatchLoader;
@@ -181,8 +183,16 @@ class DrillCursor implements Cursor {
       // We're active; let's add to the queue.
       batchQueue.add(result);
 
-      // Throttle server if queue size has exceed threshold.
+      // Slow down server if queue size has exceeded threshold:  hold back the
+      // acknowledgment (credit) of the batch until it is consumed.  The
+      // server sends a bounded number of unacknowledged batches per query.
       if (batchQueue.size() > batchQueueThrottlingThreshold ) {
+        result.deferAck();
+      }
+
+      // Throttle the whole connection only if the queue keeps growing anyway
+      // (servers that do not bound the batches in flight).
+      if (batchQueue.size() > 2 * batchQueueThrottlingThreshold ) {
         if ( startThrottlingIfNot( throttle ) ) {
           logger.debug( "[#{}] Throttling started at queue size {}.",
                         instanceId, batchQueue.size() );
@@ -252,8 +262,9 @@ class DrillCursor implements Cursor {
       }
       while (!batchQueue.isEmpty()) {
         QueryDataBatch qdb = batchQueue.poll();
-        if (qdb != null && qdb.getData() != null) {
-          qdb.getData().release();
+        if (qdb != null) {
+          // (Also sends any acknowledgment held back.)
+          qdb.release();
         }
       }
       // Close may be called before the first result is received and therefore
@@ -425,84 +436,92 @@ class DrillCursor implements Cursor {
     } else {
       // No (more) records in any current batch--try to get first or next batch.
       // (First call always takes this branch.)
+      return nextBatchInternally();
+    }
+  }
 
-      try {
-        QueryDataBatch qrb = resultsListener.getNext();
+  /**
+   * Loads the next batch of records (the first one on the first call), and
+   * positions at its first record.
+   *
+   * @return  whether a batch was loaded (false when after end of results)
+   */
+  private boolean nextBatchInternally() throws SQLException {
+    try {
+      QueryDataBatch qrb = resultsListener.getNext();
 
-        // (Apparently:)  Skip any spurious empty batches (batches that have
-        // zero rows and/or null data, other than the first batch (which carries
-        // the (initial) schema but no rows)).
-        if ( afterFirstBatch ) {
-          while ( qrb != null
-                  && ( qrb.getHeader().getRowCount() == 0
-                      || qrb.getData() == null ) ) {
-            // Empty message--dispose of and try to get another.
-            logger.warn( "Spurious batch read: {}", qrb );
+      // (Apparently:)  Skip any spurious empty batches (batches that have
+      // zero rows and/or null data, other than the first batch (which carries
+      // the (initial) schema but no rows)).
+      if ( afterFirstBatch ) {
+        while ( qrb != null
+                && ( qrb.getHeader().getRowCount() == 0
+                    || qrb.getData() == null ) ) {
+          // Empty message--dispose of and try to get another.
+          logger.warn( "Spurious batch read: {}", qrb );
 
-            qrb.release();
+          qrb.release();
 
-            qrb = resultsListener.getNext();
-          }
+          qrb = resultsListener.getNext();
         }
+      }
 
-        afterFirstBatch = true;
+      afterFirstBatch = true;
 
-        if (qrb == null) {
-          // End of batches--clean up, set state to done, report after last row.
+      if (qrb == null) {
+        // End of batches--clean up, set state to done, report after last row.
 
-          currentBatchHolder.clear();  // (We load it so we clear it.)
-          afterLastRow = true;
-          return false;
-        } else {
-          // Got next (or first) batch--reset record offset to beginning;
-          // assimilate schema if changed; set up return value for first call
-          // to next().
+        currentBatchHolder.clear();  // (We load it so we clear it.)
+        afterLastRow = true;
+        return false;
+      } else {
+        // Got next (or first) batch--reset record offset to beginning;
+        // assimilate schema if changed; set up return value for first call
+        // to next().
 
-          currentRecordNumber = 0;
+        currentRecordNumber = 0;
 
-          final boolean schemaChanged;
-          try {
-            schemaChanged = currentBatchHolder.load(qrb.getHeader().getDef(),
-                                                    qrb.getData());
-          }
-          finally {
-            qrb.release();
-          }
-          schema = currentBatchHolder.getSchema();
-          if (schemaChanged) {
-            updateColumns();
-          }
+        final boolean schemaChanged;
+        try {
+          schemaChanged = currentBatchHolder.load(qrb.getHeader().getDef(),
+                                                  qrb.getData());
+        }
+        finally {
+          qrb.release();
+        }
+        schema = currentBatchHolder.getSchema();
+        if (schemaChanged) {
+          updateColumns();
+        }
 
-          if (returnTrueForNextCallToNext
-              && currentBatchHolder.getRecordCount() == 0) {
-            returnTrueForNextCallToNext = false;
-          }
-          return true;
+        if (returnTrueForNextCallToNext
+            && currentBatchHolder.getRecordCount() == 0) {
+          returnTrueForNextCallToNext = false;
         }
+        return true;
       }
-      catch ( UserException e ) {
-        // A normally expected case--for any server-side error (e.g., syntax
-        // error in SQL statement).
-        // Construct SQLException with message text from the UserException.
-        // TODO:  Map UserException error type to SQLException subclass (once
-        // error type is accessible, of course. :-( )
-        throw new SQLException( e.getMessage(), e );
-      }
-      catch ( InterruptedException e ) {
-        // Not normally expected--Drill doesn't interrupt in this area (right?)--
-        // but JDBC client certainly could.
-        throw new SQLException( "Interrupted.", e );
-      }
-      catch ( SchemaChangeException e ) {
-        // TODO:  Clean:  DRILL-2933:  RecordBatchLoader.load(...) no longer
-        // throws SchemaChangeException, so check/clean catch clause.
-        throw new SQLException(
-            "Unexpected SchemaChangeException from RecordBatchLoader.load(...)" );
-      }
-      catch ( RuntimeException e ) {
-        throw new SQLException( "Unexpected RuntimeException: " + e.toString(), e );
-      }
-
+    }
+    catch ( UserException e ) {
+      // A normally expected case--for any server-side error (e.g., syntax
+      // error in SQL statement).
+      // Construct SQLException with message text from the UserException.
+      // TODO:  Map UserException error type to SQLException subclass (once
+      // error type is accessible, of course. :-( )
+      throw new SQLException( e.getMessage(), e );
+    }
+    catch ( InterruptedException e ) {
+      // Not normally expected--Drill doesn't interrupt in this area (right?)--
+      // but JDBC client certainly could.
+      throw new SQLException( "Interrupted.", e );
+    }
+    catch ( SchemaChangeException e ) {
+      // TODO:  Clean:  DRILL-2933:  RecordBatchLoader.load(...) no longer
+      // throws SchemaChangeException, so check/clean catch clause.
+      throw new SQLException(
+          "Unexpected SchemaChangeException from RecordBatchLoader.load(...)" );
+    }
+    catch ( RuntimeException e ) {
+      throw new SQLException( "Unexpected RuntimeException: " + e.toString(), e );
     }
   }
 
@@ -529,15 +548,19 @@ class DrillCursor implements Cursor {
           + currentBatchHolder.getRecordCount() + " in loadInitialSchema()";
 
     final PreparedStatement preparedStatement;
+    final List<PreparedStatementParameter> parameters;
     if (statement instanceof DrillPreparedStatementImpl) {
       DrillPreparedStatementImpl drillPreparedStatement = (DrillPreparedStatementImpl) statement;
       preparedStatement = drillPreparedStatement.getPreparedStatementHandle();
+      parameters = drillPreparedStatement.getParameterValuesToSend();
     } else {
       preparedStatement = null;
+      parameters = null;
     }
 
     if (preparedStatement != null) {
-      connection.getClient().executePreparedStatement(preparedStatement.getServerHandle(), resultsListener);
+      connection.getClient().executePreparedStatement(preparedStatement.getServerHandle(), parameters,
+          resultsListener);
     }
     else {
       connection.getClient().runQuery(QueryType.SQL, signature.sql, resultsListener);
@@ -597,6 +620,44 @@ class DrillCursor implements Cursor {
     }
   }
 
+  /**
+   * Advances this cursor past the remaining rows of the current batch, to the
+   * next batch, and returns that batch column-wise.
+   * <p>
+   *   The cursor is left on the last row of the returned batch, so that a
+   *   following call to {@link #next()} moves on to the first row of the batch
+   *   after it.
+   * </p>
+   *
+   * @return  the batch, valid until the cursor moves again or is closed; or
+   *   {@code null} when after end of results
+   */
+  ColumnarBatch nextBatch() throws SQLException {
+    if ( ! initialSchemaLoaded ) {
+      throw new IllegalStateException(
+          "nextBatch() called but loadInitialSchema() was not called" );
+    }
+
+    if ( afterLastRow ) {
+      return null;
+    }
+    else if ( returnTrueForNextCallToNext ) {
+      // The first batch, loaded by loadInitialSchema(), has not been read yet.
+      returnTrueForNextCallToNext = false;
+    }
+    else {
+      accessors.clearLastColumnIndexedInRow();
+      if ( ! nextBatchInternally() ) {
+        return null;
+      }
+    }
+
+    final int recordCount = currentBatchHolder.getRecordCount();
+    currentRecordNumber = recordCount - 1;
+    currentRowNumber += recordCount;
+    return new ColumnarBatch(currentBatchHolder);
+  }
+
   public void cancel() {
     close();
   }
@@ -26,10 +26,14 @@ import java.sql.RowId;
 import java.sql.SQLException;
 import java.sql.SQLTimeoutException;
 import java.sql.SQLXML;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import java.util.TimeZone;
 
 import org.apache.calcite.avatica.AvaticaConnection;
+import org.apache.calcite.avatica.AvaticaParameter;
 import org.apache.calcite.avatica.AvaticaStatement;
 import org.apache.calcite.avatica.Helper;
 import org.apache.calcite.avatica.Meta;
@@ -154,7 +158,7 @@ public class DrillJdbc41Factory extends DrillFactory {
 
       return new DrillJdbc41PreparedStatement(connection,
           h,
-          signature,
+          withParameters(signature, resp.getPreparedStatement().getParameterCount()),
           resp.getPreparedStatement(),
           resultSetType,
           resultSetConcurrency,
@@ -168,6 +172,19 @@ public class DrillJdbc41Factory extends DrillFactory {
     }
   }
 
+  /**
+   * Adds the parameters of a server prepared statement to its signature. Their types are not known to the
+   * client: the server casts the values to the types it inferred for the parameters.
+   */
+  private static Meta.Signature withParameters(Meta.Signature signature, int parameterCount) {
+    final List<AvaticaParameter> parameters = new ArrayList<>(parameterCount);
+    for (int i = 1; i <= parameterCount; i++) {
+      parameters.add(new AvaticaParameter(false, 0, 0, Types.OTHER, "ANY", Object.class.getName(), "?" + i));
+    }
+    return new Meta.Signature(signature.columns, signature.sql, parameters, signature.internalParameters,
+        signature.cursorFactory);
+  }
+
   @Override
   public DrillResultSetImpl newResultSet(AvaticaStatement statement,
                                          Meta.Signature signature,
@@ -17,18 +17,24 @@
  */
 package org.apache.drill.jdbc.impl;
 
+import java.math.BigDecimal;
 import java.sql.ParameterMetaData;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLWarning;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.calcite.avatica.AvaticaParameter;
 import org.apache.calcite.avatica.AvaticaPreparedStatement;
 import org.apache.calcite.avatica.Meta;
 import org.apache.calcite.avatica.Meta.StatementHandle;
+import org.apache.calcite.avatica.remote.TypedValue;
+import org.apache.drill.exec.expr.fn.impl.DateUtility;
 import org.apache.drill.exec.proto.UserProtos.PreparedStatement;
+import org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter;
 import org.apache.drill.jdbc.AlreadyClosedSqlException;
 import org.apache.drill.jdbc.DrillPreparedStatement;
 
@@ -103,8 +109,76 @@ abstract class DrillPreparedStatementImpl extends AvaticaPreparedStatement
   @Override
   protected AvaticaParameter getParameter(int param) throws SQLException {
     throwIfClosed();
-    throw new SQLFeatureNotSupportedException(
-        "Prepared-statement dynamic parameters are not supported.");
+    return super.getParameter(param);
+  }
+
+  /**
+   * Gets the values of the parameters, as sent to execute the statement. Values of types other than boolean,
+   * numbers and strings are sent as strings, in the text form accepted by casts from VARCHAR.
+   *
+   * @throws SQLException if a parameter has no value, or a value of a type that is not supported
+   */
+  List<PreparedStatementParameter> getParameterValuesToSend() throws SQLException {
+    final List<TypedValue> values = getParameterValues();
+    final List<PreparedStatementParameter> parameters = new ArrayList<>(values.size());
+    for (int i = 0; i < values.size(); i++) {
+      parameters.add(toParameter(i + 1, values.get(i)));
+    }
+    return parameters;
+  }
+
+  private static PreparedStatementParameter toParameter(int index, TypedValue value) throws SQLException {
+    if (value == null) {
+      throw new SQLException(String.format("No value specified for parameter %d.", index));
+    }
+    final PreparedStatementParameter.Builder parameter = PreparedStatementParameter.newBuilder();
+    if (value.value == null) {
+      // SQL NULL
+      return parameter.build();
+    }
+    // dates and times are in their serial form: days, milliseconds of the day, and milliseconds since the
+    // epoch in UTC with the calendar of the statement already applied
+    switch (value.type) {
+    case PRIMITIVE_BOOLEAN:
+    case BOOLEAN:
+      return parameter.setBoolValue((Boolean) value.value).build();
+    case PRIMITIVE_BYTE:
+    case PRIMITIVE_SHORT:
+    case PRIMITIVE_INT:
+    case PRIMITIVE_LONG:
+    case BYTE:
+    case SHORT:
+    case INTEGER:
+    case LONG:
+      return parameter.setLongValue(((Number) value.value).longValue()).build();
+    case PRIMITIVE_FLOAT:
+    case PRIMITIVE_DOUBLE:
+    case FLOAT:
+    case DOUBLE:
+      return parameter.setDoubleValue(((Number) value.value).doubleValue()).build();
+    case NUMBER:
+      return parameter.setStringValue(value.value instanceof BigDecimal
+          ? ((BigDecimal) value.value).toPlainString()
+          : value.value.toString()).build();
+    case PRIMITIVE_CHAR:
+    case CHARACTER:
+    case STRING:
+      return parameter.setStringValue(value.value.toString()).build();
+    case JAVA_SQL_DATE:
+      return parameter.setStringValue(DateUtility.formatDate.withZoneUTC()
+          .print(((Number) value.value).longValue() * DateUtility.daysToStandardMillis)).build();
+    case JAVA_SQL_TIME:
+      return parameter.setStringValue(DateUtility.formatTime.withZoneUTC()
+          .print(((Number) value.value).longValue())).build();
+    case JAVA_SQL_TIMESTAMP:
+    case JAVA_UTIL_DATE:
+      return parameter.setStringValue(DateUtility.formatTimeStamp.withZoneUTC()
+          .print(((Number) value.value).longValue())).build();
+    default:
+      throw new SQLFeatureNotSupportedException(String.format(
+          "Parameter %d has a value of type %s, which is not supported for prepared statement parameters.",
+          index, value.type));
+    }
   }
 
   @Override
@@ -50,6 +50,7 @@ import org.apache.calcite.avatica.ColumnMetaData;
 import org.apache.calcite.avatica.Meta;
 import org.apache.calcite.avatica.util.Cursor;
 import org.apache.calcite.avatica.util.Cursor.Accessor;
+import org.apache.drill.exec.client.ColumnarBatch;
 import org.apache.drill.jdbc.AlreadyClosedSqlException;
 import org.apache.drill.jdbc.DrillResultSet;
 import org.apache.drill.jdbc.ExecutionCanceledSqlException;
@@ -1870,6 +1871,16 @@ class DrillResultSetImpl extends AvaticaResultSet implements DrillResultSet {
     return null;
   }
 
+  @Override
+  public ColumnarBatch nextBatch() throws SQLException {
+    throwIfClosed();
+    if (cursor instanceof DrillCursor) {
+      return ((DrillCursor) cursor).nextBatch();
+    }
+    throw new SQLFeatureNotSupportedException(
+        "Batch-level access is not supported for this result set." );
+  }
+
 
   ////////////////////////////////////////
 
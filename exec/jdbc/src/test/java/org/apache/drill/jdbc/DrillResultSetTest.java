@@ -30,6 +30,8 @@ import java.sql.SQLException;
 import java.sql.Statement;
 
 import org.apache.drill.exec.ExecConstants;
+import org.apache.drill.exec.client.ColumnarBatch;
+import org.apache.drill.exec.vector.NullableBigIntVector;
 import org.apache.drill.jdbc.test.JdbcAssert;
 import org.apache.drill.test.DrillTest;
 import org.junit.AfterClass;
@@ -166,6 +168,35 @@ public class DrillResultSetTest extends DrillTest {
     assertThat( "getRow() after last row", resultSet.getRow(), equalTo( 0 ) );
   }
 
+  @Test
+  public void test_nextBatch_readsAllRowsColumnWise()
+    throws Exception
+  {
+    Connection connection =
+        new Driver().connect( "jdbc:drill:zk=local", JdbcAssert.getDefaultProperties() );
+    Statement statement = connection.createStatement();
+    ResultSet resultSet =
+        statement.executeQuery( "SELECT employee_id FROM cp.`employee.json`" );
+    DrillResultSet drillResultSet = resultSet.unwrap( DrillResultSet.class );
+
+    int rowCount = 0;
+    ColumnarBatch batch;
+    while ( ( batch = drillResultSet.nextBatch() ) != null ) {
+      assertThat( batch.getColumnCount(), equalTo( 1 ) );
+      assertThat( batch.findColumn( "employee_id" ), equalTo( 0 ) );
+      NullableBigIntVector vector = batch.getVector( 0, NullableBigIntVector.class );
+      for ( int i = 0; i < batch.getRecordCount(); i++ ) {
+        // Fixed-width values can be read in place.
+        assertThat( batch.getValuesBuffer( 0 ).getLong( i * 8 ),
+                    equalTo( vector.getAccessor().get( i ) ) );
+      }
+      rowCount += batch.getRecordCount();
+    }
+
+    assertThat( rowCount, equalTo( 1155 ) );
+    assertThat( resultSet.next(), is( false ) );
+  }
+
   // TODO:  Ideally, test other methods.
 
 }
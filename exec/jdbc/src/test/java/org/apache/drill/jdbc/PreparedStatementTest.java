@@ -33,7 +33,6 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 import java.math.BigDecimal;
-import java.sql.Clob;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.DriverManager;
@@ -41,7 +40,6 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.List;
@@ -231,7 +229,7 @@ public class PreparedStatementTest extends JdbcTestBase {
   }
 
   //////////
-  // Parameters-not-implemented tests:
+  // Parameters-not-supported tests:
 
   /** Tests that basic case of trying to create a prepare statement with parameters. */
   @Test( expected = SQLException.class )
@@ -248,31 +246,31 @@ public class PreparedStatementTest extends JdbcTestBase {
     }
   }
 
-  /** Tests that "not supported" has priority over possible "no parameters"
-   *  check. */
-  @Test( expected = SQLFeatureNotSupportedException.class )
-  public void testParamSettingWhenNoParametersIndexSaysUnsupported() throws SQLException {
+  /** Tests that setting a parameter of a statement without parameters fails. */
+  @Test( expected = SQLException.class )
+  public void testParamSettingWhenNoParametersIndexSaysOutOfRange() throws SQLException {
     try(PreparedStatement prepStmt = connection.prepareStatement( "VALUES 1" )) {
       try {
         prepStmt.setBytes(4, null);
-      } catch (final SQLFeatureNotSupportedException e) {
+      } catch (final SQLException e) {
         assertThat(
-            "Check whether params.-unsupported wording changed or checks changed.",
-            e.toString(), PARAMETERS_NOT_SUPPORTED_MSG_MATCHER
-        );
+            "Check whether out-of-range wording changed or checks changed.",
+            e.toString(), containsString("out of range") );
         throw e;
       }
     }
   }
 
-  /** Tests that "not supported" has priority over possible "type not supported"
-   *  check. */
-  @Test( expected = SQLFeatureNotSupportedException.class )
+  /** Tests that executing a statement with a parameter of an unsupported type
+   *  says unsupported. */
+  @Test( expected = SQLException.class )
   public void testParamSettingWhenUnsupportedTypeSaysUnsupported() throws SQLException {
-    try(PreparedStatement prepStmt = connection.prepareStatement( "VALUES 1" )) {
+    try(PreparedStatement prepStmt = connection.prepareStatement(
+        "SELECT employee_id FROM cp.`employee.json` WHERE full_name = ?" )) {
+      prepStmt.setBytes(1, new byte[] { 1 });
       try {
-        prepStmt.setClob(2, (Clob) null);
-      } catch (final SQLFeatureNotSupportedException e) {
+        prepStmt.executeQuery();
+      } catch (final SQLException e) {
         assertThat(
             "Check whether params.-unsupported wording changed or checks changed.",
             e.toString(), PARAMETERS_NOT_SUPPORTED_MSG_MATCHER
@@ -282,4 +280,65 @@ public class PreparedStatementTest extends JdbcTestBase {
     }
   }
 
+  /** Tests that executing a statement whose parameters are not all set fails. */
+  @Test( expected = SQLException.class )
+  public void testExecuteWithUnsetParameterFails() throws SQLException {
+    try(PreparedStatement prepStmt = connection.prepareStatement(
+        "SELECT employee_id FROM cp.`employee.json` WHERE employee_id < ? AND position_id < ?" )) {
+      prepStmt.setInt(1, 10);
+      try {
+        prepStmt.executeQuery();
+      } catch (final SQLException e) {
+        assertThat(
+            "Check whether unset-parameter wording changed or checks changed.",
+            e.toString(), containsString("No value specified for parameter 2") );
+        throw e;
+      }
+    }
+  }
+
+  //////////
+  // Parameters tests:
+
+  /** Tests that a statement with parameters can be executed several times,
+   *  with different values. */
+  @Test
+  public void testExecuteWithParameters() throws SQLException {
+    try(PreparedStatement prepStmt = connection.prepareStatement(
+        "SELECT n_nationkey FROM cp.`tpch/nation.parquet` WHERE n_nationkey < ?" )) {
+      assertThat(prepStmt.getParameterMetaData().getParameterCount(), equalTo(1));
+
+      prepStmt.setInt(1, 10);
+      assertThat(countRows(prepStmt), equalTo(10));
+      prepStmt.setLong(1, 3);
+      assertThat(countRows(prepStmt), equalTo(3));
+      prepStmt.setString(1, "10");
+      assertThat(countRows(prepStmt), equalTo(10));
+      prepStmt.setNull(1, INTEGER);
+      assertThat(countRows(prepStmt), equalTo(0));
+    }
+  }
+
+  /** Tests that string parameters are bound as values. */
+  @Test
+  public void testExecuteWithStringParameter() throws SQLException {
+    try(PreparedStatement prepStmt = connection.prepareStatement(
+        "SELECT n_nationkey FROM cp.`tpch/nation.parquet` WHERE n_name = ?" )) {
+      prepStmt.setString(1, "FRANCE");
+      assertThat(countRows(prepStmt), equalTo(1));
+      prepStmt.setString(1, "FRANCE' OR 'a' = 'a");
+      assertThat(countRows(prepStmt), equalTo(0));
+    }
+  }
+
+  private static int countRows(PreparedStatement prepStmt) throws SQLException {
+    int rows = 0;
+    try(ResultSet rs = prepStmt.executeQuery()) {
+      while (rs.next()) {
+        rows++;
+      }
+    }
+    return rows;
+  }
+
 }
@@ -137,6 +137,11 @@ public final class ${className} extends BaseDataValueVector implements <#if type
     return values;
   }
 
+  @Override
+  public UInt1Vector getBitsVector() {
+    return bits;
+  }
+
   @Override
   public void setInitialCapacity(int numRecords) {
     bits.setInitialCapacity(numRecords);
@@ -20,4 +20,9 @@ package org.apache.drill.exec.vector;
 public interface NullableVector extends ValueVector{
 
   ValueVector getValuesVector();
+
+  /**
+   * @return the vector that holds one byte per value: 1 if the value is set, 0 if it is null
+   */
+  UInt1Vector getBitsVector();
 }
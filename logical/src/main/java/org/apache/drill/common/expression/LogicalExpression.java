@@ -27,6 +27,7 @@ import org.apache.drill.common.expression.parser.ExprLexer;
 import org.apache.drill.common.expression.parser.ExprParser;
 import org.apache.drill.common.expression.parser.ExprParser.parse_return;
 import org.apache.drill.common.expression.visitors.ExprVisitor;
+import org.apache.drill.common.expression.visitors.ParameterBinder;
 import org.apache.drill.common.types.TypeProtos.MajorType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -83,7 +84,8 @@ public interface LogicalExpression extends Iterable<LogicalExpression>{
         parse_return ret = parser.parse();
 
         // ret.e.resolveAndValidate(expr, errorCollector);
-        return ret.e;
+        final ParameterBinder binder = (ParameterBinder) ctxt.getAttribute(ParameterBinder.ATTRIBUTE);
+        return binder == null ? ret.e : ret.e.accept(binder, null);
       } catch (RecognitionException e) {
         throw new RuntimeException(e);
       }
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.drill.common.expression.visitors;
+
+import java.util.List;
+
+import org.apache.drill.common.exceptions.UserException;
+import org.apache.drill.common.expression.BooleanOperator;
+import org.apache.drill.common.expression.CastExpression;
+import org.apache.drill.common.expression.ConvertExpression;
+import org.apache.drill.common.expression.ExpressionPosition;
+import org.apache.drill.common.expression.FunctionCall;
+import org.apache.drill.common.expression.FunctionHolderExpression;
+import org.apache.drill.common.expression.IfExpression;
+import org.apache.drill.common.expression.IfExpression.IfCondition;
+import org.apache.drill.common.expression.LogicalExpression;
+import org.apache.drill.common.expression.ValueExpressions;
+import org.apache.drill.common.expression.ValueExpressions.IntExpression;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+/**
+ * Binds the values of the parameters ('?') of a prepared statement into an expression. In the expressions of
+ * a plan, a parameter is a call to the {@link #PARAMETER_FUNCTION} function, with the (0-based) index of the
+ * parameter as argument. No such function exists, so these calls can only come from parameters.
+ * <p>
+ * A binder set as the {@link #ATTRIBUTE} attribute of the Jackson deserialization context binds the parameters
+ * of the expressions of a plan while the plan is read, see {@link LogicalExpression.De}.
+ */
+public class ParameterBinder extends AbstractExprVisitor<LogicalExpression, Void, RuntimeException> {
+  static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(ParameterBinder.class);
+
+  public static final String PARAMETER_FUNCTION = "$parameter";
+
+  public static final Object ATTRIBUTE = ParameterBinder.class;
+
+  private final List<LogicalExpression> values;
+
+  /**
+   * @param values the values of the parameters, in order, as literal (or null) expressions
+   */
+  public ParameterBinder(List<LogicalExpression> values) {
+    this.values = ImmutableList.copyOf(values);
+  }
+
+  /**
+   * @return the expression that stands for the parameter of the given (0-based) index until it is bound
+   */
+  public static LogicalExpression parameter(int index) {
+    return new FunctionCall(PARAMETER_FUNCTION, ImmutableList.<LogicalExpression>of(ValueExpressions.getInt(index)),
+        ExpressionPosition.UNKNOWN);
+  }
+
+  @Override
+  public LogicalExpression visitFunctionCall(FunctionCall call, Void value) {
+    if (PARAMETER_FUNCTION.equals(call.getName())) {
+      final int index = ((IntExpression) call.args.get(0)).getInt();
+      if (index >= values.size()) {
+        throw UserException.validationError()
+            .message("No value given for parameter %d of the prepared statement.", index + 1)
+            .build(logger);
+      }
+      return values.get(index);
+    }
+    return new FunctionCall(call.getName(), bind(call.args), call.getPosition());
+  }
+
+  @Override
+  public LogicalExpression visitBooleanOperator(BooleanOperator op, Void value) {
+    return new BooleanOperator(op.getName(), bind(op.args), op.getPosition());
+  }
+
+  @Override
+  public LogicalExpression visitFunctionHolderExpression(FunctionHolderExpression holder, Void value) {
+    return holder.copy(bind(holder.args));
+  }
+
+  @Override
+  public LogicalExpression visitIfExpression(IfExpression ifExpr, Void value) {
+    final IfCondition condition = new IfCondition(ifExpr.ifCondition.condition.accept(this, null),
+        ifExpr.ifCondition.expression.accept(this, null));
+    return IfExpression.newBuilder()
+        .setIfCondition(condition)
+        .setElse(ifExpr.elseExpression.accept(this, null))
+        .setOutputType(ifExpr.outputType)
+        .setPosition(ifExpr.getPosition())
+        .build();
+  }
+
+  @Override
+  public LogicalExpression visitCastExpression(CastExpression cast, Void value) {
+    return new CastExpression(cast.getInput().accept(this, null), cast.getMajorType(), cast.getPosition());
+  }
+
+  @Override
+  public LogicalExpression visitConvertExpression(ConvertExpression convert, Void value) {
+    return new ConvertExpression(convert.getConvertFunction(), convert.getEncodingType(),
+        convert.getInput().accept(this, null), convert.getPosition());
+  }
+
+  @Override
+  public LogicalExpression visitUnknown(LogicalExpression e, Void value) {
+    return e;
+  }
+
+  private List<LogicalExpression> bind(List<LogicalExpression> args) {
+    final List<LogicalExpression> bound = Lists.newArrayListWithCapacity(args.size());
+    for (LogicalExpression arg : args) {
+      bound.add(arg.accept(this, null));
+    }
+    return bound;
+  }
+}
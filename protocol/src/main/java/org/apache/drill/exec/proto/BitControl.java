@@ -102,6 +102,22 @@ public final class BitControl {
      * <code>REQ_CUSTOM = 17;</code>
      */
     REQ_CUSTOM(11, 17),
+    /**
+     * <code>REQ_FRAGMENT_STATUS_BATCH = 20;</code>
+     *
+     * <pre>
+     * send the statuses of several fragments (BitStatus), returns Ack
+     * </pre>
+     */
+    REQ_FRAGMENT_STATUS_BATCH(12, 20),
+    /**
+     * <code>REQ_INITIALIZE_SHARED_FRAGMENTS = 21;</code>
+     *
+     * <pre>
+     * InitializeFragments with the shared plans of major fragments, returns Ack
+     * </pre>
+     */
+    REQ_INITIALIZE_SHARED_FRAGMENTS(13, 21),
     /**
      * <code>RESP_FRAGMENT_HANDLE = 11;</code>
      *
@@ -109,23 +125,23 @@ public final class BitControl {
      * bit responses
      * </pre>
      */
-    RESP_FRAGMENT_HANDLE(12, 11),
+    RESP_FRAGMENT_HANDLE(14, 11),
     /**
      * <code>RESP_FRAGMENT_STATUS = 12;</code>
      */
-    RESP_FRAGMENT_STATUS(13, 12),
+    RESP_FRAGMENT_STATUS(15, 12),
     /**
      * <code>RESP_BIT_STATUS = 13;</code>
      */
-    RESP_BIT_STATUS(14, 13),
+    RESP_BIT_STATUS(16, 13),
     /**
      * <code>RESP_QUERY_STATUS = 14;</code>
      */
-    RESP_QUERY_STATUS(15, 14),
+    RESP_QUERY_STATUS(17, 14),
     /**
      * <code>RESP_CUSTOM = 18;</code>
      */
-    RESP_CUSTOM(16, 18),
+    RESP_CUSTOM(18, 18),
     /**
      * <code>SASL_MESSAGE = 19;</code>
      *
@@ -133,7 +149,7 @@ public final class BitControl {
      * both bit request and response
      * </pre>
      */
-    SASL_MESSAGE(17, 19),
+    SASL_MESSAGE(19, 19),
     ;
 
     /**
@@ -204,6 +220,22 @@ public final class BitControl {
      * <code>REQ_CUSTOM = 17;</code>
      */
     public static final int REQ_CUSTOM_VALUE = 17;
+    /**
+     * <code>REQ_FRAGMENT_STATUS_BATCH = 20;</code>
+     *
+     * <pre>
+     * send the statuses of several fragments (BitStatus), returns Ack
+     * </pre>
+     */
+    public static final int REQ_FRAGMENT_STATUS_BATCH_VALUE = 20;
+    /**
+     * <code>REQ_INITIALIZE_SHARED_FRAGMENTS = 21;</code>
+     *
+     * <pre>
+     * InitializeFragments with the shared plans of major fragments, returns Ack
+     * </pre>
+     */
+    public static final int REQ_INITIALIZE_SHARED_FRAGMENTS_VALUE = 21;
     /**
      * <code>RESP_FRAGMENT_HANDLE = 11;</code>
      *
@@ -254,6 +286,8 @@ public final class BitControl {
         case 15: return REQ_QUERY_CANCEL;
         case 16: return REQ_UNPAUSE_FRAGMENT;
         case 17: return REQ_CUSTOM;
+        case 20: return REQ_FRAGMENT_STATUS_BATCH;
+        case 21: return REQ_INITIALIZE_SHARED_FRAGMENTS;
         case 11: return RESP_FRAGMENT_HANDLE;
         case 12: return RESP_FRAGMENT_STATUS;
         case 13: return RESP_BIT_STATUS;
@@ -367,6 +401,20 @@ public final class BitControl {
      */
     com.google.protobuf.ByteString
         getAuthenticationMechanismsBytes(int index);
+
+    // repeated .exec.bit.control.RpcType supported_methods = 5;
+    /**
+     * <code>repeated .exec.bit.control.RpcType supported_methods = 5;</code>
+     */
+    java.util.List<org.apache.drill.exec.proto.BitControl.RpcType> getSupportedMethodsList();
+    /**
+     * <code>repeated .exec.bit.control.RpcType supported_methods = 5;</code>
+     */
+    int getSupportedMethodsCount();
+    /**
+     * <code>repeated .exec.bit.control.RpcType supported_methods = 5;</code>
+     */
+    org.apache.drill.exec.proto.BitControl.RpcType getSupportedMethods(int index);
   }
   /**
    * Protobuf type {@code exec.bit.control.BitControlHandshake}
@@ -456,6 +504,39 @@ public final class BitControl {
               authenticationMechanisms_.add(input.readBytes());
               break;
             }
+            case 40: {
+              int rawValue = input.readEnum();
+              org.apache.drill.exec.proto.BitControl.RpcType value = org.apache.drill.exec.proto.BitControl.RpcType.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(5, rawValue);
+              } else {
+                if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                  supportedMethods_ = new java.util.ArrayList<org.apache.drill.exec.proto.BitControl.RpcType>();
+                  mutable_bitField0_ |= 0x00000010;
+                }
+                supportedMethods_.add(value);
+              }
+              break;
+            }
+            case 42: {
+              int length = input.readRawVarint32();
+              int oldLimit = input.pushLimit(length);
+              while(input.getBytesUntilLimit() > 0) {
+                int rawValue = input.readEnum();
+                org.apache.drill.exec.proto.BitControl.RpcType value = org.apache.drill.exec.proto.BitControl.RpcType.valueOf(rawValue);
+                if (value == null) {
+                  unknownFields.mergeVarintField(5, rawValue);
+                } else {
+                  if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                    supportedMethods_ = new java.util.ArrayList<org.apache.drill.exec.proto.BitControl.RpcType>();
+                    mutable_bitField0_ |= 0x00000010;
+                  }
+                  supportedMethods_.add(value);
+                }
+              }
+              input.popLimit(oldLimit);
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -467,6 +548,9 @@ public final class BitControl {
         if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
           authenticationMechanisms_ = new com.google.protobuf.UnmodifiableLazyStringList(authenticationMechanisms_);
         }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          supportedMethods_ = java.util.Collections.unmodifiableList(supportedMethods_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -583,11 +667,34 @@ public final class BitControl {
       return authenticationMechanisms_.getByteString(index);
     }
 
+    // repeated .exec.bit.control.RpcType supported_methods = 5;
+    public static final int SUPPORTED_METHODS_FIELD_NUMBER = 5;
+    private java.util.List<org.apache.drill.exec.proto.BitControl.RpcType> supportedMethods_;
+    /**
+     * <code>repeated .exec.bit.control.RpcType supported_methods = 5;</code>
+     */
+    public java.util.List<org.apache.drill.exec.proto.BitControl.RpcType> getSupportedMethodsList() {
+      return supportedMethods_;
+    }
+    /**
+     * <code>repeated .exec.bit.control.RpcType supported_methods = 5;</code>
+     */
+    public int getSupportedMethodsCount() {
+      return supportedMethods_.size();
+    }
+    /**
+     * <code>repeated .exec.bit.control.RpcType supported_methods = 5;</code>
+     */
+    public org.apache.drill.exec.proto.BitControl.RpcType getSupportedMethods(int index) {
+      return supportedMethods_.get(index);
+    }
+
     private void initFields() {
       rpcVersion_ = 0;
       channel_ = org.apache.drill.exec.proto.UserBitShared.RpcChannel.BIT_CONTROL;
       endpoint_ = org.apache.drill.exec.proto.CoordinationProtos.DrillbitEndpoint.getDefaultInstance();
       authenticationMechanisms_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      supportedMethods_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -613,6 +720,9 @@ public final class BitControl {
       for (int i = 0; i < authenticationMechanisms_.size(); i++) {
         output.writeBytes(4, authenticationMechanisms_.getByteString(i));
       }
+      for (int i = 0; i < supportedMethods_.size(); i++) {
+        output.writeEnum(5, supportedMethods_.get(i).getNumber());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -643,6 +753,15 @@ public final class BitControl {
         size += dataSize;
         size += 1 * getAuthenticationMechanismsList().size();
       }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < supportedMethods_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeEnumSizeNoTag(supportedMethods_.get(i).getNumber());
+        }
+        size += dataSize;
+        size += 1 * supportedMethods_.size();
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -772,6 +891,8 @@ public final class BitControl {
         bitField0_ = (bitField0_ & ~0x00000004);
         authenticationMechanisms_ = com.google.protobuf.LazyStringArrayList.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000008);
+        supportedMethods_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
@@ -822,6 +943,11 @@ public final class BitControl {
           bitField0_ = (bitField0_ & ~0x00000008);
         }
         result.authenticationMechanisms_ = authenticationMechanisms_;
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          supportedMethods_ = java.util.Collections.unmodifiableList(supportedMethods_);
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.supportedMethods_ = supportedMethods_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -857,6 +983,16 @@ public final class BitControl {
           }
           onChanged();
         }
+        if (!other.supportedMethods_.isEmpty()) {
+          if (supportedMethods_.isEmpty()) {
+            supportedMethods_ = other.supportedMethods_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureSupportedMethodsIsMutable();
+            supportedMethods_.addAll(other.supportedMethods_);
+          }
+          onChanged();
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -1163,6 +1299,78 @@ public final class BitControl {
         return this;
       }
 
+      // repeated .exec.bit.control.RpcType supported_methods = 5;
+      private java.util.List<org.apache.drill.exec.proto.BitControl.RpcType> supportedMethods_ =
+        java.util.Collections.emptyList();
+      private void ensureSupportedMethodsIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          supportedMethods_ = new java.util.ArrayList<org.apache.drill.exec.proto.BitControl.RpcType>(supportedMethods_);
+          bitField0_ |= 0x00000010;
+        }
+      }
+      /**
+       * <code>repeated .exec.bit.control.RpcType supported_methods = 5;</code>
+       */
+      public java.util.List<org.apache.drill.exec.proto.BitControl.RpcType> getSupportedMethodsList() {
+        return java.util.Collections.unmodifiableList(supportedMethods_);
+      }
+      /**
+       * <code>repeated .exec.bit.control.RpcType supported_methods = 5;</code>
+       */
+      public int getSupportedMethodsCount() {
+        return supportedMethods_.size();
+      }
+      /**
+       * <code>repeated .exec.bit.control.RpcType supported_methods = 5;</code>
+       */
+      public org.apache.drill.exec.proto.BitControl.RpcType getSupportedMethods(int index) {
+        return supportedMethods_.get(index);
+      }
+      /**
+       * <code>repeated .exec.bit.control.RpcType supported_methods = 5;</code>
+       */
+      public Builder setSupportedMethods(
+          int index, org.apache.drill.exec.proto.BitControl.RpcType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSupportedMethodsIsMutable();
+        supportedMethods_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated .exec.bit.control.RpcType supported_methods = 5;</code>
+       */
+      public Builder addSupportedMethods(org.apache.drill.exec.proto.BitControl.RpcType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSupportedMethodsIsMutable();
+        supportedMethods_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated .exec.bit.control.RpcType supported_methods = 5;</code>
+       */
+      public Builder addAllSupportedMethods(
+          java.lang.Iterable<? extends org.apache.drill.exec.proto.BitControl.RpcType> values) {
+        ensureSupportedMethodsIsMutable();
+        super.addAll(values, supportedMethods_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated .exec.bit.control.RpcType supported_methods = 5;</code>
+       */
+      public Builder clearSupportedMethods() {
+        supportedMethods_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:exec.bit.control.BitControlHandshake)
     }
 
@@ -2574,6 +2782,51 @@ public final class BitControl {
      */
     org.apache.drill.exec.proto.BitControl.PlanFragmentOrBuilder getFragmentOrBuilder(
         int index);
+
+    // repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;
+    /**
+     * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+     *
+     * <pre>
+     * plans of the major fragments whose fragments have a fragment_plan_delta
+     * </pre>
+     */
+    java.util.List<org.apache.drill.exec.proto.BitControl.MajorFragmentPlan> 
+        getSharedPlanList();
+    /**
+     * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+     *
+     * <pre>
+     * plans of the major fragments whose fragments have a fragment_plan_delta
+     * </pre>
+     */
+    org.apache.drill.exec.proto.BitControl.MajorFragmentPlan getSharedPlan(int index);
+    /**
+     * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+     *
+     * <pre>
+     * plans of the major fragments whose fragments have a fragment_plan_delta
+     * </pre>
+     */
+    int getSharedPlanCount();
+    /**
+     * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+     *
+     * <pre>
+     * plans of the major fragments whose fragments have a fragment_plan_delta
+     * </pre>
+     */
+    java.util.List<? extends org.apache.drill.exec.proto.BitControl.MajorFragmentPlanOrBuilder> 
+        getSharedPlanOrBuilderList();
+    /**
+     * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+     *
+     * <pre>
+     * plans of the major fragments whose fragments have a fragment_plan_delta
+     * </pre>
+     */
+    org.apache.drill.exec.proto.BitControl.MajorFragmentPlanOrBuilder getSharedPlanOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code exec.bit.control.InitializeFragments}
@@ -2634,6 +2887,14 @@ public final class BitControl {
               fragment_.add(input.readMessage(org.apache.drill.exec.proto.BitControl.PlanFragment.PARSER, extensionRegistry));
               break;
             }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                sharedPlan_ = new java.util.ArrayList<org.apache.drill.exec.proto.BitControl.MajorFragmentPlan>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              sharedPlan_.add(input.readMessage(org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.PARSER, extensionRegistry));
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2645,6 +2906,9 @@ public final class BitControl {
         if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
           fragment_ = java.util.Collections.unmodifiableList(fragment_);
         }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          sharedPlan_ = java.util.Collections.unmodifiableList(sharedPlan_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -2712,8 +2976,65 @@ public final class BitControl {
       return fragment_.get(index);
     }
 
+    // repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;
+    public static final int SHARED_PLAN_FIELD_NUMBER = 2;
+    private java.util.List<org.apache.drill.exec.proto.BitControl.MajorFragmentPlan> sharedPlan_;
+    /**
+     * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+     *
+     * <pre>
+     * plans of the major fragments whose fragments have a fragment_plan_delta
+     * </pre>
+     */
+    public java.util.List<org.apache.drill.exec.proto.BitControl.MajorFragmentPlan> getSharedPlanList() {
+      return sharedPlan_;
+    }
+    /**
+     * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+     *
+     * <pre>
+     * plans of the major fragments whose fragments have a fragment_plan_delta
+     * </pre>
+     */
+    public java.util.List<? extends org.apache.drill.exec.proto.BitControl.MajorFragmentPlanOrBuilder> 
+        getSharedPlanOrBuilderList() {
+      return sharedPlan_;
+    }
+    /**
+     * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+     *
+     * <pre>
+     * plans of the major fragments whose fragments have a fragment_plan_delta
+     * </pre>
+     */
+    public int getSharedPlanCount() {
+      return sharedPlan_.size();
+    }
+    /**
+     * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+     *
+     * <pre>
+     * plans of the major fragments whose fragments have a fragment_plan_delta
+     * </pre>
+     */
+    public org.apache.drill.exec.proto.BitControl.MajorFragmentPlan getSharedPlan(int index) {
+      return sharedPlan_.get(index);
+    }
+    /**
+     * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+     *
+     * <pre>
+     * plans of the major fragments whose fragments have a fragment_plan_delta
+     * </pre>
+     */
+    public org.apache.drill.exec.proto.BitControl.MajorFragmentPlanOrBuilder getSharedPlanOrBuilder(
+        int index) {
+      return sharedPlan_.get(index);
+    }
+
     private void initFields() {
       fragment_ = java.util.Collections.emptyList();
+      sharedPlan_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -2730,6 +3051,9 @@ public final class BitControl {
       for (int i = 0; i < fragment_.size(); i++) {
         output.writeMessage(1, fragment_.get(i));
       }
+      for (int i = 0; i < sharedPlan_.size(); i++) {
+        output.writeMessage(2, sharedPlan_.get(i));
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2743,6 +3067,10 @@ public final class BitControl {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, fragment_.get(i));
       }
+      for (int i = 0; i < sharedPlan_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, sharedPlan_.get(i));
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -2852,6 +3180,7 @@ public final class BitControl {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
           getFragmentFieldBuilder();
+          getSharedPlanFieldBuilder();
         }
       }
       private static Builder create() {
@@ -2866,6 +3195,12 @@ public final class BitControl {
         } else {
           fragmentBuilder_.clear();
         }
+        if (sharedPlanBuilder_ == null) {
+          sharedPlan_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          sharedPlanBuilder_.clear();
+        }
         return this;
       }
 
@@ -2902,6 +3237,15 @@ public final class BitControl {
         } else {
           result.fragment_ = fragmentBuilder_.build();
         }
+        if (sharedPlanBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            sharedPlan_ = java.util.Collections.unmodifiableList(sharedPlan_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.sharedPlan_ = sharedPlan_;
+        } else {
+          result.sharedPlan_ = sharedPlanBuilder_.build();
+        }
         onBuilt();
         return result;
       }
@@ -2943,6 +3287,32 @@ public final class BitControl {
             }
           }
         }
+        if (sharedPlanBuilder_ == null) {
+          if (!other.sharedPlan_.isEmpty()) {
+            if (sharedPlan_.isEmpty()) {
+              sharedPlan_ = other.sharedPlan_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureSharedPlanIsMutable();
+              sharedPlan_.addAll(other.sharedPlan_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.sharedPlan_.isEmpty()) {
+            if (sharedPlanBuilder_.isEmpty()) {
+              sharedPlanBuilder_.dispose();
+              sharedPlanBuilder_ = null;
+              sharedPlan_ = other.sharedPlan_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              sharedPlanBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getSharedPlanFieldBuilder() : null;
+            } else {
+              sharedPlanBuilder_.addAllMessages(other.sharedPlan_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -3106,119 +3476,943 @@ public final class BitControl {
         return this;
       }
       /**
-       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
+       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
+       */
+      public Builder addAllFragment(
+          java.lang.Iterable<? extends org.apache.drill.exec.proto.BitControl.PlanFragment> values) {
+        if (fragmentBuilder_ == null) {
+          ensureFragmentIsMutable();
+          super.addAll(values, fragment_);
+          onChanged();
+        } else {
+          fragmentBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
+       */
+      public Builder clearFragment() {
+        if (fragmentBuilder_ == null) {
+          fragment_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          fragmentBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
+       */
+      public Builder removeFragment(int index) {
+        if (fragmentBuilder_ == null) {
+          ensureFragmentIsMutable();
+          fragment_.remove(index);
+          onChanged();
+        } else {
+          fragmentBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
+       */
+      public org.apache.drill.exec.proto.BitControl.PlanFragment.Builder getFragmentBuilder(
+          int index) {
+        return getFragmentFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
+       */
+      public org.apache.drill.exec.proto.BitControl.PlanFragmentOrBuilder getFragmentOrBuilder(
+          int index) {
+        if (fragmentBuilder_ == null) {
+          return fragment_.get(index);  } else {
+          return fragmentBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
+       */
+      public java.util.List<? extends org.apache.drill.exec.proto.BitControl.PlanFragmentOrBuilder> 
+           getFragmentOrBuilderList() {
+        if (fragmentBuilder_ != null) {
+          return fragmentBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(fragment_);
+        }
+      }
+      /**
+       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
+       */
+      public org.apache.drill.exec.proto.BitControl.PlanFragment.Builder addFragmentBuilder() {
+        return getFragmentFieldBuilder().addBuilder(
+            org.apache.drill.exec.proto.BitControl.PlanFragment.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
+       */
+      public org.apache.drill.exec.proto.BitControl.PlanFragment.Builder addFragmentBuilder(
+          int index) {
+        return getFragmentFieldBuilder().addBuilder(
+            index, org.apache.drill.exec.proto.BitControl.PlanFragment.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
+       */
+      public java.util.List<org.apache.drill.exec.proto.BitControl.PlanFragment.Builder> 
+           getFragmentBuilderList() {
+        return getFragmentFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.apache.drill.exec.proto.BitControl.PlanFragment, org.apache.drill.exec.proto.BitControl.PlanFragment.Builder, org.apache.drill.exec.proto.BitControl.PlanFragmentOrBuilder> 
+          getFragmentFieldBuilder() {
+        if (fragmentBuilder_ == null) {
+          fragmentBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.apache.drill.exec.proto.BitControl.PlanFragment, org.apache.drill.exec.proto.BitControl.PlanFragment.Builder, org.apache.drill.exec.proto.BitControl.PlanFragmentOrBuilder>(
+                  fragment_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          fragment_ = null;
+        }
+        return fragmentBuilder_;
+      }
+
+      // repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;
+      private java.util.List<org.apache.drill.exec.proto.BitControl.MajorFragmentPlan> sharedPlan_ =
+        java.util.Collections.emptyList();
+      private void ensureSharedPlanIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          sharedPlan_ = new java.util.ArrayList<org.apache.drill.exec.proto.BitControl.MajorFragmentPlan>(sharedPlan_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.apache.drill.exec.proto.BitControl.MajorFragmentPlan, org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder, org.apache.drill.exec.proto.BitControl.MajorFragmentPlanOrBuilder> sharedPlanBuilder_;
+
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public java.util.List<org.apache.drill.exec.proto.BitControl.MajorFragmentPlan> getSharedPlanList() {
+        if (sharedPlanBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(sharedPlan_);
+        } else {
+          return sharedPlanBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public int getSharedPlanCount() {
+        if (sharedPlanBuilder_ == null) {
+          return sharedPlan_.size();
+        } else {
+          return sharedPlanBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public org.apache.drill.exec.proto.BitControl.MajorFragmentPlan getSharedPlan(int index) {
+        if (sharedPlanBuilder_ == null) {
+          return sharedPlan_.get(index);
+        } else {
+          return sharedPlanBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public Builder setSharedPlan(
+          int index, org.apache.drill.exec.proto.BitControl.MajorFragmentPlan value) {
+        if (sharedPlanBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSharedPlanIsMutable();
+          sharedPlan_.set(index, value);
+          onChanged();
+        } else {
+          sharedPlanBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public Builder setSharedPlan(
+          int index, org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder builderForValue) {
+        if (sharedPlanBuilder_ == null) {
+          ensureSharedPlanIsMutable();
+          sharedPlan_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          sharedPlanBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public Builder addSharedPlan(org.apache.drill.exec.proto.BitControl.MajorFragmentPlan value) {
+        if (sharedPlanBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSharedPlanIsMutable();
+          sharedPlan_.add(value);
+          onChanged();
+        } else {
+          sharedPlanBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public Builder addSharedPlan(
+          int index, org.apache.drill.exec.proto.BitControl.MajorFragmentPlan value) {
+        if (sharedPlanBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSharedPlanIsMutable();
+          sharedPlan_.add(index, value);
+          onChanged();
+        } else {
+          sharedPlanBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public Builder addSharedPlan(
+          org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder builderForValue) {
+        if (sharedPlanBuilder_ == null) {
+          ensureSharedPlanIsMutable();
+          sharedPlan_.add(builderForValue.build());
+          onChanged();
+        } else {
+          sharedPlanBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public Builder addSharedPlan(
+          int index, org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder builderForValue) {
+        if (sharedPlanBuilder_ == null) {
+          ensureSharedPlanIsMutable();
+          sharedPlan_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          sharedPlanBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public Builder addAllSharedPlan(
+          java.lang.Iterable<? extends org.apache.drill.exec.proto.BitControl.MajorFragmentPlan> values) {
+        if (sharedPlanBuilder_ == null) {
+          ensureSharedPlanIsMutable();
+          super.addAll(values, sharedPlan_);
+          onChanged();
+        } else {
+          sharedPlanBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public Builder clearSharedPlan() {
+        if (sharedPlanBuilder_ == null) {
+          sharedPlan_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          sharedPlanBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public Builder removeSharedPlan(int index) {
+        if (sharedPlanBuilder_ == null) {
+          ensureSharedPlanIsMutable();
+          sharedPlan_.remove(index);
+          onChanged();
+        } else {
+          sharedPlanBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder getSharedPlanBuilder(
+          int index) {
+        return getSharedPlanFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public org.apache.drill.exec.proto.BitControl.MajorFragmentPlanOrBuilder getSharedPlanOrBuilder(
+          int index) {
+        if (sharedPlanBuilder_ == null) {
+          return sharedPlan_.get(index);  } else {
+          return sharedPlanBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public java.util.List<? extends org.apache.drill.exec.proto.BitControl.MajorFragmentPlanOrBuilder> 
+           getSharedPlanOrBuilderList() {
+        if (sharedPlanBuilder_ != null) {
+          return sharedPlanBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(sharedPlan_);
+        }
+      }
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder addSharedPlanBuilder() {
+        return getSharedPlanFieldBuilder().addBuilder(
+            org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder addSharedPlanBuilder(
+          int index) {
+        return getSharedPlanFieldBuilder().addBuilder(
+            index, org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .exec.bit.control.MajorFragmentPlan shared_plan = 2;</code>
+       *
+       * <pre>
+       * plans of the major fragments whose fragments have a fragment_plan_delta
+       * </pre>
+       */
+      public java.util.List<org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder> 
+           getSharedPlanBuilderList() {
+        return getSharedPlanFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.apache.drill.exec.proto.BitControl.MajorFragmentPlan, org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder, org.apache.drill.exec.proto.BitControl.MajorFragmentPlanOrBuilder> 
+          getSharedPlanFieldBuilder() {
+        if (sharedPlanBuilder_ == null) {
+          sharedPlanBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.apache.drill.exec.proto.BitControl.MajorFragmentPlan, org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder, org.apache.drill.exec.proto.BitControl.MajorFragmentPlanOrBuilder>(
+                  sharedPlan_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          sharedPlan_ = null;
+        }
+        return sharedPlanBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:exec.bit.control.InitializeFragments)
+    }
+
+    static {
+      defaultInstance = new InitializeFragments(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:exec.bit.control.InitializeFragments)
+  }
+
+  public interface MajorFragmentPlanOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional int32 major_fragment_id = 1;
+    /**
+     * <code>optional int32 major_fragment_id = 1;</code>
+     */
+    boolean hasMajorFragmentId();
+    /**
+     * <code>optional int32 major_fragment_id = 1;</code>
+     */
+    int getMajorFragmentId();
+
+    // optional bytes fragment_plan = 2;
+    /**
+     * <code>optional bytes fragment_plan = 2;</code>
+     *
+     * <pre>
+     * binary operator tree shared by the minor fragments of the major fragment
+     * </pre>
+     */
+    boolean hasFragmentPlan();
+    /**
+     * <code>optional bytes fragment_plan = 2;</code>
+     *
+     * <pre>
+     * binary operator tree shared by the minor fragments of the major fragment
+     * </pre>
+     */
+    com.google.protobuf.ByteString getFragmentPlan();
+  }
+  /**
+   * Protobuf type {@code exec.bit.control.MajorFragmentPlan}
+   */
+  public static final class MajorFragmentPlan extends
+      com.google.protobuf.GeneratedMessage
+      implements MajorFragmentPlanOrBuilder {
+    // Use MajorFragmentPlan.newBuilder() to construct.
+    private MajorFragmentPlan(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private MajorFragmentPlan(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final MajorFragmentPlan defaultInstance;
+    public static MajorFragmentPlan getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public MajorFragmentPlan getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private MajorFragmentPlan(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              majorFragmentId_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              fragmentPlan_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.apache.drill.exec.proto.BitControl.internal_static_exec_bit_control_MajorFragmentPlan_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.apache.drill.exec.proto.BitControl.internal_static_exec_bit_control_MajorFragmentPlan_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.class, org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<MajorFragmentPlan> PARSER =
+        new com.google.protobuf.AbstractParser<MajorFragmentPlan>() {
+      public MajorFragmentPlan parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new MajorFragmentPlan(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<MajorFragmentPlan> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional int32 major_fragment_id = 1;
+    public static final int MAJOR_FRAGMENT_ID_FIELD_NUMBER = 1;
+    private int majorFragmentId_;
+    /**
+     * <code>optional int32 major_fragment_id = 1;</code>
+     */
+    public boolean hasMajorFragmentId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int32 major_fragment_id = 1;</code>
+     */
+    public int getMajorFragmentId() {
+      return majorFragmentId_;
+    }
+
+    // optional bytes fragment_plan = 2;
+    public static final int FRAGMENT_PLAN_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString fragmentPlan_;
+    /**
+     * <code>optional bytes fragment_plan = 2;</code>
+     *
+     * <pre>
+     * binary operator tree shared by the minor fragments of the major fragment
+     * </pre>
+     */
+    public boolean hasFragmentPlan() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional bytes fragment_plan = 2;</code>
+     *
+     * <pre>
+     * binary operator tree shared by the minor fragments of the major fragment
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getFragmentPlan() {
+      return fragmentPlan_;
+    }
+
+    private void initFields() {
+      majorFragmentId_ = 0;
+      fragmentPlan_ = com.google.protobuf.ByteString.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, majorFragmentId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, fragmentPlan_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, majorFragmentId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, fragmentPlan_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.apache.drill.exec.proto.BitControl.MajorFragmentPlan parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.drill.exec.proto.BitControl.MajorFragmentPlan parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.drill.exec.proto.BitControl.MajorFragmentPlan parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.drill.exec.proto.BitControl.MajorFragmentPlan parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.drill.exec.proto.BitControl.MajorFragmentPlan parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.apache.drill.exec.proto.BitControl.MajorFragmentPlan parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.apache.drill.exec.proto.BitControl.MajorFragmentPlan parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.apache.drill.exec.proto.BitControl.MajorFragmentPlan parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.apache.drill.exec.proto.BitControl.MajorFragmentPlan parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.apache.drill.exec.proto.BitControl.MajorFragmentPlan parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.apache.drill.exec.proto.BitControl.MajorFragmentPlan prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code exec.bit.control.MajorFragmentPlan}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.apache.drill.exec.proto.BitControl.MajorFragmentPlanOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.apache.drill.exec.proto.BitControl.internal_static_exec_bit_control_MajorFragmentPlan_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.apache.drill.exec.proto.BitControl.internal_static_exec_bit_control_MajorFragmentPlan_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.class, org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder.class);
+      }
+
+      // Construct using org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        majorFragmentId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        fragmentPlan_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.apache.drill.exec.proto.BitControl.internal_static_exec_bit_control_MajorFragmentPlan_descriptor;
+      }
+
+      public org.apache.drill.exec.proto.BitControl.MajorFragmentPlan getDefaultInstanceForType() {
+        return org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.getDefaultInstance();
+      }
+
+      public org.apache.drill.exec.proto.BitControl.MajorFragmentPlan build() {
+        org.apache.drill.exec.proto.BitControl.MajorFragmentPlan result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.apache.drill.exec.proto.BitControl.MajorFragmentPlan buildPartial() {
+        org.apache.drill.exec.proto.BitControl.MajorFragmentPlan result = new org.apache.drill.exec.proto.BitControl.MajorFragmentPlan(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.majorFragmentId_ = majorFragmentId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.fragmentPlan_ = fragmentPlan_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.apache.drill.exec.proto.BitControl.MajorFragmentPlan) {
+          return mergeFrom((org.apache.drill.exec.proto.BitControl.MajorFragmentPlan)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.apache.drill.exec.proto.BitControl.MajorFragmentPlan other) {
+        if (other == org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.getDefaultInstance()) return this;
+        if (other.hasMajorFragmentId()) {
+          setMajorFragmentId(other.getMajorFragmentId());
+        }
+        if (other.hasFragmentPlan()) {
+          setFragmentPlan(other.getFragmentPlan());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.apache.drill.exec.proto.BitControl.MajorFragmentPlan parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.apache.drill.exec.proto.BitControl.MajorFragmentPlan) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional int32 major_fragment_id = 1;
+      private int majorFragmentId_ ;
+      /**
+       * <code>optional int32 major_fragment_id = 1;</code>
        */
-      public Builder addAllFragment(
-          java.lang.Iterable<? extends org.apache.drill.exec.proto.BitControl.PlanFragment> values) {
-        if (fragmentBuilder_ == null) {
-          ensureFragmentIsMutable();
-          super.addAll(values, fragment_);
-          onChanged();
-        } else {
-          fragmentBuilder_.addAllMessages(values);
-        }
-        return this;
+      public boolean hasMajorFragmentId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
+       * <code>optional int32 major_fragment_id = 1;</code>
        */
-      public Builder clearFragment() {
-        if (fragmentBuilder_ == null) {
-          fragment_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-          onChanged();
-        } else {
-          fragmentBuilder_.clear();
-        }
-        return this;
+      public int getMajorFragmentId() {
+        return majorFragmentId_;
       }
       /**
-       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
+       * <code>optional int32 major_fragment_id = 1;</code>
        */
-      public Builder removeFragment(int index) {
-        if (fragmentBuilder_ == null) {
-          ensureFragmentIsMutable();
-          fragment_.remove(index);
-          onChanged();
-        } else {
-          fragmentBuilder_.remove(index);
-        }
+      public Builder setMajorFragmentId(int value) {
+        bitField0_ |= 0x00000001;
+        majorFragmentId_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
-       */
-      public org.apache.drill.exec.proto.BitControl.PlanFragment.Builder getFragmentBuilder(
-          int index) {
-        return getFragmentFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
+       * <code>optional int32 major_fragment_id = 1;</code>
        */
-      public org.apache.drill.exec.proto.BitControl.PlanFragmentOrBuilder getFragmentOrBuilder(
-          int index) {
-        if (fragmentBuilder_ == null) {
-          return fragment_.get(index);  } else {
-          return fragmentBuilder_.getMessageOrBuilder(index);
-        }
+      public Builder clearMajorFragmentId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        majorFragmentId_ = 0;
+        onChanged();
+        return this;
       }
+
+      // optional bytes fragment_plan = 2;
+      private com.google.protobuf.ByteString fragmentPlan_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
+       * <code>optional bytes fragment_plan = 2;</code>
+       *
+       * <pre>
+       * binary operator tree shared by the minor fragments of the major fragment
+       * </pre>
        */
-      public java.util.List<? extends org.apache.drill.exec.proto.BitControl.PlanFragmentOrBuilder> 
-           getFragmentOrBuilderList() {
-        if (fragmentBuilder_ != null) {
-          return fragmentBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(fragment_);
-        }
+      public boolean hasFragmentPlan() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
+       * <code>optional bytes fragment_plan = 2;</code>
+       *
+       * <pre>
+       * binary operator tree shared by the minor fragments of the major fragment
+       * </pre>
        */
-      public org.apache.drill.exec.proto.BitControl.PlanFragment.Builder addFragmentBuilder() {
-        return getFragmentFieldBuilder().addBuilder(
-            org.apache.drill.exec.proto.BitControl.PlanFragment.getDefaultInstance());
+      public com.google.protobuf.ByteString getFragmentPlan() {
+        return fragmentPlan_;
       }
       /**
-       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
+       * <code>optional bytes fragment_plan = 2;</code>
+       *
+       * <pre>
+       * binary operator tree shared by the minor fragments of the major fragment
+       * </pre>
        */
-      public org.apache.drill.exec.proto.BitControl.PlanFragment.Builder addFragmentBuilder(
-          int index) {
-        return getFragmentFieldBuilder().addBuilder(
-            index, org.apache.drill.exec.proto.BitControl.PlanFragment.getDefaultInstance());
+      public Builder setFragmentPlan(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        fragmentPlan_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .exec.bit.control.PlanFragment fragment = 1;</code>
+       * <code>optional bytes fragment_plan = 2;</code>
+       *
+       * <pre>
+       * binary operator tree shared by the minor fragments of the major fragment
+       * </pre>
        */
-      public java.util.List<org.apache.drill.exec.proto.BitControl.PlanFragment.Builder> 
-           getFragmentBuilderList() {
-        return getFragmentFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          org.apache.drill.exec.proto.BitControl.PlanFragment, org.apache.drill.exec.proto.BitControl.PlanFragment.Builder, org.apache.drill.exec.proto.BitControl.PlanFragmentOrBuilder> 
-          getFragmentFieldBuilder() {
-        if (fragmentBuilder_ == null) {
-          fragmentBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              org.apache.drill.exec.proto.BitControl.PlanFragment, org.apache.drill.exec.proto.BitControl.PlanFragment.Builder, org.apache.drill.exec.proto.BitControl.PlanFragmentOrBuilder>(
-                  fragment_,
-                  ((bitField0_ & 0x00000001) == 0x00000001),
-                  getParentForChildren(),
-                  isClean());
-          fragment_ = null;
-        }
-        return fragmentBuilder_;
+      public Builder clearFragmentPlan() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fragmentPlan_ = getDefaultInstance().getFragmentPlan();
+        onChanged();
+        return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:exec.bit.control.InitializeFragments)
+      // @@protoc_insertion_point(builder_scope:exec.bit.control.MajorFragmentPlan)
     }
 
     static {
-      defaultInstance = new InitializeFragments(true);
+      defaultInstance = new MajorFragmentPlan(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:exec.bit.control.InitializeFragments)
+    // @@protoc_insertion_point(class_scope:exec.bit.control.MajorFragmentPlan)
   }
 
   public interface CustomMessageOrBuilder
@@ -3914,6 +5108,42 @@ public final class BitControl {
      */
     org.apache.drill.exec.proto.BitControl.CollectorOrBuilder getCollectorOrBuilder(
         int index);
+
+    // optional bytes fragment_plan = 18;
+    /**
+     * <code>optional bytes fragment_plan = 18;</code>
+     *
+     * <pre>
+     * operator tree in binary form, instead of fragment_json
+     * </pre>
+     */
+    boolean hasFragmentPlan();
+    /**
+     * <code>optional bytes fragment_plan = 18;</code>
+     *
+     * <pre>
+     * operator tree in binary form, instead of fragment_json
+     * </pre>
+     */
+    com.google.protobuf.ByteString getFragmentPlan();
+
+    // optional bytes fragment_plan_delta = 19;
+    /**
+     * <code>optional bytes fragment_plan_delta = 19;</code>
+     *
+     * <pre>
+     * changes to the shared plan of the major fragment, instead of fragment_json
+     * </pre>
+     */
+    boolean hasFragmentPlanDelta();
+    /**
+     * <code>optional bytes fragment_plan_delta = 19;</code>
+     *
+     * <pre>
+     * changes to the shared plan of the major fragment, instead of fragment_json
+     * </pre>
+     */
+    com.google.protobuf.ByteString getFragmentPlanDelta();
   }
   /**
    * Protobuf type {@code exec.bit.control.PlanFragment}
@@ -4084,6 +5314,16 @@ public final class BitControl {
               collector_.add(input.readMessage(org.apache.drill.exec.proto.BitControl.Collector.PARSER, extensionRegistry));
               break;
             }
+            case 146: {
+              bitField0_ |= 0x00004000;
+              fragmentPlan_ = input.readBytes();
+              break;
+            }
+            case 154: {
+              bitField0_ |= 0x00008000;
+              fragmentPlanDelta_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -4487,6 +5727,54 @@ public final class BitControl {
       return collector_.get(index);
     }
 
+    // optional bytes fragment_plan = 18;
+    public static final int FRAGMENT_PLAN_FIELD_NUMBER = 18;
+    private com.google.protobuf.ByteString fragmentPlan_;
+    /**
+     * <code>optional bytes fragment_plan = 18;</code>
+     *
+     * <pre>
+     * operator tree in binary form, instead of fragment_json
+     * </pre>
+     */
+    public boolean hasFragmentPlan() {
+      return ((bitField0_ & 0x00004000) == 0x00004000);
+    }
+    /**
+     * <code>optional bytes fragment_plan = 18;</code>
+     *
+     * <pre>
+     * operator tree in binary form, instead of fragment_json
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getFragmentPlan() {
+      return fragmentPlan_;
+    }
+
+    // optional bytes fragment_plan_delta = 19;
+    public static final int FRAGMENT_PLAN_DELTA_FIELD_NUMBER = 19;
+    private com.google.protobuf.ByteString fragmentPlanDelta_;
+    /**
+     * <code>optional bytes fragment_plan_delta = 19;</code>
+     *
+     * <pre>
+     * changes to the shared plan of the major fragment, instead of fragment_json
+     * </pre>
+     */
+    public boolean hasFragmentPlanDelta() {
+      return ((bitField0_ & 0x00008000) == 0x00008000);
+    }
+    /**
+     * <code>optional bytes fragment_plan_delta = 19;</code>
+     *
+     * <pre>
+     * changes to the shared plan of the major fragment, instead of fragment_json
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getFragmentPlanDelta() {
+      return fragmentPlanDelta_;
+    }
+
     private void initFields() {
       handle_ = org.apache.drill.exec.proto.ExecProtos.FragmentHandle.getDefaultInstance();
       networkCost_ = 0F;
@@ -4503,6 +5791,8 @@ public final class BitControl {
       optionsJson_ = "";
       context_ = org.apache.drill.exec.proto.BitControl.QueryContextInformation.getDefaultInstance();
       collector_ = java.util.Collections.emptyList();
+      fragmentPlan_ = com.google.protobuf.ByteString.EMPTY;
+      fragmentPlanDelta_ = com.google.protobuf.ByteString.EMPTY;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -4561,6 +5851,12 @@ public final class BitControl {
       for (int i = 0; i < collector_.size(); i++) {
         output.writeMessage(17, collector_.get(i));
       }
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+        output.writeBytes(18, fragmentPlan_);
+      }
+      if (((bitField0_ & 0x00008000) == 0x00008000)) {
+        output.writeBytes(19, fragmentPlanDelta_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -4630,6 +5926,14 @@ public final class BitControl {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(17, collector_.get(i));
       }
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(18, fragmentPlan_);
+      }
+      if (((bitField0_ & 0x00008000) == 0x00008000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(19, fragmentPlanDelta_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -4806,6 +6110,10 @@ public final class BitControl {
         } else {
           collectorBuilder_.clear();
         }
+        fragmentPlan_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00008000);
+        fragmentPlanDelta_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00010000);
         return this;
       }
 
@@ -4919,6 +6227,14 @@ public final class BitControl {
         } else {
           result.collector_ = collectorBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
+          to_bitField0_ |= 0x00004000;
+        }
+        result.fragmentPlan_ = fragmentPlan_;
+        if (((from_bitField0_ & 0x00010000) == 0x00010000)) {
+          to_bitField0_ |= 0x00008000;
+        }
+        result.fragmentPlanDelta_ = fragmentPlanDelta_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -5007,6 +6323,12 @@ public final class BitControl {
             }
           }
         }
+        if (other.hasFragmentPlan()) {
+          setFragmentPlan(other.getFragmentPlan());
+        }
+        if (other.hasFragmentPlanDelta()) {
+          setFragmentPlanDelta(other.getFragmentPlanDelta());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -6270,6 +7592,110 @@ public final class BitControl {
         return collectorBuilder_;
       }
 
+      // optional bytes fragment_plan = 18;
+      private com.google.protobuf.ByteString fragmentPlan_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes fragment_plan = 18;</code>
+       *
+       * <pre>
+       * operator tree in binary form, instead of fragment_json
+       * </pre>
+       */
+      public boolean hasFragmentPlan() {
+        return ((bitField0_ & 0x00008000) == 0x00008000);
+      }
+      /**
+       * <code>optional bytes fragment_plan = 18;</code>
+       *
+       * <pre>
+       * operator tree in binary form, instead of fragment_json
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getFragmentPlan() {
+        return fragmentPlan_;
+      }
+      /**
+       * <code>optional bytes fragment_plan = 18;</code>
+       *
+       * <pre>
+       * operator tree in binary form, instead of fragment_json
+       * </pre>
+       */
+      public Builder setFragmentPlan(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00008000;
+        fragmentPlan_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes fragment_plan = 18;</code>
+       *
+       * <pre>
+       * operator tree in binary form, instead of fragment_json
+       * </pre>
+       */
+      public Builder clearFragmentPlan() {
+        bitField0_ = (bitField0_ & ~0x00008000);
+        fragmentPlan_ = getDefaultInstance().getFragmentPlan();
+        onChanged();
+        return this;
+      }
+
+      // optional bytes fragment_plan_delta = 19;
+      private com.google.protobuf.ByteString fragmentPlanDelta_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes fragment_plan_delta = 19;</code>
+       *
+       * <pre>
+       * changes to the shared plan of the major fragment, instead of fragment_json
+       * </pre>
+       */
+      public boolean hasFragmentPlanDelta() {
+        return ((bitField0_ & 0x00010000) == 0x00010000);
+      }
+      /**
+       * <code>optional bytes fragment_plan_delta = 19;</code>
+       *
+       * <pre>
+       * changes to the shared plan of the major fragment, instead of fragment_json
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getFragmentPlanDelta() {
+        return fragmentPlanDelta_;
+      }
+      /**
+       * <code>optional bytes fragment_plan_delta = 19;</code>
+       *
+       * <pre>
+       * changes to the shared plan of the major fragment, instead of fragment_json
+       * </pre>
+       */
+      public Builder setFragmentPlanDelta(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00010000;
+        fragmentPlanDelta_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes fragment_plan_delta = 19;</code>
+       *
+       * <pre>
+       * changes to the shared plan of the major fragment, instead of fragment_json
+       * </pre>
+       */
+      public Builder clearFragmentPlanDelta() {
+        bitField0_ = (bitField0_ & ~0x00010000);
+        fragmentPlanDelta_ = getDefaultInstance().getFragmentPlanDelta();
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:exec.bit.control.PlanFragment)
     }
 
@@ -9343,6 +10769,11 @@ public final class BitControl {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_exec_bit_control_InitializeFragments_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_exec_bit_control_MajorFragmentPlan_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_exec_bit_control_MajorFragmentPlan_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_exec_bit_control_CustomMessage_descriptor;
   private static
@@ -9384,54 +10815,62 @@ public final class BitControl {
     java.lang.String[] descriptorData = {
       "\n\020BitControl.proto\022\020exec.bit.control\032\025Ex" +
       "ecutionProtos.proto\032\022Coordination.proto\032" +
-      "\023UserBitShared.proto\"\255\001\n\023BitControlHands" +
+      "\023UserBitShared.proto\"\343\001\n\023BitControlHands" +
       "hake\022\023\n\013rpc_version\030\001 \001(\005\0225\n\007channel\030\002 \001" +
       "(\0162\027.exec.shared.RpcChannel:\013BIT_CONTROL" +
       "\022(\n\010endpoint\030\003 \001(\0132\026.exec.DrillbitEndpoi" +
-      "nt\022 \n\030authenticationMechanisms\030\004 \003(\t\"F\n\t" +
-      "BitStatus\0229\n\017fragment_status\030\001 \003(\0132 .exe" +
-      "c.bit.control.FragmentStatus\"n\n\016Fragment" +
-      "Status\0222\n\007profile\030\001 \001(\0132!.exec.shared.Mi",
-      "norFragmentProfile\022(\n\006handle\030\002 \001(\0132\030.exe" +
-      "c.bit.FragmentHandle\"G\n\023InitializeFragme" +
-      "nts\0220\n\010fragment\030\001 \003(\0132\036.exec.bit.control" +
-      ".PlanFragment\".\n\rCustomMessage\022\014\n\004type\030\001" +
-      " \001(\005\022\017\n\007message\030\002 \001(\014\"\374\003\n\014PlanFragment\022(" +
-      "\n\006handle\030\001 \001(\0132\030.exec.bit.FragmentHandle" +
-      "\022\024\n\014network_cost\030\004 \001(\002\022\020\n\010cpu_cost\030\005 \001(\002" +
-      "\022\021\n\tdisk_cost\030\006 \001(\002\022\023\n\013memory_cost\030\007 \001(\002" +
-      "\022\025\n\rfragment_json\030\010 \001(\t\022\025\n\rleaf_fragment" +
-      "\030\t \001(\010\022*\n\nassignment\030\n \001(\0132\026.exec.Drillb",
-      "itEndpoint\022\'\n\007foreman\030\013 \001(\0132\026.exec.Drill" +
-      "bitEndpoint\022\035\n\013mem_initial\030\014 \001(\003:\010200000" +
-      "00\022\033\n\007mem_max\030\r \001(\003:\n2000000000\0221\n\013crede" +
-      "ntials\030\016 \001(\0132\034.exec.shared.UserCredentia" +
-      "ls\022\024\n\014options_json\030\017 \001(\t\022:\n\007context\030\020 \001(" +
-      "\0132).exec.bit.control.QueryContextInforma" +
-      "tion\022.\n\tcollector\030\021 \003(\0132\033.exec.bit.contr" +
-      "ol.Collector\"\210\001\n\tCollector\022\"\n\032opposite_m" +
-      "ajor_fragment_id\030\001 \001(\005\022#\n\027incoming_minor" +
-      "_fragment\030\002 \003(\005B\002\020\001\022\035\n\025supports_out_of_o",
-      "rder\030\003 \001(\010\022\023\n\013is_spooling\030\004 \001(\010\"w\n\027Query" +
-      "ContextInformation\022\030\n\020query_start_time\030\001" +
-      " \001(\003\022\021\n\ttime_zone\030\002 \001(\005\022\033\n\023default_schem" +
-      "a_name\030\003 \001(\t\022\022\n\nsession_id\030\004 \001(\t\"f\n\017Work" +
-      "QueueStatus\022(\n\010endpoint\030\001 \001(\0132\026.exec.Dri" +
-      "llbitEndpoint\022\024\n\014queue_length\030\002 \001(\005\022\023\n\013r" +
-      "eport_time\030\003 \001(\003\"h\n\020FinishedReceiver\022*\n\010" +
-      "receiver\030\001 \001(\0132\030.exec.bit.FragmentHandle" +
-      "\022(\n\006sender\030\002 \001(\0132\030.exec.bit.FragmentHand" +
-      "le*\206\003\n\007RpcType\022\r\n\tHANDSHAKE\020\000\022\007\n\003ACK\020\001\022\013",
-      "\n\007GOODBYE\020\002\022\034\n\030REQ_INITIALIZE_FRAGMENTS\020" +
-      "\003\022\027\n\023REQ_CANCEL_FRAGMENT\020\006\022\031\n\025REQ_RECEIV" +
-      "ER_FINISHED\020\007\022\027\n\023REQ_FRAGMENT_STATUS\020\010\022\022" +
-      "\n\016REQ_BIT_STATUS\020\t\022\024\n\020REQ_QUERY_STATUS\020\n" +
-      "\022\024\n\020REQ_QUERY_CANCEL\020\017\022\030\n\024REQ_UNPAUSE_FR" +
-      "AGMENT\020\020\022\016\n\nREQ_CUSTOM\020\021\022\030\n\024RESP_FRAGMEN" +
-      "T_HANDLE\020\013\022\030\n\024RESP_FRAGMENT_STATUS\020\014\022\023\n\017" +
-      "RESP_BIT_STATUS\020\r\022\025\n\021RESP_QUERY_STATUS\020\016" +
-      "\022\017\n\013RESP_CUSTOM\020\022\022\020\n\014SASL_MESSAGE\020\023B+\n\033o" +
-      "rg.apache.drill.exec.protoB\nBitControlH\001"
+      "nt\022 \n\030authenticationMechanisms\030\004 \003(\t\0224\n\021" +
+      "supported_methods\030\005 \003(\0162\031.exec.bit.contr" +
+      "ol.RpcType\"F\n\tBitStatus\0229\n\017fragment_stat" +
+      "us\030\001 \003(\0132 .exec.bit.control.FragmentStat",
+      "us\"n\n\016FragmentStatus\0222\n\007profile\030\001 \001(\0132!." +
+      "exec.shared.MinorFragmentProfile\022(\n\006hand" +
+      "le\030\002 \001(\0132\030.exec.bit.FragmentHandle\"\201\001\n\023I" +
+      "nitializeFragments\0220\n\010fragment\030\001 \003(\0132\036.e" +
+      "xec.bit.control.PlanFragment\0228\n\013shared_p" +
+      "lan\030\002 \003(\0132#.exec.bit.control.MajorFragme" +
+      "ntPlan\"E\n\021MajorFragmentPlan\022\031\n\021major_fra" +
+      "gment_id\030\001 \001(\005\022\025\n\rfragment_plan\030\002 \001(\014\".\n" +
+      "\rCustomMessage\022\014\n\004type\030\001 \001(\005\022\017\n\007message\030" +
+      "\002 \001(\014\"\260\004\n\014PlanFragment\022(\n\006handle\030\001 \001(\0132\030",
+      ".exec.bit.FragmentHandle\022\024\n\014network_cost" +
+      "\030\004 \001(\002\022\020\n\010cpu_cost\030\005 \001(\002\022\021\n\tdisk_cost\030\006 " +
+      "\001(\002\022\023\n\013memory_cost\030\007 \001(\002\022\025\n\rfragment_jso" +
+      "n\030\010 \001(\t\022\025\n\rleaf_fragment\030\t \001(\010\022*\n\nassign" +
+      "ment\030\n \001(\0132\026.exec.DrillbitEndpoint\022\'\n\007fo" +
+      "reman\030\013 \001(\0132\026.exec.DrillbitEndpoint\022\035\n\013m" +
+      "em_initial\030\014 \001(\003:\01020000000\022\033\n\007mem_max\030\r " +
+      "\001(\003:\n2000000000\0221\n\013credentials\030\016 \001(\0132\034.e" +
+      "xec.shared.UserCredentials\022\024\n\014options_js" +
+      "on\030\017 \001(\t\022:\n\007context\030\020 \001(\0132).exec.bit.con",
+      "trol.QueryContextInformation\022.\n\tcollecto" +
+      "r\030\021 \003(\0132\033.exec.bit.control.Collector\022\025\n\r" +
+      "fragment_plan\030\022 \001(\014\022\033\n\023fragment_plan_del" +
+      "ta\030\023 \001(\014\"\210\001\n\tCollector\022\"\n\032opposite_major" +
+      "_fragment_id\030\001 \001(\005\022#\n\027incoming_minor_fra" +
+      "gment\030\002 \003(\005B\002\020\001\022\035\n\025supports_out_of_order" +
+      "\030\003 \001(\010\022\023\n\013is_spooling\030\004 \001(\010\"w\n\027QueryCont" +
+      "extInformation\022\030\n\020query_start_time\030\001 \001(\003" +
+      "\022\021\n\ttime_zone\030\002 \001(\005\022\033\n\023default_schema_na" +
+      "me\030\003 \001(\t\022\022\n\nsession_id\030\004 \001(\t\"f\n\017WorkQueu",
+      "eStatus\022(\n\010endpoint\030\001 \001(\0132\026.exec.Drillbi" +
+      "tEndpoint\022\024\n\014queue_length\030\002 \001(\005\022\023\n\013repor" +
+      "t_time\030\003 \001(\003\"h\n\020FinishedReceiver\022*\n\010rece" +
+      "iver\030\001 \001(\0132\030.exec.bit.FragmentHandle\022(\n\006" +
+      "sender\030\002 \001(\0132\030.exec.bit.FragmentHandle*\312" +
+      "\003\n\007RpcType\022\r\n\tHANDSHAKE\020\000\022\007\n\003ACK\020\001\022\013\n\007GO" +
+      "ODBYE\020\002\022\034\n\030REQ_INITIALIZE_FRAGMENTS\020\003\022\027\n" +
+      "\023REQ_CANCEL_FRAGMENT\020\006\022\031\n\025REQ_RECEIVER_F" +
+      "INISHED\020\007\022\027\n\023REQ_FRAGMENT_STATUS\020\010\022\022\n\016RE" +
+      "Q_BIT_STATUS\020\t\022\024\n\020REQ_QUERY_STATUS\020\n\022\024\n\020",
+      "REQ_QUERY_CANCEL\020\017\022\030\n\024REQ_UNPAUSE_FRAGME" +
+      "NT\020\020\022\016\n\nREQ_CUSTOM\020\021\022\035\n\031REQ_FRAGMENT_STA" +
+      "TUS_BATCH\020\024\022#\n\037REQ_INITIALIZE_SHARED_FRA" +
+      "GMENTS\020\025\022\030\n\024RESP_FRAGMENT_HANDLE\020\013\022\030\n\024RE" +
+      "SP_FRAGMENT_STATUS\020\014\022\023\n\017RESP_BIT_STATUS\020" +
+      "\r\022\025\n\021RESP_QUERY_STATUS\020\016\022\017\n\013RESP_CUSTOM\020" +
+      "\022\022\020\n\014SASL_MESSAGE\020\023B+\n\033org.apache.drill." +
+      "exec.protoB\nBitControlH\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -9443,7 +10882,7 @@ public final class BitControl {
           internal_static_exec_bit_control_BitControlHandshake_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_bit_control_BitControlHandshake_descriptor,
-              new java.lang.String[] { "RpcVersion", "Channel", "Endpoint", "AuthenticationMechanisms", });
+              new java.lang.String[] { "RpcVersion", "Channel", "Endpoint", "AuthenticationMechanisms", "SupportedMethods", });
           internal_static_exec_bit_control_BitStatus_descriptor =
             getDescriptor().getMessageTypes().get(1);
           internal_static_exec_bit_control_BitStatus_fieldAccessorTable = new
@@ -9461,39 +10900,45 @@ public final class BitControl {
           internal_static_exec_bit_control_InitializeFragments_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_bit_control_InitializeFragments_descriptor,
-              new java.lang.String[] { "Fragment", });
-          internal_static_exec_bit_control_CustomMessage_descriptor =
+              new java.lang.String[] { "Fragment", "SharedPlan", });
+          internal_static_exec_bit_control_MajorFragmentPlan_descriptor =
             getDescriptor().getMessageTypes().get(4);
+          internal_static_exec_bit_control_MajorFragmentPlan_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_exec_bit_control_MajorFragmentPlan_descriptor,
+              new java.lang.String[] { "MajorFragmentId", "FragmentPlan", });
+          internal_static_exec_bit_control_CustomMessage_descriptor =
+            getDescriptor().getMessageTypes().get(5);
           internal_static_exec_bit_control_CustomMessage_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_bit_control_CustomMessage_descriptor,
               new java.lang.String[] { "Type", "Message", });
           internal_static_exec_bit_control_PlanFragment_descriptor =
-            getDescriptor().getMessageTypes().get(5);
+            getDescriptor().getMessageTypes().get(6);
           internal_static_exec_bit_control_PlanFragment_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_bit_control_PlanFragment_descriptor,
-              new java.lang.String[] { "Handle", "NetworkCost", "CpuCost", "DiskCost", "MemoryCost", "FragmentJson", "LeafFragment", "Assignment", "Foreman", "MemInitial", "MemMax", "Credentials", "OptionsJson", "Context", "Collector", });
+              new java.lang.String[] { "Handle", "NetworkCost", "CpuCost", "DiskCost", "MemoryCost", "FragmentJson", "LeafFragment", "Assignment", "Foreman", "MemInitial", "MemMax", "Credentials", "OptionsJson", "Context", "Collector", "FragmentPlan", "FragmentPlanDelta", });
           internal_static_exec_bit_control_Collector_descriptor =
-            getDescriptor().getMessageTypes().get(6);
+            getDescriptor().getMessageTypes().get(7);
           internal_static_exec_bit_control_Collector_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_bit_control_Collector_descriptor,
               new java.lang.String[] { "OppositeMajorFragmentId", "IncomingMinorFragment", "SupportsOutOfOrder", "IsSpooling", });
           internal_static_exec_bit_control_QueryContextInformation_descriptor =
-            getDescriptor().getMessageTypes().get(7);
+            getDescriptor().getMessageTypes().get(8);
           internal_static_exec_bit_control_QueryContextInformation_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_bit_control_QueryContextInformation_descriptor,
               new java.lang.String[] { "QueryStartTime", "TimeZone", "DefaultSchemaName", "SessionId", });
           internal_static_exec_bit_control_WorkQueueStatus_descriptor =
-            getDescriptor().getMessageTypes().get(8);
+            getDescriptor().getMessageTypes().get(9);
           internal_static_exec_bit_control_WorkQueueStatus_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_bit_control_WorkQueueStatus_descriptor,
               new java.lang.String[] { "Endpoint", "QueueLength", "ReportTime", });
           internal_static_exec_bit_control_FinishedReceiver_descriptor =
-            getDescriptor().getMessageTypes().get(9);
+            getDescriptor().getMessageTypes().get(10);
           internal_static_exec_bit_control_FinishedReceiver_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_bit_control_FinishedReceiver_descriptor,
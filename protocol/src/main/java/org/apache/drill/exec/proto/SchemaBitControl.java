@@ -44,6 +44,8 @@ public final class SchemaBitControl
 
                 for(String authenticationMechanisms : message.getAuthenticationMechanismsList())
                     output.writeString(4, authenticationMechanisms, true);
+                for(org.apache.drill.exec.proto.BitControl.RpcType supportedMethods : message.getSupportedMethodsList())
+                    output.writeEnum(5, supportedMethods.getNumber(), true);
             }
             public boolean isInitialized(org.apache.drill.exec.proto.BitControl.BitControlHandshake message)
             {
@@ -96,6 +98,9 @@ public final class SchemaBitControl
                         case 4:
                             builder.addAuthenticationMechanisms(input.readString());
                             break;
+                        case 5:
+                            builder.addSupportedMethods(org.apache.drill.exec.proto.BitControl.RpcType.valueOf(input.readEnum()));
+                            break;
                         default:
                             input.handleUnknownField(number, this);
                     }
@@ -140,6 +145,7 @@ public final class SchemaBitControl
                 case 2: return "channel";
                 case 3: return "endpoint";
                 case 4: return "authenticationMechanisms";
+                case 5: return "supportedMethods";
                 default: return null;
             }
         }
@@ -155,6 +161,7 @@ public final class SchemaBitControl
             fieldMap.put("channel", 2);
             fieldMap.put("endpoint", 3);
             fieldMap.put("authenticationMechanisms", 4);
+            fieldMap.put("supportedMethods", 5);
         }
     }
 
@@ -407,6 +414,9 @@ public final class SchemaBitControl
                 for(org.apache.drill.exec.proto.BitControl.PlanFragment fragment : message.getFragmentList())
                     output.writeObject(1, fragment, org.apache.drill.exec.proto.SchemaBitControl.PlanFragment.WRITE, true);
 
+                for(org.apache.drill.exec.proto.BitControl.MajorFragmentPlan sharedPlan : message.getSharedPlanList())
+                    output.writeObject(2, sharedPlan, org.apache.drill.exec.proto.SchemaBitControl.MajorFragmentPlan.WRITE, true);
+
             }
             public boolean isInitialized(org.apache.drill.exec.proto.BitControl.InitializeFragments message)
             {
@@ -449,6 +459,10 @@ public final class SchemaBitControl
                         case 1:
                             builder.addFragment(input.mergeObject(org.apache.drill.exec.proto.BitControl.PlanFragment.newBuilder(), org.apache.drill.exec.proto.SchemaBitControl.PlanFragment.MERGE));
 
+                            break;
+                        case 2:
+                            builder.addSharedPlan(input.mergeObject(org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.newBuilder(), org.apache.drill.exec.proto.SchemaBitControl.MajorFragmentPlan.MERGE));
+
                             break;
                         default:
                             input.handleUnknownField(number, this);
@@ -491,6 +505,7 @@ public final class SchemaBitControl
             switch(number)
             {
                 case 1: return "fragment";
+                case 2: return "sharedPlan";
                 default: return null;
             }
         }
@@ -503,6 +518,126 @@ public final class SchemaBitControl
         static
         {
             fieldMap.put("fragment", 1);
+            fieldMap.put("sharedPlan", 2);
+        }
+    }
+
+    public static final class MajorFragmentPlan
+    {
+        public static final org.apache.drill.exec.proto.SchemaBitControl.MajorFragmentPlan.MessageSchema WRITE =
+            new org.apache.drill.exec.proto.SchemaBitControl.MajorFragmentPlan.MessageSchema();
+        public static final org.apache.drill.exec.proto.SchemaBitControl.MajorFragmentPlan.BuilderSchema MERGE =
+            new org.apache.drill.exec.proto.SchemaBitControl.MajorFragmentPlan.BuilderSchema();
+        
+        public static class MessageSchema implements com.dyuproject.protostuff.Schema<org.apache.drill.exec.proto.BitControl.MajorFragmentPlan>
+        {
+            public void writeTo(com.dyuproject.protostuff.Output output, org.apache.drill.exec.proto.BitControl.MajorFragmentPlan message) throws java.io.IOException
+            {
+                if(message.hasMajorFragmentId())
+                    output.writeInt32(1, message.getMajorFragmentId(), false);
+                if(message.hasFragmentPlan())
+                    output.writeByteArray(2, message.getFragmentPlan().toByteArray(), false);
+
+            }
+            public boolean isInitialized(org.apache.drill.exec.proto.BitControl.MajorFragmentPlan message)
+            {
+                return message.isInitialized();
+            }
+            public java.lang.String getFieldName(int number)
+            {
+                return org.apache.drill.exec.proto.SchemaBitControl.MajorFragmentPlan.getFieldName(number);
+            }
+            public int getFieldNumber(java.lang.String name)
+            {
+                return org.apache.drill.exec.proto.SchemaBitControl.MajorFragmentPlan.getFieldNumber(name);
+            }
+            public java.lang.Class<org.apache.drill.exec.proto.BitControl.MajorFragmentPlan> typeClass()
+            {
+                return org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.class;
+            }
+            public java.lang.String messageName()
+            {
+                return org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.class.getSimpleName();
+            }
+            public java.lang.String messageFullName()
+            {
+                return org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.class.getName();
+            }
+            //unused
+            public void mergeFrom(com.dyuproject.protostuff.Input input, org.apache.drill.exec.proto.BitControl.MajorFragmentPlan message) throws java.io.IOException {}
+            public org.apache.drill.exec.proto.BitControl.MajorFragmentPlan newMessage() { return null; }
+        }
+        public static class BuilderSchema implements com.dyuproject.protostuff.Schema<org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder>
+        {
+            public void mergeFrom(com.dyuproject.protostuff.Input input, org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder builder) throws java.io.IOException
+            {
+                for(int number = input.readFieldNumber(this);; number = input.readFieldNumber(this))
+                {
+                    switch(number)
+                    {
+                        case 0:
+                            return;
+                        case 1:
+                            builder.setMajorFragmentId(input.readInt32());
+                            break;
+                        case 2:
+                            builder.setFragmentPlan(com.google.protobuf.ByteString.copyFrom(input.readByteArray()));
+                            break;
+                        default:
+                            input.handleUnknownField(number, this);
+                    }
+                }
+            }
+            public boolean isInitialized(org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder builder)
+            {
+                return builder.isInitialized();
+            }
+            public org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder newMessage()
+            {
+                return org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.newBuilder();
+            }
+            public java.lang.String getFieldName(int number)
+            {
+                return org.apache.drill.exec.proto.SchemaBitControl.MajorFragmentPlan.getFieldName(number);
+            }
+            public int getFieldNumber(java.lang.String name)
+            {
+                return org.apache.drill.exec.proto.SchemaBitControl.MajorFragmentPlan.getFieldNumber(name);
+            }
+            public java.lang.Class<org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder> typeClass()
+            {
+                return org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder.class;
+            }
+            public java.lang.String messageName()
+            {
+                return org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.class.getSimpleName();
+            }
+            public java.lang.String messageFullName()
+            {
+                return org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.class.getName();
+            }
+            //unused
+            public void writeTo(com.dyuproject.protostuff.Output output, org.apache.drill.exec.proto.BitControl.MajorFragmentPlan.Builder builder) throws java.io.IOException {}
+        }
+        public static java.lang.String getFieldName(int number)
+        {
+            switch(number)
+            {
+                case 1: return "majorFragmentId";
+                case 2: return "fragmentPlan";
+                default: return null;
+            }
+        }
+        public static int getFieldNumber(java.lang.String name)
+        {
+            java.lang.Integer number = fieldMap.get(name);
+            return number == null ? 0 : number.intValue();
+        }
+        private static final java.util.HashMap<java.lang.String,java.lang.Integer> fieldMap = new java.util.HashMap<java.lang.String,java.lang.Integer>();
+        static
+        {
+            fieldMap.put("majorFragmentId", 1);
+            fieldMap.put("fragmentPlan", 2);
         }
     }
 
@@ -672,6 +807,12 @@ public final class SchemaBitControl
                 for(org.apache.drill.exec.proto.BitControl.Collector collector : message.getCollectorList())
                     output.writeObject(17, collector, org.apache.drill.exec.proto.SchemaBitControl.Collector.WRITE, true);
 
+                if(message.hasFragmentPlan())
+                    output.writeByteArray(18, message.getFragmentPlan().toByteArray(), false);
+
+                if(message.hasFragmentPlanDelta())
+                    output.writeByteArray(19, message.getFragmentPlanDelta().toByteArray(), false);
+
             }
             public boolean isInitialized(org.apache.drill.exec.proto.BitControl.PlanFragment message)
             {
@@ -761,6 +902,12 @@ public final class SchemaBitControl
                         case 17:
                             builder.addCollector(input.mergeObject(org.apache.drill.exec.proto.BitControl.Collector.newBuilder(), org.apache.drill.exec.proto.SchemaBitControl.Collector.MERGE));
 
+                            break;
+                        case 18:
+                            builder.setFragmentPlan(com.google.protobuf.ByteString.copyFrom(input.readByteArray()));
+                            break;
+                        case 19:
+                            builder.setFragmentPlanDelta(com.google.protobuf.ByteString.copyFrom(input.readByteArray()));
                             break;
                         default:
                             input.handleUnknownField(number, this);
@@ -817,6 +964,8 @@ public final class SchemaBitControl
                 case 15: return "optionsJson";
                 case 16: return "context";
                 case 17: return "collector";
+                case 18: return "fragmentPlan";
+                case 19: return "fragmentPlanDelta";
                 default: return null;
             }
         }
@@ -843,6 +992,8 @@ public final class SchemaBitControl
             fieldMap.put("optionsJson", 15);
             fieldMap.put("context", 16);
             fieldMap.put("collector", 17);
+            fieldMap.put("fragmentPlan", 18);
+            fieldMap.put("fragmentPlanDelta", 19);
         }
     }
 
@@ -1484,6 +1484,8 @@ public final class SchemaUserBitShared
                 if(message.hasDef())
                     output.writeObject(3, message.getDef(), org.apache.drill.exec.proto.SchemaUserBitShared.RecordBatchDef.WRITE, false);
 
+                if(message.hasCompression())
+                    output.writeEnum(4, message.getCompression().getNumber(), false);
             }
             public boolean isInitialized(org.apache.drill.exec.proto.UserBitShared.QueryData message)
             {
@@ -1533,6 +1535,9 @@ public final class SchemaUserBitShared
                         case 3:
                             builder.setDef(input.mergeObject(org.apache.drill.exec.proto.UserBitShared.RecordBatchDef.newBuilder(), org.apache.drill.exec.proto.SchemaUserBitShared.RecordBatchDef.MERGE));
 
+                            break;
+                        case 4:
+                            builder.setCompression(org.apache.drill.exec.proto.UserBitShared.CompressionCodec.valueOf(input.readEnum()));
                             break;
                         default:
                             input.handleUnknownField(number, this);
@@ -1577,6 +1582,7 @@ public final class SchemaUserBitShared
                 case 1: return "queryId";
                 case 2: return "rowCount";
                 case 3: return "def";
+                case 4: return "compression";
                 default: return null;
             }
         }
@@ -1591,6 +1597,7 @@ public final class SchemaUserBitShared
             fieldMap.put("queryId", 1);
             fieldMap.put("rowCount", 2);
             fieldMap.put("def", 3);
+            fieldMap.put("compression", 4);
         }
     }
 
@@ -1794,6 +1801,9 @@ public final class SchemaUserBitShared
                     output.writeInt64(18, message.getPlanEnd(), false);
                 if(message.hasQueueWaitEnd())
                     output.writeInt64(19, message.getQueueWaitEnd(), false);
+                for(org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile planningPhaseProfile : message.getPlanningPhaseProfileList())
+                    output.writeObject(20, planningPhaseProfile, org.apache.drill.exec.proto.SchemaUserBitShared.PlanningPhaseProfile.WRITE, true);
+
             }
             public boolean isInitialized(org.apache.drill.exec.proto.UserBitShared.QueryProfile message)
             {
@@ -1892,6 +1902,10 @@ public final class SchemaUserBitShared
                             break;
                         case 19:
                             builder.setQueueWaitEnd(input.readInt64());
+                            break;
+                        case 20:
+                            builder.addPlanningPhaseProfile(input.mergeObject(org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.newBuilder(), org.apache.drill.exec.proto.SchemaUserBitShared.PlanningPhaseProfile.MERGE));
+
                             break;
                         default:
                             input.handleUnknownField(number, this);
@@ -1952,6 +1966,7 @@ public final class SchemaUserBitShared
                 case 17: return "optionsJson";
                 case 18: return "planEnd";
                 case 19: return "queueWaitEnd";
+                case 20: return "planningPhaseProfile";
                 default: return null;
             }
         }
@@ -1982,6 +1997,132 @@ public final class SchemaUserBitShared
             fieldMap.put("optionsJson", 17);
             fieldMap.put("planEnd", 18);
             fieldMap.put("queueWaitEnd", 19);
+            fieldMap.put("planningPhaseProfile", 20);
+        }
+    }
+
+    public static final class PlanningPhaseProfile
+    {
+        public static final org.apache.drill.exec.proto.SchemaUserBitShared.PlanningPhaseProfile.MessageSchema WRITE =
+            new org.apache.drill.exec.proto.SchemaUserBitShared.PlanningPhaseProfile.MessageSchema();
+        public static final org.apache.drill.exec.proto.SchemaUserBitShared.PlanningPhaseProfile.BuilderSchema MERGE =
+            new org.apache.drill.exec.proto.SchemaUserBitShared.PlanningPhaseProfile.BuilderSchema();
+        
+        public static class MessageSchema implements com.dyuproject.protostuff.Schema<org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile>
+        {
+            public void writeTo(com.dyuproject.protostuff.Output output, org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile message) throws java.io.IOException
+            {
+                if(message.hasName())
+                    output.writeString(1, message.getName(), false);
+                if(message.hasCount())
+                    output.writeInt32(2, message.getCount(), false);
+                if(message.hasTimeNanos())
+                    output.writeInt64(3, message.getTimeNanos(), false);
+            }
+            public boolean isInitialized(org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile message)
+            {
+                return message.isInitialized();
+            }
+            public java.lang.String getFieldName(int number)
+            {
+                return org.apache.drill.exec.proto.SchemaUserBitShared.PlanningPhaseProfile.getFieldName(number);
+            }
+            public int getFieldNumber(java.lang.String name)
+            {
+                return org.apache.drill.exec.proto.SchemaUserBitShared.PlanningPhaseProfile.getFieldNumber(name);
+            }
+            public java.lang.Class<org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile> typeClass()
+            {
+                return org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.class;
+            }
+            public java.lang.String messageName()
+            {
+                return org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.class.getSimpleName();
+            }
+            public java.lang.String messageFullName()
+            {
+                return org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.class.getName();
+            }
+            //unused
+            public void mergeFrom(com.dyuproject.protostuff.Input input, org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile message) throws java.io.IOException {}
+            public org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile newMessage() { return null; }
+        }
+        public static class BuilderSchema implements com.dyuproject.protostuff.Schema<org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder>
+        {
+            public void mergeFrom(com.dyuproject.protostuff.Input input, org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder builder) throws java.io.IOException
+            {
+                for(int number = input.readFieldNumber(this);; number = input.readFieldNumber(this))
+                {
+                    switch(number)
+                    {
+                        case 0:
+                            return;
+                        case 1:
+                            builder.setName(input.readString());
+                            break;
+                        case 2:
+                            builder.setCount(input.readInt32());
+                            break;
+                        case 3:
+                            builder.setTimeNanos(input.readInt64());
+                            break;
+                        default:
+                            input.handleUnknownField(number, this);
+                    }
+                }
+            }
+            public boolean isInitialized(org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder builder)
+            {
+                return builder.isInitialized();
+            }
+            public org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder newMessage()
+            {
+                return org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.newBuilder();
+            }
+            public java.lang.String getFieldName(int number)
+            {
+                return org.apache.drill.exec.proto.SchemaUserBitShared.PlanningPhaseProfile.getFieldName(number);
+            }
+            public int getFieldNumber(java.lang.String name)
+            {
+                return org.apache.drill.exec.proto.SchemaUserBitShared.PlanningPhaseProfile.getFieldNumber(name);
+            }
+            public java.lang.Class<org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder> typeClass()
+            {
+                return org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder.class;
+            }
+            public java.lang.String messageName()
+            {
+                return org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.class.getSimpleName();
+            }
+            public java.lang.String messageFullName()
+            {
+                return org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.class.getName();
+            }
+            //unused
+            public void writeTo(com.dyuproject.protostuff.Output output, org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder builder) throws java.io.IOException {}
+        }
+        public static java.lang.String getFieldName(int number)
+        {
+            switch(number)
+            {
+                case 1: return "name";
+                case 2: return "count";
+                case 3: return "timeNanos";
+                default: return null;
+            }
+        }
+        public static int getFieldNumber(java.lang.String name)
+        {
+            java.lang.Integer number = fieldMap.get(name);
+            return number == null ? 0 : number.intValue();
+        }
+        private static final java.util.HashMap<java.lang.String,java.lang.Integer> fieldMap = new java.util.HashMap<java.lang.String,java.lang.Integer>();
+        static
+        {
+            fieldMap.put("name", 1);
+            fieldMap.put("count", 2);
+            fieldMap.put("timeNanos", 3);
         }
     }
 
@@ -447,6 +447,8 @@ public final class SchemaUserProtos
 
                 if(message.hasSaslSupport())
                     output.writeEnum(9, message.getSaslSupport().getNumber(), false);
+                if(message.hasResultCompression())
+                    output.writeEnum(10, message.getResultCompression().getNumber(), false);
             }
             public boolean isInitialized(org.apache.drill.exec.proto.UserProtos.UserToBitHandshake message)
             {
@@ -516,6 +518,9 @@ public final class SchemaUserProtos
                         case 9:
                             builder.setSaslSupport(org.apache.drill.exec.proto.UserProtos.SaslSupport.valueOf(input.readEnum()));
                             break;
+                        case 10:
+                            builder.setResultCompression(org.apache.drill.exec.proto.UserBitShared.CompressionCodec.valueOf(input.readEnum()));
+                            break;
                         default:
                             input.handleUnknownField(number, this);
                     }
@@ -565,6 +570,7 @@ public final class SchemaUserProtos
                 case 7: return "supportTimeout";
                 case 8: return "clientInfos";
                 case 9: return "saslSupport";
+                case 10: return "resultCompression";
                 default: return null;
             }
         }
@@ -585,6 +591,7 @@ public final class SchemaUserProtos
             fieldMap.put("supportTimeout", 7);
             fieldMap.put("clientInfos", 8);
             fieldMap.put("saslSupport", 9);
+            fieldMap.put("resultCompression", 10);
         }
     }
 
@@ -1001,6 +1008,8 @@ public final class SchemaUserProtos
                     output.writeBool(9, message.getEncrypted(), false);
                 if(message.hasMaxWrappedSize())
                     output.writeInt32(10, message.getMaxWrappedSize(), false);
+                if(message.hasResultCompression())
+                    output.writeEnum(11, message.getResultCompression().getNumber(), false);
             }
             public boolean isInitialized(org.apache.drill.exec.proto.UserProtos.BitToUserHandshake message)
             {
@@ -1068,6 +1077,9 @@ public final class SchemaUserProtos
                         case 10:
                             builder.setMaxWrappedSize(input.readInt32());
                             break;
+                        case 11:
+                            builder.setResultCompression(org.apache.drill.exec.proto.UserBitShared.CompressionCodec.valueOf(input.readEnum()));
+                            break;
                         default:
                             input.handleUnknownField(number, this);
                     }
@@ -1117,6 +1129,7 @@ public final class SchemaUserProtos
                 case 8: return "supportedMethods";
                 case 9: return "encrypted";
                 case 10: return "maxWrappedSize";
+                case 11: return "resultCompression";
                 default: return null;
             }
         }
@@ -1137,6 +1150,7 @@ public final class SchemaUserProtos
             fieldMap.put("supportedMethods", 8);
             fieldMap.put("encrypted", 9);
             fieldMap.put("maxWrappedSize", 10);
+            fieldMap.put("resultCompression", 11);
         }
     }
 
@@ -3383,6 +3397,8 @@ public final class SchemaUserProtos
                 if(message.hasServerHandle())
                     output.writeObject(2, message.getServerHandle(), org.apache.drill.exec.proto.SchemaUserProtos.PreparedStatementHandle.WRITE, false);
 
+                if(message.hasParameterCount())
+                    output.writeInt32(3, message.getParameterCount(), false);
             }
             public boolean isInitialized(org.apache.drill.exec.proto.UserProtos.PreparedStatement message)
             {
@@ -3429,6 +3445,9 @@ public final class SchemaUserProtos
                         case 2:
                             builder.setServerHandle(input.mergeObject(org.apache.drill.exec.proto.UserProtos.PreparedStatementHandle.newBuilder(), org.apache.drill.exec.proto.SchemaUserProtos.PreparedStatementHandle.MERGE));
 
+                            break;
+                        case 3:
+                            builder.setParameterCount(input.readInt32());
                             break;
                         default:
                             input.handleUnknownField(number, this);
@@ -3472,6 +3491,7 @@ public final class SchemaUserProtos
             {
                 case 1: return "columns";
                 case 2: return "serverHandle";
+                case 3: return "parameterCount";
                 default: return null;
             }
         }
@@ -3485,6 +3505,139 @@ public final class SchemaUserProtos
         {
             fieldMap.put("columns", 1);
             fieldMap.put("serverHandle", 2);
+            fieldMap.put("parameterCount", 3);
+        }
+    }
+
+    public static final class PreparedStatementParameter
+    {
+        public static final org.apache.drill.exec.proto.SchemaUserProtos.PreparedStatementParameter.MessageSchema WRITE =
+            new org.apache.drill.exec.proto.SchemaUserProtos.PreparedStatementParameter.MessageSchema();
+        public static final org.apache.drill.exec.proto.SchemaUserProtos.PreparedStatementParameter.BuilderSchema MERGE =
+            new org.apache.drill.exec.proto.SchemaUserProtos.PreparedStatementParameter.BuilderSchema();
+        
+        public static class MessageSchema implements com.dyuproject.protostuff.Schema<org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter>
+        {
+            public void writeTo(com.dyuproject.protostuff.Output output, org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter message) throws java.io.IOException
+            {
+                if(message.hasBoolValue())
+                    output.writeBool(1, message.getBoolValue(), false);
+                if(message.hasLongValue())
+                    output.writeSInt64(2, message.getLongValue(), false);
+                if(message.hasDoubleValue())
+                    output.writeDouble(3, message.getDoubleValue(), false);
+                if(message.hasStringValue())
+                    output.writeString(4, message.getStringValue(), false);
+            }
+            public boolean isInitialized(org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter message)
+            {
+                return message.isInitialized();
+            }
+            public java.lang.String getFieldName(int number)
+            {
+                return org.apache.drill.exec.proto.SchemaUserProtos.PreparedStatementParameter.getFieldName(number);
+            }
+            public int getFieldNumber(java.lang.String name)
+            {
+                return org.apache.drill.exec.proto.SchemaUserProtos.PreparedStatementParameter.getFieldNumber(name);
+            }
+            public java.lang.Class<org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter> typeClass()
+            {
+                return org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.class;
+            }
+            public java.lang.String messageName()
+            {
+                return org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.class.getSimpleName();
+            }
+            public java.lang.String messageFullName()
+            {
+                return org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.class.getName();
+            }
+            //unused
+            public void mergeFrom(com.dyuproject.protostuff.Input input, org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter message) throws java.io.IOException {}
+            public org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter newMessage() { return null; }
+        }
+        public static class BuilderSchema implements com.dyuproject.protostuff.Schema<org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder>
+        {
+            public void mergeFrom(com.dyuproject.protostuff.Input input, org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder builder) throws java.io.IOException
+            {
+                for(int number = input.readFieldNumber(this);; number = input.readFieldNumber(this))
+                {
+                    switch(number)
+                    {
+                        case 0:
+                            return;
+                        case 1:
+                            builder.setBoolValue(input.readBool());
+                            break;
+                        case 2:
+                            builder.setLongValue(input.readSInt64());
+                            break;
+                        case 3:
+                            builder.setDoubleValue(input.readDouble());
+                            break;
+                        case 4:
+                            builder.setStringValue(input.readString());
+                            break;
+                        default:
+                            input.handleUnknownField(number, this);
+                    }
+                }
+            }
+            public boolean isInitialized(org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder builder)
+            {
+                return builder.isInitialized();
+            }
+            public org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder newMessage()
+            {
+                return org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.newBuilder();
+            }
+            public java.lang.String getFieldName(int number)
+            {
+                return org.apache.drill.exec.proto.SchemaUserProtos.PreparedStatementParameter.getFieldName(number);
+            }
+            public int getFieldNumber(java.lang.String name)
+            {
+                return org.apache.drill.exec.proto.SchemaUserProtos.PreparedStatementParameter.getFieldNumber(name);
+            }
+            public java.lang.Class<org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder> typeClass()
+            {
+                return org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder.class;
+            }
+            public java.lang.String messageName()
+            {
+                return org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.class.getSimpleName();
+            }
+            public java.lang.String messageFullName()
+            {
+                return org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.class.getName();
+            }
+            //unused
+            public void writeTo(com.dyuproject.protostuff.Output output, org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder builder) throws java.io.IOException {}
+        }
+        public static java.lang.String getFieldName(int number)
+        {
+            switch(number)
+            {
+                case 1: return "boolValue";
+                case 2: return "longValue";
+                case 3: return "doubleValue";
+                case 4: return "stringValue";
+                default: return null;
+            }
+        }
+        public static int getFieldNumber(java.lang.String name)
+        {
+            java.lang.Integer number = fieldMap.get(name);
+            return number == null ? 0 : number.intValue();
+        }
+        private static final java.util.HashMap<java.lang.String,java.lang.Integer> fieldMap = new java.util.HashMap<java.lang.String,java.lang.Integer>();
+        static
+        {
+            fieldMap.put("boolValue", 1);
+            fieldMap.put("longValue", 2);
+            fieldMap.put("doubleValue", 3);
+            fieldMap.put("stringValue", 4);
         }
     }
 
@@ -4440,6 +4593,9 @@ public final class SchemaUserProtos
                 if(message.hasPreparedStatementHandle())
                     output.writeObject(5, message.getPreparedStatementHandle(), org.apache.drill.exec.proto.SchemaUserProtos.PreparedStatementHandle.WRITE, false);
 
+                for(org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter parameters : message.getParametersList())
+                    output.writeObject(6, parameters, org.apache.drill.exec.proto.SchemaUserProtos.PreparedStatementParameter.WRITE, true);
+
             }
             public boolean isInitialized(org.apache.drill.exec.proto.UserProtos.RunQuery message)
             {
@@ -4495,6 +4651,10 @@ public final class SchemaUserProtos
                         case 5:
                             builder.setPreparedStatementHandle(input.mergeObject(org.apache.drill.exec.proto.UserProtos.PreparedStatementHandle.newBuilder(), org.apache.drill.exec.proto.SchemaUserProtos.PreparedStatementHandle.MERGE));
 
+                            break;
+                        case 6:
+                            builder.addParameters(input.mergeObject(org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.newBuilder(), org.apache.drill.exec.proto.SchemaUserProtos.PreparedStatementParameter.MERGE));
+
                             break;
                         default:
                             input.handleUnknownField(number, this);
@@ -4541,6 +4701,7 @@ public final class SchemaUserProtos
                 case 3: return "plan";
                 case 4: return "fragments";
                 case 5: return "preparedStatementHandle";
+                case 6: return "parameters";
                 default: return null;
             }
         }
@@ -4557,6 +4718,7 @@ public final class SchemaUserProtos
             fieldMap.put("plan", 3);
             fieldMap.put("fragments", 4);
             fieldMap.put("preparedStatementHandle", 5);
+            fieldMap.put("parameters", 6);
         }
     }
 
@@ -233,6 +233,88 @@ public final class UserBitShared {
     // @@protoc_insertion_point(enum_scope:exec.shared.QueryType)
   }
 
+  /**
+   * Protobuf enum {@code exec.shared.CompressionCodec}
+   */
+  public enum CompressionCodec
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>UNCOMPRESSED = 0;</code>
+     */
+    UNCOMPRESSED(0, 0),
+    /**
+     * <code>DEFLATE = 1;</code>
+     */
+    DEFLATE(1, 1),
+    ;
+
+    /**
+     * <code>UNCOMPRESSED = 0;</code>
+     */
+    public static final int UNCOMPRESSED_VALUE = 0;
+    /**
+     * <code>DEFLATE = 1;</code>
+     */
+    public static final int DEFLATE_VALUE = 1;
+
+
+    public final int getNumber() { return value; }
+
+    public static CompressionCodec valueOf(int value) {
+      switch (value) {
+        case 0: return UNCOMPRESSED;
+        case 1: return DEFLATE;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<CompressionCodec>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<CompressionCodec>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<CompressionCodec>() {
+            public CompressionCodec findValueByNumber(int number) {
+              return CompressionCodec.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.apache.drill.exec.proto.UserBitShared.getDescriptor().getEnumTypes().get(2);
+    }
+
+    private static final CompressionCodec[] VALUES = values();
+
+    public static CompressionCodec valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private CompressionCodec(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:exec.shared.CompressionCodec)
+  }
+
   /**
    * Protobuf enum {@code exec.shared.FragmentState}
    */
@@ -335,7 +417,7 @@ public final class UserBitShared {
     }
     public static final com.google.protobuf.Descriptors.EnumDescriptor
         getDescriptor() {
-      return org.apache.drill.exec.proto.UserBitShared.getDescriptor().getEnumTypes().get(2);
+      return org.apache.drill.exec.proto.UserBitShared.getDescriptor().getEnumTypes().get(3);
     }
 
     private static final FragmentState[] VALUES = values();
@@ -517,6 +599,10 @@ public final class UserBitShared {
      * <code>PCAP_SUB_SCAN = 37;</code>
      */
     PCAP_SUB_SCAN(37, 37),
+    /**
+     * <code>FLATTEN = 38;</code>
+     */
+    FLATTEN(38, 38),
     ;
 
     /**
@@ -671,6 +757,10 @@ public final class UserBitShared {
      * <code>PCAP_SUB_SCAN = 37;</code>
      */
     public static final int PCAP_SUB_SCAN_VALUE = 37;
+    /**
+     * <code>FLATTEN = 38;</code>
+     */
+    public static final int FLATTEN_VALUE = 38;
 
 
     public final int getNumber() { return value; }
@@ -715,6 +805,7 @@ public final class UserBitShared {
         case 35: return NESTED_LOOP_JOIN;
         case 36: return AVRO_SUB_SCAN;
         case 37: return PCAP_SUB_SCAN;
+        case 38: return FLATTEN;
         default: return null;
       }
     }
@@ -741,7 +832,7 @@ public final class UserBitShared {
     }
     public static final com.google.protobuf.Descriptors.EnumDescriptor
         getDescriptor() {
-      return org.apache.drill.exec.proto.UserBitShared.getDescriptor().getEnumTypes().get(3);
+      return org.apache.drill.exec.proto.UserBitShared.getDescriptor().getEnumTypes().get(4);
     }
 
     private static final CoreOperatorType[] VALUES = values();
@@ -850,7 +941,7 @@ public final class UserBitShared {
     }
     public static final com.google.protobuf.Descriptors.EnumDescriptor
         getDescriptor() {
-      return org.apache.drill.exec.proto.UserBitShared.getDescriptor().getEnumTypes().get(4);
+      return org.apache.drill.exec.proto.UserBitShared.getDescriptor().getEnumTypes().get(5);
     }
 
     private static final SaslStatus[] VALUES = values();
@@ -11309,6 +11400,24 @@ public final class UserBitShared {
      * <code>optional .exec.shared.RecordBatchDef def = 3;</code>
      */
     org.apache.drill.exec.proto.UserBitShared.RecordBatchDefOrBuilder getDefOrBuilder();
+
+    // optional .exec.shared.CompressionCodec compression = 4;
+    /**
+     * <code>optional .exec.shared.CompressionCodec compression = 4;</code>
+     *
+     * <pre>
+     * codec of the data body, only set if negotiated in the user handshake
+     * </pre>
+     */
+    boolean hasCompression();
+    /**
+     * <code>optional .exec.shared.CompressionCodec compression = 4;</code>
+     *
+     * <pre>
+     * codec of the data body, only set if negotiated in the user handshake
+     * </pre>
+     */
+    org.apache.drill.exec.proto.UserBitShared.CompressionCodec getCompression();
   }
   /**
    * Protobuf type {@code exec.shared.QueryData}
@@ -11397,6 +11506,17 @@ public final class UserBitShared {
               bitField0_ |= 0x00000004;
               break;
             }
+            case 32: {
+              int rawValue = input.readEnum();
+              org.apache.drill.exec.proto.UserBitShared.CompressionCodec value = org.apache.drill.exec.proto.UserBitShared.CompressionCodec.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(4, rawValue);
+              } else {
+                bitField0_ |= 0x00000008;
+                compression_ = value;
+              }
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -11497,10 +11617,35 @@ public final class UserBitShared {
       return def_;
     }
 
+    // optional .exec.shared.CompressionCodec compression = 4;
+    public static final int COMPRESSION_FIELD_NUMBER = 4;
+    private org.apache.drill.exec.proto.UserBitShared.CompressionCodec compression_;
+    /**
+     * <code>optional .exec.shared.CompressionCodec compression = 4;</code>
+     *
+     * <pre>
+     * codec of the data body, only set if negotiated in the user handshake
+     * </pre>
+     */
+    public boolean hasCompression() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .exec.shared.CompressionCodec compression = 4;</code>
+     *
+     * <pre>
+     * codec of the data body, only set if negotiated in the user handshake
+     * </pre>
+     */
+    public org.apache.drill.exec.proto.UserBitShared.CompressionCodec getCompression() {
+      return compression_;
+    }
+
     private void initFields() {
       queryId_ = org.apache.drill.exec.proto.UserBitShared.QueryId.getDefaultInstance();
       rowCount_ = 0;
       def_ = org.apache.drill.exec.proto.UserBitShared.RecordBatchDef.getDefaultInstance();
+      compression_ = org.apache.drill.exec.proto.UserBitShared.CompressionCodec.UNCOMPRESSED;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -11523,6 +11668,9 @@ public final class UserBitShared {
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         output.writeMessage(3, def_);
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeEnum(4, compression_.getNumber());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -11544,6 +11692,10 @@ public final class UserBitShared {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(3, def_);
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(4, compression_.getNumber());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -11681,6 +11833,8 @@ public final class UserBitShared {
           defBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000004);
+        compression_ = org.apache.drill.exec.proto.UserBitShared.CompressionCodec.UNCOMPRESSED;
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -11729,6 +11883,10 @@ public final class UserBitShared {
         } else {
           result.def_ = defBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.compression_ = compression_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -11754,6 +11912,9 @@ public final class UserBitShared {
         if (other.hasDef()) {
           mergeDef(other.getDef());
         }
+        if (other.hasCompression()) {
+          setCompression(other.getCompression());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -12048,6 +12209,58 @@ public final class UserBitShared {
         return defBuilder_;
       }
 
+      // optional .exec.shared.CompressionCodec compression = 4;
+      private org.apache.drill.exec.proto.UserBitShared.CompressionCodec compression_ = org.apache.drill.exec.proto.UserBitShared.CompressionCodec.UNCOMPRESSED;
+      /**
+       * <code>optional .exec.shared.CompressionCodec compression = 4;</code>
+       *
+       * <pre>
+       * codec of the data body, only set if negotiated in the user handshake
+       * </pre>
+       */
+      public boolean hasCompression() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .exec.shared.CompressionCodec compression = 4;</code>
+       *
+       * <pre>
+       * codec of the data body, only set if negotiated in the user handshake
+       * </pre>
+       */
+      public org.apache.drill.exec.proto.UserBitShared.CompressionCodec getCompression() {
+        return compression_;
+      }
+      /**
+       * <code>optional .exec.shared.CompressionCodec compression = 4;</code>
+       *
+       * <pre>
+       * codec of the data body, only set if negotiated in the user handshake
+       * </pre>
+       */
+      public Builder setCompression(org.apache.drill.exec.proto.UserBitShared.CompressionCodec value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000008;
+        compression_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .exec.shared.CompressionCodec compression = 4;</code>
+       *
+       * <pre>
+       * codec of the data body, only set if negotiated in the user handshake
+       * </pre>
+       */
+      public Builder clearCompression() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        compression_ = org.apache.drill.exec.proto.UserBitShared.CompressionCodec.UNCOMPRESSED;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:exec.shared.QueryData)
     }
 
@@ -13460,6 +13673,31 @@ public final class UserBitShared {
      * <code>optional int64 queueWaitEnd = 19;</code>
      */
     long getQueueWaitEnd();
+
+    // repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;
+    /**
+     * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+     */
+    java.util.List<org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile> 
+        getPlanningPhaseProfileList();
+    /**
+     * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+     */
+    org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile getPlanningPhaseProfile(int index);
+    /**
+     * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+     */
+    int getPlanningPhaseProfileCount();
+    /**
+     * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+     */
+    java.util.List<? extends org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfileOrBuilder> 
+        getPlanningPhaseProfileOrBuilderList();
+    /**
+     * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+     */
+    org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfileOrBuilder getPlanningPhaseProfileOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code exec.shared.QueryProfile}
@@ -13638,6 +13876,14 @@ public final class UserBitShared {
               queueWaitEnd_ = input.readInt64();
               break;
             }
+            case 162: {
+              if (!((mutable_bitField0_ & 0x00080000) == 0x00080000)) {
+                planningPhaseProfile_ = new java.util.ArrayList<org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile>();
+                mutable_bitField0_ |= 0x00080000;
+              }
+              planningPhaseProfile_.add(input.readMessage(org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.PARSER, extensionRegistry));
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -13649,6 +13895,9 @@ public final class UserBitShared {
         if (((mutable_bitField0_ & 0x00000400) == 0x00000400)) {
           fragmentProfile_ = java.util.Collections.unmodifiableList(fragmentProfile_);
         }
+        if (((mutable_bitField0_ & 0x00080000) == 0x00080000)) {
+          planningPhaseProfile_ = java.util.Collections.unmodifiableList(planningPhaseProfile_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -14233,6 +14482,42 @@ public final class UserBitShared {
       return queueWaitEnd_;
     }
 
+    // repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;
+    public static final int PLANNING_PHASE_PROFILE_FIELD_NUMBER = 20;
+    private java.util.List<org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile> planningPhaseProfile_;
+    /**
+     * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+     */
+    public java.util.List<org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile> getPlanningPhaseProfileList() {
+      return planningPhaseProfile_;
+    }
+    /**
+     * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+     */
+    public java.util.List<? extends org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfileOrBuilder> 
+        getPlanningPhaseProfileOrBuilderList() {
+      return planningPhaseProfile_;
+    }
+    /**
+     * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+     */
+    public int getPlanningPhaseProfileCount() {
+      return planningPhaseProfile_.size();
+    }
+    /**
+     * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+     */
+    public org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile getPlanningPhaseProfile(int index) {
+      return planningPhaseProfile_.get(index);
+    }
+    /**
+     * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+     */
+    public org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfileOrBuilder getPlanningPhaseProfileOrBuilder(
+        int index) {
+      return planningPhaseProfile_.get(index);
+    }
+
     private void initFields() {
       id_ = org.apache.drill.exec.proto.UserBitShared.QueryId.getDefaultInstance();
       type_ = org.apache.drill.exec.proto.UserBitShared.QueryType.SQL;
@@ -14253,6 +14538,7 @@ public final class UserBitShared {
       optionsJson_ = "";
       planEnd_ = 0L;
       queueWaitEnd_ = 0L;
+      planningPhaseProfile_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -14323,6 +14609,9 @@ public final class UserBitShared {
       if (((bitField0_ & 0x00020000) == 0x00020000)) {
         output.writeInt64(19, queueWaitEnd_);
       }
+      for (int i = 0; i < planningPhaseProfile_.size(); i++) {
+        output.writeMessage(20, planningPhaseProfile_.get(i));
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -14408,6 +14697,10 @@ public final class UserBitShared {
         size += com.google.protobuf.CodedOutputStream
           .computeInt64Size(19, queueWaitEnd_);
       }
+      for (int i = 0; i < planningPhaseProfile_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(20, planningPhaseProfile_.get(i));
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -14519,6 +14812,7 @@ public final class UserBitShared {
           getIdFieldBuilder();
           getForemanFieldBuilder();
           getFragmentProfileFieldBuilder();
+          getPlanningPhaseProfileFieldBuilder();
         }
       }
       private static Builder create() {
@@ -14577,6 +14871,12 @@ public final class UserBitShared {
         bitField0_ = (bitField0_ & ~0x00020000);
         queueWaitEnd_ = 0L;
         bitField0_ = (bitField0_ & ~0x00040000);
+        if (planningPhaseProfileBuilder_ == null) {
+          planningPhaseProfile_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00080000);
+        } else {
+          planningPhaseProfileBuilder_.clear();
+        }
         return this;
       }
 
@@ -14694,6 +14994,15 @@ public final class UserBitShared {
           to_bitField0_ |= 0x00020000;
         }
         result.queueWaitEnd_ = queueWaitEnd_;
+        if (planningPhaseProfileBuilder_ == null) {
+          if (((bitField0_ & 0x00080000) == 0x00080000)) {
+            planningPhaseProfile_ = java.util.Collections.unmodifiableList(planningPhaseProfile_);
+            bitField0_ = (bitField0_ & ~0x00080000);
+          }
+          result.planningPhaseProfile_ = planningPhaseProfile_;
+        } else {
+          result.planningPhaseProfile_ = planningPhaseProfileBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -14806,6 +15115,32 @@ public final class UserBitShared {
         if (other.hasQueueWaitEnd()) {
           setQueueWaitEnd(other.getQueueWaitEnd());
         }
+        if (planningPhaseProfileBuilder_ == null) {
+          if (!other.planningPhaseProfile_.isEmpty()) {
+            if (planningPhaseProfile_.isEmpty()) {
+              planningPhaseProfile_ = other.planningPhaseProfile_;
+              bitField0_ = (bitField0_ & ~0x00080000);
+            } else {
+              ensurePlanningPhaseProfileIsMutable();
+              planningPhaseProfile_.addAll(other.planningPhaseProfile_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.planningPhaseProfile_.isEmpty()) {
+            if (planningPhaseProfileBuilder_.isEmpty()) {
+              planningPhaseProfileBuilder_.dispose();
+              planningPhaseProfileBuilder_ = null;
+              planningPhaseProfile_ = other.planningPhaseProfile_;
+              bitField0_ = (bitField0_ & ~0x00080000);
+              planningPhaseProfileBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getPlanningPhaseProfileFieldBuilder() : null;
+            } else {
+              planningPhaseProfileBuilder_.addAllMessages(other.planningPhaseProfile_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -16169,63 +16504,946 @@ public final class UserBitShared {
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:exec.shared.QueryProfile)
-    }
-
-    static {
-      defaultInstance = new QueryProfile(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:exec.shared.QueryProfile)
-  }
-
-  public interface MajorFragmentProfileOrBuilder
-      extends com.google.protobuf.MessageOrBuilder {
+      // repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;
+      private java.util.List<org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile> planningPhaseProfile_ =
+        java.util.Collections.emptyList();
+      private void ensurePlanningPhaseProfileIsMutable() {
+        if (!((bitField0_ & 0x00080000) == 0x00080000)) {
+          planningPhaseProfile_ = new java.util.ArrayList<org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile>(planningPhaseProfile_);
+          bitField0_ |= 0x00080000;
+         }
+      }
 
-    // optional int32 major_fragment_id = 1;
-    /**
-     * <code>optional int32 major_fragment_id = 1;</code>
-     */
-    boolean hasMajorFragmentId();
-    /**
-     * <code>optional int32 major_fragment_id = 1;</code>
-     */
-    int getMajorFragmentId();
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile, org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder, org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfileOrBuilder> planningPhaseProfileBuilder_;
 
-    // repeated .exec.shared.MinorFragmentProfile minor_fragment_profile = 2;
-    /**
-     * <code>repeated .exec.shared.MinorFragmentProfile minor_fragment_profile = 2;</code>
-     */
-    java.util.List<org.apache.drill.exec.proto.UserBitShared.MinorFragmentProfile> 
-        getMinorFragmentProfileList();
-    /**
-     * <code>repeated .exec.shared.MinorFragmentProfile minor_fragment_profile = 2;</code>
-     */
-    org.apache.drill.exec.proto.UserBitShared.MinorFragmentProfile getMinorFragmentProfile(int index);
-    /**
-     * <code>repeated .exec.shared.MinorFragmentProfile minor_fragment_profile = 2;</code>
-     */
-    int getMinorFragmentProfileCount();
-    /**
-     * <code>repeated .exec.shared.MinorFragmentProfile minor_fragment_profile = 2;</code>
-     */
-    java.util.List<? extends org.apache.drill.exec.proto.UserBitShared.MinorFragmentProfileOrBuilder> 
-        getMinorFragmentProfileOrBuilderList();
-    /**
-     * <code>repeated .exec.shared.MinorFragmentProfile minor_fragment_profile = 2;</code>
-     */
-    org.apache.drill.exec.proto.UserBitShared.MinorFragmentProfileOrBuilder getMinorFragmentProfileOrBuilder(
-        int index);
-  }
-  /**
-   * Protobuf type {@code exec.shared.MajorFragmentProfile}
-   */
-  public static final class MajorFragmentProfile extends
-      com.google.protobuf.GeneratedMessage
-      implements MajorFragmentProfileOrBuilder {
-    // Use MajorFragmentProfile.newBuilder() to construct.
-    private MajorFragmentProfile(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public java.util.List<org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile> getPlanningPhaseProfileList() {
+        if (planningPhaseProfileBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(planningPhaseProfile_);
+        } else {
+          return planningPhaseProfileBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public int getPlanningPhaseProfileCount() {
+        if (planningPhaseProfileBuilder_ == null) {
+          return planningPhaseProfile_.size();
+        } else {
+          return planningPhaseProfileBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile getPlanningPhaseProfile(int index) {
+        if (planningPhaseProfileBuilder_ == null) {
+          return planningPhaseProfile_.get(index);
+        } else {
+          return planningPhaseProfileBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public Builder setPlanningPhaseProfile(
+          int index, org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile value) {
+        if (planningPhaseProfileBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlanningPhaseProfileIsMutable();
+          planningPhaseProfile_.set(index, value);
+          onChanged();
+        } else {
+          planningPhaseProfileBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public Builder setPlanningPhaseProfile(
+          int index, org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder builderForValue) {
+        if (planningPhaseProfileBuilder_ == null) {
+          ensurePlanningPhaseProfileIsMutable();
+          planningPhaseProfile_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          planningPhaseProfileBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public Builder addPlanningPhaseProfile(org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile value) {
+        if (planningPhaseProfileBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlanningPhaseProfileIsMutable();
+          planningPhaseProfile_.add(value);
+          onChanged();
+        } else {
+          planningPhaseProfileBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public Builder addPlanningPhaseProfile(
+          int index, org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile value) {
+        if (planningPhaseProfileBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlanningPhaseProfileIsMutable();
+          planningPhaseProfile_.add(index, value);
+          onChanged();
+        } else {
+          planningPhaseProfileBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public Builder addPlanningPhaseProfile(
+          org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder builderForValue) {
+        if (planningPhaseProfileBuilder_ == null) {
+          ensurePlanningPhaseProfileIsMutable();
+          planningPhaseProfile_.add(builderForValue.build());
+          onChanged();
+        } else {
+          planningPhaseProfileBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public Builder addPlanningPhaseProfile(
+          int index, org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder builderForValue) {
+        if (planningPhaseProfileBuilder_ == null) {
+          ensurePlanningPhaseProfileIsMutable();
+          planningPhaseProfile_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          planningPhaseProfileBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public Builder addAllPlanningPhaseProfile(
+          java.lang.Iterable<? extends org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile> values) {
+        if (planningPhaseProfileBuilder_ == null) {
+          ensurePlanningPhaseProfileIsMutable();
+          super.addAll(values, planningPhaseProfile_);
+          onChanged();
+        } else {
+          planningPhaseProfileBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public Builder clearPlanningPhaseProfile() {
+        if (planningPhaseProfileBuilder_ == null) {
+          planningPhaseProfile_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00080000);
+          onChanged();
+        } else {
+          planningPhaseProfileBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public Builder removePlanningPhaseProfile(int index) {
+        if (planningPhaseProfileBuilder_ == null) {
+          ensurePlanningPhaseProfileIsMutable();
+          planningPhaseProfile_.remove(index);
+          onChanged();
+        } else {
+          planningPhaseProfileBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder getPlanningPhaseProfileBuilder(
+          int index) {
+        return getPlanningPhaseProfileFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfileOrBuilder getPlanningPhaseProfileOrBuilder(
+          int index) {
+        if (planningPhaseProfileBuilder_ == null) {
+          return planningPhaseProfile_.get(index);  } else {
+          return planningPhaseProfileBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public java.util.List<? extends org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfileOrBuilder> 
+           getPlanningPhaseProfileOrBuilderList() {
+        if (planningPhaseProfileBuilder_ != null) {
+          return planningPhaseProfileBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(planningPhaseProfile_);
+        }
+      }
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder addPlanningPhaseProfileBuilder() {
+        return getPlanningPhaseProfileFieldBuilder().addBuilder(
+            org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder addPlanningPhaseProfileBuilder(
+          int index) {
+        return getPlanningPhaseProfileFieldBuilder().addBuilder(
+            index, org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .exec.shared.PlanningPhaseProfile planning_phase_profile = 20;</code>
+       */
+      public java.util.List<org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder> 
+           getPlanningPhaseProfileBuilderList() {
+        return getPlanningPhaseProfileFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile, org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder, org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfileOrBuilder> 
+          getPlanningPhaseProfileFieldBuilder() {
+        if (planningPhaseProfileBuilder_ == null) {
+          planningPhaseProfileBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile, org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder, org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfileOrBuilder>(
+                  planningPhaseProfile_,
+                  ((bitField0_ & 0x00080000) == 0x00080000),
+                  getParentForChildren(),
+                  isClean());
+          planningPhaseProfile_ = null;
+        }
+        return planningPhaseProfileBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:exec.shared.QueryProfile)
+    }
+
+    static {
+      defaultInstance = new QueryProfile(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:exec.shared.QueryProfile)
+  }
+
+  public interface PlanningPhaseProfileOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional string name = 1;
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    boolean hasName();
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    java.lang.String getName();
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    // optional int32 count = 2;
+    /**
+     * <code>optional int32 count = 2;</code>
+     */
+    boolean hasCount();
+    /**
+     * <code>optional int32 count = 2;</code>
+     */
+    int getCount();
+
+    // optional int64 time_nanos = 3;
+    /**
+     * <code>optional int64 time_nanos = 3;</code>
+     */
+    boolean hasTimeNanos();
+    /**
+     * <code>optional int64 time_nanos = 3;</code>
+     */
+    long getTimeNanos();
+  }
+  /**
+   * Protobuf type {@code exec.shared.PlanningPhaseProfile}
+   *
+   * <pre>
+   *
+   * Time spent by the planner in a phase of the planning of a query, such as partition pruning.
+   * </pre>
+   */
+  public static final class PlanningPhaseProfile extends
+      com.google.protobuf.GeneratedMessage
+      implements PlanningPhaseProfileOrBuilder {
+    // Use PlanningPhaseProfile.newBuilder() to construct.
+    private PlanningPhaseProfile(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private PlanningPhaseProfile(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final PlanningPhaseProfile defaultInstance;
+    public static PlanningPhaseProfile getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public PlanningPhaseProfile getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PlanningPhaseProfile(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              name_ = input.readBytes();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              count_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              timeNanos_ = input.readInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.apache.drill.exec.proto.UserBitShared.internal_static_exec_shared_PlanningPhaseProfile_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.apache.drill.exec.proto.UserBitShared.internal_static_exec_shared_PlanningPhaseProfile_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.class, org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<PlanningPhaseProfile> PARSER =
+        new com.google.protobuf.AbstractParser<PlanningPhaseProfile>() {
+      public PlanningPhaseProfile parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PlanningPhaseProfile(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PlanningPhaseProfile> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional string name = 1;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private java.lang.Object name_;
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int32 count = 2;
+    public static final int COUNT_FIELD_NUMBER = 2;
+    private int count_;
+    /**
+     * <code>optional int32 count = 2;</code>
+     */
+    public boolean hasCount() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int32 count = 2;</code>
+     */
+    public int getCount() {
+      return count_;
+    }
+
+    // optional int64 time_nanos = 3;
+    public static final int TIME_NANOS_FIELD_NUMBER = 3;
+    private long timeNanos_;
+    /**
+     * <code>optional int64 time_nanos = 3;</code>
+     */
+    public boolean hasTimeNanos() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int64 time_nanos = 3;</code>
+     */
+    public long getTimeNanos() {
+      return timeNanos_;
+    }
+
+    private void initFields() {
+      name_ = "";
+      count_ = 0;
+      timeNanos_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, count_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt64(3, timeNanos_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, count_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, timeNanos_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code exec.shared.PlanningPhaseProfile}
+     *
+     * <pre>
+     *
+     * Time spent by the planner in a phase of the planning of a query, such as partition pruning.
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfileOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.apache.drill.exec.proto.UserBitShared.internal_static_exec_shared_PlanningPhaseProfile_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.apache.drill.exec.proto.UserBitShared.internal_static_exec_shared_PlanningPhaseProfile_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.class, org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.Builder.class);
+      }
+
+      // Construct using org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        count_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        timeNanos_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.apache.drill.exec.proto.UserBitShared.internal_static_exec_shared_PlanningPhaseProfile_descriptor;
+      }
+
+      public org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile getDefaultInstanceForType() {
+        return org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.getDefaultInstance();
+      }
+
+      public org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile build() {
+        org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile buildPartial() {
+        org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile result = new org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.name_ = name_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.count_ = count_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.timeNanos_ = timeNanos_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile) {
+          return mergeFrom((org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile other) {
+        if (other == org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.hasCount()) {
+          setCount(other.getCount());
+        }
+        if (other.hasTimeNanos()) {
+          setTimeNanos(other.getTimeNanos());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.apache.drill.exec.proto.UserBitShared.PlanningPhaseProfile) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional string name = 1;
+      private java.lang.Object name_ = "";
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 count = 2;
+      private int count_ ;
+      /**
+       * <code>optional int32 count = 2;</code>
+       */
+      public boolean hasCount() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int32 count = 2;</code>
+       */
+      public int getCount() {
+        return count_;
+      }
+      /**
+       * <code>optional int32 count = 2;</code>
+       */
+      public Builder setCount(int value) {
+        bitField0_ |= 0x00000002;
+        count_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 count = 2;</code>
+       */
+      public Builder clearCount() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        count_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 time_nanos = 3;
+      private long timeNanos_ ;
+      /**
+       * <code>optional int64 time_nanos = 3;</code>
+       */
+      public boolean hasTimeNanos() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int64 time_nanos = 3;</code>
+       */
+      public long getTimeNanos() {
+        return timeNanos_;
+      }
+      /**
+       * <code>optional int64 time_nanos = 3;</code>
+       */
+      public Builder setTimeNanos(long value) {
+        bitField0_ |= 0x00000004;
+        timeNanos_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 time_nanos = 3;</code>
+       */
+      public Builder clearTimeNanos() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        timeNanos_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:exec.shared.PlanningPhaseProfile)
+    }
+
+    static {
+      defaultInstance = new PlanningPhaseProfile(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:exec.shared.PlanningPhaseProfile)
+  }
+
+  public interface MajorFragmentProfileOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional int32 major_fragment_id = 1;
+    /**
+     * <code>optional int32 major_fragment_id = 1;</code>
+     */
+    boolean hasMajorFragmentId();
+    /**
+     * <code>optional int32 major_fragment_id = 1;</code>
+     */
+    int getMajorFragmentId();
+
+    // repeated .exec.shared.MinorFragmentProfile minor_fragment_profile = 2;
+    /**
+     * <code>repeated .exec.shared.MinorFragmentProfile minor_fragment_profile = 2;</code>
+     */
+    java.util.List<org.apache.drill.exec.proto.UserBitShared.MinorFragmentProfile> 
+        getMinorFragmentProfileList();
+    /**
+     * <code>repeated .exec.shared.MinorFragmentProfile minor_fragment_profile = 2;</code>
+     */
+    org.apache.drill.exec.proto.UserBitShared.MinorFragmentProfile getMinorFragmentProfile(int index);
+    /**
+     * <code>repeated .exec.shared.MinorFragmentProfile minor_fragment_profile = 2;</code>
+     */
+    int getMinorFragmentProfileCount();
+    /**
+     * <code>repeated .exec.shared.MinorFragmentProfile minor_fragment_profile = 2;</code>
+     */
+    java.util.List<? extends org.apache.drill.exec.proto.UserBitShared.MinorFragmentProfileOrBuilder> 
+        getMinorFragmentProfileOrBuilderList();
+    /**
+     * <code>repeated .exec.shared.MinorFragmentProfile minor_fragment_profile = 2;</code>
+     */
+    org.apache.drill.exec.proto.UserBitShared.MinorFragmentProfileOrBuilder getMinorFragmentProfileOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code exec.shared.MajorFragmentProfile}
+   */
+  public static final class MajorFragmentProfile extends
+      com.google.protobuf.GeneratedMessage
+      implements MajorFragmentProfileOrBuilder {
+    // Use MajorFragmentProfile.newBuilder() to construct.
+    private MajorFragmentProfile(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
@@ -23372,6 +24590,11 @@ public final class UserBitShared {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_exec_shared_QueryProfile_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_exec_shared_PlanningPhaseProfile_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_exec_shared_PlanningPhaseProfile_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_exec_shared_MajorFragmentProfile_descriptor;
   private static
@@ -23466,82 +24689,89 @@ public final class UserBitShared {
       "BError\"z\n\nQueryState\022\014\n\010STARTING\020\000\022\013\n\007RU" +
       "NNING\020\001\022\r\n\tCOMPLETED\020\002\022\014\n\010CANCELED\020\003\022\n\n\006" +
       "FAILED\020\004\022\032\n\026CANCELLATION_REQUESTED\020\005\022\014\n\010" +
-      "ENQUEUED\020\006\"p\n\tQueryData\022&\n\010query_id\030\001 \001(" +
-      "\0132\024.exec.shared.QueryId\022\021\n\trow_count\030\002 \001" +
-      "(\005\022(\n\003def\030\003 \001(\0132\033.exec.shared.RecordBatc" +
-      "hDef\"\255\001\n\tQueryInfo\022\r\n\005query\030\001 \001(\t\022\r\n\005sta" +
-      "rt\030\002 \001(\003\0222\n\005state\030\003 \001(\0162#.exec.shared.Qu",
-      "eryResult.QueryState\022\017\n\004user\030\004 \001(\t:\001-\022\'\n" +
-      "\007foreman\030\005 \001(\0132\026.exec.DrillbitEndpoint\022\024" +
-      "\n\014options_json\030\006 \001(\t\"\367\003\n\014QueryProfile\022 \n" +
-      "\002id\030\001 \001(\0132\024.exec.shared.QueryId\022$\n\004type\030" +
-      "\002 \001(\0162\026.exec.shared.QueryType\022\r\n\005start\030\003" +
-      " \001(\003\022\013\n\003end\030\004 \001(\003\022\r\n\005query\030\005 \001(\t\022\014\n\004plan" +
-      "\030\006 \001(\t\022\'\n\007foreman\030\007 \001(\0132\026.exec.DrillbitE" +
-      "ndpoint\0222\n\005state\030\010 \001(\0162#.exec.shared.Que" +
-      "ryResult.QueryState\022\027\n\017total_fragments\030\t" +
-      " \001(\005\022\032\n\022finished_fragments\030\n \001(\005\022;\n\020frag",
-      "ment_profile\030\013 \003(\0132!.exec.shared.MajorFr" +
-      "agmentProfile\022\017\n\004user\030\014 \001(\t:\001-\022\r\n\005error\030" +
-      "\r \001(\t\022\024\n\014verboseError\030\016 \001(\t\022\020\n\010error_id\030" +
-      "\017 \001(\t\022\022\n\nerror_node\030\020 \001(\t\022\024\n\014options_jso" +
-      "n\030\021 \001(\t\022\017\n\007planEnd\030\022 \001(\003\022\024\n\014queueWaitEnd" +
-      "\030\023 \001(\003\"t\n\024MajorFragmentProfile\022\031\n\021major_" +
-      "fragment_id\030\001 \001(\005\022A\n\026minor_fragment_prof" +
-      "ile\030\002 \003(\0132!.exec.shared.MinorFragmentPro" +
-      "file\"\350\002\n\024MinorFragmentProfile\022)\n\005state\030\001" +
-      " \001(\0162\032.exec.shared.FragmentState\022(\n\005erro",
-      "r\030\002 \001(\0132\031.exec.shared.DrillPBError\022\031\n\021mi" +
-      "nor_fragment_id\030\003 \001(\005\0226\n\020operator_profil" +
-      "e\030\004 \003(\0132\034.exec.shared.OperatorProfile\022\022\n" +
-      "\nstart_time\030\005 \001(\003\022\020\n\010end_time\030\006 \001(\003\022\023\n\013m" +
-      "emory_used\030\007 \001(\003\022\027\n\017max_memory_used\030\010 \001(" +
-      "\003\022(\n\010endpoint\030\t \001(\0132\026.exec.DrillbitEndpo" +
-      "int\022\023\n\013last_update\030\n \001(\003\022\025\n\rlast_progres" +
-      "s\030\013 \001(\003\"\377\001\n\017OperatorProfile\0221\n\rinput_pro" +
-      "file\030\001 \003(\0132\032.exec.shared.StreamProfile\022\023" +
-      "\n\013operator_id\030\003 \001(\005\022\025\n\roperator_type\030\004 \001",
-      "(\005\022\023\n\013setup_nanos\030\005 \001(\003\022\025\n\rprocess_nanos" +
-      "\030\006 \001(\003\022#\n\033peak_local_memory_allocated\030\007 " +
-      "\001(\003\022(\n\006metric\030\010 \003(\0132\030.exec.shared.Metric" +
-      "Value\022\022\n\nwait_nanos\030\t \001(\003\"B\n\rStreamProfi" +
-      "le\022\017\n\007records\030\001 \001(\003\022\017\n\007batches\030\002 \001(\003\022\017\n\007" +
-      "schemas\030\003 \001(\003\"J\n\013MetricValue\022\021\n\tmetric_i" +
-      "d\030\001 \001(\005\022\022\n\nlong_value\030\002 \001(\003\022\024\n\014double_va" +
-      "lue\030\003 \001(\001\")\n\010Registry\022\035\n\003jar\030\001 \003(\0132\020.exe" +
-      "c.shared.Jar\"/\n\003Jar\022\014\n\004name\030\001 \001(\t\022\032\n\022fun" +
-      "ction_signature\030\002 \003(\t\"W\n\013SaslMessage\022\021\n\t",
-      "mechanism\030\001 \001(\t\022\014\n\004data\030\002 \001(\014\022\'\n\006status\030" +
-      "\003 \001(\0162\027.exec.shared.SaslStatus*5\n\nRpcCha" +
-      "nnel\022\017\n\013BIT_CONTROL\020\000\022\014\n\010BIT_DATA\020\001\022\010\n\004U" +
-      "SER\020\002*V\n\tQueryType\022\007\n\003SQL\020\001\022\013\n\007LOGICAL\020\002" +
-      "\022\014\n\010PHYSICAL\020\003\022\r\n\tEXECUTION\020\004\022\026\n\022PREPARE" +
-      "D_STATEMENT\020\005*\207\001\n\rFragmentState\022\013\n\007SENDI" +
-      "NG\020\000\022\027\n\023AWAITING_ALLOCATION\020\001\022\013\n\007RUNNING" +
-      "\020\002\022\014\n\010FINISHED\020\003\022\r\n\tCANCELLED\020\004\022\n\n\006FAILE" +
-      "D\020\005\022\032\n\026CANCELLATION_REQUESTED\020\006*\335\005\n\020Core" +
-      "OperatorType\022\021\n\rSINGLE_SENDER\020\000\022\024\n\020BROAD",
-      "CAST_SENDER\020\001\022\n\n\006FILTER\020\002\022\022\n\016HASH_AGGREG" +
-      "ATE\020\003\022\r\n\tHASH_JOIN\020\004\022\016\n\nMERGE_JOIN\020\005\022\031\n\025" +
-      "HASH_PARTITION_SENDER\020\006\022\t\n\005LIMIT\020\007\022\024\n\020ME" +
-      "RGING_RECEIVER\020\010\022\034\n\030ORDERED_PARTITION_SE" +
-      "NDER\020\t\022\013\n\007PROJECT\020\n\022\026\n\022UNORDERED_RECEIVE" +
-      "R\020\013\022\020\n\014RANGE_SENDER\020\014\022\n\n\006SCREEN\020\r\022\034\n\030SEL" +
-      "ECTION_VECTOR_REMOVER\020\016\022\027\n\023STREAMING_AGG" +
-      "REGATE\020\017\022\016\n\nTOP_N_SORT\020\020\022\021\n\rEXTERNAL_SOR" +
-      "T\020\021\022\t\n\005TRACE\020\022\022\t\n\005UNION\020\023\022\014\n\010OLD_SORT\020\024\022" +
-      "\032\n\026PARQUET_ROW_GROUP_SCAN\020\025\022\021\n\rHIVE_SUB_",
-      "SCAN\020\026\022\025\n\021SYSTEM_TABLE_SCAN\020\027\022\021\n\rMOCK_SU" +
-      "B_SCAN\020\030\022\022\n\016PARQUET_WRITER\020\031\022\023\n\017DIRECT_S" +
-      "UB_SCAN\020\032\022\017\n\013TEXT_WRITER\020\033\022\021\n\rTEXT_SUB_S" +
-      "CAN\020\034\022\021\n\rJSON_SUB_SCAN\020\035\022\030\n\024INFO_SCHEMA_" +
-      "SUB_SCAN\020\036\022\023\n\017COMPLEX_TO_JSON\020\037\022\025\n\021PRODU" +
-      "CER_CONSUMER\020 \022\022\n\016HBASE_SUB_SCAN\020!\022\n\n\006WI" +
-      "NDOW\020\"\022\024\n\020NESTED_LOOP_JOIN\020#\022\021\n\rAVRO_SUB" +
-      "_SCAN\020$*g\n\nSaslStatus\022\020\n\014SASL_UNKNOWN\020\000\022" +
-      "\016\n\nSASL_START\020\001\022\024\n\020SASL_IN_PROGRESS\020\002\022\020\n" +
-      "\014SASL_SUCCESS\020\003\022\017\n\013SASL_FAILED\020\004B.\n\033org.",
-      "apache.drill.exec.protoB\rUserBitSharedH\001"
+      "ENQUEUED\020\006\"\244\001\n\tQueryData\022&\n\010query_id\030\001 \001" +
+      "(\0132\024.exec.shared.QueryId\022\021\n\trow_count\030\002 " +
+      "\001(\005\022(\n\003def\030\003 \001(\0132\033.exec.shared.RecordBat" +
+      "chDef\0222\n\013compression\030\004 \001(\0162\035.exec.shared" +
+      ".CompressionCodec\"\255\001\n\tQueryInfo\022\r\n\005query",
+      "\030\001 \001(\t\022\r\n\005start\030\002 \001(\003\0222\n\005state\030\003 \001(\0162#.e" +
+      "xec.shared.QueryResult.QueryState\022\017\n\004use" +
+      "r\030\004 \001(\t:\001-\022\'\n\007foreman\030\005 \001(\0132\026.exec.Drill" +
+      "bitEndpoint\022\024\n\014options_json\030\006 \001(\t\"\272\004\n\014Qu" +
+      "eryProfile\022 \n\002id\030\001 \001(\0132\024.exec.shared.Que" +
+      "ryId\022$\n\004type\030\002 \001(\0162\026.exec.shared.QueryTy" +
+      "pe\022\r\n\005start\030\003 \001(\003\022\013\n\003end\030\004 \001(\003\022\r\n\005query\030" +
+      "\005 \001(\t\022\014\n\004plan\030\006 \001(\t\022\'\n\007foreman\030\007 \001(\0132\026.e" +
+      "xec.DrillbitEndpoint\0222\n\005state\030\010 \001(\0162#.ex" +
+      "ec.shared.QueryResult.QueryState\022\027\n\017tota",
+      "l_fragments\030\t \001(\005\022\032\n\022finished_fragments\030" +
+      "\n \001(\005\022;\n\020fragment_profile\030\013 \003(\0132!.exec.s" +
+      "hared.MajorFragmentProfile\022\017\n\004user\030\014 \001(\t" +
+      ":\001-\022\r\n\005error\030\r \001(\t\022\024\n\014verboseError\030\016 \001(\t" +
+      "\022\020\n\010error_id\030\017 \001(\t\022\022\n\nerror_node\030\020 \001(\t\022\024" +
+      "\n\014options_json\030\021 \001(\t\022\017\n\007planEnd\030\022 \001(\003\022\024\n" +
+      "\014queueWaitEnd\030\023 \001(\003\022A\n\026planning_phase_pr" +
+      "ofile\030\024 \003(\0132!.exec.shared.PlanningPhaseP" +
+      "rofile\"G\n\024PlanningPhaseProfile\022\014\n\004name\030\001" +
+      " \001(\t\022\r\n\005count\030\002 \001(\005\022\022\n\ntime_nanos\030\003 \001(\003\"",
+      "t\n\024MajorFragmentProfile\022\031\n\021major_fragmen" +
+      "t_id\030\001 \001(\005\022A\n\026minor_fragment_profile\030\002 \003" +
+      "(\0132!.exec.shared.MinorFragmentProfile\"\350\002" +
+      "\n\024MinorFragmentProfile\022)\n\005state\030\001 \001(\0162\032." +
+      "exec.shared.FragmentState\022(\n\005error\030\002 \001(\013" +
+      "2\031.exec.shared.DrillPBError\022\031\n\021minor_fra" +
+      "gment_id\030\003 \001(\005\0226\n\020operator_profile\030\004 \003(\013" +
+      "2\034.exec.shared.OperatorProfile\022\022\n\nstart_" +
+      "time\030\005 \001(\003\022\020\n\010end_time\030\006 \001(\003\022\023\n\013memory_u" +
+      "sed\030\007 \001(\003\022\027\n\017max_memory_used\030\010 \001(\003\022(\n\010en",
+      "dpoint\030\t \001(\0132\026.exec.DrillbitEndpoint\022\023\n\013" +
+      "last_update\030\n \001(\003\022\025\n\rlast_progress\030\013 \001(\003" +
+      "\"\377\001\n\017OperatorProfile\0221\n\rinput_profile\030\001 " +
+      "\003(\0132\032.exec.shared.StreamProfile\022\023\n\013opera" +
+      "tor_id\030\003 \001(\005\022\025\n\roperator_type\030\004 \001(\005\022\023\n\013s" +
+      "etup_nanos\030\005 \001(\003\022\025\n\rprocess_nanos\030\006 \001(\003\022" +
+      "#\n\033peak_local_memory_allocated\030\007 \001(\003\022(\n\006" +
+      "metric\030\010 \003(\0132\030.exec.shared.MetricValue\022\022" +
+      "\n\nwait_nanos\030\t \001(\003\"B\n\rStreamProfile\022\017\n\007r" +
+      "ecords\030\001 \001(\003\022\017\n\007batches\030\002 \001(\003\022\017\n\007schemas",
+      "\030\003 \001(\003\"J\n\013MetricValue\022\021\n\tmetric_id\030\001 \001(\005" +
+      "\022\022\n\nlong_value\030\002 \001(\003\022\024\n\014double_value\030\003 \001" +
+      "(\001\")\n\010Registry\022\035\n\003jar\030\001 \003(\0132\020.exec.share" +
+      "d.Jar\"/\n\003Jar\022\014\n\004name\030\001 \001(\t\022\032\n\022function_s" +
+      "ignature\030\002 \003(\t\"W\n\013SaslMessage\022\021\n\tmechani" +
+      "sm\030\001 \001(\t\022\014\n\004data\030\002 \001(\014\022\'\n\006status\030\003 \001(\0162\027" +
+      ".exec.shared.SaslStatus*5\n\nRpcChannel\022\017\n" +
+      "\013BIT_CONTROL\020\000\022\014\n\010BIT_DATA\020\001\022\010\n\004USER\020\002*V" +
+      "\n\tQueryType\022\007\n\003SQL\020\001\022\013\n\007LOGICAL\020\002\022\014\n\010PHY" +
+      "SICAL\020\003\022\r\n\tEXECUTION\020\004\022\026\n\022PREPARED_STATE",
+      "MENT\020\005*1\n\020CompressionCodec\022\020\n\014UNCOMPRESS" +
+      "ED\020\000\022\013\n\007DEFLATE\020\001*\207\001\n\rFragmentState\022\013\n\007S" +
+      "ENDING\020\000\022\027\n\023AWAITING_ALLOCATION\020\001\022\013\n\007RUN" +
+      "NING\020\002\022\014\n\010FINISHED\020\003\022\r\n\tCANCELLED\020\004\022\n\n\006F" +
+      "AILED\020\005\022\032\n\026CANCELLATION_REQUESTED\020\006*\375\005\n\020" +
+      "CoreOperatorType\022\021\n\rSINGLE_SENDER\020\000\022\024\n\020B" +
+      "ROADCAST_SENDER\020\001\022\n\n\006FILTER\020\002\022\022\n\016HASH_AG" +
+      "GREGATE\020\003\022\r\n\tHASH_JOIN\020\004\022\016\n\nMERGE_JOIN\020\005" +
+      "\022\031\n\025HASH_PARTITION_SENDER\020\006\022\t\n\005LIMIT\020\007\022\024" +
+      "\n\020MERGING_RECEIVER\020\010\022\034\n\030ORDERED_PARTITIO",
+      "N_SENDER\020\t\022\013\n\007PROJECT\020\n\022\026\n\022UNORDERED_REC" +
+      "EIVER\020\013\022\020\n\014RANGE_SENDER\020\014\022\n\n\006SCREEN\020\r\022\034\n" +
+      "\030SELECTION_VECTOR_REMOVER\020\016\022\027\n\023STREAMING" +
+      "_AGGREGATE\020\017\022\016\n\nTOP_N_SORT\020\020\022\021\n\rEXTERNAL" +
+      "_SORT\020\021\022\t\n\005TRACE\020\022\022\t\n\005UNION\020\023\022\014\n\010OLD_SOR" +
+      "T\020\024\022\032\n\026PARQUET_ROW_GROUP_SCAN\020\025\022\021\n\rHIVE_" +
+      "SUB_SCAN\020\026\022\025\n\021SYSTEM_TABLE_SCAN\020\027\022\021\n\rMOC" +
+      "K_SUB_SCAN\020\030\022\022\n\016PARQUET_WRITER\020\031\022\023\n\017DIRE" +
+      "CT_SUB_SCAN\020\032\022\017\n\013TEXT_WRITER\020\033\022\021\n\rTEXT_S" +
+      "UB_SCAN\020\034\022\021\n\rJSON_SUB_SCAN\020\035\022\030\n\024INFO_SCH",
+      "EMA_SUB_SCAN\020\036\022\023\n\017COMPLEX_TO_JSON\020\037\022\025\n\021P" +
+      "RODUCER_CONSUMER\020 \022\022\n\016HBASE_SUB_SCAN\020!\022\n" +
+      "\n\006WINDOW\020\"\022\024\n\020NESTED_LOOP_JOIN\020#\022\021\n\rAVRO" +
+      "_SUB_SCAN\020$\022\021\n\rPCAP_SUB_SCAN\020%\022\013\n\007FLATTE" +
+      "N\020&*g\n\nSaslStatus\022\020\n\014SASL_UNKNOWN\020\000\022\016\n\nS" +
+      "ASL_START\020\001\022\024\n\020SASL_IN_PROGRESS\020\002\022\020\n\014SAS" +
+      "L_SUCCESS\020\003\022\017\n\013SASL_FAILED\020\004B.\n\033org.apac" +
+      "he.drill.exec.protoB\rUserBitSharedH\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -23619,7 +24849,7 @@ public final class UserBitShared {
           internal_static_exec_shared_QueryData_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_shared_QueryData_descriptor,
-              new java.lang.String[] { "QueryId", "RowCount", "Def", });
+              new java.lang.String[] { "QueryId", "RowCount", "Def", "Compression", });
           internal_static_exec_shared_QueryInfo_descriptor =
             getDescriptor().getMessageTypes().get(12);
           internal_static_exec_shared_QueryInfo_fieldAccessorTable = new
@@ -23631,51 +24861,57 @@ public final class UserBitShared {
           internal_static_exec_shared_QueryProfile_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_shared_QueryProfile_descriptor,
-              new java.lang.String[] { "Id", "Type", "Start", "End", "Query", "Plan", "Foreman", "State", "TotalFragments", "FinishedFragments", "FragmentProfile", "User", "Error", "VerboseError", "ErrorId", "ErrorNode", "OptionsJson", "PlanEnd", "QueueWaitEnd", });
-          internal_static_exec_shared_MajorFragmentProfile_descriptor =
+              new java.lang.String[] { "Id", "Type", "Start", "End", "Query", "Plan", "Foreman", "State", "TotalFragments", "FinishedFragments", "FragmentProfile", "User", "Error", "VerboseError", "ErrorId", "ErrorNode", "OptionsJson", "PlanEnd", "QueueWaitEnd", "PlanningPhaseProfile", });
+          internal_static_exec_shared_PlanningPhaseProfile_descriptor =
             getDescriptor().getMessageTypes().get(14);
+          internal_static_exec_shared_PlanningPhaseProfile_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_exec_shared_PlanningPhaseProfile_descriptor,
+              new java.lang.String[] { "Name", "Count", "TimeNanos", });
+          internal_static_exec_shared_MajorFragmentProfile_descriptor =
+            getDescriptor().getMessageTypes().get(15);
           internal_static_exec_shared_MajorFragmentProfile_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_shared_MajorFragmentProfile_descriptor,
               new java.lang.String[] { "MajorFragmentId", "MinorFragmentProfile", });
           internal_static_exec_shared_MinorFragmentProfile_descriptor =
-            getDescriptor().getMessageTypes().get(15);
+            getDescriptor().getMessageTypes().get(16);
           internal_static_exec_shared_MinorFragmentProfile_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_shared_MinorFragmentProfile_descriptor,
               new java.lang.String[] { "State", "Error", "MinorFragmentId", "OperatorProfile", "StartTime", "EndTime", "MemoryUsed", "MaxMemoryUsed", "Endpoint", "LastUpdate", "LastProgress", });
           internal_static_exec_shared_OperatorProfile_descriptor =
-            getDescriptor().getMessageTypes().get(16);
+            getDescriptor().getMessageTypes().get(17);
           internal_static_exec_shared_OperatorProfile_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_shared_OperatorProfile_descriptor,
               new java.lang.String[] { "InputProfile", "OperatorId", "OperatorType", "SetupNanos", "ProcessNanos", "PeakLocalMemoryAllocated", "Metric", "WaitNanos", });
           internal_static_exec_shared_StreamProfile_descriptor =
-            getDescriptor().getMessageTypes().get(17);
+            getDescriptor().getMessageTypes().get(18);
           internal_static_exec_shared_StreamProfile_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_shared_StreamProfile_descriptor,
               new java.lang.String[] { "Records", "Batches", "Schemas", });
           internal_static_exec_shared_MetricValue_descriptor =
-            getDescriptor().getMessageTypes().get(18);
+            getDescriptor().getMessageTypes().get(19);
           internal_static_exec_shared_MetricValue_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_shared_MetricValue_descriptor,
               new java.lang.String[] { "MetricId", "LongValue", "DoubleValue", });
           internal_static_exec_shared_Registry_descriptor =
-            getDescriptor().getMessageTypes().get(19);
+            getDescriptor().getMessageTypes().get(20);
           internal_static_exec_shared_Registry_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_shared_Registry_descriptor,
               new java.lang.String[] { "Jar", });
           internal_static_exec_shared_Jar_descriptor =
-            getDescriptor().getMessageTypes().get(20);
+            getDescriptor().getMessageTypes().get(21);
           internal_static_exec_shared_Jar_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_shared_Jar_descriptor,
               new java.lang.String[] { "Name", "FunctionSignature", });
           internal_static_exec_shared_SaslMessage_descriptor =
-            getDescriptor().getMessageTypes().get(21);
+            getDescriptor().getMessageTypes().get(22);
           internal_static_exec_shared_SaslMessage_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_shared_SaslMessage_descriptor,
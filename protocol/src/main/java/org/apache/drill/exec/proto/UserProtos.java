@@ -5776,6 +5776,24 @@ public final class UserProtos {
      * <code>optional .exec.user.SaslSupport sasl_support = 9;</code>
      */
     org.apache.drill.exec.proto.UserProtos.SaslSupport getSaslSupport();
+
+    // optional .exec.shared.CompressionCodec result_compression = 10;
+    /**
+     * <code>optional .exec.shared.CompressionCodec result_compression = 10;</code>
+     *
+     * <pre>
+     * codec the client asks query results to be sent with
+     * </pre>
+     */
+    boolean hasResultCompression();
+    /**
+     * <code>optional .exec.shared.CompressionCodec result_compression = 10;</code>
+     *
+     * <pre>
+     * codec the client asks query results to be sent with
+     * </pre>
+     */
+    org.apache.drill.exec.proto.UserBitShared.CompressionCodec getResultCompression();
   }
   /**
    * Protobuf type {@code exec.user.UserToBitHandshake}
@@ -5909,6 +5927,17 @@ public final class UserProtos {
               }
               break;
             }
+            case 80: {
+              int rawValue = input.readEnum();
+              org.apache.drill.exec.proto.UserBitShared.CompressionCodec value = org.apache.drill.exec.proto.UserBitShared.CompressionCodec.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(10, rawValue);
+              } else {
+                bitField0_ |= 0x00000200;
+                resultCompression_ = value;
+              }
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -6111,6 +6140,30 @@ public final class UserProtos {
       return saslSupport_;
     }
 
+    // optional .exec.shared.CompressionCodec result_compression = 10;
+    public static final int RESULT_COMPRESSION_FIELD_NUMBER = 10;
+    private org.apache.drill.exec.proto.UserBitShared.CompressionCodec resultCompression_;
+    /**
+     * <code>optional .exec.shared.CompressionCodec result_compression = 10;</code>
+     *
+     * <pre>
+     * codec the client asks query results to be sent with
+     * </pre>
+     */
+    public boolean hasResultCompression() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional .exec.shared.CompressionCodec result_compression = 10;</code>
+     *
+     * <pre>
+     * codec the client asks query results to be sent with
+     * </pre>
+     */
+    public org.apache.drill.exec.proto.UserBitShared.CompressionCodec getResultCompression() {
+      return resultCompression_;
+    }
+
     private void initFields() {
       channel_ = org.apache.drill.exec.proto.UserBitShared.RpcChannel.USER;
       supportListening_ = false;
@@ -6121,6 +6174,7 @@ public final class UserProtos {
       supportTimeout_ = false;
       clientInfos_ = org.apache.drill.exec.proto.UserProtos.RpcEndpointInfos.getDefaultInstance();
       saslSupport_ = org.apache.drill.exec.proto.UserProtos.SaslSupport.UNKNOWN_SASL_SUPPORT;
+      resultCompression_ = org.apache.drill.exec.proto.UserBitShared.CompressionCodec.UNCOMPRESSED;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -6167,6 +6221,9 @@ public final class UserProtos {
       if (((bitField0_ & 0x00000100) == 0x00000100)) {
         output.writeEnum(9, saslSupport_.getNumber());
       }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        output.writeEnum(10, resultCompression_.getNumber());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -6212,6 +6269,10 @@ public final class UserProtos {
         size += com.google.protobuf.CodedOutputStream
           .computeEnumSize(9, saslSupport_.getNumber());
       }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(10, resultCompression_.getNumber());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -6361,6 +6422,8 @@ public final class UserProtos {
         bitField0_ = (bitField0_ & ~0x00000080);
         saslSupport_ = org.apache.drill.exec.proto.UserProtos.SaslSupport.UNKNOWN_SASL_SUPPORT;
         bitField0_ = (bitField0_ & ~0x00000100);
+        resultCompression_ = org.apache.drill.exec.proto.UserBitShared.CompressionCodec.UNCOMPRESSED;
+        bitField0_ = (bitField0_ & ~0x00000200);
         return this;
       }
 
@@ -6437,6 +6500,10 @@ public final class UserProtos {
           to_bitField0_ |= 0x00000100;
         }
         result.saslSupport_ = saslSupport_;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        result.resultCompression_ = resultCompression_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -6480,6 +6547,9 @@ public final class UserProtos {
         if (other.hasSaslSupport()) {
           setSaslSupport(other.getSaslSupport());
         }
+        if (other.hasResultCompression()) {
+          setResultCompression(other.getResultCompression());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -7068,6 +7138,58 @@ public final class UserProtos {
         return this;
       }
 
+      // optional .exec.shared.CompressionCodec result_compression = 10;
+      private org.apache.drill.exec.proto.UserBitShared.CompressionCodec resultCompression_ = org.apache.drill.exec.proto.UserBitShared.CompressionCodec.UNCOMPRESSED;
+      /**
+       * <code>optional .exec.shared.CompressionCodec result_compression = 10;</code>
+       *
+       * <pre>
+       * codec the client asks query results to be sent with
+       * </pre>
+       */
+      public boolean hasResultCompression() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional .exec.shared.CompressionCodec result_compression = 10;</code>
+       *
+       * <pre>
+       * codec the client asks query results to be sent with
+       * </pre>
+       */
+      public org.apache.drill.exec.proto.UserBitShared.CompressionCodec getResultCompression() {
+        return resultCompression_;
+      }
+      /**
+       * <code>optional .exec.shared.CompressionCodec result_compression = 10;</code>
+       *
+       * <pre>
+       * codec the client asks query results to be sent with
+       * </pre>
+       */
+      public Builder setResultCompression(org.apache.drill.exec.proto.UserBitShared.CompressionCodec value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000200;
+        resultCompression_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .exec.shared.CompressionCodec result_compression = 10;</code>
+       *
+       * <pre>
+       * codec the client asks query results to be sent with
+       * </pre>
+       */
+      public Builder clearResultCompression() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        resultCompression_ = org.apache.drill.exec.proto.UserBitShared.CompressionCodec.UNCOMPRESSED;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:exec.user.UserToBitHandshake)
     }
 
@@ -9596,6 +9718,24 @@ public final class UserProtos {
      * <code>optional int32 maxWrappedSize = 10;</code>
      */
     int getMaxWrappedSize();
+
+    // optional .exec.shared.CompressionCodec result_compression = 11;
+    /**
+     * <code>optional .exec.shared.CompressionCodec result_compression = 11;</code>
+     *
+     * <pre>
+     * codec the server compresses query results with
+     * </pre>
+     */
+    boolean hasResultCompression();
+    /**
+     * <code>optional .exec.shared.CompressionCodec result_compression = 11;</code>
+     *
+     * <pre>
+     * codec the server compresses query results with
+     * </pre>
+     */
+    org.apache.drill.exec.proto.UserBitShared.CompressionCodec getResultCompression();
   }
   /**
    * Protobuf type {@code exec.user.BitToUserHandshake}
@@ -9738,6 +9878,17 @@ public final class UserProtos {
               maxWrappedSize_ = input.readInt32();
               break;
             }
+            case 88: {
+              int rawValue = input.readEnum();
+              org.apache.drill.exec.proto.UserBitShared.CompressionCodec value = org.apache.drill.exec.proto.UserBitShared.CompressionCodec.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(11, rawValue);
+              } else {
+                bitField0_ |= 0x00000080;
+                resultCompression_ = value;
+              }
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -10008,6 +10159,30 @@ public final class UserProtos {
       return maxWrappedSize_;
     }
 
+    // optional .exec.shared.CompressionCodec result_compression = 11;
+    public static final int RESULT_COMPRESSION_FIELD_NUMBER = 11;
+    private org.apache.drill.exec.proto.UserBitShared.CompressionCodec resultCompression_;
+    /**
+     * <code>optional .exec.shared.CompressionCodec result_compression = 11;</code>
+     *
+     * <pre>
+     * codec the server compresses query results with
+     * </pre>
+     */
+    public boolean hasResultCompression() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional .exec.shared.CompressionCodec result_compression = 11;</code>
+     *
+     * <pre>
+     * codec the server compresses query results with
+     * </pre>
+     */
+    public org.apache.drill.exec.proto.UserBitShared.CompressionCodec getResultCompression() {
+      return resultCompression_;
+    }
+
     private void initFields() {
       rpcVersion_ = 0;
       status_ = org.apache.drill.exec.proto.UserProtos.HandshakeStatus.SUCCESS;
@@ -10018,6 +10193,7 @@ public final class UserProtos {
       supportedMethods_ = java.util.Collections.emptyList();
       encrypted_ = false;
       maxWrappedSize_ = 0;
+      resultCompression_ = org.apache.drill.exec.proto.UserBitShared.CompressionCodec.UNCOMPRESSED;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -10058,6 +10234,9 @@ public final class UserProtos {
       if (((bitField0_ & 0x00000040) == 0x00000040)) {
         output.writeInt32(10, maxWrappedSize_);
       }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeEnum(11, resultCompression_.getNumber());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -10113,6 +10292,10 @@ public final class UserProtos {
         size += com.google.protobuf.CodedOutputStream
           .computeInt32Size(10, maxWrappedSize_);
       }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(11, resultCompression_.getNumber());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -10252,6 +10435,8 @@ public final class UserProtos {
         bitField0_ = (bitField0_ & ~0x00000080);
         maxWrappedSize_ = 0;
         bitField0_ = (bitField0_ & ~0x00000100);
+        resultCompression_ = org.apache.drill.exec.proto.UserBitShared.CompressionCodec.UNCOMPRESSED;
+        bitField0_ = (bitField0_ & ~0x00000200);
         return this;
       }
 
@@ -10323,6 +10508,10 @@ public final class UserProtos {
           to_bitField0_ |= 0x00000040;
         }
         result.maxWrappedSize_ = maxWrappedSize_;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.resultCompression_ = resultCompression_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -10384,6 +10573,9 @@ public final class UserProtos {
         if (other.hasMaxWrappedSize()) {
           setMaxWrappedSize(other.getMaxWrappedSize());
         }
+        if (other.hasResultCompression()) {
+          setResultCompression(other.getResultCompression());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -10976,6 +11168,58 @@ public final class UserProtos {
         return this;
       }
 
+      // optional .exec.shared.CompressionCodec result_compression = 11;
+      private org.apache.drill.exec.proto.UserBitShared.CompressionCodec resultCompression_ = org.apache.drill.exec.proto.UserBitShared.CompressionCodec.UNCOMPRESSED;
+      /**
+       * <code>optional .exec.shared.CompressionCodec result_compression = 11;</code>
+       *
+       * <pre>
+       * codec the server compresses query results with
+       * </pre>
+       */
+      public boolean hasResultCompression() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional .exec.shared.CompressionCodec result_compression = 11;</code>
+       *
+       * <pre>
+       * codec the server compresses query results with
+       * </pre>
+       */
+      public org.apache.drill.exec.proto.UserBitShared.CompressionCodec getResultCompression() {
+        return resultCompression_;
+      }
+      /**
+       * <code>optional .exec.shared.CompressionCodec result_compression = 11;</code>
+       *
+       * <pre>
+       * codec the server compresses query results with
+       * </pre>
+       */
+      public Builder setResultCompression(org.apache.drill.exec.proto.UserBitShared.CompressionCodec value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000200;
+        resultCompression_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .exec.shared.CompressionCodec result_compression = 11;</code>
+       *
+       * <pre>
+       * codec the server compresses query results with
+       * </pre>
+       */
+      public Builder clearResultCompression() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        resultCompression_ = org.apache.drill.exec.proto.UserBitShared.CompressionCodec.UNCOMPRESSED;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:exec.user.BitToUserHandshake)
     }
 
@@ -28495,6 +28739,26 @@ public final class UserProtos {
      * </pre>
      */
     org.apache.drill.exec.proto.UserProtos.PreparedStatementHandleOrBuilder getServerHandleOrBuilder();
+
+    // optional int32 parameter_count = 3;
+    /**
+     * <code>optional int32 parameter_count = 3;</code>
+     *
+     * <pre>
+     *
+     * Number of parameters ('?') of the prepared statement.
+     * </pre>
+     */
+    boolean hasParameterCount();
+    /**
+     * <code>optional int32 parameter_count = 3;</code>
+     *
+     * <pre>
+     *
+     * Number of parameters ('?') of the prepared statement.
+     * </pre>
+     */
+    int getParameterCount();
   }
   /**
    * Protobuf type {@code exec.user.PreparedStatement}
@@ -28574,6 +28838,11 @@ public final class UserProtos {
               bitField0_ |= 0x00000001;
               break;
             }
+            case 24: {
+              bitField0_ |= 0x00000002;
+              parameterCount_ = input.readInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -28693,9 +28962,36 @@ public final class UserProtos {
       return serverHandle_;
     }
 
+    // optional int32 parameter_count = 3;
+    public static final int PARAMETER_COUNT_FIELD_NUMBER = 3;
+    private int parameterCount_;
+    /**
+     * <code>optional int32 parameter_count = 3;</code>
+     *
+     * <pre>
+     *
+     * Number of parameters ('?') of the prepared statement.
+     * </pre>
+     */
+    public boolean hasParameterCount() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int32 parameter_count = 3;</code>
+     *
+     * <pre>
+     *
+     * Number of parameters ('?') of the prepared statement.
+     * </pre>
+     */
+    public int getParameterCount() {
+      return parameterCount_;
+    }
+
     private void initFields() {
       columns_ = java.util.Collections.emptyList();
       serverHandle_ = org.apache.drill.exec.proto.UserProtos.PreparedStatementHandle.getDefaultInstance();
+      parameterCount_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -28715,6 +29011,9 @@ public final class UserProtos {
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeMessage(2, serverHandle_);
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(3, parameterCount_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -28732,6 +29031,10 @@ public final class UserProtos {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(2, serverHandle_);
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, parameterCount_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -28868,6 +29171,8 @@ public final class UserProtos {
           serverHandleBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000002);
+        parameterCount_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -28913,6 +29218,10 @@ public final class UserProtos {
         } else {
           result.serverHandle_ = serverHandleBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.parameterCount_ = parameterCount_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -28958,6 +29267,9 @@ public final class UserProtos {
         if (other.hasServerHandle()) {
           mergeServerHandle(other.getServerHandle());
         }
+        if (other.hasParameterCount()) {
+          setParameterCount(other.getParameterCount());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -29396,6 +29708,59 @@ public final class UserProtos {
         return serverHandleBuilder_;
       }
 
+      // optional int32 parameter_count = 3;
+      private int parameterCount_ ;
+      /**
+       * <code>optional int32 parameter_count = 3;</code>
+       *
+       * <pre>
+       *
+       * Number of parameters ('?') of the prepared statement.
+       * </pre>
+       */
+      public boolean hasParameterCount() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int32 parameter_count = 3;</code>
+       *
+       * <pre>
+       *
+       * Number of parameters ('?') of the prepared statement.
+       * </pre>
+       */
+      public int getParameterCount() {
+        return parameterCount_;
+      }
+      /**
+       * <code>optional int32 parameter_count = 3;</code>
+       *
+       * <pre>
+       *
+       * Number of parameters ('?') of the prepared statement.
+       * </pre>
+       */
+      public Builder setParameterCount(int value) {
+        bitField0_ |= 0x00000004;
+        parameterCount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 parameter_count = 3;</code>
+       *
+       * <pre>
+       *
+       * Number of parameters ('?') of the prepared statement.
+       * </pre>
+       */
+      public Builder clearParameterCount() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        parameterCount_ = 0;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:exec.user.PreparedStatement)
     }
 
@@ -29407,71 +29772,96 @@ public final class UserProtos {
     // @@protoc_insertion_point(class_scope:exec.user.PreparedStatement)
   }
 
-  public interface CreatePreparedStatementRespOrBuilder
+  public interface PreparedStatementParameterOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // optional .exec.user.RequestStatus status = 1;
+    // optional bool bool_value = 1;
     /**
-     * <code>optional .exec.user.RequestStatus status = 1;</code>
+     * <code>optional bool bool_value = 1;</code>
      */
-    boolean hasStatus();
+    boolean hasBoolValue();
     /**
-     * <code>optional .exec.user.RequestStatus status = 1;</code>
+     * <code>optional bool bool_value = 1;</code>
      */
-    org.apache.drill.exec.proto.UserProtos.RequestStatus getStatus();
+    boolean getBoolValue();
 
-    // optional .exec.user.PreparedStatement prepared_statement = 2;
+    // optional sint64 long_value = 2;
     /**
-     * <code>optional .exec.user.PreparedStatement prepared_statement = 2;</code>
+     * <code>optional sint64 long_value = 2;</code>
      */
-    boolean hasPreparedStatement();
+    boolean hasLongValue();
     /**
-     * <code>optional .exec.user.PreparedStatement prepared_statement = 2;</code>
+     * <code>optional sint64 long_value = 2;</code>
      */
-    org.apache.drill.exec.proto.UserProtos.PreparedStatement getPreparedStatement();
+    long getLongValue();
+
+    // optional double double_value = 3;
     /**
-     * <code>optional .exec.user.PreparedStatement prepared_statement = 2;</code>
+     * <code>optional double double_value = 3;</code>
      */
-    org.apache.drill.exec.proto.UserProtos.PreparedStatementOrBuilder getPreparedStatementOrBuilder();
+    boolean hasDoubleValue();
+    /**
+     * <code>optional double double_value = 3;</code>
+     */
+    double getDoubleValue();
 
-    // optional .exec.shared.DrillPBError error = 3;
+    // optional string string_value = 4;
     /**
-     * <code>optional .exec.shared.DrillPBError error = 3;</code>
+     * <code>optional string string_value = 4;</code>
+     *
+     * <pre>
+     *
+     * Character value, or value of another type in the text form accepted by casts
+     * from VARCHAR (e.g. "2017-01-31" for a DATE).
+     * </pre>
      */
-    boolean hasError();
+    boolean hasStringValue();
     /**
-     * <code>optional .exec.shared.DrillPBError error = 3;</code>
+     * <code>optional string string_value = 4;</code>
+     *
+     * <pre>
+     *
+     * Character value, or value of another type in the text form accepted by casts
+     * from VARCHAR (e.g. "2017-01-31" for a DATE).
+     * </pre>
      */
-    org.apache.drill.exec.proto.UserBitShared.DrillPBError getError();
+    java.lang.String getStringValue();
     /**
-     * <code>optional .exec.shared.DrillPBError error = 3;</code>
+     * <code>optional string string_value = 4;</code>
+     *
+     * <pre>
+     *
+     * Character value, or value of another type in the text form accepted by casts
+     * from VARCHAR (e.g. "2017-01-31" for a DATE).
+     * </pre>
      */
-    org.apache.drill.exec.proto.UserBitShared.DrillPBErrorOrBuilder getErrorOrBuilder();
+    com.google.protobuf.ByteString
+        getStringValueBytes();
   }
   /**
-   * Protobuf type {@code exec.user.CreatePreparedStatementResp}
+   * Protobuf type {@code exec.user.PreparedStatementParameter}
    *
    * <pre>
    *
-   * Response message for CreatePreparedStatementReq.
+   * Value of a parameter of a prepared statement. A parameter with no value set is SQL NULL.
    * </pre>
    */
-  public static final class CreatePreparedStatementResp extends
+  public static final class PreparedStatementParameter extends
       com.google.protobuf.GeneratedMessage
-      implements CreatePreparedStatementRespOrBuilder {
-    // Use CreatePreparedStatementResp.newBuilder() to construct.
-    private CreatePreparedStatementResp(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements PreparedStatementParameterOrBuilder {
+    // Use PreparedStatementParameter.newBuilder() to construct.
+    private PreparedStatementParameter(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private CreatePreparedStatementResp(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private PreparedStatementParameter(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final CreatePreparedStatementResp defaultInstance;
-    public static CreatePreparedStatementResp getDefaultInstance() {
+    private static final PreparedStatementParameter defaultInstance;
+    public static PreparedStatementParameter getDefaultInstance() {
       return defaultInstance;
     }
 
-    public CreatePreparedStatementResp getDefaultInstanceForType() {
+    public PreparedStatementParameter getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -29481,7 +29871,778 @@ public final class UserProtos {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private CreatePreparedStatementResp(
+    private PreparedStatementParameter(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              boolValue_ = input.readBool();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              longValue_ = input.readSInt64();
+              break;
+            }
+            case 25: {
+              bitField0_ |= 0x00000004;
+              doubleValue_ = input.readDouble();
+              break;
+            }
+            case 34: {
+              bitField0_ |= 0x00000008;
+              stringValue_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.apache.drill.exec.proto.UserProtos.internal_static_exec_user_PreparedStatementParameter_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.apache.drill.exec.proto.UserProtos.internal_static_exec_user_PreparedStatementParameter_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.class, org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<PreparedStatementParameter> PARSER =
+        new com.google.protobuf.AbstractParser<PreparedStatementParameter>() {
+      public PreparedStatementParameter parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PreparedStatementParameter(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PreparedStatementParameter> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional bool bool_value = 1;
+    public static final int BOOL_VALUE_FIELD_NUMBER = 1;
+    private boolean boolValue_;
+    /**
+     * <code>optional bool bool_value = 1;</code>
+     */
+    public boolean hasBoolValue() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional bool bool_value = 1;</code>
+     */
+    public boolean getBoolValue() {
+      return boolValue_;
+    }
+
+    // optional sint64 long_value = 2;
+    public static final int LONG_VALUE_FIELD_NUMBER = 2;
+    private long longValue_;
+    /**
+     * <code>optional sint64 long_value = 2;</code>
+     */
+    public boolean hasLongValue() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional sint64 long_value = 2;</code>
+     */
+    public long getLongValue() {
+      return longValue_;
+    }
+
+    // optional double double_value = 3;
+    public static final int DOUBLE_VALUE_FIELD_NUMBER = 3;
+    private double doubleValue_;
+    /**
+     * <code>optional double double_value = 3;</code>
+     */
+    public boolean hasDoubleValue() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional double double_value = 3;</code>
+     */
+    public double getDoubleValue() {
+      return doubleValue_;
+    }
+
+    // optional string string_value = 4;
+    public static final int STRING_VALUE_FIELD_NUMBER = 4;
+    private java.lang.Object stringValue_;
+    /**
+     * <code>optional string string_value = 4;</code>
+     *
+     * <pre>
+     *
+     * Character value, or value of another type in the text form accepted by casts
+     * from VARCHAR (e.g. "2017-01-31" for a DATE).
+     * </pre>
+     */
+    public boolean hasStringValue() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional string string_value = 4;</code>
+     *
+     * <pre>
+     *
+     * Character value, or value of another type in the text form accepted by casts
+     * from VARCHAR (e.g. "2017-01-31" for a DATE).
+     * </pre>
+     */
+    public java.lang.String getStringValue() {
+      java.lang.Object ref = stringValue_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          stringValue_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string string_value = 4;</code>
+     *
+     * <pre>
+     *
+     * Character value, or value of another type in the text form accepted by casts
+     * from VARCHAR (e.g. "2017-01-31" for a DATE).
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getStringValueBytes() {
+      java.lang.Object ref = stringValue_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        stringValue_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      boolValue_ = false;
+      longValue_ = 0L;
+      doubleValue_ = 0D;
+      stringValue_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBool(1, boolValue_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeSInt64(2, longValue_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeDouble(3, doubleValue_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, getStringValueBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, boolValue_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt64Size(2, longValue_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(3, doubleValue_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getStringValueBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code exec.user.PreparedStatementParameter}
+     *
+     * <pre>
+     *
+     * Value of a parameter of a prepared statement. A parameter with no value set is SQL NULL.
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.apache.drill.exec.proto.UserProtos.PreparedStatementParameterOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.apache.drill.exec.proto.UserProtos.internal_static_exec_user_PreparedStatementParameter_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.apache.drill.exec.proto.UserProtos.internal_static_exec_user_PreparedStatementParameter_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.class, org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder.class);
+      }
+
+      // Construct using org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        boolValue_ = false;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        longValue_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        doubleValue_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        stringValue_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.apache.drill.exec.proto.UserProtos.internal_static_exec_user_PreparedStatementParameter_descriptor;
+      }
+
+      public org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter getDefaultInstanceForType() {
+        return org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.getDefaultInstance();
+      }
+
+      public org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter build() {
+        org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter buildPartial() {
+        org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter result = new org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.boolValue_ = boolValue_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.longValue_ = longValue_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.doubleValue_ = doubleValue_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.stringValue_ = stringValue_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter) {
+          return mergeFrom((org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter other) {
+        if (other == org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.getDefaultInstance()) return this;
+        if (other.hasBoolValue()) {
+          setBoolValue(other.getBoolValue());
+        }
+        if (other.hasLongValue()) {
+          setLongValue(other.getLongValue());
+        }
+        if (other.hasDoubleValue()) {
+          setDoubleValue(other.getDoubleValue());
+        }
+        if (other.hasStringValue()) {
+          bitField0_ |= 0x00000008;
+          stringValue_ = other.stringValue_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional bool bool_value = 1;
+      private boolean boolValue_ ;
+      /**
+       * <code>optional bool bool_value = 1;</code>
+       */
+      public boolean hasBoolValue() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional bool bool_value = 1;</code>
+       */
+      public boolean getBoolValue() {
+        return boolValue_;
+      }
+      /**
+       * <code>optional bool bool_value = 1;</code>
+       */
+      public Builder setBoolValue(boolean value) {
+        bitField0_ |= 0x00000001;
+        boolValue_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool bool_value = 1;</code>
+       */
+      public Builder clearBoolValue() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        boolValue_ = false;
+        onChanged();
+        return this;
+      }
+
+      // optional sint64 long_value = 2;
+      private long longValue_ ;
+      /**
+       * <code>optional sint64 long_value = 2;</code>
+       */
+      public boolean hasLongValue() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional sint64 long_value = 2;</code>
+       */
+      public long getLongValue() {
+        return longValue_;
+      }
+      /**
+       * <code>optional sint64 long_value = 2;</code>
+       */
+      public Builder setLongValue(long value) {
+        bitField0_ |= 0x00000002;
+        longValue_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional sint64 long_value = 2;</code>
+       */
+      public Builder clearLongValue() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        longValue_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional double double_value = 3;
+      private double doubleValue_ ;
+      /**
+       * <code>optional double double_value = 3;</code>
+       */
+      public boolean hasDoubleValue() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional double double_value = 3;</code>
+       */
+      public double getDoubleValue() {
+        return doubleValue_;
+      }
+      /**
+       * <code>optional double double_value = 3;</code>
+       */
+      public Builder setDoubleValue(double value) {
+        bitField0_ |= 0x00000004;
+        doubleValue_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional double double_value = 3;</code>
+       */
+      public Builder clearDoubleValue() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        doubleValue_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      // optional string string_value = 4;
+      private java.lang.Object stringValue_ = "";
+      /**
+       * <code>optional string string_value = 4;</code>
+       *
+       * <pre>
+       *
+       * Character value, or value of another type in the text form accepted by casts
+       * from VARCHAR (e.g. "2017-01-31" for a DATE).
+       * </pre>
+       */
+      public boolean hasStringValue() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string string_value = 4;</code>
+       *
+       * <pre>
+       *
+       * Character value, or value of another type in the text form accepted by casts
+       * from VARCHAR (e.g. "2017-01-31" for a DATE).
+       * </pre>
+       */
+      public java.lang.String getStringValue() {
+        java.lang.Object ref = stringValue_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          stringValue_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string string_value = 4;</code>
+       *
+       * <pre>
+       *
+       * Character value, or value of another type in the text form accepted by casts
+       * from VARCHAR (e.g. "2017-01-31" for a DATE).
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getStringValueBytes() {
+        java.lang.Object ref = stringValue_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          stringValue_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string string_value = 4;</code>
+       *
+       * <pre>
+       *
+       * Character value, or value of another type in the text form accepted by casts
+       * from VARCHAR (e.g. "2017-01-31" for a DATE).
+       * </pre>
+       */
+      public Builder setStringValue(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        stringValue_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string string_value = 4;</code>
+       *
+       * <pre>
+       *
+       * Character value, or value of another type in the text form accepted by casts
+       * from VARCHAR (e.g. "2017-01-31" for a DATE).
+       * </pre>
+       */
+      public Builder clearStringValue() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        stringValue_ = getDefaultInstance().getStringValue();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string string_value = 4;</code>
+       *
+       * <pre>
+       *
+       * Character value, or value of another type in the text form accepted by casts
+       * from VARCHAR (e.g. "2017-01-31" for a DATE).
+       * </pre>
+       */
+      public Builder setStringValueBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        stringValue_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:exec.user.PreparedStatementParameter)
+    }
+
+    static {
+      defaultInstance = new PreparedStatementParameter(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:exec.user.PreparedStatementParameter)
+  }
+
+  public interface CreatePreparedStatementRespOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional .exec.user.RequestStatus status = 1;
+    /**
+     * <code>optional .exec.user.RequestStatus status = 1;</code>
+     */
+    boolean hasStatus();
+    /**
+     * <code>optional .exec.user.RequestStatus status = 1;</code>
+     */
+    org.apache.drill.exec.proto.UserProtos.RequestStatus getStatus();
+
+    // optional .exec.user.PreparedStatement prepared_statement = 2;
+    /**
+     * <code>optional .exec.user.PreparedStatement prepared_statement = 2;</code>
+     */
+    boolean hasPreparedStatement();
+    /**
+     * <code>optional .exec.user.PreparedStatement prepared_statement = 2;</code>
+     */
+    org.apache.drill.exec.proto.UserProtos.PreparedStatement getPreparedStatement();
+    /**
+     * <code>optional .exec.user.PreparedStatement prepared_statement = 2;</code>
+     */
+    org.apache.drill.exec.proto.UserProtos.PreparedStatementOrBuilder getPreparedStatementOrBuilder();
+
+    // optional .exec.shared.DrillPBError error = 3;
+    /**
+     * <code>optional .exec.shared.DrillPBError error = 3;</code>
+     */
+    boolean hasError();
+    /**
+     * <code>optional .exec.shared.DrillPBError error = 3;</code>
+     */
+    org.apache.drill.exec.proto.UserBitShared.DrillPBError getError();
+    /**
+     * <code>optional .exec.shared.DrillPBError error = 3;</code>
+     */
+    org.apache.drill.exec.proto.UserBitShared.DrillPBErrorOrBuilder getErrorOrBuilder();
+  }
+  /**
+   * Protobuf type {@code exec.user.CreatePreparedStatementResp}
+   *
+   * <pre>
+   *
+   * Response message for CreatePreparedStatementReq.
+   * </pre>
+   */
+  public static final class CreatePreparedStatementResp extends
+      com.google.protobuf.GeneratedMessage
+      implements CreatePreparedStatementRespOrBuilder {
+    // Use CreatePreparedStatementResp.newBuilder() to construct.
+    private CreatePreparedStatementResp(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private CreatePreparedStatementResp(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final CreatePreparedStatementResp defaultInstance;
+    public static CreatePreparedStatementResp getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public CreatePreparedStatementResp getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CreatePreparedStatementResp(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -40272,6 +41433,61 @@ public final class UserProtos {
      * </pre>
      */
     org.apache.drill.exec.proto.UserProtos.PreparedStatementHandleOrBuilder getPreparedStatementHandleOrBuilder();
+
+    // repeated .exec.user.PreparedStatementParameter parameters = 6;
+    /**
+     * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+     *
+     * <pre>
+     *
+     * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+     * prepared statement, in order.
+     * </pre>
+     */
+    java.util.List<org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter> 
+        getParametersList();
+    /**
+     * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+     *
+     * <pre>
+     *
+     * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+     * prepared statement, in order.
+     * </pre>
+     */
+    org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter getParameters(int index);
+    /**
+     * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+     *
+     * <pre>
+     *
+     * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+     * prepared statement, in order.
+     * </pre>
+     */
+    int getParametersCount();
+    /**
+     * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+     *
+     * <pre>
+     *
+     * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+     * prepared statement, in order.
+     * </pre>
+     */
+    java.util.List<? extends org.apache.drill.exec.proto.UserProtos.PreparedStatementParameterOrBuilder> 
+        getParametersOrBuilderList();
+    /**
+     * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+     *
+     * <pre>
+     *
+     * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+     * prepared statement, in order.
+     * </pre>
+     */
+    org.apache.drill.exec.proto.UserProtos.PreparedStatementParameterOrBuilder getParametersOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code exec.user.RunQuery}
@@ -40377,6 +41593,14 @@ public final class UserProtos {
               bitField0_ |= 0x00000008;
               break;
             }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                parameters_ = new java.util.ArrayList<org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              parameters_.add(input.readMessage(org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.PARSER, extensionRegistry));
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -40388,6 +41612,9 @@ public final class UserProtos {
         if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
           fragments_ = java.util.Collections.unmodifiableList(fragments_);
         }
+        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+          parameters_ = java.util.Collections.unmodifiableList(parameters_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -40611,12 +41838,79 @@ public final class UserProtos {
       return preparedStatementHandle_;
     }
 
+    // repeated .exec.user.PreparedStatementParameter parameters = 6;
+    public static final int PARAMETERS_FIELD_NUMBER = 6;
+    private java.util.List<org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter> parameters_;
+    /**
+     * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+     *
+     * <pre>
+     *
+     * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+     * prepared statement, in order.
+     * </pre>
+     */
+    public java.util.List<org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter> getParametersList() {
+      return parameters_;
+    }
+    /**
+     * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+     *
+     * <pre>
+     *
+     * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+     * prepared statement, in order.
+     * </pre>
+     */
+    public java.util.List<? extends org.apache.drill.exec.proto.UserProtos.PreparedStatementParameterOrBuilder> 
+        getParametersOrBuilderList() {
+      return parameters_;
+    }
+    /**
+     * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+     *
+     * <pre>
+     *
+     * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+     * prepared statement, in order.
+     * </pre>
+     */
+    public int getParametersCount() {
+      return parameters_.size();
+    }
+    /**
+     * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+     *
+     * <pre>
+     *
+     * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+     * prepared statement, in order.
+     * </pre>
+     */
+    public org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter getParameters(int index) {
+      return parameters_.get(index);
+    }
+    /**
+     * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+     *
+     * <pre>
+     *
+     * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+     * prepared statement, in order.
+     * </pre>
+     */
+    public org.apache.drill.exec.proto.UserProtos.PreparedStatementParameterOrBuilder getParametersOrBuilder(
+        int index) {
+      return parameters_.get(index);
+    }
+
     private void initFields() {
       resultsMode_ = org.apache.drill.exec.proto.UserProtos.QueryResultsMode.STREAM_FULL;
       type_ = org.apache.drill.exec.proto.UserBitShared.QueryType.SQL;
       plan_ = "";
       fragments_ = java.util.Collections.emptyList();
       preparedStatementHandle_ = org.apache.drill.exec.proto.UserProtos.PreparedStatementHandle.getDefaultInstance();
+      parameters_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -40645,6 +41939,9 @@ public final class UserProtos {
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
         output.writeMessage(5, preparedStatementHandle_);
       }
+      for (int i = 0; i < parameters_.size(); i++) {
+        output.writeMessage(6, parameters_.get(i));
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -40674,6 +41971,10 @@ public final class UserProtos {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(5, preparedStatementHandle_);
       }
+      for (int i = 0; i < parameters_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, parameters_.get(i));
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -40789,6 +42090,7 @@ public final class UserProtos {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
           getFragmentsFieldBuilder();
           getPreparedStatementHandleFieldBuilder();
+          getParametersFieldBuilder();
         }
       }
       private static Builder create() {
@@ -40815,6 +42117,12 @@ public final class UserProtos {
           preparedStatementHandleBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000010);
+        if (parametersBuilder_ == null) {
+          parameters_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          parametersBuilder_.clear();
+        }
         return this;
       }
 
@@ -40872,6 +42180,15 @@ public final class UserProtos {
         } else {
           result.preparedStatementHandle_ = preparedStatementHandleBuilder_.build();
         }
+        if (parametersBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020)) {
+            parameters_ = java.util.Collections.unmodifiableList(parameters_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.parameters_ = parameters_;
+        } else {
+          result.parameters_ = parametersBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -40928,6 +42245,32 @@ public final class UserProtos {
         if (other.hasPreparedStatementHandle()) {
           mergePreparedStatementHandle(other.getPreparedStatementHandle());
         }
+        if (parametersBuilder_ == null) {
+          if (!other.parameters_.isEmpty()) {
+            if (parameters_.isEmpty()) {
+              parameters_ = other.parameters_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureParametersIsMutable();
+              parameters_.addAll(other.parameters_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.parameters_.isEmpty()) {
+            if (parametersBuilder_.isEmpty()) {
+              parametersBuilder_.dispose();
+              parametersBuilder_ = null;
+              parameters_ = other.parameters_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              parametersBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getParametersFieldBuilder() : null;
+            } else {
+              parametersBuilder_.addAllMessages(other.parameters_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -41632,6 +42975,354 @@ public final class UserProtos {
         return preparedStatementHandleBuilder_;
       }
 
+      // repeated .exec.user.PreparedStatementParameter parameters = 6;
+      private java.util.List<org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter> parameters_ =
+        java.util.Collections.emptyList();
+      private void ensureParametersIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          parameters_ = new java.util.ArrayList<org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter>(parameters_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter, org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder, org.apache.drill.exec.proto.UserProtos.PreparedStatementParameterOrBuilder> parametersBuilder_;
+
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public java.util.List<org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter> getParametersList() {
+        if (parametersBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(parameters_);
+        } else {
+          return parametersBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public int getParametersCount() {
+        if (parametersBuilder_ == null) {
+          return parameters_.size();
+        } else {
+          return parametersBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter getParameters(int index) {
+        if (parametersBuilder_ == null) {
+          return parameters_.get(index);
+        } else {
+          return parametersBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public Builder setParameters(
+          int index, org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter value) {
+        if (parametersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureParametersIsMutable();
+          parameters_.set(index, value);
+          onChanged();
+        } else {
+          parametersBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public Builder setParameters(
+          int index, org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder builderForValue) {
+        if (parametersBuilder_ == null) {
+          ensureParametersIsMutable();
+          parameters_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          parametersBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public Builder addParameters(org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter value) {
+        if (parametersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureParametersIsMutable();
+          parameters_.add(value);
+          onChanged();
+        } else {
+          parametersBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public Builder addParameters(
+          int index, org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter value) {
+        if (parametersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureParametersIsMutable();
+          parameters_.add(index, value);
+          onChanged();
+        } else {
+          parametersBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public Builder addParameters(
+          org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder builderForValue) {
+        if (parametersBuilder_ == null) {
+          ensureParametersIsMutable();
+          parameters_.add(builderForValue.build());
+          onChanged();
+        } else {
+          parametersBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public Builder addParameters(
+          int index, org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder builderForValue) {
+        if (parametersBuilder_ == null) {
+          ensureParametersIsMutable();
+          parameters_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          parametersBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public Builder addAllParameters(
+          java.lang.Iterable<? extends org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter> values) {
+        if (parametersBuilder_ == null) {
+          ensureParametersIsMutable();
+          super.addAll(values, parameters_);
+          onChanged();
+        } else {
+          parametersBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public Builder clearParameters() {
+        if (parametersBuilder_ == null) {
+          parameters_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          parametersBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public Builder removeParameters(int index) {
+        if (parametersBuilder_ == null) {
+          ensureParametersIsMutable();
+          parameters_.remove(index);
+          onChanged();
+        } else {
+          parametersBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder getParametersBuilder(
+          int index) {
+        return getParametersFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public org.apache.drill.exec.proto.UserProtos.PreparedStatementParameterOrBuilder getParametersOrBuilder(
+          int index) {
+        if (parametersBuilder_ == null) {
+          return parameters_.get(index);  } else {
+          return parametersBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public java.util.List<? extends org.apache.drill.exec.proto.UserProtos.PreparedStatementParameterOrBuilder> 
+           getParametersOrBuilderList() {
+        if (parametersBuilder_ != null) {
+          return parametersBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(parameters_);
+        }
+      }
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder addParametersBuilder() {
+        return getParametersFieldBuilder().addBuilder(
+            org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder addParametersBuilder(
+          int index) {
+        return getParametersFieldBuilder().addBuilder(
+            index, org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .exec.user.PreparedStatementParameter parameters = 6;</code>
+       *
+       * <pre>
+       *
+       * Input for query type PREPARED_STATEMENT. Values of the parameters ('?') of the
+       * prepared statement, in order.
+       * </pre>
+       */
+      public java.util.List<org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder> 
+           getParametersBuilderList() {
+        return getParametersFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter, org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder, org.apache.drill.exec.proto.UserProtos.PreparedStatementParameterOrBuilder> 
+          getParametersFieldBuilder() {
+        if (parametersBuilder_ == null) {
+          parametersBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter, org.apache.drill.exec.proto.UserProtos.PreparedStatementParameter.Builder, org.apache.drill.exec.proto.UserProtos.PreparedStatementParameterOrBuilder>(
+                  parameters_,
+                  ((bitField0_ & 0x00000020) == 0x00000020),
+                  getParentForChildren(),
+                  isClean());
+          parameters_ = null;
+        }
+        return parametersBuilder_;
+      }
+
       // @@protoc_insertion_point(builder_scope:exec.user.RunQuery)
     }
 
@@ -41768,6 +43459,11 @@ public final class UserProtos {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_exec_user_PreparedStatement_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_exec_user_PreparedStatementParameter_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_exec_user_PreparedStatementParameter_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_exec_user_CreatePreparedStatementResp_descriptor;
   private static
@@ -41817,7 +43513,7 @@ public final class UserProtos {
       "\t\022\024\n\014majorVersion\030\003 \001(\r\022\024\n\014minorVersion\030" +
       "\004 \001(\r\022\024\n\014patchVersion\030\005 \001(\r\022\023\n\013applicati" +
       "on\030\006 \001(\t\022\023\n\013buildNumber\030\007 \001(\r\022\030\n\020version",
-      "Qualifier\030\010 \001(\t\"\375\002\n\022UserToBitHandshake\022." +
+      "Qualifier\030\010 \001(\t\"\270\003\n\022UserToBitHandshake\022." +
       "\n\007channel\030\001 \001(\0162\027.exec.shared.RpcChannel" +
       ":\004USER\022\031\n\021support_listening\030\002 \001(\010\022\023\n\013rpc" +
       "_version\030\003 \001(\005\0221\n\013credentials\030\004 \001(\0132\034.ex" +
@@ -41826,210 +43522,217 @@ public final class UserProtos {
       "ort_complex_types\030\006 \001(\010:\005false\022\036\n\017suppor" +
       "t_timeout\030\007 \001(\010:\005false\0221\n\014client_infos\030\010" +
       " \001(\0132\033.exec.user.RpcEndpointInfos\022,\n\014sas" +
-      "l_support\030\t \001(\0162\026.exec.user.SaslSupport\"",
-      "S\n\016RequestResults\022&\n\010query_id\030\001 \001(\0132\024.ex" +
-      "ec.shared.QueryId\022\031\n\021maximum_responses\030\002" +
-      " \001(\005\"g\n\025GetQueryPlanFragments\022\r\n\005query\030\001" +
-      " \002(\t\022$\n\004type\030\002 \001(\0162\026.exec.shared.QueryTy" +
-      "pe\022\031\n\nsplit_plan\030\003 \001(\010:\005false\"\316\001\n\022QueryP" +
-      "lanFragments\0223\n\006status\030\001 \002(\0162#.exec.shar" +
-      "ed.QueryResult.QueryState\022&\n\010query_id\030\002 " +
-      "\001(\0132\024.exec.shared.QueryId\0221\n\tfragments\030\003" +
-      " \003(\0132\036.exec.bit.control.PlanFragment\022(\n\005" +
-      "error\030\004 \001(\0132\031.exec.shared.DrillPBError\"\253",
-      "\002\n\022BitToUserHandshake\022\023\n\013rpc_version\030\002 \001" +
-      "(\005\022*\n\006status\030\003 \001(\0162\032.exec.user.Handshake" +
-      "Status\022\017\n\007errorId\030\004 \001(\t\022\024\n\014errorMessage\030" +
-      "\005 \001(\t\0221\n\014server_infos\030\006 \001(\0132\033.exec.user." +
-      "RpcEndpointInfos\022 \n\030authenticationMechan" +
-      "isms\030\007 \003(\t\022-\n\021supported_methods\030\010 \003(\0162\022." +
-      "exec.user.RpcType\022\021\n\tencrypted\030\t \001(\010\022\026\n\016" +
-      "maxWrappedSize\030\n \001(\005\"-\n\nLikeFilter\022\017\n\007pa" +
-      "ttern\030\001 \001(\t\022\016\n\006escape\030\002 \001(\t\"D\n\016GetCatalo" +
-      "gsReq\0222\n\023catalog_name_filter\030\001 \001(\0132\025.exe",
-      "c.user.LikeFilter\"M\n\017CatalogMetadata\022\024\n\014" +
-      "catalog_name\030\001 \001(\t\022\023\n\013description\030\002 \001(\t\022" +
-      "\017\n\007connect\030\003 \001(\t\"\223\001\n\017GetCatalogsResp\022(\n\006" +
-      "status\030\001 \001(\0162\030.exec.user.RequestStatus\022," +
-      "\n\010catalogs\030\002 \003(\0132\032.exec.user.CatalogMeta" +
-      "data\022(\n\005error\030\003 \001(\0132\031.exec.shared.DrillP" +
-      "BError\"v\n\rGetSchemasReq\0222\n\023catalog_name_" +
-      "filter\030\001 \001(\0132\025.exec.user.LikeFilter\0221\n\022s" +
-      "chema_name_filter\030\002 \001(\0132\025.exec.user.Like" +
-      "Filter\"i\n\016SchemaMetadata\022\024\n\014catalog_name",
-      "\030\001 \001(\t\022\023\n\013schema_name\030\002 \001(\t\022\r\n\005owner\030\003 \001" +
-      "(\t\022\014\n\004type\030\004 \001(\t\022\017\n\007mutable\030\005 \001(\t\"\220\001\n\016Ge" +
-      "tSchemasResp\022(\n\006status\030\001 \001(\0162\030.exec.user" +
-      ".RequestStatus\022*\n\007schemas\030\002 \003(\0132\031.exec.u" +
-      "ser.SchemaMetadata\022(\n\005error\030\003 \001(\0132\031.exec" +
-      ".shared.DrillPBError\"\302\001\n\014GetTablesReq\0222\n" +
-      "\023catalog_name_filter\030\001 \001(\0132\025.exec.user.L" +
-      "ikeFilter\0221\n\022schema_name_filter\030\002 \001(\0132\025." +
-      "exec.user.LikeFilter\0220\n\021table_name_filte" +
-      "r\030\003 \001(\0132\025.exec.user.LikeFilter\022\031\n\021table_",
-      "type_filter\030\004 \003(\t\"\\\n\rTableMetadata\022\024\n\014ca" +
-      "talog_name\030\001 \001(\t\022\023\n\013schema_name\030\002 \001(\t\022\022\n" +
-      "\ntable_name\030\003 \001(\t\022\014\n\004type\030\004 \001(\t\"\215\001\n\rGetT" +
-      "ablesResp\022(\n\006status\030\001 \001(\0162\030.exec.user.Re" +
-      "questStatus\022(\n\006tables\030\002 \003(\0132\030.exec.user." +
-      "TableMetadata\022(\n\005error\030\003 \001(\0132\031.exec.shar" +
-      "ed.DrillPBError\"\333\001\n\rGetColumnsReq\0222\n\023cat" +
-      "alog_name_filter\030\001 \001(\0132\025.exec.user.LikeF" +
-      "ilter\0221\n\022schema_name_filter\030\002 \001(\0132\025.exec" +
-      ".user.LikeFilter\0220\n\021table_name_filter\030\003 ",
-      "\001(\0132\025.exec.user.LikeFilter\0221\n\022column_nam" +
-      "e_filter\030\004 \001(\0132\025.exec.user.LikeFilter\"\251\003" +
-      "\n\016ColumnMetadata\022\024\n\014catalog_name\030\001 \001(\t\022\023" +
-      "\n\013schema_name\030\002 \001(\t\022\022\n\ntable_name\030\003 \001(\t\022" +
-      "\023\n\013column_name\030\004 \001(\t\022\030\n\020ordinal_position" +
-      "\030\005 \001(\005\022\025\n\rdefault_value\030\006 \001(\t\022\023\n\013is_null" +
-      "able\030\007 \001(\010\022\021\n\tdata_type\030\010 \001(\t\022\027\n\017char_ma" +
-      "x_length\030\t \001(\005\022\031\n\021char_octet_length\030\n \001(" +
-      "\005\022\031\n\021numeric_precision\030\013 \001(\005\022\037\n\027numeric_" +
-      "precision_radix\030\014 \001(\005\022\025\n\rnumeric_scale\030\r",
-      " \001(\005\022\033\n\023date_time_precision\030\016 \001(\005\022\025\n\rint" +
-      "erval_type\030\017 \001(\t\022\032\n\022interval_precision\030\020" +
-      " \001(\005\022\023\n\013column_size\030\021 \001(\005\"\220\001\n\016GetColumns" +
-      "Resp\022(\n\006status\030\001 \001(\0162\030.exec.user.Request" +
-      "Status\022*\n\007columns\030\002 \003(\0132\031.exec.user.Colu" +
-      "mnMetadata\022(\n\005error\030\003 \001(\0132\031.exec.shared." +
-      "DrillPBError\"/\n\032CreatePreparedStatementR" +
-      "eq\022\021\n\tsql_query\030\001 \001(\t\"\326\003\n\024ResultColumnMe" +
-      "tadata\022\024\n\014catalog_name\030\001 \001(\t\022\023\n\013schema_n" +
-      "ame\030\002 \001(\t\022\022\n\ntable_name\030\003 \001(\t\022\023\n\013column_",
-      "name\030\004 \001(\t\022\r\n\005label\030\005 \001(\t\022\021\n\tdata_type\030\006" +
-      " \001(\t\022\023\n\013is_nullable\030\007 \001(\010\022\021\n\tprecision\030\010" +
-      " \001(\005\022\r\n\005scale\030\t \001(\005\022\016\n\006signed\030\n \001(\010\022\024\n\014d" +
-      "isplay_size\030\013 \001(\005\022\022\n\nis_aliased\030\014 \001(\010\0225\n" +
-      "\rsearchability\030\r \001(\0162\036.exec.user.ColumnS" +
-      "earchability\0223\n\014updatability\030\016 \001(\0162\035.exe" +
-      "c.user.ColumnUpdatability\022\026\n\016auto_increm" +
-      "ent\030\017 \001(\010\022\030\n\020case_sensitivity\030\020 \001(\010\022\020\n\010s" +
-      "ortable\030\021 \001(\010\022\022\n\nclass_name\030\022 \001(\t\022\023\n\013is_" +
-      "currency\030\024 \001(\010\".\n\027PreparedStatementHandl",
-      "e\022\023\n\013server_info\030\001 \001(\014\"\200\001\n\021PreparedState" +
-      "ment\0220\n\007columns\030\001 \003(\0132\037.exec.user.Result" +
-      "ColumnMetadata\0229\n\rserver_handle\030\002 \001(\0132\"." +
-      "exec.user.PreparedStatementHandle\"\253\001\n\033Cr" +
-      "eatePreparedStatementResp\022(\n\006status\030\001 \001(" +
-      "\0162\030.exec.user.RequestStatus\0228\n\022prepared_" +
-      "statement\030\002 \001(\0132\034.exec.user.PreparedStat" +
-      "ement\022(\n\005error\030\003 \001(\0132\031.exec.shared.Drill" +
-      "PBError\"\022\n\020GetServerMetaReq\"P\n\016ConvertSu" +
-      "pport\022\037\n\004from\030\001 \002(\0162\021.common.MinorType\022\035",
-      "\n\002to\030\002 \002(\0162\021.common.MinorType\"\223\001\n\021GetSer" +
-      "verMetaResp\022(\n\006status\030\001 \001(\0162\030.exec.user." +
-      "RequestStatus\022*\n\013server_meta\030\002 \001(\0132\025.exe" +
-      "c.user.ServerMeta\022(\n\005error\030\003 \001(\0132\031.exec." +
-      "shared.DrillPBError\"\377\r\n\nServerMeta\022\035\n\025al" +
-      "l_tables_selectable\030\001 \001(\010\022%\n\035blob_includ" +
-      "ed_in_max_row_size\030\002 \001(\010\022\030\n\020catalog_at_s" +
-      "tart\030\003 \001(\010\022\031\n\021catalog_separator\030\004 \001(\t\022\024\n" +
-      "\014catalog_term\030\005 \001(\t\0222\n\017collate_support\030\006" +
-      " \003(\0162\031.exec.user.CollateSupport\022!\n\031colum",
-      "n_aliasing_supported\030\007 \001(\010\0222\n\017convert_su" +
-      "pport\030\010 \003(\0132\031.exec.user.ConvertSupport\022E" +
-      "\n\031correlation_names_support\030\t \001(\0162\".exec" +
-      ".user.CorrelationNamesSupport\022\033\n\023date_ti" +
-      "me_functions\030\n \003(\t\022F\n\032date_time_literals" +
-      "_support\030\013 \003(\0162\".exec.user.DateTimeLiter" +
-      "alsSupport\0223\n\020group_by_support\030\014 \001(\0162\031.e" +
-      "xec.user.GroupBySupport\0226\n\021identifier_ca" +
-      "sing\030\r \001(\0162\033.exec.user.IdentifierCasing\022" +
-      "\037\n\027identifier_quote_string\030\016 \001(\t\022$\n\034like",
-      "_escape_clause_supported\030\017 \001(\010\022!\n\031max_bi" +
-      "nary_literal_length\030\020 \001(\r\022\037\n\027max_catalog" +
-      "_name_length\030\021 \001(\r\022\037\n\027max_char_literal_l" +
-      "ength\030\022 \001(\r\022\036\n\026max_column_name_length\030\023 " +
-      "\001(\r\022\037\n\027max_columns_in_group_by\030\024 \001(\r\022\037\n\027" +
-      "max_columns_in_order_by\030\025 \001(\r\022\035\n\025max_col" +
-      "umns_in_select\030\026 \001(\r\022\036\n\026max_cursor_name_" +
-      "length\030\027 \001(\r\022\034\n\024max_logical_lob_size\030\030 \001" +
-      "(\r\022\024\n\014max_row_size\030\031 \001(\r\022\036\n\026max_schema_n" +
-      "ame_length\030\032 \001(\r\022\034\n\024max_statement_length",
-      "\030\033 \001(\r\022\026\n\016max_statements\030\034 \001(\r\022\035\n\025max_ta" +
-      "ble_name_length\030\035 \001(\r\022\034\n\024max_tables_in_s" +
-      "elect\030\036 \001(\r\022\034\n\024max_user_name_length\030\037 \001(" +
-      "\r\0220\n\016null_collation\030  \001(\0162\030.exec.user.Nu" +
-      "llCollation\022&\n\036null_plus_non_null_equals" +
-      "_null\030! \001(\010\022\031\n\021numeric_functions\030\" \003(\t\0223" +
-      "\n\020order_by_support\030# \003(\0162\031.exec.user.Ord" +
-      "erBySupport\0227\n\022outer_join_support\030$ \003(\0162" +
-      "\033.exec.user.OuterJoinSupport\022=\n\030quoted_i" +
-      "dentifier_casing\030% \001(\0162\033.exec.user.Ident",
-      "ifierCasing\022\021\n\tread_only\030& \001(\010\022\023\n\013schema" +
-      "_term\030\' \001(\t\022\034\n\024search_escape_string\030( \001(" +
-      "\t\022#\n\033select_for_update_supported\030) \001(\010\022\032" +
-      "\n\022special_characters\030* \001(\t\022\024\n\014sql_keywor" +
-      "ds\030+ \003(\t\022\030\n\020string_functions\030, \003(\t\0224\n\020su" +
-      "bquery_support\030- \003(\0162\032.exec.user.SubQuer" +
-      "ySupport\022\030\n\020system_functions\030. \003(\t\022\022\n\nta" +
-      "ble_term\030/ \001(\t\022\035\n\025transaction_supported\030" +
-      "0 \001(\010\022.\n\runion_support\0301 \003(\0162\027.exec.user" +
-      ".UnionSupport\"\353\001\n\010RunQuery\0221\n\014results_mo",
-      "de\030\001 \001(\0162\033.exec.user.QueryResultsMode\022$\n" +
-      "\004type\030\002 \001(\0162\026.exec.shared.QueryType\022\014\n\004p" +
-      "lan\030\003 \001(\t\0221\n\tfragments\030\004 \003(\0132\036.exec.bit." +
-      "control.PlanFragment\022E\n\031prepared_stateme" +
-      "nt_handle\030\005 \001(\0132\".exec.user.PreparedStat" +
-      "ementHandle*\320\003\n\007RpcType\022\r\n\tHANDSHAKE\020\000\022\007" +
-      "\n\003ACK\020\001\022\013\n\007GOODBYE\020\002\022\r\n\tRUN_QUERY\020\003\022\020\n\014C" +
-      "ANCEL_QUERY\020\004\022\023\n\017REQUEST_RESULTS\020\005\022\027\n\023RE" +
-      "SUME_PAUSED_QUERY\020\013\022\034\n\030GET_QUERY_PLAN_FR" +
-      "AGMENTS\020\014\022\020\n\014GET_CATALOGS\020\016\022\017\n\013GET_SCHEM",
-      "AS\020\017\022\016\n\nGET_TABLES\020\020\022\017\n\013GET_COLUMNS\020\021\022\035\n" +
-      "\031CREATE_PREPARED_STATEMENT\020\026\022\023\n\017GET_SERV" +
-      "ER_META\020\010\022\016\n\nQUERY_DATA\020\006\022\020\n\014QUERY_HANDL" +
-      "E\020\007\022\030\n\024QUERY_PLAN_FRAGMENTS\020\r\022\014\n\010CATALOG" +
-      "S\020\022\022\013\n\007SCHEMAS\020\023\022\n\n\006TABLES\020\024\022\013\n\007COLUMNS\020" +
-      "\025\022\026\n\022PREPARED_STATEMENT\020\027\022\017\n\013SERVER_META" +
-      "\020\t\022\020\n\014QUERY_RESULT\020\n\022\020\n\014SASL_MESSAGE\020\030*H" +
-      "\n\013SaslSupport\022\030\n\024UNKNOWN_SASL_SUPPORT\020\000\022" +
-      "\r\n\tSASL_AUTH\020\001\022\020\n\014SASL_PRIVACY\020\002*#\n\020Quer" +
-      "yResultsMode\022\017\n\013STREAM_FULL\020\001*q\n\017Handsha",
-      "keStatus\022\013\n\007SUCCESS\020\001\022\030\n\024RPC_VERSION_MIS" +
-      "MATCH\020\002\022\017\n\013AUTH_FAILED\020\003\022\023\n\017UNKNOWN_FAIL" +
-      "URE\020\004\022\021\n\rAUTH_REQUIRED\020\005*D\n\rRequestStatu" +
-      "s\022\022\n\016UNKNOWN_STATUS\020\000\022\006\n\002OK\020\001\022\n\n\006FAILED\020" +
-      "\002\022\013\n\007TIMEOUT\020\003*Y\n\023ColumnSearchability\022\031\n" +
-      "\025UNKNOWN_SEARCHABILITY\020\000\022\010\n\004NONE\020\001\022\010\n\004CH" +
-      "AR\020\002\022\n\n\006NUMBER\020\003\022\007\n\003ALL\020\004*K\n\022ColumnUpdat" +
-      "ability\022\030\n\024UNKNOWN_UPDATABILITY\020\000\022\r\n\tREA" +
-      "D_ONLY\020\001\022\014\n\010WRITABLE\020\002*1\n\016CollateSupport" +
-      "\022\016\n\nCS_UNKNOWN\020\000\022\017\n\013CS_GROUP_BY\020\001*J\n\027Cor",
-      "relationNamesSupport\022\013\n\007CN_NONE\020\001\022\026\n\022CN_" +
-      "DIFFERENT_NAMES\020\002\022\n\n\006CN_ANY\020\003*\271\003\n\027DateTi" +
-      "meLiteralsSupport\022\016\n\nDL_UNKNOWN\020\000\022\013\n\007DL_" +
-      "DATE\020\001\022\013\n\007DL_TIME\020\002\022\020\n\014DL_TIMESTAMP\020\003\022\024\n" +
-      "\020DL_INTERVAL_YEAR\020\004\022\025\n\021DL_INTERVAL_MONTH" +
-      "\020\005\022\023\n\017DL_INTERVAL_DAY\020\006\022\024\n\020DL_INTERVAL_H" +
-      "OUR\020\007\022\026\n\022DL_INTERVAL_MINUTE\020\010\022\026\n\022DL_INTE" +
-      "RVAL_SECOND\020\t\022\035\n\031DL_INTERVAL_YEAR_TO_MON" +
-      "TH\020\n\022\033\n\027DL_INTERVAL_DAY_TO_HOUR\020\013\022\035\n\031DL_" +
-      "INTERVAL_DAY_TO_MINUTE\020\014\022\035\n\031DL_INTERVAL_",
-      "DAY_TO_SECOND\020\r\022\036\n\032DL_INTERVAL_HOUR_TO_M" +
-      "INUTE\020\016\022\036\n\032DL_INTERVAL_HOUR_TO_SECOND\020\017\022" +
-      " \n\034DL_INTERVAL_MINUTE_TO_SECOND\020\020*Y\n\016Gro" +
-      "upBySupport\022\013\n\007GB_NONE\020\001\022\022\n\016GB_SELECT_ON" +
-      "LY\020\002\022\024\n\020GB_BEYOND_SELECT\020\003\022\020\n\014GB_UNRELAT" +
-      "ED\020\004*x\n\020IdentifierCasing\022\016\n\nIC_UNKNOWN\020\000" +
-      "\022\023\n\017IC_STORES_LOWER\020\001\022\023\n\017IC_STORES_MIXED" +
-      "\020\002\022\023\n\017IC_STORES_UPPER\020\003\022\025\n\021IC_SUPPORTS_M" +
-      "IXED\020\004*X\n\rNullCollation\022\016\n\nNC_UNKNOWN\020\000\022" +
-      "\017\n\013NC_AT_START\020\001\022\r\n\tNC_AT_END\020\002\022\013\n\007NC_HI",
-      "GH\020\003\022\n\n\006NC_LOW\020\004*E\n\016OrderBySupport\022\016\n\nOB" +
-      "_UNKNOWN\020\000\022\020\n\014OB_UNRELATED\020\001\022\021\n\rOB_EXPRE" +
-      "SSION\020\002*\226\001\n\020OuterJoinSupport\022\016\n\nOJ_UNKNO" +
-      "WN\020\000\022\013\n\007OJ_LEFT\020\001\022\014\n\010OJ_RIGHT\020\002\022\013\n\007OJ_FU" +
-      "LL\020\003\022\r\n\tOJ_NESTED\020\004\022\022\n\016OJ_NOT_ORDERED\020\005\022" +
-      "\014\n\010OJ_INNER\020\006\022\031\n\025OJ_ALL_COMPARISON_OPS\020\007" +
-      "*\204\001\n\017SubQuerySupport\022\016\n\nSQ_UNKNOWN\020\000\022\021\n\r" +
-      "SQ_CORRELATED\020\001\022\024\n\020SQ_IN_COMPARISON\020\002\022\020\n" +
-      "\014SQ_IN_EXISTS\020\003\022\020\n\014SQ_IN_INSERT\020\004\022\024\n\020SQ_" +
-      "IN_QUANTIFIED\020\005*;\n\014UnionSupport\022\r\n\tU_UNK",
-      "NOWN\020\000\022\013\n\007U_UNION\020\001\022\017\n\013U_UNION_ALL\020\002B+\n\033" +
-      "org.apache.drill.exec.protoB\nUserProtosH" +
-      "\001"
+      "l_support\030\t \001(\0162\026.exec.user.SaslSupport\022",
+      "9\n\022result_compression\030\n \001(\0162\035.exec.share" +
+      "d.CompressionCodec\"S\n\016RequestResults\022&\n\010" +
+      "query_id\030\001 \001(\0132\024.exec.shared.QueryId\022\031\n\021" +
+      "maximum_responses\030\002 \001(\005\"g\n\025GetQueryPlanF" +
+      "ragments\022\r\n\005query\030\001 \002(\t\022$\n\004type\030\002 \001(\0162\026." +
+      "exec.shared.QueryType\022\031\n\nsplit_plan\030\003 \001(" +
+      "\010:\005false\"\316\001\n\022QueryPlanFragments\0223\n\006statu" +
+      "s\030\001 \002(\0162#.exec.shared.QueryResult.QueryS" +
+      "tate\022&\n\010query_id\030\002 \001(\0132\024.exec.shared.Que" +
+      "ryId\0221\n\tfragments\030\003 \003(\0132\036.exec.bit.contr",
+      "ol.PlanFragment\022(\n\005error\030\004 \001(\0132\031.exec.sh" +
+      "ared.DrillPBError\"\346\002\n\022BitToUserHandshake" +
+      "\022\023\n\013rpc_version\030\002 \001(\005\022*\n\006status\030\003 \001(\0162\032." +
+      "exec.user.HandshakeStatus\022\017\n\007errorId\030\004 \001" +
+      "(\t\022\024\n\014errorMessage\030\005 \001(\t\0221\n\014server_infos" +
+      "\030\006 \001(\0132\033.exec.user.RpcEndpointInfos\022 \n\030a" +
+      "uthenticationMechanisms\030\007 \003(\t\022-\n\021support" +
+      "ed_methods\030\010 \003(\0162\022.exec.user.RpcType\022\021\n\t" +
+      "encrypted\030\t \001(\010\022\026\n\016maxWrappedSize\030\n \001(\005\022" +
+      "9\n\022result_compression\030\013 \001(\0162\035.exec.share",
+      "d.CompressionCodec\"-\n\nLikeFilter\022\017\n\007patt" +
+      "ern\030\001 \001(\t\022\016\n\006escape\030\002 \001(\t\"D\n\016GetCatalogs" +
+      "Req\0222\n\023catalog_name_filter\030\001 \001(\0132\025.exec." +
+      "user.LikeFilter\"M\n\017CatalogMetadata\022\024\n\014ca" +
+      "talog_name\030\001 \001(\t\022\023\n\013description\030\002 \001(\t\022\017\n" +
+      "\007connect\030\003 \001(\t\"\223\001\n\017GetCatalogsResp\022(\n\006st" +
+      "atus\030\001 \001(\0162\030.exec.user.RequestStatus\022,\n\010" +
+      "catalogs\030\002 \003(\0132\032.exec.user.CatalogMetada" +
+      "ta\022(\n\005error\030\003 \001(\0132\031.exec.shared.DrillPBE" +
+      "rror\"v\n\rGetSchemasReq\0222\n\023catalog_name_fi",
+      "lter\030\001 \001(\0132\025.exec.user.LikeFilter\0221\n\022sch" +
+      "ema_name_filter\030\002 \001(\0132\025.exec.user.LikeFi" +
+      "lter\"i\n\016SchemaMetadata\022\024\n\014catalog_name\030\001" +
+      " \001(\t\022\023\n\013schema_name\030\002 \001(\t\022\r\n\005owner\030\003 \001(\t" +
+      "\022\014\n\004type\030\004 \001(\t\022\017\n\007mutable\030\005 \001(\t\"\220\001\n\016GetS" +
+      "chemasResp\022(\n\006status\030\001 \001(\0162\030.exec.user.R" +
+      "equestStatus\022*\n\007schemas\030\002 \003(\0132\031.exec.use" +
+      "r.SchemaMetadata\022(\n\005error\030\003 \001(\0132\031.exec.s" +
+      "hared.DrillPBError\"\302\001\n\014GetTablesReq\0222\n\023c" +
+      "atalog_name_filter\030\001 \001(\0132\025.exec.user.Lik",
+      "eFilter\0221\n\022schema_name_filter\030\002 \001(\0132\025.ex" +
+      "ec.user.LikeFilter\0220\n\021table_name_filter\030" +
+      "\003 \001(\0132\025.exec.user.LikeFilter\022\031\n\021table_ty" +
+      "pe_filter\030\004 \003(\t\"\\\n\rTableMetadata\022\024\n\014cata" +
+      "log_name\030\001 \001(\t\022\023\n\013schema_name\030\002 \001(\t\022\022\n\nt" +
+      "able_name\030\003 \001(\t\022\014\n\004type\030\004 \001(\t\"\215\001\n\rGetTab" +
+      "lesResp\022(\n\006status\030\001 \001(\0162\030.exec.user.Requ" +
+      "estStatus\022(\n\006tables\030\002 \003(\0132\030.exec.user.Ta" +
+      "bleMetadata\022(\n\005error\030\003 \001(\0132\031.exec.shared" +
+      ".DrillPBError\"\333\001\n\rGetColumnsReq\0222\n\023catal",
+      "og_name_filter\030\001 \001(\0132\025.exec.user.LikeFil" +
+      "ter\0221\n\022schema_name_filter\030\002 \001(\0132\025.exec.u" +
+      "ser.LikeFilter\0220\n\021table_name_filter\030\003 \001(" +
+      "\0132\025.exec.user.LikeFilter\0221\n\022column_name_" +
+      "filter\030\004 \001(\0132\025.exec.user.LikeFilter\"\251\003\n\016" +
+      "ColumnMetadata\022\024\n\014catalog_name\030\001 \001(\t\022\023\n\013" +
+      "schema_name\030\002 \001(\t\022\022\n\ntable_name\030\003 \001(\t\022\023\n" +
+      "\013column_name\030\004 \001(\t\022\030\n\020ordinal_position\030\005" +
+      " \001(\005\022\025\n\rdefault_value\030\006 \001(\t\022\023\n\013is_nullab" +
+      "le\030\007 \001(\010\022\021\n\tdata_type\030\010 \001(\t\022\027\n\017char_max_",
+      "length\030\t \001(\005\022\031\n\021char_octet_length\030\n \001(\005\022" +
+      "\031\n\021numeric_precision\030\013 \001(\005\022\037\n\027numeric_pr" +
+      "ecision_radix\030\014 \001(\005\022\025\n\rnumeric_scale\030\r \001" +
+      "(\005\022\033\n\023date_time_precision\030\016 \001(\005\022\025\n\rinter" +
+      "val_type\030\017 \001(\t\022\032\n\022interval_precision\030\020 \001" +
+      "(\005\022\023\n\013column_size\030\021 \001(\005\"\220\001\n\016GetColumnsRe" +
+      "sp\022(\n\006status\030\001 \001(\0162\030.exec.user.RequestSt" +
+      "atus\022*\n\007columns\030\002 \003(\0132\031.exec.user.Column" +
+      "Metadata\022(\n\005error\030\003 \001(\0132\031.exec.shared.Dr" +
+      "illPBError\"/\n\032CreatePreparedStatementReq",
+      "\022\021\n\tsql_query\030\001 \001(\t\"\326\003\n\024ResultColumnMeta" +
+      "data\022\024\n\014catalog_name\030\001 \001(\t\022\023\n\013schema_nam" +
+      "e\030\002 \001(\t\022\022\n\ntable_name\030\003 \001(\t\022\023\n\013column_na" +
+      "me\030\004 \001(\t\022\r\n\005label\030\005 \001(\t\022\021\n\tdata_type\030\006 \001" +
+      "(\t\022\023\n\013is_nullable\030\007 \001(\010\022\021\n\tprecision\030\010 \001" +
+      "(\005\022\r\n\005scale\030\t \001(\005\022\016\n\006signed\030\n \001(\010\022\024\n\014dis" +
+      "play_size\030\013 \001(\005\022\022\n\nis_aliased\030\014 \001(\010\0225\n\rs" +
+      "earchability\030\r \001(\0162\036.exec.user.ColumnSea" +
+      "rchability\0223\n\014updatability\030\016 \001(\0162\035.exec." +
+      "user.ColumnUpdatability\022\026\n\016auto_incremen",
+      "t\030\017 \001(\010\022\030\n\020case_sensitivity\030\020 \001(\010\022\020\n\010sor" +
+      "table\030\021 \001(\010\022\022\n\nclass_name\030\022 \001(\t\022\023\n\013is_cu" +
+      "rrency\030\024 \001(\010\".\n\027PreparedStatementHandle\022" +
+      "\023\n\013server_info\030\001 \001(\014\"\231\001\n\021PreparedStateme" +
+      "nt\0220\n\007columns\030\001 \003(\0132\037.exec.user.ResultCo" +
+      "lumnMetadata\0229\n\rserver_handle\030\002 \001(\0132\".ex" +
+      "ec.user.PreparedStatementHandle\022\027\n\017param" +
+      "eter_count\030\003 \001(\005\"p\n\032PreparedStatementPar" +
+      "ameter\022\022\n\nbool_value\030\001 \001(\010\022\022\n\nlong_value" +
+      "\030\002 \001(\022\022\024\n\014double_value\030\003 \001(\001\022\024\n\014string_v",
+      "alue\030\004 \001(\t\"\253\001\n\033CreatePreparedStatementRe" +
+      "sp\022(\n\006status\030\001 \001(\0162\030.exec.user.RequestSt" +
+      "atus\0228\n\022prepared_statement\030\002 \001(\0132\034.exec." +
+      "user.PreparedStatement\022(\n\005error\030\003 \001(\0132\031." +
+      "exec.shared.DrillPBError\"\022\n\020GetServerMet" +
+      "aReq\"P\n\016ConvertSupport\022\037\n\004from\030\001 \002(\0162\021.c" +
+      "ommon.MinorType\022\035\n\002to\030\002 \002(\0162\021.common.Min" +
+      "orType\"\223\001\n\021GetServerMetaResp\022(\n\006status\030\001" +
+      " \001(\0162\030.exec.user.RequestStatus\022*\n\013server" +
+      "_meta\030\002 \001(\0132\025.exec.user.ServerMeta\022(\n\005er",
+      "ror\030\003 \001(\0132\031.exec.shared.DrillPBError\"\377\r\n" +
+      "\nServerMeta\022\035\n\025all_tables_selectable\030\001 \001" +
+      "(\010\022%\n\035blob_included_in_max_row_size\030\002 \001(" +
+      "\010\022\030\n\020catalog_at_start\030\003 \001(\010\022\031\n\021catalog_s" +
+      "eparator\030\004 \001(\t\022\024\n\014catalog_term\030\005 \001(\t\0222\n\017" +
+      "collate_support\030\006 \003(\0162\031.exec.user.Collat" +
+      "eSupport\022!\n\031column_aliasing_supported\030\007 " +
+      "\001(\010\0222\n\017convert_support\030\010 \003(\0132\031.exec.user" +
+      ".ConvertSupport\022E\n\031correlation_names_sup" +
+      "port\030\t \001(\0162\".exec.user.CorrelationNamesS",
+      "upport\022\033\n\023date_time_functions\030\n \003(\t\022F\n\032d" +
+      "ate_time_literals_support\030\013 \003(\0162\".exec.u" +
+      "ser.DateTimeLiteralsSupport\0223\n\020group_by_" +
+      "support\030\014 \001(\0162\031.exec.user.GroupBySupport" +
+      "\0226\n\021identifier_casing\030\r \001(\0162\033.exec.user." +
+      "IdentifierCasing\022\037\n\027identifier_quote_str" +
+      "ing\030\016 \001(\t\022$\n\034like_escape_clause_supporte" +
+      "d\030\017 \001(\010\022!\n\031max_binary_literal_length\030\020 \001" +
+      "(\r\022\037\n\027max_catalog_name_length\030\021 \001(\r\022\037\n\027m" +
+      "ax_char_literal_length\030\022 \001(\r\022\036\n\026max_colu",
+      "mn_name_length\030\023 \001(\r\022\037\n\027max_columns_in_g" +
+      "roup_by\030\024 \001(\r\022\037\n\027max_columns_in_order_by" +
+      "\030\025 \001(\r\022\035\n\025max_columns_in_select\030\026 \001(\r\022\036\n" +
+      "\026max_cursor_name_length\030\027 \001(\r\022\034\n\024max_log" +
+      "ical_lob_size\030\030 \001(\r\022\024\n\014max_row_size\030\031 \001(" +
+      "\r\022\036\n\026max_schema_name_length\030\032 \001(\r\022\034\n\024max" +
+      "_statement_length\030\033 \001(\r\022\026\n\016max_statement" +
+      "s\030\034 \001(\r\022\035\n\025max_table_name_length\030\035 \001(\r\022\034" +
+      "\n\024max_tables_in_select\030\036 \001(\r\022\034\n\024max_user" +
+      "_name_length\030\037 \001(\r\0220\n\016null_collation\030  \001",
+      "(\0162\030.exec.user.NullCollation\022&\n\036null_plu" +
+      "s_non_null_equals_null\030! \001(\010\022\031\n\021numeric_" +
+      "functions\030\" \003(\t\0223\n\020order_by_support\030# \003(" +
+      "\0162\031.exec.user.OrderBySupport\0227\n\022outer_jo" +
+      "in_support\030$ \003(\0162\033.exec.user.OuterJoinSu" +
+      "pport\022=\n\030quoted_identifier_casing\030% \001(\0162" +
+      "\033.exec.user.IdentifierCasing\022\021\n\tread_onl" +
+      "y\030& \001(\010\022\023\n\013schema_term\030\' \001(\t\022\034\n\024search_e" +
+      "scape_string\030( \001(\t\022#\n\033select_for_update_" +
+      "supported\030) \001(\010\022\032\n\022special_characters\030* ",
+      "\001(\t\022\024\n\014sql_keywords\030+ \003(\t\022\030\n\020string_func" +
+      "tions\030, \003(\t\0224\n\020subquery_support\030- \003(\0162\032." +
+      "exec.user.SubQuerySupport\022\030\n\020system_func" +
+      "tions\030. \003(\t\022\022\n\ntable_term\030/ \001(\t\022\035\n\025trans" +
+      "action_supported\0300 \001(\010\022.\n\runion_support\030" +
+      "1 \003(\0162\027.exec.user.UnionSupport\"\246\002\n\010RunQu" +
+      "ery\0221\n\014results_mode\030\001 \001(\0162\033.exec.user.Qu" +
+      "eryResultsMode\022$\n\004type\030\002 \001(\0162\026.exec.shar" +
+      "ed.QueryType\022\014\n\004plan\030\003 \001(\t\0221\n\tfragments\030" +
+      "\004 \003(\0132\036.exec.bit.control.PlanFragment\022E\n",
+      "\031prepared_statement_handle\030\005 \001(\0132\".exec." +
+      "user.PreparedStatementHandle\0229\n\nparamete" +
+      "rs\030\006 \003(\0132%.exec.user.PreparedStatementPa" +
+      "rameter*\320\003\n\007RpcType\022\r\n\tHANDSHAKE\020\000\022\007\n\003AC" +
+      "K\020\001\022\013\n\007GOODBYE\020\002\022\r\n\tRUN_QUERY\020\003\022\020\n\014CANCE" +
+      "L_QUERY\020\004\022\023\n\017REQUEST_RESULTS\020\005\022\027\n\023RESUME" +
+      "_PAUSED_QUERY\020\013\022\034\n\030GET_QUERY_PLAN_FRAGME" +
+      "NTS\020\014\022\020\n\014GET_CATALOGS\020\016\022\017\n\013GET_SCHEMAS\020\017" +
+      "\022\016\n\nGET_TABLES\020\020\022\017\n\013GET_COLUMNS\020\021\022\035\n\031CRE" +
+      "ATE_PREPARED_STATEMENT\020\026\022\023\n\017GET_SERVER_M",
+      "ETA\020\010\022\016\n\nQUERY_DATA\020\006\022\020\n\014QUERY_HANDLE\020\007\022" +
+      "\030\n\024QUERY_PLAN_FRAGMENTS\020\r\022\014\n\010CATALOGS\020\022\022" +
+      "\013\n\007SCHEMAS\020\023\022\n\n\006TABLES\020\024\022\013\n\007COLUMNS\020\025\022\026\n" +
+      "\022PREPARED_STATEMENT\020\027\022\017\n\013SERVER_META\020\t\022\020" +
+      "\n\014QUERY_RESULT\020\n\022\020\n\014SASL_MESSAGE\020\030*H\n\013Sa" +
+      "slSupport\022\030\n\024UNKNOWN_SASL_SUPPORT\020\000\022\r\n\tS" +
+      "ASL_AUTH\020\001\022\020\n\014SASL_PRIVACY\020\002*#\n\020QueryRes" +
+      "ultsMode\022\017\n\013STREAM_FULL\020\001*q\n\017HandshakeSt" +
+      "atus\022\013\n\007SUCCESS\020\001\022\030\n\024RPC_VERSION_MISMATC" +
+      "H\020\002\022\017\n\013AUTH_FAILED\020\003\022\023\n\017UNKNOWN_FAILURE\020",
+      "\004\022\021\n\rAUTH_REQUIRED\020\005*D\n\rRequestStatus\022\022\n" +
+      "\016UNKNOWN_STATUS\020\000\022\006\n\002OK\020\001\022\n\n\006FAILED\020\002\022\013\n" +
+      "\007TIMEOUT\020\003*Y\n\023ColumnSearchability\022\031\n\025UNK" +
+      "NOWN_SEARCHABILITY\020\000\022\010\n\004NONE\020\001\022\010\n\004CHAR\020\002" +
+      "\022\n\n\006NUMBER\020\003\022\007\n\003ALL\020\004*K\n\022ColumnUpdatabil" +
+      "ity\022\030\n\024UNKNOWN_UPDATABILITY\020\000\022\r\n\tREAD_ON" +
+      "LY\020\001\022\014\n\010WRITABLE\020\002*1\n\016CollateSupport\022\016\n\n" +
+      "CS_UNKNOWN\020\000\022\017\n\013CS_GROUP_BY\020\001*J\n\027Correla" +
+      "tionNamesSupport\022\013\n\007CN_NONE\020\001\022\026\n\022CN_DIFF" +
+      "ERENT_NAMES\020\002\022\n\n\006CN_ANY\020\003*\271\003\n\027DateTimeLi",
+      "teralsSupport\022\016\n\nDL_UNKNOWN\020\000\022\013\n\007DL_DATE" +
+      "\020\001\022\013\n\007DL_TIME\020\002\022\020\n\014DL_TIMESTAMP\020\003\022\024\n\020DL_" +
+      "INTERVAL_YEAR\020\004\022\025\n\021DL_INTERVAL_MONTH\020\005\022\023" +
+      "\n\017DL_INTERVAL_DAY\020\006\022\024\n\020DL_INTERVAL_HOUR\020" +
+      "\007\022\026\n\022DL_INTERVAL_MINUTE\020\010\022\026\n\022DL_INTERVAL" +
+      "_SECOND\020\t\022\035\n\031DL_INTERVAL_YEAR_TO_MONTH\020\n" +
+      "\022\033\n\027DL_INTERVAL_DAY_TO_HOUR\020\013\022\035\n\031DL_INTE" +
+      "RVAL_DAY_TO_MINUTE\020\014\022\035\n\031DL_INTERVAL_DAY_" +
+      "TO_SECOND\020\r\022\036\n\032DL_INTERVAL_HOUR_TO_MINUT" +
+      "E\020\016\022\036\n\032DL_INTERVAL_HOUR_TO_SECOND\020\017\022 \n\034D",
+      "L_INTERVAL_MINUTE_TO_SECOND\020\020*Y\n\016GroupBy" +
+      "Support\022\013\n\007GB_NONE\020\001\022\022\n\016GB_SELECT_ONLY\020\002" +
+      "\022\024\n\020GB_BEYOND_SELECT\020\003\022\020\n\014GB_UNRELATED\020\004" +
+      "*x\n\020IdentifierCasing\022\016\n\nIC_UNKNOWN\020\000\022\023\n\017" +
+      "IC_STORES_LOWER\020\001\022\023\n\017IC_STORES_MIXED\020\002\022\023" +
+      "\n\017IC_STORES_UPPER\020\003\022\025\n\021IC_SUPPORTS_MIXED" +
+      "\020\004*X\n\rNullCollation\022\016\n\nNC_UNKNOWN\020\000\022\017\n\013N" +
+      "C_AT_START\020\001\022\r\n\tNC_AT_END\020\002\022\013\n\007NC_HIGH\020\003" +
+      "\022\n\n\006NC_LOW\020\004*E\n\016OrderBySupport\022\016\n\nOB_UNK" +
+      "NOWN\020\000\022\020\n\014OB_UNRELATED\020\001\022\021\n\rOB_EXPRESSIO",
+      "N\020\002*\226\001\n\020OuterJoinSupport\022\016\n\nOJ_UNKNOWN\020\000" +
+      "\022\013\n\007OJ_LEFT\020\001\022\014\n\010OJ_RIGHT\020\002\022\013\n\007OJ_FULL\020\003" +
+      "\022\r\n\tOJ_NESTED\020\004\022\022\n\016OJ_NOT_ORDERED\020\005\022\014\n\010O" +
+      "J_INNER\020\006\022\031\n\025OJ_ALL_COMPARISON_OPS\020\007*\204\001\n" +
+      "\017SubQuerySupport\022\016\n\nSQ_UNKNOWN\020\000\022\021\n\rSQ_C" +
+      "ORRELATED\020\001\022\024\n\020SQ_IN_COMPARISON\020\002\022\020\n\014SQ_" +
+      "IN_EXISTS\020\003\022\020\n\014SQ_IN_INSERT\020\004\022\024\n\020SQ_IN_Q" +
+      "UANTIFIED\020\005*;\n\014UnionSupport\022\r\n\tU_UNKNOWN" +
+      "\020\000\022\013\n\007U_UNION\020\001\022\017\n\013U_UNION_ALL\020\002B+\n\033org." +
+      "apache.drill.exec.protoB\nUserProtosH\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -42059,7 +43762,7 @@ public final class UserProtos {
           internal_static_exec_user_UserToBitHandshake_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_user_UserToBitHandshake_descriptor,
-              new java.lang.String[] { "Channel", "SupportListening", "RpcVersion", "Credentials", "Properties", "SupportComplexTypes", "SupportTimeout", "ClientInfos", "SaslSupport", });
+              new java.lang.String[] { "Channel", "SupportListening", "RpcVersion", "Credentials", "Properties", "SupportComplexTypes", "SupportTimeout", "ClientInfos", "SaslSupport", "ResultCompression", });
           internal_static_exec_user_RequestResults_descriptor =
             getDescriptor().getMessageTypes().get(4);
           internal_static_exec_user_RequestResults_fieldAccessorTable = new
@@ -42083,7 +43786,7 @@ public final class UserProtos {
           internal_static_exec_user_BitToUserHandshake_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_user_BitToUserHandshake_descriptor,
-              new java.lang.String[] { "RpcVersion", "Status", "ErrorId", "ErrorMessage", "ServerInfos", "AuthenticationMechanisms", "SupportedMethods", "Encrypted", "MaxWrappedSize", });
+              new java.lang.String[] { "RpcVersion", "Status", "ErrorId", "ErrorMessage", "ServerInfos", "AuthenticationMechanisms", "SupportedMethods", "Encrypted", "MaxWrappedSize", "ResultCompression", });
           internal_static_exec_user_LikeFilter_descriptor =
             getDescriptor().getMessageTypes().get(8);
           internal_static_exec_user_LikeFilter_fieldAccessorTable = new
@@ -42185,43 +43888,49 @@ public final class UserProtos {
           internal_static_exec_user_PreparedStatement_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_user_PreparedStatement_descriptor,
-              new java.lang.String[] { "Columns", "ServerHandle", });
-          internal_static_exec_user_CreatePreparedStatementResp_descriptor =
+              new java.lang.String[] { "Columns", "ServerHandle", "ParameterCount", });
+          internal_static_exec_user_PreparedStatementParameter_descriptor =
             getDescriptor().getMessageTypes().get(25);
+          internal_static_exec_user_PreparedStatementParameter_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_exec_user_PreparedStatementParameter_descriptor,
+              new java.lang.String[] { "BoolValue", "LongValue", "DoubleValue", "StringValue", });
+          internal_static_exec_user_CreatePreparedStatementResp_descriptor =
+            getDescriptor().getMessageTypes().get(26);
           internal_static_exec_user_CreatePreparedStatementResp_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_user_CreatePreparedStatementResp_descriptor,
               new java.lang.String[] { "Status", "PreparedStatement", "Error", });
           internal_static_exec_user_GetServerMetaReq_descriptor =
-            getDescriptor().getMessageTypes().get(26);
+            getDescriptor().getMessageTypes().get(27);
           internal_static_exec_user_GetServerMetaReq_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_user_GetServerMetaReq_descriptor,
               new java.lang.String[] { });
           internal_static_exec_user_ConvertSupport_descriptor =
-            getDescriptor().getMessageTypes().get(27);
+            getDescriptor().getMessageTypes().get(28);
           internal_static_exec_user_ConvertSupport_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_user_ConvertSupport_descriptor,
               new java.lang.String[] { "From", "To", });
           internal_static_exec_user_GetServerMetaResp_descriptor =
-            getDescriptor().getMessageTypes().get(28);
+            getDescriptor().getMessageTypes().get(29);
           internal_static_exec_user_GetServerMetaResp_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_user_GetServerMetaResp_descriptor,
               new java.lang.String[] { "Status", "ServerMeta", "Error", });
           internal_static_exec_user_ServerMeta_descriptor =
-            getDescriptor().getMessageTypes().get(29);
+            getDescriptor().getMessageTypes().get(30);
           internal_static_exec_user_ServerMeta_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_user_ServerMeta_descriptor,
               new java.lang.String[] { "AllTablesSelectable", "BlobIncludedInMaxRowSize", "CatalogAtStart", "CatalogSeparator", "CatalogTerm", "CollateSupport", "ColumnAliasingSupported", "ConvertSupport", "CorrelationNamesSupport", "DateTimeFunctions", "DateTimeLiteralsSupport", "GroupBySupport", "IdentifierCasing", "IdentifierQuoteString", "LikeEscapeClauseSupported", "MaxBinaryLiteralLength", "MaxCatalogNameLength", "MaxCharLiteralLength", "MaxColumnNameLength", "MaxColumnsInGroupBy", "MaxColumnsInOrderBy", "MaxColumnsInSelect", "MaxCursorNameLength", "MaxLogicalLobSize", "MaxRowSize", "MaxSchemaNameLength", "MaxStatementLength", "MaxStatements", "MaxTableNameLength", "MaxTablesInSelect", "MaxUserNameLength", "NullCollation", "NullPlusNonNullEqualsNull", "NumericFunctions", "OrderBySupport", "OuterJoinSupport", "QuotedIdentifierCasing", "ReadOnly", "SchemaTerm", "SearchEscapeString", "SelectForUpdateSupported", "SpecialCharacters", "SqlKeywords", "StringFunctions", "SubquerySupport", "SystemFunctions", "TableTerm", "TransactionSupported", "UnionSupport", });
           internal_static_exec_user_RunQuery_descriptor =
-            getDescriptor().getMessageTypes().get(30);
+            getDescriptor().getMessageTypes().get(31);
           internal_static_exec_user_RunQuery_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_exec_user_RunQuery_descriptor,
-              new java.lang.String[] { "ResultsMode", "Type", "Plan", "Fragments", "PreparedStatementHandle", });
+              new java.lang.String[] { "ResultsMode", "Type", "Plan", "Fragments", "PreparedStatementHandle", "Parameters", });
           return null;
         }
       };
@@ -53,6 +53,7 @@ public final class BitControlHandshake implements Externalizable, Message<BitCon
     private RpcChannel channel;
     private DrillbitEndpoint endpoint;
     private List<String> authenticationMechanisms;
+    private List<RpcType> supportedMethods;
 
     public BitControlHandshake()
     {
@@ -113,6 +114,19 @@ public final class BitControlHandshake implements Externalizable, Message<BitCon
         return this;
     }
 
+    // supportedMethods
+
+    public List<RpcType> getSupportedMethodsList()
+    {
+        return supportedMethods;
+    }
+
+    public BitControlHandshake setSupportedMethodsList(List<RpcType> supportedMethods)
+    {
+        this.supportedMethods = supportedMethods;
+        return this;
+    }
+
     // java serialization
 
     public void readExternal(ObjectInput in) throws IOException
@@ -182,6 +196,11 @@ public final class BitControlHandshake implements Externalizable, Message<BitCon
                         message.authenticationMechanisms = new ArrayList<String>();
                     message.authenticationMechanisms.add(input.readString());
                     break;
+                case 5:
+                    if(message.supportedMethods == null)
+                        message.supportedMethods = new ArrayList<RpcType>();
+                    message.supportedMethods.add(RpcType.valueOf(input.readEnum()));
+                    break;
                 default:
                     input.handleUnknownField(number, this);
             }   
@@ -209,6 +228,15 @@ public final class BitControlHandshake implements Externalizable, Message<BitCon
                     output.writeString(4, authenticationMechanisms, true);
             }
         }
+
+        if(message.supportedMethods != null)
+        {
+            for(RpcType supportedMethods : message.supportedMethods)
+            {
+                if(supportedMethods != null)
+                    output.writeEnum(5, supportedMethods.number, true);
+            }
+        }
     }
 
     public String getFieldName(int number)
@@ -219,6 +247,7 @@ public final class BitControlHandshake implements Externalizable, Message<BitCon
             case 2: return "channel";
             case 3: return "endpoint";
             case 4: return "authenticationMechanisms";
+            case 5: return "supportedMethods";
             default: return null;
         }
     }
@@ -236,6 +265,7 @@ public final class BitControlHandshake implements Externalizable, Message<BitCon
         __fieldMap.put("channel", 2);
         __fieldMap.put("endpoint", 3);
         __fieldMap.put("authenticationMechanisms", 4);
+        __fieldMap.put("supportedMethods", 5);
     }
     
 }
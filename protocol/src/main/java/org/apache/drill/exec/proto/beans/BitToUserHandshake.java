@@ -58,6 +58,7 @@ public final class BitToUserHandshake implements Externalizable, Message<BitToUs
     private List<RpcType> supportedMethods;
     private Boolean encrypted;
     private int maxWrappedSize;
+    private CompressionCodec resultCompression;
 
     public BitToUserHandshake()
     {
@@ -183,6 +184,19 @@ public final class BitToUserHandshake implements Externalizable, Message<BitToUs
         return this;
     }
 
+    // resultCompression
+
+    public CompressionCodec getResultCompression()
+    {
+        return resultCompression == null ? CompressionCodec.UNCOMPRESSED : resultCompression;
+    }
+
+    public BitToUserHandshake setResultCompression(CompressionCodec resultCompression)
+    {
+        this.resultCompression = resultCompression;
+        return this;
+    }
+
     // java serialization
 
     public void readExternal(ObjectInput in) throws IOException
@@ -269,6 +283,9 @@ public final class BitToUserHandshake implements Externalizable, Message<BitToUs
                 case 10:
                     message.maxWrappedSize = input.readInt32();
                     break;
+                case 11:
+                    message.resultCompression = CompressionCodec.valueOf(input.readEnum());
+                    break;
                 default:
                     input.handleUnknownField(number, this);
             }   
@@ -317,6 +334,9 @@ public final class BitToUserHandshake implements Externalizable, Message<BitToUs
 
         if(message.maxWrappedSize != 0)
             output.writeInt32(10, message.maxWrappedSize, false);
+
+        if(message.resultCompression != null)
+             output.writeEnum(11, message.resultCompression.number, false);
     }
 
     public String getFieldName(int number)
@@ -332,6 +352,7 @@ public final class BitToUserHandshake implements Externalizable, Message<BitToUs
             case 8: return "supportedMethods";
             case 9: return "encrypted";
             case 10: return "maxWrappedSize";
+            case 11: return "resultCompression";
             default: return null;
         }
     }
@@ -354,6 +375,7 @@ public final class BitToUserHandshake implements Externalizable, Message<BitToUs
         __fieldMap.put("supportedMethods", 8);
         __fieldMap.put("encrypted", 9);
         __fieldMap.put("maxWrappedSize", 10);
+        __fieldMap.put("resultCompression", 11);
     }
     
 }
@@ -59,7 +59,8 @@ public enum CoreOperatorType implements com.dyuproject.protostuff.EnumLite<CoreO
     WINDOW(34),
     NESTED_LOOP_JOIN(35),
     AVRO_SUB_SCAN(36),
-    PCAP_SUB_SCAN(37);
+    PCAP_SUB_SCAN(37),
+    FLATTEN(38);
     
     public final int number;
     
@@ -115,6 +116,7 @@ public enum CoreOperatorType implements com.dyuproject.protostuff.EnumLite<CoreO
             case 35: return NESTED_LOOP_JOIN;
             case 36: return AVRO_SUB_SCAN;
             case 37: return PCAP_SUB_SCAN;
+            case 38: return FLATTEN;
             default: return null;
         }
     }
@@ -50,6 +50,7 @@ public final class InitializeFragments implements Externalizable, Message<Initia
 
     
     private List<PlanFragment> fragment;
+    private List<MajorFragmentPlan> sharedPlan;
 
     public InitializeFragments()
     {
@@ -71,6 +72,19 @@ public final class InitializeFragments implements Externalizable, Message<Initia
         return this;
     }
 
+    // sharedPlan
+
+    public List<MajorFragmentPlan> getSharedPlanList()
+    {
+        return sharedPlan;
+    }
+
+    public InitializeFragments setSharedPlanList(List<MajorFragmentPlan> sharedPlan)
+    {
+        this.sharedPlan = sharedPlan;
+        return this;
+    }
+
     // java serialization
 
     public void readExternal(ObjectInput in) throws IOException
@@ -131,6 +145,12 @@ public final class InitializeFragments implements Externalizable, Message<Initia
                     message.fragment.add(input.mergeObject(null, PlanFragment.getSchema()));
                     break;
 
+                case 2:
+                    if(message.sharedPlan == null)
+                        message.sharedPlan = new ArrayList<MajorFragmentPlan>();
+                    message.sharedPlan.add(input.mergeObject(null, MajorFragmentPlan.getSchema()));
+                    break;
+
                 default:
                     input.handleUnknownField(number, this);
             }   
@@ -149,6 +169,16 @@ public final class InitializeFragments implements Externalizable, Message<Initia
             }
         }
 
+
+        if(message.sharedPlan != null)
+        {
+            for(MajorFragmentPlan sharedPlan : message.sharedPlan)
+            {
+                if(sharedPlan != null)
+                    output.writeObject(2, sharedPlan, MajorFragmentPlan.getSchema(), true);
+            }
+        }
+
     }
 
     public String getFieldName(int number)
@@ -156,6 +186,7 @@ public final class InitializeFragments implements Externalizable, Message<Initia
         switch(number)
         {
             case 1: return "fragment";
+            case 2: return "sharedPlan";
             default: return null;
         }
     }
@@ -170,6 +201,7 @@ public final class InitializeFragments implements Externalizable, Message<Initia
     static
     {
         __fieldMap.put("fragment", 1);
+        __fieldMap.put("sharedPlan", 2);
     }
     
 }
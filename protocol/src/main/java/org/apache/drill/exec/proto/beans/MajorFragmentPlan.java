@@ -0,0 +1,186 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+// Generated by http://code.google.com/p/protostuff/ ... DO NOT EDIT!
+// Generated from protobuf
+
+package org.apache.drill.exec.proto.beans;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import com.dyuproject.protostuff.ByteString;
+import com.dyuproject.protostuff.GraphIOUtil;
+import com.dyuproject.protostuff.Input;
+import com.dyuproject.protostuff.Message;
+import com.dyuproject.protostuff.Output;
+import com.dyuproject.protostuff.Schema;
+
+public final class MajorFragmentPlan implements Externalizable, Message<MajorFragmentPlan>, Schema<MajorFragmentPlan>
+{
+
+    public static Schema<MajorFragmentPlan> getSchema()
+    {
+        return DEFAULT_INSTANCE;
+    }
+
+    public static MajorFragmentPlan getDefaultInstance()
+    {
+        return DEFAULT_INSTANCE;
+    }
+
+    static final MajorFragmentPlan DEFAULT_INSTANCE = new MajorFragmentPlan();
+
+    
+    private int majorFragmentId;
+    private ByteString fragmentPlan;
+
+    public MajorFragmentPlan()
+    {
+        
+    }
+
+    // getters and setters
+
+    // majorFragmentId
+
+    public int getMajorFragmentId()
+    {
+        return majorFragmentId;
+    }
+
+    public MajorFragmentPlan setMajorFragmentId(int majorFragmentId)
+    {
+        this.majorFragmentId = majorFragmentId;
+        return this;
+    }
+
+    // fragmentPlan
+
+    public ByteString getFragmentPlan()
+    {
+        return fragmentPlan;
+    }
+
+    public MajorFragmentPlan setFragmentPlan(ByteString fragmentPlan)
+    {
+        this.fragmentPlan = fragmentPlan;
+        return this;
+    }
+
+    // java serialization
+
+    public void readExternal(ObjectInput in) throws IOException
+    {
+        GraphIOUtil.mergeDelimitedFrom(in, this, this);
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        GraphIOUtil.writeDelimitedTo(out, this, this);
+    }
+
+    // message method
+
+    public Schema<MajorFragmentPlan> cachedSchema()
+    {
+        return DEFAULT_INSTANCE;
+    }
+
+    // schema methods
+
+    public MajorFragmentPlan newMessage()
+    {
+        return new MajorFragmentPlan();
+    }
+
+    public Class<MajorFragmentPlan> typeClass()
+    {
+        return MajorFragmentPlan.class;
+    }
+
+    public String messageName()
+    {
+        return MajorFragmentPlan.class.getSimpleName();
+    }
+
+    public String messageFullName()
+    {
+        return MajorFragmentPlan.class.getName();
+    }
+
+    public boolean isInitialized(MajorFragmentPlan message)
+    {
+        return true;
+    }
+
+    public void mergeFrom(Input input, MajorFragmentPlan message) throws IOException
+    {
+        for(int number = input.readFieldNumber(this);; number = input.readFieldNumber(this))
+        {
+            switch(number)
+            {
+                case 0:
+                    return;
+                case 1:
+                    message.majorFragmentId = input.readInt32();
+                    break;
+                case 2:
+                    message.fragmentPlan = input.readBytes();
+                    break;
+                default:
+                    input.handleUnknownField(number, this);
+            }   
+        }
+    }
+
+
+    public void writeTo(Output output, MajorFragmentPlan message) throws IOException
+    {
+        if(message.majorFragmentId != 0)
+            output.writeInt32(1, message.majorFragmentId, false);
+
+        if(message.fragmentPlan != null)
+            output.writeBytes(2, message.fragmentPlan, false);
+    }
+
+    public String getFieldName(int number)
+    {
+        switch(number)
+        {
+            case 1: return "majorFragmentId";
+            case 2: return "fragmentPlan";
+            default: return null;
+        }
+    }
+
+    public int getFieldNumber(String name)
+    {
+        final Integer number = __fieldMap.get(name);
+        return number == null ? 0 : number.intValue();
+    }
+
+    private static final java.util.HashMap<String,Integer> __fieldMap = new java.util.HashMap<String,Integer>();
+    static
+    {
+        __fieldMap.put("majorFragmentId", 1);
+        __fieldMap.put("fragmentPlan", 2);
+    }
+    
+}
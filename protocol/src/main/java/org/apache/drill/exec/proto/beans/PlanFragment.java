@@ -27,6 +27,7 @@ import java.io.ObjectOutput;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.dyuproject.protostuff.ByteString;
 import com.dyuproject.protostuff.GraphIOUtil;
 import com.dyuproject.protostuff.Input;
 import com.dyuproject.protostuff.Message;
@@ -66,6 +67,8 @@ public final class PlanFragment implements Externalizable, Message<PlanFragment>
     private String optionsJson;
     private QueryContextInformation context;
     private List<Collector> collector;
+    private ByteString fragmentPlan;
+    private ByteString fragmentPlanDelta;
 
     public PlanFragment()
     {
@@ -269,6 +272,32 @@ public final class PlanFragment implements Externalizable, Message<PlanFragment>
         return this;
     }
 
+    // fragmentPlan
+
+    public ByteString getFragmentPlan()
+    {
+        return fragmentPlan;
+    }
+
+    public PlanFragment setFragmentPlan(ByteString fragmentPlan)
+    {
+        this.fragmentPlan = fragmentPlan;
+        return this;
+    }
+
+    // fragmentPlanDelta
+
+    public ByteString getFragmentPlanDelta()
+    {
+        return fragmentPlanDelta;
+    }
+
+    public PlanFragment setFragmentPlanDelta(ByteString fragmentPlanDelta)
+    {
+        this.fragmentPlanDelta = fragmentPlanDelta;
+        return this;
+    }
+
     // java serialization
 
     public void readExternal(ObjectInput in) throws IOException
@@ -376,6 +405,12 @@ public final class PlanFragment implements Externalizable, Message<PlanFragment>
                     message.collector.add(input.mergeObject(null, Collector.getSchema()));
                     break;
 
+                case 18:
+                    message.fragmentPlan = input.readBytes();
+                    break;
+                case 19:
+                    message.fragmentPlanDelta = input.readBytes();
+                    break;
                 default:
                     input.handleUnknownField(number, this);
             }   
@@ -441,6 +476,12 @@ public final class PlanFragment implements Externalizable, Message<PlanFragment>
             }
         }
 
+
+        if(message.fragmentPlan != null)
+            output.writeBytes(18, message.fragmentPlan, false);
+
+        if(message.fragmentPlanDelta != null)
+            output.writeBytes(19, message.fragmentPlanDelta, false);
     }
 
     public String getFieldName(int number)
@@ -462,6 +503,8 @@ public final class PlanFragment implements Externalizable, Message<PlanFragment>
             case 15: return "optionsJson";
             case 16: return "context";
             case 17: return "collector";
+            case 18: return "fragmentPlan";
+            case 19: return "fragmentPlanDelta";
             default: return null;
         }
     }
@@ -490,6 +533,8 @@ public final class PlanFragment implements Externalizable, Message<PlanFragment>
         __fieldMap.put("optionsJson", 15);
         __fieldMap.put("context", 16);
         __fieldMap.put("collector", 17);
+        __fieldMap.put("fragmentPlan", 18);
+        __fieldMap.put("fragmentPlanDelta", 19);
     }
     
 }
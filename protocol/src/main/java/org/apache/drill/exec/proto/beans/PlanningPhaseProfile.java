@@ -0,0 +1,207 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+// Generated by http://code.google.com/p/protostuff/ ... DO NOT EDIT!
+// Generated from protobuf
+
+package org.apache.drill.exec.proto.beans;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import com.dyuproject.protostuff.GraphIOUtil;
+import com.dyuproject.protostuff.Input;
+import com.dyuproject.protostuff.Message;
+import com.dyuproject.protostuff.Output;
+import com.dyuproject.protostuff.Schema;
+
+public final class PlanningPhaseProfile implements Externalizable, Message<PlanningPhaseProfile>, Schema<PlanningPhaseProfile>
+{
+
+    public static Schema<PlanningPhaseProfile> getSchema()
+    {
+        return DEFAULT_INSTANCE;
+    }
+
+    public static PlanningPhaseProfile getDefaultInstance()
+    {
+        return DEFAULT_INSTANCE;
+    }
+
+    static final PlanningPhaseProfile DEFAULT_INSTANCE = new PlanningPhaseProfile();
+
+    
+    private String name;
+    private int count;
+    private long timeNanos;
+
+    public PlanningPhaseProfile()
+    {
+        
+    }
+
+    // getters and setters
+
+    // name
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public PlanningPhaseProfile setName(String name)
+    {
+        this.name = name;
+        return this;
+    }
+
+    // count
+
+    public int getCount()
+    {
+        return count;
+    }
+
+    public PlanningPhaseProfile setCount(int count)
+    {
+        this.count = count;
+        return this;
+    }
+
+    // timeNanos
+
+    public long getTimeNanos()
+    {
+        return timeNanos;
+    }
+
+    public PlanningPhaseProfile setTimeNanos(long timeNanos)
+    {
+        this.timeNanos = timeNanos;
+        return this;
+    }
+
+    // java serialization
+
+    public void readExternal(ObjectInput in) throws IOException
+    {
+        GraphIOUtil.mergeDelimitedFrom(in, this, this);
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        GraphIOUtil.writeDelimitedTo(out, this, this);
+    }
+
+    // message method
+
+    public Schema<PlanningPhaseProfile> cachedSchema()
+    {
+        return DEFAULT_INSTANCE;
+    }
+
+    // schema methods
+
+    public PlanningPhaseProfile newMessage()
+    {
+        return new PlanningPhaseProfile();
+    }
+
+    public Class<PlanningPhaseProfile> typeClass()
+    {
+        return PlanningPhaseProfile.class;
+    }
+
+    public String messageName()
+    {
+        return PlanningPhaseProfile.class.getSimpleName();
+    }
+
+    public String messageFullName()
+    {
+        return PlanningPhaseProfile.class.getName();
+    }
+
+    public boolean isInitialized(PlanningPhaseProfile message)
+    {
+        return true;
+    }
+
+    public void mergeFrom(Input input, PlanningPhaseProfile message) throws IOException
+    {
+        for(int number = input.readFieldNumber(this);; number = input.readFieldNumber(this))
+        {
+            switch(number)
+            {
+                case 0:
+                    return;
+                case 1:
+                    message.name = input.readString();
+                    break;
+                case 2:
+                    message.count = input.readInt32();
+                    break;
+                case 3:
+                    message.timeNanos = input.readInt64();
+                    break;
+                default:
+                    input.handleUnknownField(number, this);
+            }   
+        }
+    }
+
+
+    public void writeTo(Output output, PlanningPhaseProfile message) throws IOException
+    {
+        if(message.name != null)
+            output.writeString(1, message.name, false);
+
+        if(message.count != 0)
+            output.writeInt32(2, message.count, false);
+
+        if(message.timeNanos != 0)
+            output.writeInt64(3, message.timeNanos, false);
+    }
+
+    public String getFieldName(int number)
+    {
+        switch(number)
+        {
+            case 1: return "name";
+            case 2: return "count";
+            case 3: return "timeNanos";
+            default: return null;
+        }
+    }
+
+    public int getFieldNumber(String name)
+    {
+        final Integer number = __fieldMap.get(name);
+        return number == null ? 0 : number.intValue();
+    }
+
+    private static final java.util.HashMap<String,Integer> __fieldMap = new java.util.HashMap<String,Integer>();
+    static
+    {
+        __fieldMap.put("name", 1);
+        __fieldMap.put("count", 2);
+        __fieldMap.put("timeNanos", 3);
+    }
+    
+}
@@ -51,6 +51,7 @@ public final class PreparedStatement implements Externalizable, Message<Prepared
     
     private List<ResultColumnMetadata> columns;
     private PreparedStatementHandle serverHandle;
+    private int parameterCount;
 
     public PreparedStatement()
     {
@@ -85,6 +86,19 @@ public final class PreparedStatement implements Externalizable, Message<Prepared
         return this;
     }
 
+    // parameterCount
+
+    public int getParameterCount()
+    {
+        return parameterCount;
+    }
+
+    public PreparedStatement setParameterCount(int parameterCount)
+    {
+        this.parameterCount = parameterCount;
+        return this;
+    }
+
     // java serialization
 
     public void readExternal(ObjectInput in) throws IOException
@@ -149,6 +163,9 @@ public final class PreparedStatement implements Externalizable, Message<Prepared
                     message.serverHandle = input.mergeObject(message.serverHandle, PreparedStatementHandle.getSchema());
                     break;
 
+                case 3:
+                    message.parameterCount = input.readInt32();
+                    break;
                 default:
                     input.handleUnknownField(number, this);
             }   
@@ -171,6 +188,9 @@ public final class PreparedStatement implements Externalizable, Message<Prepared
         if(message.serverHandle != null)
              output.writeObject(2, message.serverHandle, PreparedStatementHandle.getSchema(), false);
 
+
+        if(message.parameterCount != 0)
+            output.writeInt32(3, message.parameterCount, false);
     }
 
     public String getFieldName(int number)
@@ -179,6 +199,7 @@ public final class PreparedStatement implements Externalizable, Message<Prepared
         {
             case 1: return "columns";
             case 2: return "serverHandle";
+            case 3: return "parameterCount";
             default: return null;
         }
     }
@@ -194,6 +215,7 @@ public final class PreparedStatement implements Externalizable, Message<Prepared
     {
         __fieldMap.put("columns", 1);
         __fieldMap.put("serverHandle", 2);
+        __fieldMap.put("parameterCount", 3);
     }
     
 }
@@ -0,0 +1,229 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+// Generated by http://code.google.com/p/protostuff/ ... DO NOT EDIT!
+// Generated from protobuf
+
+package org.apache.drill.exec.proto.beans;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import com.dyuproject.protostuff.GraphIOUtil;
+import com.dyuproject.protostuff.Input;
+import com.dyuproject.protostuff.Message;
+import com.dyuproject.protostuff.Output;
+import com.dyuproject.protostuff.Schema;
+
+public final class PreparedStatementParameter implements Externalizable, Message<PreparedStatementParameter>, Schema<PreparedStatementParameter>
+{
+
+    public static Schema<PreparedStatementParameter> getSchema()
+    {
+        return DEFAULT_INSTANCE;
+    }
+
+    public static PreparedStatementParameter getDefaultInstance()
+    {
+        return DEFAULT_INSTANCE;
+    }
+
+    static final PreparedStatementParameter DEFAULT_INSTANCE = new PreparedStatementParameter();
+
+    
+    private Boolean boolValue;
+    private long longValue;
+    private double doubleValue;
+    private String stringValue;
+
+    public PreparedStatementParameter()
+    {
+        
+    }
+
+    // getters and setters
+
+    // boolValue
+
+    public Boolean getBoolValue()
+    {
+        return boolValue;
+    }
+
+    public PreparedStatementParameter setBoolValue(Boolean boolValue)
+    {
+        this.boolValue = boolValue;
+        return this;
+    }
+
+    // longValue
+
+    public long getLongValue()
+    {
+        return longValue;
+    }
+
+    public PreparedStatementParameter setLongValue(long longValue)
+    {
+        this.longValue = longValue;
+        return this;
+    }
+
+    // doubleValue
+
+    public double getDoubleValue()
+    {
+        return doubleValue;
+    }
+
+    public PreparedStatementParameter setDoubleValue(double doubleValue)
+    {
+        this.doubleValue = doubleValue;
+        return this;
+    }
+
+    // stringValue
+
+    public String getStringValue()
+    {
+        return stringValue;
+    }
+
+    public PreparedStatementParameter setStringValue(String stringValue)
+    {
+        this.stringValue = stringValue;
+        return this;
+    }
+
+    // java serialization
+
+    public void readExternal(ObjectInput in) throws IOException
+    {
+        GraphIOUtil.mergeDelimitedFrom(in, this, this);
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        GraphIOUtil.writeDelimitedTo(out, this, this);
+    }
+
+    // message method
+
+    public Schema<PreparedStatementParameter> cachedSchema()
+    {
+        return DEFAULT_INSTANCE;
+    }
+
+    // schema methods
+
+    public PreparedStatementParameter newMessage()
+    {
+        return new PreparedStatementParameter();
+    }
+
+    public Class<PreparedStatementParameter> typeClass()
+    {
+        return PreparedStatementParameter.class;
+    }
+
+    public String messageName()
+    {
+        return PreparedStatementParameter.class.getSimpleName();
+    }
+
+    public String messageFullName()
+    {
+        return PreparedStatementParameter.class.getName();
+    }
+
+    public boolean isInitialized(PreparedStatementParameter message)
+    {
+        return true;
+    }
+
+    public void mergeFrom(Input input, PreparedStatementParameter message) throws IOException
+    {
+        for(int number = input.readFieldNumber(this);; number = input.readFieldNumber(this))
+        {
+            switch(number)
+            {
+                case 0:
+                    return;
+                case 1:
+                    message.boolValue = input.readBool();
+                    break;
+                case 2:
+                    message.longValue = input.readSInt64();
+                    break;
+                case 3:
+                    message.doubleValue = input.readDouble();
+                    break;
+                case 4:
+                    message.stringValue = input.readString();
+                    break;
+                default:
+                    input.handleUnknownField(number, this);
+            }   
+        }
+    }
+
+
+    public void writeTo(Output output, PreparedStatementParameter message) throws IOException
+    {
+        if(message.boolValue != null)
+            output.writeBool(1, message.boolValue, false);
+
+        if(message.longValue != 0)
+            output.writeSInt64(2, message.longValue, false);
+
+        if(message.doubleValue != 0)
+            output.writeDouble(3, message.doubleValue, false);
+
+        if(message.stringValue != null)
+            output.writeString(4, message.stringValue, false);
+    }
+
+    public String getFieldName(int number)
+    {
+        switch(number)
+        {
+            case 1: return "boolValue";
+            case 2: return "longValue";
+            case 3: return "doubleValue";
+            case 4: return "stringValue";
+            default: return null;
+        }
+    }
+
+    public int getFieldNumber(String name)
+    {
+        final Integer number = __fieldMap.get(name);
+        return number == null ? 0 : number.intValue();
+    }
+
+    private static final java.util.HashMap<String,Integer> __fieldMap = new java.util.HashMap<String,Integer>();
+    static
+    {
+        __fieldMap.put("boolValue", 1);
+        __fieldMap.put("longValue", 2);
+        __fieldMap.put("doubleValue", 3);
+        __fieldMap.put("stringValue", 4);
+    }
+    
+}
@@ -70,6 +70,7 @@ public final class QueryProfile implements Externalizable, Message<QueryProfile>
     private String optionsJson;
     private long planEnd;
     private long queueWaitEnd;
+    private List<PlanningPhaseProfile> planningPhaseProfile;
 
     public QueryProfile()
     {
@@ -325,6 +326,19 @@ public final class QueryProfile implements Externalizable, Message<QueryProfile>
         return this;
     }
 
+    // planningPhaseProfile
+
+    public List<PlanningPhaseProfile> getPlanningPhaseProfileList()
+    {
+        return planningPhaseProfile;
+    }
+
+    public QueryProfile setPlanningPhaseProfileList(List<PlanningPhaseProfile> planningPhaseProfile)
+    {
+        this.planningPhaseProfile = planningPhaseProfile;
+        return this;
+    }
+
     // java serialization
 
     public void readExternal(ObjectInput in) throws IOException
@@ -441,6 +455,12 @@ public final class QueryProfile implements Externalizable, Message<QueryProfile>
                 case 19:
                     message.queueWaitEnd = input.readInt64();
                     break;
+                case 20:
+                    if(message.planningPhaseProfile == null)
+                        message.planningPhaseProfile = new ArrayList<PlanningPhaseProfile>();
+                    message.planningPhaseProfile.add(input.mergeObject(null, PlanningPhaseProfile.getSchema()));
+                    break;
+
                 default:
                     input.handleUnknownField(number, this);
             }   
@@ -515,6 +535,16 @@ public final class QueryProfile implements Externalizable, Message<QueryProfile>
 
         if(message.queueWaitEnd != 0)
             output.writeInt64(19, message.queueWaitEnd, false);
+
+        if(message.planningPhaseProfile != null)
+        {
+            for(PlanningPhaseProfile planningPhaseProfile : message.planningPhaseProfile)
+            {
+                if(planningPhaseProfile != null)
+                    output.writeObject(20, planningPhaseProfile, PlanningPhaseProfile.getSchema(), true);
+            }
+        }
+
     }
 
     public String getFieldName(int number)
@@ -540,6 +570,7 @@ public final class QueryProfile implements Externalizable, Message<QueryProfile>
             case 17: return "optionsJson";
             case 18: return "planEnd";
             case 19: return "queueWaitEnd";
+            case 20: return "planningPhaseProfile";
             default: return null;
         }
     }
@@ -572,6 +603,7 @@ public final class QueryProfile implements Externalizable, Message<QueryProfile>
         __fieldMap.put("optionsJson", 17);
         __fieldMap.put("planEnd", 18);
         __fieldMap.put("queueWaitEnd", 19);
+        __fieldMap.put("planningPhaseProfile", 20);
     }
     
 }
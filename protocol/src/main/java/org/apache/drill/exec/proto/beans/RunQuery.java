@@ -54,6 +54,7 @@ public final class RunQuery implements Externalizable, Message<RunQuery>, Schema
     private String plan;
     private List<PlanFragment> fragments;
     private PreparedStatementHandle preparedStatementHandle;
+    private List<PreparedStatementParameter> parameters;
 
     public RunQuery()
     {
@@ -127,6 +128,19 @@ public final class RunQuery implements Externalizable, Message<RunQuery>, Schema
         return this;
     }
 
+    // parameters
+
+    public List<PreparedStatementParameter> getParametersList()
+    {
+        return parameters;
+    }
+
+    public RunQuery setParametersList(List<PreparedStatementParameter> parameters)
+    {
+        this.parameters = parameters;
+        return this;
+    }
+
     // java serialization
 
     public void readExternal(ObjectInput in) throws IOException
@@ -200,6 +214,12 @@ public final class RunQuery implements Externalizable, Message<RunQuery>, Schema
                     message.preparedStatementHandle = input.mergeObject(message.preparedStatementHandle, PreparedStatementHandle.getSchema());
                     break;
 
+                case 6:
+                    if(message.parameters == null)
+                        message.parameters = new ArrayList<PreparedStatementParameter>();
+                    message.parameters.add(input.mergeObject(null, PreparedStatementParameter.getSchema()));
+                    break;
+
                 default:
                     input.handleUnknownField(number, this);
             }   
@@ -231,6 +251,16 @@ public final class RunQuery implements Externalizable, Message<RunQuery>, Schema
         if(message.preparedStatementHandle != null)
              output.writeObject(5, message.preparedStatementHandle, PreparedStatementHandle.getSchema(), false);
 
+
+        if(message.parameters != null)
+        {
+            for(PreparedStatementParameter parameters : message.parameters)
+            {
+                if(parameters != null)
+                    output.writeObject(6, parameters, PreparedStatementParameter.getSchema(), true);
+            }
+        }
+
     }
 
     public String getFieldName(int number)
@@ -242,6 +272,7 @@ public final class RunQuery implements Externalizable, Message<RunQuery>, Schema
             case 3: return "plan";
             case 4: return "fragments";
             case 5: return "preparedStatementHandle";
+            case 6: return "parameters";
             default: return null;
         }
     }
@@ -260,6 +291,7 @@ public final class RunQuery implements Externalizable, Message<RunQuery>, Schema
         __fieldMap.put("plan", 3);
         __fieldMap.put("fragments", 4);
         __fieldMap.put("preparedStatementHandle", 5);
+        __fieldMap.put("parameters", 6);
     }
     
 }
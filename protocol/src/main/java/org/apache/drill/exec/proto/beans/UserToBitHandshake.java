@@ -58,6 +58,7 @@ public final class UserToBitHandshake implements Externalizable, Message<UserToB
     private Boolean supportTimeout = DEFAULT_SUPPORT_TIMEOUT;
     private RpcEndpointInfos clientInfos;
     private SaslSupport saslSupport;
+    private CompressionCodec resultCompression;
 
     public UserToBitHandshake()
     {
@@ -183,6 +184,19 @@ public final class UserToBitHandshake implements Externalizable, Message<UserToB
         return this;
     }
 
+    // resultCompression
+
+    public CompressionCodec getResultCompression()
+    {
+        return resultCompression == null ? CompressionCodec.UNCOMPRESSED : resultCompression;
+    }
+
+    public UserToBitHandshake setResultCompression(CompressionCodec resultCompression)
+    {
+        this.resultCompression = resultCompression;
+        return this;
+    }
+
     // java serialization
 
     public void readExternal(ObjectInput in) throws IOException
@@ -267,6 +281,9 @@ public final class UserToBitHandshake implements Externalizable, Message<UserToB
                 case 9:
                     message.saslSupport = SaslSupport.valueOf(input.readEnum());
                     break;
+                case 10:
+                    message.resultCompression = CompressionCodec.valueOf(input.readEnum());
+                    break;
                 default:
                     input.handleUnknownField(number, this);
             }   
@@ -305,6 +322,9 @@ public final class UserToBitHandshake implements Externalizable, Message<UserToB
 
         if(message.saslSupport != null)
              output.writeEnum(9, message.saslSupport.number, false);
+
+        if(message.resultCompression != null)
+             output.writeEnum(10, message.resultCompression.number, false);
     }
 
     public String getFieldName(int number)
@@ -320,6 +340,7 @@ public final class UserToBitHandshake implements Externalizable, Message<UserToB
             case 7: return "supportTimeout";
             case 8: return "clientInfos";
             case 9: return "saslSupport";
+            case 10: return "resultCompression";
             default: return null;
         }
     }
@@ -342,6 +363,7 @@ public final class UserToBitHandshake implements Externalizable, Message<UserToB
         __fieldMap.put("supportTimeout", 7);
         __fieldMap.put("clientInfos", 8);
         __fieldMap.put("saslSupport", 9);
+        __fieldMap.put("resultCompression", 10);
     }
     
 }